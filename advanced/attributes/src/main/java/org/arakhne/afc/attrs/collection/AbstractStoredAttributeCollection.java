@@ -0,0 +1,766 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.attrs.collection;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.attrs.attr.Attribute;
+import org.arakhne.afc.attrs.attr.AttributeException;
+import org.arakhne.afc.attrs.attr.AttributeImpl;
+import org.arakhne.afc.attrs.attr.AttributeNotInitializedException;
+import org.arakhne.afc.attrs.attr.AttributeType;
+import org.arakhne.afc.attrs.attr.AttributeValue;
+import org.arakhne.afc.attrs.attr.AttributeValueImpl;
+import org.arakhne.afc.attrs.attr.InvalidAttributeTypeException;
+
+/**
+ * This class implements an attribute collection which stores
+ * the raw values of its attributes in a storage that is defined
+ * by the subclasses.
+ *
+ * <p>This class provides the typed accessors and the firing of the
+ * change events; the subclasses provide the storage of the raw values.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ * @see HeapAttributeCollection
+ * @see ColumnarAttributeCollection
+ */
+public abstract class AbstractStoredAttributeCollection extends AbstractAttributeCollection {
+
+	private static final long serialVersionUID = -3547063227434707411L;
+
+	/** Replies the raw value of the attribute with the given name.
+	 *
+	 * @param name the name of the attribute.
+	 * @return the raw value, or {@code null} if the attribute does not exist.
+	 */
+	@Pure
+	protected abstract Object getStoredValue(String name);
+
+	/** Change the raw value of the attribute with the given name.
+	 *
+	 * @param name the name of the attribute.
+	 * @param value the raw value.
+	 * @return the previous raw value, or {@code null} if the attribute did not exist.
+	 */
+	protected abstract Object putStoredValue(String name, Object value);
+
+	/** Remove the attribute with the given name.
+	 *
+	 * @param name the name of the attribute.
+	 * @return the removed raw value, or {@code null} if the attribute did not exist.
+	 */
+	protected abstract Object removeStoredValue(String name);
+
+	/** Remove all the attributes.
+	 *
+	 * @return <code>true</code> if an attribute was removed.
+	 */
+	protected abstract boolean clearStoredValues();
+
+	/** Replies the raw values of the attributes, sorted by attribute names.
+	 *
+	 * <p>The replied map must not be changed by the caller.
+	 *
+	 * @return the raw values.
+	 */
+	@Pure
+	protected abstract Map<String, Object> getStoredValues();
+
+	@Override
+	public void addAttributes(Map<String, Object> content) {
+		for (final Entry<String, Object> pair : content.entrySet()) {
+			Object value = pair.getValue();
+			final AttributeType type = AttributeType.fromValue(value);
+			value = type.cast(value);
+			final Object oldValue = putStoredValue(pair.getKey(), value);
+			if (oldValue == null) {
+				fireAttributeAddedEvent(pair.getKey(), new AttributeValueImpl(type, value));
+			} else {
+				fireAttributeChangedEvent(pair.getKey(),
+						new AttributeValueImpl(type, oldValue),
+						new AttributeValueImpl(type, value));
+			}
+		}
+	}
+
+	@Override
+	public void addAttributes(AttributeProvider content) throws AttributeException {
+		for (final Attribute attr : content.attributes()) {
+			final Object value = attr.getValue();
+			final Object oldValue = putStoredValue(attr.getName(), value);
+			if (oldValue == null) {
+				fireAttributeAddedEvent(attr.getName(),
+						new AttributeValueImpl(attr.getType(), value));
+			} else {
+				fireAttributeChangedEvent(attr.getName(),
+						new AttributeValueImpl(AttributeType.fromValue(oldValue), oldValue),
+						new AttributeValueImpl(attr.getType(), value));
+			}
+		}
+	}
+
+	@Override
+	public void setAttributes(Map<String, Object> content) {
+		setAttributesInternal(new TreeMap<>(content));
+	}
+
+	@Override
+	public void setAttributes(AttributeProvider content) throws AttributeException {
+		final Map<String, Object> newAttributes = new TreeMap<>();
+		content.toMap(newAttributes);
+		setAttributesInternal(newAttributes);
+	}
+
+	private void setAttributesInternal(Map<String, Object> newAttributes) {
+		final Map<String, Object> oldAttributes = new TreeMap<>(new AttributeNameStringComparator());
+		toMap(oldAttributes);
+		for (final Entry<String, Object> entry : oldAttributes.entrySet()) {
+			final Object oldValue = entry.getValue();
+			Object newValue = newAttributes.remove(entry.getKey());
+			if (newValue == null) {
+				removeStoredValue(entry.getKey());
+				fireAttributeRemovedEvent(entry.getKey(),
+						new AttributeValueImpl(AttributeType.fromValue(oldValue), oldValue));
+			} else {
+				final AttributeType type = AttributeType.fromValue(newValue);
+				newValue = type.cast(newValue);
+				putStoredValue(entry.getKey(), newValue);
+				fireAttributeChangedEvent(entry.getKey(),
+						new AttributeValueImpl(AttributeType.fromValue(oldValue), oldValue),
+						new AttributeValueImpl(type, newValue));
+			}
+		}
+
+		for (final Entry<String, Object> e : newAttributes.entrySet()) {
+			Object newValue = e.getValue();
+			final AttributeType type = AttributeType.fromValue(newValue);
+			newValue = type.cast(newValue);
+			if (newValue != null) {
+				putStoredValue(e.getKey(), newValue);
+				fireAttributeAddedEvent(e.getKey(),
+						new AttributeValueImpl(type, newValue));
+			}
+		}
+	}
+
+	@Pure
+	@Override
+	public Collection<Attribute> getAllAttributes() {
+		final List<Attribute> list = new ArrayList<>(getAttributeCount());
+		for (final Entry<String, Object> entry : getStoredValues().entrySet()) {
+			final String name = entry.getKey();
+			if (name != null) {
+				final Object rawValue = entry.getValue();
+				final Attribute newAttr = new AttributeImpl(name);
+				newAttr.castAndSet(
+						AttributeType.fromValue(rawValue),
+						unprotectNull(rawValue));
+				list.add(newAttr);
+			}
+		}
+		return list;
+	}
+
+	@Pure
+	@Override
+	public Map<AttributeType, Collection<Attribute>> getAllAttributesByType() {
+		final Map<AttributeType, Collection<Attribute>> map = new TreeMap<>();
+		for (final Entry<String, Object> entry : getStoredValues().entrySet()) {
+			Object value = entry.getValue();
+			if (value != null) {
+				final AttributeType type = AttributeType.fromValue(value);
+				value = unprotectNull(value);
+				Collection<Attribute> list = map.get(type);
+				if (list == null) {
+					list = new ArrayList<>();
+					map.put(type, list);
+				}
+				final Attribute attr = new AttributeImpl(entry.getKey());
+				attr.castAndSet(type, value);
+				list.add(attr);
+			}
+		}
+		return map;
+	}
+
+	@Pure
+	@Override
+	public AttributeValue getAttribute(String name) {
+		return getStoredAttributeValue(name, null);
+	}
+
+	@Pure
+	@Override
+	public AttributeValue getAttribute(String name, AttributeValue defaultValue) {
+		final AttributeValue value = getStoredAttributeValue(name,
+				defaultValue == null ? null : defaultValue.getType());
+		if (value == null) {
+			return defaultValue;
+		}
+		return value;
+	}
+
+	@Pure
+	@Override
+	public Attribute getAttributeObject(String name) {
+		return getStoredAttribute(name, null);
+	}
+
+	/** Replies the attribute with the given name.
+	 *
+	 * @param name is the name of the attribute to retreive
+	 * @param expectedType is the expected type for the attribute.
+	 * @return the value or <code>null</code>
+	 */
+	@Pure
+	protected Attribute getStoredAttribute(String name, AttributeType expectedType) {
+		Object val = getStoredValue(name);
+		if (val != null) {
+			final AttributeType currentType = AttributeType.fromValue(val);
+			val = unprotectNull(val);
+			final Attribute attr = new AttributeImpl(name);
+			if (expectedType == null) {
+				attr.castAndSet(currentType, val);
+			} else {
+				attr.castAndSet(expectedType, val);
+			}
+			return attr;
+		}
+		return null;
+	}
+
+	/** Replies the attribute with the given name.
+	 *
+	 * @param name is the name of the attribute to retreive
+	 * @param expectedType is the expected type for the attribute.
+	 * @return the value or <code>null</code>
+	 */
+	@Pure
+	protected AttributeValue getStoredAttributeValue(String name, AttributeType expectedType) {
+		Object val = getStoredValue(name);
+		if (val != null) {
+			final AttributeType currentType = AttributeType.fromValue(val);
+			val = unprotectNull(val);
+			final AttributeValue attr = new AttributeValueImpl(name);
+			if (expectedType == null) {
+				attr.castAndSet(currentType, val);
+			} else {
+				attr.castAndSet(expectedType, val);
+			}
+			return attr;
+		}
+		return null;
+	}
+
+	private AttributeValue copyValue(String name) {
+		final Object currentValue = getStoredValue(name);
+		if (currentValue != null) {
+			final AttributeType oldType = AttributeType.fromValue(currentValue);
+			final AttributeValue oldValue = new AttributeValueImpl();
+			oldValue.castAndSet(oldType, currentValue);
+			return oldValue;
+		}
+		return null;
+	}
+
+	@Override
+	public Attribute setAttributeType(String name, AttributeType type) throws AttributeException {
+		assert name != null;
+
+		final AttributeValue oldValue = copyValue(name);
+		final AttributeType oldType = (oldValue == null) ? null : oldValue.getType();
+
+		if (oldType == null || type == null || oldType == type) {
+			return null;
+		}
+
+		final Attribute attr = new AttributeImpl(name, (oldValue == null) ? null : oldValue.getValue());
+		attr.cast(type);
+
+		putStoredValue(name, protectNull(attr.getValue(), type));
+
+		fireAttributeChangedEvent(name, oldValue, attr);
+
+		return attr;
+	}
+
+	@Override
+	public Attribute setAttribute(String name, AttributeValue value) throws AttributeException {
+		assert name != null && value != null;
+		final AttributeValue oldValue = copyValue(name);
+
+		if (oldValue != null && oldValue.equals(value)) {
+			return null;
+		}
+
+		putStoredValue(name, protectNull(value.getValue(), value.getType()));
+
+		final Attribute attr = new AttributeImpl(name, value.getValue());
+
+		if (oldValue != null) {
+			fireAttributeChangedEvent(name, oldValue, value);
+		} else {
+			fireAttributeAddedEvent(name, attr);
+		}
+
+		return attr;
+	}
+
+	@SuppressWarnings("unlikely-arg-type")
+	@Override
+	public Attribute setAttribute(String name, boolean value) {
+		assert name != null;
+
+		final AttributeValue oldValue = copyValue(name);
+
+		if (oldValue != null && oldValue.equals(value)) {
+			return null;
+		}
+
+		putStoredValue(name, Boolean.valueOf(value));
+
+		final Attribute attr = new AttributeImpl(name, value);
+
+		if (oldValue != null) {
+			fireAttributeChangedEvent(name, oldValue, attr);
+		} else {
+			fireAttributeAddedEvent(name, attr);
+		}
+
+		return attr;
+	}
+
+	@SuppressWarnings("unlikely-arg-type")
+	@Override
+	public Attribute setAttribute(String name, int value) {
+		assert name != null;
+
+		final AttributeValue oldValue = copyValue(name);
+
+		if (oldValue != null && oldValue.equals(value)) {
+			return null;
+		}
+
+		putStoredValue(name, Long.valueOf(value));
+
+		final Attribute attr = new AttributeImpl(name, value);
+
+		if (oldValue != null) {
+			fireAttributeChangedEvent(name, oldValue, attr);
+		} else {
+			fireAttributeAddedEvent(name, attr);
+		}
+
+		return attr;
+	}
+
+	@SuppressWarnings("unlikely-arg-type")
+	@Override
+	public Attribute setAttribute(String name, long value) {
+		assert name != null;
+
+		final AttributeValue oldValue = copyValue(name);
+
+		if (oldValue != null && oldValue.equals(value)) {
+			return null;
+		}
+
+		putStoredValue(name, Long.valueOf(value));
+
+		final Attribute attr = new AttributeImpl(name, value);
+
+		if (oldValue != null) {
+			fireAttributeChangedEvent(name, oldValue, attr);
+		} else {
+			fireAttributeAddedEvent(name, attr);
+		}
+
+		return attr;
+	}
+
+	@SuppressWarnings("unlikely-arg-type")
+	@Override
+	public Attribute setAttribute(String name, float value) {
+		assert name != null;
+
+		final AttributeValue oldValue;
+		final Object currentValue = getStoredValue(name);
+		if (currentValue != null) {
+			oldValue = new AttributeValueImpl();
+			oldValue.castAndSet(AttributeType.fromValue(currentValue), currentValue);
+		} else {
+			oldValue = null;
+		}
+
+		if (oldValue != null && oldValue.equals(value)) {
+			return null;
+		}
+
+		putStoredValue(name, Double.valueOf(value));
+
+		final Attribute attr = new AttributeImpl(name, value);
+
+		if (currentValue != null) {
+			fireAttributeChangedEvent(name, oldValue, attr);
+		} else {
+			fireAttributeAddedEvent(name, attr);
+		}
+
+		return attr;
+	}
+
+	@SuppressWarnings("unlikely-arg-type")
+	@Override
+	public Attribute setAttribute(String name, double value) {
+		assert name != null;
+
+		final AttributeValue oldValue = copyValue(name);
+
+		if (oldValue != null && oldValue.equals(value)) {
+			return null;
+		}
+
+		putStoredValue(name, Double.valueOf(value));
+
+		final Attribute attr = new AttributeImpl(name, value);
+
+		if (oldValue != null) {
+			fireAttributeChangedEvent(name, oldValue, attr);
+		} else {
+			fireAttributeAddedEvent(name, attr);
+		}
+
+		return attr;
+	}
+
+	@SuppressWarnings("unlikely-arg-type")
+	@Override
+	public Attribute setAttribute(String name, String value) {
+		assert name != null;
+
+		final AttributeValue oldValue = copyValue(name);
+
+		if (oldValue != null && oldValue.equals(value)) {
+			return null;
+		}
+
+		final Object rv = (value == null) ? AttributeType.STRING.getDefaultValue() : value;
+		putStoredValue(name, rv);
+
+		final Attribute attr = new AttributeImpl(name, rv);
+
+		if (oldValue != null) {
+			fireAttributeChangedEvent(name, oldValue, attr);
+		} else {
+			fireAttributeAddedEvent(name, attr);
+		}
+
+		return attr;
+	}
+
+	@SuppressWarnings("unlikely-arg-type")
+	@Override
+	public Attribute setAttribute(String name, UUID value) {
+		assert name != null;
+
+		final AttributeValue oldValue = copyValue(name);
+
+		if (oldValue != null && oldValue.equals(value)) {
+			return null;
+		}
+
+		final Object rv = (value == null) ? AttributeType.UUID.getDefaultValue() : value;
+		putStoredValue(name, rv);
+
+		final Attribute attr = new AttributeImpl(name, rv);
+
+		if (oldValue != null) {
+			fireAttributeChangedEvent(name, oldValue, attr);
+		} else {
+			fireAttributeAddedEvent(name, attr);
+		}
+
+		return attr;
+	}
+
+	@SuppressWarnings("unlikely-arg-type")
+	@Override
+	public Attribute setAttribute(String name, URL value) {
+		assert name != null;
+
+		final AttributeValue oldValue = copyValue(name);
+
+		if (oldValue != null && oldValue.equals(value)) {
+			return null;
+		}
+
+		putStoredValue(name, protectNull(value, AttributeType.URL));
+
+		final Attribute attr = new AttributeImpl(name, value);
+
+		if (oldValue != null) {
+			fireAttributeChangedEvent(name, oldValue, attr);
+		} else {
+			fireAttributeAddedEvent(name, attr);
+		}
+
+		return attr;
+	}
+
+	@SuppressWarnings("unlikely-arg-type")
+	@Override
+	public Attribute setAttribute(String name, URI value) {
+		assert name != null;
+
+		final AttributeValue oldValue = copyValue(name);
+
+		if (oldValue != null && oldValue.equals(value)) {
+			return null;
+		}
+
+		putStoredValue(name, protectNull(value, AttributeType.URI));
+
+		final Attribute attr = new AttributeImpl(name, value);
+
+		if (oldValue != null) {
+			fireAttributeChangedEvent(name, oldValue, attr);
+		} else {
+			fireAttributeAddedEvent(name, attr);
+		}
+
+		return attr;
+	}
+
+	@SuppressWarnings("unlikely-arg-type")
+	@Override
+	public Attribute setAttribute(String name, Date value) {
+		assert name != null;
+
+		final AttributeValue oldValue = copyValue(name);
+
+		if (oldValue != null && oldValue.equals(value)) {
+			return null;
+		}
+
+		final Object rv = (value == null) ? AttributeType.DATE.getDefaultValue() : value;
+		putStoredValue(name, rv);
+
+		final Attribute attr = new AttributeImpl(name, rv);
+
+		if (oldValue != null) {
+			fireAttributeChangedEvent(name, oldValue, attr);
+		} else {
+			fireAttributeAddedEvent(name, attr);
+		}
+
+		return attr;
+	}
+
+	@Override
+	public Attribute setAttribute(Attribute value) throws AttributeException {
+		assert value != null;
+		final String name = value.getName();
+		final AttributeValue oldValue = copyValue(name);
+
+		if (oldValue != null && oldValue.equals(value)) {
+			return null;
+		}
+
+		putStoredValue(name, protectNull(value.getValue(), value.getType()));
+
+		if (oldValue != null) {
+			fireAttributeChangedEvent(name, oldValue, value);
+		} else {
+			fireAttributeAddedEvent(name, value);
+		}
+
+		return value;
+	}
+
+	@SuppressWarnings("unlikely-arg-type")
+	@Override
+	public Attribute setAttribute(String name, InetAddress value) {
+		assert name != null;
+
+		final AttributeValue oldValue = copyValue(name);
+
+		if (oldValue != null && oldValue.equals(value)) {
+			return null;
+		}
+
+		putStoredValue(name, value);
+
+		final Attribute attr = new AttributeImpl(name, value);
+
+		if (oldValue != null) {
+			fireAttributeChangedEvent(name, oldValue, attr);
+		} else {
+			fireAttributeAddedEvent(name, attr);
+		}
+
+		return attr;
+	}
+
+	@Override
+	public Attribute setAttribute(String name, InetSocketAddress value) {
+		return setAttribute(name, (value == null) ? null : value.getAddress());
+	}
+
+	@SuppressWarnings("unlikely-arg-type")
+	@Override
+	public Attribute setAttribute(String name, Enum<?> value) {
+		assert name != null;
+
+		final AttributeValue oldValue = copyValue(name);
+
+		if (oldValue != null && oldValue.equals(value)) {
+			return null;
+		}
+
+		putStoredValue(name, value);
+
+		final Attribute attr = new AttributeImpl(name, value);
+
+		if (oldValue != null) {
+			fireAttributeChangedEvent(name, oldValue, attr);
+		} else {
+			fireAttributeAddedEvent(name, attr);
+		}
+
+		return attr;
+	}
+
+	@SuppressWarnings("unlikely-arg-type")
+	@Override
+	public Attribute setAttribute(String name, Class<?> value) {
+		assert name != null;
+
+		final AttributeValue oldValue = copyValue(name);
+
+		if (oldValue != null && oldValue.equals(value)) {
+			return null;
+		}
+
+		putStoredValue(name, value);
+
+		final Attribute attr = new AttributeImpl(name, value);
+
+		if (oldValue != null) {
+			fireAttributeChangedEvent(name, oldValue, attr);
+		} else {
+			fireAttributeAddedEvent(name, attr);
+		}
+
+		return attr;
+	}
+
+	@Override
+	public boolean removeAttribute(String name) {
+		assert name != null;
+
+		final AttributeValue oldValue;
+		final Object currentValue = removeStoredValue(name);
+		if (currentValue != null) {
+			oldValue = new AttributeValueImpl();
+			oldValue.castAndSet(AttributeType.fromValue(currentValue), currentValue);
+			fireAttributeRemovedEvent(name, oldValue);
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public boolean removeAllAttributes() {
+		if (clearStoredValues()) {
+			fireAttributeClearedEvent();
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public boolean renameAttribute(String oldname, String newname, boolean overwrite) {
+		if (oldname == null || newname == null || oldname.equals(newname)) {
+			return false;
+		}
+
+		final AttributeValue valueOfOldName = copyValue(oldname);
+
+		// The attribute does not exist.
+		if (valueOfOldName == null) {
+			return false;
+		}
+
+		final AttributeValue oldValueOfNewName = copyValue(newname);
+
+		// The target attribute is existing and overwrite was disabled
+		if ((!overwrite) && (oldValueOfNewName != null)) {
+			return false;
+		}
+
+		Object rawValue;
+		try {
+			rawValue = valueOfOldName.getValue();
+		} catch (InvalidAttributeTypeException | AttributeNotInitializedException e) {
+			rawValue = null;
+		}
+
+		removeStoredValue(oldname);
+		putStoredValue(newname, protectNull(rawValue, valueOfOldName.getType()));
+
+		if (oldValueOfNewName != null) {
+			fireAttributeRemovedEvent(newname, oldValueOfNewName);
+		}
+
+		fireAttributeRenamedEvent(oldname, newname, valueOfOldName);
+
+		return true;
+	}
+
+	@Override
+	public void freeMemory() {
+		// Do nothing
+	}
+
+	@Override
+	public void flush() {
+		// Do nothing
+	}
+
+}
@@ -0,0 +1,195 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.attrs.collection;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+/**
+ * This class implements an attribute collection which
+ * stores its values in a row of a {@link ColumnarAttributeStore}.
+ *
+ * <p>Many collections share the same store; each of them
+ * is a row index in the columns of the store. This collection
+ * has the same behavior as {@link HeapAttributeCollection}
+ * without allocating a map per collection.
+ *
+ * <p>The row of the collection is given back to the store when the collection
+ * is released with {@link ColumnarAttributeStore#release(ColumnarAttributeCollection)},
+ * or when the collection is garbage collected.
+ *
+ * <p>The serialization of the collection contains the values of its row only. The
+ * deserialized collection is the single row of a new store.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ * @see ColumnarAttributeStore#newCollection()
+ */
+public class ColumnarAttributeCollection extends AbstractStoredAttributeCollection {
+
+	private static final long serialVersionUID = 2990317036128596371L;
+
+	private transient ColumnarAttributeStore store;
+
+	private transient int row = -1;
+
+	/** Constructor.
+	 *
+	 * @param store the store of the values.
+	 * @see ColumnarAttributeStore#newCollection()
+	 */
+	ColumnarAttributeCollection(ColumnarAttributeStore store) {
+		assert store != null;
+		this.store = store;
+	}
+
+	/** Make a deep copy of this object and replies the copy.
+	 *
+	 * <p>The copy is a new row in the same store.
+	 *
+	 * @return the deep copy.
+	 */
+	@Pure
+	@Override
+	public ColumnarAttributeCollection clone() {
+		final ColumnarAttributeCollection clone = (ColumnarAttributeCollection) super.clone();
+		clone.attach(this.store.allocateRow(clone));
+		this.store.copyRow(this.row, clone.row);
+		return clone;
+	}
+
+	/** Replies the store of the values.
+	 *
+	 * @return the store.
+	 */
+	@Pure
+	public ColumnarAttributeStore getStore() {
+		return this.store;
+	}
+
+	/** Replies the index of the row of this collection in the store.
+	 *
+	 * @return the row index, or {@code -1} if this collection was released.
+	 */
+	@Pure
+	public int getRow() {
+		return this.row;
+	}
+
+	/** Invoked by the store when a row is allocated to this collection.
+	 *
+	 * @param row the index of the row.
+	 */
+	void attach(int row) {
+		this.row = row;
+	}
+
+	/** Invoked by the store when this collection is released.
+	 */
+	void detach() {
+		this.row = -1;
+	}
+
+	@Pure
+	@Override
+	protected Object getStoredValue(String name) {
+		return this.store.get(this.row, name);
+	}
+
+	@Override
+	protected Object putStoredValue(String name, Object value) {
+		return this.store.set(this.row, name, value);
+	}
+
+	@Override
+	protected Object removeStoredValue(String name) {
+		return this.store.remove(this.row, name);
+	}
+
+	@Override
+	protected boolean clearStoredValues() {
+		return this.store.clearRow(this.row);
+	}
+
+	@Pure
+	@Override
+	protected Map<String, Object> getStoredValues() {
+		final Map<String, Object> values = new TreeMap<>(new AttributeNameStringComparator());
+		this.store.toMap(this.row, values);
+		return values;
+	}
+
+	@Override
+	public void toMap(Map<String, Object> mapToFill) {
+		this.store.toMap(this.row, mapToFill);
+	}
+
+	@Pure
+	@Override
+	public int getAttributeCount() {
+		return this.store.getAttributeCount(this.row);
+	}
+
+	@Pure
+	@Override
+	public boolean hasAttribute(String name) {
+		return this.store.contains(this.row, name);
+	}
+
+	@Pure
+	@Override
+	public Collection<String> getAllAttributeNames() {
+		return Collections.unmodifiableCollection(this.store.getAttributeNames(this.row));
+	}
+
+	private void writeObject(ObjectOutputStream stream) throws IOException {
+		stream.defaultWriteObject();
+		final Map<String, Object> values = getStoredValues();
+		stream.writeInt(values.size());
+		for (final Entry<String, Object> entry : values.entrySet()) {
+			stream.writeObject(entry.getKey());
+			stream.writeObject(entry.getValue());
+		}
+	}
+
+	private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+		stream.defaultReadObject();
+		this.store = new ColumnarAttributeStore();
+		attach(this.store.allocateRow(this));
+		final int count = stream.readInt();
+		for (int i = 0; i < count; ++i) {
+			final String name = (String) stream.readObject();
+			this.store.set(this.row, name, stream.readObject());
+		}
+	}
+
+}
@@ -0,0 +1,606 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.attrs.collection;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+/**
+ * This class implements a column-oriented storage of attribute values
+ * that is shared by several attribute collections.
+ *
+ * <p>Each attribute collection that is created by this store is a row of the
+ * store. Each attribute name is a column of the store. The values of a column
+ * are stored in a single array for all the rows: integer values
+ * are stored in a {@code long[]}, floating-point values in a {@code double[]},
+ * boolean values in a bit set, and the other values in an {@code Object[]}.
+ * When a column receives a value that is not compatible with the current array,
+ * the column is switched to an {@code Object[]}.
+ *
+ * <p>The store keeps weak references to the collections it has created. The row of
+ * a collection is given back to the store when the collection is garbage collected;
+ * the garbage-collected rows are reclaimed on the next creation of a collection.
+ * A row may be given back earlier with {@link #release(ColumnarAttributeCollection)}
+ * in order to be reused by the next created collections immediately.
+ *
+ * <p>The store itself is not serializable. Each collection serializes the values of its own
+ * row only.
+ *
+ * <p>This store is not thread-safe.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ * @see ColumnarAttributeCollection
+ */
+public class ColumnarAttributeStore {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private final ReferenceQueue<ColumnarAttributeCollection> queue = new ReferenceQueue<>();
+
+	private RowReference[] owners = new RowReference[0];
+
+	private final Map<String, Column> columns = new TreeMap<>(new AttributeNameStringComparator());
+
+	private int rowCount;
+
+	private int[] freeRows = new int[0];
+
+	private int freeRowCount;
+
+	/** Create a new attribute collection, i.e. a new row of this store.
+	 *
+	 * @return the new attribute collection.
+	 */
+	public ColumnarAttributeCollection newCollection() {
+		final ColumnarAttributeCollection collection = new ColumnarAttributeCollection(this);
+		collection.attach(allocateRow(collection));
+		return collection;
+	}
+
+	/** Remove the values of the given collection from this store, and
+	 * make its row available for the next created collections.
+	 *
+	 * <p>The given collection must not be used after a call to this function.
+	 * Calling this function is optional: the row of a collection is also given back
+	 * to the store when the collection is garbage collected.
+	 *
+	 * @param collection the collection to release.
+	 */
+	public void release(ColumnarAttributeCollection collection) {
+		if (collection != null && collection.getStore() == this && collection.getRow() >= 0) {
+			final int row = collection.getRow();
+			final RowReference owner = this.owners[row];
+			if (owner != null) {
+				owner.clear();
+			}
+			collection.detach();
+			freeRow(row);
+		}
+	}
+
+	/** Replies the number of attribute collections that are using this store.
+	 *
+	 * <p>The rows of the garbage-collected collections are reclaimed before counting.
+	 *
+	 * @return the number of rows in use.
+	 */
+	public int getRowCount() {
+		expurgeQueuedRows();
+		return this.rowCount - this.freeRowCount;
+	}
+
+	/** Give back the rows of the collections that were garbage collected.
+	 */
+	private void expurgeQueuedRows() {
+		RowReference reference;
+		while ((reference = (RowReference) this.queue.poll()) != null) {
+			// The row may have been released and allocated again in the meantime
+			if (this.owners[reference.row] == reference) {
+				freeRow(reference.row);
+			}
+		}
+	}
+
+	/** Clear the given row and make it available for the next allocations.
+	 *
+	 * @param row the row.
+	 */
+	private void freeRow(int row) {
+		clearRow(row);
+		this.owners[row] = null;
+		if (this.freeRowCount >= this.freeRows.length) {
+			this.freeRows = Arrays.copyOf(this.freeRows, Math.max(DEFAULT_CAPACITY, this.freeRowCount * 2));
+		}
+		this.freeRows[this.freeRowCount] = row;
+		++this.freeRowCount;
+	}
+
+	/** Replies the names of the attributes that are stored in at least one row.
+	 *
+	 * @return the names of the columns.
+	 */
+	@Pure
+	public Collection<String> getColumnNames() {
+		return Collections.unmodifiableCollection(this.columns.keySet());
+	}
+
+	/** Allocate a row for the given collection.
+	 *
+	 * @param owner the collection that is owning the row.
+	 * @return the index of the row.
+	 */
+	int allocateRow(ColumnarAttributeCollection owner) {
+		expurgeQueuedRows();
+		final int row;
+		if (this.freeRowCount > 0) {
+			--this.freeRowCount;
+			row = this.freeRows[this.freeRowCount];
+		} else {
+			row = this.rowCount;
+			++this.rowCount;
+			if (row >= this.owners.length) {
+				this.owners = Arrays.copyOf(this.owners, Math.max(DEFAULT_CAPACITY, row * 2));
+			}
+		}
+		this.owners[row] = new RowReference(owner, row, this.queue);
+		return row;
+	}
+
+	/** Copy the values of a row into another row.
+	 *
+	 * @param source the row to copy.
+	 * @param target the row to fill.
+	 */
+	void copyRow(int source, int target) {
+		for (final Entry<String, Column> entry : new ArrayList<>(this.columns.entrySet())) {
+			final Column column = entry.getValue();
+			if (column.has(source)) {
+				set(target, entry.getKey(), column.get(source));
+			}
+		}
+	}
+
+	/** Replies the raw value at the given position.
+	 *
+	 * @param row the row.
+	 * @param name the name of the column.
+	 * @return the raw value, or {@code null} if none.
+	 */
+	@Pure
+	Object get(int row, String name) {
+		final Column column = this.columns.get(name);
+		if (column != null && column.has(row)) {
+			return column.get(row);
+		}
+		return null;
+	}
+
+	/** Replies if a value is stored at the given position.
+	 *
+	 * @param row the row.
+	 * @param name the name of the column.
+	 * @return <code>true</code> if a value is stored.
+	 */
+	@Pure
+	boolean contains(int row, String name) {
+		final Column column = this.columns.get(name);
+		return column != null && column.has(row);
+	}
+
+	/** Change the raw value at the given position.
+	 *
+	 * @param row the row.
+	 * @param name the name of the column.
+	 * @param value the raw value. If it is {@code null}, the value is removed.
+	 * @return the previous raw value, or {@code null} if none.
+	 */
+	Object set(int row, String name, Object value) {
+		if (value == null) {
+			return remove(row, name);
+		}
+		Column column = this.columns.get(name);
+		if (column == null) {
+			column = Column.create(value);
+			this.columns.put(name, column);
+		} else if (!column.accepts(value)) {
+			column = new ObjectColumn(column);
+			this.columns.put(name, column);
+		}
+		final Object previous = column.has(row) ? column.get(row) : null;
+		column.set(row, value);
+		return previous;
+	}
+
+	/** Remove the raw value at the given position.
+	 *
+	 * @param row the row.
+	 * @param name the name of the column.
+	 * @return the removed raw value, or {@code null} if none.
+	 */
+	Object remove(int row, String name) {
+		final Column column = this.columns.get(name);
+		if (column != null && column.has(row)) {
+			final Object previous = column.get(row);
+			column.remove(row);
+			if (column.isEmpty()) {
+				this.columns.remove(name);
+			}
+			return previous;
+		}
+		return null;
+	}
+
+	/** Remove all the values of the given row.
+	 *
+	 * @param row the row.
+	 * @return <code>true</code> if a value was removed.
+	 */
+	boolean clearRow(int row) {
+		boolean changed = false;
+		final Iterator<Column> iterator = this.columns.values().iterator();
+		while (iterator.hasNext()) {
+			final Column column = iterator.next();
+			if (column.has(row)) {
+				column.remove(row);
+				changed = true;
+				if (column.isEmpty()) {
+					iterator.remove();
+				}
+			}
+		}
+		return changed;
+	}
+
+	/** Replies the number of values in the given row.
+	 *
+	 * @param row the row.
+	 * @return the number of values.
+	 */
+	@Pure
+	int getAttributeCount(int row) {
+		int count = 0;
+		for (final Column column : this.columns.values()) {
+			if (column.has(row)) {
+				++count;
+			}
+		}
+		return count;
+	}
+
+	/** Replies the names of the values in the given row.
+	 *
+	 * @param row the row.
+	 * @return the names, sorted as the attribute names.
+	 */
+	@Pure
+	List<String> getAttributeNames(int row) {
+		final List<String> names = new ArrayList<>();
+		for (final Entry<String, Column> entry : this.columns.entrySet()) {
+			if (entry.getValue().has(row)) {
+				names.add(entry.getKey());
+			}
+		}
+		return names;
+	}
+
+	/** Fill the given map with the raw values of the given row.
+	 *
+	 * @param row the row.
+	 * @param mapToFill the map to fill.
+	 */
+	void toMap(int row, Map<String, Object> mapToFill) {
+		for (final Entry<String, Column> entry : this.columns.entrySet()) {
+			final Column column = entry.getValue();
+			if (column.has(row)) {
+				mapToFill.put(entry.getKey(), column.get(row));
+			}
+		}
+	}
+
+	/** Weak reference to the collection that is owning a row.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 18.0
+	 */
+	private static class RowReference extends WeakReference<ColumnarAttributeCollection> {
+
+		final int row;
+
+		/** Constructor.
+		 *
+		 * @param owner the collection.
+		 * @param row the row of the collection.
+		 * @param queue the queue in which the reference is enqueued when the collection is garbage collected.
+		 */
+		RowReference(ColumnarAttributeCollection owner, int row, ReferenceQueue<ColumnarAttributeCollection> queue) {
+			super(owner, queue);
+			this.row = row;
+		}
+
+	}
+
+	/** Column of the store.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 18.0
+	 */
+	private abstract static class Column {
+
+		private final BitSet present = new BitSet();
+
+		/** Create a column that is able to store the given value.
+		 *
+		 * @param value the first value of the column.
+		 * @return the column.
+		 */
+		static Column create(Object value) {
+			final Class<?> type = value.getClass();
+			if (type == Long.class) {
+				return new LongColumn();
+			}
+			if (type == Double.class) {
+				return new DoubleColumn();
+			}
+			if (type == Boolean.class) {
+				return new BooleanColumn();
+			}
+			return new ObjectColumn();
+		}
+
+		/** Compute the new capacity of an array.
+		 *
+		 * @param capacity the current capacity.
+		 * @param row the row that must be stored.
+		 * @return the new capacity.
+		 */
+		static int grow(int capacity, int row) {
+			return Math.max(row + 1, Math.max(DEFAULT_CAPACITY, capacity + (capacity >> 1)));
+		}
+
+		boolean has(int row) {
+			return this.present.get(row);
+		}
+
+		boolean isEmpty() {
+			return this.present.isEmpty();
+		}
+
+		void set(int row, Object value) {
+			this.present.set(row);
+			store(row, value);
+		}
+
+		void remove(int row) {
+			this.present.clear(row);
+			store(row, null);
+		}
+
+		/** Replies the rows that have a value.
+		 *
+		 * @return the rows.
+		 */
+		BitSet getPresentRows() {
+			return this.present;
+		}
+
+		/** Replies if the given value may be stored in this column.
+		 *
+		 * @param value the value.
+		 * @return <code>true</code> if the value is accepted.
+		 */
+		abstract boolean accepts(Object value);
+
+		/** Replies the stored value.
+		 *
+		 * @param row the row.
+		 * @return the value.
+		 */
+		abstract Object get(int row);
+
+		/** Store the value.
+		 *
+		 * @param row the row.
+		 * @param value the value, or {@code null} for clearing the cell.
+		 */
+		abstract void store(int row, Object value);
+
+	}
+
+	/** Column of integer numbers.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 18.0
+	 */
+	private static class LongColumn extends Column {
+
+		private long[] values = new long[0];
+
+		@Override
+		boolean accepts(Object value) {
+			return value.getClass() == Long.class;
+		}
+
+		@Override
+		Object get(int row) {
+			return Long.valueOf(this.values[row]);
+		}
+
+		@Override
+		void store(int row, Object value) {
+			if (value == null) {
+				if (row < this.values.length) {
+					this.values[row] = 0;
+				}
+			} else {
+				if (row >= this.values.length) {
+					this.values = Arrays.copyOf(this.values, grow(this.values.length, row));
+				}
+				this.values[row] = ((Long) value).longValue();
+			}
+		}
+
+	}
+
+	/** Column of floating-point numbers.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 18.0
+	 */
+	private static class DoubleColumn extends Column {
+
+		private double[] values = new double[0];
+
+		@Override
+		boolean accepts(Object value) {
+			return value.getClass() == Double.class;
+		}
+
+		@Override
+		Object get(int row) {
+			return Double.valueOf(this.values[row]);
+		}
+
+		@Override
+		void store(int row, Object value) {
+			if (value == null) {
+				if (row < this.values.length) {
+					this.values[row] = 0.;
+				}
+			} else {
+				if (row >= this.values.length) {
+					this.values = Arrays.copyOf(this.values, grow(this.values.length, row));
+				}
+				this.values[row] = ((Double) value).doubleValue();
+			}
+		}
+
+	}
+
+	/** Column of booleans.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 18.0
+	 */
+	private static class BooleanColumn extends Column {
+
+		private final BitSet values = new BitSet();
+
+		@Override
+		boolean accepts(Object value) {
+			return value.getClass() == Boolean.class;
+		}
+
+		@Override
+		Object get(int row) {
+			return Boolean.valueOf(this.values.get(row));
+		}
+
+		@Override
+		void store(int row, Object value) {
+			this.values.set(row, value != null && ((Boolean) value).booleanValue());
+		}
+
+	}
+
+	/** Column of objects.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 18.0
+	 */
+	private static class ObjectColumn extends Column {
+
+		private Object[] values = new Object[0];
+
+		/** Constructor.
+		 */
+		ObjectColumn() {
+			//
+		}
+
+		/** Constructor by copy of the values of another column.
+		 *
+		 * @param column the column to copy.
+		 */
+		ObjectColumn(Column column) {
+			final BitSet rows = column.getPresentRows();
+			for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+				set(row, column.get(row));
+			}
+		}
+
+		@Override
+		boolean accepts(Object value) {
+			return true;
+		}
+
+		@Override
+		Object get(int row) {
+			return this.values[row];
+		}
+
+		@Override
+		void store(int row, Object value) {
+			if (row >= this.values.length) {
+				if (value == null) {
+					return;
+				}
+				this.values = Arrays.copyOf(this.values, grow(this.values.length, row));
+			}
+			this.values[row] = value;
+		}
+
+	}
+
+}
@@ -0,0 +1,189 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.attrs.collection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.arakhne.afc.attrs.attr.AttributeType;
+import org.arakhne.afc.attrs.attr.AttributeValueImpl;
+
+/**
+ * Test for ColumnarAttributeCollection.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ */
+@SuppressWarnings("all")
+public class ColumnarAttributeCollectionTest extends AbstractAttributeCollectionTest<ColumnarAttributeCollection> {
+
+	private ColumnarAttributeCollection neighbour;
+
+	/**
+	 */
+	public ColumnarAttributeCollectionTest() {
+		super("ColumnarAttributeCollectionTest");  //$NON-NLS-1$
+	}
+
+	@Override
+	protected ColumnarAttributeCollection setUpTestCase() throws Exception {
+		final ColumnarAttributeStore store = new ColumnarAttributeStore();
+		// Add a row before the tested collection in order to test the sharing of the columns
+		this.neighbour = store.newCollection();
+		this.neighbour.setAttribute("A", 1234); //$NON-NLS-1$
+		return store.newCollection();
+	}
+
+	@Test
+	public void sharedStore() throws Exception {
+		final ColumnarAttributeStore store = this.testData.getStore();
+		final ColumnarAttributeCollection other = store.newCollection();
+		assertEquals(3, store.getRowCount());
+		assertNotEquals(this.testData.getRow(), other.getRow());
+		assertFalse(other.hasAttribute("B")); //$NON-NLS-1$
+
+		other.setAttribute("B", 45.); //$NON-NLS-1$
+		other.setAttribute("NEWATTR", 3); //$NON-NLS-1$
+		assertEquals(45., other.getAttributeAsDouble("B")); //$NON-NLS-1$
+		assertEquals(3, other.getAttributeAsInt("NEWATTR")); //$NON-NLS-1$
+		assertFalse(this.testData.hasAttribute("NEWATTR")); //$NON-NLS-1$
+		assertTrue(store.getColumnNames().contains("NEWATTR")); //$NON-NLS-1$
+
+		// A value of another type in the same column
+		this.testData.setAttribute("NEWATTR", "abc"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("abc", this.testData.getAttributeAsString("NEWATTR")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(AttributeType.STRING, this.testData.getAttribute("NEWATTR").getType()); //$NON-NLS-1$
+		assertEquals(3, other.getAttributeAsInt("NEWATTR")); //$NON-NLS-1$
+		assertEquals(AttributeType.INTEGER, other.getAttribute("NEWATTR").getType()); //$NON-NLS-1$
+
+		other.removeAttribute("NEWATTR"); //$NON-NLS-1$
+		this.testData.removeAttribute("NEWATTR"); //$NON-NLS-1$
+		assertFalse(store.getColumnNames().contains("NEWATTR")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void cloneInSameStore() throws Exception {
+		final ColumnarAttributeCollection clone = this.testData.clone();
+		assertNotSame(this.testData, clone);
+		assertSame(this.testData.getStore(), clone.getStore());
+		assertNotEquals(this.testData.getRow(), clone.getRow());
+		assertEquals(this.testData.getAttributeCount(), clone.getAttributeCount());
+		assertEquals(new ArrayList<>(this.testData.getAllAttributeNames()), new ArrayList<>(clone.getAllAttributeNames()));
+		clone.setAttribute("A", true); //$NON-NLS-1$
+		assertTrue(clone.getAttributeAsBool("A")); //$NON-NLS-1$
+		assertFalse(this.testData.getAttribute("A").equals(clone.getAttribute("A"))); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void release() throws Exception {
+		final ColumnarAttributeStore store = this.testData.getStore();
+		final int row = this.testData.getRow();
+		final int count = store.getRowCount();
+		store.release(this.testData);
+		assertEquals(-1, this.testData.getRow());
+		assertEquals(count - 1, store.getRowCount());
+		final ColumnarAttributeCollection collection = store.newCollection();
+		assertEquals(row, collection.getRow());
+		assertEquals(0, collection.getAttributeCount());
+		assertEquals(count, store.getRowCount());
+	}
+
+	@Test
+	public void setAttributesMap_oldValueInEvent() throws Exception {
+		this.testData.setAttribute("A", 1234); //$NON-NLS-1$
+		final List<AttributeChangeEvent> events = new ArrayList<>();
+		this.testData.addAttributeChangeListener(events::add);
+		final Map<String, Object> values = new HashMap<>();
+		values.put("A", 5678); //$NON-NLS-1$
+		this.testData.setAttributes(values);
+		AttributeChangeEvent eventA = null;
+		for (final AttributeChangeEvent event : events) {
+			if ("A".equals(event.getName())) { //$NON-NLS-1$
+				eventA = event;
+			}
+		}
+		assertEquals(AttributeChangeEvent.Type.VALUE_UPDATE, eventA.getType());
+		assertEquals(new AttributeValueImpl(1234L), eventA.getOldValue());
+		assertEquals(new AttributeValueImpl(5678L), eventA.getValue());
+	}
+
+	@Test
+	public void garbageCollectedCollection() throws Exception {
+		final ColumnarAttributeStore store = this.testData.getStore();
+		final int count = store.getRowCount();
+		ColumnarAttributeCollection collection = store.newCollection();
+		collection.setAttribute("GARBAGE", 1); //$NON-NLS-1$
+		final WeakReference<ColumnarAttributeCollection> reference = new WeakReference<>(collection);
+		assertEquals(count + 1, store.getRowCount());
+		collection = null;
+		for (int i = 0; i < 20 && reference.get() != null; ++i) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		// The reference queue is filled asynchronously after the collection
+		for (int i = 0; i < 20 && store.getRowCount() != count; ++i) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertEquals(count, store.getRowCount());
+		assertFalse(store.getColumnNames().contains("GARBAGE")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void serialization() throws Exception {
+		this.testData.setAttribute("SERIAL", "abc"); //$NON-NLS-1$ //$NON-NLS-2$
+		this.testData.removeAttributeChangeListener(this.listenerStub);
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+			output.writeObject(this.testData);
+		}
+		final ColumnarAttributeCollection copy;
+		try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			copy = (ColumnarAttributeCollection) input.readObject();
+		}
+		assertNotSame(this.testData.getStore(), copy.getStore());
+		assertEquals(1, copy.getStore().getRowCount());
+		// Only the row of the collection is serialized
+		assertEquals(new ArrayList<>(this.testData.getAllAttributeNames()), new ArrayList<>(copy.getStore().getColumnNames()));
+		assertEquals(new ArrayList<>(this.testData.getAllAttributeNames()), new ArrayList<>(copy.getAllAttributeNames()));
+		assertEquals("abc", copy.getAttributeAsString("SERIAL")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/** Launcher of the benchmarks.
+ *
+ * <p>The launcher accepts the same command-line options as the standard JMH launcher.
+ * When no result format is given, the results are written in JSON format into the file
+ * {@code afc-benchmarks-<version>.json}, where {@code <version>} is the version of the
+ * library, in order to compare the results between two versions. The benchmarks are run with:
+ * <pre><code>
+ * mvn -Pbenchmarks -pl advanced/benchmarks -am package
+ * java -jar advanced/benchmarks/target/afc-benchmarks.jar [jmh options] [benchmark name patterns]
+ * </code></pre>
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ */
+public final class BenchmarkRunner {
+
+	private static final String RESULT_PREFIX = "afc-benchmarks-"; //$NON-NLS-1$
+
+	private static final String RESULT_EXTENSION = ".json"; //$NON-NLS-1$
+
+	private static final String UNKNOWN_VERSION = "dev"; //$NON-NLS-1$
+
+	private BenchmarkRunner() {
+		//
+	}
+
+	/** Replies the name of the file into which the results are written by default.
+	 *
+	 * @return the name of the result file.
+	 */
+	public static String getDefaultResultFilename() {
+		String version = BenchmarkRunner.class.getPackage().getImplementationVersion();
+		if (version == null || version.isEmpty()) {
+			version = UNKNOWN_VERSION;
+		}
+		return RESULT_PREFIX + version + RESULT_EXTENSION;
+	}
+
+	/** Run the benchmarks.
+	 *
+	 * @param args the command-line options of JMH.
+	 * @throws CommandLineOptionException if the command-line options are invalid.
+	 * @throws RunnerException if a benchmark cannot be run.
+	 */
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+		final CommandLineOptions commandLine = new CommandLineOptions(args);
+		final ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+		if (!commandLine.getResultFormat().hasValue()) {
+			options.resultFormat(ResultFormatType.JSON);
+			if (!commandLine.getResult().hasValue()) {
+				options.result(getDefaultResultFilename());
+			}
+		}
+		new Runner(options.build()).run();
+	}
+
+}
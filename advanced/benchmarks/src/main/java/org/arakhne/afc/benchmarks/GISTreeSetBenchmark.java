@@ -0,0 +1,136 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.benchmarks;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.arakhne.afc.gis.mapelement.MapPolyline;
+import org.arakhne.afc.gis.tree.MapPolylineTreeSet;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
+
+/** Benchmarks of the iteration over the elements of a {@link MapPolylineTreeSet} that
+ * are intersecting a viewport.
+ *
+ * <p>Each invocation iterates over {@link #VIEWPORT_COUNT} viewports that are
+ * randomly placed into the bounds of the tree.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GISTreeSetBenchmark {
+
+	/** Number of viewports per invocation of a benchmark.
+	 */
+	public static final int VIEWPORT_COUNT = 64;
+
+	private static final double EXTENT = 10000.;
+
+	private static final int POINT_COUNT = 8;
+
+	private static final double STEP = 50.;
+
+	private static final int BUDGET = 100;
+
+	/** Number of elements in the tree.
+	 */
+	@Param({"1000", "10000", "100000"})
+	public int elementCount;
+
+	/** Size of the viewports, relatively to the size of the tree.
+	 */
+	@Param({"0.01", "0.1"})
+	public double viewportRatio;
+
+	private MapPolylineTreeSet<MapPolyline> tree;
+
+	private Rectangle2d[] viewports;
+
+	/** Generate the dataset.
+	 */
+	@Setup
+	public void setUp() {
+		final Random random = new Random(SyntheticDatasets.DEFAULT_SEED);
+		final Rectangle2d bounds = new Rectangle2d(0, 0, EXTENT, EXTENT);
+		this.tree = new MapPolylineTreeSet<>(bounds);
+		this.tree.addAll(SyntheticDatasets.newPolylines(random, this.elementCount, bounds, POINT_COUNT, STEP));
+		final double size = EXTENT * this.viewportRatio;
+		this.viewports = new Rectangle2d[VIEWPORT_COUNT];
+		for (int i = 0; i < VIEWPORT_COUNT; ++i) {
+			this.viewports[i] = new Rectangle2d(
+					random.nextDouble() * (EXTENT - size),
+					random.nextDouble() * (EXTENT - size),
+					size, size);
+		}
+	}
+
+	/** Benchmark of {@link MapPolylineTreeSet#iterator(org.arakhne.afc.math.geometry.d2.afp.Rectangle2afp)}.
+	 *
+	 * @param blackhole the consumer of the elements.
+	 */
+	@Benchmark
+	public void viewportIterator(Blackhole blackhole) {
+		for (final Rectangle2d viewport : this.viewports) {
+			final Iterator<MapPolyline> iterator = this.tree.iterator(viewport);
+			while (iterator.hasNext()) {
+				blackhole.consume(iterator.next());
+			}
+		}
+	}
+
+	/** Benchmark of {@link MapPolylineTreeSet#iterator(org.arakhne.afc.math.geometry.d2.afp.Rectangle2afp, int)}.
+	 *
+	 * @param blackhole the consumer of the elements.
+	 */
+	@Benchmark
+	public void viewportBudgetIterator(Blackhole blackhole) {
+		for (final Rectangle2d viewport : this.viewports) {
+			final Iterator<MapPolyline> iterator = this.tree.iterator(viewport, BUDGET);
+			while (iterator.hasNext()) {
+				blackhole.consume(iterator.next());
+			}
+		}
+	}
+
+}
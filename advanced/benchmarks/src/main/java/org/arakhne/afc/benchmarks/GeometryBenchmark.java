@@ -0,0 +1,162 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.arakhne.afc.math.geometry.d2.afp.Path2afp;
+import org.arakhne.afc.math.geometry.d2.afp.Segment2afp;
+import org.arakhne.afc.math.geometry.d2.d.Path2d;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
+
+/** Benchmarks of the geometry kernels: point inclusion into paths, and segment intersections.
+ *
+ * <p>Each invocation processes the whole set of query points or segments, so that the
+ * score is the time for running a batch of {@link #QUERY_COUNT} queries.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeometryBenchmark {
+
+	/** Number of queries per invocation of a benchmark.
+	 */
+	public static final int QUERY_COUNT = 1024;
+
+	private static final double EXTENT = 1000.;
+
+	/** Number of vertices of the polygon.
+	 */
+	@Param({"16", "256", "4096"})
+	public int vertexCount;
+
+	private Path2d polygon;
+
+	private double[] points;
+
+	private double[] segments;
+
+	/** Generate the dataset.
+	 */
+	@Setup
+	public void setUp() {
+		final Random random = new Random(SyntheticDatasets.DEFAULT_SEED);
+		final double half = EXTENT / 2.;
+		this.polygon = SyntheticDatasets.newStarPolygon(random, half, half, half, this.vertexCount);
+		final Rectangle2d bounds = new Rectangle2d(0, 0, EXTENT, EXTENT);
+		this.points = SyntheticDatasets.newPoints(random, QUERY_COUNT, bounds);
+		this.segments = SyntheticDatasets.newSegments(random, QUERY_COUNT * 2, bounds, EXTENT / 10.);
+	}
+
+	/** Benchmark of {@link Path2afp#containsPoint(org.arakhne.afc.math.geometry.d2.afp.PathIterator2afp, double, double)}.
+	 *
+	 * @return the number of points inside the polygon.
+	 */
+	@Benchmark
+	public int pathContainsPoint() {
+		final double[] coordinates = this.points;
+		int count = 0;
+		for (int i = 0; i < coordinates.length; i += 2) {
+			if (Path2afp.containsPoint(this.polygon.getPathIterator(), coordinates[i], coordinates[i + 1])) {
+				++count;
+			}
+		}
+		return count;
+	}
+
+	/** Benchmark of {@link Path2d#contains(double, double)}.
+	 *
+	 * @return the number of points inside the polygon.
+	 */
+	@Benchmark
+	public int pathContains() {
+		final double[] coordinates = this.points;
+		int count = 0;
+		for (int i = 0; i < coordinates.length; i += 2) {
+			if (this.polygon.contains(coordinates[i], coordinates[i + 1])) {
+				++count;
+			}
+		}
+		return count;
+	}
+
+	/** Benchmark of {@link Segment2afp#intersectsSegmentSegmentWithEnds(double, double, double, double,
+	 * double, double, double, double)}.
+	 *
+	 * @return the number of intersecting pairs of segments.
+	 */
+	@Benchmark
+	public int segmentIntersectsSegmentWithEnds() {
+		final double[] coordinates = this.segments;
+		int count = 0;
+		for (int i = 0; i < coordinates.length; i += 8) {
+			if (Segment2afp.intersectsSegmentSegmentWithEnds(
+					coordinates[i], coordinates[i + 1], coordinates[i + 2], coordinates[i + 3],
+					coordinates[i + 4], coordinates[i + 5], coordinates[i + 6], coordinates[i + 7])) {
+				++count;
+			}
+		}
+		return count;
+	}
+
+	/** Benchmark of {@link Segment2afp#calculatesSegmentSegmentIntersectionFactor(double, double, double, double,
+	 * double, double, double, double)}.
+	 *
+	 * @return the sum of the intersection factors.
+	 */
+	@Benchmark
+	public double segmentIntersectionFactor() {
+		final double[] coordinates = this.segments;
+		double sum = 0;
+		for (int i = 0; i < coordinates.length; i += 8) {
+			final double factor = Segment2afp.calculatesSegmentSegmentIntersectionFactor(
+					coordinates[i], coordinates[i + 1], coordinates[i + 2], coordinates[i + 3],
+					coordinates[i + 4], coordinates[i + 5], coordinates[i + 6], coordinates[i + 7]);
+			if (!Double.isNaN(factor)) {
+				sum += factor;
+			}
+		}
+		return sum;
+	}
+
+}
@@ -0,0 +1,132 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.arakhne.afc.gis.road.StandardRoadNetwork;
+import org.arakhne.afc.gis.road.path.astar.RoadAStar;
+import org.arakhne.afc.gis.road.primitive.RoadConnection;
+import org.arakhne.afc.gis.road.snapshot.RoadNetworkSnapshot;
+import org.arakhne.afc.gis.road.snapshot.RoadNetworkSnapshotSearch;
+
+/** Benchmarks of the shortest path computation on a generated road grid.
+ *
+ * <p>Each invocation solves the same {@link #QUERY_COUNT} queries between connections
+ * that are randomly selected. The search over a {@link RoadNetworkSnapshot}
+ * is measured as a reference for the {@link RoadAStar A* algorithm}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoadAStarBenchmark {
+
+	/** Number of queries per invocation of a benchmark.
+	 */
+	public static final int QUERY_COUNT = 16;
+
+	private static final double SPACING = 100.;
+
+	/** Number of connections on each side of the road grid.
+	 */
+	@Param({"10", "30", "100"})
+	public int gridSize;
+
+	private RoadConnection[] starts;
+
+	private RoadConnection[] ends;
+
+	private int[] startIndexes;
+
+	private int[] endIndexes;
+
+	private RoadAStar astar;
+
+	private RoadNetworkSnapshotSearch search;
+
+	/** Generate the dataset.
+	 */
+	@Setup
+	public void setUp() {
+		final StandardRoadNetwork network = SyntheticDatasets.newRoadGrid(this.gridSize, SPACING,
+				SyntheticDatasets.DEFAULT_SEED);
+		final RoadNetworkSnapshot snapshot = RoadNetworkSnapshot.of(network);
+		final Random random = new Random(SyntheticDatasets.DEFAULT_SEED);
+		this.starts = new RoadConnection[QUERY_COUNT];
+		this.ends = new RoadConnection[QUERY_COUNT];
+		this.startIndexes = new int[QUERY_COUNT];
+		this.endIndexes = new int[QUERY_COUNT];
+		for (int i = 0; i < QUERY_COUNT; ++i) {
+			this.startIndexes[i] = random.nextInt(snapshot.getNodeCount());
+			this.endIndexes[i] = random.nextInt(snapshot.getNodeCount());
+			this.starts[i] = snapshot.getRoadConnection(this.startIndexes[i]);
+			this.ends[i] = snapshot.getRoadConnection(this.endIndexes[i]);
+		}
+		this.astar = new RoadAStar();
+		this.search = new RoadNetworkSnapshotSearch(snapshot);
+	}
+
+	/** Benchmark of {@link RoadAStar#solve(RoadConnection, RoadConnection)}.
+	 *
+	 * @param blackhole the consumer of the paths.
+	 */
+	@Benchmark
+	public void roadAStarSolve(Blackhole blackhole) {
+		for (int i = 0; i < QUERY_COUNT; ++i) {
+			blackhole.consume(this.astar.solve(this.starts[i], this.ends[i]));
+		}
+	}
+
+	/** Benchmark of {@link RoadNetworkSnapshotSearch#computeShortestPath(int, int)}.
+	 *
+	 * @param blackhole the consumer of the path lengths.
+	 */
+	@Benchmark
+	public void snapshotShortestPath(Blackhole blackhole) {
+		for (int i = 0; i < QUERY_COUNT; ++i) {
+			blackhole.consume(this.search.computeShortestPath(this.startIndexes[i], this.endIndexes[i]));
+		}
+	}
+
+}
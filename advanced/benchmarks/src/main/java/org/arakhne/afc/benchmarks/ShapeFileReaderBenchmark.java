@@ -0,0 +1,166 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.arakhne.afc.gis.io.shape.GISShapeFileLoader;
+import org.arakhne.afc.gis.io.shape.GISShapeFileReader;
+import org.arakhne.afc.gis.mapelement.MapElement;
+import org.arakhne.afc.gis.mapelement.MapPolyline;
+import org.arakhne.afc.io.dbase.DBaseFileReader;
+import org.arakhne.afc.io.dbase.DBaseFileRecord;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
+
+/** Benchmarks of the readers of shape files and dBase files.
+ *
+ * <p>The files are generated into the temporary directory before the benchmarks,
+ * and each invocation reads all the records of the files.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShapeFileReaderBenchmark {
+
+	private static final double EXTENT = 10000.;
+
+	private static final int POINT_COUNT = 16;
+
+	private static final double STEP = 50.;
+
+	/** Number of records in the files.
+	 */
+	@Param({"1000", "50000"})
+	public int recordCount;
+
+	private File shapeFile;
+
+	private File dbaseFile;
+
+	/** Generate the files.
+	 *
+	 * @throws IOException if the files cannot be written.
+	 */
+	@Setup
+	public void setUp() throws IOException {
+		final Random random = new Random(SyntheticDatasets.DEFAULT_SEED);
+		final Rectangle2d bounds = new Rectangle2d(0, 0, EXTENT, EXTENT);
+		this.shapeFile = File.createTempFile("afcbenchmark", ".shp"); //$NON-NLS-1$ //$NON-NLS-2$
+		this.dbaseFile = SyntheticDatasets.writeShapeFile(this.shapeFile,
+				SyntheticDatasets.newPolylines(random, this.recordCount, bounds, POINT_COUNT, STEP),
+				bounds);
+	}
+
+	/** Remove the files.
+	 */
+	@TearDown
+	public void tearDown() {
+		this.shapeFile.delete();
+		this.dbaseFile.delete();
+	}
+
+	/** Benchmark of {@link GISShapeFileReader#read()} without attributes.
+	 *
+	 * @param blackhole the consumer of the elements.
+	 * @throws IOException if the file cannot be read.
+	 */
+	@Benchmark
+	public void readShapeFile(Blackhole blackhole) throws IOException {
+		try (GISShapeFileReader reader = new GISShapeFileReader(this.shapeFile)) {
+			MapElement element;
+			while ((element = reader.read()) != null) {
+				blackhole.consume(element);
+			}
+		}
+	}
+
+	/** Benchmark of {@link GISShapeFileReader#read()} with the attributes from the dBase file.
+	 *
+	 * @param blackhole the consumer of the elements.
+	 * @throws IOException if the files cannot be read.
+	 */
+	@Benchmark
+	public void readShapeFileWithAttributes(Blackhole blackhole) throws IOException {
+		try (DBaseFileReader dbaseReader = new DBaseFileReader(this.dbaseFile);
+				GISShapeFileReader reader = new GISShapeFileReader(this.shapeFile, dbaseReader)) {
+			MapElement element;
+			while ((element = reader.read()) != null) {
+				blackhole.consume(element);
+			}
+		}
+	}
+
+	/** Benchmark of {@link DBaseFileReader#readNextDBFRecord()}.
+	 *
+	 * @param blackhole the consumer of the records.
+	 * @throws IOException if the file cannot be read.
+	 */
+	@Benchmark
+	public void readDBaseFile(Blackhole blackhole) throws IOException {
+		try (DBaseFileReader reader = new DBaseFileReader(this.dbaseFile)) {
+			reader.readDBFHeader();
+			reader.readDBFFields();
+			DBaseFileRecord record;
+			while ((record = reader.readNextDBFRecord()) != null) {
+				blackhole.consume(record);
+			}
+		}
+	}
+
+	/** Benchmark of {@link GISShapeFileLoader#load(Class, java.util.function.Consumer)}.
+	 *
+	 * @param blackhole the consumer of the elements.
+	 * @throws IOException if the files cannot be read.
+	 */
+	@Benchmark
+	public void loadShapeFile(Blackhole blackhole) throws IOException {
+		final GISShapeFileLoader loader = new GISShapeFileLoader(
+				this.shapeFile.toURI().toURL(), null, this.dbaseFile.toURI().toURL());
+		loader.load(MapPolyline.class, blackhole::consume);
+	}
+
+}
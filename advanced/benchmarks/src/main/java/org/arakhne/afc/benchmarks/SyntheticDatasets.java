@@ -0,0 +1,241 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.arakhne.afc.attrs.collection.HeapAttributeCollection;
+import org.arakhne.afc.gis.io.shape.GISShapeFileWriter;
+import org.arakhne.afc.gis.location.GeoLocationUtil;
+import org.arakhne.afc.gis.mapelement.MapPolyline;
+import org.arakhne.afc.gis.road.RoadPolyline;
+import org.arakhne.afc.gis.road.StandardRoadNetwork;
+import org.arakhne.afc.gis.road.primitive.RoadType;
+import org.arakhne.afc.gis.road.primitive.TrafficDirection;
+import org.arakhne.afc.io.dbase.DBaseFileWriter;
+import org.arakhne.afc.io.shape.ShapeElementType;
+import org.arakhne.afc.math.geometry.d2.d.Path2d;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
+import org.arakhne.afc.vmutil.FileSystem;
+
+/** Generators of the synthetic datasets that are used by the benchmarks.
+ *
+ * <p>All the generators are deterministic: the same seed and the same sizes
+ * always produce the same dataset, so that the results of the benchmarks may be
+ * compared between two versions of the library.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ */
+public final class SyntheticDatasets {
+
+	/** Default seed of the random generators.
+	 */
+	public static final long DEFAULT_SEED = 0x5EEDL;
+
+	private static final int GRID_JITTER_RATIO = 4;
+
+	private static final int ONE_WAY_MODULO = 7;
+
+	private static final int NO_ENTRY_MODULO = 11;
+
+	private static final int MAJOR_ROAD_MODULO = 5;
+
+	private SyntheticDatasets() {
+		//
+	}
+
+	/** Create a star-shaped polygon with random radii.
+	 * The polygon is simple, and its vertices are ordered counterclockwise.
+	 *
+	 * @param random the random generator.
+	 * @param cx x coordinate of the center of the polygon.
+	 * @param cy y coordinate of the center of the polygon.
+	 * @param radius the maximal distance between the center and the vertices.
+	 * @param vertexCount the number of vertices.
+	 * @return the polygon.
+	 */
+	public static Path2d newStarPolygon(Random random, double cx, double cy, double radius, int vertexCount) {
+		final Path2d path = new Path2d();
+		for (int i = 0; i < vertexCount; ++i) {
+			final double angle = 2. * Math.PI * i / vertexCount;
+			final double distance = radius * (.25 + .75 * random.nextDouble());
+			final double x = cx + distance * Math.cos(angle);
+			final double y = cy + distance * Math.sin(angle);
+			if (i == 0) {
+				path.moveTo(x, y);
+			} else {
+				path.lineTo(x, y);
+			}
+		}
+		path.closePath();
+		return path;
+	}
+
+	/** Create random points that are uniformly distributed into a rectangle.
+	 *
+	 * @param random the random generator.
+	 * @param count the number of points.
+	 * @param bounds the rectangle.
+	 * @return the coordinates of the points, packed as {@code x0, y0, x1, y1...}
+	 */
+	public static double[] newPoints(Random random, int count, Rectangle2d bounds) {
+		final double[] coordinates = new double[count * 2];
+		for (int i = 0; i < coordinates.length; i += 2) {
+			coordinates[i] = bounds.getMinX() + random.nextDouble() * bounds.getWidth();
+			coordinates[i + 1] = bounds.getMinY() + random.nextDouble() * bounds.getHeight();
+		}
+		return coordinates;
+	}
+
+	/** Create random segments into a rectangle.
+	 *
+	 * @param random the random generator.
+	 * @param count the number of segments.
+	 * @param bounds the rectangle that contains the first points of the segments.
+	 * @param maxLength the maximal length of the projection of the segments on the axes.
+	 * @return the coordinates of the segments, packed as {@code x1, y1, x2, y2...}
+	 */
+	public static double[] newSegments(Random random, int count, Rectangle2d bounds, double maxLength) {
+		final double[] coordinates = new double[count * 4];
+		for (int i = 0; i < coordinates.length; i += 4) {
+			final double x = bounds.getMinX() + random.nextDouble() * bounds.getWidth();
+			final double y = bounds.getMinY() + random.nextDouble() * bounds.getHeight();
+			coordinates[i] = x;
+			coordinates[i + 1] = y;
+			coordinates[i + 2] = x + (random.nextDouble() * 2. - 1.) * maxLength;
+			coordinates[i + 3] = y + (random.nextDouble() * 2. - 1.) * maxLength;
+		}
+		return coordinates;
+	}
+
+	/** Create random polylines into a rectangle.
+	 *
+	 * @param random the random generator.
+	 * @param count the number of polylines.
+	 * @param bounds the rectangle that contains the first points of the polylines.
+	 * @param pointCount the number of points of each polyline.
+	 * @param maxStep the maximal length of the projection of each polyline section on the axes.
+	 * @return the polylines.
+	 */
+	public static List<MapPolyline> newPolylines(Random random, int count, Rectangle2d bounds,
+			int pointCount, double maxStep) {
+		final List<MapPolyline> polylines = new ArrayList<>(count);
+		for (int i = 0; i < count; ++i) {
+			final MapPolyline polyline = new MapPolyline(new HeapAttributeCollection());
+			double x = bounds.getMinX() + random.nextDouble() * bounds.getWidth();
+			double y = bounds.getMinY() + random.nextDouble() * bounds.getHeight();
+			polyline.addPoint(x, y);
+			for (int j = 1; j < pointCount; ++j) {
+				x += (random.nextDouble() * 2. - 1.) * maxStep;
+				y += (random.nextDouble() * 2. - 1.) * maxStep;
+				polyline.addPoint(x, y);
+			}
+			polyline.setAttribute("NAME", "polyline" + i); //$NON-NLS-1$ //$NON-NLS-2$
+			polyline.setAttribute("INDEX", i); //$NON-NLS-1$
+			polyline.setAttribute("WEIGHT", random.nextDouble()); //$NON-NLS-1$
+			polylines.add(polyline);
+		}
+		return polylines;
+	}
+
+	/** Create a road network that is a grid of jittered connections.
+	 *
+	 * <p>The connection at column {@code i} and row {@code j} is close to the point
+	 * {@code (i * spacing, j * spacing)}. Each connection is linked to its right and
+	 * upper neighbors. Some of the segments are one-way roads, and some of them are major roads.
+	 *
+	 * @param size the number of connections on each side of the grid.
+	 * @param spacing the distance between two adjacent rows or columns.
+	 * @param seed the seed of the random generator.
+	 * @return the road network.
+	 */
+	public static StandardRoadNetwork newRoadGrid(int size, double spacing, long seed) {
+		GeoLocationUtil.setGISCoordinateSystemAsDefault();
+		final Random random = new Random(seed);
+		final double jitter = spacing / GRID_JITTER_RATIO;
+		final double[][] xs = new double[size][size];
+		final double[][] ys = new double[size][size];
+		for (int i = 0; i < size; ++i) {
+			for (int j = 0; j < size; ++j) {
+				xs[i][j] = i * spacing + random.nextDouble() * jitter;
+				ys[i][j] = j * spacing + random.nextDouble() * jitter;
+			}
+		}
+		final double extent = size * spacing;
+		final StandardRoadNetwork network = new StandardRoadNetwork(
+				new Rectangle2d(-spacing, -spacing, extent + spacing, extent + spacing),
+				new HeapAttributeCollection());
+		int index = 0;
+		for (int i = 0; i < size; ++i) {
+			for (int j = 0; j < size; ++j) {
+				if (i + 1 < size) {
+					network.addRoadSegment(newRoadSegment(xs[i][j], ys[i][j], xs[i + 1][j], ys[i + 1][j], index));
+				}
+				if (j + 1 < size) {
+					network.addRoadSegment(newRoadSegment(xs[i][j], ys[i][j], xs[i][j + 1], ys[i][j + 1], index + 1));
+				}
+				++index;
+			}
+		}
+		return network;
+	}
+
+	private static RoadPolyline newRoadSegment(double x1, double y1, double x2, double y2, int index) {
+		final RoadPolyline segment = new RoadPolyline(new HeapAttributeCollection());
+		segment.addPoint(x1, y1);
+		segment.addPoint(x2, y2);
+		if (index % ONE_WAY_MODULO == 0) {
+			segment.setTrafficDirection(TrafficDirection.ONE_WAY);
+		} else if (index % NO_ENTRY_MODULO == 0) {
+			segment.setTrafficDirection(TrafficDirection.NO_ENTRY);
+		}
+		segment.setRoadType(index % MAJOR_ROAD_MODULO == 0 ? RoadType.MAJOR_ROAD : RoadType.LOCAL_ROAD);
+		return segment;
+	}
+
+	/** Write the given polylines into a shape file and its attribute file.
+	 *
+	 * @param shapeFile the shape file to create.
+	 * @param polylines the polylines to write.
+	 * @param bounds the bounds of the polylines.
+	 * @return the dBase file that contains the attributes of the polylines.
+	 * @throws IOException if the files cannot be written.
+	 */
+	public static File writeShapeFile(File shapeFile, List<MapPolyline> polylines, Rectangle2d bounds)
+			throws IOException {
+		final File dbaseFile = FileSystem.replaceExtension(shapeFile, ".dbf"); //$NON-NLS-1$
+		try (DBaseFileWriter dbaseWriter = new DBaseFileWriter(dbaseFile);
+				GISShapeFileWriter writer = new GISShapeFileWriter(shapeFile, ShapeElementType.POLYLINE, bounds,
+						dbaseWriter)) {
+			writer.write(polylines);
+		}
+		return dbaseFile;
+	}
+
+}
@@ -29,7 +29,9 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.URI;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
@@ -143,6 +145,12 @@ public class DBaseFileReader implements Iterable<AttributeProvider>, AutoCloseab
 	 */
 	private final LittleEndianDataInputStream stream;
 
+	/** Channel on the DBF file that permits to read the records at any position,
+	 * or {@code null} if the input is not a file.
+	 * @since 18.0
+	 */
+	private final FileChannel channel;
+
 	/** Count of records in the DBF file.
 	 */
 	private transient int recordCount = -1;
@@ -170,6 +178,11 @@ public class DBaseFileReader implements Iterable<AttributeProvider>, AutoCloseab
 	 */
 	private transient ArrayList<DBaseFileField> fields;
 
+	/** Offsets of the fields inside a record, including the deletion flag.
+	 * @since 18.0
+	 */
+	private transient int[] fieldOffsets;
+
 	/** List of columns that must be replied.
 	 */
 	private transient List<DBaseFileField> selectedColumns = new ArrayList<>();
@@ -203,8 +216,8 @@ public class DBaseFileReader implements Iterable<AttributeProvider>, AutoCloseab
 	 */
 	@SuppressWarnings("resource")
 	public DBaseFileReader(InputStream inputStream) {
-		this.stream = (inputStream instanceof LittleEndianDataInputStream)
-				? (LittleEndianDataInputStream) inputStream : new LittleEndianDataInputStream(inputStream);
+		this(inputStream,
+				(inputStream instanceof FileInputStream) ? ((FileInputStream) inputStream).getChannel() : null);
 	}
 
 	/** Constructor.
@@ -231,7 +244,19 @@ public class DBaseFileReader implements Iterable<AttributeProvider>, AutoCloseab
 	 * @param channel is the channel to read.
 	 */
 	public DBaseFileReader(ReadableByteChannel channel) {
-		this(Channels.newInputStream(channel));
+		this(Channels.newInputStream(channel),
+				(channel instanceof FileChannel) ? (FileChannel) channel : null);
+	}
+
+	/** Constructor.
+	 *
+	 * @param inputStream is the stream to read.
+	 * @param channel is the file channel that is associated to the stream, or {@code null}.
+	 */
+	private DBaseFileReader(InputStream inputStream, FileChannel channel) {
+		this.stream = (inputStream instanceof LittleEndianDataInputStream)
+				? (LittleEndianDataInputStream) inputStream : new LittleEndianDataInputStream(inputStream);
+		this.channel = channel;
 	}
 
 	private static String columnize(String string, int length) {
@@ -693,6 +718,7 @@ public class DBaseFileReader implements Iterable<AttributeProvider>, AutoCloseab
 		// A field contains at least the "removal flag" byte
 		int byteSize = 1;
 		final ArrayList<DBaseFileField> array = new ArrayList<>();
+		final int[] offsets = new int[this.fieldCount];
 		final Charset charSet = (this.codePage == null) ? null : this.codePage.getChatset();
 		String columnName;
 
@@ -747,6 +773,7 @@ public class DBaseFileReader implements Iterable<AttributeProvider>, AutoCloseab
 					header[17] & 0xFF,
 					idxFields);
 			array.add(field);
+			offsets[idxFields] = byteSize;
 			byteSize += field.getLength();
 		}
 
@@ -764,6 +791,7 @@ public class DBaseFileReader implements Iterable<AttributeProvider>, AutoCloseab
 		// Update the offset of the first record with the end-of-header character
 		++this.firstRecordOffset;
 
+		this.fieldOffsets = offsets;
 		this.fields = array;
 
 		// Save the position inside the input stream for seeking function
@@ -833,11 +861,16 @@ public class DBaseFileReader implements Iterable<AttributeProvider>, AutoCloseab
 	 * If the index is greater or equals to the count of records, the exception
 	 * {@link EOFException} will be thrown.
 	 *
+	 * <p>If the reader is backed by a file channel (see {@link #isRandomAccessSupported()}),
+	 * the reading head is directly moved to the offset of the record.
+	 * Otherwise the stream is reset to the first record and the preceding records
+	 * are skipped.
+	 *
 	 * @param recordIndex is the index of record to reply at the next read.
 	 * @throws IOException in case of error.
 	 */
 	public void seek(int recordIndex) throws IOException {
-		if (!this.stream.markSupported()) {
+		if (this.channel == null && !this.stream.markSupported()) {
 			throw new UnsupportedSeekOperationException();
 		}
 		if (this.recordCount == -1) {
@@ -852,6 +885,11 @@ public class DBaseFileReader implements Iterable<AttributeProvider>, AutoCloseab
 		}
 
 		this.readingPosition = ri;
+		if (this.channel != null) {
+			// The stream has no internal buffer, so moving the channel moves the stream
+			this.channel.position(getRecordOffset(ri));
+			return;
+		}
 		// Goto the first record
 		this.stream.reset();
 		// Skip until the next record to read
@@ -942,14 +980,47 @@ public class DBaseFileReader implements Iterable<AttributeProvider>, AutoCloseab
 		//                    the bytes 10..11 of the dBASE header
 
 		// Compute the offset
-		final long offset = this.readingPosition * this.recordSize + this.firstRecordOffset;
+		final long offset = getRecordOffset(this.readingPosition);
 
 		// Read the record
 		final byte[] rawData = new byte[this.recordSize];
 		this.stream.readFully(rawData);
 
-		// Read the deleted flag
-		final int deletedFlag = rawData[0] & 0xFF;
+		if (isDeletedRecord(recordNumber, rawData[0])) {
+			return null;
+		}
+
+		final DBaseFileRecord record = new DBaseFileRecord(recordNumber, offset);
+		for (int i = 0; i < this.fieldCount; ++i) {
+			final DBaseFileField field = this.fields.get(i);
+			if (field != null) {
+				record.add(readFieldValue(field, recordNumber, i, rawData, this.fieldOffsets[i]));
+			}
+		}
+
+		return record;
+	}
+
+	/** Replies the offset of the given record in the dBASE file.
+	 *
+	 * @param recordNumber is the number of the record.
+	 * @return the offset of the record from the start of the file.
+	 */
+	@Pure
+	private long getRecordOffset(int recordNumber) {
+		return this.firstRecordOffset + (long) recordNumber * this.recordSize;
+	}
+
+	/** Decode the deletion flag of a record.
+	 *
+	 * @param recordNumber is the number of the record.
+	 * @param flag is the deletion flag, i.e. the first byte of the record.
+	 * @return <code>true</code> if the record is marked as deleted, <code>false</code> otherwise.
+	 * @throws IOException in case of error.
+	 */
+	@SuppressWarnings("checkstyle:magicnumber")
+	private static boolean isDeletedRecord(int recordNumber, byte flag) throws IOException {
+		final int deletedFlag = flag & 0xFF;
 		if (deletedFlag == 0x1A) {
 			// END-OF-FILE character
 			throw new EOFException();
@@ -957,90 +1028,186 @@ public class DBaseFileReader implements Iterable<AttributeProvider>, AutoCloseab
 		if (deletedFlag != '*' && deletedFlag != ' ') {
 			throw new InvalidDeletionFlagFormatException(recordNumber, deletedFlag);
 		}
-		if (deletedFlag == '*') {
+		return deletedFlag == '*';
+	}
+
+	/** Decode the value of a field from the raw data of a record.
+	 *
+	 * @param field is the field to decode.
+	 * @param recordNumber is the number of the record.
+	 * @param fieldIndex is the index of the field.
+	 * @param rawData raw data of the record.
+	 * @param rawOffset is the index at which the data of the field could be obtained.
+	 * @return the value, or {@code null} if the type of the field is not supported.
+	 * @throws IOException in case of error.
+	 */
+	@SuppressWarnings({"checkstyle:cyclomaticcomplexity", "checkstyle:returncount"})
+	private Object readFieldValue(DBaseFileField field, int recordNumber, int fieldIndex, byte[] rawData,
+			int rawOffset) throws IOException {
+		final int nfield = fieldIndex + 1;
+		switch (field.getType()) {
+		//
+		// Read a list of characters
+		case STRING:
+			final OutputParameter<String> strvalue = new OutputParameter<>();
+			readStringRecordValue(field, recordNumber, nfield, rawData, rawOffset, strvalue);
+			return strvalue.get();
+		//
+		// Read a date
+		case DATE:
+			final OutputParameter<Date> datevalue = new OutputParameter<>();
+			readDateRecordValue(field, recordNumber, nfield, rawData, rawOffset, datevalue);
+			return datevalue.get();
+		//
+		// Read a number
+		case NUMBER:
+		case FLOATING_NUMBER:
+			final OutputParameter<Double> dblvalue = new OutputParameter<>();
+			readNumberRecordValue(field, recordNumber, nfield, rawData, rawOffset, dblvalue);
+			return dblvalue.get();
+		//
+		// Read a boolean
+		case BOOLEAN:
+			final OutputParameter<Boolean> boolvalue = new OutputParameter<>();
+			readBooleanRecordValue(field, recordNumber, nfield, rawData, rawOffset, boolvalue);
+			return boolvalue.get();
+		//
+		// Read a 2 byte integer
+		case INTEGER_2BYTES:
+			final OutputParameter<Integer> intvalue = new OutputParameter<>();
+			read2ByteIntegerRecordValue(field, recordNumber, nfield, rawData, rawOffset, intvalue);
+			return intvalue.get();
+		//
+		// Read a 4 byte integer
+		case INTEGER_4BYTES:
+			final OutputParameter<Long> longvalue = new OutputParameter<>();
+			read4ByteIntegerRecordValue(field, recordNumber, nfield, rawData, rawOffset, longvalue);
+			return longvalue.get();
+		//
+		// Read a 8 byte double
+		case DOUBLE:
+			final OutputParameter<Double> dblvalue2 = new OutputParameter<>();
+			read8ByteDoubleRecordValue(field, recordNumber, nfield, rawData, rawOffset, dblvalue2);
+			return dblvalue2.get();
+			//$CASES-OMITTED$
+		default:
 			return null;
 		}
+	}
 
-		int rawOffset = 1;
+	/** Replies if this reader is able to read the records at any position
+	 * without moving the reading head, i.e. if it is backed by a file channel.
+	 *
+	 * @return <code>true</code> if {@link #readDBFRecordAt(int)} and
+	 *     {@link #readDBFFieldValueAt(int, int, OutputParameter)} are supported.
+	 * @since 18.0
+	 * @see #DBaseFileReader(File)
+	 * @see #DBaseFileReader(ReadableByteChannel)
+	 */
+	@Pure
+	public boolean isRandomAccessSupported() {
+		return this.channel != null;
+	}
 
-		final DBaseFileRecord record = new DBaseFileRecord(recordNumber, offset);
+	/** Read the record at the given index without moving the reading head.
+	 *
+	 * <p>The record is read with a positional read on the file channel.
+	 * This function may be invoked by several threads at the same time,
+	 * once the header and the fields were read.
+	 *
+	 * @param recordIndex is the index of the record to read, from {@code 0} to
+	 *     {@link #getDBFRecordCount()} (exclusive).
+	 * @return the record, or {@code null} if the record is marked as deleted.
+	 * @throws UnsupportedSeekOperationException if the reader is not backed by a file channel.
+	 * @throws EOFException if the index is outside the file.
+	 * @throws IOException in case of error.
+	 * @since 18.0
+	 * @see #isRandomAccessSupported()
+	 */
+	public DBaseFileRecord readDBFRecordAt(int recordIndex) throws IOException {
+		final byte[] rawData = readRawRecordAt(recordIndex, this.recordSize);
+		if (isDeletedRecord(recordIndex, rawData[0])) {
+			return null;
+		}
+		final DBaseFileRecord record = new DBaseFileRecord(recordIndex, getRecordOffset(recordIndex));
 		for (int i = 0; i < this.fieldCount; ++i) {
-
 			final DBaseFileField field = this.fields.get(i);
 			if (field != null) {
-
-				Object value = null;
-
-				// Read the content of the record
-				switch (field.getType()) {
-				//
-				// Read a list of characters
-				case STRING:
-					final OutputParameter<String> strvalue = new OutputParameter<>();
-					rawOffset += readStringRecordValue(
-							field,
-							recordNumber, i + 1,
-							rawData, rawOffset,
-							strvalue);
-					value = strvalue.get();
-					break;
-				//
-				// Read a date
-				case DATE:
-					final OutputParameter<Date> datevalue = new OutputParameter<>();
-					rawOffset += readDateRecordValue(field, recordNumber, i + 1, rawData, rawOffset, datevalue);
-					value = datevalue.get();
-					break;
-				//
-				// Read a number
-				case NUMBER:
-				case FLOATING_NUMBER:
-					final OutputParameter<Double> dblvalue = new OutputParameter<>();
-					rawOffset += readNumberRecordValue(field, recordNumber, i + 1, rawData, rawOffset, dblvalue);
-					value = dblvalue.get();
-					break;
-				//
-				// Read a boolean
-				case BOOLEAN:
-					final OutputParameter<Boolean> boolvalue = new OutputParameter<>();
-					rawOffset += readBooleanRecordValue(field, recordNumber, i + 1, rawData, rawOffset, boolvalue);
-					value = boolvalue.get();
-					break;
-				//
-				// Read a 2 byte integer
-				case INTEGER_2BYTES:
-					final OutputParameter<Integer> intvalue = new OutputParameter<>();
-					rawOffset += read2ByteIntegerRecordValue(field, recordNumber, i + 1, rawData, rawOffset, intvalue);
-					value = intvalue.get();
-					break;
-				//
-				// Read a 4 byte integer
-				case INTEGER_4BYTES:
-					final OutputParameter<Long> longvalue = new OutputParameter<>();
-					rawOffset += read4ByteIntegerRecordValue(field, recordNumber, i + 1, rawData, rawOffset, longvalue);
-					value = longvalue.get();
-					break;
-				//
-				// Read a 8 byte double
-				case DOUBLE:
-					final OutputParameter<Double> dblvalue2 = new OutputParameter<>();
-					rawOffset += read8ByteDoubleRecordValue(field, recordNumber, i + 1, rawData, rawOffset, dblvalue2);
-					value = dblvalue2.get();
-					break;
-					//$CASES-OMITTED$
-				default:
-				}
-
-				if (value != null) {
-					record.add(value);
-				} else {
-					record.add(null);
-				}
+				record.add(readFieldValue(field, recordIndex, i, rawData, this.fieldOffsets[i]));
 			}
+		}
+		return record;
+	}
 
+	/** Read the value of a single field of the record at the given index without
+	 * moving the reading head.
+	 *
+	 * <p>Only the bytes of the record until the end of the given field are read,
+	 * and only the given field is decoded.
+	 * This function may be invoked by several threads at the same time,
+	 * once the header and the fields were read.
+	 *
+	 * @param recordIndex is the index of the record to read, from {@code 0} to
+	 *     {@link #getDBFRecordCount()} (exclusive).
+	 * @param column is the index of the field to read.
+	 * @param deleted is set with <code>true</code> if the record is marked as deleted, <code>false</code>
+	 *     otherwise. It may be {@code null}.
+	 * @return the value of the field, or {@code null} if the record is deleted or the value is not set.
+	 * @throws UnsupportedSeekOperationException if the reader is not backed by a file channel.
+	 * @throws EOFException if the index is outside the file.
+	 * @throws IndexOutOfBoundsException if the column index is invalid.
+	 * @throws IOException in case of error.
+	 * @since 18.0
+	 * @see #isRandomAccessSupported()
+	 */
+	public Object readDBFFieldValueAt(int recordIndex, int column, OutputParameter<Boolean> deleted)
+			throws IOException {
+		if (this.fields != null && (column < 0 || column >= this.fieldCount)) {
+			throw new IndexOutOfBoundsException(Integer.toString(column));
+		}
+		final int end = (this.fields == null) ? 0 : this.fieldOffsets[column] + this.fields.get(column).getLength();
+		final byte[] rawData = readRawRecordAt(recordIndex, end);
+		final boolean isDeleted = isDeletedRecord(recordIndex, rawData[0]);
+		if (deleted != null) {
+			deleted.set(Boolean.valueOf(isDeleted));
+		}
+		if (isDeleted) {
+			return null;
 		}
+		return readFieldValue(this.fields.get(column), recordIndex, column, rawData, this.fieldOffsets[column]);
+	}
 
-		return record;
+	/** Read the first bytes of a record with a positional read on the file channel.
+	 *
+	 * @param recordIndex is the index of the record to read.
+	 * @param length is the number of bytes to read from the start of the record.
+	 * @return the raw data.
+	 * @throws IOException in case of error.
+	 */
+	private byte[] readRawRecordAt(int recordIndex, int length) throws IOException {
+		if (this.channel == null) {
+			throw new UnsupportedSeekOperationException();
+		}
+		if (this.finished) {
+			throw new EOFDBaseFileException();
+		}
+		if (this.fields == null) {
+			throw new MustCallReadHeaderFunctionException();
+		}
+		if (recordIndex < 0 || recordIndex >= this.recordCount) {
+			throw new EOFException();
+		}
+		final byte[] rawData = new byte[length];
+		final ByteBuffer buffer = ByteBuffer.wrap(rawData);
+		long position = getRecordOffset(recordIndex);
+		while (buffer.hasRemaining()) {
+			final int count = this.channel.read(buffer, position);
+			if (count < 0) {
+				throw new EOFException();
+			}
+			position += count;
+		}
+		return rawData;
 	}
 
 	/** Read a STRING record value.
@@ -42,7 +42,9 @@ import org.arakhne.afc.io.dbase.DBaseFileReader;
 import org.arakhne.afc.io.dbase.DBaseFileRecord;
 import org.arakhne.afc.references.WeakValueTreeMap;
 import org.arakhne.afc.util.OutputParameter;
+import org.arakhne.afc.vmutil.FileSystem;
 import org.arakhne.afc.vmutil.Resources;
+import org.arakhne.afc.vmutil.URISchemeType;
 
 /**
  * This class provides a pool of attributes obtained from
@@ -82,7 +84,7 @@ public final class DBaseFileAttributePool {
 
 	/** Raw reader of the dBase file.
 	 */
-	private transient DBaseFileReader reader;
+	private transient volatile DBaseFileReader reader;
 
 	/** Create an attribute pool from the specified local resource.
 	 *
@@ -314,9 +316,10 @@ public final class DBaseFileAttributePool {
 	 */
 	public void close() throws IOException {
 		this.accessors.clear();
-		if (this.reader != null) {
-			this.reader.close();
+		final DBaseFileReader dbReader = this.reader;
+		if (dbReader != null) {
 			this.reader = null;
+			dbReader.close();
 		}
 	}
 
@@ -347,13 +350,26 @@ public final class DBaseFileAttributePool {
 	 * @throws IOException in case of error.
 	 */
 	@Pure
+	@SuppressWarnings("resource")
 	protected DBaseFileReader getReader() throws IOException {
-		if (this.reader == null) {
-			this.reader = new DBaseFileReader(this.url.openStream());
-			this.reader.readDBFHeader();
-			this.reader.readDBFFields();
+		DBaseFileReader dbReader = this.reader;
+		if (dbReader == null) {
+			synchronized (this) {
+				dbReader = this.reader;
+				if (dbReader == null) {
+					// Local files are opened through a file channel in order to enable random access.
+					if (URISchemeType.FILE.isURL(this.url)) {
+						dbReader = new DBaseFileReader(FileSystem.convertURLToFile(this.url));
+					} else {
+						dbReader = new DBaseFileReader(this.url.openStream());
+					}
+					dbReader.readDBFHeader();
+					dbReader.readDBFFields();
+					this.reader = dbReader;
+				}
+			}
 		}
-		return this.reader;
+		return dbReader;
 	}
 
 	/**
@@ -408,6 +424,9 @@ public final class DBaseFileAttributePool {
 	 * Replies the raw value that corresponds to the specified
 	 * attribute name for the given record.
 	 *
+	 * <p>If the dBase file is a local file, only the requested column of the record
+	 * is read and decoded, without locking the reader.
+	 *
 	 * @param recordNumber is the index of the record to read ({@code 0..recordCount-1}).
 	 * @param name is the name of the attribute value to replies.
 	 * @param type is the type of the replied value. Tis attribute will be set by this function.
@@ -419,6 +438,18 @@ public final class DBaseFileAttributePool {
 	public Object getRawValue(int recordNumber, String name, OutputParameter<AttributeType> type) throws AttributeException {
 		try {
 			final DBaseFileReader dbReader = getReader();
+			if (dbReader.isRandomAccessSupported()) {
+				final int column = dbReader.getDBFFieldIndex(name);
+				if (column >= 0) {
+					final OutputParameter<Boolean> deleted = new OutputParameter<>(Boolean.FALSE);
+					final Object value = dbReader.readDBFFieldValueAt(recordNumber, column, deleted);
+					if (!deleted.get().booleanValue()) {
+						type.set(dbReader.getDBFFieldType(column).toAttributeType());
+						return value;
+					}
+				}
+				throw new NoAttributeFoundException(name);
+			}
 			synchronized (dbReader) {
 				dbReader.seek(recordNumber);
 				final DBaseFileRecord record = dbReader.readNextDBFRecord();
@@ -28,6 +28,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.EOFException;
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
@@ -41,6 +42,8 @@ import org.junit.jupiter.api.Test;
 
 import org.arakhne.afc.attrs.collection.AttributeProvider;
 import org.arakhne.afc.testtools.AbstractTestCase;
+import org.arakhne.afc.util.OutputParameter;
+import org.arakhne.afc.vmutil.FileSystem;
 import org.arakhne.afc.vmutil.Resources;
 import org.arakhne.afc.vmutil.locale.Locale;
  
@@ -564,6 +567,118 @@ public class DBaseFileReaderTest extends AbstractTestCase {
     	assertEquals("Eglise", record.getFieldValue(2)); //$NON-NLS-1$
     	assertEquals(14., record.getFieldValue(3));
     }
+
+	@Test
+    public void testSeekInteger_fileChannel() throws Exception {
+		final File file = FileSystem.convertURLToFile(Resources.getResource(TEST_FILENAME));
+		try (DBaseFileReader fileReader = new DBaseFileReader(file)) {
+			assertTrue(fileReader.isRandomAccessSupported());
+			fileReader.readDBFHeader();
+			fileReader.readDBFFields();
+
+			fileReader.seek(17);
+			DBaseFileRecord record = fileReader.readNextDBFRecord();
+			assertNotNull(record);
+			assertEquals(17, record.getRecordIndex());
+			assertEquals(161 + 94 * 17, record.getRecordOffset());
+			assertEquals(35., record.getFieldValue(3));
+
+			fileReader.seek(7);
+			record = fileReader.readNextDBFRecord();
+			assertNotNull(record);
+			assertEquals(7, record.getRecordIndex());
+			assertEquals(7., record.getFieldValue(3));
+
+			record = fileReader.readNextDBFRecord();
+			assertNotNull(record);
+			assertEquals(8, record.getRecordIndex());
+			assertEquals(5., record.getFieldValue(3));
+		}
+    }
+
+	@Test
+    public void testReadDBFRecordAtInteger() throws Exception {
+		assertFalse(this.reader.isRandomAccessSupported());
+		final File file = FileSystem.convertURLToFile(Resources.getResource(TEST_FILENAME));
+		try (DBaseFileReader fileReader = new DBaseFileReader(file)) {
+			try {
+				fileReader.readDBFRecordAt(0);
+				fail("MustCallReadHeaderFunctionException is expected"); //$NON-NLS-1$
+			} catch (MustCallReadHeaderFunctionException exception) {
+				// Expected exception
+			}
+			fileReader.readDBFHeader();
+			fileReader.readDBFFields();
+
+			DBaseFileRecord record = fileReader.readDBFRecordAt(17);
+			assertNotNull(record);
+			assertEquals(17, record.getRecordIndex());
+			assertEquals(161 + 94 * 17, record.getRecordOffset());
+			assertEquals(PHOTOGRAMMETRIE_VALUE, record.getFieldValue(0));
+			assertEquals("Religieux", record.getFieldValue(1)); //$NON-NLS-1$
+			assertEquals("Eglise", record.getFieldValue(2)); //$NON-NLS-1$
+			assertEquals(35., record.getFieldValue(3));
+
+			record = fileReader.readDBFRecordAt(0);
+			assertNotNull(record);
+			assertEquals(0, record.getRecordIndex());
+			assertEquals(BDTOPO_VALUE, record.getFieldValue(0));
+			assertEquals(BATIMENT_RELIGIEUX_VALUE, record.getFieldValue(2));
+			assertEquals(15., record.getFieldValue(3));
+
+			// The reading head is not moved
+			record = fileReader.readNextDBFRecord();
+			assertNotNull(record);
+			assertEquals(0, record.getRecordIndex());
+			record = fileReader.readNextDBFRecord();
+			assertNotNull(record);
+			assertEquals(1, record.getRecordIndex());
+			assertEquals(7., record.getFieldValue(3));
+
+			try {
+				fileReader.readDBFRecordAt(21);
+				fail("EOFException is expected"); //$NON-NLS-1$
+			} catch (EOFException exception) {
+				// Expected exception
+			}
+		}
+    }
+
+	@Test
+    public void testReadDBFRecordAtInteger_notFileChannel() throws Exception {
+    	this.reader.readDBFHeader();
+    	this.reader.readDBFFields();
+		try {
+			this.reader.readDBFRecordAt(0);
+			fail("UnsupportedSeekOperationException is expected"); //$NON-NLS-1$
+		} catch (UnsupportedSeekOperationException exception) {
+			// Expected exception
+		}
+    }
+
+	@Test
+    public void testReadDBFFieldValueAtIntegerIntegerOutputParameter() throws Exception {
+		final File file = FileSystem.convertURLToFile(Resources.getResource(TEST_FILENAME));
+		try (DBaseFileReader fileReader = new DBaseFileReader(file)) {
+			fileReader.readDBFHeader();
+			fileReader.readDBFFields();
+
+			final OutputParameter<Boolean> deleted = new OutputParameter<>();
+			assertEquals(35., fileReader.readDBFFieldValueAt(17, 3, deleted));
+			assertFalse(deleted.get());
+			assertEquals(PHOTOGRAMMETRIE_VALUE, fileReader.readDBFFieldValueAt(17, 0, deleted));
+			assertEquals("Eglise", fileReader.readDBFFieldValueAt(3, 2, null)); //$NON-NLS-1$
+			assertEquals(BATIMENT_RELIGIEUX_VALUE, fileReader.readDBFFieldValueAt(0, 2, null));
+			assertEquals(15., fileReader.readDBFFieldValueAt(0, 3, null));
+
+			try {
+				fileReader.readDBFFieldValueAt(0, 4, null);
+				fail("IndexOutOfBoundsException is expected"); //$NON-NLS-1$
+			} catch (IndexOutOfBoundsException exception) {
+				// Expected exception
+			}
+		}
+    }
     
 	@Test
     public void testReadNextAttributeProvider() throws Exception {
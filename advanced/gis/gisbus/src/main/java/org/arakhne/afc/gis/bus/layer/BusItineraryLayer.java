@@ -31,6 +31,7 @@ import org.arakhne.afc.gis.bus.network.BusChangeListener;
 import org.arakhne.afc.gis.bus.network.BusItinerary;
 import org.arakhne.afc.gis.bus.network.BusItineraryHalt;
 import org.arakhne.afc.gis.bus.network.BusPrimitiveInvalidity;
+import org.arakhne.afc.gis.coordinate.MapMetricProjection;
 import org.arakhne.afc.gis.maplayer.MapLayer;
 import org.arakhne.afc.gis.maplayer.MapLayerContentEvent;
 import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
@@ -415,6 +416,19 @@ public class BusItineraryLayer extends MapLayer implements BusLayer {
 		this.busItinerary.resetBoundingBox();
 	}
 
+	/** {@inheritDoc}
+	 *
+	 * <p>The coordinates of the itinerary are the ones of its road segments and bus stops,
+	 * that are not owned by this layer. They must be converted through the road network
+	 * and the bus network. This function only resets the bounding box of the layer.
+	 */
+	@Override
+	public void convertProjection(MapMetricProjection source, MapMetricProjection target) {
+		if (source != target) {
+			resetBoundingBox();
+		}
+	}
+
 	/** Replies the bus itinerary displayed by this layer.
 	 *
 	 * @return the bus itinerary displayed by this layer.
@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -44,6 +45,8 @@ import org.arakhne.afc.attrs.collection.HeapAttributeCollection;
 import org.arakhne.afc.gis.bus.network.BusChangeEvent.BusChangeEventType;
 import org.arakhne.afc.gis.bus.network.BusItineraryHalt.BusItineraryHaltType;
 import org.arakhne.afc.gis.location.GeoLocationPoint;
+import org.arakhne.afc.gis.primitive.GISEditable;
+import org.arakhne.afc.gis.primitive.GISEditableChangeListener;
 import org.arakhne.afc.gis.road.path.ClusteredRoadPath;
 import org.arakhne.afc.gis.road.path.CrossRoad;
 import org.arakhne.afc.gis.road.path.RoadPath;
@@ -113,6 +116,31 @@ public class BusItinerary extends AbstractBusContainer<BusLine, BusItineraryHalt
 
 	private SoftReference<Path2d> path;
 
+	/** Cumulative lengths of the road segments: the element at index {@code i} is
+	 * the sum of the lengths of the segments before the {@code i}-th segment.
+	 * It is lazily built and reset when the shape of the itinerary or of one of its
+	 * road segments changes.
+	 */
+	private double[] segmentLengthPrefix;
+
+	/** Road segments that are notifying {@link #segmentListener} while
+	 * {@link #segmentLengthPrefix} is built.
+	 */
+	private Set<GISEditable> listenedSegments;
+
+	/** Listener on the changes of the road segments of the itinerary.
+	 */
+	private final GISEditableChangeListener segmentListener = it -> resetBoundingBox();
+
+	/** Valid bus halts sorted by their x coordinates.
+	 * It is lazily built and reset when the shape of the itinerary or a bus halt changes.
+	 */
+	private BusItineraryHalt[] sortedHalts;
+
+	/** Coordinates of the halts in {@link #sortedHalts}, stored as {@code (x, y)} pairs.
+	 */
+	private double[] sortedHaltCoordinates;
+
 	/** Create bus itinerary with attributes stored in memory.
 	 *
 	 * @param busline is the line which is containing this itinerary.
@@ -579,6 +607,52 @@ public class BusItinerary extends AbstractBusContainer<BusLine, BusItineraryHalt
 	public void resetBoundingBox() {
 		super.resetBoundingBox();
 		this.path = null;
+		this.segmentLengthPrefix = null;
+		if (this.listenedSegments != null) {
+			final Set<GISEditable> segments = this.listenedSegments;
+			this.listenedSegments = null;
+			for (final GISEditable segment : segments) {
+				segment.removeGISEditableChangeListener(this.segmentListener);
+			}
+		}
+		resetHaltIndex();
+	}
+
+	/** Reset the spatial index of the valid bus halts.
+	 * This function is invoked when the position of a bus halt has changed.
+	 */
+	void resetHaltIndex() {
+		this.sortedHalts = null;
+		this.sortedHaltCoordinates = null;
+	}
+
+	/** Replies the cumulative lengths of the road segments.
+	 *
+	 * <p>When the cache is built, the itinerary starts listening to the changes of its
+	 * road segments in order to reset the cache.
+	 *
+	 * @return the prefix sums of the segment lengths; the array has one more element
+	 *     than the number of road segments.
+	 */
+	private double[] getSegmentLengthPrefix() {
+		double[] prefix = this.segmentLengthPrefix;
+		final int count = this.roadSegments.getRoadSegmentCount();
+		if (prefix == null || prefix.length != count + 1) {
+			if (this.listenedSegments == null) {
+				this.listenedSegments = Collections.newSetFromMap(new IdentityHashMap<>());
+			}
+			prefix = new double[count + 1];
+			final Iterator<RoadSegment> iterator = this.roadSegments.roadSegments();
+			for (int i = 0; i < count && iterator.hasNext(); ++i) {
+				final RoadSegment segment = iterator.next();
+				if (segment instanceof GISEditable && this.listenedSegments.add((GISEditable) segment)) {
+					((GISEditable) segment).addGISEditableChangeListener(this.segmentListener);
+				}
+				prefix[i + 1] = prefix[i] + segment.getLength();
+			}
+			this.segmentLengthPrefix = prefix;
+		}
+		return prefix;
 	}
 
 	/** Replies the path representation of this itinerary.
@@ -927,6 +1001,10 @@ public class BusItinerary extends AbstractBusContainer<BusLine, BusItineraryHalt
 	/**
 	 * Replies the distance between two bus halt.
 	 *
+	 * <p>The lengths of the road segments are cached in cumulative form. The cache
+	 * is reset when the shape of the itinerary changes, or when one of the road segments
+	 * of the itinerary notifies a change.
+	 *
 	 * @param firsthaltIndex is the index of the first bus halt.
 	 * @param lasthaltIndex is the index of the last bus halt.
 	 * @return the distance in meters between the given bus halts.
@@ -947,9 +1025,9 @@ public class BusItinerary extends AbstractBusContainer<BusLine, BusItineraryHalt
 		final int firstSegment = b1.getRoadSegmentIndex();
 		final int lastSegment = b2.getRoadSegmentIndex();
 
-		for (int i = firstSegment + 1; i < lastSegment; ++i) {
-			final RoadSegment segment = this.roadSegments.getRoadSegmentAt(i);
-			length += segment.getLength();
+		if (lastSegment > firstSegment + 1) {
+			final double[] prefix = getSegmentLengthPrefix();
+			length += prefix[lastSegment] - prefix[firstSegment + 1];
 		}
 
 		Direction1D direction = getRoadSegmentDirection(firstSegment);
@@ -1028,21 +1106,84 @@ public class BusItinerary extends AbstractBusContainer<BusLine, BusItineraryHalt
 	 */
 	@Pure
 	public BusItineraryHalt getNearestBusHalt(double x, double y) {
+		ensureHaltIndex();
+		final BusItineraryHalt[] halts = this.sortedHalts;
+		final double[] coords = this.sortedHaltCoordinates;
+		if (halts.length == 0) {
+			return null;
+		}
+
+		// Search for the first halt with a x coordinate greater than or equal to the given x.
+		int low = 0;
+		int high = halts.length;
+		while (low < high) {
+			final int mid = (low + high) >>> 1;
+			if (coords[mid * 2] < x) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+
+		// Sweep on both sides until the gap on the x axis exceeds the best distance.
 		double distance = Double.POSITIVE_INFINITY;
 		BusItineraryHalt besthalt = null;
-		double dist;
-
-		for (final BusItineraryHalt halt : this.validHalts) {
-			dist = halt.distance(x, y);
+		int left = low - 1;
+		int right = low;
+		while (left >= 0 || right < halts.length) {
+			final double leftGap = left >= 0 ? x - coords[left * 2] : Double.POSITIVE_INFINITY;
+			final double rightGap = right < halts.length ? coords[right * 2] - x : Double.POSITIVE_INFINITY;
+			final int index;
+			if (leftGap <= rightGap) {
+				if (leftGap >= distance) {
+					break;
+				}
+				index = left;
+				--left;
+			} else {
+				if (rightGap >= distance) {
+					break;
+				}
+				index = right;
+				++right;
+			}
+			final double dist = Point2D.getDistancePointPoint(coords[index * 2], coords[index * 2 + 1], x, y);
 			if (dist < distance) {
 				distance = dist;
-				besthalt = halt;
+				besthalt = halts[index];
 			}
 		}
 
 		return besthalt;
 	}
 
+	/** Build the spatial index of the valid bus halts if it is not yet available.
+	 * The halts without position are not indexed.
+	 */
+	private void ensureHaltIndex() {
+		if (this.sortedHalts == null) {
+			final List<Pair<BusItineraryHalt, GeoLocationPoint>> positions = new ArrayList<>(this.validHalts.size());
+			for (final BusItineraryHalt halt : this.validHalts) {
+				final GeoLocationPoint position = halt.getGeoPosition();
+				if (position != null && !Double.isNaN(position.getX()) && !Double.isNaN(position.getY())) {
+					positions.add(new Pair<>(halt, position));
+				}
+			}
+			positions.sort((first, second) -> Double.compare(first.getValue().getX(), second.getValue().getX()));
+			final BusItineraryHalt[] halts = new BusItineraryHalt[positions.size()];
+			final double[] coords = new double[positions.size() * 2];
+			int i = 0;
+			for (final Pair<BusItineraryHalt, GeoLocationPoint> entry : positions) {
+				halts[i] = entry.getKey();
+				coords[i * 2] = entry.getValue().getX();
+				coords[i * 2 + 1] = entry.getValue().getY();
+				++i;
+			}
+			this.sortedHaltCoordinates = coords;
+			this.sortedHalts = halts;
+		}
+	}
+
 	/**
 	 * Add a bus halt inside the bus itinerary.
 	 *
@@ -1134,6 +1275,7 @@ public class BusItinerary extends AbstractBusContainer<BusLine, BusItineraryHalt
 
 		if (halt.isValidPrimitive()) {
 			ListUtil.addIfAbsent(this.validHalts, VALID_HALT_COMPARATOR, halt);
+			resetHaltIndex();
 		} else {
 			ListUtil.addIfAbsent(this.invalidHalts, INVALID_HALT_COMPARATOR, halt);
 		}
@@ -1309,6 +1451,7 @@ public class BusItinerary extends AbstractBusContainer<BusLine, BusItineraryHalt
 		this.validHalts.toArray(halts);
 		this.validHalts.clear();
 		this.invalidHalts.clear();
+		resetHaltIndex();
 
 		for (final BusItineraryHalt bushalt : halts) {
 			bushalt.setContainer(null);
@@ -1392,6 +1535,7 @@ public class BusItinerary extends AbstractBusContainer<BusLine, BusItineraryHalt
 			final BusItineraryHalt removedBushalt;
 			if (index < this.validHalts.size()) {
 				removedBushalt = this.validHalts.remove(index);
+				resetHaltIndex();
 			} else {
 				final int idx = index - this.validHalts.size();
 				removedBushalt = this.invalidHalts.remove(idx);
@@ -2505,6 +2649,7 @@ public class BusItinerary extends AbstractBusContainer<BusLine, BusItineraryHalt
 
 	private void onBusHaltChanged(BusItineraryHalt halt) {
 		if (halt.getContainer() == this) {
+			resetHaltIndex();
 			final boolean oldValidity = !ListUtil.contains(this.invalidHalts, INVALID_HALT_COMPARATOR, halt);
 			final boolean currentValidity = halt.isValidPrimitive();
 			if (oldValidity != currentValidity) {
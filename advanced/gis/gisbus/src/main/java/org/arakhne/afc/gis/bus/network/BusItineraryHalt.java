@@ -349,6 +349,10 @@ public class BusItineraryHalt extends AbstractBusPrimitive<BusItinerary> {
 	 */
 	protected void clearPositionBuffers() {
 		this.bufferPosition1D = null;
+		final BusItinerary itinerary = getContainer();
+		if (itinerary != null) {
+			itinerary.resetHaltIndex();
+		}
 	}
 
 	/** Replies the position of the bus halt on the road.
@@ -577,6 +577,60 @@ public class BusItineraryTest extends AbstractTestCase {
 		assertSame(this.halt2, this.itinerary.getNearestBusHalt(-100., 100.));
 	}
 
+	@Test
+	public void testGetDistanceBetweenBusHaltsIntInt_intermediateSegments() {
+		initTest4();
+		double expected = 0;
+		for (int i = 1; i < 3; ++i) {
+			expected += this.itinerary.getRoadSegmentAt(i).getLength();
+		}
+		expected += 2 * (this.segment1.getLength() - 1);
+		assertEpsilonEquals(expected, this.itinerary.getDistanceBetweenBusHalts(0, 1));
+	}
+
+	@Test
+	public void testGetDistanceBetweenBusHaltsIntInt_afterShapeChange() {
+		initTest4();
+		final double before = this.itinerary.getDistanceBetweenBusHalts(0, 1);
+		final double oldLength = this.segment2.getLength();
+		this.segment2.addPoint(300., 100.);
+		final double delta = this.segment2.getLength() - oldLength;
+		// segment2 is traversed twice between the two halts
+		assertEpsilonEquals(before + 2 * delta, this.itinerary.getDistanceBetweenBusHalts(0, 1));
+	}
+
+	@Test
+	public void testGetDistanceBetweenBusHaltsIntInt_afterTwoShapeChanges() {
+		initTest4();
+		final double before = this.itinerary.getDistanceBetweenBusHalts(0, 1);
+		final double oldLength = this.segment2.getLength();
+		this.segment2.addPoint(300., 100.);
+		final double delta1 = this.segment2.getLength() - oldLength;
+		assertEpsilonEquals(before + 2 * delta1, this.itinerary.getDistanceBetweenBusHalts(0, 1));
+		this.segment2.addPoint(300., 200.);
+		final double delta2 = this.segment2.getLength() - oldLength;
+		assertEpsilonEquals(before + 2 * delta2, this.itinerary.getDistanceBetweenBusHalts(0, 1));
+	}
+
+	@Test
+	public void testGetNearestBusHaltDoubleDouble_afterHaltMove() {
+		initTest();
+		assertSame(this.halt1, this.itinerary.getNearestBusHalt(100., 100.));
+		this.halt2.setRoadSegmentIndex(0);
+		this.halt2.setPositionOnSegment((float) this.segment1.getLength() - 1f);
+		this.halt2.checkPrimitiveValidity();
+		assertSame(this.halt2, this.itinerary.getNearestBusHalt(200., 100.));
+		assertSame(this.halt1, this.itinerary.getNearestBusHalt(0., 0.));
+	}
+
+	@Test
+	public void testGetNearestBusHaltDoubleDouble_noHalt() {
+		assertNull(this.itinerary.getNearestBusHalt(0., 0.));
+		initTest();
+		this.itinerary.removeAllBusHalts();
+		assertNull(this.itinerary.getNearestBusHalt(0., 0.));
+	}
+
 	@Test
 	public void testAddBusHaltStringBusItineraryHaltType() {
 		initTest();
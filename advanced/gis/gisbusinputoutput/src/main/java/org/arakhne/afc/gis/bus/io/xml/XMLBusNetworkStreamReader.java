@@ -0,0 +1,255 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.gis.bus.io.xml;
+
+import static org.arakhne.afc.gis.bus.io.xml.XMLBusNetworkUtil.NODE_BUSHUB;
+import static org.arakhne.afc.gis.bus.io.xml.XMLBusNetworkUtil.NODE_BUSHUBS;
+import static org.arakhne.afc.gis.bus.io.xml.XMLBusNetworkUtil.NODE_BUSLINE;
+import static org.arakhne.afc.gis.bus.io.xml.XMLBusNetworkUtil.NODE_BUSLINES;
+import static org.arakhne.afc.gis.bus.io.xml.XMLBusNetworkUtil.NODE_BUSNETWORK;
+import static org.arakhne.afc.gis.bus.io.xml.XMLBusNetworkUtil.NODE_BUSSTOP;
+import static org.arakhne.afc.gis.bus.io.xml.XMLBusNetworkUtil.NODE_BUSSTOPS;
+import static org.arakhne.afc.gis.io.xml.XMLGISElementUtil.readGISElementAttributes;
+import static org.arakhne.afc.inputoutput.xml.XMLUtil.ATTR_COLOR;
+import static org.arakhne.afc.inputoutput.xml.XMLUtil.ATTR_ID;
+import static org.arakhne.afc.inputoutput.xml.XMLUtil.getAttributeColorWithDefault;
+import static org.arakhne.afc.inputoutput.xml.XMLUtil.getAttributeUUIDWithDefault;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.UUID;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+import org.w3c.dom.Element;
+
+import org.arakhne.afc.gis.bus.network.BusLine;
+import org.arakhne.afc.gis.bus.network.BusNetwork;
+import org.arakhne.afc.gis.bus.network.BusStop;
+import org.arakhne.afc.gis.road.primitive.RoadNetwork;
+import org.arakhne.afc.inputoutput.path.PathBuilder;
+import org.arakhne.afc.inputoutput.xml.XMLBuilder;
+import org.arakhne.afc.inputoutput.xml.XMLResources;
+import org.arakhne.afc.inputoutput.xml.XMLUtil;
+import org.arakhne.afc.progress.Progression;
+import org.arakhne.afc.progress.ProgressionInputStream;
+
+/** Reader of a bus network from an XML stream.
+ *
+ * <p>This reader supports the same XML representation as {@link XMLBusNetworkUtil#readBusNetwork(Element,
+ * RoadNetwork, PathBuilder, XMLResources)}. The first <code>&lt;busNetwork /&gt;</code> node of
+ * the XML document is read.
+ * In opposite to the DOM-based function, the XML document is never entirely loaded in memory.
+ * The bus network is created as soon as its start tag is read; and each bus stop, bus hub and bus
+ * line is added into the network as soon as its XML description is read. Only the XML description
+ * of one of these elements is in memory at a time. Consequently, the bus stops must appear
+ * before the bus hubs and the bus lines in the XML document, as it is the case for the documents
+ * that are written by {@link XMLBusNetworkUtil} and {@link XMLBusNetworkStreamWriter}.
+ *
+ * <p>When a task progression is given, it is based on the number of bytes that are read from the
+ * input stream.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ * @see XMLBusNetworkStreamWriter
+ */
+public class XMLBusNetworkStreamReader implements AutoCloseable {
+
+	private final InputStream input;
+
+	private final RoadNetwork roadNetwork;
+
+	private final PathBuilder pathBuilder;
+
+	private final XMLResources resources;
+
+	private Progression progression;
+
+	/** Constructor.
+	 *
+	 * @param filename is the file to read.
+	 * @param roadNetwork is the road network on which the bus network is mapped.
+	 * @param pathBuilder is the tool that permits to make absolute paths.
+	 * @param resources is the tool that permits to gather the resources.
+	 * @throws IOException in case of error.
+	 */
+	@SuppressWarnings("resource")
+	public XMLBusNetworkStreamReader(File filename, RoadNetwork roadNetwork, PathBuilder pathBuilder,
+			XMLResources resources) throws IOException {
+		this(new FileInputStream(filename), roadNetwork, pathBuilder, resources);
+	}
+
+	/** Constructor.
+	 *
+	 * @param url is the URL of the file to read.
+	 * @param roadNetwork is the road network on which the bus network is mapped.
+	 * @param pathBuilder is the tool that permits to make absolute paths.
+	 * @param resources is the tool that permits to gather the resources.
+	 * @throws IOException in case of error.
+	 */
+	public XMLBusNetworkStreamReader(URL url, RoadNetwork roadNetwork, PathBuilder pathBuilder,
+			XMLResources resources) throws IOException {
+		this(url.openStream(), roadNetwork, pathBuilder, resources);
+	}
+
+	/** Constructor.
+	 *
+	 * @param stream is the stream to read.
+	 * @param roadNetwork is the road network on which the bus network is mapped.
+	 * @param pathBuilder is the tool that permits to make absolute paths.
+	 * @param resources is the tool that permits to gather the resources.
+	 */
+	public XMLBusNetworkStreamReader(InputStream stream, RoadNetwork roadNetwork, PathBuilder pathBuilder,
+			XMLResources resources) {
+		assert stream != null;
+		this.input = stream;
+		this.roadNetwork = roadNetwork;
+		this.pathBuilder = pathBuilder;
+		this.resources = resources;
+	}
+
+	/** Replies the task progression.
+	 *
+	 * @return the task progression object associated to this reader, or <code>null</code>
+	 */
+	@Pure
+	public Progression getProgression() {
+		return this.progression;
+	}
+
+	/** Set the task progression associated to this reader.
+	 *
+	 * @param progressBar is the task progression object associated to this reader, or <code>null</code>
+	 */
+	public void setProgression(Progression progressBar) {
+		this.progression = progressBar;
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.input.close();
+	}
+
+	/** Read the bus network from the XML stream.
+	 *
+	 * @return the bus network.
+	 * @throws IOException in case of error.
+	 */
+	@SuppressWarnings("resource")
+	public BusNetwork read() throws IOException {
+		final InputStream stream;
+		if (this.progression != null) {
+			stream = new ProgressionInputStream(this.input, this.progression);
+		} else {
+			stream = this.input;
+		}
+		try {
+			final XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(stream);
+			try {
+				while (reader.hasNext()) {
+					if (reader.next() == XMLStreamConstants.START_ELEMENT
+							&& NODE_BUSNETWORK.equals(reader.getLocalName())) {
+						return readBusNetwork(reader, XMLUtil.newXMLBuilder());
+					}
+				}
+				throw new IOException("bus network node not found"); //$NON-NLS-1$
+			} finally {
+				reader.close();
+			}
+		} catch (XMLStreamException exception) {
+			throw new IOException(exception);
+		} finally {
+			if (this.progression != null) {
+				this.progression.end();
+			}
+		}
+	}
+
+	@SuppressWarnings("checkstyle:cyclomaticcomplexity")
+	private BusNetwork readBusNetwork(XMLStreamReader reader, XMLBuilder builder) throws IOException, XMLStreamException {
+		// The child nodes that are not streamed, e.g. the attributes, are added into this node
+		final Element networkNode = builder.createElement(NODE_BUSNETWORK);
+		for (int i = 0; i < reader.getAttributeCount(); ++i) {
+			networkNode.setAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+		}
+
+		final UUID id = getAttributeUUIDWithDefault(networkNode, null, ATTR_ID);
+		final BusNetwork busNetwork = new BusNetwork(id, this.roadNetwork);
+
+		while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+			final String name = reader.getLocalName();
+			if (NODE_BUSSTOPS.equals(name)) {
+				while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+					final Element stopNode = XMLUtil.readXMLElement(reader, builder);
+					if (NODE_BUSSTOP.equals(stopNode.getNodeName())) {
+						final BusStop stop = XMLBusNetworkUtil.readBusStop(stopNode, this.pathBuilder, this.resources);
+						if (stop != null) {
+							busNetwork.addBusStop(stop);
+						}
+					}
+				}
+			} else if (NODE_BUSHUBS.equals(name)) {
+				while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+					final Element hubNode = XMLUtil.readXMLElement(reader, builder);
+					if (NODE_BUSHUB.equals(hubNode.getNodeName())) {
+						XMLBusNetworkUtil.readBusHub(hubNode, busNetwork, this.pathBuilder, this.resources);
+					}
+				}
+			} else if (NODE_BUSLINES.equals(name)) {
+				while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+					final Element lineNode = XMLUtil.readXMLElement(reader, builder);
+					if (NODE_BUSLINE.equals(lineNode.getNodeName())) {
+						final BusLine line = XMLBusNetworkUtil.readBusLine(lineNode, busNetwork, this.roadNetwork,
+								this.pathBuilder, this.resources);
+						if (line != null) {
+							busNetwork.addBusLine(line);
+						}
+					}
+				}
+			} else {
+				networkNode.appendChild(XMLUtil.readXMLElement(reader, builder));
+			}
+		}
+
+		readGISElementAttributes(networkNode, busNetwork, this.pathBuilder, this.resources);
+		final Integer color = getAttributeColorWithDefault(networkNode, null, ATTR_COLOR);
+		if (color != null) {
+			busNetwork.setColor(color);
+		}
+
+		// Force the validity checking to be sure
+		// that all the primitives are valid or not
+		busNetwork.revalidate();
+
+		return busNetwork;
+	}
+
+}
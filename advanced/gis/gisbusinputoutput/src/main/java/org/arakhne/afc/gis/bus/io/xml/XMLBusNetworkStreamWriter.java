@@ -0,0 +1,232 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.gis.bus.io.xml;
+
+import static org.arakhne.afc.gis.bus.io.xml.XMLBusNetworkUtil.NODE_BUSHUBS;
+import static org.arakhne.afc.gis.bus.io.xml.XMLBusNetworkUtil.NODE_BUSLINES;
+import static org.arakhne.afc.gis.bus.io.xml.XMLBusNetworkUtil.NODE_BUSNETWORK;
+import static org.arakhne.afc.gis.bus.io.xml.XMLBusNetworkUtil.NODE_BUSSTOPS;
+import static org.arakhne.afc.gis.io.xml.XMLGISElementUtil.writeGISElementAttributes;
+import static org.arakhne.afc.inputoutput.xml.XMLUtil.ATTR_COLOR;
+import static org.arakhne.afc.inputoutput.xml.XMLUtil.toColor;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import org.arakhne.afc.gis.bus.network.BusHub;
+import org.arakhne.afc.gis.bus.network.BusLine;
+import org.arakhne.afc.gis.bus.network.BusNetwork;
+import org.arakhne.afc.gis.bus.network.BusStop;
+import org.arakhne.afc.inputoutput.xml.XMLBuilder;
+import org.arakhne.afc.inputoutput.xml.XMLResources;
+import org.arakhne.afc.inputoutput.xml.XMLUtil;
+import org.arakhne.afc.progress.Progression;
+
+/** Writer of a bus network into an XML stream.
+ *
+ * <p>This writer outputs the same XML representation as {@link XMLBusNetworkUtil#writeBusNetwork(BusNetwork,
+ * XMLBuilder, XMLResources)}, with the bus network node as the root element of the XML document.
+ * In opposite to the DOM-based function, the XML document is never entirely built in memory.
+ * Each bus stop, bus hub and bus line is written into the stream as soon as its XML description
+ * is built.
+ *
+ * <p>When a task progression is given, it is based on the number of bus stops, bus hubs and bus lines
+ * that are written.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ * @see XMLBusNetworkStreamReader
+ */
+public class XMLBusNetworkStreamWriter implements AutoCloseable {
+
+	private static final String ENCODING = "UTF-8"; //$NON-NLS-1$
+
+	private static final String VERSION = "1.0"; //$NON-NLS-1$
+
+	private final OutputStream output;
+
+	private final XMLResources resources;
+
+	private Progression progression;
+
+	/** Constructor.
+	 *
+	 * @param filename is the file to write.
+	 * @param resources is the tool that permits to gather the resources.
+	 * @throws IOException in case of error.
+	 */
+	@SuppressWarnings("resource")
+	public XMLBusNetworkStreamWriter(File filename, XMLResources resources) throws IOException {
+		this(new FileOutputStream(filename), resources);
+	}
+
+	/** Constructor.
+	 *
+	 * @param stream is the stream to write.
+	 * @param resources is the tool that permits to gather the resources.
+	 */
+	public XMLBusNetworkStreamWriter(OutputStream stream, XMLResources resources) {
+		assert stream != null;
+		this.output = stream;
+		this.resources = resources;
+	}
+
+	/** Replies the task progression.
+	 *
+	 * @return the task progression object associated to this writer, or <code>null</code>
+	 */
+	@Pure
+	public Progression getProgression() {
+		return this.progression;
+	}
+
+	/** Set the task progression associated to this writer.
+	 *
+	 * @param progressBar is the task progression object associated to this writer, or <code>null</code>
+	 */
+	public void setProgression(Progression progressBar) {
+		this.progression = progressBar;
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.output.close();
+	}
+
+	/** Write the given bus network as the XML document of the stream.
+	 *
+	 * @param busNetwork is the bus network to write.
+	 * @throws IOException in case of error.
+	 */
+	@SuppressWarnings("checkstyle:npathcomplexity")
+	public void write(BusNetwork busNetwork) throws IOException {
+		try {
+			final XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(this.output, ENCODING);
+			final XMLBuilder builder = XMLUtil.newXMLBuilder();
+			writer.writeStartDocument(ENCODING, VERSION);
+
+			final Element networkNode = builder.createElement(NODE_BUSNETWORK);
+			writeGISElementAttributes(networkNode, busNetwork, builder, this.resources);
+			final Integer color = busNetwork.getRawColor();
+			if (color != null) {
+				networkNode.setAttribute(ATTR_COLOR, toColor(color));
+			}
+			writeStartElement(writer, networkNode);
+
+			if (this.progression != null) {
+				this.progression.setProperties(0, 0,
+						busNetwork.getBusStopCount() + busNetwork.getBusHubCount() + busNetwork.getBusLineCount(),
+						false);
+			}
+
+			boolean hasNodes = false;
+			for (final BusStop stop : busNetwork.busStops()) {
+				hasNodes = writeChild(writer, NODE_BUSSTOPS, hasNodes,
+						XMLBusNetworkUtil.writeBusStop(stop, builder, this.resources));
+			}
+			if (hasNodes) {
+				writer.writeEndElement();
+			}
+
+			hasNodes = false;
+			for (final BusHub hub : busNetwork.busHubs()) {
+				hasNodes = writeChild(writer, NODE_BUSHUBS, hasNodes,
+						XMLBusNetworkUtil.writeBusHub(hub, builder, this.resources));
+			}
+			if (hasNodes) {
+				writer.writeEndElement();
+			}
+
+			hasNodes = false;
+			for (final BusLine line : busNetwork.busLines()) {
+				hasNodes = writeChild(writer, NODE_BUSLINES, hasNodes,
+						XMLBusNetworkUtil.writeBusLine(line, builder, this.resources));
+			}
+			if (hasNodes) {
+				writer.writeEndElement();
+			}
+
+			writer.writeEndElement();
+			writer.writeEndDocument();
+			writer.close();
+			this.output.flush();
+		} catch (XMLStreamException exception) {
+			throw new IOException(exception);
+		} finally {
+			if (this.progression != null) {
+				this.progression.end();
+			}
+		}
+	}
+
+	/** Write the start tag of the given node, its attributes and its child nodes.
+	 * The end tag is not written.
+	 */
+	private static void writeStartElement(XMLStreamWriter writer, Element node) throws IOException, XMLStreamException {
+		writer.writeStartElement(node.getNodeName());
+		final NamedNodeMap attributes = node.getAttributes();
+		for (int i = 0; i < attributes.getLength(); ++i) {
+			final Node attribute = attributes.item(i);
+			writer.writeAttribute(attribute.getNodeName(), attribute.getNodeValue());
+		}
+		final NodeList children = node.getChildNodes();
+		for (int i = 0; i < children.getLength(); ++i) {
+			XMLUtil.writeXML(children.item(i), writer);
+		}
+	}
+
+	/** Write the given child node into the section with the given name. The start tag of the
+	 * section is written when the first child node is written.
+	 *
+	 * @return <code>true</code> if the start tag of the section was written.
+	 */
+	private boolean writeChild(XMLStreamWriter writer, String sectionName, boolean isSectionStarted,
+			Node child) throws IOException, XMLStreamException {
+		boolean started = isSectionStarted;
+		if (child != null) {
+			if (!started) {
+				writer.writeStartElement(sectionName);
+				started = true;
+			}
+			XMLUtil.writeXML(child, writer);
+		}
+		if (this.progression != null) {
+			this.progression.increment();
+		}
+		return started;
+	}
+
+}
@@ -180,7 +180,15 @@ public final class XMLBusNetworkUtil {
 		return element;
 	}
 
-	private static Node writeBusStop(BusStop stop, XMLBuilder builder, XMLResources resources) throws IOException {
+	/** Create and reply the XML representation of the given bus stop.
+	 *
+	 * @param stop is the bus stop to translate into XML.
+	 * @param builder is the tool that permits to create XML elements.
+	 * @param resources is the tool that permits to gather the resources.
+	 * @return the XML representation of the given bus stop.
+	 * @throws IOException in case of error.
+	 */
+	static Node writeBusStop(BusStop stop, XMLBuilder builder, XMLResources resources) throws IOException {
 		final Element stopNode = builder.createElement(NODE_BUSSTOP);
 
 		writeGISElementAttributes(stopNode, stop, builder, resources);
@@ -197,7 +205,15 @@ public final class XMLBusNetworkUtil {
 		return stopNode;
 	}
 
-	private static Node writeBusHub(BusHub hub, XMLBuilder builder, XMLResources resources) throws IOException {
+	/** Create and reply the XML representation of the given bus hub.
+	 *
+	 * @param hub is the bus hub to translate into XML.
+	 * @param builder is the tool that permits to create XML elements.
+	 * @param resources is the tool that permits to gather the resources.
+	 * @return the XML representation of the given bus hub.
+	 * @throws IOException in case of error.
+	 */
+	static Node writeBusHub(BusHub hub, XMLBuilder builder, XMLResources resources) throws IOException {
 		final Element hubNode = builder.createElement(NODE_BUSHUB);
 
 		writeGISElementAttributes(hubNode, hub, builder, resources);
@@ -215,7 +231,15 @@ public final class XMLBusNetworkUtil {
 		return hubNode;
 	}
 
-	private static Node writeBusLine(BusLine line, XMLBuilder builder, XMLResources resources) throws IOException {
+	/** Create and reply the XML representation of the given bus line.
+	 *
+	 * @param line is the bus line to translate into XML.
+	 * @param builder is the tool that permits to create XML elements.
+	 * @param resources is the tool that permits to gather the resources.
+	 * @return the XML representation of the given bus line.
+	 * @throws IOException in case of error.
+	 */
+	static Node writeBusLine(BusLine line, XMLBuilder builder, XMLResources resources) throws IOException {
 		final Element lineNode = builder.createElement(NODE_BUSLINE);
 
 		writeGISElementAttributes(lineNode, line, builder, resources);
@@ -466,7 +490,17 @@ public final class XMLBusNetworkUtil {
 		return itinerary;
 	}
 
-	private static BusLine readBusLine(Element xmlNode, BusNetwork busNetwork, RoadNetwork roadNetwork,
+	/** Create and reply the bus line which is described by the given XML representation.
+	 *
+	 * @param xmlNode is the node to explore.
+	 * @param busNetwork is the bus network that contains the bus stops.
+	 * @param roadNetwork is the road network on which the bus network is mapped.
+	 * @param pathBuilder is the tool that permits to make absolute paths.
+	 * @param resources is the tool that permits to gather the resources.
+	 * @return the bus line.
+	 * @throws IOException in case of error.
+	 */
+	static BusLine readBusLine(Element xmlNode, BusNetwork busNetwork, RoadNetwork roadNetwork,
 			PathBuilder pathBuilder, XMLResources resources) throws IOException {
 		final UUID id = getAttributeUUIDWithDefault(xmlNode, null, ATTR_ID);
 		if (id == null) {
@@ -494,7 +528,16 @@ public final class XMLBusNetworkUtil {
 		return line;
 	}
 
-	private static void readBusHub(Element xmlNode, BusNetwork busNetwork, PathBuilder pathBuilder,
+	/** Create the bus hub which is described by the given XML representation, and add it
+	 * into the bus network.
+	 *
+	 * @param xmlNode is the node to explore.
+	 * @param busNetwork is the bus network that contains the bus stops.
+	 * @param pathBuilder is the tool that permits to make absolute paths.
+	 * @param resources is the tool that permits to gather the resources.
+	 * @throws IOException in case of error.
+	 */
+	static void readBusHub(Element xmlNode, BusNetwork busNetwork, PathBuilder pathBuilder,
 			XMLResources resources) throws IOException {
 		final List<BusStop> stops = new ArrayList<>();
 		for (final Node stopNode : getNodesFromPath(xmlNode, NODE_BUSSTOP)) {
@@ -533,7 +576,15 @@ public final class XMLBusNetworkUtil {
 		}
 	}
 
-	private static BusStop readBusStop(Element xmlNode, PathBuilder pathBuilder, XMLResources resources) throws IOException {
+	/** Create and reply the bus stop which is described by the given XML representation.
+	 *
+	 * @param xmlNode is the node to explore.
+	 * @param pathBuilder is the tool that permits to make absolute paths.
+	 * @param resources is the tool that permits to gather the resources.
+	 * @return the bus stop.
+	 * @throws IOException in case of error.
+	 */
+	static BusStop readBusStop(Element xmlNode, PathBuilder pathBuilder, XMLResources resources) throws IOException {
 		final UUID id = getAttributeUUID(xmlNode, ATTR_ID);
 
 		final String name = getAttributeValueWithDefault(xmlNode, null, ATTR_NAME);
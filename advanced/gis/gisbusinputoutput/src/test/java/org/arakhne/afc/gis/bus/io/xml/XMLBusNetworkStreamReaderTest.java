@@ -0,0 +1,179 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.gis.bus.io.xml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URL;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import org.arakhne.afc.gis.bus.network.BusItinerary;
+import org.arakhne.afc.gis.bus.network.BusItineraryHalt;
+import org.arakhne.afc.gis.bus.network.BusItineraryHalt.BusItineraryHaltType;
+import org.arakhne.afc.gis.bus.network.BusLine;
+import org.arakhne.afc.gis.bus.network.BusNetwork;
+import org.arakhne.afc.gis.bus.network.BusStop;
+import org.arakhne.afc.gis.io.shape.GISShapeFileReader;
+import org.arakhne.afc.gis.location.GeoId;
+import org.arakhne.afc.gis.location.GeoLocationPoint;
+import org.arakhne.afc.gis.road.RoadPolyline;
+import org.arakhne.afc.gis.road.StandardRoadNetwork;
+import org.arakhne.afc.inputoutput.path.PathBuilder;
+import org.arakhne.afc.inputoutput.path.SimplePathBuilder;
+import org.arakhne.afc.inputoutput.xml.XMLBuilder;
+import org.arakhne.afc.inputoutput.xml.XMLResources;
+import org.arakhne.afc.inputoutput.xml.XMLUtil;
+import org.arakhne.afc.progress.DefaultProgression;
+import org.arakhne.afc.testtools.AbstractTestCase;
+import org.arakhne.afc.vmutil.Resources;
+
+@SuppressWarnings("all")
+public class XMLBusNetworkStreamReaderTest extends AbstractTestCase {
+
+	private static final URL shpUrl = Resources.getResource(XMLBusNetworkStreamReaderTest.class, "test.shp"); //$NON-NLS-1$
+
+	private StandardRoadNetwork network;
+
+	private BusNetwork busNetwork;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		try (GISShapeFileReader reader = new GISShapeFileReader(shpUrl, RoadPolyline.class)) {
+			this.network = new StandardRoadNetwork(reader.getBoundsFromHeader().toRectangle2d());
+			RoadPolyline line = (RoadPolyline) reader.read();
+			while (line != null) {
+				this.network.addRoadPolyline(line);
+				line = (RoadPolyline) reader.read();
+			}
+		}
+		this.busNetwork = new BusNetwork(this.network);
+		BusStop stop1 = new BusStop("Stop1"); //$NON-NLS-1$
+		stop1.setPosition(new GeoLocationPoint(935665.0, 2311306.9));
+		this.busNetwork.addBusStop(stop1);
+		BusStop stop2 = new BusStop("Stop2"); //$NON-NLS-1$
+		stop2.setPosition(new GeoLocationPoint(935665.0, 2311306.9));
+		this.busNetwork.addBusStop(stop2);
+		this.busNetwork.addBusHub("Hub1", stop1, stop2); //$NON-NLS-1$
+		BusLine line1 = new BusLine("Line1"); //$NON-NLS-1$
+		this.busNetwork.addBusLine(line1);
+		BusItinerary itinerary1 = new BusItinerary("Itinerary1"); //$NON-NLS-1$
+		line1.addBusItinerary(itinerary1);
+		itinerary1.addRoadSegment(this.network.getRoadSegment(
+				GeoId.valueOf("ccf6f6d64c911eec7e16dd51c3385a28#935646;2311307;935665;2311320"))); //$NON-NLS-1$
+		itinerary1.addRoadSegment(this.network.getRoadSegment(
+				GeoId.valueOf("67b453c1f5f2a55c3e91aa0468fc861a#935579;2311319;935647;2311395"))); //$NON-NLS-1$
+		BusItineraryHalt halt1 = itinerary1.addBusHalt("Halt1", BusItineraryHaltType.SYSTEMATIC_STOP); //$NON-NLS-1$
+		halt1.setBusStop(stop1);
+		BusItineraryHalt halt2 = itinerary1.addBusHalt("Halt2", BusItineraryHaltType.SYSTEMATIC_STOP); //$NON-NLS-1$
+		halt2.setBusStop(stop2);
+		this.busNetwork.revalidate();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		this.busNetwork = null;
+		this.network = null;
+	}
+
+	private void assertBusNetwork(BusNetwork actual) {
+		assertEquals(this.busNetwork.getUUID(), actual.getUUID());
+		assertEquals(2, actual.getBusStopCount());
+		for (BusStop stop : this.busNetwork.busStops()) {
+			BusStop actualStop = actual.getBusStop(stop.getUUID());
+			assertNotNull(actualStop);
+			assertEquals(stop.getName(), actualStop.getName());
+		}
+		assertEquals(1, actual.getBusHubCount());
+		assertEquals("Hub1", actual.busHubs().iterator().next().getName()); //$NON-NLS-1$
+		assertEquals(1, actual.getBusLineCount());
+		BusLine expectedLine = this.busNetwork.getBusLineAt(0);
+		BusLine line = actual.getBusLineAt(0);
+		assertEquals(expectedLine.getUUID(), line.getUUID());
+		assertEquals("Line1", line.getName()); //$NON-NLS-1$
+		assertEquals(1, line.getBusItineraryCount());
+		BusItinerary itinerary = line.getBusItineraryAt(0);
+		assertEquals("Itinerary1", itinerary.getName()); //$NON-NLS-1$
+		assertEquals(2, itinerary.getRoadSegmentCount());
+		assertEquals(2, itinerary.size());
+	}
+
+	@Test
+	public void read_domOutput() throws Exception {
+		PathBuilder pathBuilder = new SimplePathBuilder();
+		XMLResources res = new XMLResources(pathBuilder);
+		XMLBuilder xmlBuilder = XMLUtil.newXMLBuilder();
+		Document doc = xmlBuilder.getDocument();
+		Element root = xmlBuilder.createElement("root"); //$NON-NLS-1$
+		doc.appendChild(root);
+		root.appendChild(XMLBusNetworkUtil.writeBusNetwork(this.busNetwork, xmlBuilder, res));
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		XMLUtil.writeXML(doc, baos);
+
+		DefaultProgression progression = new DefaultProgression();
+		BusNetwork actual;
+		try (XMLBusNetworkStreamReader reader = new XMLBusNetworkStreamReader(
+				new ByteArrayInputStream(baos.toByteArray()), this.network, pathBuilder, res)) {
+			reader.setProgression(progression);
+			actual = reader.read();
+		}
+
+		assertBusNetwork(actual);
+		assertEquals(progression.getMaximum(), progression.getValue());
+	}
+
+	@Test
+	public void read_streamOutput() throws Exception {
+		PathBuilder pathBuilder = new SimplePathBuilder();
+		XMLResources res = new XMLResources(pathBuilder);
+		DefaultProgression progression = new DefaultProgression();
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (XMLBusNetworkStreamWriter writer = new XMLBusNetworkStreamWriter(baos, res)) {
+			writer.setProgression(progression);
+			writer.write(this.busNetwork);
+		}
+		assertEquals(4, progression.getMaximum());
+		assertEquals(4, progression.getValue());
+
+		BusNetwork actual;
+		try (XMLBusNetworkStreamReader reader = new XMLBusNetworkStreamReader(
+				new ByteArrayInputStream(baos.toByteArray()), this.network, pathBuilder, res)) {
+			actual = reader.read();
+		}
+		assertBusNetwork(actual);
+
+		// The DOM-based reader supports the streamed output when it is put inside an enclosing node
+		Document doc = XMLUtil.readXML(new ByteArrayInputStream(baos.toByteArray()));
+		Element busNetworkNode = doc.getDocumentElement();
+		Element root = doc.createElement("root"); //$NON-NLS-1$
+		doc.replaceChild(root, busNetworkNode);
+		root.appendChild(busNetworkNode);
+		assertBusNetwork(XMLBusNetworkUtil.readBusNetwork(root, this.network, pathBuilder, res));
+	}
+
+}
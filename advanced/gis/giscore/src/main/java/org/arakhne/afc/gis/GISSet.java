@@ -68,6 +68,29 @@ public interface GISSet<P extends GISPrimitive> extends Set<P> {
 	 */
 	Class<? extends P> getElementType();
 
+	/** Replies if the concurrent access to this set is enabled.
+	 *
+	 * @return <code>true</code> if the concurrent access is enabled, <code>false</code> if not.
+	 * @since 18.0
+	 * @see #setConcurrentAccessEnabled(boolean)
+	 */
+	boolean isConcurrentAccessEnabled();
+
+	/** Enable or disable the concurrent access to this set.
+	 *
+	 * <p>When the concurrent access is enabled, the functions of this set are protected
+	 * by a read-write lock: many threads may read the set at the same time, e.g. with
+	 * {@link #iterator(Rectangle2afp)}, while another thread is adding or removing elements.
+	 * The iterators replied by this set are snapshots of the set's content at the time
+	 * of their creation.
+	 *
+	 * <p>This flag must be changed before the set is shared between threads.
+	 *
+	 * @param enable is <code>true</code> to enable the concurrent access, <code>false</code> to disable it.
+	 * @since 18.0
+	 */
+	void setConcurrentAccessEnabled(boolean enable);
+
 	/** Replies the element which as the specified identifier.
 	 *
 	 * <p>This function is time consuming because the location
@@ -0,0 +1,88 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.gis;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.gis.primitive.GISPrimitive;
+
+/** Iterator on a snapshot of the elements of a {@link GISSet}.
+ *
+ * <p>The elements are copied when the iterator is created. The removal of an
+ * element is delegated to the set.
+ *
+ * @param <P> is the type of the elements.
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ */
+public final class GISSetSnapshotIterator<P extends GISPrimitive> implements Iterator<P> {
+
+	private final GISSet<P> set;
+
+	private final Iterator<P> iterator;
+
+	private P lastReplied;
+
+	/** Constructor.
+	 *
+	 * @param set the set that contains the elements.
+	 * @param iterator the iterator on the elements to copy.
+	 */
+	public GISSetSnapshotIterator(GISSet<P> set, Iterator<P> iterator) {
+		assert set != null;
+		this.set = set;
+		final List<P> elements = new ArrayList<>();
+		while (iterator.hasNext()) {
+			elements.add(iterator.next());
+		}
+		this.iterator = elements.iterator();
+	}
+
+	@Override
+	@Pure
+	public boolean hasNext() {
+		return this.iterator.hasNext();
+	}
+
+	@Override
+	public P next() {
+		this.lastReplied = this.iterator.next();
+		return this.lastReplied;
+	}
+
+	@Override
+	public void remove() {
+		final P element = this.lastReplied;
+		this.lastReplied = null;
+		if (element == null) {
+			throw new IllegalStateException();
+		}
+		this.set.remove(element);
+	}
+
+}
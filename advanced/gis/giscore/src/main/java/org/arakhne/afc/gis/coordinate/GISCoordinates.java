@@ -20,10 +20,13 @@
 
 package org.arakhne.afc.gis.coordinate;
 
+import java.util.concurrent.RecursiveAction;
+
 import org.eclipse.xtext.xbase.lib.Pure;
 
 import org.arakhne.afc.math.MathConstants;
 import org.arakhne.afc.math.geometry.d2.d.Point2d;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
 
 /** Utilities to convert GIS coordinates.
  *
@@ -151,6 +154,23 @@ public final class GISCoordinates {
 	 */
 	public static final double LAMBERT_93_YS = 12655612.050;
 
+	/** Eccentricity of the Clarke 1880 ellipsoide that is used by the NTF Lambert projections.
+	 */
+	private static final double NTF_LAMBERT_E = Math.sqrt((6378249.2 * 6378249.2 - 6356515.0 * 6356515.0)
+			/ (6378249.2 * 6378249.2));
+
+	private static final double[] LAMBERT_1_PARAMETERS = {LAMBERT_1_N, LAMBERT_1_C, LAMBERT_1_XS, LAMBERT_1_YS};
+
+	private static final double[] LAMBERT_2_PARAMETERS = {LAMBERT_2_N, LAMBERT_2_C, LAMBERT_2_XS, LAMBERT_2_YS};
+
+	private static final double[] LAMBERT_2E_PARAMETERS = {LAMBERT_2E_N, LAMBERT_2E_C, LAMBERT_2E_XS, LAMBERT_2E_YS};
+
+	private static final double[] LAMBERT_3_PARAMETERS = {LAMBERT_3_N, LAMBERT_3_C, LAMBERT_3_XS, LAMBERT_3_YS};
+
+	private static final double[] LAMBERT_4_PARAMETERS = {LAMBERT_4_N, LAMBERT_4_C, LAMBERT_4_XS, LAMBERT_4_YS};
+
+	private static final double[] LAMBERT_93_PARAMETERS = {LAMBERT_93_N, LAMBERT_93_C, LAMBERT_93_XS, LAMBERT_93_YS};
+
 	private GISCoordinates() {
 		//
 	}
@@ -938,8 +958,28 @@ public final class GISCoordinates {
 	 * @param Ys is the y coordinate of the origine of the Lambert projection.
 	 * @return lambda and phi in NTF.
 	 */
-	@SuppressWarnings({"checkstyle:parametername", "checkstyle:localfinalvariablename"})
+	@SuppressWarnings({"checkstyle:parametername"})
 	private static Point2d NTFLambert_NTFLambdaPhi(double x, double y, double n, double c, double Xs, double Ys) {
+		final double[] output = new double[2];
+		NTFLambert_NTFLambdaPhi(x, y, n, c, Xs, Ys, output, 0);
+		return new Point2d(output[0], output[1]);
+	}
+
+	/**
+	 * This function convert extended France NTF Lambert coordinate to Angular NTF coordinate.
+	 *
+	 * @param x is the coordinate in extended France NTF Lambert
+	 * @param y is the coordinate in extended France NTF Lambert
+	 * @param n is the exponential of the Lambert projection.
+	 * @param c is the constant of projection.
+	 * @param Xs is the x coordinate of the origine of the Lambert projection.
+	 * @param Ys is the y coordinate of the origine of the Lambert projection.
+	 * @param output the array that receives lambda and phi in NTF.
+	 * @param offset the index of lambda in the output array.
+	 */
+	@SuppressWarnings({"checkstyle:parametername", "checkstyle:localfinalvariablename", "checkstyle:parameternumber"})
+	private static void NTFLambert_NTFLambdaPhi(double x, double y, double n, double c, double Xs, double Ys,
+			double[] output, int offset) {
 		// Several constants from the IGN specifications
 		//Longitude in radians of Paris (2°20'14.025" E) from Greenwich
 		final double lambda_0 = 0.;
@@ -961,7 +1001,8 @@ public final class GISCoordinates {
 
 		final double phi_ntf = phii;
 
-		return new Point2d(lamdda_ntf, phi_ntf);
+		output[offset] = lamdda_ntf;
+		output[offset + 1] = phi_ntf;
 	}
 
 	@SuppressWarnings({"checkstyle:parametername"})
@@ -979,8 +1020,24 @@ public final class GISCoordinates {
 	 * @param lambda_ntf is the phi coordinate in NTF
 	 * @return lambda and phi in geographic WSG84 in degrees.
 	 */
-	@SuppressWarnings({"checkstyle:magicnumber", "checkstyle:localfinalvariablename", "checkstyle:localvariablename"})
+	@SuppressWarnings({"checkstyle:parametername"})
 	private static GeodesicPosition NTFLambdaPhi_WSG84(double lambda_ntf, double phi_ntf) {
+		final double[] output = new double[2];
+		NTFLambdaPhi_WSG84(lambda_ntf, phi_ntf, output, 0);
+		return new GeodesicPosition(output[0], output[1]);
+	}
+
+	/**
+	 * This function convert extended France NTF Lambert coordinate to geographic WSG84 Data.
+	 *
+	 * @param lambda_ntf is the lambda coordinate in NTF
+	 * @param phi_ntf is the phi coordinate in NTF
+	 * @param output the array that receives lambda and phi in geographic WSG84 in degrees.
+	 * @param offset the index of lambda in the output array.
+	 */
+	@SuppressWarnings({"checkstyle:magicnumber", "checkstyle:localfinalvariablename", "checkstyle:localvariablename",
+		"checkstyle:parametername"})
+	private static void NTFLambdaPhi_WSG84(double lambda_ntf, double phi_ntf, double[] output, int offset) {
 		// Geographical coordinate NTF (lamda_ntf,phi_ntf)
 		// -> Cartesian coordinate NTF (x_ntf,y_ntf,z_ntf)
 		// ALG0009
@@ -1030,7 +1087,8 @@ public final class GISCoordinates {
 		lambda_w = Math.toDegrees(lambda_w);
 		phi_w = Math.toDegrees(phi_w);
 
-		return new GeodesicPosition(lambda_w, phi_w);
+		output[offset] = lambda_w;
+		output[offset + 1] = phi_w;
 	}
 
 	/**
@@ -1152,22 +1210,34 @@ public final class GISCoordinates {
 	 * @param Ys is the y coordinate of the origine of the Lambert projection.
 	 * @return the extended France Lambert II coordinates.
 	 */
-	@SuppressWarnings({"checkstyle:parametername", "checkstyle:magicnumber",
-		"checkstyle:localfinalvariablename", "checkstyle:localvariablename"})
+	@SuppressWarnings({"checkstyle:parametername"})
 	private static Point2d NTFLambdaPhi_NTFLambert(double lambda, double phi, double n, double c, double Xs, double Ys) {
+		final double[] output = new double[2];
+		NTFLambdaPhi_NTFLambert(lambda, phi, n, c, Xs, Ys, output, 0);
+		return new Point2d(output[0], output[1]);
+	}
+
+	/**
+	 * This function convert the geographical NTF Lambda-Phi
+	 * coordinate to one of the France NTF standard coordinate.
+	 *
+	 * @param lambda is the NTF coordinate.
+	 * @param phi is the NTF coordinate.
+	 * @param n is the exponential of the Lambert projection.
+	 * @param c is the constant of projection.
+	 * @param Xs is the x coordinate of the origine of the Lambert projection.
+	 * @param Ys is the y coordinate of the origine of the Lambert projection.
+	 * @param output the array that receives the coordinates in the Lambert projection.
+	 * @param offset the index of the x coordinate in the output array.
+	 */
+	@SuppressWarnings({"checkstyle:parametername", "checkstyle:magicnumber",
+		"checkstyle:localfinalvariablename", "checkstyle:localvariablename", "checkstyle:parameternumber"})
+	private static void NTFLambdaPhi_NTFLambert(double lambda, double phi, double n, double c, double Xs, double Ys,
+			double[] output, int offset) {
 		//---------------------------------------------------------
 		// 3) cartesian coordinate NTF (X_n,Y_n,Z_n)
 		//    -> geographical coordinate NTF (phi_n,lambda_n)
-
-		// One formula is given by the IGN, and two constants about
-		// the ellipsoide are from the NTF system specification of Clarke 1880.
-		// Ref:
-		//		http://www.ign.fr/telechargement/MPro/geodesie/CIRCE/NTG_80.pdf
-		//		http://support.esrifrance.fr/Documents/Generalites/Projections/Generalites/Generalites.htm#2
-		final double a_n = 6378249.2;
-		final double b_n = 6356515.0;
-		// then
-		final double e2_n = (a_n * a_n - b_n * b_n) / (a_n * a_n);
+		// The eccentricity of the NTF ellipsoide is precomputed in NTF_LAMBERT_E.
 
 		//---------------------------------------------------------
 		// 4) Geographical coordinate NTF (phi_n,lambda_n)
@@ -1177,7 +1247,7 @@ public final class GISCoordinates {
 		// Ref:
 		//		http://www.ign.fr/telechargement/MPro/geodesie/CIRCE/NTG_71.pdf
 
-		final double e_n = Math.sqrt(e2_n);
+		final double e_n = NTF_LAMBERT_E;
 		// Let the longitude in radians of Paris (2°20'14.025" E) from the Greenwich meridian
 		final double lambda0 = 0.04079234433198;
 
@@ -1190,7 +1260,8 @@ public final class GISCoordinates {
 		final double X_l2e = Xs + c * Math.exp(-n * L) * Math.sin(n * (lambda - lambda0));
 		final double Y_l2e = Ys - c * Math.exp(-n * L) * Math.cos(n * (lambda - lambda0));
 
-		return new Point2d(X_l2e, Y_l2e);
+		output[offset] = X_l2e;
+		output[offset + 1] = Y_l2e;
 	}
 
 	/**
@@ -1204,9 +1275,23 @@ public final class GISCoordinates {
 	 * @param Ys is the y coordinate of the origine of the Lambert projection.
 	 * @return the NTF Lambda-Phi
 	 */
+	private static Point2d WSG84_NTFLamdaPhi(double lambda, double phi) {
+		final double[] output = new double[2];
+		WSG84_NTFLamdaPhi(lambda, phi, output, 0);
+		return new Point2d(output[0], output[1]);
+	}
+
+	/**
+	 * This function convert WSG84 GPS coordinate to one of the NTF Lambda-Phi coordinate.
+	 *
+	 * @param lambda is the WSG94 coordinate in decimal degrees.
+	 * @param phi is the WSG84 coordinate is decimal in degrees.
+	 * @param output the array that receives the NTF Lambda-Phi.
+	 * @param offset the index of lambda in the output array.
+	 */
 	@SuppressWarnings({"checkstyle:parametername", "checkstyle:magicnumber",
 		"checkstyle:localfinalvariablename", "checkstyle:localvariablename"})
-	private static Point2d WSG84_NTFLamdaPhi(double lambda, double phi) {
+	private static void WSG84_NTFLamdaPhi(double lambda, double phi, double[] output, int offset) {
 		//---------------------------------------------------------
 		// 0) degree -> radian
 		final double lambda_w = Math.toRadians(lambda);
@@ -1275,7 +1360,278 @@ public final class GISCoordinates {
 		final double phi_n = p1;
 		final double lambda_n = Math.atan(Y_n / X_n);
 
-		return new Point2d(lambda_n, phi_n);
+		output[offset] = lambda_n;
+		output[offset + 1] = phi_n;
+	}
+
+	//-----------------------------------------------------
+	// Batch conversions
+	//-----------------------------------------------------
+
+	/** Replies the constants of the given Lambert projection.
+	 *
+	 * @param projection the projection.
+	 * @return the constants {@code n}, {@code c}, {@code Xs} and {@code Ys}.
+	 */
+	@Pure
+	@SuppressWarnings("checkstyle:returncount")
+	private static double[] getLambertParameters(MapMetricProjection projection) {
+		switch (projection) {
+		case FRANCE_LAMBERT_1:
+			return LAMBERT_1_PARAMETERS;
+		case FRANCE_LAMBERT_2:
+			return LAMBERT_2_PARAMETERS;
+		case FRANCE_LAMBERT_2_EXTENDED:
+			return LAMBERT_2E_PARAMETERS;
+		case FRANCE_LAMBERT_3:
+			return LAMBERT_3_PARAMETERS;
+		case FRANCE_LAMBERT_4:
+			return LAMBERT_4_PARAMETERS;
+		case FRANCE_LAMBERT_93:
+			return LAMBERT_93_PARAMETERS;
+		default:
+			throw new IllegalArgumentException(projection.name());
+		}
+	}
+
+	private static void checkBounds(double[] input, int inputOffset, double[] output, int outputOffset, int pointCount) {
+		assert input != null : AssertMessages.notNullParameter();
+		assert output != null : AssertMessages.notNullParameter();
+		if (pointCount < 0 || inputOffset < 0 || inputOffset + pointCount * 2 > input.length) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (outputOffset < 0 || outputOffset + pointCount * 2 > output.length) {
+			throw new IndexOutOfBoundsException();
+		}
+	}
+
+	/** Convert the points from a map projection to another map projection.
+	 *
+	 * <p>The points are stored in the arrays as sequences of {@code (x, y)} pairs.
+	 * The input and output arrays may be the same array with the same offset, i.e. the
+	 * conversion may be done in place.
+	 * The converted coordinates are equal to the ones replied by the single-point functions,
+	 * e.g. {@link #L1_L93(double, double)}, without allocating an object per point.
+	 *
+	 * @param source the projection of the input points.
+	 * @param target the projection of the output points.
+	 * @param input the coordinates to convert.
+	 * @param inputOffset the index of the first coordinate to convert in the input array.
+	 * @param output the array that receives the converted coordinates.
+	 * @param outputOffset the index of the first converted coordinate in the output array.
+	 * @param pointCount the number of points to convert.
+	 * @since 18.0
+	 */
+	public static void convert(MapMetricProjection source, MapMetricProjection target,
+			double[] input, int inputOffset, double[] output, int outputOffset, int pointCount) {
+		assert source != null : AssertMessages.notNullParameter(0);
+		assert target != null : AssertMessages.notNullParameter(1);
+		checkBounds(input, inputOffset, output, outputOffset, pointCount);
+		convertRange(source, target, input, inputOffset, output, outputOffset, pointCount);
+	}
+
+	/** Convert, in place, the points from a map projection to another map projection.
+	 *
+	 * @param source the projection of the points.
+	 * @param target the projection in which the points are converted.
+	 * @param coordinates the coordinates to convert, as a sequence of {@code (x, y)} pairs.
+	 * @since 18.0
+	 * @see #convert(MapMetricProjection, MapMetricProjection, double[], int, double[], int, int)
+	 */
+	public static void convert(MapMetricProjection source, MapMetricProjection target, double[] coordinates) {
+		convert(source, target, coordinates, 0, coordinates, 0, coordinates.length / 2);
+	}
+
+	/** Convert the points from a map projection to another map projection by splitting
+	 * the points into chunks that are converted in parallel.
+	 *
+	 * @param source the projection of the input points.
+	 * @param target the projection of the output points.
+	 * @param input the coordinates to convert.
+	 * @param inputOffset the index of the first coordinate to convert in the input array.
+	 * @param output the array that receives the converted coordinates.
+	 * @param outputOffset the index of the first converted coordinate in the output array.
+	 * @param pointCount the number of points to convert.
+	 * @since 18.0
+	 * @see #convert(MapMetricProjection, MapMetricProjection, double[], int, double[], int, int)
+	 */
+	public static void convertInParallel(MapMetricProjection source, MapMetricProjection target,
+			double[] input, int inputOffset, double[] output, int outputOffset, int pointCount) {
+		assert source != null : AssertMessages.notNullParameter(0);
+		assert target != null : AssertMessages.notNullParameter(1);
+		checkBounds(input, inputOffset, output, outputOffset, pointCount);
+		new ConversionTask(source, target, input, inputOffset, output, outputOffset, pointCount).invoke();
+	}
+
+	/** Convert the points from a map projection to geographic WSG84 coordinates.
+	 *
+	 * <p>The input points are stored as sequences of {@code (x, y)} pairs; the output
+	 * points are stored as sequences of {@code (lambda, phi)} pairs in degrees.
+	 * The input and output arrays may be the same array with the same offset.
+	 *
+	 * @param source the projection of the input points.
+	 * @param input the coordinates to convert.
+	 * @param inputOffset the index of the first coordinate to convert in the input array.
+	 * @param output the array that receives the WSG84 coordinates.
+	 * @param outputOffset the index of the first converted coordinate in the output array.
+	 * @param pointCount the number of points to convert.
+	 * @since 18.0
+	 */
+	public static void toWSG84(MapMetricProjection source,
+			double[] input, int inputOffset, double[] output, int outputOffset, int pointCount) {
+		assert source != null : AssertMessages.notNullParameter(0);
+		checkBounds(input, inputOffset, output, outputOffset, pointCount);
+		final double[] parameters = getLambertParameters(source);
+		final double n = parameters[0];
+		final double c = parameters[1];
+		final double xs = parameters[2];
+		final double ys = parameters[3];
+		final double[] ntf = new double[2];
+		for (int i = 0, in = inputOffset, out = outputOffset; i < pointCount; ++i, in += 2, out += 2) {
+			NTFLambert_NTFLambdaPhi(input[in], input[in + 1], n, c, xs, ys, ntf, 0);
+			NTFLambdaPhi_WSG84(ntf[0], ntf[1], output, out);
+		}
+	}
+
+	/** Convert the points from geographic WSG84 coordinates to a map projection.
+	 *
+	 * <p>The input points are stored as sequences of {@code (lambda, phi)} pairs in degrees;
+	 * the output points are stored as sequences of {@code (x, y)} pairs.
+	 * The input and output arrays may be the same array with the same offset.
+	 *
+	 * @param target the projection of the output points.
+	 * @param input the WSG84 coordinates to convert.
+	 * @param inputOffset the index of the first coordinate to convert in the input array.
+	 * @param output the array that receives the converted coordinates.
+	 * @param outputOffset the index of the first converted coordinate in the output array.
+	 * @param pointCount the number of points to convert.
+	 * @since 18.0
+	 */
+	public static void fromWSG84(MapMetricProjection target,
+			double[] input, int inputOffset, double[] output, int outputOffset, int pointCount) {
+		assert target != null : AssertMessages.notNullParameter(0);
+		checkBounds(input, inputOffset, output, outputOffset, pointCount);
+		final double[] parameters = getLambertParameters(target);
+		final double n = parameters[0];
+		final double c = parameters[1];
+		final double xs = parameters[2];
+		final double ys = parameters[3];
+		final double[] ntf = new double[2];
+		for (int i = 0, in = inputOffset, out = outputOffset; i < pointCount; ++i, in += 2, out += 2) {
+			WSG84_NTFLamdaPhi(input[in], input[in + 1], ntf, 0);
+			NTFLambdaPhi_NTFLambert(ntf[0], ntf[1], n, c, xs, ys, output, out);
+		}
+	}
+
+	@SuppressWarnings("checkstyle:parameternumber")
+	private static void convertRange(MapMetricProjection source, MapMetricProjection target,
+			double[] input, int inputOffset, double[] output, int outputOffset, int pointCount) {
+		if (source == target) {
+			if (input != output || inputOffset != outputOffset) {
+				System.arraycopy(input, inputOffset, output, outputOffset, pointCount * 2);
+			}
+			return;
+		}
+		final double dy;
+		if (source == MapMetricProjection.FRANCE_LAMBERT_2_EXTENDED && target == MapMetricProjection.FRANCE_LAMBERT_2) {
+			dy = LAMBERT_2E_YS - LAMBERT_2_YS;
+		} else if (source == MapMetricProjection.FRANCE_LAMBERT_2 && target == MapMetricProjection.FRANCE_LAMBERT_2_EXTENDED) {
+			dy = -(LAMBERT_2E_YS - LAMBERT_2_YS);
+		} else {
+			dy = Double.NaN;
+		}
+		if (!Double.isNaN(dy)) {
+			// Same projection with a translated origin
+			for (int i = 0, in = inputOffset, out = outputOffset; i < pointCount; ++i, in += 2, out += 2) {
+				output[out] = input[in];
+				output[out + 1] = input[in + 1] + dy;
+			}
+			return;
+		}
+		final double[] sourceParameters = getLambertParameters(source);
+		final double sn = sourceParameters[0];
+		final double sc = sourceParameters[1];
+		final double sxs = sourceParameters[2];
+		final double sys = sourceParameters[3];
+		final double[] targetParameters = getLambertParameters(target);
+		final double tn = targetParameters[0];
+		final double tc = targetParameters[1];
+		final double txs = targetParameters[2];
+		final double tys = targetParameters[3];
+		final double[] ntf = new double[2];
+		for (int i = 0, in = inputOffset, out = outputOffset; i < pointCount; ++i, in += 2, out += 2) {
+			NTFLambert_NTFLambdaPhi(input[in], input[in + 1], sn, sc, sxs, sys, ntf, 0);
+			NTFLambdaPhi_NTFLambert(ntf[0], ntf[1], tn, tc, txs, tys, output, out);
+		}
+	}
+
+	/** Task that converts a range of points, and splits the range when it is too large.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 18.0
+	 */
+	private static final class ConversionTask extends RecursiveAction {
+
+		/** Maximal number of points that are converted by a task without splitting.
+		 */
+		private static final int PARALLEL_THRESHOLD = 4096;
+
+		private static final long serialVersionUID = 5084413296153283442L;
+
+		private final MapMetricProjection source;
+
+		private final MapMetricProjection target;
+
+		private final double[] input;
+
+		private final int inputOffset;
+
+		private final double[] output;
+
+		private final int outputOffset;
+
+		private final int pointCount;
+
+		/** Constructor.
+		 *
+		 * @param source the projection of the input points.
+		 * @param target the projection of the output points.
+		 * @param input the coordinates to convert.
+		 * @param inputOffset the index of the first coordinate to convert in the input array.
+		 * @param output the array that receives the converted coordinates.
+		 * @param outputOffset the index of the first converted coordinate in the output array.
+		 * @param pointCount the number of points to convert.
+		 */
+		@SuppressWarnings("checkstyle:parameternumber")
+		ConversionTask(MapMetricProjection source, MapMetricProjection target,
+				double[] input, int inputOffset, double[] output, int outputOffset, int pointCount) {
+			this.source = source;
+			this.target = target;
+			this.input = input;
+			this.inputOffset = inputOffset;
+			this.output = output;
+			this.outputOffset = outputOffset;
+			this.pointCount = pointCount;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.pointCount <= PARALLEL_THRESHOLD) {
+				convertRange(this.source, this.target, this.input, this.inputOffset,
+						this.output, this.outputOffset, this.pointCount);
+			} else {
+				final int half = this.pointCount / 2;
+				invokeAll(
+						new ConversionTask(this.source, this.target, this.input, this.inputOffset,
+								this.output, this.outputOffset, half),
+						new ConversionTask(this.source, this.target, this.input, this.inputOffset + half * 2,
+								this.output, this.outputOffset + half * 2, this.pointCount - half));
+			}
+		}
+
 	}
 
 }
@@ -22,12 +22,19 @@ package org.arakhne.afc.gis.grid;
 
 import java.io.Serializable;
 import java.lang.reflect.Array;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
 import org.arakhne.afc.gis.GISSet;
+import org.arakhne.afc.gis.GISSetSnapshotIterator;
 import org.arakhne.afc.gis.location.GeoId;
 import org.arakhne.afc.gis.location.GeoLocation;
 import org.arakhne.afc.gis.primitive.GISPrimitive;
@@ -57,6 +64,11 @@ abstract class AbstractGISGridSet<P extends GISPrimitive> implements GISSet<P> {
 
 	private boolean updateWhenRemove;
 
+	/** Lock that is protecting the internal grid, or <code>null</code> if
+	 * the concurrent access is disabled.
+	 */
+	private volatile ReadWriteLock lock;
+
 	/** Constructor.
 	 * @param nRows numbers of rows in the grid
 	 * @param nColumns numbers of columns in the grid
@@ -166,48 +178,120 @@ abstract class AbstractGISGridSet<P extends GISPrimitive> implements GISSet<P> {
 		return this.clazz;
 	}
 
+	@Override
+	@Pure
+	public boolean isConcurrentAccessEnabled() {
+		return this.lock != null;
+	}
+
+	@Override
+	public void setConcurrentAccessEnabled(boolean enable) {
+		if (enable) {
+			if (this.lock == null) {
+				this.lock = new ReentrantReadWriteLock();
+			}
+		} else {
+			this.lock = null;
+		}
+	}
+
+	/** Acquire the lock for reading the internal grid if the concurrent access is enabled.
+	 *
+	 * @return the acquired lock, or <code>null</code> if the concurrent access is disabled.
+	 * @see #unlock(Lock)
+	 */
+	final Lock lockForReading() {
+		final ReadWriteLock rwlock = this.lock;
+		if (rwlock == null) {
+			return null;
+		}
+		final Lock readLock = rwlock.readLock();
+		readLock.lock();
+		return readLock;
+	}
+
+	/** Acquire the lock for changing the internal grid if the concurrent access is enabled.
+	 *
+	 * @return the acquired lock, or <code>null</code> if the concurrent access is disabled.
+	 * @see #unlock(Lock)
+	 */
+	final Lock lockForWriting() {
+		final ReadWriteLock rwlock = this.lock;
+		if (rwlock == null) {
+			return null;
+		}
+		final Lock writeLock = rwlock.writeLock();
+		writeLock.lock();
+		return writeLock;
+	}
+
+	/** Release the given lock.
+	 *
+	 * @param acquiredLock the lock replied by {@link #lockForReading()} or {@link #lockForWriting()}.
+	 */
+	static void unlock(Lock acquiredLock) {
+		if (acquiredLock != null) {
+			acquiredLock.unlock();
+		}
+	}
+
 	@Override
 	@Pure
 	public P get(GeoId identifier) {
-		if (identifier != null) {
-			final Rectangle2d objBounds = identifier.toBounds2D();
-			if (objBounds != null) {
-				final Iterator<P> iterator = this.grid.iterator(objBounds);
-				P element;
-				while (iterator.hasNext()) {
-					element = iterator.next();
-					if (element.getGeoId().equals(identifier)) {
-						return element;
+		final Lock rlock = lockForReading();
+		try {
+			if (identifier != null) {
+				final Rectangle2d objBounds = identifier.toBounds2D();
+				if (objBounds != null) {
+					final Iterator<P> iterator = this.grid.iterator(objBounds);
+					P element;
+					while (iterator.hasNext()) {
+						element = iterator.next();
+						if (element.getGeoId().equals(identifier)) {
+							return element;
+						}
 					}
 				}
 			}
+			return null;
+		} finally {
+			unlock(rlock);
 		}
-		return null;
 	}
 
 	@Override
 	@Pure
 	public P get(GeoLocation location) {
-		if (location != null) {
-			final Rectangle2d objBounds = location.toBounds2D();
-			if (objBounds != null) {
-				final Iterator<P> iterator = this.grid.iterator(objBounds);
-				P element;
-				while (iterator.hasNext()) {
-					element = iterator.next();
-					if (element.getGeoLocation().equals(location)) {
-						return element;
+		final Lock rlock = lockForReading();
+		try {
+			if (location != null) {
+				final Rectangle2d objBounds = location.toBounds2D();
+				if (objBounds != null) {
+					final Iterator<P> iterator = this.grid.iterator(objBounds);
+					P element;
+					while (iterator.hasNext()) {
+						element = iterator.next();
+						if (element.getGeoLocation().equals(location)) {
+							return element;
+						}
 					}
 				}
 			}
+			return null;
+		} finally {
+			unlock(rlock);
 		}
-		return null;
 	}
 
 	@Override
 	@Pure
 	public P get(int index) {
-		return this.grid.getElementAt(index);
+		final Lock rlock = lockForReading();
+		try {
+			return this.grid.getElementAt(index);
+		} finally {
+			unlock(rlock);
+		}
 	}
 
 	//-----------------------------------------------------------------
@@ -216,32 +300,60 @@ abstract class AbstractGISGridSet<P extends GISPrimitive> implements GISSet<P> {
 
 	@Override
 	public void clear() {
-		this.grid.clear();
-		this.clazz = null;
+		final Lock wlock = lockForWriting();
+		try {
+			this.grid.clear();
+			this.clazz = null;
+		} finally {
+			unlock(wlock);
+		}
 	}
 
 	@Override
 	@Pure
 	public boolean isEmpty() {
-		return this.grid.isEmpty();
+		final Lock rlock = lockForReading();
+		try {
+			return this.grid.isEmpty();
+		} finally {
+			unlock(rlock);
+		}
 	}
 
 	@Override
 	@Pure
 	public int size() {
-		return this.grid.getElementCount();
+		final Lock rlock = lockForReading();
+		try {
+			return this.grid.getElementCount();
+		} finally {
+			unlock(rlock);
+		}
 	}
 
 	@Override
 	@Pure
 	public int computeSize() {
-		return this.grid.getElementCount();
+		return size();
 	}
 
+	/** {@inheritDoc}
+	 *
+	 * <p>When the concurrent access is enabled, the replied iterator is
+	 * a snapshot of the elements at the time of the call.
+	 */
 	@Override
 	@Pure
 	public Iterator<P> iterator() {
-		return this.grid.iterator();
+		final Lock rlock = lockForReading();
+		if (rlock == null) {
+			return this.grid.iterator();
+		}
+		try {
+			return new GISSetSnapshotIterator<>(this, this.grid.iterator());
+		} finally {
+			rlock.unlock();
+		}
 	}
 
 	@Override
@@ -250,26 +362,44 @@ abstract class AbstractGISGridSet<P extends GISPrimitive> implements GISSet<P> {
 		return iterator(clipBounds, -1);
 	}
 
+	/** {@inheritDoc}
+	 *
+	 * <p>When the concurrent access is enabled, the replied iterator is
+	 * a snapshot of the elements at the time of the call.
+	 */
 	@Override
 	@Pure
 	public Iterator<P> iterator(Rectangle2afp<?, ?, ?, ?, ?, ?> clipBounds, int budget) {
-		return this.grid.iterator(clipBounds, budget);
+		final Lock rlock = lockForReading();
+		if (rlock == null) {
+			return this.grid.iterator(clipBounds, budget);
+		}
+		try {
+			return new GISSetSnapshotIterator<>(this, this.grid.iterator(clipBounds, budget));
+		} finally {
+			rlock.unlock();
+		}
 	}
 
 	@Override
 	@Pure
 	public Object[] toArray() {
-		final int count = this.grid.getElementCount();
-		final Object[] tab = new Object[count];
-		int i = 0;
-		for (final P element : this.grid) {
-			if (i >= count) {
-				break;
+		final Lock rlock = lockForReading();
+		try {
+			final int count = this.grid.getElementCount();
+			final Object[] tab = new Object[count];
+			int i = 0;
+			for (final P element : this.grid) {
+				if (i >= count) {
+					break;
+				}
+				tab[i] = element;
+				++i;
 			}
-			tab[i] = element;
-			++i;
+			return tab;
+		} finally {
+			unlock(rlock);
 		}
-		return tab;
 	}
 
 	@Override
@@ -280,25 +410,30 @@ abstract class AbstractGISGridSet<P extends GISPrimitive> implements GISSet<P> {
 		final Class<T[]> clazz1 = (Class<T[]>) array.getClass();
 		final Class<? extends T> clazz2 = (Class<? extends T>) clazz1.getComponentType();
 
-		int count = this.grid.getElementCount();
-		T[] tab = array;
+		final Lock rlock = lockForReading();
+		try {
+			int count = this.grid.getElementCount();
+			T[] tab = array;
 
-		if (array.length > count) {
-			count = array.length;
-		}
-		if (array.length < count) {
-			tab = clazz1.cast(Array.newInstance(clazz2, count));
-		}
+			if (array.length > count) {
+				count = array.length;
+			}
+			if (array.length < count) {
+				tab = clazz1.cast(Array.newInstance(clazz2, count));
+			}
 
-		int i = 0;
-		for (final P element : this.grid) {
-			if (i >= count) {
-				break;
+			int i = 0;
+			for (final P element : this.grid) {
+				if (i >= count) {
+					break;
+				}
+				tab[i] = clazz2.cast(element);
+				++i;
 			}
-			tab[i] = clazz2.cast(element);
-			++i;
+			return tab;
+		} finally {
+			unlock(rlock);
 		}
-		return tab;
 	}
 
 	@Override
@@ -308,6 +443,7 @@ abstract class AbstractGISGridSet<P extends GISPrimitive> implements GISSet<P> {
 		if (obj == null) {
 			return false;
 		}
+		final Lock rlock = lockForReading();
 		try {
 			final P primitive = (P) obj;
 			for (final GridCell<P> cell : this.grid.getGridCellsOn(primitive.getGeoLocation().toBounds2D())) {
@@ -319,6 +455,8 @@ abstract class AbstractGISGridSet<P extends GISPrimitive> implements GISSet<P> {
 			}
 		} catch (ClassCastException exception) {
 			//
+		} finally {
+			unlock(rlock);
 		}
 		return false;
 	}
@@ -342,27 +480,42 @@ abstract class AbstractGISGridSet<P extends GISPrimitive> implements GISSet<P> {
 
 	@Override
 	public boolean remove(Object obj) {
-		if (this.clazz != null && this.clazz.isInstance(obj)) {
-			return this.grid.removeElement(this.clazz.cast(obj));
+		final Lock wlock = lockForWriting();
+		try {
+			if (this.clazz != null && this.clazz.isInstance(obj)) {
+				return this.grid.removeElement(this.clazz.cast(obj));
+			}
+			return false;
+		} finally {
+			unlock(wlock);
 		}
-		return false;
 	}
 
 	@Override
 	public boolean removeAll(Collection<?> col) {
-		boolean changed = false;
-		for (final Object o : col) {
-			if (remove(o)) {
-				changed = true;
+		final Lock wlock = lockForWriting();
+		try {
+			boolean changed = false;
+			for (final Object o : col) {
+				if (remove(o)) {
+					changed = true;
+				}
 			}
+			return changed;
+		} finally {
+			unlock(wlock);
 		}
-		return changed;
 	}
 
 	@Override
 	public boolean retainAll(Collection<?> col) {
-		clear();
-		return addAll(new CheckedCollection(col));
+		final Lock wlock = lockForWriting();
+		try {
+			clear();
+			return addAll(new CheckedCollection(col));
+		} finally {
+			unlock(wlock);
+		}
 	}
 
 	@Override
@@ -370,13 +523,18 @@ abstract class AbstractGISGridSet<P extends GISPrimitive> implements GISSet<P> {
 		if (col == null) {
 			return false;
 		}
-		boolean changed = false;
-		for (final P element : col) {
-			if (add(element)) {
-				changed = true;
+		final Lock wlock = lockForWriting();
+		try {
+			boolean changed = false;
+			for (final P element : col) {
+				if (add(element)) {
+					changed = true;
+				}
 			}
+			return changed;
+		} finally {
+			unlock(wlock);
 		}
-		return changed;
 	}
 
 	//-----------------------------------------------------------------
@@ -386,20 +544,44 @@ abstract class AbstractGISGridSet<P extends GISPrimitive> implements GISSet<P> {
 	@Override
 	@Pure
 	public int indexOf(Object obj) {
-		if (this.clazz.isInstance(obj)) {
-			return this.grid.indexOf(this.clazz.cast(obj));
+		final Lock rlock = lockForReading();
+		try {
+			if (this.clazz.isInstance(obj)) {
+				return this.grid.indexOf(this.clazz.cast(obj));
+			}
+			return -1;
+		} finally {
+			unlock(rlock);
 		}
-		return -1;
 	}
 
 	//-----------------------------------------------------------------
 	// Dedicated API
 	//----------------------------------------------------------------
 
+	/** {@inheritDoc}
+	 *
+	 * <p>When the concurrent access is enabled, the replied iterator is
+	 * a snapshot of the bounds at the time of the call.
+	 */
 	@Override
 	@Pure
 	public Iterator<Rectangle2afp<?, ?, ?, ?, ?, ?>> boundsIterator() {
-		return new BoundsIterator(this.grid.getGridCells().iterator());
+		final Lock rlock = lockForReading();
+		if (rlock == null) {
+			return new BoundsIterator(this.grid.getGridCells().iterator());
+		}
+		try {
+			final List<Rectangle2afp<?, ?, ?, ?, ?, ?>> bounds = new ArrayList<>();
+			final Iterator<Rectangle2afp<?, ?, ?, ?, ?, ?>> iterator = new BoundsIterator(
+					this.grid.getGridCells().iterator());
+			while (iterator.hasNext()) {
+				bounds.add(iterator.next());
+			}
+			return Collections.unmodifiableList(bounds).iterator();
+		} finally {
+			rlock.unlock();
+		}
 	}
 
 	@Override
@@ -58,6 +58,12 @@ class Grid<P extends GISPrimitive> implements Iterable<P> {
 
 	private int cellCount;
 
+	/** Binary indexed tree (Fenwick tree) of the numbers of reference elements in the cells.
+	 * The cells are indexed in row-major order, that is the order of {@link #getGridCells()}.
+	 * The index 0 is unused.
+	 */
+	private int[] referenceCounts;
+
 	/** Constructor.
 	 * @param nRows numbers of rows in the grid
 	 * @param nColumns numbers of columns in the grid
@@ -69,6 +75,7 @@ class Grid<P extends GISPrimitive> implements Iterable<P> {
 		this.ncolumns = nColumns;
 		this.bounds = bounds;
 		this.cells = new GridCell[this.nrows][this.ncolumns];
+		this.referenceCounts = new int[this.nrows * this.ncolumns + 1];
 	}
 
 	@Override
@@ -109,10 +116,62 @@ class Grid<P extends GISPrimitive> implements Iterable<P> {
 	@SuppressWarnings("unchecked")
 	public void clear() {
 		this.cells = new GridCell[this.nrows][this.ncolumns];
+		this.referenceCounts = new int[this.nrows * this.ncolumns + 1];
 		this.elementCount = 0;
 		this.cellCount = 0;
 	}
 
+	/** Replies the index of the given cell in the row-major order.
+	 *
+	 * @param row the row index.
+	 * @param column the column index.
+	 * @return the index of the cell.
+	 */
+	@Pure
+	private int cellIndex(int row, int column) {
+		return row * this.ncolumns + column;
+	}
+
+	/** Add the given amount to the number of reference elements of a cell.
+	 *
+	 * @param cellIndex the index of the cell in the row-major order.
+	 * @param delta the amount to add.
+	 */
+	private void addReferenceCount(int cellIndex, int delta) {
+		final int[] counts = this.referenceCounts;
+		for (int i = cellIndex + 1; i < counts.length; i += i & -i) {
+			counts[i] += delta;
+		}
+	}
+
+	/** Replies the number of reference elements in the cells that are before the given cell.
+	 *
+	 * @param cellIndex the index of the cell in the row-major order.
+	 * @return the number of reference elements in the cells with an index lower than {@code cellIndex}.
+	 */
+	@Pure
+	private int sumReferenceCounts(int cellIndex) {
+		final int[] counts = this.referenceCounts;
+		int sum = 0;
+		for (int i = cellIndex; i > 0; i -= i & -i) {
+			sum += counts[i];
+		}
+		return sum;
+	}
+
+	/** Update the reference counts after a change of the content of the given cell.
+	 * The cells that are no more inside the grid are ignored.
+	 *
+	 * @param cell the changed cell.
+	 * @param oldCount the number of reference elements in the cell before the change.
+	 */
+	private void updateReferenceCount(GridCell<P> cell, int oldCount) {
+		final int delta = cell.getReferenceElementCount() - oldCount;
+		if (delta != 0 && this.cells[cell.row()][cell.column()] == cell) {
+			addReferenceCount(cellIndex(cell.row(), cell.column()), delta);
+		}
+	}
+
 	/** Replies if the grid is empty.
 	 *
 	 * @return <code>true</code> if the grid is empty; otherwise <code>false</code>.
@@ -185,6 +244,7 @@ class Grid<P extends GISPrimitive> implements Iterable<P> {
 	public GridCell<P> removeCellAt(int row, int column) {
 		final GridCell<P> cell = this.cells[row][column];
 		if (cell != null) {
+			addReferenceCount(cellIndex(row, column), -cell.getReferenceElementCount());
 			this.cells[row][column] = null;
 			--this.cellCount;
 			for (final P element : cell) {
@@ -204,8 +264,11 @@ class Grid<P extends GISPrimitive> implements Iterable<P> {
 		boolean changed = false;
 		if (element != null) {
 			final GridCellElement<P> gridElement = new GridCellElement<>(element);
+			int oldCount;
 			for (final GridCell<P> cell : getGridCellsOn(element.getGeoLocation().toBounds2D(), true)) {
+				oldCount = cell.getReferenceElementCount();
 				if (cell.addElement(gridElement)) {
+					updateReferenceCount(cell, oldCount);
 					changed = true;
 				}
 			}
@@ -226,16 +289,21 @@ class Grid<P extends GISPrimitive> implements Iterable<P> {
 		boolean changed = false;
 		if (element != null) {
 			GridCellElement<P> gridElement;
+			int oldCount;
 			for (final GridCell<P> cell : getGridCellsOn(element.getGeoLocation().toBounds2D())) {
+				oldCount = cell.getReferenceElementCount();
 				gridElement = cell.removeElement(element);
 				if (gridElement != null) {
+					updateReferenceCount(cell, oldCount);
 					if (cell.isEmpty()) {
 						this.cells[cell.row()][cell.column()] = null;
 						--this.cellCount;
 					}
 					for (final GridCell<P> otherCell : gridElement.consumeCells()) {
 						assert otherCell != cell;
+						oldCount = otherCell.getReferenceElementCount();
 						otherCell.removeElement(element);
+						updateReferenceCount(otherCell, oldCount);
 						if (otherCell.isEmpty()) {
 							this.cells[otherCell.row()][otherCell.column()] = null;
 							--this.cellCount;
@@ -412,44 +480,68 @@ class Grid<P extends GISPrimitive> implements Iterable<P> {
 	}
 
 	/** Replies the index of the specified element.
+	 *
+	 * <p>The element is first searched in the cells that are covered by its geo-location.
+	 * If the element is not found in them, e.g. because its geo-location has changed since
+	 * its insertion in the grid, all the cells are searched.
+	 * The number of elements before its reference cell is replied by the prefix counts
+	 * of the grid in a logarithmic time.
 	 *
 	 * @param element the element.
 	 * @return the index of the specified element or {@code -1} if it was not found.
 	 */
 	@Pure
 	public int indexOf(P element) {
-		int idx;
-		int globalIdx = 0;
-		for (final GridCell<P> cell : getGridCells()) {
-			idx = cell.indexOf(element);
-			if (idx != -1) {
-				return globalIdx + idx;
+		if (element != null) {
+			int idx;
+			for (final GridCell<P> cell : getGridCellsOn(element.getGeoLocation().toBounds2D())) {
+				idx = cell.indexOf(element);
+				if (idx != -1) {
+					return sumReferenceCounts(cellIndex(cell.row(), cell.column())) + idx;
+				}
+			}
+			for (final GridCell<P> cell : getGridCells()) {
+				idx = cell.indexOf(element);
+				if (idx != -1) {
+					return sumReferenceCounts(cellIndex(cell.row(), cell.column())) + idx;
+				}
 			}
-			globalIdx += cell.getReferenceElementCount();
 		}
 		return -1;
 	}
 
 	/** Replies the element at the specified index.
+	 *
+	 * <p>The cell that contains the element is found in a logarithmic time with the prefix counts
+	 * of the grid.
 	 *
 	 * @param index the index.
 	 * @return the element at the specified position.
 	 */
 	@Pure
 	public P getElementAt(int index) {
-		if (index >= 0) {
-			int idx = 0;
-			int eIdx;
-			for (final GridCell<P> cell : getGridCells()) {
-				eIdx = idx + cell.getReferenceElementCount();
-				if (index < eIdx) {
+		if (index >= 0 && index < this.elementCount) {
+			// Search the greatest position for which the prefix count is lower or equal to the index.
+			final int[] counts = this.referenceCounts;
+			int position = 0;
+			int remaining = index;
+			for (int step = Integer.highestOneBit(counts.length - 1); step > 0; step >>= 1) {
+				final int next = position + step;
+				if (next < counts.length && counts[next] <= remaining) {
+					position = next;
+					remaining -= counts[next];
+				}
+			}
+			// position is the index of the cell in the row-major order
+			if (position < this.nrows * this.ncolumns) {
+				final GridCell<P> cell = this.cells[position / this.ncolumns][position % this.ncolumns];
+				if (cell != null) {
 					try {
-						return cell.getElementAt(index - idx);
+						return cell.getElementAt(remaining);
 					} catch (IndexOutOfBoundsException exception) {
 						throw new IndexOutOfBoundsException(Integer.toString(index));
 					}
 				}
-				idx = eIdx;
 			}
 		}
 		throw new IndexOutOfBoundsException(Integer.toString(index));
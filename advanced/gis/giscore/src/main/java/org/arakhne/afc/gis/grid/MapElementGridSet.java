@@ -20,6 +20,8 @@
 
 package org.arakhne.afc.gis.grid;
 
+import java.util.concurrent.locks.Lock;
+
 import org.eclipse.xtext.xbase.lib.Pair;
 import org.eclipse.xtext.xbase.lib.Pure;
 
@@ -71,11 +73,16 @@ public class MapElementGridSet<P extends MapElement> extends AbstractGISGridSet<
 
 	@Override
 	public boolean add(P point) {
-		if (this.grid.addElement(point)) {
-			updateComponentType(point);
-			return true;
+		final Lock wlock = lockForWriting();
+		try {
+			if (this.grid.addElement(point)) {
+				updateComponentType(point);
+				return true;
+			}
+			return false;
+		} finally {
+			unlock(wlock);
 		}
-		return false;
 	}
 
 	@Override
@@ -103,39 +110,44 @@ public class MapElementGridSet<P extends MapElement> extends AbstractGISGridSet<
 	@Override
 	@Pure
 	public Pair<P, Double> getNearestData(Point2D<?, ?> position) {
-		final AroundCellIterator<P> iterator = this.grid.getGridCellsAround(
-				position,
-				Double.POSITIVE_INFINITY).aroundIterator();
-		GridCell<P> cell;
-		double maxDistance = Double.POSITIVE_INFINITY;
-		P nearest = null;
-		int level = 1;
-		boolean foundInLevel = false;
-		while (iterator.hasNext()) {
-			cell = iterator.next();
-			if (iterator.getLevel() > level) {
-				if (!foundInLevel && nearest != null) {
-					return new Pair<>(nearest, maxDistance);
+		final Lock rlock = lockForReading();
+		try {
+			final AroundCellIterator<P> iterator = this.grid.getGridCellsAround(
+					position,
+					Double.POSITIVE_INFINITY).aroundIterator();
+			GridCell<P> cell;
+			double maxDistance = Double.POSITIVE_INFINITY;
+			P nearest = null;
+			int level = 1;
+			boolean foundInLevel = false;
+			while (iterator.hasNext()) {
+				cell = iterator.next();
+				if (iterator.getLevel() > level) {
+					if (!foundInLevel && nearest != null) {
+						return new Pair<>(nearest, maxDistance);
+					}
+					level = iterator.getLevel();
+					foundInLevel = false;
 				}
-				level = iterator.getLevel();
-				foundInLevel = false;
-			}
-			double dist = cell.getBounds().getDistance(position);
-			if (dist <= maxDistance) {
-				foundInLevel = true;
-				for (final P element : cell) {
-					dist = element.getDistance(position);
-					if (dist <= maxDistance) {
-						maxDistance = dist;
-						nearest = element;
+				double dist = cell.getBounds().getDistance(position);
+				if (dist <= maxDistance) {
+					foundInLevel = true;
+					for (final P element : cell) {
+						dist = element.getDistance(position);
+						if (dist <= maxDistance) {
+							maxDistance = dist;
+							nearest = element;
+						}
 					}
 				}
 			}
+			if (nearest != null) {
+				return new Pair<>(nearest, maxDistance);
+			}
+			return null;
+		} finally {
+			unlock(rlock);
 		}
-		if (nearest != null) {
-			return new Pair<>(nearest, maxDistance);
-		}
-		return null;
 	}
 
 }
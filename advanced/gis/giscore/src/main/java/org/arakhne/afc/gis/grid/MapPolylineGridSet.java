@@ -20,6 +20,8 @@
 
 package org.arakhne.afc.gis.grid;
 
+import java.util.concurrent.locks.Lock;
+
 import org.eclipse.xtext.xbase.lib.Pure;
 
 import org.arakhne.afc.gis.GISPolylineSet;
@@ -73,23 +75,28 @@ public class MapPolylineGridSet<P extends MapPolyline> extends MapElementGridSet
 	public boolean add(P polyline, double precision,
 			OutputParameter<P> firstNeighbour,
 			OutputParameter<P> secondNeighbour) {
-		if (add(polyline)) {
-			Point2d point;
+		final Lock wlock = lockForWriting();
+		try {
+			if (add(polyline)) {
+				Point2d point;
+
+				point = polyline.getPointAt(0);
+				if (point != null) {
+					firstNeighbour.set(getNearestEnd(polyline, point, precision));
+				}
 
-			point = polyline.getPointAt(0);
-			if (point != null) {
-				firstNeighbour.set(getNearestEnd(polyline, point, precision));
-			}
+				point = polyline.getPointAt(polyline.getPointCount() - 1);
+				if (point != null) {
+					secondNeighbour.set(getNearestEnd(polyline, point, precision));
+				}
 
-			point = polyline.getPointAt(polyline.getPointCount() - 1);
-			if (point != null) {
-				secondNeighbour.set(getNearestEnd(polyline, point, precision));
+				return true;
 			}
 
-			return true;
+			return false;
+		} finally {
+			unlock(wlock);
 		}
-
-		return false;
 	}
 
 	@Override
@@ -99,38 +106,43 @@ public class MapPolylineGridSet<P extends MapPolyline> extends MapElementGridSet
 	}
 
 	private P getNearestEnd(P exception, Point2D<?, ?> position, double maximalDistance) {
-		final AroundCellIterator<P> iterator = this.grid.getGridCellsAround(
-				position,
-				maximalDistance).aroundIterator();
-		GridCell<P> cell;
-		double maxDistance = maximalDistance;
-		P nearest = null;
-		int level = 1;
-		boolean foundInLevel = false;
-		while (iterator.hasNext()) {
-			cell = iterator.next();
-			if (iterator.getLevel() > level) {
-				if (!foundInLevel && nearest != null) {
-					return nearest;
+		final Lock rlock = lockForReading();
+		try {
+			final AroundCellIterator<P> iterator = this.grid.getGridCellsAround(
+					position,
+					maximalDistance).aroundIterator();
+			GridCell<P> cell;
+			double maxDistance = maximalDistance;
+			P nearest = null;
+			int level = 1;
+			boolean foundInLevel = false;
+			while (iterator.hasNext()) {
+				cell = iterator.next();
+				if (iterator.getLevel() > level) {
+					if (!foundInLevel && nearest != null) {
+						return nearest;
+					}
+					level = iterator.getLevel();
+					foundInLevel = false;
 				}
-				level = iterator.getLevel();
-				foundInLevel = false;
-			}
-			double dist = cell.getBounds().getDistance(position);
-			if (dist <= maxDistance) {
-				foundInLevel = true;
-				for (final P element : cell) {
-					if (exception == null || !exception.equals(element)) {
-						dist = element.distanceToEnd(position);
-						if (dist <= maxDistance) {
-							maxDistance = dist;
-							nearest = element;
+				double dist = cell.getBounds().getDistance(position);
+				if (dist <= maxDistance) {
+					foundInLevel = true;
+					for (final P element : cell) {
+						if (exception == null || !exception.equals(element)) {
+							dist = element.distanceToEnd(position);
+							if (dist <= maxDistance) {
+								maxDistance = dist;
+								nearest = element;
+							}
 						}
 					}
 				}
 			}
+			return nearest;
+		} finally {
+			unlock(rlock);
 		}
-		return nearest;
 	}
 
 	@Override
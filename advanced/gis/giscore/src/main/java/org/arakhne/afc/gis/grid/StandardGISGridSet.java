@@ -20,6 +20,8 @@
 
 package org.arakhne.afc.gis.grid;
 
+import java.util.concurrent.locks.Lock;
+
 import org.arakhne.afc.gis.primitive.GISPrimitive;
 import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
 
@@ -61,11 +63,16 @@ public class StandardGISGridSet<P extends GISPrimitive>
 
 	@Override
 	public boolean add(P point) {
-		if (this.grid.addElement(point)) {
-			updateComponentType(point);
-			return true;
+		final Lock wlock = lockForWriting();
+		try {
+			if (this.grid.addElement(point)) {
+				updateComponentType(point);
+				return true;
+			}
+			return false;
+		} finally {
+			unlock(wlock);
 		}
-		return false;
 	}
 
 }
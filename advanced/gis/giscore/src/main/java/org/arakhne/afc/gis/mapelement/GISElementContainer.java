@@ -29,6 +29,7 @@ import org.eclipse.xtext.xbase.lib.Pure;
 import org.arakhne.afc.gis.coordinate.MapMetricProjection;
 import org.arakhne.afc.gis.primitive.GISContainer;
 import org.arakhne.afc.math.geometry.d2.afp.Rectangle2afp;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
 
 /** Container of elements for a GIS application.
  *
@@ -98,6 +99,19 @@ public interface GISElementContainer<T extends MapElement> extends GISContainer<
 	 */
 	void onMapElementGraphicalAttributeChanged();
 
+	/** Invoked when one of the graphical attributes of the given element
+	 * has changed, including those that change the bounding box.
+	 *
+	 * <p>The default implementation invokes {@link #onMapElementGraphicalAttributeChanged()}.
+	 *
+	 * @param element the changed element.
+	 * @param oldBounds the bounding box of the element before the change, or <code>null</code> if unknown.
+	 * @since 18.0
+	 */
+	default void onMapElementGraphicalAttributeChanged(MapElement element, Rectangle2d oldBounds) {
+		onMapElementGraphicalAttributeChanged();
+	}
+
 	/** Replies the URL from which the geometry of
 	 * the elements in this
 	 * container were read.
@@ -20,6 +20,7 @@
 
 package org.arakhne.afc.gis.mapelement;
 
+import java.util.Arrays;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
@@ -29,6 +30,8 @@ import java.util.UUID;
 import org.eclipse.xtext.xbase.lib.Pure;
 
 import org.arakhne.afc.attrs.collection.AttributeCollection;
+import org.arakhne.afc.gis.coordinate.GISCoordinates;
+import org.arakhne.afc.gis.coordinate.MapMetricProjection;
 import org.arakhne.afc.gis.location.GeoLocation;
 import org.arakhne.afc.gis.location.GeoLocationPointList;
 import org.arakhne.afc.math.geometry.d2.Point2D;
@@ -51,18 +54,32 @@ public abstract class MapComposedElement extends MapElement {
 
 	private static final Validator DEFAULT_VALIDATOR = new Validator();
 
+	/** Minimal number of slots that are added when an internal array must grow.
+	 */
+	private static final int MINIMAL_GROWTH = 8;
+
 	/**
 	 * List of all the points.
 	 * The x-coordinates are at the odd indexes, the y-coordinates
 	 * are at the even ones.
+	 * Only the first {@link #pointCoordinateCount} slots are used.
 	 */
 	private double[] pointCoordinates;
 
+	/** Number of used slots in {@link #pointCoordinates}.
+	 */
+	private int pointCoordinateCount;
+
 	/** List of part's starting points. Except for the first part
 	 * for with the starting index is always 0.
+	 * Only the first {@link #partIndexCount} slots are used.
 	 */
 	private int[] partIndexes;
 
+	/** Number of used slots in {@link #partIndexes}.
+	 */
+	private int partIndexCount;
+
 	/** Create a new map element.
 	 *
 	 * @param id is the unique identifier of this element, or <code>null</code> if unknown.
@@ -96,15 +113,15 @@ public abstract class MapComposedElement extends MapElement {
 	@Pure
 	public MapComposedElement clone() {
 		final MapComposedElement element = (MapComposedElement) super.clone();
-		if (this.partIndexes == null) {
+		if (this.partIndexCount == 0) {
 			element.partIndexes = null;
 		} else {
-			element.partIndexes = this.partIndexes.clone();
+			element.partIndexes = Arrays.copyOf(this.partIndexes, this.partIndexCount);
 		}
-		if (this.pointCoordinates == null) {
+		if (this.pointCoordinateCount == 0) {
 			element.pointCoordinates = null;
 		} else {
-			element.pointCoordinates = this.pointCoordinates.clone();
+			element.pointCoordinates = Arrays.copyOf(this.pointCoordinates, this.pointCoordinateCount);
 		}
 		return element;
 	}
@@ -230,14 +247,19 @@ public abstract class MapComposedElement extends MapElement {
 	@Override
 	@Pure
 	public GeoLocation getGeoLocation() {
-		return new GeoLocationPointList(this.pointCoordinates);
+		if (this.pointCoordinateCount == 0) {
+			return new GeoLocationPointList();
+		}
+		return new GeoLocationPointList(Arrays.copyOf(this.pointCoordinates, this.pointCoordinateCount));
 	}
 
 	/** Remove all the points.
 	 */
 	public void clear() {
 		this.pointCoordinates = null;
+		this.pointCoordinateCount = 0;
 		this.partIndexes = null;
+		this.partIndexCount = 0;
 		resetBoundingBox();
 		fireShapeChanged();
 		fireElementChanged();
@@ -249,10 +271,23 @@ public abstract class MapComposedElement extends MapElement {
 	 */
 	@Pure
 	public int getGroupCount() {
-		if (this.pointCoordinates == null) {
+		if (this.pointCoordinateCount == 0) {
 			return 0;
 		}
-		return this.partIndexes == null ? 1 : this.partIndexes.length + 1;
+		return this.partIndexCount + 1;
+	}
+
+	/** Replies the internal array of the point coordinates, without copy.
+	 * Only the first {@code 2 * getPointCount()} values are meaningful.
+	 * The x-coordinates are at the even indexes, the y-coordinates at the odd ones.
+	 * The replied array must not be changed.
+	 *
+	 * @return the coordinates, or <code>null</code> if there is no point.
+	 * @since 18.0
+	 */
+	@Pure
+	final double[] getPointCoordinateArray() {
+		return this.pointCoordinates;
 	}
 
 	/** Replies the count of points in all the parts.
@@ -261,7 +296,7 @@ public abstract class MapComposedElement extends MapElement {
 	 */
 	@Pure
 	public int getPointCount() {
-		return this.pointCoordinates == null ? 0 : this.pointCoordinates.length / 2;
+		return this.pointCoordinateCount / 2;
 	}
 
 
@@ -316,11 +351,11 @@ public abstract class MapComposedElement extends MapElement {
 	 *
 	 * @param groupIndex is the index of the desired group
 	 * @return the index of the point in the list of points.
-	 *     This value is between <code>0</code> and <code>this.pointCoordinates.length()-2</code>
+	 *     This value is between <code>0</code> and <code>this.pointCoordinateCount-2</code>
 	 * @throws IndexOutOfBoundsException in case of error.
 	 */
-	private int firstInGroup(int groupIndex) {
-		if (this.pointCoordinates == null) {
+	int firstInGroup(int groupIndex) {
+		if (this.pointCoordinateCount == 0) {
 			throw new IndexOutOfBoundsException();
 		}
 		final int count = getGroupCount();
@@ -331,7 +366,7 @@ public abstract class MapComposedElement extends MapElement {
 			throw new IndexOutOfBoundsException(groupIndex + ">=" + count); //$NON-NLS-1$
 		}
 		final int g = groupIndex - 1;
-		if (g >= 0 && this.partIndexes != null && g < this.partIndexes.length) {
+		if (g >= 0 && g < this.partIndexCount) {
 			return this.partIndexes[g];
 		}
 		return 0;
@@ -341,11 +376,11 @@ public abstract class MapComposedElement extends MapElement {
 	 *
 	 * @param groupIndex is the index of the desired group
 	 * @return the index of the point in the list of points.
-	 *     This value is between <code>0</code> and <code>this.pointCoordinates.length()-2</code>
+	 *     This value is between <code>0</code> and <code>this.pointCoordinateCount-2</code>
 	 * @throws IndexOutOfBoundsException in case of error.
 	 */
-	private int lastInGroup(int groupIndex) {
-		if (this.pointCoordinates == null) {
+	int lastInGroup(int groupIndex) {
+		if (this.pointCoordinateCount == 0) {
 			throw new IndexOutOfBoundsException();
 		}
 		final int count = getGroupCount();
@@ -355,10 +390,10 @@ public abstract class MapComposedElement extends MapElement {
 		if (groupIndex >= count) {
 			throw new IndexOutOfBoundsException(groupIndex + ">=" + count); //$NON-NLS-1$
 		}
-		if (this.partIndexes != null && groupIndex < this.partIndexes.length) {
+		if (groupIndex < this.partIndexCount) {
 			return this.partIndexes[groupIndex] - 2;
 		}
-		return this.pointCoordinates.length - 2;
+		return this.pointCoordinateCount - 2;
 	}
 
 	/** Replies the group index inside which the point is located at the specified index.
@@ -369,21 +404,17 @@ public abstract class MapComposedElement extends MapElement {
 	 * @throws IndexOutOfBoundsException in case of error.
 	 */
 	private int groupIndexForPoint(int pointIndex) {
-		if (this.pointCoordinates == null || pointIndex < 0 || pointIndex >= this.pointCoordinates.length) {
+		if (pointIndex < 0 || pointIndex >= this.pointCoordinateCount) {
 			throw new IndexOutOfBoundsException();
 		}
 
-		if (this.partIndexes == null) {
-			return 0;
-		}
-
-		for (int i = 0; i < this.partIndexes.length; ++i) {
+		for (int i = 0; i < this.partIndexCount; ++i) {
 			if (pointIndex < this.partIndexes[i]) {
 				return i;
 			}
 		}
 
-		return this.partIndexes.length;
+		return this.partIndexCount;
 	}
 
 	/** Replies the count of points in the specified group.
@@ -394,7 +425,7 @@ public abstract class MapComposedElement extends MapElement {
 	 */
 	@Pure
 	public int getPointCountInGroup(int groupIndex) {
-		if (groupIndex == 0 && this.pointCoordinates == null) {
+		if (groupIndex == 0 && this.pointCoordinateCount == 0) {
 			return 0;
 		}
 		final int firstInGroup = firstInGroup(groupIndex);
@@ -544,28 +575,15 @@ public abstract class MapComposedElement extends MapElement {
 	 * @return the index of the new point in the element.
 	 */
 	public int addPoint(double x, double y) {
-		int pointIndex;
-
-		if (this.pointCoordinates == null) {
-			this.pointCoordinates = new double[] {x, y};
-			this.partIndexes = null;
-			pointIndex = 0;
-		} else {
-			double[] pts = new double[this.pointCoordinates.length + 2];
-			System.arraycopy(this.pointCoordinates, 0, pts, 0, this.pointCoordinates.length);
-			pointIndex = pts.length - 2;
-			pts[pointIndex] = x;
-			pts[pointIndex + 1] = y;
-			this.pointCoordinates = pts;
-			pts = null;
-
-			pointIndex /= 2;
-		}
+		final int pointIndex = this.pointCoordinateCount;
+		openPointSlot(pointIndex);
+		this.pointCoordinates[pointIndex] = x;
+		this.pointCoordinates[pointIndex + 1] = y;
 
 		fireShapeChanged();
 		fireElementChanged();
 
-		return pointIndex;
+		return pointIndex / 2;
 	}
 
 	/** Add the specified point at the end of the specified group.
@@ -599,31 +617,24 @@ public abstract class MapComposedElement extends MapElement {
 
 		int pointIndex;
 
-		if (this.pointCoordinates == null) {
-			this.pointCoordinates = new double[] {x, y};
-			this.partIndexes = null;
+		if (this.pointCoordinateCount == 0) {
+			openPointSlot(0);
+			this.pointCoordinates[0] = x;
+			this.pointCoordinates[1] = y;
 			pointIndex = 0;
 		} else {
-			pointIndex = lastInGroup(groupIndex);
-			double[] pts = new double[this.pointCoordinates.length + 2];
-
-			pointIndex += 2;
+			pointIndex = lastInGroup(groupIndex) + 2;
 
-			System.arraycopy(this.pointCoordinates, 0, pts, 0, pointIndex);
-			System.arraycopy(this.pointCoordinates, pointIndex, pts, pointIndex + 2, this.pointCoordinates.length - pointIndex);
-			pts[pointIndex] = x;
-			pts[pointIndex + 1] = y;
-			this.pointCoordinates = pts;
-			pts = null;
+			openPointSlot(pointIndex);
+			this.pointCoordinates[pointIndex] = x;
+			this.pointCoordinates[pointIndex + 1] = y;
 
 			//Shift the following groups's indexes
-			if (this.partIndexes != null) {
-				for (int idx = groupIndex; idx < this.partIndexes.length; ++idx) {
-					this.partIndexes[idx] += 2;
-				}
+			for (int idx = groupIndex; idx < this.partIndexCount; ++idx) {
+				this.partIndexes[idx] += 2;
 			}
 
-			pointIndex /= 2.;
+			pointIndex /= 2;
 		}
 
 		fireShapeChanged();
@@ -647,38 +658,173 @@ public abstract class MapComposedElement extends MapElement {
 	 * @return the index of the new point in this element.
 	 */
 	public int addGroup(double x, double y) {
-		int pointIndex;
-		if (this.pointCoordinates == null) {
-			this.pointCoordinates = new double[] {x, y};
-			this.partIndexes = null;
-			pointIndex = 0;
-		} else {
-			double[] pts = new double[this.pointCoordinates.length + 2];
-			System.arraycopy(this.pointCoordinates, 0, pts, 0, this.pointCoordinates.length);
-			pointIndex = pts.length - 2;
-			pts[pointIndex] = x;
-			pts[pointIndex + 1] = y;
-
-			final int groupCount = getGroupCount();
-			int[] grps = new int[groupCount];
-			if (this.partIndexes != null) {
-				System.arraycopy(this.partIndexes, 0, grps, 0, groupCount - 1);
-			}
-			grps[groupCount - 1] = pointIndex;
+		final int pointIndex = this.pointCoordinateCount;
+		if (pointIndex > 0) {
+			appendPartIndex(pointIndex);
+		}
+		openPointSlot(pointIndex);
+		this.pointCoordinates[pointIndex] = x;
+		this.pointCoordinates[pointIndex + 1] = y;
 
-			this.pointCoordinates = pts;
-			pts = null;
+		fireShapeChanged();
+		fireElementChanged();
 
-			this.partIndexes = grps;
-			grps = null;
+		return pointIndex / 2;
+	}
 
-			pointIndex /= 2;
+	/** Add groups of points in one call.
+	 *
+	 * <p>This function is equivalent to a call to {@link #addGroup(double, double)} for the first point
+	 * of each group, followed by calls to {@link #addPoint(double, double)} for the other points
+	 * of the group; but the internal storage is resized only once, and the change events
+	 * are fired only once.
+	 *
+	 * @param coordinates the packed coordinates of the points, i.e. <code>x0, y0, x1, y1...</code>
+	 * @param groupStarts the indexes of the first points of the new groups, in increasing order.
+	 *     The first index must be <code>0</code>. If <code>null</code> or empty, all the points are
+	 *     added into a single new group.
+	 * @since 18.0
+	 */
+	public final void addGroups(double[] coordinates, int[] groupStarts) {
+		addGroups(coordinates, coordinates.length / 2, groupStarts, groupStarts == null ? 0 : groupStarts.length);
+	}
+
+	/** Add groups of points in one call.
+	 *
+	 * <p>This function is equivalent to a call to {@link #addGroup(double, double)} for the first point
+	 * of each group, followed by calls to {@link #addPoint(double, double)} for the other points
+	 * of the group; but the internal storage is resized only once, and the change events
+	 * are fired only once.
+	 *
+	 * @param coordinates the packed coordinates of the points, i.e. <code>x0, y0, x1, y1...</code>
+	 * @param pointCount the number of points to read from <var>coordinates</var>.
+	 * @param groupStarts the indexes of the first points of the new groups, in increasing order.
+	 *     The first index must be <code>0</code>.
+	 * @param groupCount the number of groups to read from <var>groupStarts</var>. If <code>0</code>,
+	 *     all the points are added into a single new group.
+	 * @since 18.0
+	 */
+	public void addGroups(double[] coordinates, int pointCount, int[] groupStarts, int groupCount) {
+		if (pointCount < 0 || pointCount * 2 > coordinates.length) {
+			throw new IndexOutOfBoundsException(Integer.toString(pointCount));
+		}
+		if (groupCount < 0 || (groupCount > 0 && groupCount > groupStarts.length)) {
+			throw new IndexOutOfBoundsException(Integer.toString(groupCount));
+		}
+		if (groupCount > 0 && groupStarts[0] != 0) {
+			throw new IllegalArgumentException("groupStarts[0] != 0"); //$NON-NLS-1$
+		}
+		for (int i = 1; i < groupCount; ++i) {
+			if (groupStarts[i] <= groupStarts[i - 1] || groupStarts[i] >= pointCount) {
+				throw new IllegalArgumentException("groupStarts[" + i + "]"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+		if (pointCount == 0) {
+			return;
+		}
+
+		final int base = this.pointCoordinateCount;
+		ensurePointCoordinateCapacity(base + pointCount * 2);
+		System.arraycopy(coordinates, 0, this.pointCoordinates, base, pointCount * 2);
+		this.pointCoordinateCount += pointCount * 2;
+
+		final int newPartIndexCount = (base > 0 ? 1 : 0) + Math.max(groupCount - 1, 0);
+		if (newPartIndexCount > 0) {
+			ensurePartIndexCapacity(this.partIndexCount + newPartIndexCount);
+		}
+		if (base > 0) {
+			this.partIndexes[this.partIndexCount] = base;
+			++this.partIndexCount;
+		}
+		for (int i = 1; i < groupCount; ++i) {
+			this.partIndexes[this.partIndexCount] = base + groupStarts[i] * 2;
+			++this.partIndexCount;
 		}
 
 		fireShapeChanged();
 		fireElementChanged();
+	}
 
-		return pointIndex;
+	/** Ensure that the array of the coordinates is able to contain the given number of values.
+	 *
+	 * @param minCapacity the minimal number of values.
+	 */
+	private void ensurePointCoordinateCapacity(int minCapacity) {
+		if (this.pointCoordinates == null) {
+			this.pointCoordinates = new double[minCapacity];
+		} else if (minCapacity > this.pointCoordinates.length) {
+			final int oldCapacity = this.pointCoordinates.length;
+			final int newCapacity = Math.max(minCapacity, oldCapacity + Math.max(oldCapacity >> 1, MINIMAL_GROWTH));
+			this.pointCoordinates = Arrays.copyOf(this.pointCoordinates, newCapacity);
+		}
+	}
+
+	/** Ensure that the array of the part indexes is able to contain the given number of values.
+	 *
+	 * @param minCapacity the minimal number of values.
+	 */
+	private void ensurePartIndexCapacity(int minCapacity) {
+		if (this.partIndexes == null) {
+			this.partIndexes = new int[Math.max(minCapacity, MINIMAL_GROWTH)];
+		} else if (minCapacity > this.partIndexes.length) {
+			final int oldCapacity = this.partIndexes.length;
+			final int newCapacity = Math.max(minCapacity, oldCapacity + Math.max(oldCapacity >> 1, MINIMAL_GROWTH));
+			this.partIndexes = Arrays.copyOf(this.partIndexes, newCapacity);
+		}
+	}
+
+	/** Insert the two slots of a point in the array of the coordinates.
+	 *
+	 * @param coordinateIndex the index of the x coordinate of the new point.
+	 */
+	private void openPointSlot(int coordinateIndex) {
+		ensurePointCoordinateCapacity(this.pointCoordinateCount + 2);
+		System.arraycopy(
+				this.pointCoordinates, coordinateIndex,
+				this.pointCoordinates, coordinateIndex + 2,
+				this.pointCoordinateCount - coordinateIndex);
+		this.pointCoordinateCount += 2;
+	}
+
+	/** Remove slots from the array of the coordinates.
+	 * If no more point is inside the element, the storage is released.
+	 *
+	 * @param coordinateIndex the index of the first slot to remove.
+	 * @param count the number of slots to remove.
+	 */
+	private void removePointSlots(int coordinateIndex, int count) {
+		System.arraycopy(
+				this.pointCoordinates, coordinateIndex + count,
+				this.pointCoordinates, coordinateIndex,
+				this.pointCoordinateCount - coordinateIndex - count);
+		this.pointCoordinateCount -= count;
+		if (this.pointCoordinateCount == 0) {
+			this.pointCoordinates = null;
+			this.partIndexes = null;
+			this.partIndexCount = 0;
+		}
+	}
+
+	/** Add a part index at the end of the part indexes.
+	 *
+	 * @param coordinateIndex the index of the first coordinate of the part.
+	 */
+	private void appendPartIndex(int coordinateIndex) {
+		ensurePartIndexCapacity(this.partIndexCount + 1);
+		this.partIndexes[this.partIndexCount] = coordinateIndex;
+		++this.partIndexCount;
+	}
+
+	/** Remove the part index at the given position.
+	 *
+	 * @param index the position of the part index to remove.
+	 */
+	private void removePartIndex(int index) {
+		System.arraycopy(
+				this.partIndexes, index + 1,
+				this.partIndexes, index,
+				this.partIndexCount - index - 1);
+		--this.partIndexCount;
 	}
 
 	/**
@@ -697,7 +843,7 @@ public abstract class MapComposedElement extends MapElement {
 	 * @return this
 	 */
 	public MapComposedElement invertPointsIn(int groupIndex) {
-		if (this.pointCoordinates == null) {
+		if (this.pointCoordinateCount == 0) {
 			throw new IndexOutOfBoundsException();
 		}
 		final int grpCount = getGroupCount();
@@ -734,29 +880,43 @@ public abstract class MapComposedElement extends MapElement {
 	 * @return the inverted element
 	 */
 	public MapComposedElement invert() {
-		if (this.pointCoordinates == null) {
+		if (this.pointCoordinateCount == 0) {
 			throw new IndexOutOfBoundsException();
 		}
-		double[] tmp = new double[this.pointCoordinates.length];
-		for (int i = 0; i < this.pointCoordinates.length; i += 2) {
-			tmp[i] = this.pointCoordinates[this.pointCoordinates.length - 1 - (i + 1)];
-			tmp[i + 1] = this.pointCoordinates[this.pointCoordinates.length - 1 - i];
+		final int count = this.pointCoordinateCount;
+		for (int i = 0, j = count - 2; i < j; i += 2, j -= 2) {
+			final double x = this.pointCoordinates[i];
+			final double y = this.pointCoordinates[i + 1];
+			this.pointCoordinates[i] = this.pointCoordinates[j];
+			this.pointCoordinates[i + 1] = this.pointCoordinates[j + 1];
+			this.pointCoordinates[j] = x;
+			this.pointCoordinates[j + 1] = y;
 		}
-		System.arraycopy(tmp, 0, this.pointCoordinates, 0, this.pointCoordinates.length);
 
-		if (this.partIndexes != null) {
-			int[] tmpint = new int[this.partIndexes.length];
-			//part 0 not inside the index array
-			for (int i = 0; i < this.partIndexes.length; ++i) {
-				tmpint[this.partIndexes.length - 1 - i] = this.pointCoordinates.length - this.partIndexes[i];
-			}
-			System.arraycopy(tmpint, 0, this.partIndexes, 0, this.partIndexes.length);
-			tmpint = null;
+		//part 0 not inside the index array
+		for (int i = 0, j = this.partIndexCount - 1; i <= j; ++i, --j) {
+			final int idx = this.partIndexes[i];
+			this.partIndexes[i] = count - this.partIndexes[j];
+			this.partIndexes[j] = count - idx;
 		}
-		tmp = null;
 		return this;
 	}
 
+	/** {@inheritDoc}
+	 *
+	 * <p>The coordinates are converted in a single pass over the internal coordinate array.
+	 * The large elements are split into chunks that are converted in parallel.
+	 */
+	@Override
+	public void convertProjection(MapMetricProjection source, MapMetricProjection target) {
+		if (source != target && this.pointCoordinateCount > 0) {
+			GISCoordinates.convertInParallel(source, target,
+					this.pointCoordinates, 0, this.pointCoordinates, 0, this.pointCoordinateCount / 2);
+			fireShapeChanged();
+			fireElementChanged();
+		}
+	}
+
 	/** Insert the specified point at the given index in the specified group.
 	 *
 	 * @param point is the point to insert
@@ -792,9 +952,10 @@ public abstract class MapComposedElement extends MapElement {
 
 		int pointIndex;
 
-		if (this.pointCoordinates == null) {
-			this.pointCoordinates = new double[] {x, y};
-			this.partIndexes = null;
+		if (this.pointCoordinateCount == 0) {
+			openPointSlot(0);
+			this.pointCoordinates[0] = x;
+			this.pointCoordinates[1] = y;
 			pointIndex = 0;
 		} else {
 			final int startIndex = firstInGroup(groupIndex);
@@ -814,19 +975,13 @@ public abstract class MapComposedElement extends MapElement {
 			pointIndex = startIndex + g * 2;
 
 			// Update the array of points
-			double[] pts = new double[this.pointCoordinates.length + 2];
-			System.arraycopy(this.pointCoordinates, 0, pts, 0, pointIndex);
-			System.arraycopy(this.pointCoordinates, pointIndex, pts, pointIndex + 2, this.pointCoordinates.length - pointIndex);
-			pts[pointIndex] = x;
-			pts[pointIndex + 1] = y;
-			this.pointCoordinates = pts;
-			pts = null;
+			openPointSlot(pointIndex);
+			this.pointCoordinates[pointIndex] = x;
+			this.pointCoordinates[pointIndex + 1] = y;
 
 			//Shift the following groups's indexes
-			if (this.partIndexes != null) {
-				for (int idx = groupIndex; idx < this.partIndexes.length; ++idx) {
-					this.partIndexes[idx] += 2;
-				}
+			for (int idx = groupIndex; idx < this.partIndexCount; ++idx) {
+				this.partIndexes[idx] += 2;
 			}
 
 			pointIndex /= 2;
@@ -1079,47 +1234,19 @@ public abstract class MapComposedElement extends MapElement {
 			final int lastIndex = lastInGroup(groupIndex);
 
 			final int ptsToRemoveCount = (lastIndex - startIndex + 2) / 2;
-			int rest = this.pointCoordinates.length / 2 - ptsToRemoveCount;
-			if (rest > 0) {
-				// Remove the points
-				rest *= 2;
-				final double[] newPts = new double[rest];
-				System.arraycopy(this.pointCoordinates, 0, newPts, 0, startIndex);
-				System.arraycopy(
-						this.pointCoordinates, lastIndex + 2,
-						newPts, startIndex,
-						rest - startIndex);
-				this.pointCoordinates = newPts;
-
-				// Remove the group
-				if (this.partIndexes != null) {
-					// Shift the group's indexes
-					for (int i = groupIndex; i < this.partIndexes.length; ++i) {
-						this.partIndexes[i] -= ptsToRemoveCount * 2;
-					}
 
-					// Removing the group
-					int[] newGroups = null;
-
-					if (this.partIndexes.length > 1) {
-						newGroups = new int[this.partIndexes.length - 1];
-						if (groupIndex == 0) {
-							System.arraycopy(this.partIndexes, 1, newGroups, 0, this.partIndexes.length - 1);
-						} else {
-							System.arraycopy(this.partIndexes, 0, newGroups, 0, groupIndex - 1);
-							System.arraycopy(
-									this.partIndexes, groupIndex,
-									newGroups, groupIndex - 1,
-									this.partIndexes.length - groupIndex);
-						}
-					}
+			// Remove the points
+			removePointSlots(startIndex, ptsToRemoveCount * 2);
 
-					this.partIndexes = newGroups;
+			// Remove the group
+			if (this.partIndexCount > 0) {
+				// Shift the group's indexes
+				for (int i = groupIndex; i < this.partIndexCount; ++i) {
+					this.partIndexes[i] -= ptsToRemoveCount * 2;
 				}
-			} else {
-				// Remove all the points
-				this.pointCoordinates = null;
-				this.partIndexes = null;
+
+				// Removing the group
+				removePartIndex(groupIndex == 0 ? 0 : groupIndex - 1);
 			}
 
 			fireShapeChanged();
@@ -1160,42 +1287,17 @@ public abstract class MapComposedElement extends MapElement {
 				this.pointCoordinates[g + 1]);
 
 		// Deleting the point
-		final double[] newPtsArray;
-		if (this.pointCoordinates.length <= 2) {
-			newPtsArray = null;
-		} else {
-			newPtsArray = new double[this.pointCoordinates.length - 2];
-			System.arraycopy(this.pointCoordinates, 0, newPtsArray, 0, g);
-			System.arraycopy(
-					this.pointCoordinates, g + 2,
-					newPtsArray, g, this.pointCoordinates.length - g - 2);
-		}
-		this.pointCoordinates = newPtsArray;
+		removePointSlots(g, 2);
 
-		if (this.partIndexes != null) {
+		if (this.partIndexCount > 0) {
 			// Shift the group's indexes
-			for (int i = groupIndex; i < this.partIndexes.length; ++i) {
+			for (int i = groupIndex; i < this.partIndexCount; ++i) {
 				this.partIndexes[i] -= 2;
 			}
 			// Removing the group
 			final int ptsCount = (lastIndex - startIndex) / 2;
 			if (ptsCount <= 0) {
-				int[] newGroups = null;
-
-				if (this.partIndexes.length > 1) {
-					newGroups = new int[this.partIndexes.length - 1];
-					if (groupIndex == 0) {
-						System.arraycopy(this.partIndexes, 1, newGroups, 0, this.partIndexes.length - 1);
-					} else {
-						System.arraycopy(this.partIndexes, 0, newGroups, 0, groupIndex - 1);
-						System.arraycopy(
-								this.partIndexes, groupIndex,
-								newGroups, groupIndex - 1,
-								this.partIndexes.length - groupIndex);
-					}
-				}
-
-				this.partIndexes = newGroups;
+				removePartIndex(groupIndex == 0 ? 0 : groupIndex - 1);
 			}
 		}
 
@@ -1279,22 +1381,14 @@ public abstract class MapComposedElement extends MapElement {
 			final int removalCount = (lastToRemove / 2 - firstToRemove / 2) * 2;
 
 			// Deleting the point
-			final double[] newPtsArray = new double[this.pointCoordinates.length - removalCount];
-			assert newPtsArray.length >= 2;
-
-			System.arraycopy(this.pointCoordinates, 0, newPtsArray, 0, firstToRemove);
-			System.arraycopy(this.pointCoordinates, lastToRemove + 2, newPtsArray,
-					firstToRemove + 2, this.pointCoordinates.length - lastToRemove - 2);
-			newPtsArray[firstToRemove] = xbase;
-			newPtsArray[firstToRemove + 1] = ybase;
-
-			this.pointCoordinates = newPtsArray;
+			assert this.pointCoordinateCount - removalCount >= 2;
+			removePointSlots(firstToRemove + 2, removalCount);
+			this.pointCoordinates[firstToRemove] = xbase;
+			this.pointCoordinates[firstToRemove + 1] = ybase;
 
-			if (this.partIndexes != null) {
-				// Shift the group's indexes
-				for (int i = partIndex; i < this.partIndexes.length; ++i) {
-					this.partIndexes[i] -= removalCount;
-				}
+			// Shift the group's indexes
+			for (int i = partIndex; i < this.partIndexCount; ++i) {
+				this.partIndexes[i] -= removalCount;
 			}
 
 			return true;
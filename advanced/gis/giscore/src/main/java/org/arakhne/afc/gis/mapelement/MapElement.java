@@ -31,6 +31,7 @@ import org.arakhne.afc.attrs.attr.AttributeValueImpl;
 import org.arakhne.afc.attrs.collection.AttributeChangeEvent;
 import org.arakhne.afc.attrs.collection.AttributeChangeListener;
 import org.arakhne.afc.attrs.collection.AttributeCollection;
+import org.arakhne.afc.gis.coordinate.MapMetricProjection;
 import org.arakhne.afc.gis.primitive.AbstractBoundedGISElement;
 import org.arakhne.afc.gis.primitive.FlagContainer;
 import org.arakhne.afc.gis.primitive.GISContainer;
@@ -303,7 +304,7 @@ public abstract class MapElement extends AbstractBoundedGISElement<GISElementCon
 		if (isEventFirable()) {
 			final GISElementContainer<?> container = getContainer();
 			if (container != null) {
-				container.onMapElementGraphicalAttributeChanged();
+				container.onMapElementGraphicalAttributeChanged(this, getComputedBoundingBox());
 			}
 		}
 	}
@@ -322,11 +323,12 @@ public abstract class MapElement extends AbstractBoundedGISElement<GISElementCon
 	 * instead of {@code fireShapeChanged()}
 	 */
 	protected final void fireShapeChanged() {
+		final Rectangle2d oldBounds = getComputedBoundingBox();
 		resetBoundingBox();
 		if (isEventFirable()) {
 			final GISElementContainer<?> container = getContainer();
 			if (container != null) {
-				container.onMapElementGraphicalAttributeChanged();
+				container.onMapElementGraphicalAttributeChanged(this, oldBounds);
 			}
 		}
 	}
@@ -375,6 +377,24 @@ public abstract class MapElement extends AbstractBoundedGISElement<GISElementCon
 	@Pure
 	public abstract double getDistance(Point2D<?, ?> point);
 
+	/** Convert, in place, the coordinates of this element from a map projection to another map projection.
+	 *
+	 * <p>The default implementation does not know how the coordinates are stored. It only resets
+	 * the bounding box and fires the change of the shape. The subclasses that are storing coordinates
+	 * must override this function. {@link MapPonctualElement} and {@link MapComposedElement}
+	 * provide an implementation.
+	 *
+	 * @param source the projection of the current coordinates.
+	 * @param target the projection in which the coordinates are converted.
+	 * @since 18.0
+	 */
+	public void convertProjection(MapMetricProjection source, MapMetricProjection target) {
+		if (source != target) {
+			fireShapeChanged();
+			fireElementChanged();
+		}
+	}
+
 	/**
 	 * Replies if the specified point (<var>x</var>,<var>y</var>)
 	 * was inside the figure of this MapElement.
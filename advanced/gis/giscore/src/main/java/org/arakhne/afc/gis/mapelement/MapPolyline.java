@@ -21,7 +21,7 @@
 package org.arakhne.afc.gis.mapelement;
 
 import java.lang.ref.SoftReference;
-import java.util.Iterator;
+import java.util.Arrays;
 import java.util.UUID;
 
 import org.eclipse.xtext.xbase.lib.Inline;
@@ -150,44 +150,101 @@ public class MapPolyline extends MapComposedElement {
 	 */
 	@Pure
 	public double distance(Point2D<?, ?> point, double width) {
+		return distance(point.getX(), point.getY(), width);
+	}
+
+	/** Replies the distance between this figure and the specified point.
+	 *
+	 * @param x is the x-coordinate of the point.
+	 * @param y is the y-coordinate of the point.
+	 * @param width is the width of the polyline.
+	 * @return the computed distance; the distance could be negative
+	 *     if the point lies on the polyline shape (if the polyline has
+	 *     wide width).
+	 * @since 18.0
+	 */
+	@Pure
+	public double distance(double x, double y, double width) {
+		final double[] coordinates = getPointCoordinateArray();
+		final double w = Math.abs(width) / 2.;
 		double mind = Double.POSITIVE_INFINITY;
 		double dist;
-		double w = width;
-		w = Math.abs(w) / 2.;
-
-		Point2d previousPoint;
-		Point2d currentPoint;
-		Iterator<Point2d> points;
-		boolean treatFirstPoint;
-
-		for (final PointGroup grp : groups()) {
-			previousPoint = null;
-			treatFirstPoint = false;
-			points = grp.iterator();
-			while (points.hasNext()) {
-				currentPoint = points.next();
-				if (previousPoint != null) {
-					treatFirstPoint = true;
+		final int groupCount = getGroupCount();
+		for (int g = 0; g < groupCount; ++g) {
+			final int first = firstInGroup(g);
+			final int last = lastInGroup(g);
+			if (first == last) {
+				dist = Point2D.getDistancePointPoint(coordinates[first], coordinates[first + 1], x, y);
+				if (dist < mind) {
+					mind = dist;
+				}
+			} else {
+				for (int i = first; i < last; i += 2) {
 					dist = Segment2afp.calculatesDistanceSegmentPoint(
-							previousPoint.getX(), previousPoint.getY(),
-							currentPoint.getX(), currentPoint.getY(),
-							point.getX(), point.getY())
-							- w;
+							coordinates[i], coordinates[i + 1],
+							coordinates[i + 2], coordinates[i + 3],
+							x, y) - w;
 					if (dist < mind) {
 						mind = dist;
 					}
 				}
-				previousPoint = currentPoint;
 			}
-			if (previousPoint != null && !treatFirstPoint) {
-				dist = previousPoint.getDistance(point);
-				if (dist < mind) {
-					mind = dist;
+		}
+		return mind;
+	}
+
+	/** Replies the distances between this figure and the specified points.
+	 *
+	 * <p>The segments of the polyline are traversed once for all the points, which
+	 * is faster than calling {@link #distance(double, double, double)} for each point.
+	 *
+	 * @param points the packed coordinates of the points, i.e. <code>x0, y0, x1, y1...</code>
+	 * @param width is the width of the polyline.
+	 * @param distances the array that is filled with the distance of each point, i.e. <code>distances[i]</code>
+	 *     is the distance to the point at <code>(points[2 * i], points[2 * i + 1])</code>.
+	 *     Its size must be at least the half of the size of <var>points</var>.
+	 * @since 18.0
+	 * @see #distance(double, double, double)
+	 */
+	public void distances(double[] points, double width, double[] distances) {
+		final int pointCount = points.length / 2;
+		if (distances.length < pointCount) {
+			throw new IndexOutOfBoundsException(distances.length + "<" + pointCount); //$NON-NLS-1$
+		}
+		Arrays.fill(distances, 0, pointCount, Double.POSITIVE_INFINITY);
+		final double[] coordinates = getPointCoordinateArray();
+		final double w = Math.abs(width) / 2.;
+		double dist;
+		final int groupCount = getGroupCount();
+		for (int g = 0; g < groupCount; ++g) {
+			final int first = firstInGroup(g);
+			final int last = lastInGroup(g);
+			if (first == last) {
+				final double px = coordinates[first];
+				final double py = coordinates[first + 1];
+				for (int j = 0; j < pointCount; ++j) {
+					dist = Point2D.getDistancePointPoint(px, py, points[j * 2], points[j * 2 + 1]);
+					if (dist < distances[j]) {
+						distances[j] = dist;
+					}
+				}
+			} else {
+				for (int i = first; i < last; i += 2) {
+					final double x1 = coordinates[i];
+					final double y1 = coordinates[i + 1];
+					final double x2 = coordinates[i + 2];
+					final double y2 = coordinates[i + 3];
+					for (int j = 0; j < pointCount; ++j) {
+						dist = Segment2afp.calculatesDistanceSegmentPoint(
+								x1, y1, x2, y2,
+								points[j * 2], points[j * 2 + 1]) - w;
+						if (dist < distances[j]) {
+							distances[j] = dist;
+						}
+					}
 				}
 			}
 		}
-
-		return mind;
 	}
 
 	/**
@@ -290,62 +347,45 @@ public class MapPolyline extends MapComposedElement {
 	 */
 	@Pure
 	public Point1d getNearestPosition(Point2D<?, ?> pos, double lateralDistance) {
-		Point2d pp = null;
-		final Vector2d v = new Vector2d();
+		final double[] coordinates = getPointCoordinateArray();
+		final int count = getPointCount() * 2;
+		final double x = pos.getX();
+		final double y = pos.getY();
 		double currentPosition = 0.;
 		double bestPosition = Double.NaN;
 		double bestDistance = Double.POSITIVE_INFINITY;
 		final double baseLateralDistance = -Math.abs(lateralDistance);
 		double bestLateralDistance = 0.;
-		for (final Point2d p : points()) {
-			if (pp != null) {
-				final double rawPosition = Segment2afp.findsProjectedPointPointLine(
-						pos.getX(), pos.getY(),
-						pp.getX(), pp.getY(),
-						p.getX(), p.getY());
-				final double position;
-				double dist;
-				final int sign;
-				if (rawPosition < 0.) {
-					position = 0.;
-					dist = Point2D.getDistanceSquaredPointPoint(
-							pos.getX(), pos.getY(),
-							pp.getX(), pp.getY());
-					sign = Segment2afp.findsSideLinePoint(
-							pp.getX(), pp.getY(),
-							p.getX(), p.getY(),
-							pos.getX(), pos.getY(),
-							0.);
-				} else if (rawPosition > 1.) {
-					position = 1.;
-					dist = Point2D.getDistanceSquaredPointPoint(
-							pos.getX(), pos.getY(),
-							p.getX(), p.getY());
-					sign = Segment2afp.findsSideLinePoint(
-							pp.getX(), pp.getY(),
-							p.getX(), p.getY(),
-							pos.getX(), pos.getY(),
-							0.);
-				} else {
-					position = rawPosition;
-					dist = Segment2afp.calculatesRelativeDistanceLinePoint(
-							pp.getX(), pp.getY(),
-							p.getX(), p.getY(),
-							pos.getX(), pos.getY());
-					sign = MathUtil.sign(dist);
-					dist = Math.abs(dist);
-				}
-				v.sub(p, pp);
-				final double t = v.getLength();
-				v.scale(position);
-				if (dist < bestDistance) {
-					bestDistance = dist;
-					bestPosition = currentPosition + v.getLength();
-					bestLateralDistance = baseLateralDistance * sign;
-				}
-				currentPosition += t;
+		for (int i = 2; i < count; i += 2) {
+			final double x1 = coordinates[i - 2];
+			final double y1 = coordinates[i - 1];
+			final double x2 = coordinates[i];
+			final double y2 = coordinates[i + 1];
+			final double rawPosition = Segment2afp.findsProjectedPointPointLine(x, y, x1, y1, x2, y2);
+			final double position;
+			double dist;
+			final int sign;
+			if (rawPosition < 0.) {
+				position = 0.;
+				dist = Point2D.getDistanceSquaredPointPoint(x, y, x1, y1);
+				sign = Segment2afp.findsSideLinePoint(x1, y1, x2, y2, x, y, 0.);
+			} else if (rawPosition > 1.) {
+				position = 1.;
+				dist = Point2D.getDistanceSquaredPointPoint(x, y, x2, y2);
+				sign = Segment2afp.findsSideLinePoint(x1, y1, x2, y2, x, y, 0.);
+			} else {
+				position = rawPosition;
+				dist = Segment2afp.calculatesRelativeDistanceLinePoint(x1, y1, x2, y2, x, y);
+				sign = MathUtil.sign(dist);
+				dist = Math.abs(dist);
+			}
+			final double t = Point2D.getDistancePointPoint(x1, y1, x2, y2);
+			if (dist < bestDistance) {
+				bestDistance = dist;
+				bestPosition = currentPosition + t * position;
+				bestLateralDistance = baseLateralDistance * sign;
 			}
-			pp = p;
+			currentPosition += t;
 		}
 		if (Double.isNaN(bestPosition)) {
 			return null;
@@ -26,6 +26,8 @@ import java.util.UUID;
 import org.eclipse.xtext.xbase.lib.Pure;
 
 import org.arakhne.afc.attrs.collection.AttributeCollection;
+import org.arakhne.afc.gis.coordinate.GISCoordinates;
+import org.arakhne.afc.gis.coordinate.MapMetricProjection;
 import org.arakhne.afc.gis.location.GeoLocation;
 import org.arakhne.afc.gis.location.GeoLocationPoint;
 import org.arakhne.afc.math.geometry.d2.Point2D;
@@ -174,6 +176,15 @@ public abstract class MapPonctualElement extends MapElement {
 		fireElementChanged();
 	}
 
+	@Override
+	public void convertProjection(MapMetricProjection source, MapMetricProjection target) {
+		if (source != target) {
+			final double[] coordinates = {this.position.getX(), this.position.getY()};
+			GISCoordinates.convert(source, target, coordinates);
+			setLocation(coordinates[0], coordinates[1]);
+		}
+	}
+
 	/**
 	 * Replies the distance between this MapPoint and
 	 * <var>another_point</var>.
@@ -200,7 +200,7 @@ public class ArrayMapElementLayer<E extends MapElement> extends MapElementLayer<
 				e.setContainer(this);
 			}
 			resetBoundingBox();
-			fireLayerContentChangedEvent();
+			fireLayerContentChangedEvent(elements);
 			return true;
 		}
 		return false;
@@ -211,7 +211,7 @@ public class ArrayMapElementLayer<E extends MapElement> extends MapElementLayer<
 		if (this.mapElements.add(element)) {
 			element.setContainer(this);
 			resetBoundingBox();
-			fireLayerContentChangedEvent();
+			fireLayerContentChangedEvent(Collections.singleton(element));
 			return true;
 		}
 		return false;
@@ -222,7 +222,7 @@ public class ArrayMapElementLayer<E extends MapElement> extends MapElementLayer<
 		if (this.mapElements.remove(element)) {
 			element.setContainer(null);
 			resetBoundingBox();
-			fireLayerContentChangedEvent();
+			fireLayerContentChangedEvent(Collections.singleton(element));
 			return true;
 		}
 		return false;
@@ -231,12 +231,13 @@ public class ArrayMapElementLayer<E extends MapElement> extends MapElementLayer<
 	@Override
 	public boolean removeAllMapElements() {
 		if (!this.mapElements.isEmpty()) {
+			final Rectangle2d removedBounds = isInBatchUpdate() ? getBoundingBox() : null;
 			for (final MapElement e : this.mapElements) {
 				e.setContainer(null);
 			}
 			this.mapElements.clear();
 			resetBoundingBox();
-			fireLayerContentChangedEvent();
+			fireLayerContentChangedEvent(removedBounds);
 			return true;
 		}
 		return false;
@@ -20,9 +20,11 @@
 
 package org.arakhne.afc.gis.maplayer;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.UUID;
@@ -172,6 +174,7 @@ public class GridMapElementLayer<E extends MapElement> extends MapElementLayer<E
 				this.mapElements.getRowCount(),
 				this.mapElements.getColumnCount(),
 				this.mapElements.getBounds());
+		layer.mapElements.setConcurrentAccessEnabled(isConcurrentAccessEnabled());
 		E cloneElt;
 		for (final E elt : this.mapElements) {
 			cloneElt = (E) elt.clone();
@@ -199,6 +202,23 @@ public class GridMapElementLayer<E extends MapElement> extends MapElementLayer<E
 		return this.mapElements.getColumnCount();
 	}
 
+	@Override
+	protected void rebuildElementIndex() {
+		final List<E> elements = new ArrayList<>(this.mapElements);
+		resetBoundingBox();
+		Rectangle2d b = getBoundingBox();
+		if (b == null || b.isEmpty()) {
+			b = this.mapElements.getBounds();
+		}
+		final MapElementGridSet<E> index = new MapElementGridSet<>(
+				this.mapElements.getRowCount(),
+				this.mapElements.getColumnCount(),
+				b);
+		index.setConcurrentAccessEnabled(isConcurrentAccessEnabled());
+		index.addAll(elements);
+		this.mapElements = index;
+	}
+
 	@Override
 	@Pure
 	protected Rectangle2d calcBounds() {
@@ -249,7 +269,7 @@ public class GridMapElementLayer<E extends MapElement> extends MapElementLayer<E
 				e.setContainer(this);
 			}
 			resetBoundingBox();
-			fireLayerContentChangedEvent();
+			fireLayerContentChangedEvent(elements);
 			return true;
 		}
 		return false;
@@ -260,7 +280,7 @@ public class GridMapElementLayer<E extends MapElement> extends MapElementLayer<E
 		if (this.mapElements.add(element)) {
 			element.setContainer(this);
 			resetBoundingBox();
-			fireLayerContentChangedEvent();
+			fireLayerContentChangedEvent(Collections.singleton(element));
 			return true;
 		}
 		return false;
@@ -271,7 +291,7 @@ public class GridMapElementLayer<E extends MapElement> extends MapElementLayer<E
 		if (this.mapElements.remove(element)) {
 			element.setContainer(null);
 			resetBoundingBox();
-			fireLayerContentChangedEvent();
+			fireLayerContentChangedEvent(Collections.singleton(element));
 			return true;
 		}
 		return false;
@@ -280,12 +300,13 @@ public class GridMapElementLayer<E extends MapElement> extends MapElementLayer<E
 	@Override
 	public boolean removeAllMapElements() {
 		if (!this.mapElements.isEmpty()) {
+			final Rectangle2d removedBounds = isInBatchUpdate() ? getBoundingBox() : null;
 			for (final MapElement e : this.mapElements) {
 				e.setContainer(null);
 			}
 			this.mapElements.clear();
 			resetBoundingBox();
-			fireLayerContentChangedEvent();
+			fireLayerContentChangedEvent(removedBounds);
 			return true;
 		}
 		return false;
@@ -297,6 +318,30 @@ public class GridMapElementLayer<E extends MapElement> extends MapElementLayer<E
 		return this.mapElements.getElementType();
 	}
 
+	/** Replies if the concurrent access to the elements of this layer is enabled.
+	 *
+	 * @return <code>true</code> if the concurrent access is enabled, <code>false</code> if not.
+	 * @since 18.0
+	 * @see MapElementGridSet#isConcurrentAccessEnabled()
+	 */
+	@Pure
+	public boolean isConcurrentAccessEnabled() {
+		return this.mapElements.isConcurrentAccessEnabled();
+	}
+
+	/** Enable or disable the concurrent access to the elements of this layer.
+	 *
+	 * <p>When the concurrent access is enabled, many threads may iterate on the
+	 * elements of this layer while another thread is adding or removing elements.
+	 *
+	 * @param enable is <code>true</code> to enable the concurrent access, <code>false</code> to disable it.
+	 * @since 18.0
+	 * @see MapElementGridSet#setConcurrentAccessEnabled(boolean)
+	 */
+	public void setConcurrentAccessEnabled(boolean enable) {
+		this.mapElements.setConcurrentAccessEnabled(enable);
+	}
+
 	@Override
 	@Pure
 	public int getMapElementCount() {
@@ -418,7 +463,7 @@ public class GridMapElementLayer<E extends MapElement> extends MapElementLayer<E
 			}
 			removed.setContainer(null);
 			resetBoundingBox();
-			fireLayerContentChangedEvent();
+			fireLayerContentChangedEvent(Collections.singleton(removed));
 		}
 
 	} /* class IteratorWrapper */
@@ -21,6 +21,8 @@
 package org.arakhne.afc.gis.maplayer;
 
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import org.eclipse.xtext.xbase.lib.Pure;
@@ -30,6 +32,7 @@ import org.arakhne.afc.gis.coordinate.MapMetricProjection;
 import org.arakhne.afc.gis.mapelement.GISElementContainer;
 import org.arakhne.afc.gis.mapelement.MapElement;
 import org.arakhne.afc.gis.primitive.ChangeListener;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
 import org.arakhne.afc.vmutil.json.JsonBuffer;
 
 /**
@@ -99,7 +102,9 @@ public abstract class MapElementLayer<E extends MapElement> extends MapLayer imp
 	@Override
 	public void fireElementChanged() {
 		super.fireElementChanged();
-		fireChangeListener();
+		if (!isCollectingEvents()) {
+			fireChangeListener();
+		}
 	}
 
 	@Override
@@ -112,15 +117,64 @@ public abstract class MapElementLayer<E extends MapElement> extends MapLayer imp
 	/** Fire the event that indicates the content of this layer was changed.
 	 */
 	protected final void fireLayerContentChangedEvent() {
-		fireLayerContentChangedEvent(new MapLayerContentEvent(this));
+		fireLayerContentChangedEvent((Rectangle2d) null);
+	}
+
+	/** Fire the event that indicates the content of this layer was changed in the given area.
+	 *
+	 * @param bounds the bounds of the changed area, or <code>null</code> if unknown.
+	 * @since 18.0
+	 */
+	protected final void fireLayerContentChangedEvent(Rectangle2d bounds) {
+		fireLayerContentChangedEvent(new MapLayerContentEvent(this, bounds));
 		fireElementChanged();
 	}
 
+	/** Fire the event that indicates the given elements were added to or removed from this layer.
+	 *
+	 * <p>The bounds of the elements are computed and given to the event only when a batch update
+	 * of this layer or of one of its containers is running.
+	 *
+	 * @param elements the added or removed elements.
+	 * @since 18.0
+	 */
+	protected final void fireLayerContentChangedEvent(Iterable<? extends MapElement> elements) {
+		Rectangle2d bounds = null;
+		if (isInBatchUpdate()) {
+			for (final MapElement element : elements) {
+				final Rectangle2d elementBounds = element.getBoundingBox();
+				if (elementBounds == null) {
+					bounds = null;
+					break;
+				}
+				if (bounds == null) {
+					bounds = elementBounds.clone();
+				} else {
+					bounds.setUnion(elementBounds);
+				}
+			}
+		}
+		fireLayerContentChangedEvent(bounds);
+	}
+
 	@Override
 	public void onMapElementGraphicalAttributeChanged() {
 		fireLayerContentChangedEvent();
 	}
 
+	@Override
+	public void onMapElementGraphicalAttributeChanged(MapElement element, Rectangle2d oldBounds) {
+		Rectangle2d bounds = null;
+		if (oldBounds != null && isInBatchUpdate()) {
+			final Rectangle2d newBounds = element.getBoundingBox();
+			if (newBounds != null) {
+				bounds = oldBounds.clone();
+				bounds.setUnion(newBounds);
+			}
+		}
+		fireLayerContentChangedEvent(bounds);
+	}
+
 	@Override
 	@Pure
 	public URL getElementGeometrySourceURL() {
@@ -163,4 +217,44 @@ public abstract class MapElementLayer<E extends MapElement> extends MapLayer imp
 		}
 	}
 
+	/** {@inheritDoc}
+	 *
+	 * <p>The elements are converted in place and in parallel. They do not fire change events
+	 * during the conversion, and they stay inside the layer. The spatial index of the layer is
+	 * rebuilt with {@link #rebuildElementIndex()}, and a single content change event is fired.
+	 */
+	@Override
+	public void convertProjection(MapMetricProjection source, MapMetricProjection target) {
+		if (source != target) {
+			final List<E> elements = new ArrayList<>(getAllMapElements());
+			if (!elements.isEmpty()) {
+				elements.parallelStream().forEach(element -> {
+					final boolean isEventFirable = element.isEventFirable();
+					element.setEventFirable(false);
+					try {
+						element.convertProjection(source, target);
+					} finally {
+						element.setEventFirable(isEventFirable);
+					}
+				});
+				rebuildElementIndex();
+				resetBoundingBox();
+				fireLayerContentChangedEvent();
+			}
+		}
+	}
+
+	/** Rebuild the spatial index of the elements after their coordinates were changed in place.
+	 *
+	 * <p>The elements are not removed from the layer, and no event is fired.
+	 * The default implementation does nothing. The layers that are indexing
+	 * the elements by their positions must override this function.
+	 *
+	 * @since 18.0
+	 * @see #convertProjection(MapMetricProjection, MapMetricProjection)
+	 */
+	protected void rebuildElementIndex() {
+		//
+	}
+
 }
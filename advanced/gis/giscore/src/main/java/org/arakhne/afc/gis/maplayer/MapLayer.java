@@ -20,7 +20,10 @@
 
 package org.arakhne.afc.gis.maplayer;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
@@ -29,6 +32,7 @@ import org.arakhne.afc.attrs.attr.AttributeValue;
 import org.arakhne.afc.attrs.attr.AttributeValueImpl;
 import org.arakhne.afc.attrs.collection.AttributeChangeEvent;
 import org.arakhne.afc.attrs.collection.AttributeCollection;
+import org.arakhne.afc.gis.coordinate.MapMetricProjection;
 import org.arakhne.afc.gis.location.GeoLocation;
 import org.arakhne.afc.gis.location.GeoLocationArea;
 import org.arakhne.afc.gis.location.GeoLocationNowhere;
@@ -43,6 +47,7 @@ import org.arakhne.afc.math.geometry.d2.afp.Circle2afp;
 import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
 import org.arakhne.afc.math.geometry.d2.d.Shape2d;
 import org.arakhne.afc.util.ListenerCollection;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
 
 /**
  * This class represents a layer. A Layer is a container of map elements or other layers.
@@ -108,6 +113,10 @@ public abstract class MapLayer extends AbstractBoundedGISElement<GISLayerContain
 	 */
 	private boolean readOnly;
 
+	/** Events that are collected during a batch update, or <code>null</code> if no batch update is running.
+	 */
+	private transient BatchUpdate batchUpdate;
+
 	/** Create a new layer with the specified attribute source.
 	 *
 	 * @param id is the unique identifier of this element, or <code>null</code> if unknown.
@@ -139,9 +148,137 @@ public abstract class MapLayer extends AbstractBoundedGISElement<GISLayerContain
 	public MapLayer clone() {
 		final MapLayer layer = super.clone();
 		layer.listeners = null;
+		layer.batchUpdate = null;
 		return layer;
 	}
 
+	/** Start a batch update of this layer.
+	 *
+	 * <p>Until the call to the matching {@link #endBatchUpdate()}, the content, attribute and element change
+	 * events of this layer and of its sub-layers are not delivered to the listeners and to the container.
+	 * They are collected and coalesced. When the batch update is ended, a single {@link MapLayerContentEvent}
+	 * that is covering the bounds of the added, removed and changed elements is fired, with one attribute change event per changed attribute
+	 * and one element change notification. The hierarchy events are not delayed.
+	 *
+	 * <p>The batch updates may be nested. The events are fired when the outermost batch update is ended.
+	 *
+	 * @since 18.0
+	 * @see #endBatchUpdate()
+	 * @see #batchUpdate(Runnable)
+	 */
+	public void beginBatchUpdate() {
+		if (this.batchUpdate == null) {
+			this.batchUpdate = new BatchUpdate(getBoundingBox());
+		}
+		++this.batchUpdate.depth;
+	}
+
+	/** End a batch update of this layer and fire the coalesced events in the current thread.
+	 *
+	 * @since 18.0
+	 * @see #beginBatchUpdate()
+	 */
+	public void endBatchUpdate() {
+		endBatchUpdate(null);
+	}
+
+	/** End a batch update of this layer and fire the coalesced events with the given executor.
+	 *
+	 * <p>The executor enables to deliver the events asynchronously, e.g. in a dedicated thread or in the
+	 * thread of the user interface. The events that are fired by the listeners during the asynchronous
+	 * delivery are themselves collected if another batch update was started in the meantime.
+	 *
+	 * @param executor the executor that is delivering the events, or <code>null</code> for delivering the events
+	 *     in the current thread.
+	 * @since 18.0
+	 * @see #beginBatchUpdate()
+	 */
+	public void endBatchUpdate(Executor executor) {
+		final BatchUpdate batch = this.batchUpdate;
+		if (batch == null) {
+			throw new IllegalStateException();
+		}
+		--batch.depth;
+		if (batch.depth <= 0) {
+			this.batchUpdate = null;
+			final Rectangle2d bounds = batch.getAffectedBounds(getBoundingBox());
+			if (executor == null) {
+				fireBatchEvents(batch, bounds);
+			} else {
+				executor.execute(() -> fireBatchEvents(batch, bounds));
+			}
+		}
+	}
+
+	/** Run the given updates of this layer into a batch update.
+	 *
+	 * @param updates the code that is updating the layer.
+	 * @since 18.0
+	 * @see #beginBatchUpdate()
+	 */
+	public void batchUpdate(Runnable updates) {
+		assert updates != null : AssertMessages.notNullParameter();
+		beginBatchUpdate();
+		try {
+			updates.run();
+		} finally {
+			endBatchUpdate();
+		}
+	}
+
+	/** Replies if a batch update of this layer is running.
+	 *
+	 * @return <code>true</code> if the events are collected for a batch update.
+	 * @since 18.0
+	 * @see #beginBatchUpdate()
+	 */
+	@Pure
+	public boolean isBatchUpdating() {
+		return this.batchUpdate != null;
+	}
+
+	/** Replies if a batch update of this layer or of one of its containers is running.
+	 *
+	 * @return <code>true</code> if the events of this layer are collected by a batch update.
+	 * @since 18.0
+	 * @see #isBatchUpdating()
+	 */
+	@Pure
+	protected boolean isInBatchUpdate() {
+		MapLayer layer = this;
+		while (layer != null) {
+			if (layer.batchUpdate != null) {
+				return true;
+			}
+			final GISLayerContainer<?> container = layer.getContainer();
+			layer = container instanceof MapLayer ? (MapLayer) container : null;
+		}
+		return false;
+	}
+
+	/** Replies if the events of this layer are collected by its batch update instead of being fired.
+	 *
+	 * @return <code>true</code> if the events of this layer are collected.
+	 */
+	@Pure
+	boolean isCollectingEvents() {
+		return this.batchUpdate != null && isEventFirable();
+	}
+
+	private void fireBatchEvents(BatchUpdate batch, Rectangle2d bounds) {
+		for (final Map<String, MapLayerAttributeChangeEvent> events : batch.attributeEvents.values()) {
+			for (final MapLayerAttributeChangeEvent event : events.values()) {
+				fireLayerAttributeChangedEvent(event);
+			}
+		}
+		if (batch.contentChanged) {
+			fireLayerContentChangedEvent(new MapLayerContentEvent(this, bounds));
+		}
+		if (batch.elementChanged) {
+			fireElementChanged();
+		}
+	}
+
 	/** Set the unique identifier for element.
 	 *
 	 * <p>A Unique IDentifier (UID) must be unique for all the object instances.
@@ -245,6 +382,10 @@ public abstract class MapLayer extends AbstractBoundedGISElement<GISLayerContain
 	 */
 	public void fireLayerContentChangedEvent(MapLayerContentEvent event) {
 		if (isEventFirable()) {
+			if (this.batchUpdate != null) {
+				this.batchUpdate.contentChanged(event);
+				return;
+			}
 			final MapLayerListener[] theListeners = getListeners();
 			if (theListeners != null && theListeners.length > 0) {
 				for (final MapLayerListener listener : theListeners) {
@@ -276,10 +417,16 @@ public abstract class MapLayer extends AbstractBoundedGISElement<GISLayerContain
 	 * Only the {@link GISEditableChangeListener} are notified.
 	 */
 	public void fireElementChanged() {
-		if (this.listeners != null && isEventFirable()) {
-			final GISEditableChangeListener[] theListeners = this.listeners.getListeners(GISEditableChangeListener.class);
-			for (final GISEditableChangeListener listener : theListeners) {
-				listener.editableGISElementHasChanged(this);
+		if (isEventFirable()) {
+			if (this.batchUpdate != null) {
+				this.batchUpdate.elementChanged = true;
+				return;
+			}
+			if (this.listeners != null) {
+				final GISEditableChangeListener[] theListeners = this.listeners.getListeners(GISEditableChangeListener.class);
+				for (final GISEditableChangeListener listener : theListeners) {
+					listener.editableGISElementHasChanged(this);
+				}
 			}
 		}
 	}
@@ -315,6 +462,10 @@ public abstract class MapLayer extends AbstractBoundedGISElement<GISLayerContain
 	 */
 	public void fireLayerAttributeChangedEvent(MapLayerAttributeChangeEvent event) {
 		if (isEventFirable()) {
+			if (this.batchUpdate != null) {
+				this.batchUpdate.attributeChanged(event);
+				return;
+			}
 			final MapLayerListener[] theListeners = getListeners();
 			if (theListeners != null && theListeners.length > 0) {
 				for (final MapLayerListener listener : theListeners) {
@@ -358,6 +509,26 @@ public abstract class MapLayer extends AbstractBoundedGISElement<GISLayerContain
 		}
 	}
 
+	/** Convert, in place, the coordinates of the content of this layer from a map projection
+	 * to another map projection.
+	 *
+	 * <p>The default implementation does not know the content of the layer. It only resets the
+	 * bounding box and fires the change of the content. The layers that are storing coordinates
+	 * must override this function. {@link MapElementLayer} and {@link MultiMapLayer}
+	 * provide an implementation.
+	 *
+	 * @param source the projection of the current coordinates.
+	 * @param target the projection in which the coordinates are converted.
+	 * @since 18.0
+	 */
+	public void convertProjection(MapMetricProjection source, MapMetricProjection target) {
+		if (source != target) {
+			resetBoundingBox();
+			fireLayerContentChangedEvent(new MapLayerContentEvent(this));
+			fireElementChanged();
+		}
+	}
+
 	/** Clear the current bounding box to force the computation of it at
 	 * the next call to {@link #getBoundingBox()}.
 	 */
@@ -743,4 +914,101 @@ public abstract class MapLayer extends AbstractBoundedGISElement<GISLayerContain
 
 	}
 
+	/** Events that are collected during a batch update.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 18.0
+	 */
+	private static final class BatchUpdate {
+
+		/** Number of nested batch updates.
+		 */
+		int depth;
+
+		/** Indicates if the content has changed.
+		 */
+		boolean contentChanged;
+
+		/** Indicates if the element has changed.
+		 */
+		boolean elementChanged;
+
+		/** Last attribute change event for each layer and attribute name.
+		 */
+		final Map<Object, Map<String, MapLayerAttributeChangeEvent>> attributeEvents = new LinkedHashMap<>();
+
+		/** Bounds of the layer when the batch update has started.
+		 */
+		private final Rectangle2d initialBounds;
+
+		/** Bounds that are explicitly given by the content events.
+		 */
+		private Rectangle2d eventBounds;
+
+		/** Indicates if a content event without bounds was collected.
+		 */
+		private boolean unboundedContentChange;
+
+		/** Constructor.
+		 *
+		 * @param initialBounds the bounds of the layer when the batch update has started.
+		 */
+		BatchUpdate(Rectangle2d initialBounds) {
+			this.initialBounds = initialBounds == null ? null : initialBounds.clone();
+		}
+
+		/** Collect a content event.
+		 *
+		 * @param event the event.
+		 */
+		void contentChanged(MapLayerContentEvent event) {
+			this.contentChanged = true;
+			final Rectangle2d bounds = event.getBounds();
+			if (bounds != null) {
+				this.eventBounds = union(this.eventBounds, bounds);
+			} else {
+				this.unboundedContentChange = true;
+			}
+		}
+
+		/** Collect an attribute event.
+		 *
+		 * @param event the event.
+		 */
+		void attributeChanged(MapLayerAttributeChangeEvent event) {
+			this.attributeEvents.computeIfAbsent(event.getSource(), source -> new LinkedHashMap<>()).put(event.getName(), event);
+		}
+
+		/** Replies the bounds that are covered by the changes.
+		 *
+		 * <p>The bounds are the union of the bounds given by the content events. If one of the content
+		 * events has no bounds, the bounds of the layer before and after the batch update are added.
+		 *
+		 * @param finalBounds the bounds of the layer when the batch update has ended.
+		 * @return the bounds, or <code>null</code> if unknown.
+		 */
+		Rectangle2d getAffectedBounds(Rectangle2d finalBounds) {
+			if (this.unboundedContentChange) {
+				return union(union(this.initialBounds, finalBounds), this.eventBounds);
+			}
+			return this.eventBounds;
+		}
+
+		private static Rectangle2d union(Rectangle2d bounds1, Rectangle2d bounds2) {
+			if (bounds1 == null) {
+				return bounds2 == null ? null : bounds2.clone();
+			}
+			if (bounds2 == null) {
+				return bounds1;
+			}
+			final Rectangle2d union = bounds1.clone();
+			union.setUnion(bounds2);
+			return union;
+		}
+
+	}
+
 }
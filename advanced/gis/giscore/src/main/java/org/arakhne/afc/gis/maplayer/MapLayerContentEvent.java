@@ -22,6 +22,8 @@ package org.arakhne.afc.gis.maplayer;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
+
 /**
  * This interface representes an event on the layer content changes.
  *
@@ -35,11 +37,34 @@ public class MapLayerContentEvent extends ConsumableEvent {
 
 	private static final long serialVersionUID = 5661900782832388216L;
 
+	private final Rectangle2d bounds;
+
 	/** Constructor.
 	 * @param layer the layer.
 	 */
 	public MapLayerContentEvent(MapLayer layer) {
+		this(layer, null);
+	}
+
+	/** Constructor.
+	 *
+	 * @param layer the layer.
+	 * @param bounds the bounds of the area in which the content has changed, or <code>null</code> if unknown.
+	 * @since 18.0
+	 */
+	public MapLayerContentEvent(MapLayer layer, Rectangle2d bounds) {
 		super(layer);
+		this.bounds = bounds;
+	}
+
+	/** Replies the bounds of the area in which the content has changed.
+	 *
+	 * @return the bounds, or <code>null</code> if the area is unknown.
+	 * @since 18.0
+	 */
+	@Pure
+	public Rectangle2d getBounds() {
+		return this.bounds;
 	}
 
 	/** Replies the layer that changed.
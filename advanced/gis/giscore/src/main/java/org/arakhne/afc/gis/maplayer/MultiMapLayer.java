@@ -32,6 +32,7 @@ import org.eclipse.xtext.xbase.lib.Pure;
 import org.arakhne.afc.attrs.attr.AttributeValue;
 import org.arakhne.afc.attrs.collection.AttributeChangeEvent;
 import org.arakhne.afc.attrs.collection.AttributeCollection;
+import org.arakhne.afc.gis.coordinate.MapMetricProjection;
 import org.arakhne.afc.gis.maplayer.MapLayerHierarchyEvent.Type;
 import org.arakhne.afc.gis.primitive.ChangeListener;
 import org.arakhne.afc.gis.primitive.GISTreeBrowsable;
@@ -155,7 +156,9 @@ public class MultiMapLayer<L extends MapLayer> extends MapLayer implements GISTr
 	@Override
 	public void fireLayerContentChangedEvent(MapLayerContentEvent event) {
 		super.fireLayerContentChangedEvent(event);
-		fireChangeListener();
+		if (!isCollectingEvents()) {
+			fireChangeListener();
+		}
 	}
 
 	@Override
@@ -167,7 +170,9 @@ public class MultiMapLayer<L extends MapLayer> extends MapLayer implements GISTr
 	@Override
 	public void fireElementChanged() {
 		super.fireElementChanged();
-		fireChangeListener();
+		if (!isCollectingEvents()) {
+			fireChangeListener();
+		}
 	}
 
 	@SuppressWarnings("unchecked")
@@ -275,6 +280,16 @@ public class MultiMapLayer<L extends MapLayer> extends MapLayer implements GISTr
 		this.visibleBounds = null;
 	}
 
+	@Override
+	public void convertProjection(MapMetricProjection source, MapMetricProjection target) {
+		if (source != target) {
+			for (final L layer : this) {
+				layer.convertProjection(source, target);
+			}
+			resetBoundingBox();
+		}
+	}
+
 	@Override
 	@Pure
 	public int size() {
@@ -20,9 +20,11 @@
 
 package org.arakhne.afc.gis.maplayer;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.UUID;
@@ -218,6 +220,7 @@ public class TreeMapElementLayer<E extends MapElement> extends MapElementLayer<E
 		} else {
 			layer.mapElements = new MapElementTreeSet<>(b);
 		}
+		layer.mapElements.setConcurrentAccessEnabled(isConcurrentAccessEnabled());
 		E cloneElt;
 		for (final E elt : this.mapElements) {
 			cloneElt = (E) elt.clone();
@@ -227,6 +230,22 @@ public class TreeMapElementLayer<E extends MapElement> extends MapElementLayer<E
 		return layer;
 	}
 
+	@Override
+	protected void rebuildElementIndex() {
+		final List<E> elements = new ArrayList<>(this.mapElements);
+		resetBoundingBox();
+		final Rectangle2d b = getBoundingBox();
+		final MapElementTreeSet<E> index;
+		if (b == null || b.isEmpty()) {
+			index = new MapElementTreeSet<>();
+		} else {
+			index = new MapElementTreeSet<>(b);
+		}
+		index.setConcurrentAccessEnabled(isConcurrentAccessEnabled());
+		index.addAll(elements);
+		this.mapElements = index;
+	}
+
 	@Override
 	@Pure
 	protected Rectangle2d calcBounds() {
@@ -277,7 +296,7 @@ public class TreeMapElementLayer<E extends MapElement> extends MapElementLayer<E
 				e.setContainer(this);
 			}
 			resetBoundingBox();
-			fireLayerContentChangedEvent();
+			fireLayerContentChangedEvent(elements);
 			return true;
 		}
 		return false;
@@ -288,7 +307,7 @@ public class TreeMapElementLayer<E extends MapElement> extends MapElementLayer<E
 		if (this.mapElements.add(element)) {
 			element.setContainer(this);
 			resetBoundingBox();
-			fireLayerContentChangedEvent();
+			fireLayerContentChangedEvent(Collections.singleton(element));
 			return true;
 		}
 		return false;
@@ -299,7 +318,7 @@ public class TreeMapElementLayer<E extends MapElement> extends MapElementLayer<E
 		if (this.mapElements.remove(element)) {
 			element.setContainer(null);
 			resetBoundingBox();
-			fireLayerContentChangedEvent();
+			fireLayerContentChangedEvent(Collections.singleton(element));
 			return true;
 		}
 		return false;
@@ -308,12 +327,13 @@ public class TreeMapElementLayer<E extends MapElement> extends MapElementLayer<E
 	@Override
 	public boolean removeAllMapElements() {
 		if (!this.mapElements.isEmpty()) {
+			final Rectangle2d removedBounds = isInBatchUpdate() ? getBoundingBox() : null;
 			for (final MapElement e : this.mapElements) {
 				e.setContainer(null);
 			}
 			this.mapElements.clear();
 			resetBoundingBox();
-			fireLayerContentChangedEvent();
+			fireLayerContentChangedEvent(removedBounds);
 			return true;
 		}
 		return false;
@@ -325,6 +345,30 @@ public class TreeMapElementLayer<E extends MapElement> extends MapElementLayer<E
 		return this.mapElements.getElementType();
 	}
 
+	/** Replies if the concurrent access to the elements of this layer is enabled.
+	 *
+	 * @return <code>true</code> if the concurrent access is enabled, <code>false</code> if not.
+	 * @since 18.0
+	 * @see MapElementTreeSet#isConcurrentAccessEnabled()
+	 */
+	@Pure
+	public boolean isConcurrentAccessEnabled() {
+		return this.mapElements.isConcurrentAccessEnabled();
+	}
+
+	/** Enable or disable the concurrent access to the elements of this layer.
+	 *
+	 * <p>When the concurrent access is enabled, many threads may iterate on the
+	 * elements of this layer while another thread is adding or removing elements.
+	 *
+	 * @param enable is <code>true</code> to enable the concurrent access, <code>false</code> to disable it.
+	 * @since 18.0
+	 * @see MapElementTreeSet#setConcurrentAccessEnabled(boolean)
+	 */
+	public void setConcurrentAccessEnabled(boolean enable) {
+		this.mapElements.setConcurrentAccessEnabled(enable);
+	}
+
 	@Override
 	@Pure
 	public int getMapElementCount() {
@@ -385,7 +429,7 @@ public class TreeMapElementLayer<E extends MapElement> extends MapElementLayer<E
 			}
 			removed.setContainer(null);
 			resetBoundingBox();
-			fireLayerContentChangedEvent();
+			fireLayerContentChangedEvent(Collections.singleton(removed));
 		}
 
 	}
@@ -87,6 +87,17 @@ public abstract class AbstractBoundedGISElement<C extends GISContainer<?>, T ext
 		this.bounds = null;
 	}
 
+	/** Replies the bounding box of this element if it was already computed.
+	 * Contrary to {@link #getBoundingBox()}, this function never computes the bounding box.
+	 *
+	 * @return the bounding box, or <code>null</code> if it was not computed.
+	 * @since 18.0
+	 */
+	@Pure
+	protected final Rectangle2d getComputedBoundingBox() {
+		return this.bounds;
+	}
+
 	/** Set the bounding box of this element.
 	 * This function does not check if the given bounds are
 	 * enclosing the content of this element.
@@ -22,13 +22,22 @@ package org.arakhne.afc.gis.tree;
 
 import java.io.Serializable;
 import java.lang.reflect.Array;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
-
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToDoubleFunction;
+
+import org.eclipse.xtext.xbase.lib.Pair;
 import org.eclipse.xtext.xbase.lib.Pure;
 
 import org.arakhne.afc.gis.GISSet;
+import org.arakhne.afc.gis.GISSetSnapshotIterator;
 import org.arakhne.afc.gis.location.GeoId;
 import org.arakhne.afc.gis.location.GeoLocation;
 import org.arakhne.afc.gis.primitive.GISPrimitive;
@@ -73,6 +82,11 @@ abstract class AbstractGISTreeSet<P extends GISPrimitive,
 	 */
 	private final LinkedTree<P, N> tree = new LinkedTree<>();
 
+	/** Lock that is protecting the internal tree, or <code>null</code> if
+	 * the concurrent access is disabled.
+	 */
+	private volatile ReadWriteLock lock;
+
 	/**
 	 * Create an empty tree.
 	 */
@@ -172,33 +186,100 @@ abstract class AbstractGISTreeSet<P extends GISPrimitive,
 		return this.clazz;
 	}
 
+	@Override
+	@Pure
+	public boolean isConcurrentAccessEnabled() {
+		return this.lock != null;
+	}
+
+	@Override
+	public void setConcurrentAccessEnabled(boolean enable) {
+		if (enable) {
+			if (this.lock == null) {
+				this.lock = new ReentrantReadWriteLock();
+			}
+		} else {
+			this.lock = null;
+		}
+	}
+
+	/** Acquire the lock for reading the internal tree if the concurrent access is enabled.
+	 *
+	 * @return the acquired lock, or <code>null</code> if the concurrent access is disabled.
+	 * @see #unlock(Lock)
+	 */
+	final Lock lockForReading() {
+		final ReadWriteLock rwlock = this.lock;
+		if (rwlock == null) {
+			return null;
+		}
+		final Lock readLock = rwlock.readLock();
+		readLock.lock();
+		return readLock;
+	}
+
+	/** Acquire the lock for changing the internal tree if the concurrent access is enabled.
+	 *
+	 * @return the acquired lock, or <code>null</code> if the concurrent access is disabled.
+	 * @see #unlock(Lock)
+	 */
+	final Lock lockForWriting() {
+		final ReadWriteLock rwlock = this.lock;
+		if (rwlock == null) {
+			return null;
+		}
+		final Lock writeLock = rwlock.writeLock();
+		writeLock.lock();
+		return writeLock;
+	}
+
+	/** Release the given lock.
+	 *
+	 * @param acquiredLock the lock replied by {@link #lockForReading()} or {@link #lockForWriting()}.
+	 */
+	static void unlock(Lock acquiredLock) {
+		if (acquiredLock != null) {
+			acquiredLock.unlock();
+		}
+	}
+
 	@Override
 	@Pure
 	public String toString() {
-		final StringBuilder buffer = new StringBuilder();
-		buffer.append("["); //$NON-NLS-1$
-		for (final P element : this.tree.toDataDepthFirstIterable()) {
-			if (buffer.length() > 1) {
-				buffer.append(", "); //$NON-NLS-1$
+		final Lock rlock = lockForReading();
+		try {
+			final StringBuilder buffer = new StringBuilder();
+			buffer.append("["); //$NON-NLS-1$
+			for (final P element : this.tree.toDataDepthFirstIterable()) {
+				if (buffer.length() > 1) {
+					buffer.append(", "); //$NON-NLS-1$
+				}
+				buffer.append(element.toString());
 			}
-			buffer.append(element.toString());
+			buffer.append("]"); //$NON-NLS-1$
+			return buffer.toString();
+		} finally {
+			unlock(rlock);
 		}
-		buffer.append("]"); //$NON-NLS-1$
-		return buffer.toString();
 	}
 
 	@Override
 	@Pure
 	public N getTreeNodeAt(double x, double y) {
-		final Iterator<N> iterator = new PrefixDepthFirstTreeIterator<>(this.tree, new PointSelector<N>(x, y));
-		N node;
-		while (iterator.hasNext()) {
-			node = iterator.next();
-			if (node.isLeaf()) {
-				return node;
+		final Lock rlock = lockForReading();
+		try {
+			final Iterator<N> iterator = new PrefixDepthFirstTreeIterator<>(this.tree, new PointSelector<N>(x, y));
+			N node;
+			while (iterator.hasNext()) {
+				node = iterator.next();
+				if (node.isLeaf()) {
+					return node;
+				}
 			}
+			return null;
+		} finally {
+			unlock(rlock);
 		}
-		return null;
 	}
 
 	@Override
@@ -207,10 +288,15 @@ abstract class AbstractGISTreeSet<P extends GISPrimitive,
 		if (identifier != null) {
 			final Rectangle2afp<?, ?, ?, ?, ?, ?> objBounds = identifier.toBounds2D();
 			if (objBounds != null) {
-				final GeoIdSelector<P, N> selector = new GeoIdSelector<>(objBounds, identifier);
-				final Iterator<P> iterator = new PrefixDataDepthFirstTreeIterator<>(this.tree, selector, selector);
-				if (iterator.hasNext()) {
-					return iterator.next();
+				final Lock rlock = lockForReading();
+				try {
+					final GeoIdSelector<P, N> selector = new GeoIdSelector<>(objBounds, identifier);
+					final Iterator<P> iterator = new PrefixDataDepthFirstTreeIterator<>(this.tree, selector, selector);
+					if (iterator.hasNext()) {
+						return iterator.next();
+					}
+				} finally {
+					unlock(rlock);
 				}
 			}
 		}
@@ -221,10 +307,15 @@ abstract class AbstractGISTreeSet<P extends GISPrimitive,
 	@Pure
 	public P get(GeoLocation location) {
 		if (location != null) {
-			final GeoLocationSelector<P, N> selector = new GeoLocationSelector<>(location);
-			final Iterator<P> iterator = new PrefixDataDepthFirstTreeIterator<>(this.tree, selector, selector);
-			if (iterator.hasNext()) {
-				return iterator.next();
+			final Lock rlock = lockForReading();
+			try {
+				final GeoLocationSelector<P, N> selector = new GeoLocationSelector<>(location);
+				final Iterator<P> iterator = new PrefixDataDepthFirstTreeIterator<>(this.tree, selector, selector);
+				if (iterator.hasNext()) {
+					return iterator.next();
+				}
+			} finally {
+				unlock(rlock);
 			}
 		}
 		return null;
@@ -236,17 +327,22 @@ abstract class AbstractGISTreeSet<P extends GISPrimitive,
 		if (index < 0) {
 			throw new IndexOutOfBoundsException("index<0"); //$NON-NLS-1$
 		}
-		final Iterator<P> iter = this.tree.dataDepthFirstIterator();
-		P data;
-		int idx = 0;
-		while (iter.hasNext()) {
-			data = iter.next();
-			if (idx == index) {
-				return data;
+		final Lock rlock = lockForReading();
+		try {
+			final Iterator<P> iter = this.tree.dataDepthFirstIterator();
+			P data;
+			int idx = 0;
+			while (iter.hasNext()) {
+				data = iter.next();
+				if (idx == index) {
+					return data;
+				}
+				++idx;
 			}
-			++idx;
+			throw new IndexOutOfBoundsException("index>=" + idx); //$NON-NLS-1$
+		} finally {
+			unlock(rlock);
 		}
-		throw new IndexOutOfBoundsException("index>=" + idx); //$NON-NLS-1$
 	}
 
 	//-----------------------------------------------------------------
@@ -255,37 +351,88 @@ abstract class AbstractGISTreeSet<P extends GISPrimitive,
 
 	@Override
 	public void clear() {
-		this.tree.clear();
-		this.worldBounds = null;
-		this.clazz = null;
+		final Lock wlock = lockForWriting();
+		try {
+			this.tree.clear();
+			this.worldBounds = null;
+			this.clazz = null;
+		} finally {
+			unlock(wlock);
+		}
 	}
 
 	@Override
 	@Pure
 	public boolean isEmpty() {
-		return this.tree.isEmpty();
+		final Lock rlock = lockForReading();
+		try {
+			return this.tree.isEmpty();
+		} finally {
+			unlock(rlock);
+		}
 	}
 
 	@Override
 	@Pure
 	public int size() {
-		return this.tree.getUserDataCount();
+		final Lock rlock = lockForReading();
+		try {
+			return this.tree.getUserDataCount();
+		} finally {
+			unlock(rlock);
+		}
 	}
 
 	@Override
 	public int computeSize() {
-		return this.tree.computeUserDataCount();
+		final Lock rlock = lockForReading();
+		try {
+			return this.tree.computeUserDataCount();
+		} finally {
+			unlock(rlock);
+		}
 	}
 
+	/** {@inheritDoc}
+	 *
+	 * <p>When the concurrent access is enabled, the replied iterator is
+	 * a snapshot of the elements at the time of the call.
+	 */
 	@Override
 	@Pure
 	public Iterator<P> iterator() {
-		return this.tree.dataBreadthFirstIterator();
+		final Lock rlock = lockForReading();
+		if (rlock == null) {
+			return this.tree.dataBreadthFirstIterator();
+		}
+		try {
+			return new GISSetSnapshotIterator<>(this, this.tree.dataBreadthFirstIterator());
+		} finally {
+			rlock.unlock();
+		}
 	}
 
+	/** {@inheritDoc}
+	 *
+	 * <p>When the concurrent access is enabled, the replied iterator is
+	 * a snapshot of the elements at the time of the call.
+	 */
 	@Override
 	@Pure
 	public Iterator<P> iterator(Rectangle2afp<?, ?, ?, ?, ?, ?> clipBounds, int budget) {
+		final Lock rlock = lockForReading();
+		if (rlock == null) {
+			return createIterator(clipBounds, budget);
+		}
+		try {
+			return new GISSetSnapshotIterator<>(this, createIterator(clipBounds, budget));
+		} finally {
+			rlock.unlock();
+		}
+	}
+
+	@Pure
+	private Iterator<P> createIterator(Rectangle2afp<?, ?, ?, ?, ?, ?> clipBounds, int budget) {
 		final N root = this.tree.getRoot();
 		if (root == null || clipBounds == null || clipBounds.isEmpty()) {
 			return Collections.emptyIterator();
@@ -309,17 +456,22 @@ abstract class AbstractGISTreeSet<P extends GISPrimitive,
 	@Override
 	@Pure
 	public Object[] toArray() {
-		final int count = this.tree.getUserDataCount();
-		final Object[] tab = new Object[count];
-		int i = 0;
-		for (final P element : this.tree.toDataDepthFirstIterable()) {
-			if (i >= count) {
-				break;
+		final Lock rlock = lockForReading();
+		try {
+			final int count = this.tree.getUserDataCount();
+			final Object[] tab = new Object[count];
+			int i = 0;
+			for (final P element : this.tree.toDataDepthFirstIterable()) {
+				if (i >= count) {
+					break;
+				}
+				tab[i] = element;
+				++i;
 			}
-			tab[i] = element;
-			++i;
+			return tab;
+		} finally {
+			unlock(rlock);
 		}
-		return tab;
 	}
 
 	@Override
@@ -330,25 +482,30 @@ abstract class AbstractGISTreeSet<P extends GISPrimitive,
 		final Class<T[]> clazz1 = (Class<T[]>) array.getClass();
 		final Class<? extends T> clazz2 = (Class<? extends T>) clazz1.getComponentType();
 
-		int count = this.tree.getUserDataCount();
-		T[] tab = array;
+		final Lock rlock = lockForReading();
+		try {
+			int count = this.tree.getUserDataCount();
+			T[] tab = array;
 
-		if (array.length > count) {
-			count = array.length;
-		}
-		if (array.length < count) {
-			tab = clazz1.cast(Array.newInstance(clazz2, count));
-		}
+			if (array.length > count) {
+				count = array.length;
+			}
+			if (array.length < count) {
+				tab = clazz1.cast(Array.newInstance(clazz2, count));
+			}
 
-		int i = 0;
-		for (final P element : this.tree.toDataDepthFirstIterable()) {
-			if (i >= count) {
-				break;
+			int i = 0;
+			for (final P element : this.tree.toDataDepthFirstIterable()) {
+				if (i >= count) {
+					break;
+				}
+				tab[i] = clazz2.cast(element);
+				++i;
 			}
-			tab[i] = clazz2.cast(element);
-			++i;
+			return tab;
+		} finally {
+			unlock(rlock);
 		}
-		return tab;
 	}
 
 	@Override
@@ -358,6 +515,7 @@ abstract class AbstractGISTreeSet<P extends GISPrimitive,
 		if (obj == null) {
 			return false;
 		}
+		final Lock rlock = lockForReading();
 		try {
 			final P primitive = (P) obj;
 			final Iterator<N> iter = nodeIterator(primitive.getGeoLocation().toBounds2D());
@@ -372,6 +530,8 @@ abstract class AbstractGISTreeSet<P extends GISPrimitive,
 			}
 		} catch (ClassCastException exception) {
 			//
+		} finally {
+			unlock(rlock);
 		}
 		return false;
 	}
@@ -382,6 +542,7 @@ abstract class AbstractGISTreeSet<P extends GISPrimitive,
 		if (obj == null) {
 			return false;
 		}
+		final Lock rlock = lockForReading();
 		try {
 			final PrefixDataDepthFirstTreeIterator<P, N> iterator = new PrefixDataDepthFirstTreeIterator<>(getTree());
 			P primitive;
@@ -393,6 +554,8 @@ abstract class AbstractGISTreeSet<P extends GISPrimitive,
 			}
 		} catch (ClassCastException exception) {
 			//
+		} finally {
+			unlock(rlock);
 		}
 		return false;
 	}
@@ -411,11 +574,12 @@ abstract class AbstractGISTreeSet<P extends GISPrimitive,
 	@Override
 	@SuppressWarnings("unchecked")
 	public boolean remove(Object obj) {
-		final N root = this.tree.getRoot();
-		if (root == null) {
-			return false;
-		}
+		final Lock wlock = lockForWriting();
 		try {
+			final N root = this.tree.getRoot();
+			if (root == null) {
+				return false;
+			}
 			final P primitive = (P) obj;
 			final Iterator<N> iter = nodeIterator(primitive.getGeoLocation().toBounds2D());
 			N node;
@@ -432,6 +596,8 @@ abstract class AbstractGISTreeSet<P extends GISPrimitive,
 			}
 		} catch (ClassCastException exception) {
 			//
+		} finally {
+			unlock(wlock);
 		}
 		return false;
 	}
@@ -440,39 +606,49 @@ abstract class AbstractGISTreeSet<P extends GISPrimitive,
 	@SuppressWarnings("unchecked")
 	public boolean removeAll(Collection<?> col) {
 		boolean changed = false;
-		final N root = this.tree.getRoot();
-		if (root == null) {
-			return false;
-		}
-		for (final Object o : col) {
-			try {
-				final P primitive = (P) o;
-				final Iterator<N> iter = nodeIterator(primitive.getGeoLocation().toBounds2D());
-				N node;
-				while (iter.hasNext()) {
-					node = iter.next();
-					if (node.removeUserData(primitive)) {
-						changed = true;
+		final Lock wlock = lockForWriting();
+		try {
+			final N root = this.tree.getRoot();
+			if (root == null) {
+				return false;
+			}
+			for (final Object o : col) {
+				try {
+					final P primitive = (P) o;
+					final Iterator<N> iter = nodeIterator(primitive.getGeoLocation().toBounds2D());
+					N node;
+					while (iter.hasNext()) {
+						node = iter.next();
+						if (node.removeUserData(primitive)) {
+							changed = true;
+						}
 					}
+				} catch (ClassCastException exception) {
+					//
 				}
-			} catch (ClassCastException exception) {
-				//
 			}
-		}
-		if (changed) {
-			if (isEmpty()) {
-				this.clazz = null;
-			} else if (isTypeRecomputedAfterRemoval()) {
-				this.clazz = extractClassFrom(this);
+			if (changed) {
+				if (isEmpty()) {
+					this.clazz = null;
+				} else if (isTypeRecomputedAfterRemoval()) {
+					this.clazz = extractClassFrom(this);
+				}
 			}
+		} finally {
+			unlock(wlock);
 		}
 		return changed;
 	}
 
 	@Override
 	public boolean retainAll(Collection<?> col) {
-		clear();
-		return addAll(new CheckedCollection(col));
+		final Lock wlock = lockForWriting();
+		try {
+			clear();
+			return addAll(new CheckedCollection(col));
+		} finally {
+			unlock(wlock);
+		}
 	}
 
 	@Override
@@ -481,8 +657,13 @@ abstract class AbstractGISTreeSet<P extends GISPrimitive,
 			return false;
 		}
 		boolean changed = false;
-		for (final P element : col) {
-			changed = add(element) | changed;
+		final Lock wlock = lockForWriting();
+		try {
+			for (final P element : col) {
+				changed = add(element) | changed;
+			}
+		} finally {
+			unlock(wlock);
 		}
 		return changed;
 	}
@@ -504,17 +685,22 @@ abstract class AbstractGISTreeSet<P extends GISPrimitive,
 		} catch (ClassCastException exception) {
 			return -1;
 		}
-		final Iterator<P> iter = this.tree.dataDepthFirstIterator();
-		P data;
-		int idx = 0;
-		while (iter.hasNext()) {
-			data = iter.next();
-			if (data == element) {
-				return idx;
+		final Lock rlock = lockForReading();
+		try {
+			final Iterator<P> iter = this.tree.dataDepthFirstIterator();
+			P data;
+			int idx = 0;
+			while (iter.hasNext()) {
+				data = iter.next();
+				if (data == element) {
+					return idx;
+				}
+				++idx;
 			}
-			++idx;
+			return -1;
+		} finally {
+			unlock(rlock);
 		}
-		return -1;
 	}
 
 	//-----------------------------------------------------------------
@@ -533,10 +719,28 @@ abstract class AbstractGISTreeSet<P extends GISPrimitive,
 		return new BreadthFirstTreeIterator<>(this.tree, new FrustumSelector<P, N>(clipBounds));
 	}
 
+	/** {@inheritDoc}
+	 *
+	 * <p>When the concurrent access is enabled, the replied iterator is
+	 * a snapshot of the bounds at the time of the call.
+	 */
 	@Override
 	@Pure
 	public Iterator<Rectangle2afp<?, ?, ?, ?, ?, ?>> boundsIterator() {
-		return new BoundsIterator(this.tree.iterator());
+		final Lock rlock = lockForReading();
+		if (rlock == null) {
+			return new BoundsIterator(this.tree.iterator());
+		}
+		try {
+			final List<Rectangle2afp<?, ?, ?, ?, ?, ?>> bounds = new ArrayList<>();
+			final Iterator<Rectangle2afp<?, ?, ?, ?, ?, ?>> iterator = new BoundsIterator(this.tree.iterator());
+			while (iterator.hasNext()) {
+				bounds.add(iterator.next());
+			}
+			return Collections.unmodifiableList(bounds).iterator();
+		} finally {
+			rlock.unlock();
+		}
 	}
 
 	@Override
@@ -551,6 +755,99 @@ abstract class AbstractGISTreeSet<P extends GISPrimitive,
 		return () -> AbstractGISTreeSet.this.iterator(clipBounds, budget);
 	}
 
+	@Override
+	@Pure
+	public List<Pair<P, Double>> getNearestData(double x, double y, int k, double maxDistance,
+			ToDoubleFunction<? super P> distance) {
+		return searchNearest(x, y, k, maxDistance, 0., distance);
+	}
+
+	@Override
+	@Pure
+	public List<Pair<P, Double>> getDataWithin(double x, double y, double radius, ToDoubleFunction<? super P> distance) {
+		return searchNearest(x, y, -1, radius, 0., distance);
+	}
+
+	/** Best-first search of the nearest elements.
+	 *
+	 * <p>The nodes and the elements are stored in the same priority queue. The key of a node is
+	 * the distance from the point to the bounds of the data inside the node, minus the given tolerance.
+	 * The key of an element is its distance to the point. When an element is polled from the queue,
+	 * none of the elements that are not yet polled could be nearer than it.
+	 *
+	 * @param x x coordinate of the point.
+	 * @param y y coordinate of the point.
+	 * @param k the maximal number of elements to reply. If negative, the number of elements is not limited.
+	 * @param maxDistance the maximal distance between the point and the replied elements.
+	 * @param tolerance the distance that must be subtracted from the distance to the bounds of a node
+	 *     for obtaining a lower bound of the distances of the elements inside the node.
+	 * @param distance the function that computes the distance between an element and the point.
+	 * @return the elements and their distances, sorted by increasing distance.
+	 */
+	@Pure
+	final List<Pair<P, Double>> searchNearest(double x, double y, int k, double maxDistance, double tolerance,
+			ToDoubleFunction<? super P> distance) {
+		assert distance != null;
+		final Lock rlock = lockForReading();
+		try {
+			return searchNearestUnlocked(x, y, k, maxDistance, tolerance, distance);
+		} finally {
+			unlock(rlock);
+		}
+	}
+
+	@Pure
+	private List<Pair<P, Double>> searchNearestUnlocked(double x, double y, int k, double maxDistance, double tolerance,
+			ToDoubleFunction<? super P> distance) {
+		final List<Pair<P, Double>> result = new ArrayList<>(k >= 0 ? k : 10);
+		final N root = this.tree.getRoot();
+		if (k == 0 || root == null || Double.isNaN(maxDistance) || maxDistance < 0.) {
+			return result;
+		}
+		final PriorityQueue<NearestCandidate<P, N>> queue = new PriorityQueue<>();
+		queue.add(new NearestCandidate<>(root, null, 0.));
+		while (!queue.isEmpty()) {
+			final NearestCandidate<P, N> candidate = queue.poll();
+			if (candidate.node == null) {
+				result.add(new Pair<>(candidate.element, candidate.distance));
+				if (k >= 0 && result.size() >= k) {
+					break;
+				}
+			} else {
+				final N node = candidate.node;
+				for (int i = 0; i < node.getUserDataCount(); ++i) {
+					final P element = node.getUserDataAt(i);
+					if (element != null) {
+						final double dist = distance.applyAsDouble(element);
+						if (dist <= maxDistance) {
+							queue.add(new NearestCandidate<>(null, element, dist));
+						}
+					}
+				}
+				for (int i = 0; i < node.getChildCount(); ++i) {
+					final N child = node.getChildAt(i);
+					if (child != null) {
+						final Rectangle2afp<?, ?, ?, ?, ?, ?> bounds = child.getBounds();
+						if (bounds != null) {
+							final double dist = Math.max(0., getDistance(bounds, x, y) - tolerance);
+							if (dist <= maxDistance) {
+								queue.add(new NearestCandidate<>(child, null, dist));
+							}
+						}
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	@Pure
+	private static double getDistance(Rectangle2afp<?, ?, ?, ?, ?, ?> bounds, double x, double y) {
+		final double dx = Math.max(0., Math.max(bounds.getMinX() - x, x - bounds.getMaxX()));
+		final double dy = Math.max(0., Math.max(bounds.getMinY() - y, y - bounds.getMaxY()));
+		return Math.hypot(dx, dy);
+	}
+
 	//-----------------------------------------------------------------
 	// Subclasses
 	//----------------------------------------------------------------
@@ -869,4 +1166,51 @@ abstract class AbstractGISTreeSet<P extends GISPrimitive,
 
 	} /* class PointSelector */
 
+	/**
+	 * Entry of the priority queue that is used by the nearest-neighbour search.
+	 * An entry contains a tree node or an element.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 18.0
+	 */
+	private static class NearestCandidate<P extends GISPrimitive, N extends AbstractGISTreeSetNode<P, N>>
+			implements Comparable<NearestCandidate<P, N>> {
+
+		final N node;
+
+		final P element;
+
+		final double distance;
+
+		/** Constructor.
+		 *
+		 * @param node the node, or <code>null</code> if the entry is an element.
+		 * @param element the element, or <code>null</code> if the entry is a node.
+		 * @param distance the distance, or the lower bound of the distances for a node.
+		 */
+		NearestCandidate(N node, P element, double distance) {
+			this.node = node;
+			this.element = element;
+			this.distance = distance;
+		}
+
+		@Override
+		@Pure
+		public int compareTo(NearestCandidate<P, N> other) {
+			final int cmp = Double.compare(this.distance, other.distance);
+			if (cmp != 0) {
+				return cmp;
+			}
+			// Elements before nodes for replying the elements as soon as possible
+			if (this.node == null) {
+				return other.node == null ? 0 : -1;
+			}
+			return other.node == null ? 1 : 0;
+		}
+
+	} /* class NearestCandidate */
+
 }
@@ -71,7 +71,7 @@ class AbstractGISTreeSetNode<P extends GISPrimitive, N extends AbstractGISTreeSe
 
 	/** Bounds of the data in the subtree.
 	 */
-	private transient Rectangle2afp<?, ?, ?, ?, ?, ?> dataBounds;
+	private transient volatile Rectangle2afp<?, ?, ?, ?, ?, ?> dataBounds;
 
 	/** Constructor.
 	 * @param zone is the zone enclosed by this node.
@@ -238,10 +238,13 @@ class AbstractGISTreeSetNode<P extends GISPrimitive, N extends AbstractGISTreeSe
 	 */
 	@Pure
 	Rectangle2afp<?, ?, ?, ?, ?, ?> getBounds() {
-		if (this.dataBounds == null) {
-			this.dataBounds = calcBounds();
+		Rectangle2afp<?, ?, ?, ?, ?, ?> bounds = this.dataBounds;
+		if (bounds == null) {
+			// The concurrent readers may compute the same bounds twice; the last assignment wins.
+			bounds = calcBounds();
+			this.dataBounds = bounds;
 		}
-		return this.dataBounds;
+		return bounds;
 	}
 
 	/** Compute and replies the bounds for this node.
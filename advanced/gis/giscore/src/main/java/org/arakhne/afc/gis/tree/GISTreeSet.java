@@ -21,8 +21,11 @@
 package org.arakhne.afc.gis.tree;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.function.ToDoubleFunction;
 
+import org.eclipse.xtext.xbase.lib.Pair;
 import org.eclipse.xtext.xbase.lib.Pure;
 
 import org.arakhne.afc.gis.location.GeoId;
@@ -215,4 +218,42 @@ public interface GISTreeSet<P extends GISPrimitive, N extends GISTreeNode<P, N>>
 	@Pure
 	Iterable<P> toIterable(Rectangle2afp<?, ?, ?, ?, ?, ?> clipBounds, int budget);
 
+	/** Replies the nearest elements to the given point, and their distances to the point.
+	 *
+	 * <p>This function is based on a best-first traversal of the tree: the nodes are explored
+	 * by increasing distance to the point, and the traversal is stopped as soon as <var>k</var>
+	 * elements are found. The distance to each element is computed only once.
+	 *
+	 * <p>The distance function must not reply a distance lower than the distance from the point
+	 * to the bounds of the element's geo-location.
+	 *
+	 * @param x x coordinate of the point.
+	 * @param y y coordinate of the point.
+	 * @param k the maximal number of elements to reply. If negative, the number of elements is not limited.
+	 * @param maxDistance the maximal distance between the point and the replied elements.
+	 * @param distance the function that computes the distance between an element and the point.
+	 * @return the elements and their distances, sorted by increasing distance.
+	 * @since 18.0
+	 */
+	@Pure
+	List<Pair<P, Double>> getNearestData(double x, double y, int k, double maxDistance,
+			ToDoubleFunction<? super P> distance);
+
+	/** Replies the elements that are at a distance lower than or equal to the given radius
+	 * from the given point, and their distances to the point.
+	 *
+	 * <p>The distance function must not reply a distance lower than the distance from the point
+	 * to the bounds of the element's geo-location.
+	 *
+	 * @param x x coordinate of the point.
+	 * @param y y coordinate of the point.
+	 * @param radius the maximal distance between the point and the replied elements.
+	 * @param distance the function that computes the distance between an element and the point.
+	 * @return the elements and their distances, sorted by increasing distance.
+	 * @since 18.0
+	 * @see #getNearestData(double, double, int, double, ToDoubleFunction)
+	 */
+	@Pure
+	List<Pair<P, Double>> getDataWithin(double x, double y, double radius, ToDoubleFunction<? super P> distance);
+
 }
@@ -21,9 +21,13 @@
 package org.arakhne.afc.gis.tree;
 
 import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
@@ -584,4 +588,181 @@ public final class GISTreeSetUtil {
 		return newTopNode;
 	}
 
+	/** Build the content of the given tree from the given elements in one pass.
+	 *
+	 * <p>The elements are recursively partitioned with the same classification as
+	 * {@link #addInside(AbstractGISTreeSet, AbstractGISTreeSetNode, GISPrimitive, GISTreeSetNodeFactory)},
+	 * from the root to the leaves. A node is split as soon as it contains more than
+	 * {@link GISTreeSetConstants#SPLIT_COUNT} elements, even if all the elements are in the same
+	 * quadrant; in this way, the clustered elements are distributed in deeper nodes.
+	 * The partitioning of the quadrants is done in parallel. The nodes are
+	 * linked together when the partitioning is finished.
+	 *
+	 * <p>The previous content of the tree is replaced.
+	 *
+	 * @param <P> is the type of the primitives.
+	 * @param <N> is the type of the nodes.
+	 * @param tree is the tree to build.
+	 * @param elements the elements to put in the tree.
+	 * @param builder is the node factory.
+	 * @return <code>true</code> if at least one element was put in the tree.
+	 * @since 18.0
+	 */
+	static <P extends GISPrimitive, N extends AbstractGISTreeSetNode<P, N>>
+		boolean bulkLoad(AbstractGISTreeSet<P, N> tree, Collection<? extends P> elements,
+			GISTreeSetNodeFactory<P, N> builder) {
+		final List<P> validElements = new ArrayList<>(elements.size());
+		Rectangle2d bounds = null;
+		for (final P element : elements) {
+			if (element != null) {
+				final GeoLocation location = element.getGeoLocation();
+				if (location != null) {
+					final Rectangle2d elementBounds = location.toBounds2D();
+					if (elementBounds != null) {
+						validElements.add(element);
+						if (bounds == null) {
+							bounds = elementBounds.clone();
+						} else {
+							bounds.setUnion(elementBounds);
+						}
+					}
+				}
+			}
+		}
+
+		tree.getTree().clear();
+		if (validElements.isEmpty()) {
+			return false;
+		}
+
+		final Rectangle2afp<?, ?, ?, ?, ?, ?> rootBounds = tree.worldBounds == null ? bounds : tree.worldBounds;
+		final N root = builder.newNode(null,
+				rootBounds.getMinX(), rootBounds.getMinY(), rootBounds.getWidth(), rootBounds.getHeight());
+		final BulkLoadingTask<P, N> task = new BulkLoadingTask<>(root, validElements, builder, 0);
+		task.invoke();
+		task.link();
+		tree.getTree().setRoot(root);
+		tree.updateComponentType(validElements);
+		return true;
+	}
+
+	/** Task that partitions the elements of a node during the bulk-loading of a tree.
+	 *
+	 * @param <P> is the type of the primitives.
+	 * @param <N> is the type of the nodes.
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 18.0
+	 */
+	private static final class BulkLoadingTask<P extends GISPrimitive, N extends AbstractGISTreeSetNode<P, N>>
+			extends RecursiveAction {
+
+		/** Minimal number of elements in a node for partitioning its children in parallel.
+		 */
+		private static final int PARALLEL_THRESHOLD = 4096;
+
+		/** Maximal depth of a chain of nodes with a single child.
+		 * This limit stops the partitioning of elements with the same location.
+		 */
+		private static final int MAX_SINGLE_CHILD_DEPTH = 32;
+
+		private static final long serialVersionUID = -3960283426372919412L;
+
+		private final N node;
+
+		private final GISTreeSetNodeFactory<P, N> builder;
+
+		private final int singleChildDepth;
+
+		private List<P> elements;
+
+		private BulkLoadingTask<P, N>[] children;
+
+		/** Constructor.
+		 *
+		 * @param node the node to fill.
+		 * @param elements the elements to put in the node or in its children.
+		 * @param builder the node factory.
+		 * @param singleChildDepth the length of the chain of nodes with a single child above the node.
+		 */
+		BulkLoadingTask(N node, List<P> elements, GISTreeSetNodeFactory<P, N> builder, int singleChildDepth) {
+			this.node = node;
+			this.elements = elements;
+			this.builder = builder;
+			this.singleChildDepth = singleChildDepth;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		protected void compute() {
+			final int size = this.elements.size();
+			if (size <= GISTreeSetConstants.SPLIT_COUNT) {
+				return;
+			}
+			final int count = this.node.getChildCount();
+			final List<P>[] collections = (List<P>[]) Array.newInstance(List.class, count);
+			int subBranchCount = 0;
+			int lastRegion = -1;
+			for (final P element : this.elements) {
+				final int region = classifies(this.node, element.getGeoLocation());
+				if (collections[region] == null) {
+					collections[region] = new ArrayList<>();
+					++subBranchCount;
+					lastRegion = region;
+				}
+				collections[region].add(element);
+			}
+
+			final int depth;
+			if (subBranchCount == 1) {
+				// The icosep child of an icosep node covers the same area, and the same element
+				// locations are always classified in the same region
+				if ((this.node.getZone() == IcosepQuadTreeZone.ICOSEP && lastRegion == IcosepQuadTreeZone.ICOSEP.ordinal())
+						|| this.singleChildDepth >= MAX_SINGLE_CHILD_DEPTH) {
+					return;
+				}
+				depth = this.singleChildDepth + 1;
+			} else {
+				depth = 0;
+			}
+
+			this.children = (BulkLoadingTask<P, N>[]) Array.newInstance(BulkLoadingTask.class, count);
+			final List<BulkLoadingTask<P, N>> forkedTasks = new ArrayList<>(count);
+			for (int region = 0; region < count; ++region) {
+				if (collections[region] != null) {
+					final N child = createNode(this.node, IcosepQuadTreeZone.values()[region], this.builder);
+					final BulkLoadingTask<P, N> task = new BulkLoadingTask<>(child, collections[region], this.builder, depth);
+					this.children[region] = task;
+					if (collections[region].size() >= PARALLEL_THRESHOLD) {
+						forkedTasks.add(task);
+					} else {
+						task.compute();
+					}
+				}
+			}
+			this.elements = null;
+			ForkJoinTask.invokeAll(forkedTasks);
+		}
+
+		/** Put the elements inside the nodes and link the nodes together.
+		 * This function must be called when all the tasks are terminated.
+		 */
+		void link() {
+			if (this.children == null) {
+				this.node.addUserData(this.elements);
+			} else {
+				for (int region = 0; region < this.children.length; ++region) {
+					final BulkLoadingTask<P, N> child = this.children[region];
+					if (child != null) {
+						child.link();
+						this.node.setChildAt(region, child.node);
+					}
+				}
+			}
+		}
+
+	}
+
 }
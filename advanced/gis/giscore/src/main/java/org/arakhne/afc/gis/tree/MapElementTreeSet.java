@@ -20,7 +20,7 @@
 
 package org.arakhne.afc.gis.tree;
 
-import java.util.Iterator;
+import java.util.List;
 
 import org.eclipse.xtext.xbase.lib.Pair;
 import org.eclipse.xtext.xbase.lib.Pure;
@@ -32,9 +32,6 @@ import org.arakhne.afc.gis.primitive.GISPrimitive;
 import org.arakhne.afc.math.geometry.d2.Point2D;
 import org.arakhne.afc.math.geometry.d2.afp.Rectangle2afp;
 import org.arakhne.afc.math.geometry.d2.d.Point2d;
-import org.arakhne.afc.math.tree.Tree;
-import org.arakhne.afc.math.tree.iterator.BreadthFirstTreeIterator;
-import org.arakhne.afc.math.tree.iterator.NodeSelector;
 
 /**
  * This class describes a quad tree that contains map elements
@@ -107,71 +104,75 @@ public class MapElementTreeSet<P extends MapElement> extends StandardGISTreeSet<
 	@Override
 	@Pure
 	public Pair<P, Double> getNearestData(double x, double y) {
-		final NearNodeSelector<P> selector = new NearNodeSelector<>(x, y);
-		return selector.select(getTree());
+		final List<Pair<P, Double>> data = getNearestData(x, y, 1, Double.POSITIVE_INFINITY);
+		if (!data.isEmpty()) {
+			final Pair<P, Double> nearest = data.get(0);
+			if (!Double.isInfinite(nearest.getValue().doubleValue())) {
+				return nearest;
+			}
+		}
+		return null;
 	}
 
-	/**
-	 * This class describes an iterator node selector based on visiblity.
+	/** Replies the nearest elements to the given point, and their distances to the point.
 	 *
-	 * @author $Author: sgalland$
-	 * @version $FullVersion$
-	 * @mavengroupid $GroupId$
-	 * @mavenartifactid $ArtifactId$
-	 * @since 14.0
-	 * @see GISPrimitive
+	 * @param position is the position from which the nearest elements must be replied.
+	 * @param k the maximal number of elements to reply. If negative, the number of elements is not limited.
+	 * @param maxDistance the maximal distance between the point and the replied elements.
+	 * @return the elements and their distances, sorted by increasing distance.
+	 * @since 18.0
+	 * @see #getNearestData(double, double, int, double)
 	 */
-	private static class NearNodeSelector<P extends MapElement> implements NodeSelector<GISTreeSetNode<P>> {
-
-		private final Point2d point = new Point2d();
-
-		private double minDistance = Double.POSITIVE_INFINITY;
-
-		private P bestResult;
-
-		/** Constructor.
-		 * @param x x coordinate.
-		 * @param y y coordinate.
-		 */
-		NearNodeSelector(double x, double y) {
-			this.point.set(x, y);
-		}
+	@Pure
+	public final List<Pair<P, Double>> getNearestData(Point2D<?, ?> position, int k, double maxDistance) {
+		return getNearestData(position.getX(), position.getY(), k, maxDistance);
+	}
 
-		@Override
-		@Pure
-		public boolean nodeCouldBeTreatedByIterator(GISTreeSetNode<P> node) {
-			if (node.isRoot()) {
-				return true;
-			}
-			final double distance = node.distance(this.point.getX(), this.point.getY());
-			return distance <= (this.minDistance + MapElementConstants.POINT_FUSION_DISTANCE);
-		}
+	/** Replies the nearest elements to the given point, and their distances to the point.
+	 *
+	 * <p>The distances are computed with {@link MapElement#getDistance(Point2D)}.
+	 *
+	 * @param x is the position from which the nearest elements must be replied.
+	 * @param y is the position from which the nearest elements must be replied.
+	 * @param k the maximal number of elements to reply. If negative, the number of elements is not limited.
+	 * @param maxDistance the maximal distance between the point and the replied elements.
+	 * @return the elements and their distances, sorted by increasing distance.
+	 * @since 18.0
+	 */
+	@Pure
+	public List<Pair<P, Double>> getNearestData(double x, double y, int k, double maxDistance) {
+		final Point2d point = new Point2d(x, y);
+		return searchNearest(x, y, k, maxDistance, MapElementConstants.POINT_FUSION_DISTANCE,
+			element -> element.getDistance(point));
+	}
 
-		/** Do the selection.
-		 *
-		 * @param tree is the tree to traverse.
-		 * @return the next pair or {@code null}.
-		 */
-		public Pair<P, Double> select(Tree<P, GISTreeSetNode<P>> tree) {
-			final Iterator<GISTreeSetNode<P>> iter = new BreadthFirstTreeIterator<>(tree, this);
-			GISTreeSetNode<P> node;
-			double distance;
-			while (iter.hasNext()) {
-				node = iter.next();
-				for (final P element : node.getAllUserData()) {
-					distance = element.getDistance(this.point);
-					if (distance < this.minDistance) {
-						this.minDistance = distance;
-						this.bestResult = element;
-					}
-				}
-			}
-			if (this.bestResult != null && !Double.isInfinite(this.minDistance) && !Double.isNaN(this.minDistance)) {
-				return new Pair<>(this.bestResult, Double.valueOf(this.minDistance));
-			}
-			return null;
-		}
+	/** Replies the elements that are at a distance lower than or equal to the given radius
+	 * from the given point, and their distances to the point.
+	 *
+	 * @param position is the position from which the elements must be replied.
+	 * @param radius the maximal distance between the point and the replied elements.
+	 * @return the elements and their distances, sorted by increasing distance.
+	 * @since 18.0
+	 * @see #getNearestData(double, double, int, double)
+	 */
+	@Pure
+	public final List<Pair<P, Double>> getDataWithin(Point2D<?, ?> position, double radius) {
+		return getNearestData(position.getX(), position.getY(), -1, radius);
+	}
 
-	} /* class NearNodeSelector */
+	/** Replies the elements that are at a distance lower than or equal to the given radius
+	 * from the given point, and their distances to the point.
+	 *
+	 * @param x is the position from which the elements must be replied.
+	 * @param y is the position from which the elements must be replied.
+	 * @param radius the maximal distance between the point and the replied elements.
+	 * @return the elements and their distances, sorted by increasing distance.
+	 * @since 18.0
+	 * @see #getNearestData(double, double, int, double)
+	 */
+	@Pure
+	public final List<Pair<P, Double>> getDataWithin(double x, double y, double radius) {
+		return getNearestData(x, y, -1, radius);
+	}
 
 }
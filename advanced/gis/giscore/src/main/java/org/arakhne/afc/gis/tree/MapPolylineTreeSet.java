@@ -21,6 +21,7 @@
 package org.arakhne.afc.gis.tree;
 
 import java.util.Iterator;
+import java.util.concurrent.locks.Lock;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
@@ -86,17 +87,22 @@ public class MapPolylineTreeSet<P extends MapPolyline> extends MapElementTreeSet
 		assert secondNeighbour != null;
 		final OutputParameter<GISTreeSetNode<P>> insertionNode = new OutputParameter<>();
 		GISTreeSetNode<P> node = null;
-		if (ComplexInsertionNodeSelector.computeConnectableInsertion(
-				getTree(),
-				polyline,
-				precision,
-				insertionNode, firstNeighbour, secondNeighbour)) {
-			node = insertionNode.get();
-		} else {
-			return false;
-		}
+		final Lock wlock = lockForWriting();
+		try {
+			if (ComplexInsertionNodeSelector.computeConnectableInsertion(
+					getTree(),
+					polyline,
+					precision,
+					insertionNode, firstNeighbour, secondNeighbour)) {
+				node = insertionNode.get();
+			} else {
+				return false;
+			}
 
-		return GISTreeSetUtil.addInside(this, node, polyline, this);
+			return GISTreeSetUtil.addInside(this, node, polyline, this);
+		} finally {
+			unlock(wlock);
+		}
 	}
 
 	/** {@inheritDoc}
@@ -152,7 +158,12 @@ public class MapPolylineTreeSet<P extends MapPolyline> extends MapElementTreeSet
 	@Override
 	@Pure
 	public P getNearestEnd(double x, double y) {
-		return NearNodeSelector.getNearest(getTree(), x, y);
+		final Lock rlock = lockForReading();
+		try {
+			return NearNodeSelector.getNearest(getTree(), x, y);
+		} finally {
+			unlock(rlock);
+		}
 	}
 
 	/**
@@ -20,6 +20,12 @@
 
 package org.arakhne.afc.gis.tree;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+
 import org.eclipse.xtext.xbase.lib.Pure;
 
 import org.arakhne.afc.gis.primitive.GISPrimitive;
@@ -70,7 +76,62 @@ public class StandardGISTreeSet<P extends GISPrimitive> extends AbstractGISTreeS
 
 	@Override
 	public final boolean add(P elt) {
-		return GISTreeSetUtil.addInside(this, getTree().getRoot(), elt, this);
+		final Lock wlock = lockForWriting();
+		try {
+			return GISTreeSetUtil.addInside(this, getTree().getRoot(), elt, this);
+		} finally {
+			unlock(wlock);
+		}
+	}
+
+	/** Add the given elements in this set by rebuilding the tree in one pass.
+	 *
+	 * <p>The elements of this set and the given elements are spatially partitioned from the root
+	 * of the tree to its leaves. The partitioning of the quadrants is done in parallel.
+	 * This function is faster than {@link #addAll(Collection)} for a large number of elements,
+	 * and it produces a better balanced tree for clustered elements.
+	 *
+	 * @param elements the elements to add.
+	 * @return <code>true</code> if this set has changed.
+	 * @since 18.0
+	 */
+	public boolean bulkLoad(Collection<? extends P> elements) {
+		if (elements == null || elements.isEmpty()) {
+			return false;
+		}
+		final Lock wlock = lockForWriting();
+		try {
+			final int oldSize = size();
+			final List<P> allElements;
+			if (oldSize == 0) {
+				allElements = new ArrayList<>(elements);
+			} else {
+				allElements = new ArrayList<>(oldSize + elements.size());
+				allElements.addAll(this);
+				allElements.addAll(elements);
+			}
+			GISTreeSetUtil.bulkLoad(this, allElements, this);
+			return size() != oldSize;
+		} finally {
+			unlock(wlock);
+		}
+	}
+
+	/** Add the elements replied by the given iterator in this set by rebuilding the tree in one pass.
+	 *
+	 * <p>This function could be used with the iterator of a shape file reader.
+	 *
+	 * @param elements the iterator on the elements to add.
+	 * @return <code>true</code> if this set has changed.
+	 * @since 18.0
+	 * @see #bulkLoad(Collection)
+	 */
+	public boolean bulkLoad(Iterator<? extends P> elements) {
+		final List<P> list = new ArrayList<>();
+		while (elements.hasNext()) {
+			list.add(elements.next());
+		}
+		return bulkLoad(list);
 	}
 
 	/** Set the node factory used by this tree.
@@ -20,6 +20,8 @@
 
 package org.arakhne.afc.gis.tree;
 
+import java.util.concurrent.locks.Lock;
+
 import org.eclipse.xtext.xbase.lib.Pure;
 
 import org.arakhne.afc.gis.primitive.GISPrimitive;
@@ -71,7 +73,12 @@ public class WeakGISTreeSet<P extends GISPrimitive>
 
 	@Override
 	public final boolean add(P elt) {
-		return GISTreeSetUtil.addInside(this, getTree().getRoot(), elt, this);
+		final Lock wlock = lockForWriting();
+		try {
+			return GISTreeSetUtil.addInside(this, getTree().getRoot(), elt, this);
+		} finally {
+			unlock(wlock);
+		}
 	}
 
 	@Override
@@ -20,7 +20,10 @@
 
 package org.arakhne.afc.gis.coordinate;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -180,4 +183,93 @@ public class GISCoordinatesTest extends AbstractGisTest {
 		assertEpsilonEquals(this.wsg5.phi, p.phi);
 	}
 
+	private double[] lambertIIePoints() {
+		return new double[] {
+			this.lambertIIe_1.getX(), this.lambertIIe_1.getY(),
+			this.lambertIIe_2.getX(), this.lambertIIe_2.getY(),
+			this.lambertIIe_3.getX(), this.lambertIIe_3.getY(),
+			this.lambertIIe_4.getX(), this.lambertIIe_4.getY(),
+			this.lambertIIe_5.getX(), this.lambertIIe_5.getY(),
+		};
+	}
+
+	@Test
+	public void convert_sameAsSinglePointConversion() {
+		final double[] el2 = lambertIIePoints();
+		for (final MapMetricProjection source : MapMetricProjection.values()) {
+			final double[] input = new double[el2.length];
+			GISCoordinates.convert(MapMetricProjection.FRANCE_LAMBERT_2_EXTENDED, source, el2, 0, input, 0, el2.length / 2);
+			for (final MapMetricProjection target : MapMetricProjection.values()) {
+				final double[] output = new double[input.length + 2];
+				GISCoordinates.convert(source, target, input, 0, output, 2, input.length / 2);
+				for (int i = 0; i < input.length; i += 2) {
+					final Point2d expected = source.convertTo(target, new Point2d(input[i], input[i + 1]));
+					assertEquals(expected.getX(), output[i + 2], source + "->" + target);
+					assertEquals(expected.getY(), output[i + 3], source + "->" + target);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void convert_inPlace() {
+		final double[] points = lambertIIePoints();
+		GISCoordinates.convert(MapMetricProjection.FRANCE_LAMBERT_2_EXTENDED, MapMetricProjection.FRANCE_LAMBERT_93, points);
+		for (int i = 0; i < points.length; i += 2) {
+			final Point2d expected = GISCoordinates.EL2_L93(lambertIIePoints()[i], lambertIIePoints()[i + 1]);
+			assertEquals(expected.getX(), points[i]);
+			assertEquals(expected.getY(), points[i + 1]);
+		}
+	}
+
+	@Test
+	public void convert_outOfBounds() {
+		final double[] points = lambertIIePoints();
+		assertThrows(IndexOutOfBoundsException.class, () -> GISCoordinates.convert(
+				MapMetricProjection.FRANCE_LAMBERT_1, MapMetricProjection.FRANCE_LAMBERT_2,
+				points, 2, points, 0, points.length / 2));
+	}
+
+	@Test
+	public void convertInParallel() {
+		final int count = 20000;
+		final double[] input = new double[count * 2];
+		for (int i = 0; i < input.length; i += 2) {
+			input[i] = 600000. + i;
+			input[i + 1] = 2300000. + i / 2.;
+		}
+		final double[] expected = new double[input.length];
+		GISCoordinates.convert(MapMetricProjection.FRANCE_LAMBERT_2_EXTENDED, MapMetricProjection.FRANCE_LAMBERT_1,
+				input, 0, expected, 0, count);
+		GISCoordinates.convertInParallel(MapMetricProjection.FRANCE_LAMBERT_2_EXTENDED, MapMetricProjection.FRANCE_LAMBERT_1,
+				input, 0, input, 0, count);
+		assertArrayEquals(expected, input);
+	}
+
+	@Test
+	public void toWSG84() {
+		final double[] points = lambertIIePoints();
+		GISCoordinates.toWSG84(MapMetricProjection.FRANCE_LAMBERT_2_EXTENDED, points, 0, points, 0, points.length / 2);
+		final GeodesicPosition[] expected = {this.wsg1, this.wsg2, this.wsg3, this.wsg4, this.wsg5};
+		for (int i = 0; i < expected.length; ++i) {
+			assertEpsilonEquals(expected[i].lambda, points[i * 2]);
+			assertEpsilonEquals(expected[i].phi, points[i * 2 + 1]);
+		}
+	}
+
+	@Test
+	public void fromWSG84() {
+		final GeodesicPosition[] positions = {this.wsg1, this.wsg2, this.wsg3, this.wsg4, this.wsg5};
+		final double[] points = new double[positions.length * 2];
+		for (int i = 0; i < positions.length; ++i) {
+			points[i * 2] = positions[i].lambda;
+			points[i * 2 + 1] = positions[i].phi;
+		}
+		GISCoordinates.fromWSG84(MapMetricProjection.FRANCE_LAMBERT_2_EXTENDED, points, 0, points, 0, positions.length);
+		final double[] expected = lambertIIePoints();
+		for (int i = 0; i < expected.length; ++i) {
+			assertEpsilonEquals(expected[i], points[i]);
+		}
+	}
+
 }
@@ -23,17 +23,23 @@ package org.arakhne.afc.gis.grid;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.arakhne.afc.gis.AbstractGisTest;
+import org.arakhne.afc.gis.mapelement.MapElement;
 import org.arakhne.afc.gis.mapelement.MapPoint;
+import org.arakhne.afc.gis.mapelement.MapPolyline;
 import org.arakhne.afc.math.geometry.d2.d.Point2d;
 import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
 
@@ -179,4 +185,67 @@ public class GridTest extends AbstractGisTest {
 		assertFalse(iterator.hasNext());
 	}
 
+	private static <P extends MapElement> void assertIndexes(Grid<P> grid) {
+		List<P> expected = new ArrayList<>();
+		Iterator<P> iterator = grid.iterator();
+		while (iterator.hasNext()) {
+			expected.add(iterator.next());
+		}
+		assertEquals(grid.getElementCount(), expected.size());
+		for (int i = 0; i < expected.size(); ++i) {
+			assertSame(expected.get(i), grid.getElementAt(i));
+			assertEquals(i, grid.indexOf(expected.get(i)));
+		}
+		assertThrows(IndexOutOfBoundsException.class, () -> grid.getElementAt(-1));
+		assertThrows(IndexOutOfBoundsException.class, () -> grid.getElementAt(expected.size()));
+	}
+
+	@Test
+	public void getElementAt_indexOf() {
+		assertIndexes(this.grid);
+		assertEquals(-1, this.grid.indexOf(new MapPoint(600, 600)));
+	}
+
+	@Test
+	public void getElementAt_indexOf_movedElement() {
+		Grid<MapPolyline> grid = new Grid<>(8, 8, new Rectangle2d(0, 0, 1000, 1000));
+		MapPolyline polyline = new MapPolyline();
+		polyline.addPoint(10, 10);
+		polyline.addPoint(20, 20);
+		assertTrue(grid.addElement(polyline));
+		MapPolyline other = new MapPolyline();
+		other.addPoint(900, 900);
+		other.addPoint(950, 950);
+		assertTrue(grid.addElement(other));
+		// The grid is not notified of the move of the polyline
+		polyline.setPointAt(0, 800, 10);
+		polyline.setPointAt(1, 810, 20);
+		assertEquals(0, grid.indexOf(polyline));
+		assertEquals(1, grid.indexOf(other));
+	}
+
+	@Test
+	public void getElementAt_indexOf_updates() {
+		Random rnd = new Random();
+		Grid<MapPolyline> grid = new Grid<>(8, 8, new Rectangle2d(0, 0, 1000, 1000));
+		List<MapPolyline> elements = new ArrayList<>();
+		for (int i = 0; i < 300; ++i) {
+			MapPolyline polyline = new MapPolyline();
+			double x = rnd.nextDouble() * 900;
+			double y = rnd.nextDouble() * 900;
+			polyline.addPoint(x, y);
+			polyline.addPoint(x + rnd.nextDouble() * 100, y + rnd.nextDouble() * 100);
+			elements.add(polyline);
+			assertTrue(grid.addElement(polyline));
+		}
+		assertIndexes(grid);
+		for (int i = 0; i < 100; ++i) {
+			assertTrue(grid.removeElement(elements.remove(rnd.nextInt(elements.size()))));
+		}
+		assertEquals(elements.size(), grid.getElementCount());
+		assertIndexes(grid);
+		grid.clear();
+		assertIndexes(grid);
+	}
+
 }
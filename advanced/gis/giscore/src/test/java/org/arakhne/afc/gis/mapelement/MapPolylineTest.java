@@ -22,14 +22,22 @@ package org.arakhne.afc.gis.mapelement;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import org.junit.jupiter.api.Test;
+
 import org.arakhne.afc.attrs.collection.HeapAttributeCollection;
+import org.arakhne.afc.gis.coordinate.GISCoordinates;
+import org.arakhne.afc.gis.coordinate.MapMetricProjection;
 import org.arakhne.afc.math.geometry.d1.Segment1D;
+import org.arakhne.afc.math.geometry.d1.d.Point1d;
 import org.arakhne.afc.math.geometry.d2.d.Point2d;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
 
 /** Unit tests for MapPolyline.
  *
@@ -247,4 +255,162 @@ public class MapPolylineTest extends AbstractMapComposedElementTest {
 		assertEpsilonEquals(secondPt, sgmt.getLastPoint());
 	}
 
+	private void assertSamePoints(MapComposedElement expected, MapComposedElement actual) {
+		assertEquals(expected.getGroupCount(), actual.getGroupCount());
+		assertEquals(expected.getPointCount(), actual.getPointCount());
+		for (int i = 0; i < expected.getGroupCount(); ++i) {
+			assertEquals(expected.getFirstPointIndexInGroup(i), actual.getFirstPointIndexInGroup(i));
+			assertEquals(expected.getLastPointIndexInGroup(i), actual.getLastPointIndexInGroup(i));
+		}
+		for (int i = 0; i < expected.getPointCount(); ++i) {
+			assertEpsilonEquals(expected.getPointAt(i), actual.getPointAt(i));
+		}
+	}
+
+	@Test
+	public void addGroups() {
+		double[] coordinates = new double[] {0, 0, 1, 1, 2, 2, 10, 10, 11, 11, 20, 20, 21, 21, 22, 22};
+		MapPolyline expected = new MapPolyline();
+		expected.addGroup(0, 0);
+		expected.addPoint(1, 1);
+		expected.addPoint(2, 2);
+		expected.addGroup(10, 10);
+		expected.addPoint(11, 11);
+		expected.addGroup(20, 20);
+		expected.addPoint(21, 21);
+		expected.addPoint(22, 22);
+
+		MapPolyline line = new MapPolyline();
+		line.addGroups(coordinates, new int[] {0, 3, 5});
+		assertSamePoints(expected, line);
+
+		line.addGroups(new double[] {30, 30, 31, 31}, null);
+		expected.addGroup(30, 30);
+		expected.addPoint(31, 31);
+		assertSamePoints(expected, line);
+
+		line.addPoint(32, 32, 1);
+		expected.addPoint(32, 32, 1);
+		assertSamePoints(expected, line);
+	}
+
+	@Test
+	public void addGroups_partialArrays() {
+		MapPolyline line = new MapPolyline();
+		line.addGroups(new double[] {0, 0, 1, 1, 2, 2, 3, 3, 99, 99}, 4, new int[] {0, 2, 99}, 2);
+		assertEquals(2, line.getGroupCount());
+		assertEquals(4, line.getPointCount());
+		assertEquals(2, line.getPointCountInGroup(0));
+		assertEquals(2, line.getPointCountInGroup(1));
+		assertEpsilonEquals(new Point2d(3, 3), line.getPointAt(-1));
+
+		assertThrows(IllegalArgumentException.class, () -> line.addGroups(new double[] {0, 0, 1, 1}, new int[] {1}));
+		assertThrows(IllegalArgumentException.class, () -> line.addGroups(new double[] {0, 0, 1, 1}, new int[] {0, 0}));
+		assertEquals(4, line.getPointCount());
+	}
+
+	@Test
+	public void addPointRemovePoint_largeElement() {
+		MapPolyline line = new MapPolyline();
+		List<Point2d> reference = new ArrayList<>();
+		for (int i = 0; i < 1000; ++i) {
+			if (i % 100 == 0) {
+				line.addGroup(i, -i);
+			} else {
+				line.addPoint(i, -i);
+			}
+			reference.add(new Point2d(i, -i));
+		}
+		assertEquals(10, line.getGroupCount());
+		line.insertPointAt(-1, -1, 3, 0);
+		reference.add(300, new Point2d(-1, -1));
+		line.removePointAt(0, 5);
+		reference.remove(5);
+		line.removeGroupAt(9);
+		reference.subList(900, 1000).clear();
+		assertEquals(9, line.getGroupCount());
+		assertEquals(reference.size(), line.getPointCount());
+		for (int i = 0; i < reference.size(); ++i) {
+			assertEpsilonEquals(reference.get(i), line.getPointAt(i));
+		}
+		assertEquals(99, line.getPointCountInGroup(0));
+		assertEquals(101, line.getPointCountInGroup(3));
+
+		MapComposedElement clone = line.clone();
+		line.invert();
+		line.invert();
+		assertSamePoints(clone, line);
+	}
+
+	@Test
+	public void convertProjection() {
+		MapPolyline line = new MapPolyline();
+		line.addGroups(new double[] {694310.948, 2627328.610, 685319.079, 2595599.220, 938247.8125, 2303550.0},
+				new int[] {0, 2});
+		MapComposedElement original = line.clone();
+		line.convertProjection(MapMetricProjection.FRANCE_LAMBERT_2_EXTENDED, MapMetricProjection.FRANCE_LAMBERT_93);
+		assertEquals(2, line.getGroupCount());
+		assertEquals(3, line.getPointCount());
+		for (int i = 0; i < original.getPointCount(); ++i) {
+			Point2d expected = GISCoordinates.EL2_L93(original.getPointAt(i).getX(), original.getPointAt(i).getY());
+			assertEpsilonEquals(expected, line.getPointAt(i));
+		}
+		assertEpsilonEquals(boundsOf(line), line.getBoundingBox());
+	}
+
+	private static Rectangle2d boundsOf(MapComposedElement element) {
+		Rectangle2d box = new Rectangle2d();
+		box.setFromCorners(element.getPointAt(0), element.getPointAt(0));
+		for (int i = 1; i < element.getPointCount(); ++i) {
+			box.add(element.getPointAt(i));
+		}
+		return box;
+	}
+
+	private static MapPolyline createTwoGroupPolyline() {
+		MapPolyline line = new MapPolyline();
+		line.addGroups(new double[] {0, 0, 10, 0, 10, 10, 20, 20, 30, 20, 50, 50}, new int[] {0, 3, 5});
+		return line;
+	}
+
+	@Test
+	public void distanceDoubleDoubleDouble() {
+		MapPolyline line = createTwoGroupPolyline();
+		assertEpsilonEquals(0, line.distance(5, 0, 0));
+		assertEpsilonEquals(2, line.distance(5, 2, 0));
+		assertEpsilonEquals(1, line.distance(5, 2, 2));
+		assertEpsilonEquals(5, line.distance(25, 25, 0));
+		assertEpsilonEquals(4, line.distance(25, 25, 2));
+		assertEpsilonEquals(5, line.distance(new Point2d(25, 25), 0));
+		assertEpsilonEquals(Math.sqrt(2), line.distance(49, 49, 0));
+	}
+
+	@Test
+	public void distances() {
+		MapPolyline line = createTwoGroupPolyline();
+		double[] points = new double[] {5, 0, 5, 2, 25, 25, 49, 49, -3, -4};
+		double[] distances = new double[6];
+		distances[5] = -1;
+		line.distances(points, 2, distances);
+		for (int i = 0; i < points.length / 2; ++i) {
+			assertEpsilonEquals(line.distance(points[i * 2], points[i * 2 + 1], 2), distances[i]);
+		}
+		assertEpsilonEquals(-1, distances[5]);
+		assertThrows(IndexOutOfBoundsException.class, () -> line.distances(points, 0, new double[2]));
+	}
+
+	@Test
+	public void getNearestPosition() {
+		MapPolyline line = new MapPolyline();
+		line.addGroups(new double[] {0, 0, 10, 0, 10, 10}, null);
+		Point1d p = line.getNearestPosition(new Point2d(4, 3));
+		assertEpsilonEquals(4, p.getCurvilineCoordinate());
+		p = line.getNearestPosition(new Point2d(12, 6), 1);
+		assertEpsilonEquals(16, p.getCurvilineCoordinate());
+		assertEpsilonEquals(1, Math.abs(p.getLateralDistance()));
+		p = line.getNearestPosition(new Point2d(-5, -5));
+		assertEpsilonEquals(0, p.getCurvilineCoordinate());
+		assertNull(new MapPolyline().getNearestPosition(new Point2d(1, 1)));
+	}
+
 }
@@ -21,8 +21,11 @@
 package org.arakhne.afc.gis.maplayer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.net.InetAddress;
@@ -47,7 +50,11 @@ import org.junit.jupiter.api.Test;
 import org.arakhne.afc.attrs.attr.AttributeType;
 import org.arakhne.afc.attrs.attr.AttributeValue;
 import org.arakhne.afc.attrs.attr.AttributeValueImpl;
+import org.arakhne.afc.gis.coordinate.GISCoordinates;
+import org.arakhne.afc.gis.coordinate.MapMetricProjection;
 import org.arakhne.afc.gis.mapelement.MapPolylineStub;
+import org.arakhne.afc.gis.primitive.GISEditable;
+import org.arakhne.afc.math.geometry.d2.d.Point2d;
 import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
 import org.arakhne.afc.math.geometry.d2.d.Shape2d;
 
@@ -303,6 +310,185 @@ public abstract class AbstractMapElementLayerTest<L extends MapElementLayer<MapP
 		}
 	}
 
+	@Test
+	public void testBatchUpdate() {
+		L layer = getLayer();
+		List<MapLayerContentEvent> contentEvents = new ArrayList<>();
+		List<MapLayerAttributeChangeEvent> attributeEvents = new ArrayList<>();
+		layer.addLayerListener(new MapLayerAdapter() {
+			@Override
+			public void onMapLayerContentChanged(MapLayerContentEvent event) {
+				contentEvents.add(event);
+			}
+			@Override
+			public void onMapLayerAttributeChanged(MapLayerAttributeChangeEvent event) {
+				attributeEvents.add(event);
+			}
+		});
+		ArrayList<MapPolylineStub> allElements = new ArrayList<>(getExpectedChildren());
+		ArrayList<MapPolylineStub> newElements = new ArrayList<>();
+
+		layer.beginBatchUpdate();
+		assertTrue(layer.isBatchUpdating());
+		for (int j = 0; j < UPDATE_COUNT; ++j) {
+			MapPolylineStub newElement = new MapPolylineStub();
+			layer.addMapElement(newElement);
+			allElements.add(newElement);
+			newElements.add(newElement);
+			layer.setColor(j);
+		}
+		assertTrue(contentEvents.isEmpty());
+		assertTrue(attributeEvents.isEmpty());
+		assertEpsilonEquals(allElements.size(), layer.size());
+		layer.endBatchUpdate();
+
+		assertFalse(layer.isBatchUpdating());
+		assertEquals(1, contentEvents.size());
+		assertSame(layer, contentEvents.get(0).getLayer());
+		assertEpsilonEquals(computeBounds(newElements), contentEvents.get(0).getBounds());
+		assertEquals(1, attributeEvents.size());
+		assertEquals(UPDATE_COUNT - 1, layer.getColor());
+
+		// No batch update
+		layer.addMapElement(new MapPolylineStub());
+		assertEquals(2, contentEvents.size());
+		assertNull(contentEvents.get(1).getBounds());
+	}
+
+	@Test
+	public void testBatchUpdate_changedElement() {
+		L layer = getLayer();
+		List<MapLayerContentEvent> contentEvents = new ArrayList<>();
+		layer.addLayerListener(new MapLayerAdapter() {
+			@Override
+			public void onMapLayerContentChanged(MapLayerContentEvent event) {
+				contentEvents.add(event);
+			}
+		});
+		MapPolylineStub element = getExpectedChildren().get(0);
+		Rectangle2d expectedBounds = element.getBoundingBox().clone();
+		expectedBounds.add(1000, 1000);
+
+		layer.batchUpdate(() -> element.addPoint(1000, 1000));
+
+		assertEquals(1, contentEvents.size());
+		assertEpsilonEquals(expectedBounds, contentEvents.get(0).getBounds());
+	}
+
+	@Test
+	public void testBatchUpdate_removedElement() {
+		L layer = getLayer();
+		List<MapLayerContentEvent> contentEvents = new ArrayList<>();
+		layer.addLayerListener(new MapLayerAdapter() {
+			@Override
+			public void onMapLayerContentChanged(MapLayerContentEvent event) {
+				contentEvents.add(event);
+			}
+		});
+		MapPolylineStub element = getExpectedChildren().get(0);
+		Rectangle2d expectedBounds = element.getBoundingBox().clone();
+
+		layer.batchUpdate(() -> layer.removeMapElement(element));
+
+		assertEquals(1, contentEvents.size());
+		assertEpsilonEquals(expectedBounds, contentEvents.get(0).getBounds());
+	}
+
+	@Test
+	public void testBatchUpdate_eventNotFirable() {
+		L layer = getLayer();
+		List<GISEditable> changedElements = new ArrayList<>();
+		layer.addGISEditableChangeListener(changedElements::add);
+		layer.beginBatchUpdate();
+		layer.setEventFirable(false);
+		layer.fireElementChanged();
+		layer.setEventFirable(true);
+		layer.endBatchUpdate();
+		assertTrue(changedElements.isEmpty());
+	}
+
+	@Test
+	public void testConvertProjection() {
+		L layer = getLayer();
+		List<MapLayerContentEvent> contentEvents = new ArrayList<>();
+		layer.addLayerListener(new MapLayerAdapter() {
+			@Override
+			public void onMapLayerContentChanged(MapLayerContentEvent event) {
+				contentEvents.add(event);
+			}
+		});
+		List<MapPolylineStub> elements = getExpectedChildren();
+		MapPolylineStub element = elements.get(0);
+		Point2d expected = GISCoordinates.EL2_L93(element.getPointAt(0).getX(), element.getPointAt(0).getY());
+
+		layer.convertProjection(MapMetricProjection.FRANCE_LAMBERT_2_EXTENDED, MapMetricProjection.FRANCE_LAMBERT_93);
+
+		assertEquals(1, contentEvents.size());
+		assertEquals(elements.size(), layer.size());
+		assertEpsilonEquals(expected, element.getPointAt(0));
+		Rectangle2d expectedBounds = null;
+		for (MapPolylineStub elt : elements) {
+			assertSame(layer, elt.getContainer());
+			Rectangle2d box = elt.getBoundingBox();
+			if (expectedBounds == null) {
+				expectedBounds = box.clone();
+			} else {
+				expectedBounds.setUnion(box);
+			}
+			// The spatial index is rebuilt
+			boolean found = false;
+			Iterator<MapPolylineStub> iterator = layer.iterator(box);
+			while (!found && iterator.hasNext()) {
+				found = iterator.next() == elt;
+			}
+			assertTrue(found);
+		}
+		assertEpsilonEquals(expectedBounds, layer.getBoundingBox());
+	}
+
+	@Test
+	public void testBatchUpdate_nested() {
+		L layer = getLayer();
+		List<MapLayerContentEvent> contentEvents = new ArrayList<>();
+		layer.addLayerListener(new MapLayerAdapter() {
+			@Override
+			public void onMapLayerContentChanged(MapLayerContentEvent event) {
+				contentEvents.add(event);
+			}
+		});
+		layer.batchUpdate(() -> {
+			layer.addMapElement(new MapPolylineStub());
+			layer.batchUpdate(() -> layer.addMapElement(new MapPolylineStub()));
+			assertTrue(layer.isBatchUpdating());
+			assertTrue(contentEvents.isEmpty());
+			layer.removeMapElement(getExpectedChildren().get(0));
+		});
+		assertFalse(layer.isBatchUpdating());
+		assertEquals(1, contentEvents.size());
+		assertThrows(IllegalStateException.class, () -> layer.endBatchUpdate());
+	}
+
+	@Test
+	public void testBatchUpdate_executor() {
+		L layer = getLayer();
+		List<MapLayerContentEvent> contentEvents = new ArrayList<>();
+		layer.addLayerListener(new MapLayerAdapter() {
+			@Override
+			public void onMapLayerContentChanged(MapLayerContentEvent event) {
+				contentEvents.add(event);
+			}
+		});
+		List<Runnable> tasks = new ArrayList<>();
+		layer.beginBatchUpdate();
+		layer.addMapElement(new MapPolylineStub());
+		layer.addMapElement(new MapPolylineStub());
+		layer.endBatchUpdate(tasks::add);
+		assertTrue(contentEvents.isEmpty());
+		assertEquals(1, tasks.size());
+		tasks.get(0).run();
+		assertEquals(1, contentEvents.size());
+	}
+
 	@Test
 	public void testRemoveMapElement() {
 		L layer = getLayer();
@@ -46,6 +46,7 @@ import org.junit.jupiter.api.Test;
 import org.arakhne.afc.attrs.attr.AttributeType;
 import org.arakhne.afc.attrs.attr.AttributeValue;
 import org.arakhne.afc.attrs.attr.AttributeValueImpl;
+import org.arakhne.afc.gis.coordinate.MapMetricProjection;
 import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
 import org.arakhne.afc.math.geometry.d2.d.Shape2d;
 
@@ -228,6 +229,21 @@ public abstract class AbstractMultiMapLayerTest<L extends MultiMapLayer<MapLayer
 		return elt;
 	}
 
+	@Test
+	public void testConvertProjection_defaultImplementation() {
+		L layer = getLayer();
+		List<MapLayerContentEvent> contentEvents = new ArrayList<>();
+		layer.addLayerListener(new MapLayerAdapter() {
+			@Override
+			public void onMapLayerContentChanged(MapLayerContentEvent event) {
+				contentEvents.add(event);
+			}
+		});
+		// The stub layers do not override the conversion
+		layer.convertProjection(MapMetricProjection.FRANCE_LAMBERT_2_EXTENDED, MapMetricProjection.FRANCE_LAMBERT_93);
+		assertEquals(getExpectedChildCount(), contentEvents.size());
+	}
+
 	@Test
 	public void testSize() {
 		L layer = getLayer();
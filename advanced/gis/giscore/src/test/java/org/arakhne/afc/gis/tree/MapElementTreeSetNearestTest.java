@@ -0,0 +1,156 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.arakhne.afc.gis.tree;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.xtext.xbase.lib.Pair;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.arakhne.afc.gis.AbstractGisTest;
+import org.arakhne.afc.gis.mapelement.MapPolyline;
+import org.arakhne.afc.math.geometry.d2.d.Point2d;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
+
+/** Unit test for the nearest-neighbour queries of MapElementTreeSet.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ */
+@SuppressWarnings("all")
+public class MapElementTreeSetNearestTest extends AbstractGisTest {
+
+	private static final int REFERENCE_SIZE = 500;
+
+	private List<MapPolyline> reference;
+
+	private Rectangle2d bounds;
+
+	private MapElementTreeSet<MapPolyline> test;
+
+	@BeforeEach
+	public void setUp() {
+		Random rnd = new Random();
+		this.bounds = new Rectangle2d(0, 0, 10000, 10000);
+		this.reference = new ArrayList<>();
+		for (int i = 0; i < REFERENCE_SIZE; ++i) {
+			MapPolyline polyline = new MapPolyline();
+			double x = rnd.nextDouble() * 9900;
+			double y = rnd.nextDouble() * 9900;
+			polyline.addPoint(x, y);
+			polyline.addPoint(x + rnd.nextDouble() * 100, y + rnd.nextDouble() * 100);
+			this.reference.add(polyline);
+		}
+		this.test = new MapElementTreeSet<>(this.bounds);
+		this.test.addAll(this.reference);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		this.reference = null;
+		this.bounds = null;
+		this.test = null;
+	}
+
+	private List<Double> sortedDistances(Point2d p, double maxDistance) {
+		List<Double> distances = new ArrayList<>();
+		for (MapPolyline line : this.reference) {
+			double distance = line.getDistance(p);
+			if (distance <= maxDistance) {
+				distances.add(distance);
+			}
+		}
+		distances.sort(Comparator.naturalOrder());
+		return distances;
+	}
+
+	@Test
+	public void getNearestData_k() {
+		Random rnd = new Random();
+		for (int i = 0; i < 20; ++i) {
+			Point2d p = new Point2d(rnd.nextDouble() * 10000, rnd.nextDouble() * 10000);
+			List<Double> expected = sortedDistances(p, Double.POSITIVE_INFINITY);
+			List<Pair<MapPolyline, Double>> actual = this.test.getNearestData(p, 5, Double.POSITIVE_INFINITY);
+			assertEquals(5, actual.size());
+			for (int j = 0; j < actual.size(); ++j) {
+				assertEpsilonEquals(expected.get(j), actual.get(j).getValue());
+				assertEpsilonEquals(actual.get(j).getKey().getDistance(p), actual.get(j).getValue());
+			}
+		}
+	}
+
+	@Test
+	public void getNearestData_maxDistance() {
+		Random rnd = new Random();
+		for (int i = 0; i < 20; ++i) {
+			Point2d p = new Point2d(rnd.nextDouble() * 10000, rnd.nextDouble() * 10000);
+			List<Double> expected = sortedDistances(p, 300);
+			List<Pair<MapPolyline, Double>> actual = this.test.getNearestData(p, 3, 300);
+			assertEquals(Math.min(3, expected.size()), actual.size());
+			for (int j = 0; j < actual.size(); ++j) {
+				assertEpsilonEquals(expected.get(j), actual.get(j).getValue());
+			}
+		}
+	}
+
+	@Test
+	public void getNearestData_nearest() {
+		Random rnd = new Random();
+		for (int i = 0; i < 20; ++i) {
+			Point2d p = new Point2d(rnd.nextDouble() * 10000, rnd.nextDouble() * 10000);
+			List<Double> expected = sortedDistances(p, Double.POSITIVE_INFINITY);
+			Pair<MapPolyline, Double> actual = this.test.getNearestData(p);
+			assertEpsilonEquals(expected.get(0), actual.getValue());
+		}
+	}
+
+	@Test
+	public void getDataWithin() {
+		Random rnd = new Random();
+		for (int i = 0; i < 20; ++i) {
+			Point2d p = new Point2d(rnd.nextDouble() * 10000, rnd.nextDouble() * 10000);
+			List<Double> expected = sortedDistances(p, 500);
+			List<Pair<MapPolyline, Double>> actual = this.test.getDataWithin(p, 500);
+			assertEquals(expected.size(), actual.size());
+			for (int j = 0; j < actual.size(); ++j) {
+				assertEpsilonEquals(expected.get(j), actual.get(j).getValue());
+			}
+		}
+	}
+
+	@Test
+	public void getNearestData_empty() {
+		assertTrue(new MapElementTreeSet<MapPolyline>().getNearestData(0, 0, 3, Double.POSITIVE_INFINITY).isEmpty());
+		assertTrue(this.test.getNearestData(0, 0, 0, Double.POSITIVE_INFINITY).isEmpty());
+		assertTrue(this.test.getNearestData(0, 0, 3, -1).isEmpty());
+	}
+
+}
@@ -0,0 +1,160 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.arakhne.afc.gis.tree;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import org.arakhne.afc.gis.AbstractGisTest;
+import org.arakhne.afc.gis.mapelement.MapElement;
+import org.arakhne.afc.gis.mapelement.MapPoint;
+import org.arakhne.afc.gis.mapelement.MapPolyline;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
+import org.arakhne.afc.math.tree.iterator.PrefixDepthFirstTreeIterator;
+
+/** Unit test for the bulk-loading of StandardGISTreeSet.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ */
+@SuppressWarnings("all")
+public class StandardGISTreeSetBulkLoadTest extends AbstractGisTest {
+
+	private static List<MapElement> createElements(int count, double size) {
+		Random rnd = new Random();
+		List<MapElement> elements = new ArrayList<>();
+		for (int i = 0; i < count; ++i) {
+			double x = rnd.nextDouble() * size;
+			double y = rnd.nextDouble() * size;
+			if (i % 3 == 0) {
+				MapPolyline polyline = new MapPolyline();
+				polyline.addPoint(x, y);
+				polyline.addPoint(x + rnd.nextDouble() * size / 10., y + rnd.nextDouble() * size / 10.);
+				elements.add(polyline);
+			} else {
+				elements.add(new MapPoint(x, y));
+			}
+		}
+		return elements;
+	}
+
+	private static void assertSelection(List<MapElement> reference, StandardGISTreeSet<MapElement> test, Rectangle2d area) {
+		Set<MapElement> expected = new HashSet<>();
+		for (MapElement element : reference) {
+			if (area.intersects(element.getGeoLocation().toBounds2D())) {
+				expected.add(element);
+			}
+		}
+		Set<MapElement> actual = new HashSet<>();
+		Iterator<MapElement> iterator = test.iterator(area);
+		while (iterator.hasNext()) {
+			actual.add(iterator.next());
+		}
+		assertEquals(expected, actual);
+	}
+
+	private static int maxLeafSize(StandardGISTreeSet<MapElement> test) {
+		int max = 0;
+		Iterator<GISTreeSetNode<MapElement>> iterator = new PrefixDepthFirstTreeIterator<>(test.getTree());
+		while (iterator.hasNext()) {
+			max = Math.max(max, iterator.next().getUserDataCount());
+		}
+		return max;
+	}
+
+	@Test
+	public void bulkLoad_worldBounds() {
+		List<MapElement> reference = createElements(10000, 1000.);
+		StandardGISTreeSet<MapElement> test = new StandardGISTreeSet<>(0, 0, 1100, 1100);
+		assertTrue(test.bulkLoad(reference));
+		assertEquals(reference.size(), test.size());
+		assertEquals(reference.size(), test.computeSize());
+		for (MapElement element : reference) {
+			assertTrue(test.slowContains(element));
+		}
+		assertSelection(reference, test, new Rectangle2d(100, 100, 200, 300));
+		assertSelection(reference, test, new Rectangle2d(450, 450, 100, 100));
+	}
+
+	@Test
+	public void bulkLoad_noWorldBounds() {
+		List<MapElement> reference = createElements(500, 1000.);
+		StandardGISTreeSet<MapElement> test = new StandardGISTreeSet<>();
+		assertTrue(test.bulkLoad(reference));
+		assertEquals(reference.size(), test.size());
+		assertSelection(reference, test, new Rectangle2d(100, 100, 200, 300));
+		// The tree is still updatable
+		MapPoint point = new MapPoint(2000, 2000);
+		assertTrue(test.add(point));
+		assertTrue(test.slowContains(point));
+		assertEquals(reference.size() + 1, test.size());
+	}
+
+	@Test
+	public void bulkLoad_notEmpty() {
+		List<MapElement> reference = createElements(300, 1000.);
+		StandardGISTreeSet<MapElement> test = new StandardGISTreeSet<>(0, 0, 1100, 1100);
+		test.addAll(reference.subList(0, 100));
+		assertTrue(test.bulkLoad(reference.subList(100, 300).iterator()));
+		assertEquals(reference.size(), test.size());
+		assertSelection(reference, test, new Rectangle2d(0, 0, 1100, 1100));
+		assertFalse(test.bulkLoad(Collections.emptyList()));
+	}
+
+	@Test
+	public void bulkLoad_clustered() {
+		List<MapElement> reference = new ArrayList<>();
+		Random rnd = new Random();
+		for (int i = 0; i < 2000; ++i) {
+			reference.add(new MapPoint(10 + rnd.nextDouble() * 200, 10 + rnd.nextDouble() * 200));
+		}
+		StandardGISTreeSet<MapElement> test = new StandardGISTreeSet<>(0, 0, 10000, 10000);
+		assertTrue(test.bulkLoad(reference));
+		assertEquals(reference.size(), test.size());
+		assertTrue(maxLeafSize(test) <= GISTreeSetConstants.SPLIT_COUNT * 4);
+		assertSelection(reference, test, new Rectangle2d(50, 50, 20, 20));
+	}
+
+	@Test
+	public void bulkLoad_samePoint() {
+		List<MapElement> reference = new ArrayList<>();
+		for (int i = 0; i < 100; ++i) {
+			reference.add(new MapPoint(10, 10));
+		}
+		StandardGISTreeSet<MapElement> test = new StandardGISTreeSet<>(0, 0, 100, 100);
+		assertTrue(test.bulkLoad(reference));
+		assertEquals(reference.size(), test.size());
+	}
+
+}
@@ -0,0 +1,196 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.gis.tree;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import org.arakhne.afc.gis.AbstractGisTest;
+import org.arakhne.afc.gis.mapelement.MapElement;
+import org.arakhne.afc.gis.mapelement.MapPoint;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
+
+/** Unit test for the concurrent access to StandardGISTreeSet.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ */
+@SuppressWarnings("all")
+public class StandardGISTreeSetConcurrentTest extends AbstractGisTest {
+
+	private static List<MapElement> createElements(Random rnd, int count, double size) {
+		List<MapElement> elements = new ArrayList<>();
+		for (int i = 0; i < count; ++i) {
+			elements.add(new MapPoint(rnd.nextDouble() * size, rnd.nextDouble() * size));
+		}
+		return elements;
+	}
+
+	private static StandardGISTreeSet<MapElement> createSet() {
+		return new StandardGISTreeSet<>(0, 0, 1000, 1000);
+	}
+
+	@Test
+	public void isConcurrentAccessEnabled() {
+		StandardGISTreeSet<MapElement> test = createSet();
+		assertFalse(test.isConcurrentAccessEnabled());
+		test.setConcurrentAccessEnabled(true);
+		assertTrue(test.isConcurrentAccessEnabled());
+		test.setConcurrentAccessEnabled(false);
+		assertFalse(test.isConcurrentAccessEnabled());
+	}
+
+	@Test
+	public void iterator_snapshot() {
+		Random rnd = new Random();
+		List<MapElement> reference = createElements(rnd, 200, 1000.);
+		StandardGISTreeSet<MapElement> test = createSet();
+		test.setConcurrentAccessEnabled(true);
+		test.addAll(reference);
+		Iterator<MapElement> iterator = test.iterator(new Rectangle2d(0, 0, 1000, 1000));
+		// Changes after the creation of the iterator are not visible from it
+		test.add(new MapPoint(500, 500));
+		MapElement removed = reference.get(0);
+		test.remove(removed);
+		Set<MapElement> actual = new HashSet<>();
+		while (iterator.hasNext()) {
+			actual.add(iterator.next());
+		}
+		assertEquals(new HashSet<>(reference), actual);
+		assertEquals(reference.size(), test.size());
+	}
+
+	@Test
+	public void iterator_remove() {
+		Random rnd = new Random();
+		List<MapElement> reference = createElements(rnd, 100, 1000.);
+		StandardGISTreeSet<MapElement> test = createSet();
+		test.setConcurrentAccessEnabled(true);
+		test.addAll(reference);
+		Iterator<MapElement> iterator = test.iterator();
+		while (iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+		assertTrue(test.isEmpty());
+	}
+
+	@Test
+	public void iterator_removeWithoutNext() {
+		Random rnd = new Random();
+		List<MapElement> reference = createElements(rnd, 10, 1000.);
+		StandardGISTreeSet<MapElement> test = createSet();
+		test.setConcurrentAccessEnabled(true);
+		test.addAll(reference);
+		Iterator<MapElement> iterator = test.iterator();
+		assertThrows(IllegalStateException.class, () -> iterator.remove());
+		iterator.next();
+		iterator.remove();
+		assertThrows(IllegalStateException.class, () -> iterator.remove());
+		assertEquals(reference.size() - 1, test.size());
+	}
+
+	@Test
+	public void concurrentReadersAndWriter() throws Exception {
+		Random rnd = new Random();
+		// Elements that are never removed; they must always be replied by the readers
+		List<MapElement> stable = createElements(rnd, 2000, 1000.);
+		List<MapElement> volatiles = createElements(rnd, 2000, 1000.);
+		StandardGISTreeSet<MapElement> test = createSet();
+		test.setConcurrentAccessEnabled(true);
+		test.addAll(stable);
+
+		AtomicBoolean running = new AtomicBoolean(true);
+		ExecutorService executor = Executors.newFixedThreadPool(5);
+		try {
+			List<Future<?>> readers = new ArrayList<>();
+			for (int r = 0; r < 4; ++r) {
+				final long seed = rnd.nextLong();
+				readers.add(executor.submit(() -> {
+					Random localRnd = new Random(seed);
+					int loops = 0;
+					while (running.get() || loops < 10) {
+						double x = localRnd.nextDouble() * 900.;
+						double y = localRnd.nextDouble() * 900.;
+						Rectangle2d area = new Rectangle2d(x, y, 100., 100.);
+						Set<MapElement> actual = new HashSet<>();
+						Iterator<MapElement> iterator = test.iterator(area);
+						while (iterator.hasNext()) {
+							MapElement element = iterator.next();
+							assertTrue(area.intersects(element.getGeoLocation().toBounds2D()));
+							actual.add(element);
+						}
+						for (MapElement element : stable) {
+							if (area.intersects(element.getGeoLocation().toBounds2D())) {
+								assertTrue(actual.contains(element));
+							}
+						}
+						++loops;
+					}
+					return null;
+				}));
+			}
+			Future<?> writer = executor.submit(() -> {
+				try {
+					for (int pass = 0; pass < 3; ++pass) {
+						for (MapElement element : volatiles) {
+							test.add(element);
+						}
+						for (MapElement element : volatiles) {
+							test.remove(element);
+						}
+					}
+				} finally {
+					running.set(false);
+				}
+				return null;
+			});
+			writer.get(1, TimeUnit.MINUTES);
+			for (Future<?> reader : readers) {
+				reader.get(1, TimeUnit.MINUTES);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertEquals(stable.size(), test.size());
+		assertEquals(new HashSet<>(stable), new HashSet<>(test));
+	}
+
+}
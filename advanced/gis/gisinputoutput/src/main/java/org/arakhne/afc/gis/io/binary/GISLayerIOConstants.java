@@ -36,12 +36,37 @@ public final class GISLayerIOConstants {
 
 	/** Major version number of the GIS Layer IO Specification.
 	 */
-	public static final byte MAJOR_SPEC_NUMBER = 1;
+	public static final byte MAJOR_SPEC_NUMBER = 2;
 
 	/** Minor version number of the GIS Layer IO Specification.
 	 */
 	public static final byte MINOR_SPEC_NUMBER = 0;
 
+	/** Major version number of the GIS Layer IO Specification in which the layers
+	 * are stored with the Java serialization mechanism. This version could be still read.
+	 *
+	 * @since 18.0
+	 */
+	public static final byte LEGACY_MAJOR_SPEC_NUMBER = 1;
+
+	/** Type of record that contains a layer stored with the Java serialization mechanism.
+	 *
+	 * @since 18.0
+	 */
+	public static final byte SERIALIZED_LAYER_RECORD = 0;
+
+	/** Type of record that contains an element layer stored in the chunked binary format.
+	 *
+	 * @since 18.0
+	 */
+	public static final byte ELEMENT_LAYER_RECORD = 1;
+
+	/** Default number of map elements per chunk in the chunked binary format.
+	 *
+	 * @since 18.0
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 1024;
+
 	private GISLayerIOConstants() {
 		//
 	}
@@ -20,26 +20,47 @@
 
 package org.arakhne.afc.gis.io.binary;
 
+import static org.arakhne.afc.gis.io.binary.GISLayerIOConstants.ELEMENT_LAYER_RECORD;
 import static org.arakhne.afc.gis.io.binary.GISLayerIOConstants.HEADER_KEY;
+import static org.arakhne.afc.gis.io.binary.GISLayerIOConstants.SERIALIZED_LAYER_RECORD;
 
+import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
+import java.io.UncheckedIOException;
 import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
+import org.arakhne.afc.gis.mapelement.MapElement;
+import org.arakhne.afc.gis.maplayer.MapElementLayer;
 import org.arakhne.afc.gis.maplayer.MapLayer;
+import org.arakhne.afc.math.geometry.d2.afp.Rectangle2afp;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
 import org.arakhne.afc.progress.Progression;
 
-/** Reader of GIS elements in a Java serialized form.
+/** Reader of GIS elements in a binary form.
+ *
+ * <p>This reader supports the chunked binary format that is written by {@link GISLayerWriter}, and
+ * the previous format in which all the layers are stored with the Java serialization mechanism.
+ * When query bounds are given, the chunks of elements that are outside these bounds are skipped
+ * without being decoded.
  *
  * @author $Author: sgalland$
  * @version $FullVersion$
@@ -57,6 +78,12 @@ public class GISLayerReader implements AutoCloseable, Iterable<MapLayer> {
 
 	private int restToRead;
 
+	private boolean isLegacyFormat;
+
+	private Rectangle2afp<?, ?, ?, ?, ?, ?> queryBounds;
+
+	private boolean parallelDecoding;
+
 	/**
 	 * Constructs a GIS reader.
 	 *
@@ -116,6 +143,52 @@ public class GISLayerReader implements AutoCloseable, Iterable<MapLayer> {
 		this.progression = progressBar;
 	}
 
+	/** Replies the bounds that are used for selecting the map elements to read.
+	 *
+	 * @return the query bounds, or <code>null</code> if all the map elements are read.
+	 * @since 18.0
+	 */
+	@Pure
+	public Rectangle2afp<?, ?, ?, ?, ?, ?> getQueryBounds() {
+		return this.queryBounds;
+	}
+
+	/** Change the bounds that are used for selecting the map elements to read.
+	 *
+	 * <p>Only the map elements with a bounding box that is intersecting the query bounds
+	 * are added into the element layers that are read. The chunks of elements that are
+	 * entirely outside the query bounds are skipped.
+	 * The layers that are stored with the Java serialization mechanism are not filtered.
+	 *
+	 * @param bounds the query bounds, or <code>null</code> for reading all the map elements.
+	 * @since 18.0
+	 */
+	public void setQueryBounds(Rectangle2afp<?, ?, ?, ?, ?, ?> bounds) {
+		this.queryBounds = bounds;
+	}
+
+	/** Replies if the chunks of map elements are decoded in parallel.
+	 *
+	 * @return <code>true</code> if the chunks are decoded in parallel.
+	 * @since 18.0
+	 */
+	@Pure
+	public boolean isParallelDecoding() {
+		return this.parallelDecoding;
+	}
+
+	/** Change the flag that indicates if the chunks of map elements are decoded in parallel.
+	 *
+	 * <p>The chunks are always read sequentially from the input stream, and the map elements are
+	 * always added into the layer in the order of the file.
+	 *
+	 * @param parallel <code>true</code> if the chunks are decoded in parallel.
+	 * @since 18.0
+	 */
+	public void setParallelDecoding(boolean parallel) {
+		this.parallelDecoding = parallel;
+	}
+
 	/** Flush temp buffers, and close the streams.
 	 *
 	 * @throws IOException in case of error.
@@ -159,6 +232,7 @@ public class GISLayerReader implements AutoCloseable, Iterable<MapLayer> {
 	 * @throws IOException in case of error.
 	 * @throws IndexOutOfBoundsException in case of error.
 	 */
+	@SuppressWarnings("resource")
 	public final <T extends MapLayer> T read(Class<T> type) throws IOException {
 		// Read the header
 		if (!this.isHeaderRead) {
@@ -171,7 +245,35 @@ public class GISLayerReader implements AutoCloseable, Iterable<MapLayer> {
 
 		T selectedObject = null;
 
-		if (this.restToRead > 0) {
+		if (this.restToRead > 0 && !this.isLegacyFormat) {
+			final DataInputStream dis = new DataInputStream(this.input);
+			do {
+				final byte recordType = dis.readByte();
+				final long recordLength = dis.readLong();
+				--this.restToRead;
+				switch (recordType) {
+				case ELEMENT_LAYER_RECORD:
+					selectedObject = readElementLayer(dis, type);
+					break;
+				case SERIALIZED_LAYER_RECORD:
+					final RecordInputStream record = new RecordInputStream(dis, recordLength);
+					try {
+						final ObjectInputStream ois = new ObjectInputStream(record);
+						final Object readObject = ois.readObject();
+						if (type.isInstance(readObject)) {
+							selectedObject = type.cast(readObject);
+						}
+					} catch (ClassNotFoundException e) {
+						//
+					}
+					skip(dis, record.getRemainingBytes());
+					break;
+				default:
+					skip(dis, recordLength);
+				}
+			}
+			while (this.restToRead > 0 && selectedObject == null);
+		} else if (this.restToRead > 0) {
 			final ObjectInputStream oos = new ObjectInputStream(this.input);
 			do {
 				try {
@@ -198,6 +300,113 @@ public class GISLayerReader implements AutoCloseable, Iterable<MapLayer> {
 		return selectedObject;
 	}
 
+	/** Read an element layer that is stored in the chunked binary format.
+	 *
+	 * @param <T> is the type of the expected layer.
+	 * @param input the input stream.
+	 * @param type is the type of the expected layer.
+	 * @return the layer, or <code>null</code> if the layer is not of the expected type.
+	 * @throws IOException in case of error.
+	 */
+	@SuppressWarnings("checkstyle:magicnumber")
+	private <T extends MapLayer> T readElementLayer(DataInputStream input, Class<T> type) throws IOException {
+		final MapElementLayer<MapElement> layer = MapElementLayerCodec.decodeLayerHeader(input);
+		final int chunkCount = input.readInt();
+		final double[] bounds = new double[chunkCount * 4];
+		final int[] lengths = new int[chunkCount];
+		for (int i = 0; i < chunkCount; ++i) {
+			for (int j = i * 4; j < i * 4 + 4; ++j) {
+				bounds[j] = input.readDouble();
+			}
+			lengths[i] = input.readInt();
+		}
+
+		if (!type.isInstance(layer)) {
+			for (final int length : lengths) {
+				skip(input, length);
+			}
+			return null;
+		}
+
+		final Rectangle2afp<?, ?, ?, ?, ?, ?> query = this.queryBounds;
+		final List<byte[]> chunks = new ArrayList<>(chunkCount);
+		for (int i = 0; i < chunkCount; ++i) {
+			if (query == null || intersects(query, bounds[i * 4], bounds[i * 4 + 1], bounds[i * 4 + 2], bounds[i * 4 + 3])) {
+				final byte[] chunk = new byte[lengths[i]];
+				input.readFully(chunk);
+				chunks.add(chunk);
+			} else {
+				skip(input, lengths[i]);
+			}
+		}
+
+		final List<List<Integer>> positions = new ArrayList<>(chunks.size());
+		for (int i = 0; i < chunks.size(); ++i) {
+			positions.add(new ArrayList<>());
+		}
+		final List<List<MapElement>> elements;
+		if (this.parallelDecoding && chunks.size() > 1) {
+			try {
+				elements = IntStream.range(0, chunks.size()).parallel().mapToObj(i -> {
+					try {
+						return MapElementLayerCodec.decodeChunk(chunks.get(i), positions.get(i));
+					} catch (IOException exception) {
+						throw new UncheckedIOException(exception);
+					}
+				}).collect(Collectors.toList());
+			} catch (UncheckedIOException exception) {
+				throw exception.getCause();
+			}
+		} else {
+			elements = new ArrayList<>(chunks.size());
+			for (int i = 0; i < chunks.size(); ++i) {
+				elements.add(MapElementLayerCodec.decodeChunk(chunks.get(i), positions.get(i)));
+			}
+		}
+
+		// The chunks are sorted along a space-filling curve; the elements are put back in their order in the layer
+		final Map<Integer, MapElement> orderedElements = new TreeMap<>();
+		for (int i = 0; i < elements.size(); ++i) {
+			final List<MapElement> chunkElements = elements.get(i);
+			final List<Integer> chunkPositions = positions.get(i);
+			for (int j = 0; j < chunkElements.size(); ++j) {
+				final MapElement element = chunkElements.get(j);
+				final Rectangle2d box = query == null ? null : element.getBoundingBox();
+				if (query == null
+						|| box != null && intersects(query, box.getMinX(), box.getMinY(), box.getMaxX(), box.getMaxY())) {
+					orderedElements.put(chunkPositions.get(j), element);
+				}
+			}
+		}
+		for (final MapElement element : orderedElements.values()) {
+			layer.addMapElement(element);
+		}
+		return type.cast(layer);
+	}
+
+	@Pure
+	private static boolean intersects(Rectangle2afp<?, ?, ?, ?, ?, ?> query, double minx, double miny,
+			double maxx, double maxy) {
+		// NaN bounds are never intersecting
+		return minx <= query.getMaxX() && maxx >= query.getMinX()
+				&& miny <= query.getMaxY() && maxy >= query.getMinY();
+	}
+
+	private static void skip(DataInputStream input, long length) throws IOException {
+		long rest = length;
+		while (rest > 0) {
+			final long skipped = input.skip(rest);
+			if (skipped <= 0) {
+				if (input.read() < 0) {
+					throw new EOFException();
+				}
+				--rest;
+			} else {
+				rest -= skipped;
+			}
+		}
+	}
+
 	/** Read the header of the file.
 	 *
 	 * @throws IOException in case of error.
@@ -223,7 +432,11 @@ public class GISLayerReader implements AutoCloseable, Iterable<MapLayer> {
 		// Check the format version
 		final byte major = hBuffer.get(key.length);
 		final byte minor = hBuffer.get(key.length + 1);
-		if (major != GISLayerIOConstants.MAJOR_SPEC_NUMBER || minor != GISLayerIOConstants.MINOR_SPEC_NUMBER) {
+		if (major == GISLayerIOConstants.MAJOR_SPEC_NUMBER && minor == GISLayerIOConstants.MINOR_SPEC_NUMBER) {
+			this.isLegacyFormat = false;
+		} else if (major == GISLayerIOConstants.LEGACY_MAJOR_SPEC_NUMBER && minor == 0) {
+			this.isLegacyFormat = true;
+		} else {
 			throw new IOException("Invalid file format version."); //$NON-NLS-1$
 		}
 		// Read the number of objects inside the input stream
@@ -287,4 +500,86 @@ public class GISLayerReader implements AutoCloseable, Iterable<MapLayer> {
 
 	}
 
+	/** Input stream that is reading the bytes of a single record.
+	 *
+	 * <p>The bytes after the record are never read, and the underlying stream is not closed.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 18.0
+	 */
+	private static class RecordInputStream extends FilterInputStream {
+
+		private long remaining;
+
+		/** Constructor.
+		 * @param input the input stream.
+		 * @param length the length of the record.
+		 */
+		RecordInputStream(InputStream input, long length) {
+			super(input);
+			this.remaining = length;
+		}
+
+		/** Replies the number of bytes of the record that were not read.
+		 *
+		 * @return the number of bytes.
+		 */
+		@Pure
+		long getRemainingBytes() {
+			return this.remaining;
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (this.remaining <= 0) {
+				return -1;
+			}
+			final int value = super.read();
+			if (value >= 0) {
+				--this.remaining;
+			}
+			return value;
+		}
+
+		@Override
+		public int read(byte[] buffer, int offset, int len) throws IOException {
+			if (this.remaining <= 0) {
+				return -1;
+			}
+			final int count = super.read(buffer, offset, (int) Math.min(len, this.remaining));
+			if (count > 0) {
+				this.remaining -= count;
+			}
+			return count;
+		}
+
+		@Override
+		public long skip(long count) throws IOException {
+			final long skipped = super.skip(Math.min(count, this.remaining));
+			if (skipped > 0) {
+				this.remaining -= skipped;
+			}
+			return skipped;
+		}
+
+		@Override
+		public int available() throws IOException {
+			return (int) Math.min(super.available(), this.remaining);
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		@Override
+		public void close() throws IOException {
+			//
+		}
+
+	}
+
 }
@@ -20,9 +20,12 @@
 
 package org.arakhne.afc.gis.io.binary;
 
+import static org.arakhne.afc.gis.io.binary.GISLayerIOConstants.DEFAULT_CHUNK_SIZE;
+import static org.arakhne.afc.gis.io.binary.GISLayerIOConstants.ELEMENT_LAYER_RECORD;
 import static org.arakhne.afc.gis.io.binary.GISLayerIOConstants.HEADER_KEY;
 import static org.arakhne.afc.gis.io.binary.GISLayerIOConstants.MAJOR_SPEC_NUMBER;
 import static org.arakhne.afc.gis.io.binary.GISLayerIOConstants.MINOR_SPEC_NUMBER;
+import static org.arakhne.afc.gis.io.binary.GISLayerIOConstants.SERIALIZED_LAYER_RECORD;
 
 import java.io.File;
 import java.io.FileInputStream;
@@ -33,17 +36,30 @@ import java.io.OutputStream;
 import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.Collection;
 import java.util.Collections;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
+import org.arakhne.afc.gis.maplayer.MapElementLayer;
 import org.arakhne.afc.gis.maplayer.MapLayer;
 import org.arakhne.afc.progress.Progression;
 
-/** Writer of GIS elements in a Java serialized form.
+/** Writer of GIS elements in a binary form.
+ *
+ * <p>The element layers ({@link org.arakhne.afc.gis.maplayer.ArrayMapElementLayer} and
+ * {@link org.arakhne.afc.gis.maplayer.TreeMapElementLayer}) that contain standard map elements
+ * are written in a chunked binary format: the elements are grouped into chunks of
+ * {@link #getChunkSize()} elements; each chunk stores packed coordinates and attribute columns, and
+ * its bounding box is written in a directory before the chunks. The other layers are written with the
+ * Java serialization mechanism.
+ *
+ * <p>The layers are streamed into a temporary file. The length of each record is written after
+ * the record at the place of a placeholder, so that no layer is buffered in memory.
  *
  * @author $Author: sgalland$
  * @version $FullVersion$
@@ -55,7 +71,7 @@ public class GISLayerWriter implements AutoCloseable {
 
 	private final OutputStream output;
 
-	private final OutputStream tmpOutput;
+	private final PatchableDataOutputStream tmpOutput;
 
 	private final File tmpFile;
 
@@ -65,6 +81,8 @@ public class GISLayerWriter implements AutoCloseable {
 
 	private boolean isHeaderWritten;
 
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+
 	/**
 	 * Constructs a GIS writer.
 	 *
@@ -107,7 +125,7 @@ public class GISLayerWriter implements AutoCloseable {
 		this.output = stream;
 		this.tmpFile = File.createTempFile("gisLayerWriter", ".gi_");  //$NON-NLS-1$//$NON-NLS-2$
 		this.tmpFile.deleteOnExit();
-		this.tmpOutput = new FileOutputStream(this.tmpFile);
+		this.tmpOutput = new PatchableDataOutputStream(FileChannel.open(this.tmpFile.toPath(), StandardOpenOption.WRITE));
 	}
 
 	/** Replies the task progression.
@@ -127,6 +145,31 @@ public class GISLayerWriter implements AutoCloseable {
 		this.progression = progressBar;
 	}
 
+	/** Replies the maximal number of map elements per chunk.
+	 *
+	 * @return the maximal number of map elements per chunk.
+	 * @since 18.0
+	 */
+	@Pure
+	public int getChunkSize() {
+		return this.chunkSize;
+	}
+
+	/** Change the maximal number of map elements per chunk.
+	 *
+	 * <p>Small chunks enable the reader to skip more precisely the elements that are outside
+	 * its query bounds; large chunks reduce the size of the chunk directory.
+	 *
+	 * @param size the maximal number of map elements per chunk.
+	 * @since 18.0
+	 */
+	public void setChunkSize(int size) {
+		if (size <= 0) {
+			throw new IllegalArgumentException();
+		}
+		this.chunkSize = size;
+	}
+
 	/** Flush temp buffers, write down final information in
 	 * file header (file size...), and close the streams.
 	 *
@@ -183,6 +226,7 @@ public class GISLayerWriter implements AutoCloseable {
 	 * @param layers are the layers to write.
 	 * @throws IOException in case of error.
 	 */
+	@SuppressWarnings("resource")
 	public void write(Collection<? extends MapLayer> layers) throws IOException {
 		if (this.progression != null) {
 			this.progression.setProperties(0, 0, layers.size() + 1, false);
@@ -198,9 +242,22 @@ public class GISLayerWriter implements AutoCloseable {
 			this.progression.increment();
 		}
 
-		final ObjectOutputStream oos = new ObjectOutputStream(this.tmpOutput);
+		final PatchableDataOutputStream dos = this.tmpOutput;
 		for (final MapLayer layer : layers) {
-			oos.writeObject(layer);
+			final boolean isElementLayer = MapElementLayerCodec.isSupported(layer);
+			dos.writeByte(isElementLayer ? ELEMENT_LAYER_RECORD : SERIALIZED_LAYER_RECORD);
+			final long lengthPosition = dos.position();
+			dos.writeLong(0);
+			if (isElementLayer) {
+				MapElementLayerCodec.encodeLayer((MapElementLayer<?>) layer, this.chunkSize, dos);
+			} else {
+				// The object stream is not closed for keeping the output open
+				final ObjectOutputStream oos = new ObjectOutputStream(dos);
+				oos.writeObject(layer);
+				oos.flush();
+			}
+			dos.patchLong(lengthPosition, dos.position() - lengthPosition - Long.BYTES);
+			dos.flush();
 			++this.length;
 			if (this.progression != null) {
 				this.progression.increment();
@@ -0,0 +1,687 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.gis.io.binary;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.arakhne.afc.attrs.attr.Attribute;
+import org.arakhne.afc.attrs.attr.AttributeException;
+import org.arakhne.afc.attrs.attr.AttributeType;
+import org.arakhne.afc.attrs.attr.AttributeValue;
+import org.arakhne.afc.attrs.collection.AttributeCollection;
+import org.arakhne.afc.attrs.collection.AttributeNameStringComparator;
+import org.arakhne.afc.attrs.collection.AttributeProvider;
+import org.arakhne.afc.attrs.collection.HeapAttributeCollection;
+import org.arakhne.afc.gis.mapelement.MapCircle;
+import org.arakhne.afc.gis.mapelement.MapComposedElement;
+import org.arakhne.afc.gis.mapelement.MapElement;
+import org.arakhne.afc.gis.mapelement.MapMultiPoint;
+import org.arakhne.afc.gis.mapelement.MapPoint;
+import org.arakhne.afc.gis.mapelement.MapPolygon;
+import org.arakhne.afc.gis.mapelement.MapPolyline;
+import org.arakhne.afc.gis.maplayer.ArrayMapElementLayer;
+import org.arakhne.afc.gis.maplayer.MapElementLayer;
+import org.arakhne.afc.gis.maplayer.MapLayer;
+import org.arakhne.afc.gis.maplayer.TreeMapElementLayer;
+import org.arakhne.afc.math.geometry.d2.d.Point2d;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
+
+/** Encoder and decoder of the element layers in the chunked binary format.
+ *
+ * <p>An element layer is encoded as:<ul>
+ * <li>the type of the layer (byte), its identifier, its temporary and read-only flags;</li>
+ * <li>the attributes of the layer;</li>
+ * <li>the bounds of the layer (4 doubles), which are the bounds of the tree of a tree layer;</li>
+ * <li>the number of chunks (int);</li>
+ * <li>the chunk directory: for each chunk, its bounds (4 doubles) and its size in bytes (int);</li>
+ * <li>the chunks.</li>
+ * </ul>
+ *
+ * <p>The layer is written in a single pass: the chunk directory is first filled with zeros,
+ * and each entry is replaced when its chunk is written. In the same way, the sizes of the
+ * serialized attribute columns are written after the columns.
+ *
+ * <p>Before they are cut into chunks, the elements are sorted along a Hilbert curve that passes
+ * through the centers of their bounds, so that each chunk covers a compact area and the bounds of
+ * the chunks are tight. The position of each element in the layer is stored for restoring the order
+ * of the elements when the layer is read.
+ *
+ * <p>A chunk contains a sequence of elements in a column-oriented layout:<ul>
+ * <li>the number of elements (int);</li>
+ * <li>the types of the elements (one byte per element);</li>
+ * <li>the identifiers, the flags and the positions in the layer of the elements;</li>
+ * <li>the geometries of the elements, the coordinates of a composed element being a packed
+ *     array of doubles;</li>
+ * <li>the attribute columns: for each attribute name, the type of the column, the bit set of the
+ *     elements that have a value, and the packed values.</li>
+ * </ul>
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ */
+final class MapElementLayerCodec {
+
+	private static final byte ARRAY_LAYER = 0;
+
+	private static final byte TREE_LAYER = 1;
+
+	private static final byte POINT = 0;
+
+	private static final byte CIRCLE = 1;
+
+	private static final byte MULTIPOINT = 2;
+
+	private static final byte POLYLINE = 3;
+
+	private static final byte POLYGON = 4;
+
+	private static final byte BOOLEAN_COLUMN = 0;
+
+	private static final byte INTEGER_COLUMN = 1;
+
+	private static final byte REAL_COLUMN = 2;
+
+	private static final byte STRING_COLUMN = 3;
+
+	private static final byte OBJECT_COLUMN = 4;
+
+	private static final int DIRECTORY_ENTRY_SIZE = Double.BYTES * 4 + Integer.BYTES;
+
+	/** Number of bits of each coordinate on the Hilbert curve.
+	 */
+	private static final int HILBERT_ORDER = 15;
+
+	private MapElementLayerCodec() {
+		//
+	}
+
+	/** Replies if the given layer could be encoded with this codec.
+	 *
+	 * @param layer the layer to test.
+	 * @return <code>true</code> if the layer is supported.
+	 */
+	static boolean isSupported(MapLayer layer) {
+		if (layer.getClass() != ArrayMapElementLayer.class && layer.getClass() != TreeMapElementLayer.class) {
+			return false;
+		}
+		for (final MapElement element : ((MapElementLayer<?>) layer).getAllMapElements()) {
+			if (getElementType(element) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static byte getElementType(MapElement element) {
+		final Class<?> type = element.getClass();
+		if (type == MapPoint.class) {
+			return POINT;
+		}
+		if (type == MapCircle.class) {
+			return CIRCLE;
+		}
+		if (type == MapMultiPoint.class) {
+			return MULTIPOINT;
+		}
+		if (type == MapPolyline.class) {
+			return POLYLINE;
+		}
+		if (type == MapPolygon.class) {
+			return POLYGON;
+		}
+		return -1;
+	}
+
+	/** Encode the given layer.
+	 *
+	 * <p>The layer must be supported, see {@link #isSupported(MapLayer)}.
+	 *
+	 * @param layer the layer to encode.
+	 * @param chunkSize the maximal number of elements per chunk.
+	 * @param output the output.
+	 * @throws IOException in case of error.
+	 */
+	@SuppressWarnings("checkstyle:magicnumber")
+	static void encodeLayer(MapElementLayer<?> layer, int chunkSize, PatchableDataOutputStream output)
+			throws IOException {
+		output.writeByte(layer instanceof TreeMapElementLayer<?> ? TREE_LAYER : ARRAY_LAYER);
+		writeUUID(layer.getUUID(), output);
+		output.writeBoolean(layer.isTemporaryLayer());
+		output.writeBoolean(layer.isReadOnlyObject());
+		final List<AttributeProvider> layerAttributes = new ArrayList<>(1);
+		layerAttributes.add(layer.getAttributeProvider());
+		writeAttributes(layerAttributes, output);
+		final Rectangle2d layerBounds = layer.getBoundingBox();
+		if (layerBounds != null && !layerBounds.isEmpty()) {
+			output.writeDouble(layerBounds.getMinX());
+			output.writeDouble(layerBounds.getMinY());
+			output.writeDouble(layerBounds.getMaxX());
+			output.writeDouble(layerBounds.getMaxY());
+		} else {
+			for (int i = 0; i < 4; ++i) {
+				output.writeDouble(Double.NaN);
+			}
+		}
+
+		final List<MapElement> elements = new ArrayList<>(layer.getAllMapElements());
+		final int[] order = sortAlongHilbertCurve(elements, layerBounds);
+		final int chunkCount = (elements.size() + chunkSize - 1) / chunkSize;
+		output.writeInt(chunkCount);
+		final long directory = output.position();
+		final long directorySize = (long) chunkCount * DIRECTORY_ENTRY_SIZE;
+		for (long i = 0; i < directorySize; ++i) {
+			output.writeByte(0);
+		}
+
+		final double[] bounds = new double[4];
+		final ByteBuffer entry = ByteBuffer.allocate(DIRECTORY_ENTRY_SIZE);
+		for (int i = 0, start = 0; i < chunkCount; ++i, start += chunkSize) {
+			final int end = Math.min(elements.size(), start + chunkSize);
+			final List<MapElement> chunk = new ArrayList<>(end - start);
+			for (int j = start; j < end; ++j) {
+				chunk.add(elements.get(order[j]));
+			}
+			final long chunkStart = output.position();
+			encodeChunk(chunk, Arrays.copyOfRange(order, start, end), output, bounds);
+			final long chunkLength = output.position() - chunkStart;
+			if (chunkLength > Integer.MAX_VALUE) {
+				throw new IOException("Too large chunk of map elements: " + chunkLength); //$NON-NLS-1$
+			}
+			entry.clear();
+			for (final double bound : bounds) {
+				entry.putDouble(bound);
+			}
+			entry.putInt((int) chunkLength);
+			entry.flip();
+			output.patch(directory + (long) i * DIRECTORY_ENTRY_SIZE, entry);
+		}
+	}
+
+	/** Sort the given elements along the Hilbert curve that passes through the centers of their bounds.
+	 * The elements without bounds are put at the end.
+	 *
+	 * @param elements the elements.
+	 * @param bounds the bounds of the elements.
+	 * @return the positions of the elements in the given list, in the order of the curve.
+	 */
+	private static int[] sortAlongHilbertCurve(List<MapElement> elements, Rectangle2d bounds) {
+		final int count = elements.size();
+		// The key of an element is its index on the curve in the highest bits, and its position in the lowest bits
+		final long[] keys = new long[count];
+		final double scale = (1 << HILBERT_ORDER) - 1;
+		for (int i = 0; i < count; ++i) {
+			final Rectangle2d box = elements.get(i).getBoundingBox();
+			long index = 1L << (2 * HILBERT_ORDER);
+			if (box != null && !box.isEmpty() && bounds != null && !bounds.isEmpty()) {
+				final double width = bounds.getWidth();
+				final double height = bounds.getHeight();
+				final int x = width > 0. ? (int) ((box.getCenterX() - bounds.getMinX()) / width * scale) : 0;
+				final int y = height > 0. ? (int) ((box.getCenterY() - bounds.getMinY()) / height * scale) : 0;
+				index = hilbertIndex(x, y);
+			}
+			keys[i] = (index << Integer.SIZE) | i;
+		}
+		Arrays.sort(keys);
+		final int[] order = new int[count];
+		for (int i = 0; i < count; ++i) {
+			order[i] = (int) keys[i];
+		}
+		return order;
+	}
+
+	/** Replies the index of the given cell on the Hilbert curve.
+	 *
+	 * @param x the column of the cell, between {@code 0} and {@code 2^HILBERT_ORDER - 1}.
+	 * @param y the row of the cell, between {@code 0} and {@code 2^HILBERT_ORDER - 1}.
+	 * @return the index of the cell on the curve.
+	 */
+	private static long hilbertIndex(int x, int y) {
+		int cx = Math.max(0, Math.min(x, (1 << HILBERT_ORDER) - 1));
+		int cy = Math.max(0, Math.min(y, (1 << HILBERT_ORDER) - 1));
+		long index = 0;
+		for (int size = 1 << (HILBERT_ORDER - 1); size > 0; size >>= 1) {
+			final int rx = (cx & size) != 0 ? 1 : 0;
+			final int ry = (cy & size) != 0 ? 1 : 0;
+			index += (long) size * size * ((3 * rx) ^ ry);
+			// Rotate the quadrant
+			if (ry == 0) {
+				if (rx == 1) {
+					cx = size - 1 - cx;
+					cy = size - 1 - cy;
+				}
+				final int tmp = cx;
+				cx = cy;
+				cy = tmp;
+			}
+		}
+		return index;
+	}
+
+	@SuppressWarnings("checkstyle:magicnumber")
+	private static void encodeChunk(List<MapElement> elements, int[] positions, PatchableDataOutputStream output,
+			double[] bounds) throws IOException {
+		double minx = Double.POSITIVE_INFINITY;
+		double miny = Double.POSITIVE_INFINITY;
+		double maxx = Double.NEGATIVE_INFINITY;
+		double maxy = Double.NEGATIVE_INFINITY;
+
+		output.writeInt(elements.size());
+		for (final MapElement element : elements) {
+			output.writeByte(getElementType(element));
+		}
+		for (int i = 0; i < elements.size(); ++i) {
+			final MapElement element = elements.get(i);
+			writeUUID(element.getUUID(), output);
+			output.writeInt(element.getFlags());
+			output.writeInt(positions[i]);
+			final Rectangle2d box = element.getBoundingBox();
+			if (box != null && !box.isEmpty()) {
+				minx = Math.min(minx, box.getMinX());
+				miny = Math.min(miny, box.getMinY());
+				maxx = Math.max(maxx, box.getMaxX());
+				maxy = Math.max(maxy, box.getMaxY());
+			}
+		}
+		for (final MapElement element : elements) {
+			if (element instanceof MapPoint) {
+				final MapPoint point = (MapPoint) element;
+				output.writeDouble(point.getX());
+				output.writeDouble(point.getY());
+				output.writeDouble(point.getPointSize());
+				output.writeBoolean(point.isDoubleFramed());
+			} else if (element instanceof MapCircle) {
+				final MapCircle circle = (MapCircle) element;
+				output.writeDouble(circle.getX());
+				output.writeDouble(circle.getY());
+				output.writeDouble(circle.getRadius());
+			} else {
+				if (element instanceof MapMultiPoint) {
+					final MapMultiPoint multipoint = (MapMultiPoint) element;
+					output.writeDouble(multipoint.getPointSize());
+					output.writeBoolean(multipoint.isDoubleFramed());
+				} else if (element instanceof MapPolyline) {
+					output.writeBoolean(((MapPolyline) element).isWidePolyline());
+				}
+				writeComposedGeometry((MapComposedElement) element, output);
+			}
+		}
+		final List<AttributeProvider> attributes = new ArrayList<>(elements.size());
+		for (final MapElement element : elements) {
+			attributes.add(element.getAttributeProvider());
+		}
+		writeAttributes(attributes, output);
+
+		if (minx <= maxx) {
+			bounds[0] = minx;
+			bounds[1] = miny;
+			bounds[2] = maxx;
+			bounds[3] = maxy;
+		} else {
+			Arrays.fill(bounds, Double.NaN);
+		}
+	}
+
+	private static void writeComposedGeometry(MapComposedElement element, DataOutput output) throws IOException {
+		final int groupCount = element.getGroupCount();
+		output.writeInt(groupCount);
+		for (int i = 0; i < groupCount; ++i) {
+			output.writeInt(element.getPointCountInGroup(i));
+		}
+		for (final Point2d point : element.points()) {
+			output.writeDouble(point.getX());
+			output.writeDouble(point.getY());
+		}
+	}
+
+	private static void writeUUID(UUID id, DataOutput output) throws IOException {
+		output.writeLong(id.getMostSignificantBits());
+		output.writeLong(id.getLeastSignificantBits());
+	}
+
+	private static UUID readUUID(DataInput input) throws IOException {
+		final long msb = input.readLong();
+		final long lsb = input.readLong();
+		return new UUID(msb, lsb);
+	}
+
+	private static void writeString(String value, DataOutput output) throws IOException {
+		final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	private static String readString(DataInput input) throws IOException {
+		final byte[] bytes = new byte[input.readInt()];
+		input.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static byte getColumnType(AttributeValue value) {
+		if (!value.isAssigned()) {
+			return OBJECT_COLUMN;
+		}
+		switch (value.getType()) {
+		case BOOLEAN:
+			return BOOLEAN_COLUMN;
+		case INTEGER:
+			return INTEGER_COLUMN;
+		case REAL:
+			return REAL_COLUMN;
+		case STRING:
+			return STRING_COLUMN;
+			//$CASES-OMITTED$
+		default:
+			return OBJECT_COLUMN;
+		}
+	}
+
+	/** Write the attributes of the given providers, column by column.
+	 *
+	 * @param providers the providers, one per row.
+	 * @param output the output.
+	 * @throws IOException in case of error.
+	 */
+	@SuppressWarnings({"checkstyle:cyclomaticcomplexity", "resource"})
+	private static void writeAttributes(List<AttributeProvider> providers, PatchableDataOutputStream output)
+			throws IOException {
+		final Map<String, Attribute[]> columns = new TreeMap<>(new AttributeNameStringComparator());
+		final int rowCount = providers.size();
+		for (int row = 0; row < rowCount; ++row) {
+			for (final Attribute attribute : providers.get(row).attributes()) {
+				Attribute[] column = columns.get(attribute.getName());
+				if (column == null) {
+					column = new Attribute[rowCount];
+					columns.put(attribute.getName(), column);
+				}
+				column[row] = attribute;
+			}
+		}
+		output.writeInt(columns.size());
+		for (final Entry<String, Attribute[]> entry : columns.entrySet()) {
+			final Attribute[] column = entry.getValue();
+			final BitSet present = new BitSet(rowCount);
+			byte type = -1;
+			for (int row = 0; row < rowCount; ++row) {
+				if (column[row] != null) {
+					present.set(row);
+					final byte rowType = getColumnType(column[row]);
+					if (type == -1) {
+						type = rowType;
+					} else if (type != rowType) {
+						type = OBJECT_COLUMN;
+					}
+				}
+			}
+			writeString(entry.getKey(), output);
+			output.writeByte(type);
+			final byte[] presentBytes = present.toByteArray();
+			output.writeInt(presentBytes.length);
+			output.write(presentBytes);
+			try {
+				switch (type) {
+				case BOOLEAN_COLUMN:
+					final BitSet values = new BitSet();
+					int index = 0;
+					for (int row = present.nextSetBit(0); row >= 0; row = present.nextSetBit(row + 1)) {
+						values.set(index, column[row].getBoolean());
+						++index;
+					}
+					final byte[] valueBytes = values.toByteArray();
+					output.writeInt(valueBytes.length);
+					output.write(valueBytes);
+					break;
+				case INTEGER_COLUMN:
+					for (int row = present.nextSetBit(0); row >= 0; row = present.nextSetBit(row + 1)) {
+						output.writeLong(column[row].getInteger());
+					}
+					break;
+				case REAL_COLUMN:
+					for (int row = present.nextSetBit(0); row >= 0; row = present.nextSetBit(row + 1)) {
+						output.writeDouble(column[row].getReal());
+					}
+					break;
+				case STRING_COLUMN:
+					for (int row = present.nextSetBit(0); row >= 0; row = present.nextSetBit(row + 1)) {
+						writeString(column[row].getString(), output);
+					}
+					break;
+				default:
+					final long lengthPosition = output.position();
+					output.writeInt(0);
+					// The object stream is not closed for keeping the output open
+					final ObjectOutputStream objectOutput = new ObjectOutputStream(output);
+					for (int row = present.nextSetBit(0); row >= 0; row = present.nextSetBit(row + 1)) {
+						objectOutput.writeObject(column[row]);
+					}
+					objectOutput.flush();
+					output.patchInt(lengthPosition, (int) (output.position() - lengthPosition - Integer.BYTES));
+				}
+			} catch (AttributeException exception) {
+				throw new IOException(exception);
+			}
+		}
+	}
+
+	/** Read the attributes, column by column, and put them in the given collections.
+	 *
+	 * @param collections the collections, one per row.
+	 * @param input the input.
+	 * @throws IOException in case of error.
+	 */
+	@SuppressWarnings("checkstyle:cyclomaticcomplexity")
+	private static void readAttributes(List<AttributeCollection> collections, DataInput input) throws IOException {
+		final int columnCount = input.readInt();
+		for (int i = 0; i < columnCount; ++i) {
+			final String name = readString(input);
+			final byte type = input.readByte();
+			final byte[] presentBytes = new byte[input.readInt()];
+			input.readFully(presentBytes);
+			final BitSet present = BitSet.valueOf(presentBytes);
+			try {
+				switch (type) {
+				case BOOLEAN_COLUMN:
+					final byte[] valueBytes = new byte[input.readInt()];
+					input.readFully(valueBytes);
+					final BitSet values = BitSet.valueOf(valueBytes);
+					int index = 0;
+					for (int row = present.nextSetBit(0); row >= 0; row = present.nextSetBit(row + 1)) {
+						collections.get(row).setAttribute(name, values.get(index));
+						++index;
+					}
+					break;
+				case INTEGER_COLUMN:
+					for (int row = present.nextSetBit(0); row >= 0; row = present.nextSetBit(row + 1)) {
+						collections.get(row).setAttribute(name, input.readLong());
+					}
+					break;
+				case REAL_COLUMN:
+					for (int row = present.nextSetBit(0); row >= 0; row = present.nextSetBit(row + 1)) {
+						collections.get(row).setAttribute(name, input.readDouble());
+					}
+					break;
+				case STRING_COLUMN:
+					for (int row = present.nextSetBit(0); row >= 0; row = present.nextSetBit(row + 1)) {
+						collections.get(row).setAttribute(name, readString(input));
+					}
+					break;
+				case OBJECT_COLUMN:
+					final byte[] buffer = new byte[input.readInt()];
+					input.readFully(buffer);
+					try (ObjectInputStream objectInput = new ObjectInputStream(new ByteArrayInputStream(buffer))) {
+						for (int row = present.nextSetBit(0); row >= 0; row = present.nextSetBit(row + 1)) {
+							collections.get(row).setAttribute((Attribute) objectInput.readObject());
+						}
+					} catch (ClassNotFoundException exception) {
+						throw new IOException(exception);
+					}
+					break;
+				default:
+					throw new IOException("Invalid attribute column type: " + type); //$NON-NLS-1$
+				}
+			} catch (AttributeException exception) {
+				throw new IOException(exception);
+			}
+		}
+	}
+
+	/** Read the header of a layer, i.e. the layer without its elements.
+	 *
+	 * @param input the input.
+	 * @return the layer.
+	 * @throws IOException in case of error.
+	 */
+	static MapElementLayer<MapElement> decodeLayerHeader(DataInput input) throws IOException {
+		final byte layerType = input.readByte();
+		final UUID id = readUUID(input);
+		final boolean isTemp = input.readBoolean();
+		final boolean isReadOnly = input.readBoolean();
+		final AttributeCollection attributes = new HeapAttributeCollection();
+		final List<AttributeCollection> collections = new ArrayList<>(1);
+		collections.add(attributes);
+		readAttributes(collections, input);
+		final double minx = input.readDouble();
+		final double miny = input.readDouble();
+		final double maxx = input.readDouble();
+		final double maxy = input.readDouble();
+		final MapElementLayer<MapElement> layer;
+		switch (layerType) {
+		case ARRAY_LAYER:
+			layer = new ArrayMapElementLayer<>(id, attributes, isTemp);
+			break;
+		case TREE_LAYER:
+			if (minx <= maxx && miny <= maxy) {
+				layer = new TreeMapElementLayer<>(id, attributes, isTemp, new Rectangle2d(minx, miny, maxx - minx, maxy - miny));
+			} else {
+				layer = new TreeMapElementLayer<>(id, attributes, isTemp);
+			}
+			break;
+		default:
+			throw new IOException("Invalid layer type: " + layerType); //$NON-NLS-1$
+		}
+		layer.setReadOnlyObject(isReadOnly);
+		return layer;
+	}
+
+	/** Decode the elements of a chunk.
+	 *
+	 * @param chunk the bytes of the chunk.
+	 * @param positions the positions of the decoded elements in the layer.
+	 * @return the elements.
+	 * @throws IOException in case of error.
+	 */
+	@SuppressWarnings("checkstyle:cyclomaticcomplexity")
+	static List<MapElement> decodeChunk(byte[] chunk, List<Integer> positions) throws IOException {
+		try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(chunk))) {
+			final int count = input.readInt();
+			final byte[] types = new byte[count];
+			input.readFully(types);
+			final UUID[] ids = new UUID[count];
+			final int[] flags = new int[count];
+			for (int i = 0; i < count; ++i) {
+				ids[i] = readUUID(input);
+				flags[i] = input.readInt();
+				positions.add(Integer.valueOf(input.readInt()));
+			}
+			final List<MapElement> elements = new ArrayList<>(count);
+			final List<AttributeCollection> attributes = new ArrayList<>(count);
+			for (int i = 0; i < count; ++i) {
+				final AttributeCollection collection = new HeapAttributeCollection();
+				final MapElement element;
+				switch (types[i]) {
+				case POINT:
+					final MapPoint point = new MapPoint(ids[i], collection, input.readDouble(), input.readDouble());
+					point.setPointSize(input.readDouble());
+					point.setDoubleFramed(input.readBoolean());
+					element = point;
+					break;
+				case CIRCLE:
+					element = new MapCircle(ids[i], collection, input.readDouble(), input.readDouble(), input.readDouble());
+					break;
+				case MULTIPOINT:
+					final MapMultiPoint multipoint = new MapMultiPoint(ids[i], collection);
+					multipoint.setPointSize(input.readDouble());
+					multipoint.setDoubleFramed(input.readBoolean());
+					readComposedGeometry(multipoint, input);
+					element = multipoint;
+					break;
+				case POLYLINE:
+					final MapPolyline polyline = new MapPolyline(ids[i], collection);
+					polyline.setWidePolyline(input.readBoolean());
+					readComposedGeometry(polyline, input);
+					element = polyline;
+					break;
+				case POLYGON:
+					final MapPolygon polygon = new MapPolygon(ids[i], collection);
+					readComposedGeometry(polygon, input);
+					element = polygon;
+					break;
+				default:
+					throw new IOException("Invalid element type: " + types[i]); //$NON-NLS-1$
+				}
+				element.setFlag(flags[i]);
+				elements.add(element);
+				attributes.add(collection);
+			}
+			readAttributes(attributes, input);
+			return elements;
+		}
+	}
+
+	private static void readComposedGeometry(MapComposedElement element, DataInput input) throws IOException {
+		final int groupCount = input.readInt();
+		final int[] groupStarts = new int[groupCount];
+		int pointCount = 0;
+		int nonEmptyGroupCount = 0;
+		for (int i = 0; i < groupCount; ++i) {
+			final int groupSize = input.readInt();
+			if (groupSize > 0) {
+				groupStarts[nonEmptyGroupCount] = pointCount;
+				++nonEmptyGroupCount;
+				pointCount += groupSize;
+			}
+		}
+		final double[] coordinates = new double[pointCount * 2];
+		for (int i = 0; i < coordinates.length; ++i) {
+			coordinates[i] = input.readDouble();
+		}
+		element.addGroups(coordinates, pointCount, groupStarts, nonEmptyGroupCount);
+	}
+
+}
@@ -0,0 +1,109 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.gis.io.binary;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+
+/** Output stream of primitive values into a file channel, in which the values that
+ * were already written could be replaced.
+ *
+ * <p>This stream is used for writing the records sequentially, and for writing their
+ * lengths afterwards at the place of placeholders.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ */
+final class PatchableDataOutputStream extends DataOutputStream {
+
+	private final FileChannel channel;
+
+	private final ByteBuffer patch = ByteBuffer.allocate(Long.BYTES);
+
+	/** Constructor.
+	 *
+	 * @param channel the channel to write in.
+	 */
+	PatchableDataOutputStream(FileChannel channel) {
+		super(new BufferedOutputStream(Channels.newOutputStream(channel)));
+		this.channel = channel;
+	}
+
+	/** Replies the position in the channel of the next byte to write.
+	 *
+	 * @return the position.
+	 * @throws IOException in case of error.
+	 */
+	long position() throws IOException {
+		flush();
+		return this.channel.position();
+	}
+
+	/** Replace the bytes at the given position.
+	 *
+	 * <p>The position of the next byte to write is not changed.
+	 *
+	 * @param position the position of the first byte to replace.
+	 * @param bytes the new bytes.
+	 * @throws IOException in case of error.
+	 */
+	void patch(long position, ByteBuffer bytes) throws IOException {
+		flush();
+		final int start = bytes.position();
+		while (bytes.hasRemaining()) {
+			this.channel.write(bytes, position + bytes.position() - start);
+		}
+	}
+
+	/** Replace the integer at the given position.
+	 *
+	 * @param position the position of the integer to replace.
+	 * @param value the new value.
+	 * @throws IOException in case of error.
+	 */
+	void patchInt(long position, int value) throws IOException {
+		this.patch.clear();
+		this.patch.putInt(value);
+		this.patch.flip();
+		patch(position, this.patch);
+	}
+
+	/** Replace the long integer at the given position.
+	 *
+	 * @param position the position of the long integer to replace.
+	 * @param value the new value.
+	 * @throws IOException in case of error.
+	 */
+	void patchLong(long position, long value) throws IOException {
+		this.patch.clear();
+		this.patch.putLong(value);
+		this.patch.flip();
+		patch(position, this.patch);
+	}
+
+}
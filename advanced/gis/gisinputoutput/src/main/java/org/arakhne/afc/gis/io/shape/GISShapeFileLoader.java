@@ -0,0 +1,659 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.gis.io.shape;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.attrs.attr.AttributeException;
+import org.arakhne.afc.attrs.attr.AttributeValue;
+import org.arakhne.afc.attrs.attr.AttributeValueImpl;
+import org.arakhne.afc.gis.coordinate.MapMetricProjection;
+import org.arakhne.afc.gis.mapelement.GISElementContainer;
+import org.arakhne.afc.gis.mapelement.MapElement;
+import org.arakhne.afc.io.dbase.DBaseFileField;
+import org.arakhne.afc.io.dbase.DBaseFileReader;
+import org.arakhne.afc.io.dbase.DBaseFileRecord;
+import org.arakhne.afc.io.shape.ShapeFileIndexReader;
+import org.arakhne.afc.vmutil.ThreadServiceFinder;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** Loader of GIS elements from an ESRI shapefile, in which the reading stages are run in parallel.
+ *
+ * <p>In opposite to {@link GISShapeFileReader}, which decodes the records, builds the map elements
+ * and reads their attributes sequentially on the caller's thread, this loader runs a pipeline
+ * of stages:<ul>
+ * <li>the records of the Shape file are decoded and the map elements are built by worker tasks.
+ *     When the Shape file index is given, the records are split into batches that are decoded
+ *     in parallel, each task seeking directly to the first record of its batch. Otherwise, a
+ *     single worker task decodes the records sequentially;</li>
+ * <li>the records of the dBase file are decoded by another worker task;</li>
+ * <li>the caller's thread puts the attributes into the map elements, and delivers the map
+ *     elements by batches, in the order of the Shape file.</li>
+ * </ul>
+ * The number of batches that are decoded in advance is bounded in order to bound the memory
+ * that is used by the loader.
+ *
+ * <p>The worker tasks are run by the executor service of the {@link ThreadServiceFinder}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ */
+public class GISShapeFileLoader {
+
+	/** Default number of records in a batch.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 1024;
+
+	/** Number of batches that may be produced by a sequential stage in advance.
+	 */
+	private static final int QUEUE_CAPACITY = 4;
+
+	private final URL shapeURL;
+
+	private final URL indexURL;
+
+	private final URL dbaseURL;
+
+	private Class<? extends MapElement> elementType;
+
+	private MapMetricProjection mapProjection = MapMetricProjection.getDefault();
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	private int parallelism = Runtime.getRuntime().availableProcessors();
+
+	/** Constructor.
+	 *
+	 * @param shapeURL the URL of the Shape file.
+	 * @param indexURL the URL of the Shape file index, or <code>null</code> if the records of the
+	 *     Shape file must be decoded sequentially.
+	 * @param dbaseURL the URL of the dBase file, or <code>null</code> if the elements have no attribute.
+	 */
+	public GISShapeFileLoader(URL shapeURL, URL indexURL, URL dbaseURL) {
+		assert shapeURL != null : AssertMessages.notNullParameter(0);
+		this.shapeURL = shapeURL;
+		this.indexURL = indexURL;
+		this.dbaseURL = dbaseURL;
+	}
+
+	/** Replies the type of the map elements to create.
+	 *
+	 * @return the type of the map elements, or <code>null</code> to use the type within the
+	 *     Shape file header.
+	 */
+	@Pure
+	public Class<? extends MapElement> getMapElementType() {
+		return this.elementType;
+	}
+
+	/** Change the type of the map elements to create.
+	 *
+	 * @param type the type of the map elements, or <code>null</code> to use the type within
+	 *     the Shape file header.
+	 */
+	public void setMapElementType(Class<? extends MapElement> type) {
+		this.elementType = type;
+	}
+
+	/** Replies the map metric projection used by the coordinates in the source file.
+	 *
+	 * @return the map metric projection in the source file.
+	 */
+	@Pure
+	public MapMetricProjection getMapMetricProjection() {
+		return this.mapProjection;
+	}
+
+	/** Set the map metric projection used by the coordinates in the source file.
+	 *
+	 * @param projection is the map metric projection in the source file.
+	 */
+	public void setMapMetricProjection(MapMetricProjection projection) {
+		this.mapProjection = projection == null ? MapMetricProjection.getDefault() : projection;
+	}
+
+	/** Replies the number of records in a batch.
+	 *
+	 * @return the number of records in a batch.
+	 */
+	@Pure
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/** Change the number of records in a batch.
+	 *
+	 * @param size the number of records in a batch.
+	 */
+	public void setBatchSize(int size) {
+		this.batchSize = size < 1 ? 1 : size;
+	}
+
+	/** Replies the maximal number of batches that are decoded in parallel.
+	 *
+	 * @return the maximal number of batches that are decoded in parallel.
+	 */
+	@Pure
+	public int getParallelism() {
+		return this.parallelism;
+	}
+
+	/** Change the maximal number of batches that are decoded in parallel.
+	 * The parallelism is used only when the Shape file index is given.
+	 *
+	 * @param parallelism the maximal number of batches that are decoded in parallel.
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = parallelism < 1 ? 1 : parallelism;
+	}
+
+	/** Load the map elements into the given container, by batches.
+	 * The map elements that are not of the given type are ignored.
+	 *
+	 * @param <T> the type of the map elements.
+	 * @param type the type of the map elements to add into the container.
+	 * @param container the container to fill.
+	 * @throws IOException in case of error.
+	 */
+	public <T extends MapElement> void load(Class<T> type, GISElementContainer<? super T> container) throws IOException {
+		assert type != null : AssertMessages.notNullParameter(0);
+		assert container != null : AssertMessages.notNullParameter(1);
+		load(type, container::addMapElements);
+	}
+
+	/** Load the map elements, and give them by batches to the given consumer.
+	 * The batches are given in the order of the Shape file, on the caller's thread.
+	 * The map elements that are not of the given type are ignored.
+	 *
+	 * @param <T> the type of the map elements.
+	 * @param type the type of the map elements, or <code>null</code> to accept all the map elements.
+	 * @param consumer the consumer of the batches of map elements.
+	 * @throws IOException in case of error.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends MapElement> void load(Class<T> type, Consumer<? super List<T>> consumer) throws IOException {
+		assert consumer != null : AssertMessages.notNullParameter(1);
+		final ExecutorService executor = ThreadServiceFinder.getProvider().getExecutorService();
+		try (BatchSupplier<GeometryBatch> geometries = createGeometrySupplier(executor);
+				BatchSupplier<AttributeBatch> attributes = createAttributeSupplier(executor)) {
+			AttributeBatch attributeBatch = attributes == null ? null : attributes.next();
+			GeometryBatch geometryBatch = geometries.next();
+			while (geometryBatch != null) {
+				final List<T> elements = new ArrayList<>(geometryBatch.size);
+				for (int i = 0; i < geometryBatch.size; ++i) {
+					final MapElement element = geometryBatch.elements[i];
+					if (attributes != null) {
+						final int record = geometryBatch.records[i];
+						while (attributeBatch != null && record >= attributeBatch.firstRecord + attributeBatch.values.length) {
+							attributeBatch = attributes.next();
+						}
+						if (attributeBatch != null && record >= attributeBatch.firstRecord) {
+							attributeBatch.putAttributesIn(element, record - attributeBatch.firstRecord);
+						}
+					}
+					if (type == null || type.isInstance(element)) {
+						elements.add((T) element);
+					}
+				}
+				if (!elements.isEmpty()) {
+					consumer.accept(elements);
+				}
+				geometryBatch = geometries.next();
+			}
+		}
+	}
+
+	private BatchSupplier<GeometryBatch> createGeometrySupplier(ExecutorService executor) throws IOException {
+		if (this.indexURL != null && this.parallelism > 1) {
+			return new IndexedGeometrySupplier(executor);
+		}
+		final QueueSupplier<GeometryBatch> supplier = new QueueSupplier<GeometryBatch>() {
+			@Override
+			protected void produce() throws IOException, InterruptedException {
+				try (RecordReader reader = new RecordReader(null, Integer.MAX_VALUE)) {
+					GeometryBatch batch = new GeometryBatch(getBatchSize());
+					MapElement element = reader.read();
+					while (element != null) {
+						batch.add(reader.lastRecord, element);
+						if (batch.size >= getBatchSize()) {
+							put(batch);
+							batch = new GeometryBatch(getBatchSize());
+						}
+						element = reader.read();
+					}
+					if (batch.size > 0) {
+						put(batch);
+					}
+				}
+			}
+		};
+		supplier.start(executor);
+		return supplier;
+	}
+
+	private BatchSupplier<AttributeBatch> createAttributeSupplier(ExecutorService executor) {
+		if (this.dbaseURL == null) {
+			return null;
+		}
+		final QueueSupplier<AttributeBatch> supplier = new QueueSupplier<AttributeBatch>() {
+			@Override
+			protected void produce() throws IOException, InterruptedException {
+				try (DBaseFileReader reader = new DBaseFileReader(GISShapeFileLoader.this.dbaseURL)) {
+					reader.readDBFHeader();
+					final List<DBaseFileField> fields = new ArrayList<>();
+					for (final DBaseFileField field : reader.readDBFFields()) {
+						if (reader.isColumnSelectable(field)) {
+							fields.add(field);
+						}
+					}
+					final String[] names = new String[fields.size()];
+					for (int i = 0; i < names.length; ++i) {
+						names[i] = fields.get(i).getName();
+					}
+					final int recordCount = reader.getDBFRecordCount();
+					for (int first = 0; first < recordCount; first += getBatchSize()) {
+						final AttributeValue[][] values = new AttributeValue[Math.min(getBatchSize(), recordCount - first)][];
+						for (int i = 0; i < values.length; ++i) {
+							// A deleted record has no attribute value
+							final DBaseFileRecord record = reader.readNextDBFRecord();
+							if (record != null) {
+								values[i] = new AttributeValue[names.length];
+								for (int j = 0; j < names.length; ++j) {
+									final DBaseFileField field = fields.get(j);
+									final AttributeValueImpl value = new AttributeValueImpl();
+									value.castAndSet(field.getAttributeType(), record.getFieldValue(field.getColumnIndex()));
+									values[i][j] = value;
+								}
+							}
+						}
+						put(new AttributeBatch(first, names, values));
+					}
+				}
+			}
+		};
+		supplier.start(executor);
+		return supplier;
+	}
+
+	/** Decode the records of the Shape file from the given index (inclusive) to the given index (exclusive).
+	 *
+	 * @param start the index of the first record to decode.
+	 * @param end the index of the record after the last record to decode.
+	 * @return the map elements.
+	 * @throws IOException in case of error.
+	 */
+	GeometryBatch readGeometries(int start, int end) throws IOException {
+		try (ShapeFileIndexReader index = new ShapeFileIndexReader(this.indexURL);
+				RecordReader reader = new RecordReader(index, end)) {
+			reader.seek(start);
+			final GeometryBatch batch = new GeometryBatch(end - start);
+			MapElement element = reader.read();
+			while (element != null) {
+				batch.add(reader.lastRecord, element);
+				element = reader.read();
+			}
+			return batch;
+		}
+	}
+
+	private static IOException toIOException(Throwable exception) {
+		if (exception instanceof IOException) {
+			return (IOException) exception;
+		}
+		if (exception instanceof RuntimeException) {
+			throw (RuntimeException) exception;
+		}
+		if (exception instanceof Error) {
+			throw (Error) exception;
+		}
+		return new IOException(exception);
+	}
+
+	/** Reader of the records of the Shape file, which is able to stop before a given record,
+	 * and which replies the index of the record of the last read element.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 18.0
+	 */
+	private class RecordReader extends GISShapeFileReader {
+
+		/** Index of the record of the last read element.
+		 */
+		int lastRecord;
+
+		private final int endRecord;
+
+		/** Constructor.
+		 *
+		 * @param index the Shape file index.
+		 * @param endRecord the index of the record before which the reading is stopped.
+		 * @throws IOException in case of error.
+		 */
+		RecordReader(ShapeFileIndexReader index, int endRecord) throws IOException {
+			super(GISShapeFileLoader.this.shapeURL, GISShapeFileLoader.this.elementType, null, index, null);
+			setMapMetricProjection(GISShapeFileLoader.this.mapProjection);
+			this.endRecord = endRecord;
+		}
+
+		@Override
+		protected MapElement readRecord(int recordIndex) throws IOException {
+			if (recordIndex >= this.endRecord) {
+				throw new EOFException();
+			}
+			this.lastRecord = recordIndex;
+			return super.readRecord(recordIndex);
+		}
+
+	}
+
+	/** Map elements that are decoded from the Shape file.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 18.0
+	 */
+	private static final class GeometryBatch {
+
+		final int[] records;
+
+		final MapElement[] elements;
+
+		int size;
+
+		/** Constructor.
+		 *
+		 * @param capacity the maximal number of elements in the batch.
+		 */
+		GeometryBatch(int capacity) {
+			this.records = new int[capacity];
+			this.elements = new MapElement[capacity];
+		}
+
+		/** Add an element.
+		 *
+		 * @param record the index of the record of the element.
+		 * @param element the element.
+		 */
+		void add(int record, MapElement element) {
+			this.records[this.size] = record;
+			this.elements[this.size] = element;
+			++this.size;
+		}
+
+	}
+
+	/** Attribute values that are decoded from the dBase file.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 18.0
+	 */
+	private static final class AttributeBatch {
+
+		final int firstRecord;
+
+		final String[] names;
+
+		final AttributeValue[][] values;
+
+		/** Constructor.
+		 *
+		 * @param firstRecord the index of the first record in the batch.
+		 * @param names the names of the attributes.
+		 * @param values the values of the attributes for each record.
+		 */
+		AttributeBatch(int firstRecord, String[] names, AttributeValue[][] values) {
+			this.firstRecord = firstRecord;
+			this.names = names;
+			this.values = values;
+		}
+
+		/** Put the attributes of the record at the given index into the given element.
+		 *
+		 * @param element the element to fill.
+		 * @param index the index of the record in the batch.
+		 */
+		void putAttributesIn(MapElement element, int index) {
+			final AttributeValue[] recordValues = this.values[index];
+			if (recordValues != null) {
+				for (int i = 0; i < this.names.length; ++i) {
+					try {
+						element.setAttribute(this.names[i], recordValues[i]);
+					} catch (AttributeException e) {
+						//
+					}
+				}
+			}
+		}
+
+	}
+
+	/** Supplier of batches.
+	 *
+	 * @param <T> the type of the batches.
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 18.0
+	 */
+	private interface BatchSupplier<T> extends AutoCloseable {
+
+		/** Replies the next batch.
+		 *
+		 * @return the next batch, or <code>null</code> if there is no more batch.
+		 * @throws IOException in case of error.
+		 */
+		T next() throws IOException;
+
+		/** Stop the production of the batches.
+		 */
+		@Override
+		void close();
+
+	}
+
+	/** Supplier of the batches that are produced sequentially by a worker task.
+	 *
+	 * @param <T> the type of the batches.
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 18.0
+	 */
+	private abstract static class QueueSupplier<T> implements BatchSupplier<T> {
+
+		private static final Object END = new Object();
+
+		private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+		private volatile Throwable error;
+
+		private Future<?> task;
+
+		private boolean finished;
+
+		/** Start the production of the batches.
+		 *
+		 * @param executor the executor of the worker task.
+		 */
+		void start(ExecutorService executor) {
+			this.task = executor.submit(() -> {
+				try {
+					produce();
+				} catch (InterruptedException exception) {
+					// Production is cancelled
+					return;
+				} catch (Throwable exception) {
+					this.error = exception;
+				}
+				try {
+					this.queue.put(END);
+				} catch (InterruptedException exception) {
+					// Production is cancelled
+				}
+			});
+		}
+
+		/** Produce the batches.
+		 *
+		 * @throws IOException in case of error.
+		 * @throws InterruptedException if the production is cancelled.
+		 */
+		protected abstract void produce() throws IOException, InterruptedException;
+
+		/** Give a produced batch.
+		 *
+		 * @param batch the batch.
+		 * @throws InterruptedException if the production is cancelled.
+		 */
+		protected void put(T batch) throws InterruptedException {
+			this.queue.put(batch);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T next() throws IOException {
+			if (this.finished) {
+				return null;
+			}
+			final Object batch;
+			try {
+				batch = this.queue.take();
+			} catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException();
+			}
+			if (batch == END) {
+				this.finished = true;
+				final Throwable exception = this.error;
+				if (exception != null) {
+					throw toIOException(exception);
+				}
+				return null;
+			}
+			return (T) batch;
+		}
+
+		@Override
+		public void close() {
+			this.finished = true;
+			this.task.cancel(true);
+		}
+
+	}
+
+	/** Supplier of the batches that are decoded in parallel from the ranges of records
+	 * that are obtained from the Shape file index.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 18.0
+	 */
+	private class IndexedGeometrySupplier implements BatchSupplier<GeometryBatch> {
+
+		private final ExecutorService executor;
+
+		private final Deque<Future<GeometryBatch>> window = new ArrayDeque<>();
+
+		private final int recordCount;
+
+		private int nextRecord;
+
+		/** Constructor.
+		 *
+		 * @param executor the executor of the worker tasks.
+		 * @throws IOException in case of error.
+		 */
+		IndexedGeometrySupplier(ExecutorService executor) throws IOException {
+			this.executor = executor;
+			try (ShapeFileIndexReader index = new ShapeFileIndexReader(GISShapeFileLoader.this.indexURL)) {
+				this.recordCount = index.getRecordCount();
+			}
+			fillWindow();
+		}
+
+		private void fillWindow() {
+			while (this.window.size() < getParallelism() && this.nextRecord < this.recordCount) {
+				final int start = this.nextRecord;
+				final int end = (int) Math.min((long) start + getBatchSize(), this.recordCount);
+				this.window.addLast(this.executor.submit(() -> readGeometries(start, end)));
+				this.nextRecord = end;
+			}
+		}
+
+		@Override
+		public GeometryBatch next() throws IOException {
+			final Future<GeometryBatch> future = this.window.pollFirst();
+			if (future == null) {
+				return null;
+			}
+			try {
+				final GeometryBatch batch = future.get();
+				fillWindow();
+				return batch;
+			} catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException();
+			} catch (ExecutionException exception) {
+				throw toIOException(exception.getCause());
+			}
+		}
+
+		@Override
+		public void close() {
+			for (final Future<GeometryBatch> future : this.window) {
+				future.cancel(true);
+			}
+			this.window.clear();
+		}
+
+	}
+
+}
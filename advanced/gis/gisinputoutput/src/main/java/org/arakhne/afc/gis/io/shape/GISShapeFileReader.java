@@ -39,8 +39,10 @@ import org.arakhne.afc.attrs.attr.AttributeValue;
 import org.arakhne.afc.attrs.attr.InvalidAttributeTypeException;
 import org.arakhne.afc.attrs.collection.AttributeCollection;
 import org.arakhne.afc.attrs.collection.AttributeProvider;
+import org.arakhne.afc.attrs.collection.ColumnarAttributeStore;
 import org.arakhne.afc.attrs.collection.HeapAttributeCollection;
 import org.arakhne.afc.gis.coordinate.MapMetricProjection;
+import org.arakhne.afc.gis.mapelement.MapComposedElement;
 import org.arakhne.afc.gis.mapelement.MapElement;
 import org.arakhne.afc.gis.mapelement.MapMultiPoint;
 import org.arakhne.afc.gis.mapelement.MapPoint;
@@ -72,6 +74,8 @@ public class GISShapeFileReader extends AbstractShapeFileReader<MapElement> {
 
 	private MapMetricProjection mapProjection = MapMetricProjection.getDefault();
 
+	private ColumnarAttributeStore attributeStore;
+
 	/** Create a reader of shapes from specified channel.
 	 *
 	 * @param stream is the input stream to read from.
@@ -744,6 +748,9 @@ public class GISShapeFileReader extends AbstractShapeFileReader<MapElement> {
 		if (this.dbaseURL != null) {
 			return DBaseFileAttributePool.getCollection(this.dbaseURL, elementIndex);
 		}
+		if (this.attributeStore != null) {
+			return this.attributeStore.newCollection();
+		}
 		return new HeapAttributeCollection();
 	}
 
@@ -815,10 +822,14 @@ public class GISShapeFileReader extends AbstractShapeFileReader<MapElement> {
 			elt = new MapMultiPoint(id, provider);
 		}
 		final Point2d proj = new Point2d();
+		final double[] coordinates = new double[points.length * 2];
+		int i = 0;
 		for (final ESRIPoint p : points) {
 			doProjection(p, proj);
-			elt.addPoint(proj.getX(), proj.getY());
+			coordinates[i++] = proj.getX();
+			coordinates[i++] = proj.getY();
 		}
+		elt.addGroups(coordinates, null);
 		return elt.getPointCount() > 1 ? elt : null;
 	}
 
@@ -836,43 +847,79 @@ public class GISShapeFileReader extends AbstractShapeFileReader<MapElement> {
 		return elt;
 	}
 
-	@Override
-	protected MapElement createPolygon(AttributeCollection provider, int shapeIndex, int[] parts,
-			ESRIPoint[] points, boolean hasZ) {
-		final UUID id = extractUUID(provider);
-		MapPolygon elt = createObjectInstance(id, provider, MapPolygon.class);
-		if (elt == null) {
-			elt = new MapPolygon(id, provider);
-		}
-
+	/** Add the projected parts into the given element.
+	 * The consecutive points at the same location are merged, and the parts
+	 * with only one point are ignored.
+	 *
+	 * @param elt the element to fill.
+	 * @param parts the indexes of the first points of the parts.
+	 * @param points the points of the parts.
+	 */
+	private void addGroups(MapComposedElement elt, int[] parts, ESRIPoint[] points) {
 		final PointFusionValidator validator = elt.getPointFusionValidator();
 
 		final Point2d proj = new Point2d();
 
+		final double[] coordinates = new double[points.length * 2];
+		final int[] groupStarts = new int[parts.length];
+		int pointCount = 0;
+		int groupCount = 0;
+
 		for (int i = 0; i < parts.length; ++i) {
 			final int start = parts[i];
+
 			final int end = (i == (parts.length - 1) ? points.length : parts[i + 1]) - 1;
 
+			assert start >= 0 && start < points.length;
+			assert end >= 0 && end < points.length;
+			assert start <= end;
+
+			final int groupStart = pointCount;
+
 			doProjection(points[start], proj);
 			double lastx = proj.getX();
 			double lasty = proj.getY();
-			elt.addGroup(proj.getX(), proj.getY());
+			coordinates[pointCount * 2] = lastx;
+			coordinates[pointCount * 2 + 1] = lasty;
+			++pointCount;
 
-			for (int j = parts[i] + 1; j <= end; ++j) {
+			for (int j = start + 1; j <= end; ++j) {
+				assert points[j] != null;
 				doProjection(points[j], proj);
 				if (!validator.isSame(lastx, lasty, proj.getX(), proj.getY())) {
-					elt.addPoint(proj.getX(), proj.getY());
 					lastx = proj.getX();
 					lasty = proj.getY();
+					coordinates[pointCount * 2] = lastx;
+					coordinates[pointCount * 2 + 1] = lasty;
+					++pointCount;
 				}
 			}
 
-			// Remove the newly created part because it contains only one point
-			if (elt.getPointCountInGroup(i) <= 1) {
-				elt.removeGroupAt(elt.getGroupCount() - 1);
+			if (pointCount - groupStart <= 1) {
+				// Ignore the part because it contains only one point
+				pointCount = groupStart;
+			} else {
+				groupStarts[groupCount] = groupStart;
+				++groupCount;
 			}
 		}
 
+		if (groupCount > 0) {
+			elt.addGroups(coordinates, pointCount, groupStarts, groupCount);
+		}
+	}
+
+	@Override
+	protected MapElement createPolygon(AttributeCollection provider, int shapeIndex, int[] parts,
+			ESRIPoint[] points, boolean hasZ) {
+		final UUID id = extractUUID(provider);
+		MapPolygon elt = createObjectInstance(id, provider, MapPolygon.class);
+		if (elt == null) {
+			elt = new MapPolygon(id, provider);
+		}
+
+		addGroups(elt, parts, points);
+
 		return elt.getPointCount() > 1 ? elt : null;
 	}
 
@@ -885,39 +932,7 @@ public class GISShapeFileReader extends AbstractShapeFileReader<MapElement> {
 			elt = new MapPolyline(id, provider);
 		}
 
-		final PointFusionValidator validator = elt.getPointFusionValidator();
-
-		final Point2d proj = new Point2d();
-
-		for (int i = 0; i < parts.length; ++i) {
-			final int start = parts[i];
-
-			final int end = (i == (parts.length - 1) ? points.length : parts[i + 1]) - 1;
-
-			assert start >= 0 && start < points.length;
-			assert end >= 0 && end < points.length;
-			assert start <= end;
-
-			doProjection(points[start], proj);
-			double lastx = proj.getX();
-			double lasty = proj.getY();
-			elt.addGroup(proj.getX(), proj.getY());
-
-			for (int j = start + 1; j <= end; ++j) {
-				assert points[j] != null;
-				doProjection(points[j], proj);
-				if (!validator.isSame(lastx, lasty, proj.getX(), proj.getY())) {
-					elt.addPoint(proj.getX(), proj.getY());
-					lastx = proj.getX();
-					lasty = proj.getY();
-				}
-			}
-
-			// Remove the newly created part because it contains only one point
-			if (elt.getPointCountInGroup(i) <= 1) {
-				elt.removeGroupAt(elt.getGroupCount() - 1);
-			}
-		}
+		addGroups(elt, parts, points);
 
 		if (elt.getPointCount() > 1) {
 			return elt;
@@ -959,4 +974,28 @@ public class GISShapeFileReader extends AbstractShapeFileReader<MapElement> {
 		return this.mapProjection;
 	}
 
+	/** Set the store in which the attributes of the read elements are put.
+	 *
+	 * <p>When a store is given, the attributes of all the elements are stored in the
+	 * columns of this store instead of a {@link HeapAttributeCollection} per element.
+	 * The same store may be shared by the readers of the shape files of a layer.
+	 * The store is not used when the dBASE file is given as the attribute source.
+	 *
+	 * @param store the store, or {@code null} for using a {@link HeapAttributeCollection} per element.
+	 * @since 18.0
+	 */
+	public void setAttributeStore(ColumnarAttributeStore store) {
+		this.attributeStore = store;
+	}
+
+	/** Replies the store in which the attributes of the read elements are put.
+	 *
+	 * @return the store, or {@code null} if each element has its own {@link HeapAttributeCollection}.
+	 * @since 18.0
+	 */
+	@Pure
+	public ColumnarAttributeStore getAttributeStore() {
+		return this.attributeStore;
+	}
+
 }
@@ -20,19 +20,43 @@
 
 package org.arakhne.afc.gis.io.binary;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.net.URL;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 
 import org.arakhne.afc.gis.io.shape.GISShapeFileReader;
+import org.arakhne.afc.attrs.attr.AttributeException;
+import org.arakhne.afc.gis.mapelement.MapCircle;
 import org.arakhne.afc.gis.mapelement.MapElement;
+import org.arakhne.afc.gis.mapelement.MapPoint;
+import org.arakhne.afc.gis.mapelement.MapPolygon;
+import org.arakhne.afc.gis.mapelement.MapPolyline;
 import org.arakhne.afc.gis.maplayer.ArrayMapElementLayer;
 import org.arakhne.afc.gis.maplayer.MapLayer;
+import org.arakhne.afc.gis.maplayer.MultiMapLayer;
+import org.arakhne.afc.gis.maplayer.TreeMapElementLayer;
+import org.arakhne.afc.math.geometry.d2.d.Point2d;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
 import org.arakhne.afc.testtools.AbstractTestCase;
 import org.arakhne.afc.vmutil.FileSystem;
 import org.arakhne.afc.vmutil.Resources;
@@ -99,4 +123,235 @@ public class GISLayerWriterReaderTest extends AbstractTestCase {
 		}
 	}
 
+	private static ArrayMapElementLayer<MapElement> createLayer() throws AttributeException {
+		ArrayMapElementLayer<MapElement> layer = new ArrayMapElementLayer<>();
+		layer.setAttribute("name", "myLayer"); //$NON-NLS-1$ //$NON-NLS-2$
+		for (int i = 0; i < 10; ++i) {
+			MapPolyline polyline = new MapPolyline();
+			polyline.addPoint(i * 100, 0);
+			polyline.addPoint(i * 100 + 10, 10);
+			polyline.addGroup(i * 100 + 20, 20);
+			polyline.addPoint(i * 100 + 30, 30);
+			polyline.setAttribute("index", i); //$NON-NLS-1$
+			polyline.setAttribute("length", i * 1.5); //$NON-NLS-1$
+			if (i % 2 == 0) {
+				polyline.setAttribute("label", "L" + i); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			polyline.setAttribute("even", i % 2 == 0); //$NON-NLS-1$
+			layer.addMapElement(polyline);
+		}
+		MapPoint point = new MapPoint(5, 6);
+		point.setPointSize(3);
+		point.setDoubleFramed(true);
+		layer.addMapElement(point);
+		layer.addMapElement(new MapCircle(7, 8, 9));
+		MapPolygon polygon = new MapPolygon();
+		polygon.addPoint(0, 0);
+		polygon.addPoint(1, 0);
+		polygon.addPoint(1, 1);
+		layer.addMapElement(polygon);
+		return layer;
+	}
+
+	private static byte[] writeLayers(int chunkSize, MapLayer... layers) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try (GISLayerWriter layerWriter = new GISLayerWriter(output)) {
+			layerWriter.setChunkSize(chunkSize);
+			for (MapLayer layer : layers) {
+				layerWriter.write(layer);
+			}
+		}
+		return output.toByteArray();
+	}
+
+	private static void assertSameElements(ArrayMapElementLayer<MapElement> expected, ArrayMapElementLayer<MapElement> actual)
+			throws AttributeException {
+		assertEquals(expected.getUUID(), actual.getUUID());
+		assertEquals("myLayer", actual.getAttribute("name", (String) null)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(expected.getMapElementCount(), actual.getMapElementCount());
+		Iterator<MapElement> iterator = actual.iterator();
+		for (MapElement expectedElement : expected) {
+			MapElement actualElement = iterator.next();
+			assertEquals(expectedElement.getClass(), actualElement.getClass());
+			assertEquals(expectedElement.getUUID(), actualElement.getUUID());
+			assertEquals(expectedElement.getFlags(), actualElement.getFlags());
+			assertEquals(expectedElement.getBoundingBox(), actualElement.getBoundingBox());
+			assertEquals(expectedElement.getAttributeCount(), actualElement.getAttributeCount());
+			for (String name : expectedElement.getAllAttributeNames()) {
+				assertEquals(expectedElement.getAttribute(name), actualElement.getAttribute(name));
+			}
+			if (expectedElement instanceof MapPolyline) {
+				MapPolyline expectedPolyline = (MapPolyline) expectedElement;
+				MapPolyline actualPolyline = (MapPolyline) actualElement;
+				assertEquals(expectedPolyline.getGroupCount(), actualPolyline.getGroupCount());
+				List<Point2d> expectedPoints = new ArrayList<>();
+				expectedPolyline.points().forEach(expectedPoints::add);
+				List<Point2d> actualPoints = new ArrayList<>();
+				actualPolyline.points().forEach(actualPoints::add);
+				assertEquals(expectedPoints, actualPoints);
+			} else if (expectedElement instanceof MapPoint) {
+				assertEquals(((MapPoint) expectedElement).getPointSize(), ((MapPoint) actualElement).getPointSize());
+				assertTrue(((MapPoint) actualElement).isDoubleFramed());
+			}
+		}
+	}
+
+	@Test
+	public void testReaderWriter_chunks() throws Exception {
+		ArrayMapElementLayer<MapElement> layer = createLayer();
+		byte[] data = writeLayers(3, layer);
+		try (GISLayerReader layerReader = new GISLayerReader(new ByteArrayInputStream(data))) {
+			ArrayMapElementLayer<MapElement> readLayer = layerReader.read(ArrayMapElementLayer.class);
+			assertNotNull(readLayer);
+			assertSameElements(layer, readLayer);
+			assertNull(layerReader.read());
+		}
+	}
+
+	@Test
+	public void testReaderWriter_parallelDecoding() throws Exception {
+		ArrayMapElementLayer<MapElement> layer = createLayer();
+		byte[] data = writeLayers(2, layer);
+		try (GISLayerReader layerReader = new GISLayerReader(new ByteArrayInputStream(data))) {
+			layerReader.setParallelDecoding(true);
+			ArrayMapElementLayer<MapElement> readLayer = layerReader.read(ArrayMapElementLayer.class);
+			assertNotNull(readLayer);
+			assertSameElements(layer, readLayer);
+		}
+	}
+
+	@Test
+	public void testReaderWriter_queryBounds() throws Exception {
+		ArrayMapElementLayer<MapElement> layer = createLayer();
+		byte[] data = writeLayers(2, layer);
+		try (GISLayerReader layerReader = new GISLayerReader(new ByteArrayInputStream(data))) {
+			layerReader.setQueryBounds(new Rectangle2d(250, 0, 200, 100));
+			ArrayMapElementLayer<MapElement> readLayer = layerReader.read(ArrayMapElementLayer.class);
+			assertNotNull(readLayer);
+			assertEquals(2, readLayer.getMapElementCount());
+			assertEquals(3, readLayer.getMapElementAt(0).getAttributeAsInt("index")); //$NON-NLS-1$
+			assertEquals(4, readLayer.getMapElementAt(1).getAttributeAsInt("index")); //$NON-NLS-1$
+		}
+	}
+
+	@Test
+	public void testReaderWriter_typeSelection() throws Exception {
+		TreeMapElementLayer<MapElement> treeLayer = new TreeMapElementLayer<>();
+		treeLayer.addMapElement(new MapCircle(1, 2, 3));
+		MultiMapLayer<MapLayer> multiLayer = new MultiMapLayer<>();
+		byte[] data = writeLayers(16, createLayer(), multiLayer, treeLayer);
+		try (GISLayerReader layerReader = new GISLayerReader(new ByteArrayInputStream(data))) {
+			MultiMapLayer<?> readMultiLayer = layerReader.read(MultiMapLayer.class);
+			assertNotNull(readMultiLayer);
+			assertEquals(0, readMultiLayer.getMapLayerCount());
+			TreeMapElementLayer<?> readTreeLayer = layerReader.read(TreeMapElementLayer.class);
+			assertNotNull(readTreeLayer);
+			assertEquals(1, readTreeLayer.getMapElementCount());
+			assertNull(layerReader.read());
+		}
+	}
+
+	@Test
+	public void testReaderWriter_skipSerializedLayer() throws Exception {
+		ArrayMapElementLayer<MapElement> layer = createLayer();
+		MultiMapLayer<MapLayer> multiLayer = new MultiMapLayer<>();
+		multiLayer.addMapLayer(new ArrayMapElementLayer<>());
+		byte[] data = writeLayers(4, multiLayer, layer);
+		try (GISLayerReader layerReader = new GISLayerReader(new ByteArrayInputStream(data))) {
+			ArrayMapElementLayer<MapElement> readLayer = layerReader.read(ArrayMapElementLayer.class);
+			assertNotNull(readLayer);
+			assertSameElements(layer, readLayer);
+			assertNull(layerReader.read());
+		}
+	}
+
+	@Test
+	public void testReaderWriter_objectAttributes() throws Exception {
+		TreeMapElementLayer<MapElement> layer = new TreeMapElementLayer<>();
+		List<UUID> ids = new ArrayList<>();
+		for (int i = 0; i < 20; ++i) {
+			MapCircle circle = new MapCircle(i * 10, i * 5, 2);
+			UUID id = UUID.randomUUID();
+			ids.add(id);
+			circle.setAttribute("reference", id); //$NON-NLS-1$
+			layer.addMapElement(circle);
+		}
+		byte[] data = writeLayers(3, layer, createLayer());
+		try (GISLayerReader layerReader = new GISLayerReader(new ByteArrayInputStream(data))) {
+			TreeMapElementLayer<MapElement> readLayer = layerReader.read(TreeMapElementLayer.class);
+			assertNotNull(readLayer);
+			assertEquals(layer.getBoundingBox(), readLayer.getBoundingBox());
+			assertEquals(ids.size(), readLayer.getMapElementCount());
+			Set<UUID> readIds = new HashSet<>();
+			for (MapElement element : readLayer) {
+				readIds.add(element.getAttributeAsUUID("reference")); //$NON-NLS-1$
+			}
+			assertEquals(new HashSet<>(ids), readIds);
+			ArrayMapElementLayer<MapElement> readArrayLayer = layerReader.read(ArrayMapElementLayer.class);
+			assertNotNull(readArrayLayer);
+			assertEquals("myLayer", readArrayLayer.getAttribute("name", (String) null)); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	@Test
+	public void testWriter_spatialChunks() throws Exception {
+		// 4x4 grid of circles, inserted in an order that interleaves distant circles
+		ArrayMapElementLayer<MapElement> layer = new ArrayMapElementLayer<>();
+		for (int i = 0; i < 16; ++i) {
+			int cell = (i * 5) % 16;
+			layer.addMapElement(new MapCircle(cell % 4 * 100, cell / 4 * 100, 1));
+		}
+		File tmpFile = File.createTempFile("unittest", ".gis");  //$NON-NLS-1$//$NON-NLS-2$
+		try {
+			try (PatchableDataOutputStream output = new PatchableDataOutputStream(
+					FileChannel.open(tmpFile.toPath(), StandardOpenOption.WRITE))) {
+				MapElementLayerCodec.encodeLayer(layer, 4, output);
+			}
+			try (DataInputStream input = new DataInputStream(new FileInputStream(tmpFile))) {
+				MapElementLayerCodec.decodeLayerHeader(input);
+				assertEquals(4, input.readInt());
+				for (int i = 0; i < 4; ++i) {
+					double minx = input.readDouble();
+					double miny = input.readDouble();
+					double maxx = input.readDouble();
+					double maxy = input.readDouble();
+					input.readInt();
+					// Each chunk covers a block of 2x2 circles
+					assertEpsilonEquals(102, maxx - minx);
+					assertEpsilonEquals(102, maxy - miny);
+				}
+			}
+		}
+		finally {
+			tmpFile.delete();
+		}
+
+		// The order of the elements is restored when reading
+		try (GISLayerReader layerReader = new GISLayerReader(new ByteArrayInputStream(writeLayers(4, layer)))) {
+			ArrayMapElementLayer<MapElement> readLayer = layerReader.read(ArrayMapElementLayer.class);
+			assertNotNull(readLayer);
+			assertEquals(layer.getMapElementCount(), readLayer.getMapElementCount());
+			for (int i = 0; i < layer.getMapElementCount(); ++i) {
+				assertEquals(layer.getMapElementAt(i).getUUID(), readLayer.getMapElementAt(i).getUUID());
+			}
+		}
+	}
+
+	@Test
+	public void testReader_legacyFormat() throws Exception {
+		ArrayMapElementLayer<MapElement> layer = createLayer();
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		output.write(GISLayerIOConstants.HEADER_KEY.getBytes());
+		output.write(new byte[] {GISLayerIOConstants.LEGACY_MAJOR_SPEC_NUMBER, 0, 0, 0, 0, 1});
+		try (ObjectOutputStream oos = new ObjectOutputStream(output)) {
+			oos.writeObject(layer);
+		}
+		try (GISLayerReader layerReader = new GISLayerReader(new ByteArrayInputStream(output.toByteArray()))) {
+			ArrayMapElementLayer<?> readLayer = layerReader.read(ArrayMapElementLayer.class);
+			assertNotNull(readLayer);
+			assertEquals(layer.getMapElementCount(), readLayer.getMapElementCount());
+			assertNull(layerReader.read());
+		}
+	}
+
 }
@@ -0,0 +1,146 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.gis.io.shape;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.arakhne.afc.attrs.attr.Attribute;
+import org.arakhne.afc.gis.maplayer.ArrayMapElementLayer;
+import org.arakhne.afc.gis.mapelement.MapElement;
+import org.arakhne.afc.gis.mapelement.MapPolygon;
+import org.arakhne.afc.gis.mapelement.MapPoint;
+import org.arakhne.afc.io.dbase.DBaseFileReader;
+import org.arakhne.afc.testtools.AbstractTestCase;
+import org.arakhne.afc.vmutil.Resources;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ */
+@SuppressWarnings("all")
+public class GISShapeFileLoaderTest extends AbstractTestCase {
+
+	private static final URL shpUrl = Resources.getResource(GISShapeFileLoaderTest.class, "test.shp"); //$NON-NLS-1$
+
+	private static final URL dbfUrl = Resources.getResource(GISShapeFileLoaderTest.class, "test.dbf"); //$NON-NLS-1$
+
+	private static final URL shxUrl = Resources.getResource(GISShapeFileLoaderTest.class, "test.shx"); //$NON-NLS-1$
+
+	private static List<MapElement> readSequentially() throws Exception {
+		final List<MapElement> elements = new ArrayList<>();
+		try (DBaseFileReader dbaseReader = new DBaseFileReader(dbfUrl);
+				GISShapeFileReader reader = new GISShapeFileReader(shpUrl, dbaseReader)) {
+			for (final MapElement element : reader) {
+				elements.add(element);
+			}
+		}
+		return elements;
+	}
+
+	private static List<MapElement> load(GISShapeFileLoader loader, List<Integer> batchSizes) throws Exception {
+		final List<MapElement> elements = new ArrayList<>();
+		loader.load(MapElement.class, it -> {
+			batchSizes.add(it.size());
+			elements.addAll(it);
+		});
+		return elements;
+	}
+
+	private void assertSameElements(List<MapElement> expected, List<MapElement> actual) {
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); ++i) {
+			final MapPolygon expectedElement = (MapPolygon) expected.get(i);
+			final MapPolygon actualElement = (MapPolygon) actual.get(i);
+			assertEquals(expectedElement.getPointCount(), actualElement.getPointCount(), "Element #" + i); //$NON-NLS-1$
+			for (int j = 0; j < expectedElement.getPointCount(); ++j) {
+				assertEpsilonEquals(expectedElement.getPointAt(j).getX(), actualElement.getPointAt(j).getX());
+				assertEpsilonEquals(expectedElement.getPointAt(j).getY(), actualElement.getPointAt(j).getY());
+			}
+			assertEquals(expectedElement.getAttributeCount(), actualElement.getAttributeCount(), "Element #" + i); //$NON-NLS-1$
+			for (final Attribute attr : expectedElement.attributes()) {
+				assertEquals(attr, actualElement.getAttributeObject(attr.getName()), "Element #" + i); //$NON-NLS-1$
+			}
+		}
+	}
+
+	@Test
+	public void load_withIndex() throws Exception {
+		final GISShapeFileLoader loader = new GISShapeFileLoader(shpUrl, shxUrl, dbfUrl);
+		loader.setBatchSize(4);
+		loader.setParallelism(3);
+		final List<Integer> batchSizes = new ArrayList<>();
+		final List<MapElement> elements = load(loader, batchSizes);
+		assertSameElements(readSequentially(), elements);
+		assertEquals(6, batchSizes.size());
+		for (int i = 0; i < batchSizes.size() - 1; ++i) {
+			assertEquals(4, batchSizes.get(i).intValue());
+		}
+	}
+
+	@Test
+	public void load_withoutIndex() throws Exception {
+		final GISShapeFileLoader loader = new GISShapeFileLoader(shpUrl, null, dbfUrl);
+		loader.setBatchSize(4);
+		final List<Integer> batchSizes = new ArrayList<>();
+		final List<MapElement> elements = load(loader, batchSizes);
+		assertSameElements(readSequentially(), elements);
+		assertEquals(6, batchSizes.size());
+	}
+
+	@Test
+	public void load_withoutAttributes() throws Exception {
+		final GISShapeFileLoader loader = new GISShapeFileLoader(shpUrl, shxUrl, null);
+		final List<Integer> batchSizes = new ArrayList<>();
+		final List<MapElement> elements = load(loader, batchSizes);
+		assertEquals(GISShapeFileReaderTest.ALL_XS.length, elements.size());
+		for (final MapElement element : elements) {
+			assertEquals(0, element.getAttributeCount());
+		}
+	}
+
+	@Test
+	public void load_mapElementLayer() throws Exception {
+		final GISShapeFileLoader loader = new GISShapeFileLoader(shpUrl, shxUrl, dbfUrl);
+		loader.setBatchSize(5);
+		final ArrayMapElementLayer<MapPolygon> layer = new ArrayMapElementLayer<>();
+		loader.load(MapPolygon.class, layer);
+		assertEquals(GISShapeFileReaderTest.ALL_XS.length, layer.getMapElementCount());
+	}
+
+	@Test
+	public void load_otherType() throws Exception {
+		final GISShapeFileLoader loader = new GISShapeFileLoader(shpUrl, shxUrl, dbfUrl);
+		final ArrayMapElementLayer<MapElement> layer = new ArrayMapElementLayer<>();
+		loader.load(MapPoint.class, layer);
+		assertEquals(0, layer.getMapElementCount());
+	}
+
+}
@@ -22,6 +22,7 @@ package org.arakhne.afc.gis.io.shape;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -34,6 +35,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import org.arakhne.afc.attrs.attr.Attribute;
+import org.arakhne.afc.attrs.collection.ColumnarAttributeCollection;
+import org.arakhne.afc.attrs.collection.ColumnarAttributeStore;
 import org.arakhne.afc.gis.coordinate.MapMetricProjection;
 import org.arakhne.afc.gis.mapelement.MapElement;
 import org.arakhne.afc.gis.mapelement.MapPolygon;
@@ -301,6 +305,29 @@ public class GISShapeFileReaderTest {
 			this.reader = null;
 		}
 
+		@Test
+		public void setAttributeStore() throws Exception {
+			final ColumnarAttributeStore store = new ColumnarAttributeStore();
+			this.reader.setAttributeStore(store);
+			assertSame(store, this.reader.getAttributeStore());
+			try (DBaseFileReader dbaseReader2 = new DBaseFileReader(dbfUrl);
+					GISShapeFileReader reader2 = new GISShapeFileReader(shpUrl, dbaseReader2)) {
+				int j = 0;
+				for (final MapElement element : this.reader) {
+					final MapElement expected = reader2.read();
+					assertTrue(element.getAttributeCollection() instanceof ColumnarAttributeCollection);
+					assertSame(store, ((ColumnarAttributeCollection) element.getAttributeCollection()).getStore());
+					assertEquals(expected.getAttributeCount(), element.getAttributeCount());
+					for (final Attribute attr : expected.attributes()) {
+						assertEquals(attr, element.getAttributeObject(attr.getName()), "Element #" + j); //$NON-NLS-1$
+					}
+					++j;
+				}
+				assertEquals(ALL_XS.length, j);
+				assertEquals(ALL_XS.length, store.getRowCount());
+			}
+		}
+
 		@Test
 		public void getMapElementType() {
 			assertEquals(MapPolygon.class, this.reader.getMapElementType());
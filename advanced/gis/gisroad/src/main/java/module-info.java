@@ -38,5 +38,7 @@ open module org.arakhne.afc.gis.gisroad {
 	exports org.arakhne.afc.gis.road.layer;
 	exports org.arakhne.afc.gis.road.path;
 	exports org.arakhne.afc.gis.road.path.astar;
+	exports org.arakhne.afc.gis.road.path.ch;
 	exports org.arakhne.afc.gis.road.primitive;
+	exports org.arakhne.afc.gis.road.snapshot;
 }
\ No newline at end of file
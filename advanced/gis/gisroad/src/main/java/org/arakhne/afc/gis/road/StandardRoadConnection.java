@@ -31,6 +31,8 @@ import java.util.UUID;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
+import org.arakhne.afc.gis.coordinate.GISCoordinates;
+import org.arakhne.afc.gis.coordinate.MapMetricProjection;
 import org.arakhne.afc.gis.location.GeoLocationPoint;
 import org.arakhne.afc.gis.location.GeoLocationUtil;
 import org.arakhne.afc.gis.road.primitive.RoadConnection;
@@ -225,6 +227,28 @@ class StandardRoadConnection implements RoadConnection {
 		this.location = position == null ? null : new SoftReference<>(Point2d.convert(position));
 	}
 
+	/** Convert the buffered position of the road connection from a map projection
+	 * to another map projection.
+	 *
+	 * <p>If the position is not buffered, it is computed from the connected segments
+	 * at the next call to {@link #getPoint()}.
+	 *
+	 * @param source the projection of the current coordinates.
+	 * @param target the projection in which the coordinates are converted.
+	 * @since 18.0
+	 */
+	void convertProjection(MapMetricProjection source, MapMetricProjection target) {
+		final Point2d pts = this.location == null ? null : this.location.get();
+		if (pts == null) {
+			this.location = null;
+		} else {
+			final double[] coordinates = {pts.getX(), pts.getY()};
+			GISCoordinates.convert(source, target, coordinates);
+			this.location = new SoftReference<>(new Point2d(coordinates[0], coordinates[1]));
+		}
+		this.geolocation = null;
+	}
+
 	/** Compute the angle of the given road segment according
 	 * to the vector (1,0).
 	 *
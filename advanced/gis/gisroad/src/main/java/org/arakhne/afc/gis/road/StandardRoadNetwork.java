@@ -24,8 +24,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.TreeSet;
 import java.util.UUID;
 
@@ -35,6 +37,7 @@ import org.eclipse.xtext.xbase.lib.Pure;
 
 import org.arakhne.afc.attrs.collection.AttributeCollection;
 import org.arakhne.afc.gis.GISPolylineSet;
+import org.arakhne.afc.gis.coordinate.MapMetricProjection;
 import org.arakhne.afc.gis.location.GeoId;
 import org.arakhne.afc.gis.location.GeoLocation;
 import org.arakhne.afc.gis.location.GeoLocationArea;
@@ -54,6 +57,7 @@ import org.arakhne.afc.gis.road.primitive.UnexpectedRoadNetworkException;
 import org.arakhne.afc.gis.road.primitive.UnsupportedRoadConnectionException;
 import org.arakhne.afc.gis.road.primitive.UnsupportedRoadSegmentException;
 import org.arakhne.afc.gis.tree.GISTreeSet;
+import org.arakhne.afc.gis.tree.MapElementTreeSet;
 import org.arakhne.afc.gis.tree.MapPolylineTreeSet;
 import org.arakhne.afc.math.geometry.d1.d.Point1d;
 import org.arakhne.afc.math.geometry.d2.Point2D;
@@ -416,6 +420,23 @@ public class StandardRoadNetwork extends AbstractBoundedGISElement<GISContainer<
 		return this.roadSegments.getNearestData(pos);
 	}
 
+	@Override
+	@Pure
+	public List<Pair<RoadSegment, Double>> getNearestSegments(Point2D<?, ?> pos, int k, double maxDistance) {
+		if (this.roadSegments instanceof MapElementTreeSet<?>) {
+			// The elements of the set are road polylines, as declared by the type of the field.
+			@SuppressWarnings("unchecked")
+			final MapElementTreeSet<RoadPolyline> tree = (MapElementTreeSet<RoadPolyline>) this.roadSegments;
+			final List<Pair<RoadPolyline, Double>> data = tree.getNearestData(pos, k, maxDistance);
+			final List<Pair<RoadSegment, Double>> segments = new ArrayList<>(data.size());
+			for (final Pair<RoadPolyline, Double> pair : data) {
+				segments.add(new Pair<>(pair.getKey(), pair.getValue()));
+			}
+			return segments;
+		}
+		return RoadNetwork.super.getNearestSegments(pos, k, maxDistance);
+	}
+
 	@Override
 	@Pure
 	public Point1d getNearestPosition(Point2D<?, ?> pos) {
@@ -601,6 +622,53 @@ public class StandardRoadNetwork extends AbstractBoundedGISElement<GISContainer<
 		return changed;
 	}
 
+	/** Convert, in place, the coordinates of the road segments from a map projection
+	 * to another map projection.
+	 *
+	 * <p>The road segments are converted in parallel. They stay inside the network and
+	 * connected to the same road connections. The spatial index of the segments is rebuilt,
+	 * and the listeners are notified of the change of each segment.
+	 *
+	 * @param source the projection of the current coordinates.
+	 * @param target the projection in which the coordinates are converted.
+	 * @since 18.0
+	 */
+	public void convertProjection(MapMetricProjection source, MapMetricProjection target) {
+		if (source != target && !this.roadSegments.isEmpty()) {
+			final List<RoadPolyline> segments = new ArrayList<>(this.roadSegments);
+			segments.parallelStream().forEach(segment -> {
+				final boolean isEventFirable = segment.isEventFirable();
+				segment.setEventFirable(false);
+				try {
+					segment.convertProjection(source, target);
+				} finally {
+					segment.setEventFirable(isEventFirable);
+				}
+			});
+
+			final Set<StandardRoadConnection> connections = Collections.newSetFromMap(new IdentityHashMap<>());
+			for (final RoadPolyline segment : segments) {
+				connections.add(segment.getBeginPoint(StandardRoadConnection.class));
+				connections.add(segment.getEndPoint(StandardRoadConnection.class));
+			}
+			for (final StandardRoadConnection connection : connections) {
+				if (connection != null) {
+					connection.convertProjection(source, target);
+				}
+			}
+
+			resetBoundingBox();
+			final GISPolylineSet<RoadPolyline> index = createInternalDataStructure(getBoundingBox());
+			index.setConcurrentAccessEnabled(this.roadSegments.isConcurrentAccessEnabled());
+			index.addAll(segments);
+			this.roadSegments = index;
+
+			for (final RoadPolyline segment : segments) {
+				fireSegmentChanged(segment);
+			}
+		}
+	}
+
 	@Override
 	public final RoadConnection mergeRoadConnections(RoadConnection... connections) {
 		return mergeRoadConnections(Arrays.asList(connections));
@@ -22,6 +22,7 @@ package org.arakhne.afc.gis.road.layer;
 
 import java.net.URL;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.UUID;
@@ -128,8 +129,10 @@ public class RoadNetworkLayer extends MapElementLayer<RoadPolyline> {
 				if (theNetwork == RoadNetworkLayer.this.roadNetwork) {
 					if (newSegment instanceof MapPolyline) {
 						((MapPolyline) newSegment).setContainer(RoadNetworkLayer.this);
+						RoadNetworkLayer.this.fireLayerContentChangedEvent(Collections.singleton((MapPolyline) newSegment));
+					} else {
+						RoadNetworkLayer.this.fireLayerContentChangedEvent();
 					}
-					RoadNetworkLayer.this.fireLayerContentChangedEvent();
 				}
 			}
 
@@ -139,8 +142,11 @@ public class RoadNetworkLayer extends MapElementLayer<RoadPolyline> {
 				if (theNetwork == RoadNetworkLayer.this.roadNetwork) {
 					if (changedSegment instanceof MapPolyline) {
 						((MapPolyline) changedSegment).setContainer(RoadNetworkLayer.this);
+						// The previous shape of the segment is notified by the segment itself to its container.
+						RoadNetworkLayer.this.fireLayerContentChangedEvent(Collections.singleton((MapPolyline) changedSegment));
+					} else {
+						RoadNetworkLayer.this.fireLayerContentChangedEvent();
 					}
-					RoadNetworkLayer.this.fireLayerContentChangedEvent();
 				}
 			}
 
@@ -150,8 +156,10 @@ public class RoadNetworkLayer extends MapElementLayer<RoadPolyline> {
 				if (theNetwork == RoadNetworkLayer.this.roadNetwork) {
 					if (newSegment instanceof MapPolyline) {
 						((MapPolyline) newSegment).setContainer(null);
+						RoadNetworkLayer.this.fireLayerContentChangedEvent(Collections.singleton((MapPolyline) newSegment));
+					} else {
+						RoadNetworkLayer.this.fireLayerContentChangedEvent();
 					}
-					RoadNetworkLayer.this.fireLayerContentChangedEvent();
 				}
 			}
 		};
@@ -268,6 +276,24 @@ public class RoadNetworkLayer extends MapElementLayer<RoadPolyline> {
 		return this.roadNetwork.getBoundingBox();
 	}
 
+	/** {@inheritDoc}
+	 *
+	 * <p>The road network is converted with
+	 * {@link StandardRoadNetwork#convertProjection(MapMetricProjection, MapMetricProjection)}:
+	 * the road segments are not removed from the network and they stay connected.
+	 * The changes of the segments are notified in a single batch update of this layer.
+	 */
+	@Override
+	public void convertProjection(MapMetricProjection source, MapMetricProjection target) {
+		if (source != target) {
+			batchUpdate(() -> {
+				this.roadNetwork.convertProjection(source, target);
+				resetBoundingBox();
+				fireLayerContentChangedEvent();
+			});
+		}
+	}
+
 	//--------------------------------------
 	// MapLayer functions
 	//--------------------------------------
@@ -323,7 +349,7 @@ public class RoadNetworkLayer extends MapElementLayer<RoadPolyline> {
 		}
 		if (changed) {
 			resetBoundingBox();
-			fireLayerContentChangedEvent();
+			fireLayerContentChangedEvent(segments);
 		}
 		return changed;
 	}
@@ -334,7 +360,7 @@ public class RoadNetworkLayer extends MapElementLayer<RoadPolyline> {
 			this.roadNetwork.addRoadSegment(segment);
 			segment.setContainer(this);
 			resetBoundingBox();
-			fireLayerContentChangedEvent();
+			fireLayerContentChangedEvent(Collections.singleton(segment));
 			return true;
 		} catch (RoadNetworkException e) {
 			//
@@ -348,7 +374,7 @@ public class RoadNetworkLayer extends MapElementLayer<RoadPolyline> {
 			if (this.roadNetwork.removeRoadSegment((RoadPolyline) segment)) {
 				segment.setContainer(null);
 				resetBoundingBox();
-				fireLayerContentChangedEvent();
+				fireLayerContentChangedEvent(Collections.singleton(segment));
 				return true;
 			}
 		}
@@ -358,6 +384,7 @@ public class RoadNetworkLayer extends MapElementLayer<RoadPolyline> {
 	@Override
 	public boolean removeAllMapElements() {
 		if (!this.roadNetwork.isEmpty()) {
+			final Rectangle2d removedBounds = isInBatchUpdate() ? getBoundingBox() : null;
 			final Iterator<RoadSegment> iterator = this.roadNetwork.iterator();
 			RoadSegment segment;
 			RoadPolyline road;
@@ -373,7 +400,7 @@ public class RoadNetworkLayer extends MapElementLayer<RoadPolyline> {
 			}
 			if (hasChanged) {
 				resetBoundingBox();
-				fireLayerContentChangedEvent();
+				fireLayerContentChangedEvent(removedBounds);
 				return true;
 			}
 		}
@@ -437,7 +464,7 @@ public class RoadNetworkLayer extends MapElementLayer<RoadPolyline> {
 			}
 			removed.setContainer(null);
 			resetBoundingBox();
-			fireLayerContentChangedEvent();
+			fireLayerContentChangedEvent(Collections.singleton(removed));
 		}
 
 	} /* class IteratorWrapper */
@@ -0,0 +1,170 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.gis.road.path.ch;
+
+import java.util.Arrays;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+/** Binary min-heap of node indexes that are sorted by their keys.
+ *
+ * <p>The position of each node in the heap is stored into an array that is indexed by the nodes,
+ * in order to support the decrease of the key of a node in logarithmic time. The heap does not
+ * allocate memory when it is reused after a call to {@link #clear()}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ */
+final class NodeHeap {
+
+	private final int[] nodes;
+
+	private final double[] keys;
+
+	private final int[] positions;
+
+	private int size;
+
+	/** Constructor.
+	 *
+	 * @param nodeCount the number of nodes in the graph.
+	 */
+	NodeHeap(int nodeCount) {
+		this.nodes = new int[nodeCount];
+		this.keys = new double[nodeCount];
+		this.positions = new int[nodeCount];
+		Arrays.fill(this.positions, -1);
+	}
+
+	/** Replies if the heap is empty.
+	 *
+	 * @return <code>true</code> if the heap is empty.
+	 */
+	@Pure
+	boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/** Replies if the given node is inside the heap.
+	 *
+	 * @param node the node.
+	 * @return <code>true</code> if the node is inside the heap.
+	 */
+	@Pure
+	boolean contains(int node) {
+		return this.positions[node] >= 0;
+	}
+
+	/** Replies the lowest key in the heap.
+	 *
+	 * @return the lowest key, or {@link Double#POSITIVE_INFINITY} if the heap is empty.
+	 */
+	@Pure
+	double peekKey() {
+		return this.size == 0 ? Double.POSITIVE_INFINITY : this.keys[0];
+	}
+
+	/** Remove and reply the node with the lowest key.
+	 *
+	 * @return the node with the lowest key.
+	 */
+	int poll() {
+		final int node = this.nodes[0];
+		this.positions[node] = -1;
+		--this.size;
+		if (this.size > 0) {
+			move(this.nodes[this.size], this.keys[this.size], 0);
+			siftDown(0);
+		}
+		return node;
+	}
+
+	/** Add the given node, or decrease its key if it is already inside the heap.
+	 *
+	 * @param node the node.
+	 * @param key the key of the node.
+	 */
+	void update(int node, double key) {
+		int position = this.positions[node];
+		if (position < 0) {
+			position = this.size;
+			++this.size;
+		} else if (key >= this.keys[position]) {
+			return;
+		}
+		move(node, key, position);
+		siftUp(position);
+	}
+
+	/** Remove all the nodes from the heap.
+	 */
+	void clear() {
+		for (int i = 0; i < this.size; ++i) {
+			this.positions[this.nodes[i]] = -1;
+		}
+		this.size = 0;
+	}
+
+	private void move(int node, double key, int position) {
+		this.nodes[position] = node;
+		this.keys[position] = key;
+		this.positions[node] = position;
+	}
+
+	private void siftUp(int position) {
+		final int node = this.nodes[position];
+		final double key = this.keys[position];
+		int pos = position;
+		while (pos > 0) {
+			final int parent = (pos - 1) >>> 1;
+			if (this.keys[parent] <= key) {
+				break;
+			}
+			move(this.nodes[parent], this.keys[parent], pos);
+			pos = parent;
+		}
+		move(node, key, pos);
+	}
+
+	private void siftDown(int position) {
+		final int node = this.nodes[position];
+		final double key = this.keys[position];
+		int pos = position;
+		final int half = this.size >>> 1;
+		while (pos < half) {
+			int child = (pos << 1) + 1;
+			final int right = child + 1;
+			if (right < this.size && this.keys[right] < this.keys[child]) {
+				child = right;
+			}
+			if (key <= this.keys[child]) {
+				break;
+			}
+			move(this.nodes[child], this.keys[child], pos);
+			pos = child;
+		}
+		move(node, key, pos);
+	}
+
+}
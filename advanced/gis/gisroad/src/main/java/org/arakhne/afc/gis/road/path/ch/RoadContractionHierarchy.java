@@ -0,0 +1,243 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.gis.road.path.ch;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.gis.road.primitive.RoadConnection;
+import org.arakhne.afc.gis.road.primitive.RoadNetwork;
+import org.arakhne.afc.gis.road.primitive.RoadSegment;
+import org.arakhne.afc.math.graph.astar.AStarCostComputer;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** Contraction hierarchy that is built over a road network.
+ *
+ * <p>A contraction hierarchy is a preprocessing of the road network that
+ * orders the road connections by importance, and that adds shortcut edges
+ * in place of the least important connections. The shortest paths are
+ * then computed by a {@link RoadContractionHierarchyQuery} with a bidirectional
+ * search that explores only the edges toward the most important connections.
+ *
+ * <p>The hierarchy does not reference the objects of the road network. The road
+ * connections are identified by their {@link RoadConnection#getUUID() identifiers}, which
+ * are computed from their locations. The road segments are identified by the identifiers of
+ * their begin and end connections, and by their positions among the road segments between
+ * the same connections; the {@link RoadSegment#getUUID() identifiers} of the road segments
+ * are not used because they may be randomly generated when the road network is loaded.
+ * Consequently, a hierarchy may be serialized once, and deserialized for a road network
+ * that is loaded later from the same data source.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ * @see RoadContractionHierarchyQuery
+ */
+public class RoadContractionHierarchy implements Serializable {
+
+	private static final long serialVersionUID = -1524317853907562381L;
+
+	/** Identifiers of the road connections.
+	 */
+	final UUID[] nodeIds;
+
+	/** Keys of the road segments.
+	 */
+	final RoadSegmentKey[] segmentKeys;
+
+	/** Order of contraction of the road connections.
+	 */
+	final int[] ranks;
+
+	/** Index of the source connection of each edge.
+	 */
+	final int[] edgeSources;
+
+	/** Index of the target connection of each edge.
+	 */
+	final int[] edgeTargets;
+
+	/** Cost of each edge.
+	 */
+	final double[] edgeCosts;
+
+	/** Index of the road segment of each original edge, or <code>-1</code> for shortcuts.
+	 */
+	final int[] edgeSegments;
+
+	/** Index of the first edge that is replaced by each shortcut, or <code>-1</code> for original edges.
+	 */
+	final int[] edgeFirstChildren;
+
+	/** Index of the second edge that is replaced by each shortcut, or <code>-1</code> for original edges.
+	 */
+	final int[] edgeSecondChildren;
+
+	/** Offsets of the edges in {@link #upwardEdges} for each connection.
+	 */
+	final int[] upwardOffsets;
+
+	/** Edges that are leaving a connection toward a connection of higher rank.
+	 */
+	final int[] upwardEdges;
+
+	/** Offsets of the edges in {@link #downwardEdges} for each connection.
+	 */
+	final int[] downwardOffsets;
+
+	/** Edges that are entering a connection from a connection of higher rank.
+	 */
+	final int[] downwardEdges;
+
+	/** Constructor.
+	 *
+	 * @param nodeIds the identifiers of the road connections.
+	 * @param segmentKeys the keys of the road segments.
+	 * @param ranks the order of contraction of the road connections.
+	 * @param edgeSources the index of the source connection of each edge.
+	 * @param edgeTargets the index of the target connection of each edge.
+	 * @param edgeCosts the cost of each edge.
+	 * @param edgeSegments the index of the road segment of each original edge.
+	 * @param edgeFirstChildren the index of the first edge that is replaced by each shortcut.
+	 * @param edgeSecondChildren the index of the second edge that is replaced by each shortcut.
+	 */
+	@SuppressWarnings("checkstyle:parameternumber")
+	RoadContractionHierarchy(UUID[] nodeIds, RoadSegmentKey[] segmentKeys, int[] ranks,
+			int[] edgeSources, int[] edgeTargets, double[] edgeCosts, int[] edgeSegments,
+			int[] edgeFirstChildren, int[] edgeSecondChildren) {
+		this.nodeIds = nodeIds;
+		this.segmentKeys = segmentKeys;
+		this.ranks = ranks;
+		this.edgeSources = edgeSources;
+		this.edgeTargets = edgeTargets;
+		this.edgeCosts = edgeCosts;
+		this.edgeSegments = edgeSegments;
+		this.edgeFirstChildren = edgeFirstChildren;
+		this.edgeSecondChildren = edgeSecondChildren;
+		final int nodeCount = nodeIds.length;
+		this.upwardOffsets = new int[nodeCount + 1];
+		this.downwardOffsets = new int[nodeCount + 1];
+		for (int i = 0; i < edgeSources.length; ++i) {
+			if (isUpward(i)) {
+				++this.upwardOffsets[edgeSources[i] + 1];
+			} else {
+				++this.downwardOffsets[edgeTargets[i] + 1];
+			}
+		}
+		for (int i = 0; i < nodeCount; ++i) {
+			this.upwardOffsets[i + 1] += this.upwardOffsets[i];
+			this.downwardOffsets[i + 1] += this.downwardOffsets[i];
+		}
+		this.upwardEdges = new int[this.upwardOffsets[nodeCount]];
+		this.downwardEdges = new int[this.downwardOffsets[nodeCount]];
+		final int[] upwardFill = new int[nodeCount];
+		final int[] downwardFill = new int[nodeCount];
+		for (int i = 0; i < edgeSources.length; ++i) {
+			if (isUpward(i)) {
+				final int node = edgeSources[i];
+				this.upwardEdges[this.upwardOffsets[node] + upwardFill[node]] = i;
+				++upwardFill[node];
+			} else {
+				final int node = edgeTargets[i];
+				this.downwardEdges[this.downwardOffsets[node] + downwardFill[node]] = i;
+				++downwardFill[node];
+			}
+		}
+	}
+
+	private boolean isUpward(int edge) {
+		return this.ranks[this.edgeSources[edge]] < this.ranks[this.edgeTargets[edge]];
+	}
+
+	/** Build the contraction hierarchy over the given road network.
+	 * The cost of an edge is the length of its road segment.
+	 *
+	 * @param network the road network.
+	 * @return the contraction hierarchy.
+	 */
+	public static RoadContractionHierarchy build(RoadNetwork network) {
+		return build(network, null);
+	}
+
+	/** Build the contraction hierarchy over the given road network.
+	 *
+	 * <p>The cost of an edge is computed as by the A* algorithm: it is the sum of the
+	 * cost of its road segment and of the cost of the connection from which the
+	 * segment is entered.
+	 *
+	 * @param network the road network.
+	 * @param costComputer the computer of the costs, or <code>null</code> to use the lengths
+	 *     of the road segments.
+	 * @return the contraction hierarchy.
+	 */
+	public static RoadContractionHierarchy build(RoadNetwork network,
+			AStarCostComputer<? super RoadSegment, ? super RoadConnection> costComputer) {
+		assert network != null : AssertMessages.notNullParameter(0);
+		return new RoadContractionHierarchyBuilder(network, costComputer).build();
+	}
+
+	/** Replies the number of road connections in the hierarchy.
+	 *
+	 * @return the number of road connections.
+	 */
+	@Pure
+	public int getNodeCount() {
+		return this.nodeIds.length;
+	}
+
+	/** Replies the number of road segments in the hierarchy.
+	 *
+	 * @return the number of road segments.
+	 */
+	@Pure
+	public int getSegmentCount() {
+		return this.segmentKeys.length;
+	}
+
+	/** Replies the number of edges in the hierarchy, including the shortcuts.
+	 *
+	 * @return the number of edges.
+	 */
+	@Pure
+	public int getEdgeCount() {
+		return this.edgeSources.length;
+	}
+
+	/** Replies the number of shortcuts in the hierarchy.
+	 *
+	 * @return the number of shortcuts.
+	 */
+	@Pure
+	public int getShortcutCount() {
+		int count = 0;
+		for (final int segment : this.edgeSegments) {
+			if (segment < 0) {
+				++count;
+			}
+		}
+		return count;
+	}
+
+}
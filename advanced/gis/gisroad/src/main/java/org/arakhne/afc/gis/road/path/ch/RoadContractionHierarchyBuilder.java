@@ -0,0 +1,420 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.gis.road.path.ch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+import org.arakhne.afc.gis.road.primitive.RoadConnection;
+import org.arakhne.afc.gis.road.primitive.RoadNetwork;
+import org.arakhne.afc.gis.road.primitive.RoadSegment;
+import org.arakhne.afc.math.graph.astar.AStarCostComputer;
+
+/** Builder of a {@link RoadContractionHierarchy}.
+ *
+ * <p>The road connections are contracted one after the other, by increasing
+ * priority. The priority of a connection is the number of shortcuts that its
+ * contraction would add, minus the number of edges that its contraction would
+ * remove, plus the number of its neighbors that are already contracted. The
+ * priorities are lazily updated: the priority of the connection with the lowest
+ * priority is recomputed before its contraction, and the connection is put back
+ * in the queue if it is no more the lowest.
+ *
+ * <p>A shortcut is not added when a witness search, i.e. a bounded Dijkstra search
+ * that ignores the contracted connection, finds a path that is not longer than the shortcut.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ */
+final class RoadContractionHierarchyBuilder {
+
+	/** Maximal number of connections that are settled by a witness search.
+	 */
+	private static final int WITNESS_SETTLE_LIMIT = 256;
+
+	private static final int PRIORITY_OFFSET = 1 << 30;
+
+	private final RoadNetwork network;
+
+	private final AStarCostComputer<? super RoadSegment, ? super RoadConnection> costComputer;
+
+	private final List<RoadConnection> nodes = new ArrayList<>();
+
+	private final Map<RoadConnection, Integer> nodeIndexes = new HashMap<>();
+
+	private final List<RoadSegment> segments = new ArrayList<>();
+
+	private int edgeCount;
+
+	private int[] edgeSources = new int[16];
+
+	private int[] edgeTargets = new int[16];
+
+	private double[] edgeCosts = new double[16];
+
+	private int[] edgeSegments = new int[16];
+
+	private int[] edgeFirstChildren = new int[16];
+
+	private int[] edgeSecondChildren = new int[16];
+
+	private EdgeList[] outEdges;
+
+	private EdgeList[] inEdges;
+
+	private boolean[] contracted;
+
+	private int[] deletedNeighbors;
+
+	private NodeHeap witnessHeap;
+
+	private double[] witnessDistances;
+
+	private int[] witnessStamps;
+
+	private int witnessStamp;
+
+	/** Constructor.
+	 *
+	 * @param network the road network.
+	 * @param costComputer the computer of the costs, or <code>null</code> to use the lengths
+	 *     of the road segments.
+	 */
+	RoadContractionHierarchyBuilder(RoadNetwork network,
+			AStarCostComputer<? super RoadSegment, ? super RoadConnection> costComputer) {
+		this.network = network;
+		this.costComputer = costComputer;
+	}
+
+	/** Build the contraction hierarchy.
+	 *
+	 * @return the contraction hierarchy.
+	 */
+	RoadContractionHierarchy build() {
+		for (final RoadSegment segment : this.network.getRoadSegments()) {
+			addSegment(segment);
+		}
+		final int nodeCount = this.nodes.size();
+		this.contracted = new boolean[nodeCount];
+		this.deletedNeighbors = new int[nodeCount];
+		this.witnessHeap = new NodeHeap(nodeCount);
+		this.witnessDistances = new double[nodeCount];
+		this.witnessStamps = new int[nodeCount];
+
+		final PriorityQueue<Long> queue = new PriorityQueue<>(Math.max(1, nodeCount));
+		for (int node = 0; node < nodeCount; ++node) {
+			queue.add(Long.valueOf(key(computePriority(node), node)));
+		}
+
+		final int[] ranks = new int[nodeCount];
+		int rank = 0;
+		while (!queue.isEmpty()) {
+			final int node = (int) queue.poll().longValue();
+			final int priority = computePriority(node);
+			if (!queue.isEmpty() && key(priority, node) > queue.peek().longValue()) {
+				queue.add(Long.valueOf(key(priority, node)));
+			} else {
+				contract(node, true);
+				ranks[node] = rank;
+				++rank;
+			}
+		}
+
+		final UUID[] nodeIds = new UUID[nodeCount];
+		for (int i = 0; i < nodeCount; ++i) {
+			nodeIds[i] = this.nodes.get(i).getUUID();
+		}
+		return new RoadContractionHierarchy(nodeIds, RoadSegmentKey.of(this.segments), ranks,
+				Arrays.copyOf(this.edgeSources, this.edgeCount),
+				Arrays.copyOf(this.edgeTargets, this.edgeCount),
+				Arrays.copyOf(this.edgeCosts, this.edgeCount),
+				Arrays.copyOf(this.edgeSegments, this.edgeCount),
+				Arrays.copyOf(this.edgeFirstChildren, this.edgeCount),
+				Arrays.copyOf(this.edgeSecondChildren, this.edgeCount));
+	}
+
+	private static long key(int priority, int node) {
+		return ((long) (priority + PRIORITY_OFFSET) << Integer.SIZE) | node;
+	}
+
+	private int node(RoadConnection connection) {
+		final Integer index = this.nodeIndexes.get(connection);
+		if (index != null) {
+			return index.intValue();
+		}
+		final int newIndex = this.nodes.size();
+		this.nodes.add(connection);
+		this.nodeIndexes.put(connection, Integer.valueOf(newIndex));
+		return newIndex;
+	}
+
+	private static RoadConnection wrapped(RoadConnection connection) {
+		return connection == null ? null : connection.getWrappedRoadConnection();
+	}
+
+	private double cost(RoadConnection entry, RoadSegment segment) {
+		if (this.costComputer != null) {
+			return this.costComputer.computeCostFor(entry) + this.costComputer.computeCostFor(segment);
+		}
+		return segment.getLength();
+	}
+
+	private void addSegment(RoadSegment segment) {
+		final RoadConnection begin = wrapped(segment.getBeginPoint());
+		final RoadConnection end = wrapped(segment.getEndPoint());
+		if (begin == null || end == null || begin.equals(end)) {
+			return;
+		}
+		final int beginIndex = node(begin);
+		final int endIndex = node(end);
+		final int segmentIndex = this.segments.size();
+		this.segments.add(segment);
+		if (segment.isTraversableFrom(begin)) {
+			addEdge(beginIndex, endIndex, cost(begin, segment), segmentIndex, -1, -1);
+		}
+		if (segment.isTraversableFrom(end)) {
+			addEdge(endIndex, beginIndex, cost(end, segment), segmentIndex, -1, -1);
+		}
+	}
+
+	private void addEdge(int source, int target, double cost, int segment, int firstChild, int secondChild) {
+		if (this.edgeCount == this.edgeSources.length) {
+			final int capacity = this.edgeCount * 2;
+			this.edgeSources = Arrays.copyOf(this.edgeSources, capacity);
+			this.edgeTargets = Arrays.copyOf(this.edgeTargets, capacity);
+			this.edgeCosts = Arrays.copyOf(this.edgeCosts, capacity);
+			this.edgeSegments = Arrays.copyOf(this.edgeSegments, capacity);
+			this.edgeFirstChildren = Arrays.copyOf(this.edgeFirstChildren, capacity);
+			this.edgeSecondChildren = Arrays.copyOf(this.edgeSecondChildren, capacity);
+		}
+		final int edge = this.edgeCount;
+		++this.edgeCount;
+		this.edgeSources[edge] = source;
+		this.edgeTargets[edge] = target;
+		this.edgeCosts[edge] = cost;
+		this.edgeSegments[edge] = segment;
+		this.edgeFirstChildren[edge] = firstChild;
+		this.edgeSecondChildren[edge] = secondChild;
+		if (this.outEdges == null || source >= this.outEdges.length || target >= this.outEdges.length) {
+			final int capacity = Math.max(this.nodes.size(), 16);
+			if (this.outEdges == null) {
+				this.outEdges = new EdgeList[capacity];
+				this.inEdges = new EdgeList[capacity];
+			} else {
+				this.outEdges = Arrays.copyOf(this.outEdges, Math.max(capacity, this.outEdges.length * 2));
+				this.inEdges = Arrays.copyOf(this.inEdges, this.outEdges.length);
+			}
+		}
+		edges(this.outEdges, source).add(edge);
+		edges(this.inEdges, target).add(edge);
+	}
+
+	private static EdgeList edges(EdgeList[] lists, int node) {
+		EdgeList list = lists[node];
+		if (list == null) {
+			list = new EdgeList();
+			lists[node] = list;
+		}
+		return list;
+	}
+
+	private static EdgeList edgesOrEmpty(EdgeList[] lists, int node) {
+		final EdgeList list = lists == null || node >= lists.length ? null : lists[node];
+		return list == null ? EdgeList.EMPTY : list;
+	}
+
+	/** Replies if the given edge is the cheapest edge between its two connections.
+	 * When several edges have the same cost, only the first one is replied as the cheapest.
+	 *
+	 * @param edges the edges that have the same source or the same target as the given edge.
+	 * @param edge the edge.
+	 * @return <code>true</code> if the edge is the cheapest.
+	 */
+	private boolean isCheapestEdge(EdgeList edges, int edge) {
+		final int source = this.edgeSources[edge];
+		final int target = this.edgeTargets[edge];
+		final double cost = this.edgeCosts[edge];
+		for (int i = 0; i < edges.size; ++i) {
+			final int other = edges.edges[i];
+			if (other != edge && this.edgeSources[other] == source && this.edgeTargets[other] == target) {
+				final double otherCost = this.edgeCosts[other];
+				if (otherCost < cost || (otherCost == cost && other < edge)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private int computePriority(int node) {
+		final int shortcuts = contract(node, false);
+		int removedEdges = 0;
+		final EdgeList in = edgesOrEmpty(this.inEdges, node);
+		for (int i = 0; i < in.size; ++i) {
+			if (!this.contracted[this.edgeSources[in.edges[i]]]) {
+				++removedEdges;
+			}
+		}
+		final EdgeList out = edgesOrEmpty(this.outEdges, node);
+		for (int i = 0; i < out.size; ++i) {
+			if (!this.contracted[this.edgeTargets[out.edges[i]]]) {
+				++removedEdges;
+			}
+		}
+		return shortcuts - removedEdges + this.deletedNeighbors[node];
+	}
+
+	/** Contract the given connection.
+	 *
+	 * @param node the connection to contract.
+	 * @param apply <code>true</code> for adding the shortcuts and marking the connection
+	 *     as contracted; <code>false</code> for only counting the shortcuts.
+	 * @return the number of shortcuts.
+	 */
+	private int contract(int node, boolean apply) {
+		int shortcuts = 0;
+		final EdgeList in = edgesOrEmpty(this.inEdges, node);
+		final EdgeList out = edgesOrEmpty(this.outEdges, node);
+		// The lists may grow when shortcuts are added; only the current edges are considered
+		final int inSize = in.size;
+		final int outSize = out.size;
+		for (int i = 0; i < inSize; ++i) {
+			final int inEdge = in.edges[i];
+			final int source = this.edgeSources[inEdge];
+			if (this.contracted[source] || !isCheapestEdge(in, inEdge)) {
+				continue;
+			}
+			final double inCost = this.edgeCosts[inEdge];
+			double maxCost = Double.NEGATIVE_INFINITY;
+			for (int j = 0; j < outSize; ++j) {
+				final int outEdge = out.edges[j];
+				final int target = this.edgeTargets[outEdge];
+				if (target != source && !this.contracted[target]) {
+					maxCost = Math.max(maxCost, inCost + this.edgeCosts[outEdge]);
+				}
+			}
+			if (maxCost == Double.NEGATIVE_INFINITY) {
+				continue;
+			}
+			searchWitnesses(source, node, maxCost);
+			for (int j = 0; j < outSize; ++j) {
+				final int outEdge = out.edges[j];
+				final int target = this.edgeTargets[outEdge];
+				if (target != source && !this.contracted[target] && isCheapestEdge(out, outEdge)) {
+					final double cost = inCost + this.edgeCosts[outEdge];
+					if (witnessDistance(target) > cost) {
+						++shortcuts;
+						if (apply) {
+							addEdge(source, target, cost, -1, inEdge, outEdge);
+						}
+					}
+				}
+			}
+		}
+		if (apply) {
+			this.contracted[node] = true;
+			for (int i = 0; i < inSize; ++i) {
+				++this.deletedNeighbors[this.edgeSources[in.edges[i]]];
+			}
+			for (int i = 0; i < outSize; ++i) {
+				++this.deletedNeighbors[this.edgeTargets[out.edges[i]]];
+			}
+		}
+		return shortcuts;
+	}
+
+	private double witnessDistance(int node) {
+		return this.witnessStamps[node] == this.witnessStamp ? this.witnessDistances[node] : Double.POSITIVE_INFINITY;
+	}
+
+	/** Run a bounded Dijkstra search from the given source, that ignores the contracted connections.
+	 *
+	 * @param source the source of the search.
+	 * @param ignoredNode the connection to ignore in addition to the contracted connections.
+	 * @param maxCost the cost above which the search is stopped.
+	 */
+	private void searchWitnesses(int source, int ignoredNode, double maxCost) {
+		++this.witnessStamp;
+		final NodeHeap heap = this.witnessHeap;
+		heap.clear();
+		this.witnessStamps[source] = this.witnessStamp;
+		this.witnessDistances[source] = 0.;
+		heap.update(source, 0.);
+		int settled = 0;
+		while (!heap.isEmpty() && heap.peekKey() <= maxCost && settled < WITNESS_SETTLE_LIMIT) {
+			final int node = heap.poll();
+			++settled;
+			final double distance = this.witnessDistances[node];
+			final EdgeList out = edgesOrEmpty(this.outEdges, node);
+			for (int i = 0; i < out.size; ++i) {
+				final int edge = out.edges[i];
+				final int target = this.edgeTargets[edge];
+				if (target != ignoredNode && !this.contracted[target]) {
+					final double newDistance = distance + this.edgeCosts[edge];
+					if (newDistance < witnessDistance(target)) {
+						this.witnessStamps[target] = this.witnessStamp;
+						this.witnessDistances[target] = newDistance;
+						heap.update(target, newDistance);
+					}
+				}
+			}
+		}
+	}
+
+	/** Growable list of edge indexes.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 18.0
+	 */
+	private static final class EdgeList {
+
+		static final EdgeList EMPTY = new EdgeList();
+
+		int[] edges = new int[4];
+
+		int size;
+
+		/** Add an edge.
+		 *
+		 * @param edge the edge.
+		 */
+		void add(int edge) {
+			if (this.size == this.edges.length) {
+				this.edges = Arrays.copyOf(this.edges, this.size * 2);
+			}
+			this.edges[this.size] = edge;
+			++this.size;
+		}
+
+	}
+
+}
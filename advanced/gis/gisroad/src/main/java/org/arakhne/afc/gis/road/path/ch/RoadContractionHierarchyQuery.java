@@ -0,0 +1,333 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.gis.road.path.ch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.gis.road.path.RoadPath;
+import org.arakhne.afc.gis.road.primitive.RoadConnection;
+import org.arakhne.afc.gis.road.primitive.RoadNetwork;
+import org.arakhne.afc.gis.road.primitive.RoadNetworkException;
+import org.arakhne.afc.gis.road.primitive.RoadSegment;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** Computation of the shortest paths on a road network with its {@link RoadContractionHierarchy}.
+ *
+ * <p>The shortest path is computed by a bidirectional Dijkstra search: the forward
+ * search from the start connection and the backward search from the end connection
+ * explore only the edges toward the connections of higher ranks in the hierarchy.
+ * The shortcuts of the found path are then unpacked into the road segments of the
+ * road network.
+ *
+ * <p>The buffers of the searches are allocated once, when the query is created. Consequently,
+ * an instance of this class is not thread-safe; one instance should be created per thread.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ * @see RoadContractionHierarchy
+ */
+public class RoadContractionHierarchyQuery {
+
+	private final RoadContractionHierarchy hierarchy;
+
+	private final RoadConnection[] nodes;
+
+	private final Map<RoadConnection, Integer> nodeIndexes;
+
+	private final RoadSegment[] segments;
+
+	private final Search forward;
+
+	private final Search backward;
+
+	private int stamp;
+
+	private int meetingNode;
+
+	/** Constructor.
+	 *
+	 * @param hierarchy the contraction hierarchy.
+	 * @param network the road network over which the hierarchy was built.
+	 * @throws RoadNetworkException if a road connection or a road segment of the hierarchy
+	 *     cannot be found in the road network.
+	 */
+	public RoadContractionHierarchyQuery(RoadContractionHierarchy hierarchy, RoadNetwork network) {
+		assert hierarchy != null : AssertMessages.notNullParameter(0);
+		assert network != null : AssertMessages.notNullParameter(1);
+		this.hierarchy = hierarchy;
+
+		final List<RoadSegment> networkSegments = new ArrayList<>(network.getRoadSegments());
+		final Map<UUID, RoadConnection> connections = new HashMap<>();
+		for (final RoadSegment segment : networkSegments) {
+			for (final RoadConnection connection : new RoadConnection[] {segment.getBeginPoint(), segment.getEndPoint()}) {
+				if (connection != null) {
+					connections.put(connection.getUUID(), connection.getWrappedRoadConnection());
+				}
+			}
+		}
+		final RoadSegmentKey[] networkKeys = RoadSegmentKey.of(networkSegments);
+		final Map<RoadSegmentKey, RoadSegment> roadSegments = new HashMap<>(networkKeys.length);
+		for (int i = 0; i < networkKeys.length; ++i) {
+			if (networkKeys[i] != null) {
+				roadSegments.put(networkKeys[i], networkSegments.get(i));
+			}
+		}
+
+		final int nodeCount = hierarchy.getNodeCount();
+		this.nodes = new RoadConnection[nodeCount];
+		this.nodeIndexes = new HashMap<>(nodeCount);
+		for (int i = 0; i < nodeCount; ++i) {
+			final RoadConnection connection = connections.get(hierarchy.nodeIds[i]);
+			if (connection == null) {
+				throw new RoadNetworkException("road connection not found: " + hierarchy.nodeIds[i]); //$NON-NLS-1$
+			}
+			this.nodes[i] = connection;
+			this.nodeIndexes.put(connection, Integer.valueOf(i));
+		}
+
+		this.segments = new RoadSegment[hierarchy.getSegmentCount()];
+		for (int i = 0; i < this.segments.length; ++i) {
+			final RoadSegment segment = roadSegments.get(hierarchy.segmentKeys[i]);
+			if (segment == null) {
+				throw new RoadNetworkException("road segment not found: " + hierarchy.segmentKeys[i]); //$NON-NLS-1$
+			}
+			this.segments[i] = segment;
+		}
+
+		this.forward = new Search(nodeCount, hierarchy.upwardOffsets, hierarchy.upwardEdges, hierarchy.edgeTargets);
+		this.backward = new Search(nodeCount, hierarchy.downwardOffsets, hierarchy.downwardEdges, hierarchy.edgeSources);
+	}
+
+	/** Replies the contraction hierarchy used by this query.
+	 *
+	 * @return the contraction hierarchy.
+	 */
+	@Pure
+	public RoadContractionHierarchy getContractionHierarchy() {
+		return this.hierarchy;
+	}
+
+	/** Compute the cost of the shortest path between the given road connections.
+	 *
+	 * @param startPoint is the starting point.
+	 * @param endPoint is the point to reach.
+	 * @return the cost of the shortest path, or {@link Double#POSITIVE_INFINITY} if
+	 *     there is no path.
+	 */
+	public double computeCost(RoadConnection startPoint, RoadConnection endPoint) {
+		assert startPoint != null : AssertMessages.notNullParameter(0);
+		assert endPoint != null : AssertMessages.notNullParameter(1);
+		final Integer start = this.nodeIndexes.get(startPoint.getWrappedRoadConnection());
+		final Integer end = this.nodeIndexes.get(endPoint.getWrappedRoadConnection());
+		if (start == null || end == null) {
+			return Double.POSITIVE_INFINITY;
+		}
+		return search(start.intValue(), end.intValue());
+	}
+
+	/** Compute the shortest path between the given road connections.
+	 *
+	 * @param startPoint is the starting point.
+	 * @param endPoint is the point to reach.
+	 * @return the found path, or <code>null</code> if none found.
+	 */
+	public RoadPath solve(RoadConnection startPoint, RoadConnection endPoint) {
+		assert startPoint != null : AssertMessages.notNullParameter(0);
+		assert endPoint != null : AssertMessages.notNullParameter(1);
+		final Integer start = this.nodeIndexes.get(startPoint.getWrappedRoadConnection());
+		final Integer end = this.nodeIndexes.get(endPoint.getWrappedRoadConnection());
+		if (start == null || end == null || start.equals(end)) {
+			return null;
+		}
+		if (search(start.intValue(), end.intValue()) == Double.POSITIVE_INFINITY) {
+			return null;
+		}
+
+		// The forward edges are collected from the meeting node to the start node
+		final List<Integer> edges = new ArrayList<>();
+		int node = this.meetingNode;
+		while (node != start.intValue()) {
+			final int edge = this.forward.parents[node];
+			edges.add(Integer.valueOf(edge));
+			node = this.hierarchy.edgeSources[edge];
+		}
+		Collections.reverse(edges);
+		node = this.meetingNode;
+		while (node != end.intValue()) {
+			final int edge = this.backward.parents[node];
+			edges.add(Integer.valueOf(edge));
+			node = this.hierarchy.edgeTargets[edge];
+		}
+
+		RoadPath path = null;
+		for (final Integer edge : edges) {
+			path = unpack(edge.intValue(), path, this.nodes[start.intValue()]);
+		}
+		return path;
+	}
+
+	private RoadPath unpack(int edge, RoadPath path, RoadConnection startPoint) {
+		final int segment = this.hierarchy.edgeSegments[edge];
+		if (segment < 0) {
+			final RoadPath path1 = unpack(this.hierarchy.edgeFirstChildren[edge], path, startPoint);
+			return unpack(this.hierarchy.edgeSecondChildren[edge], path1, startPoint);
+		}
+		if (path == null) {
+			final RoadPath newPath = new RoadPath();
+			newPath.add(this.segments[segment], startPoint);
+			newPath.setFirstSegmentReversable(false);
+			return newPath;
+		}
+		path.add(this.segments[segment]);
+		return path;
+	}
+
+	/** Run the bidirectional search between the given connections.
+	 *
+	 * @param start the index of the start connection.
+	 * @param end the index of the end connection.
+	 * @return the cost of the shortest path, or {@link Double#POSITIVE_INFINITY} if there is no path.
+	 */
+	private double search(int start, int end) {
+		++this.stamp;
+		final Search fwd = this.forward;
+		final Search bwd = this.backward;
+		fwd.start(start, this.stamp);
+		bwd.start(end, this.stamp);
+		double best = start == end ? 0. : Double.POSITIVE_INFINITY;
+		this.meetingNode = start;
+		while (!fwd.heap.isEmpty() || !bwd.heap.isEmpty()) {
+			final double forwardKey = fwd.heap.peekKey();
+			final double backwardKey = bwd.heap.peekKey();
+			if (Math.min(forwardKey, backwardKey) >= best) {
+				break;
+			}
+			final Search current;
+			final Search other;
+			if (forwardKey <= backwardKey) {
+				current = fwd;
+				other = bwd;
+			} else {
+				current = bwd;
+				other = fwd;
+			}
+			final int node = current.heap.poll();
+			final double distance = current.distances[node];
+			if (other.stamps[node] == this.stamp) {
+				final double cost = distance + other.distances[node];
+				if (cost < best) {
+					best = cost;
+					this.meetingNode = node;
+				}
+			}
+			current.relax(node, distance, this.hierarchy.edgeCosts, this.stamp);
+		}
+		return best;
+	}
+
+	/** Buffers of the search in one direction.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 18.0
+	 */
+	private static final class Search {
+
+		final NodeHeap heap;
+
+		final double[] distances;
+
+		final int[] parents;
+
+		final int[] stamps;
+
+		private final int[] offsets;
+
+		private final int[] edges;
+
+		private final int[] neighbors;
+
+		/** Constructor.
+		 *
+		 * @param nodeCount the number of connections.
+		 * @param offsets the offsets of the edges of each connection.
+		 * @param edges the edges that are explored.
+		 * @param neighbors the connection that is reached by each edge.
+		 */
+		Search(int nodeCount, int[] offsets, int[] edges, int[] neighbors) {
+			this.heap = new NodeHeap(nodeCount);
+			this.distances = new double[nodeCount];
+			this.parents = new int[nodeCount];
+			this.stamps = new int[nodeCount];
+			this.offsets = offsets;
+			this.edges = edges;
+			this.neighbors = neighbors;
+		}
+
+		/** Initialize the search.
+		 *
+		 * @param node the first connection.
+		 * @param stamp the stamp of the search.
+		 */
+		void start(int node, int stamp) {
+			this.heap.clear();
+			this.stamps[node] = stamp;
+			this.distances[node] = 0.;
+			this.parents[node] = -1;
+			this.heap.update(node, 0.);
+		}
+
+		/** Relax the edges of the given connection.
+		 *
+		 * @param node the connection.
+		 * @param distance the distance of the connection.
+		 * @param costs the costs of the edges.
+		 * @param stamp the stamp of the search.
+		 */
+		void relax(int node, double distance, double[] costs, int stamp) {
+			for (int i = this.offsets[node]; i < this.offsets[node + 1]; ++i) {
+				final int edge = this.edges[i];
+				final int neighbor = this.neighbors[edge];
+				final double newDistance = distance + costs[edge];
+				if (this.stamps[neighbor] != stamp || newDistance < this.distances[neighbor]) {
+					this.stamps[neighbor] = stamp;
+					this.distances[neighbor] = newDistance;
+					this.parents[neighbor] = edge;
+					this.heap.update(neighbor, newDistance);
+				}
+			}
+		}
+
+	}
+
+}
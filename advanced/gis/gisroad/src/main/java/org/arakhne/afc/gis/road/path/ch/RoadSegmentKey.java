@@ -0,0 +1,154 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.gis.road.path.ch;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.gis.road.primitive.RoadConnection;
+import org.arakhne.afc.gis.road.primitive.RoadSegment;
+import org.arakhne.afc.math.geometry.d2.d.Point2d;
+
+/** Stable key of a road segment in a {@link RoadContractionHierarchy}.
+ *
+ * <p>The identifier of a road segment may be randomly generated when the road network
+ * is loaded, e.g. from a shape file without identifier attribute. The key is built from
+ * the identifiers of the begin and end connections, which are computed from their
+ * locations, and from the position of the segment among the road segments with the same
+ * begin and end connections. These parallel segments are ordered by their points, and
+ * then by their traffic directions.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ */
+final class RoadSegmentKey implements Serializable {
+
+	private static final long serialVersionUID = -3851206745236924612L;
+
+	private static final Comparator<RoadSegment> PARALLEL_ORDER = (first, second) -> {
+		final int count1 = first.getPointCount();
+		final int count2 = second.getPointCount();
+		if (count1 != count2) {
+			return Integer.compare(count1, count2);
+		}
+		for (int i = 0; i < count1; ++i) {
+			final Point2d point1 = first.getPointAt(i);
+			final Point2d point2 = second.getPointAt(i);
+			int cmp = Double.compare(point1.getX(), point2.getX());
+			if (cmp != 0) {
+				return cmp;
+			}
+			cmp = Double.compare(point1.getY(), point2.getY());
+			if (cmp != 0) {
+				return cmp;
+			}
+		}
+		return first.getTrafficDirection().compareTo(second.getTrafficDirection());
+	};
+
+	private final UUID begin;
+
+	private final UUID end;
+
+	private final int index;
+
+	/** Constructor.
+	 *
+	 * @param begin the identifier of the begin connection.
+	 * @param end the identifier of the end connection.
+	 * @param index the position of the segment among the parallel segments.
+	 */
+	private RoadSegmentKey(UUID begin, UUID end, int index) {
+		this.begin = begin;
+		this.end = end;
+		this.index = index;
+	}
+
+	/** Compute the keys of the given road segments.
+	 *
+	 * <p>The road segments without begin or end connection have no key.
+	 *
+	 * @param segments the road segments.
+	 * @return the keys, in the same order as the segments; the elements may be <code>null</code>.
+	 */
+	static RoadSegmentKey[] of(List<? extends RoadSegment> segments) {
+		final Map<RoadSegmentKey, List<Integer>> parallelSegments = new HashMap<>();
+		for (int i = 0; i < segments.size(); ++i) {
+			final RoadSegment segment = segments.get(i);
+			final RoadConnection beginPoint = segment.getBeginPoint();
+			final RoadConnection endPoint = segment.getEndPoint();
+			if (beginPoint != null && endPoint != null) {
+				final RoadSegmentKey group = new RoadSegmentKey(beginPoint.getUUID(), endPoint.getUUID(), 0);
+				parallelSegments.computeIfAbsent(group, it -> new ArrayList<>()).add(Integer.valueOf(i));
+			}
+		}
+		final RoadSegmentKey[] keys = new RoadSegmentKey[segments.size()];
+		for (final Map.Entry<RoadSegmentKey, List<Integer>> entry : parallelSegments.entrySet()) {
+			final RoadSegmentKey group = entry.getKey();
+			final List<Integer> indexes = entry.getValue();
+			if (indexes.size() > 1) {
+				indexes.sort((first, second) -> PARALLEL_ORDER.compare(
+						segments.get(first.intValue()), segments.get(second.intValue())));
+			}
+			for (int i = 0; i < indexes.size(); ++i) {
+				keys[indexes.get(i).intValue()] = new RoadSegmentKey(group.begin, group.end, i);
+			}
+		}
+		return keys;
+	}
+
+	@Override
+	@Pure
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj instanceof RoadSegmentKey) {
+			final RoadSegmentKey key = (RoadSegmentKey) obj;
+			return this.index == key.index && this.begin.equals(key.begin) && this.end.equals(key.end);
+		}
+		return false;
+	}
+
+	@Override
+	@Pure
+	public int hashCode() {
+		return Objects.hash(this.begin, this.end, Integer.valueOf(this.index));
+	}
+
+	@Override
+	@Pure
+	public String toString() {
+		return this.begin + "->" + this.end + "#" + this.index; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+}
@@ -20,8 +20,10 @@
 
 package org.arakhne.afc.gis.road.primitive;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 
 import org.eclipse.xtext.xbase.lib.Pair;
 import org.eclipse.xtext.xbase.lib.Pure;
@@ -132,6 +134,37 @@ public interface RoadNetwork extends BoundedGISElement, RoadSegmentContainer {
 	@Pure
 	Pair<? extends RoadSegment, Double> getNearestSegmentData(Point2D<?, ?> pos);
 
+	/**
+	 * Return the nearest segments from a position; and their
+	 * distances to the point.
+	 *
+	 * <p>The default implementation computes the distances to all the road segments.
+	 *
+	 * @param pos is the testing position.
+	 * @param k is the maximal number of segments to reply. If negative, the number of segments is not limited.
+	 * @param maxDistance is the maximal distance between the position and the replied segments.
+	 * @return the nearest road network segments and their distances
+	 *     to the given point, sorted by increasing distance.
+	 * @since 18.0
+	 */
+	@Pure
+	default List<Pair<RoadSegment, Double>> getNearestSegments(Point2D<?, ?> pos, int k, double maxDistance) {
+		final List<Pair<RoadSegment, Double>> segments = new ArrayList<>();
+		if (k != 0) {
+			for (final RoadSegment segment : getRoadSegments()) {
+				final double distance = segment.distance(pos);
+				if (distance <= maxDistance) {
+					segments.add(new Pair<>(segment, distance));
+				}
+			}
+			segments.sort((first, second) -> Double.compare(first.getValue(), second.getValue()));
+			if (k > 0 && segments.size() > k) {
+				segments.subList(k, segments.size()).clear();
+			}
+		}
+		return segments;
+	}
+
 	/**
 	 * Return the nearest point 1.5D from a 2D position.
 	 *
@@ -0,0 +1,420 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.gis.road.snapshot;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.gis.road.primitive.RoadConnection;
+import org.arakhne.afc.gis.road.primitive.RoadSegment;
+import org.arakhne.afc.gis.road.primitive.RoadSegmentContainer;
+import org.arakhne.afc.gis.road.primitive.RoadType;
+import org.arakhne.afc.gis.road.primitive.TrafficDirection;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** Immutable snapshot of a road network with a compressed-sparse-row adjacency.
+ *
+ * <p>The road connections and the road segments of the network are indexed with
+ * integers. The properties of the segments (length, traffic direction, road type)
+ * are stored into primitive arrays that are indexed by the segment indexes. The
+ * edges that may be traversed from a connection are stored contiguously: the edges
+ * leaving the connection {@code node} have the indexes from
+ * {@link #getFirstEdge(int) getFirstEdge(node)} (inclusive) to
+ * {@link #getLastEdge(int) getLastEdge(node)} (exclusive). Consequently, the graph
+ * algorithms may run over the snapshot without iterators and without allocation.
+ *
+ * <p>The snapshot keeps the references to the road connections and to the road
+ * segments for mapping the indexes back to the network objects, but it does
+ * not follow the changes of the network. A new snapshot must be built after the
+ * network is modified.
+ *
+ * <p>The snapshot may be shared among threads. The searches are run with
+ * {@link RoadNetworkSnapshotSearch}, that must be created for each thread.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ * @see RoadNetworkSnapshotSearch
+ */
+public final class RoadNetworkSnapshot {
+
+	private static final RoadType[] ROAD_TYPES = RoadType.values();
+
+	private static final TrafficDirection[] TRAFFIC_DIRECTIONS = TrafficDirection.values();
+
+	private final RoadConnection[] connections;
+
+	private final Map<RoadConnection, Integer> connectionIndexes;
+
+	private final RoadSegment[] segments;
+
+	private final Map<RoadSegment, Integer> segmentIndexes;
+
+	private final int[] segmentBegins;
+
+	private final int[] segmentEnds;
+
+	private final double[] segmentLengths;
+
+	private final byte[] segmentDirections;
+
+	private final byte[] segmentTypes;
+
+	private final int[] edgeOffsets;
+
+	private final int[] edgeTargets;
+
+	private final int[] edgeSegments;
+
+	private RoadNetworkSnapshot(RoadSegmentContainer network) {
+		final List<RoadConnection> connectionList = new ArrayList<>();
+		this.connectionIndexes = new HashMap<>();
+		final List<RoadSegment> segmentList = new ArrayList<>();
+		for (final RoadSegment segment : network) {
+			final RoadConnection begin = wrapped(segment.getBeginPoint());
+			final RoadConnection end = wrapped(segment.getEndPoint());
+			if (begin != null && end != null) {
+				index(begin, connectionList);
+				index(end, connectionList);
+				segmentList.add(segment);
+			}
+		}
+
+		final int nodeCount = connectionList.size();
+		final int segmentCount = segmentList.size();
+		this.connections = connectionList.toArray(new RoadConnection[nodeCount]);
+		this.segments = segmentList.toArray(new RoadSegment[segmentCount]);
+		this.segmentIndexes = new HashMap<>();
+		this.segmentBegins = new int[segmentCount];
+		this.segmentEnds = new int[segmentCount];
+		this.segmentLengths = new double[segmentCount];
+		this.segmentDirections = new byte[segmentCount];
+		this.segmentTypes = new byte[segmentCount];
+		final boolean[] forward = new boolean[segmentCount];
+		final boolean[] backward = new boolean[segmentCount];
+		this.edgeOffsets = new int[nodeCount + 1];
+
+		for (int i = 0; i < segmentCount; ++i) {
+			final RoadSegment segment = this.segments[i];
+			this.segmentIndexes.put(segment, Integer.valueOf(i));
+			final RoadConnection begin = segment.getBeginPoint();
+			final RoadConnection end = segment.getEndPoint();
+			final int beginIndex = this.connectionIndexes.get(wrapped(begin)).intValue();
+			final int endIndex = this.connectionIndexes.get(wrapped(end)).intValue();
+			this.segmentBegins[i] = beginIndex;
+			this.segmentEnds[i] = endIndex;
+			this.segmentLengths[i] = segment.getLength();
+			this.segmentDirections[i] = (byte) segment.getTrafficDirection().ordinal();
+			this.segmentTypes[i] = (byte) segment.getRoadType().ordinal();
+			if (beginIndex != endIndex) {
+				forward[i] = segment.isTraversableFrom(begin);
+				backward[i] = segment.isTraversableFrom(end);
+				if (forward[i]) {
+					++this.edgeOffsets[beginIndex + 1];
+				}
+				if (backward[i]) {
+					++this.edgeOffsets[endIndex + 1];
+				}
+			}
+		}
+
+		for (int i = 0; i < nodeCount; ++i) {
+			this.edgeOffsets[i + 1] += this.edgeOffsets[i];
+		}
+		final int edgeCount = this.edgeOffsets[nodeCount];
+		this.edgeTargets = new int[edgeCount];
+		this.edgeSegments = new int[edgeCount];
+		final int[] fill = new int[nodeCount];
+		for (int i = 0; i < segmentCount; ++i) {
+			if (forward[i]) {
+				addEdge(this.segmentBegins[i], this.segmentEnds[i], i, fill);
+			}
+			if (backward[i]) {
+				addEdge(this.segmentEnds[i], this.segmentBegins[i], i, fill);
+			}
+		}
+	}
+
+	/** Build a snapshot of the given road network.
+	 *
+	 * @param network the road network, or a sub road network.
+	 * @return the snapshot.
+	 */
+	public static RoadNetworkSnapshot of(RoadSegmentContainer network) {
+		assert network != null : AssertMessages.notNullParameter(0);
+		return new RoadNetworkSnapshot(network);
+	}
+
+	private static RoadConnection wrapped(RoadConnection connection) {
+		return connection == null ? null : connection.getWrappedRoadConnection();
+	}
+
+	private void index(RoadConnection connection, List<RoadConnection> connectionList) {
+		if (!this.connectionIndexes.containsKey(connection)) {
+			this.connectionIndexes.put(connection, Integer.valueOf(connectionList.size()));
+			connectionList.add(connection);
+		}
+	}
+
+	private void addEdge(int source, int target, int segment, int[] fill) {
+		final int edge = this.edgeOffsets[source] + fill[source];
+		this.edgeTargets[edge] = target;
+		this.edgeSegments[edge] = segment;
+		++fill[source];
+	}
+
+	/** Replies the number of road connections in the snapshot.
+	 *
+	 * @return the number of road connections.
+	 */
+	@Pure
+	public int getNodeCount() {
+		return this.connections.length;
+	}
+
+	/** Replies the number of road segments in the snapshot.
+	 *
+	 * @return the number of road segments.
+	 */
+	@Pure
+	public int getSegmentCount() {
+		return this.segments.length;
+	}
+
+	/** Replies the number of directed edges in the snapshot.
+	 * A road segment is associated to one edge for each direction into which it is traversable.
+	 *
+	 * @return the number of edges.
+	 */
+	@Pure
+	public int getEdgeCount() {
+		return this.edgeTargets.length;
+	}
+
+	/** Replies the index of the given road connection.
+	 *
+	 * @param connection the road connection.
+	 * @return the index of the connection, or <code>-1</code> if the connection is not in the snapshot.
+	 */
+	@Pure
+	public int getNodeIndex(RoadConnection connection) {
+		if (connection == null) {
+			return -1;
+		}
+		final Integer index = this.connectionIndexes.get(connection.getWrappedRoadConnection());
+		return index == null ? -1 : index.intValue();
+	}
+
+	/** Replies the road connection at the given index.
+	 *
+	 * @param node the index of the connection.
+	 * @return the road connection.
+	 */
+	@Pure
+	public RoadConnection getRoadConnection(int node) {
+		return this.connections[node];
+	}
+
+	/** Replies the index of the given road segment.
+	 *
+	 * @param segment the road segment.
+	 * @return the index of the segment, or <code>-1</code> if the segment is not in the snapshot.
+	 */
+	@Pure
+	public int getSegmentIndex(RoadSegment segment) {
+		if (segment == null) {
+			return -1;
+		}
+		final Integer index = this.segmentIndexes.get(segment);
+		return index == null ? -1 : index.intValue();
+	}
+
+	/** Replies the road segment at the given index.
+	 *
+	 * @param segment the index of the segment.
+	 * @return the road segment.
+	 */
+	@Pure
+	public RoadSegment getRoadSegment(int segment) {
+		return this.segments[segment];
+	}
+
+	/** Replies the index of the connection at the beginning of the given segment.
+	 *
+	 * @param segment the index of the segment.
+	 * @return the index of the first connection of the segment.
+	 */
+	@Pure
+	public int getSegmentBegin(int segment) {
+		return this.segmentBegins[segment];
+	}
+
+	/** Replies the index of the connection at the end of the given segment.
+	 *
+	 * @param segment the index of the segment.
+	 * @return the index of the last connection of the segment.
+	 */
+	@Pure
+	public int getSegmentEnd(int segment) {
+		return this.segmentEnds[segment];
+	}
+
+	/** Replies the length of the given segment.
+	 *
+	 * @param segment the index of the segment.
+	 * @return the length of the segment.
+	 */
+	@Pure
+	public double getSegmentLength(int segment) {
+		return this.segmentLengths[segment];
+	}
+
+	/** Replies the traffic direction of the given segment.
+	 *
+	 * @param segment the index of the segment.
+	 * @return the traffic direction of the segment.
+	 */
+	@Pure
+	public TrafficDirection getTrafficDirection(int segment) {
+		return TRAFFIC_DIRECTIONS[this.segmentDirections[segment]];
+	}
+
+	/** Replies the type of the given segment.
+	 *
+	 * @param segment the index of the segment.
+	 * @return the type of the segment.
+	 */
+	@Pure
+	public RoadType getRoadType(int segment) {
+		return ROAD_TYPES[this.segmentTypes[segment]];
+	}
+
+	/** Replies the index of the first edge that is leaving the given connection.
+	 *
+	 * @param node the index of the connection.
+	 * @return the index of the first edge.
+	 * @see #getLastEdge(int)
+	 */
+	@Pure
+	public int getFirstEdge(int node) {
+		return this.edgeOffsets[node];
+	}
+
+	/** Replies the index that follows the last edge that is leaving the given connection.
+	 *
+	 * @param node the index of the connection.
+	 * @return the index after the last edge.
+	 * @see #getFirstEdge(int)
+	 */
+	@Pure
+	public int getLastEdge(int node) {
+		return this.edgeOffsets[node + 1];
+	}
+
+	/** Replies the index of the connection that is reached by the given edge.
+	 *
+	 * @param edge the index of the edge.
+	 * @return the index of the target connection.
+	 */
+	@Pure
+	public int getEdgeTarget(int edge) {
+		return this.edgeTargets[edge];
+	}
+
+	/** Replies the index of the segment that is traversed by the given edge.
+	 *
+	 * @param edge the index of the edge.
+	 * @return the index of the segment.
+	 */
+	@Pure
+	public int getEdgeSegment(int edge) {
+		return this.edgeSegments[edge];
+	}
+
+	/** Replies the length of the segment that is traversed by the given edge.
+	 *
+	 * @param edge the index of the edge.
+	 * @return the length of the edge.
+	 */
+	@Pure
+	public double getEdgeLength(int edge) {
+		return this.segmentLengths[this.edgeSegments[edge]];
+	}
+
+	/** Compute the connected components of the snapshot, without considering the
+	 * traffic directions.
+	 *
+	 * @param components the array that is filled with the index of the component of each
+	 *     connection. Its size must be at least the {@link #getNodeCount() number of connections}.
+	 * @return the number of components.
+	 */
+	public int computeConnectedComponents(int[] components) {
+		assert components != null : AssertMessages.notNullParameter(0);
+		assert components.length >= getNodeCount() : AssertMessages.tooSmallArrayParameter(0, components.length, getNodeCount());
+		final int nodeCount = getNodeCount();
+		for (int i = 0; i < nodeCount; ++i) {
+			components[i] = i;
+		}
+		for (int i = 0; i < this.segmentBegins.length; ++i) {
+			final int root1 = findRoot(components, this.segmentBegins[i]);
+			final int root2 = findRoot(components, this.segmentEnds[i]);
+			if (root1 < root2) {
+				components[root2] = root1;
+			} else if (root2 < root1) {
+				components[root1] = root2;
+			}
+		}
+		// The root of a component has the lowest index in the component, so the
+		// components are numbered in the order of their roots.
+		int count = 0;
+		for (int i = 0; i < nodeCount; ++i) {
+			final int parent = components[i];
+			if (parent == i) {
+				components[i] = count;
+				++count;
+			} else {
+				components[i] = components[parent];
+			}
+		}
+		return count;
+	}
+
+	private static int findRoot(int[] parents, int node) {
+		int root = node;
+		while (parents[root] != root) {
+			root = parents[root];
+		}
+		int current = node;
+		while (parents[current] != root) {
+			final int next = parents[current];
+			parents[current] = root;
+			current = next;
+		}
+		return root;
+	}
+
+}
@@ -0,0 +1,362 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.gis.road.snapshot;
+
+import java.util.Arrays;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** Graph searches over a {@link RoadNetworkSnapshot}.
+ *
+ * <p>The search allocates its working arrays once, when it is created. The arrays
+ * are reused by all the searches, and they are not cleared between two searches:
+ * the entries are tagged with the number of the search that has written them.
+ * Consequently, the searches do not allocate memory, and their costs do not depend
+ * on the size of the network, but only on the number of the explored connections.
+ *
+ * <p>The results of the last search, i.e. the distances and the predecessors of the
+ * connections, are available until the next search is run.
+ * The costs of the edges are the lengths of the road segments.
+ *
+ * <p>This class is not thread-safe. Each thread must create its own search over the shared snapshot.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ */
+public class RoadNetworkSnapshotSearch {
+
+	private final RoadNetworkSnapshot snapshot;
+
+	private final double[] distances;
+
+	private final int[] predecessors;
+
+	private final int[] reachedStamps;
+
+	private final int[] settledStamps;
+
+	private final int[] heapNodes;
+
+	private final double[] heapKeys;
+
+	private final int[] heapPositions;
+
+	private int heapSize;
+
+	private int stamp;
+
+	/** Constructor.
+	 *
+	 * @param snapshot the snapshot of the road network.
+	 */
+	public RoadNetworkSnapshotSearch(RoadNetworkSnapshot snapshot) {
+		assert snapshot != null : AssertMessages.notNullParameter();
+		this.snapshot = snapshot;
+		final int nodeCount = snapshot.getNodeCount();
+		this.distances = new double[nodeCount];
+		this.predecessors = new int[nodeCount];
+		this.reachedStamps = new int[nodeCount];
+		this.settledStamps = new int[nodeCount];
+		this.heapNodes = new int[nodeCount];
+		this.heapKeys = new double[nodeCount];
+		this.heapPositions = new int[nodeCount];
+	}
+
+	/** Replies the snapshot that is explored by this search.
+	 *
+	 * @return the snapshot.
+	 */
+	@Pure
+	public RoadNetworkSnapshot getSnapshot() {
+		return this.snapshot;
+	}
+
+	/** Compute the shortest paths from the given connection to all the other connections.
+	 *
+	 * @param source the index of the starting connection.
+	 * @return the number of connections that are reachable from the source, including the source.
+	 * @see #getDistance(int)
+	 * @see #getPath(int, int[])
+	 */
+	public int computeShortestPaths(int source) {
+		return dijkstra(source, -1, Double.POSITIVE_INFINITY, null);
+	}
+
+	/** Compute the shortest path between the given connections.
+	 * The search stops when the target connection is reached.
+	 *
+	 * @param source the index of the starting connection.
+	 * @param target the index of the connection to reach.
+	 * @return the length of the shortest path, or {@link Double#POSITIVE_INFINITY} if the
+	 *     target is not reachable.
+	 * @see #getPath(int, int[])
+	 */
+	public double computeShortestPath(int source, int target) {
+		assert target >= 0 && target < this.snapshot.getNodeCount()
+				: AssertMessages.outsideRangeInclusiveParameter(1, target, 0, this.snapshot.getNodeCount() - 1);
+		dijkstra(source, target, Double.POSITIVE_INFINITY, null);
+		return getDistance(target);
+	}
+
+	/** Compute the isochrone of the given connection, i.e. the connections that are
+	 * reachable with a path that is not longer than the given cost.
+	 *
+	 * @param source the index of the starting connection.
+	 * @param maxCost the maximal length of the paths.
+	 * @param nodes the array that is filled with the indexes of the reached connections, by
+	 *     increasing distance. Its size must be at least the number of connections in the snapshot.
+	 * @return the number of connections that are written into {@code nodes}.
+	 */
+	public int computeIsochrone(int source, double maxCost, int[] nodes) {
+		assert nodes != null : AssertMessages.notNullParameter(2);
+		assert nodes.length >= this.snapshot.getNodeCount()
+				: AssertMessages.tooSmallArrayParameter(2, nodes.length, this.snapshot.getNodeCount());
+		return dijkstra(source, -1, maxCost, nodes);
+	}
+
+	/** Compute the connections that are reachable from the given connection.
+	 * The traffic directions of the segments are considered.
+	 *
+	 * <p>This search is a breadth-first search that does not compute the
+	 * distances, but the predecessors of the reached connections.
+	 *
+	 * @param source the index of the starting connection.
+	 * @param nodes the array that is filled with the indexes of the reached connections, in
+	 *     breadth-first order. Its size must be at least the number of connections in the snapshot.
+	 * @return the number of connections that are written into {@code nodes}.
+	 */
+	public int computeReachableNodes(int source, int[] nodes) {
+		assert source >= 0 && source < this.snapshot.getNodeCount()
+				: AssertMessages.outsideRangeInclusiveParameter(0, source, 0, this.snapshot.getNodeCount() - 1);
+		assert nodes != null : AssertMessages.notNullParameter(1);
+		assert nodes.length >= this.snapshot.getNodeCount()
+				: AssertMessages.tooSmallArrayParameter(1, nodes.length, this.snapshot.getNodeCount());
+		final int currentStamp = nextStamp();
+		final RoadNetworkSnapshot graph = this.snapshot;
+		// The output array is used as the queue of the breadth-first search
+		nodes[0] = source;
+		reach(source, Double.NaN, -1, currentStamp);
+		int head = 0;
+		int tail = 1;
+		while (head < tail) {
+			final int node = nodes[head];
+			++head;
+			final int last = graph.getLastEdge(node);
+			for (int edge = graph.getFirstEdge(node); edge < last; ++edge) {
+				final int target = graph.getEdgeTarget(edge);
+				if (this.reachedStamps[target] != currentStamp) {
+					reach(target, Double.NaN, edge, currentStamp);
+					nodes[tail] = target;
+					++tail;
+				}
+			}
+		}
+		return tail;
+	}
+
+	/** Replies the length of the shortest path to the given connection that was computed by the last search.
+	 *
+	 * @param node the index of the connection.
+	 * @return the length of the path, {@link Double#POSITIVE_INFINITY} if the connection was not reached,
+	 *     or {@link Double#NaN} if the last search does not compute the distances.
+	 */
+	@Pure
+	public double getDistance(int node) {
+		if (this.reachedStamps[node] != this.stamp) {
+			return Double.POSITIVE_INFINITY;
+		}
+		return this.distances[node];
+	}
+
+	/** Replies the edge that is used for reaching the given connection in the last search.
+	 *
+	 * @param node the index of the connection.
+	 * @return the index of the edge, or <code>-1</code> if the connection was not reached or
+	 *     if it is the source of the search.
+	 */
+	@Pure
+	public int getPredecessorEdge(int node) {
+		if (this.reachedStamps[node] != this.stamp) {
+			return -1;
+		}
+		return this.predecessors[node];
+	}
+
+	/** Replies the path to the given connection that was computed by the last search.
+	 *
+	 * @param node the index of the connection to reach.
+	 * @param segments the array that is filled with the indexes of the segments on the path, from
+	 *     the source of the search to the given connection. Its size must be large enough for
+	 *     containing the path; the number of segments is a safe size.
+	 * @return the number of segments on the path, or <code>-1</code> if the connection was not reached.
+	 */
+	public int getPath(int node, int[] segments) {
+		assert segments != null : AssertMessages.notNullParameter(1);
+		if (this.reachedStamps[node] != this.stamp) {
+			return -1;
+		}
+		int count = 0;
+		int edge = this.predecessors[node];
+		int current = node;
+		while (edge >= 0) {
+			++count;
+			current = previous(edge, current);
+			edge = this.predecessors[current];
+		}
+		int index = count;
+		edge = this.predecessors[node];
+		current = node;
+		while (edge >= 0) {
+			--index;
+			segments[index] = this.snapshot.getEdgeSegment(edge);
+			current = previous(edge, current);
+			edge = this.predecessors[current];
+		}
+		return count;
+	}
+
+	private int previous(int edge, int node) {
+		final int segment = this.snapshot.getEdgeSegment(edge);
+		final int begin = this.snapshot.getSegmentBegin(segment);
+		return begin == node ? this.snapshot.getSegmentEnd(segment) : begin;
+	}
+
+	private int nextStamp() {
+		if (this.stamp == Integer.MAX_VALUE) {
+			Arrays.fill(this.reachedStamps, 0);
+			Arrays.fill(this.settledStamps, 0);
+			this.stamp = 0;
+		}
+		++this.stamp;
+		return this.stamp;
+	}
+
+	private void reach(int node, double distance, int edge, int currentStamp) {
+		this.reachedStamps[node] = currentStamp;
+		this.distances[node] = distance;
+		this.predecessors[node] = edge;
+	}
+
+	private int dijkstra(int source, int target, double maxCost, int[] nodes) {
+		assert source >= 0 && source < this.snapshot.getNodeCount()
+				: AssertMessages.outsideRangeInclusiveParameter(0, source, 0, this.snapshot.getNodeCount() - 1);
+		final int currentStamp = nextStamp();
+		final RoadNetworkSnapshot graph = this.snapshot;
+		this.heapSize = 0;
+		reach(source, 0., -1, currentStamp);
+		push(source, 0.);
+		int settled = 0;
+		while (this.heapSize > 0) {
+			final double distance = this.heapKeys[0];
+			if (distance > maxCost) {
+				break;
+			}
+			final int node = poll();
+			this.settledStamps[node] = currentStamp;
+			if (nodes != null) {
+				nodes[settled] = node;
+			}
+			++settled;
+			if (node == target) {
+				break;
+			}
+			final int last = graph.getLastEdge(node);
+			for (int edge = graph.getFirstEdge(node); edge < last; ++edge) {
+				final int next = graph.getEdgeTarget(edge);
+				if (this.settledStamps[next] != currentStamp) {
+					final double nextDistance = distance + graph.getEdgeLength(edge);
+					if (this.reachedStamps[next] != currentStamp) {
+						reach(next, nextDistance, edge, currentStamp);
+						push(next, nextDistance);
+					} else if (nextDistance < this.distances[next]) {
+						reach(next, nextDistance, edge, currentStamp);
+						siftUp(this.heapPositions[next]);
+					}
+				}
+			}
+		}
+		return settled;
+	}
+
+	private void push(int node, double key) {
+		final int position = this.heapSize;
+		++this.heapSize;
+		move(node, key, position);
+		siftUp(position);
+	}
+
+	private int poll() {
+		final int node = this.heapNodes[0];
+		--this.heapSize;
+		if (this.heapSize > 0) {
+			move(this.heapNodes[this.heapSize], this.heapKeys[this.heapSize], 0);
+			siftDown(0);
+		}
+		return node;
+	}
+
+	private void move(int node, double key, int position) {
+		this.heapNodes[position] = node;
+		this.heapKeys[position] = key;
+		this.heapPositions[node] = position;
+	}
+
+	private void siftUp(int position) {
+		final int node = this.heapNodes[position];
+		final double key = this.distances[node];
+		int pos = position;
+		while (pos > 0) {
+			final int parent = (pos - 1) >>> 1;
+			if (this.heapKeys[parent] <= key) {
+				break;
+			}
+			move(this.heapNodes[parent], this.heapKeys[parent], pos);
+			pos = parent;
+		}
+		move(node, key, pos);
+	}
+
+	private void siftDown(int position) {
+		final int node = this.heapNodes[position];
+		final double key = this.heapKeys[position];
+		int pos = position;
+		final int half = this.heapSize >>> 1;
+		while (pos < half) {
+			int child = (pos << 1) + 1;
+			final int right = child + 1;
+			if (right < this.heapSize && this.heapKeys[right] < this.heapKeys[child]) {
+				child = right;
+			}
+			if (key <= this.heapKeys[child]) {
+				break;
+			}
+			move(this.heapNodes[child], this.heapKeys[child], pos);
+			pos = child;
+		}
+		move(node, key, pos);
+	}
+
+}
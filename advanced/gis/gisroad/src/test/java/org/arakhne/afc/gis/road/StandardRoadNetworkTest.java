@@ -39,9 +39,15 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.eclipse.xtext.xbase.lib.Pair;
+
 import org.arakhne.afc.attrs.collection.HeapAttributeCollection;
+import org.arakhne.afc.gis.coordinate.GISCoordinates;
+import org.arakhne.afc.gis.coordinate.MapMetricProjection;
 import org.arakhne.afc.gis.location.GeoLocationUtil;
+import org.arakhne.afc.gis.road.primitive.RoadNetwork;
 import org.arakhne.afc.gis.road.primitive.RoadNetworkException;
+import org.arakhne.afc.gis.road.primitive.RoadNetworkListener;
 import org.arakhne.afc.gis.road.primitive.RoadSegment;
 import org.arakhne.afc.math.geometry.coordinatesystem.CoordinateSystem2D;
 import org.arakhne.afc.math.geometry.d1.d.Point1d;
@@ -938,6 +944,50 @@ public class StandardRoadNetworkTest extends AbstractGisTest {
 		assertFalse(iterator.hasNext());
 	}
 
+	@Test
+	public void testConvertProjection() {
+		final StandardRoadConnection connection = this.segment1.getEndPoint(StandardRoadConnection.class);
+		assertSame(connection, this.segment2.getEndPoint(StandardRoadConnection.class));
+		final List<RoadSegment> removedSegments = new ArrayList<>();
+		final List<RoadSegment> changedSegments = new ArrayList<>();
+		this.network.addRoadNetworkListener(new RoadNetworkListener() {
+			@Override
+			public void onRoadSegmentAdded(RoadNetwork network, RoadSegment segment) {
+				fail("no segment must be added"); //$NON-NLS-1$
+			}
+			@Override
+			public void onRoadSegmentChanged(RoadNetwork network, RoadSegment segment) {
+				changedSegments.add(segment);
+			}
+			@Override
+			public void onRoadSegmentRemoved(RoadNetwork network, RoadSegment segment) {
+				removedSegments.add(segment);
+			}
+		});
+
+		this.network.convertProjection(MapMetricProjection.FRANCE_LAMBERT_2_EXTENDED, MapMetricProjection.FRANCE_LAMBERT_93);
+
+		assertTrue(removedSegments.isEmpty());
+		assertEquals(9, changedSegments.size());
+		assertEquals(9, this.network.getSegmentCount());
+		assertSame(this.network, this.segment1.getRoadNetwork());
+		assertSame(connection, this.segment1.getEndPoint(StandardRoadConnection.class));
+		assertSame(connection, this.segment2.getEndPoint(StandardRoadConnection.class));
+		final Point2d expected = GISCoordinates.EL2_L93(100., 100.);
+		assertEpsilonEquals(expected, this.segment1.getPointAt(-1));
+		assertEpsilonEquals(expected, connection.getPoint());
+
+		// The spatial index is rebuilt
+		final Rectangle2d box = new Rectangle2d(expected.getX() - 1, expected.getY() - 1, 2, 2);
+		final List<RoadSegment> found = new ArrayList<>();
+		final Iterator<? extends RoadSegment> iterator = this.network.iterator(box);
+		while (iterator.hasNext()) {
+			found.add(iterator.next());
+		}
+		assertTrue(found.contains(this.segment1));
+		assertTrue(found.contains(this.segment2));
+	}
+
 	@Test
 	public void testGetNearestConnection() {
 		assertEquals(this.segment1.getBeginPoint(),
@@ -969,6 +1019,24 @@ public class StandardRoadNetworkTest extends AbstractGisTest {
 						new Point2d(0.,0.))));
 	}
 
+	@Test
+	public void testGetNearestSegments() {
+		List<Pair<RoadSegment, Double>> segments = this.network.getNearestSegments(new Point2d(-5., 0.), 2,
+				Double.POSITIVE_INFINITY);
+		assertEquals(2, segments.size());
+		assertEquals(this.segment4, segments.get(0).getKey());
+		assertEpsilonEquals(this.segment4.getDistance(new Point2d(-5., 0.)), segments.get(0).getValue());
+		assertTrue(segments.get(0).getValue() <= segments.get(1).getValue());
+
+		segments = this.network.getNearestSegments(new Point2d(1000., 1000.), -1, 1.);
+		assertTrue(segments.isEmpty());
+
+		segments = this.network.getNearestSegments(new Point2d(0., 0.), -1, 0.);
+		assertEquals(2, segments.size());
+		assertTrue(Arrays.asList(this.segment4, this.segment1).contains(segments.get(0).getKey()));
+		assertTrue(Arrays.asList(this.segment4, this.segment1).contains(segments.get(1).getKey()));
+	}
+
 	@Test
 	public void testGetNearestPosition() {
 		Point1d p;
@@ -0,0 +1,337 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.gis.road.path.ch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.arakhne.afc.attrs.collection.HeapAttributeCollection;
+import org.arakhne.afc.gis.location.GeoLocationUtil;
+import org.arakhne.afc.gis.road.AbstractGisTest;
+import org.arakhne.afc.gis.road.RoadPolyline;
+import org.arakhne.afc.gis.road.RoadSegmentStub;
+import org.arakhne.afc.gis.road.StandardRoadNetwork;
+import org.arakhne.afc.gis.road.path.RoadPath;
+import org.arakhne.afc.gis.road.primitive.RoadConnection;
+import org.arakhne.afc.gis.road.primitive.RoadNetworkException;
+import org.arakhne.afc.gis.road.primitive.RoadSegment;
+import org.arakhne.afc.gis.road.primitive.TrafficDirection;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ */
+@SuppressWarnings("all")
+public class RoadContractionHierarchyTest extends AbstractGisTest {
+
+	private static final int GRID_SIZE = 6;
+
+	private StandardRoadNetwork network;
+
+	private List<RoadConnection> connections;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		GeoLocationUtil.setGISCoordinateSystemAsDefault();
+		this.network = createGridNetwork();
+		this.connections = getConnections(this.network);
+	}
+
+	private static StandardRoadNetwork createGridNetwork() {
+		final StandardRoadNetwork network = new StandardRoadNetwork(new Rectangle2d(-100, -100, 1000, 1000),
+				new HeapAttributeCollection());
+		final Random random = new Random(1234);
+		final double[][] xs = new double[GRID_SIZE][GRID_SIZE];
+		final double[][] ys = new double[GRID_SIZE][GRID_SIZE];
+		for (int i = 0; i < GRID_SIZE; ++i) {
+			for (int j = 0; j < GRID_SIZE; ++j) {
+				xs[i][j] = i * 100 + random.nextInt(40);
+				ys[i][j] = j * 100 + random.nextInt(40);
+			}
+		}
+		int index = 0;
+		for (int i = 0; i < GRID_SIZE; ++i) {
+			for (int j = 0; j < GRID_SIZE; ++j) {
+				if (i + 1 < GRID_SIZE) {
+					addSegment(network, "h" + index, xs[i][j], ys[i][j], xs[i + 1][j], ys[i + 1][j], index);
+				}
+				if (j + 1 < GRID_SIZE) {
+					addSegment(network, "v" + index, xs[i][j], ys[i][j], xs[i][j + 1], ys[i][j + 1], index + 1);
+				}
+				++index;
+			}
+		}
+		return network;
+	}
+
+	private static List<RoadConnection> getConnections(StandardRoadNetwork network) {
+		final List<RoadConnection> connections = new ArrayList<>();
+		for (final RoadSegment segment : network.getRoadSegments()) {
+			for (final RoadConnection connection : new RoadConnection[] {segment.getBeginPoint(), segment.getEndPoint()}) {
+				if (!connections.contains(connection.getWrappedRoadConnection())) {
+					connections.add(connection.getWrappedRoadConnection());
+				}
+			}
+		}
+		return connections;
+	}
+
+	private static void addSegment(StandardRoadNetwork network, String label, double x1, double y1,
+			double x2, double y2, int index) {
+		final RoadSegmentStub segment = new RoadSegmentStub(label, x1, y1, x2, y2);
+		if (index % 7 == 0) {
+			segment.setTrafficDirection(TrafficDirection.ONE_WAY);
+		} else if (index % 11 == 0) {
+			segment.setTrafficDirection(TrafficDirection.NO_ENTRY);
+		}
+		network.addRoadSegment(segment);
+	}
+
+	private static Map<RoadConnection, Double> dijkstra(RoadConnection start) {
+		final Map<RoadConnection, Double> distances = new HashMap<>();
+		final Set<RoadConnection> settled = new HashSet<>();
+		distances.put(start, 0.);
+		while (true) {
+			RoadConnection node = null;
+			for (final Entry<RoadConnection, Double> entry : distances.entrySet()) {
+				if (!settled.contains(entry.getKey()) && (node == null || entry.getValue() < distances.get(node))) {
+					node = entry.getKey();
+				}
+			}
+			if (node == null) {
+				return distances;
+			}
+			settled.add(node);
+			for (final RoadSegment segment : node.getConnectedSegments()) {
+				if (segment.isTraversableFrom(node)) {
+					final RoadConnection other = segment.getOtherSidePoint(node).getWrappedRoadConnection();
+					final double distance = distances.get(node) + segment.getLength();
+					final Double current = distances.get(other);
+					if (current == null || distance < current) {
+						distances.put(other, distance);
+					}
+				}
+			}
+		}
+	}
+
+	private void assertShortestPaths(RoadContractionHierarchyQuery query, StandardRoadNetwork network,
+			List<RoadConnection> connections) {
+		for (final RoadConnection start : connections) {
+			final Map<RoadConnection, Double> distances = dijkstra(start);
+			for (final RoadConnection end : connections) {
+				if (start != end) {
+					final Double expected = distances.get(end);
+					final RoadPath actual = query.solve(start, end);
+					if (expected == null) {
+						assertNull(actual);
+						assertEquals(Double.POSITIVE_INFINITY, query.computeCost(start, end));
+					} else {
+						assertNotNull(actual);
+						assertSame(start, actual.getFirstPoint().getWrappedRoadConnection());
+						assertSame(end, actual.getLastPoint().getWrappedRoadConnection());
+						RoadConnection point = start;
+						for (final RoadSegment segment : actual) {
+							assertTrue(segment.isTraversableFrom(point));
+							point = segment.getOtherSidePoint(point).getWrappedRoadConnection();
+						}
+						assertEpsilonEquals(expected, actual.getLength());
+						assertEpsilonEquals(expected, query.computeCost(start, end));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void build() {
+		final RoadContractionHierarchy hierarchy = RoadContractionHierarchy.build(this.network);
+		assertEquals(GRID_SIZE * GRID_SIZE, hierarchy.getNodeCount());
+		assertEquals(this.network.getSegmentCount(), hierarchy.getSegmentCount());
+		assertTrue(hierarchy.getEdgeCount() > hierarchy.getShortcutCount());
+	}
+
+	@Test
+	public void solve() {
+		final RoadContractionHierarchy hierarchy = RoadContractionHierarchy.build(this.network);
+		assertShortestPaths(new RoadContractionHierarchyQuery(hierarchy, this.network), this.network, this.connections);
+	}
+
+	@Test
+	public void solve_sameConnection() {
+		final RoadContractionHierarchy hierarchy = RoadContractionHierarchy.build(this.network);
+		final RoadContractionHierarchyQuery query = new RoadContractionHierarchyQuery(hierarchy, this.network);
+		final RoadConnection connection = this.connections.get(0);
+		assertNull(query.solve(connection, connection));
+		assertEpsilonEquals(0., query.computeCost(connection, connection));
+	}
+
+	@Test
+	public void serialization() throws Exception {
+		final RoadContractionHierarchy hierarchy = RoadContractionHierarchy.build(this.network);
+		final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (ObjectOutputStream output = new ObjectOutputStream(buffer)) {
+			output.writeObject(hierarchy);
+		}
+		final RoadContractionHierarchy loaded;
+		try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+			loaded = (RoadContractionHierarchy) input.readObject();
+		}
+		assertEquals(hierarchy.getNodeCount(), loaded.getNodeCount());
+		assertEquals(hierarchy.getEdgeCount(), loaded.getEdgeCount());
+		assertShortestPaths(new RoadContractionHierarchyQuery(loaded, this.network), this.network, this.connections);
+	}
+
+	private static StandardRoadNetwork createParallelNetwork(RoadSegment forward, RoadSegment backward) {
+		final StandardRoadNetwork network = new StandardRoadNetwork(new Rectangle2d(-100, -100, 1000, 1000),
+				new HeapAttributeCollection());
+		network.addRoadSegment(forward);
+		network.addRoadSegment(backward);
+		return network;
+	}
+
+	@Test
+	public void solve_parallelSegments() {
+		// Two one-way segments between the same connections, in opposite directions
+		final RoadSegmentStub forward = new RoadSegmentStub("forward", 0, 0, 100, 0);
+		forward.setTrafficDirection(TrafficDirection.ONE_WAY);
+		final RoadSegmentStub backward = new RoadSegmentStub("backward", 100, 0, 0, 0);
+		backward.setTrafficDirection(TrafficDirection.ONE_WAY);
+		final StandardRoadNetwork network = createParallelNetwork(forward, backward);
+		final RoadConnection start = forward.getBeginPoint().getWrappedRoadConnection();
+		final RoadConnection end = forward.getEndPoint().getWrappedRoadConnection();
+
+		final RoadContractionHierarchyQuery query = new RoadContractionHierarchyQuery(
+				RoadContractionHierarchy.build(network), network);
+		RoadPath path = query.solve(start, end);
+		assertEquals(1, path.size());
+		assertSame(forward, path.get(0));
+		path = query.solve(end, start);
+		assertEquals(1, path.size());
+		assertSame(backward, path.get(0));
+	}
+
+	@Test
+	public void serialization_otherNetworkCopy() throws Exception {
+		final RoadContractionHierarchy hierarchy = RoadContractionHierarchy.build(this.network);
+		final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (ObjectOutputStream output = new ObjectOutputStream(buffer)) {
+			output.writeObject(hierarchy);
+		}
+		final RoadContractionHierarchy loaded;
+		try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+			loaded = (RoadContractionHierarchy) input.readObject();
+		}
+		// The copy is built from the same data, but its road segments have other random identifiers
+		final StandardRoadNetwork copy = createGridNetwork();
+		final Set<UUID> ids = new HashSet<>();
+		for (final RoadSegment segment : this.network.getRoadSegments()) {
+			ids.add(segment.getUUID());
+		}
+		for (final RoadSegment segment : copy.getRoadSegments()) {
+			assertFalse(ids.contains(segment.getUUID()));
+		}
+		assertShortestPaths(new RoadContractionHierarchyQuery(loaded, copy), copy, getConnections(copy));
+	}
+
+	@Test
+	public void newQuery_otherParallelSegmentsCopy() {
+		final RoadSegmentStub forward = new RoadSegmentStub("forward", 0, 0, 100, 0);
+		forward.setTrafficDirection(TrafficDirection.ONE_WAY);
+		final RoadSegmentStub backward = new RoadSegmentStub("backward", 100, 0, 0, 0);
+		backward.setTrafficDirection(TrafficDirection.ONE_WAY);
+		final RoadContractionHierarchy hierarchy = RoadContractionHierarchy.build(createParallelNetwork(forward, backward));
+
+		// Same road segments, added in the reverse order
+		final RoadSegmentStub backward2 = new RoadSegmentStub("backward", 100, 0, 0, 0);
+		backward2.setTrafficDirection(TrafficDirection.ONE_WAY);
+		final RoadSegmentStub forward2 = new RoadSegmentStub("forward", 0, 0, 100, 0);
+		forward2.setTrafficDirection(TrafficDirection.ONE_WAY);
+		final StandardRoadNetwork copy = createParallelNetwork(backward2, forward2);
+		final RoadConnection start = forward2.getBeginPoint().getWrappedRoadConnection();
+		final RoadConnection end = forward2.getEndPoint().getWrappedRoadConnection();
+
+		final RoadContractionHierarchyQuery query = new RoadContractionHierarchyQuery(hierarchy, copy);
+		RoadPath path = query.solve(start, end);
+		assertEquals(1, path.size());
+		assertSame(forward2, path.get(0));
+		path = query.solve(end, start);
+		assertEquals(1, path.size());
+		assertSame(backward2, path.get(0));
+	}
+
+	@Test
+	public void newQuery_duplicateSegmentIdentifier() {
+		final UUID id = UUID.randomUUID();
+		final RoadPolyline forward = new RoadPolyline(id, new HeapAttributeCollection());
+		forward.addPoint(0, 0);
+		forward.addPoint(100, 0);
+		forward.setTrafficDirection(TrafficDirection.ONE_WAY);
+		final RoadPolyline backward = new RoadPolyline(id, new HeapAttributeCollection());
+		backward.addPoint(100, 0);
+		backward.addPoint(0, 0);
+		backward.setTrafficDirection(TrafficDirection.ONE_WAY);
+		final StandardRoadNetwork network = createParallelNetwork(forward, backward);
+		final RoadConnection start = forward.getBeginPoint().getWrappedRoadConnection();
+		final RoadConnection end = forward.getEndPoint().getWrappedRoadConnection();
+
+		final RoadContractionHierarchyQuery query = new RoadContractionHierarchyQuery(
+				RoadContractionHierarchy.build(network), network);
+		assertSame(forward, query.solve(start, end).get(0));
+		assertSame(backward, query.solve(end, start).get(0));
+	}
+
+	@Test
+	public void newQuery_otherNetwork() {
+		final RoadContractionHierarchy hierarchy = RoadContractionHierarchy.build(this.network);
+		final StandardRoadNetwork other = createParallelNetwork(
+				new RoadSegmentStub("forward", 0, 0, 100, 0),
+				new RoadSegmentStub("backward", 100, 0, 0, 0));
+		assertThrows(RoadNetworkException.class, () -> new RoadContractionHierarchyQuery(hierarchy, other));
+	}
+
+}
@@ -0,0 +1,287 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.gis.road.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.arakhne.afc.attrs.collection.HeapAttributeCollection;
+import org.arakhne.afc.gis.location.GeoLocationUtil;
+import org.arakhne.afc.gis.road.AbstractGisTest;
+import org.arakhne.afc.gis.road.RoadSegmentStub;
+import org.arakhne.afc.gis.road.StandardRoadNetwork;
+import org.arakhne.afc.gis.road.primitive.RoadConnection;
+import org.arakhne.afc.gis.road.primitive.RoadSegment;
+import org.arakhne.afc.gis.road.primitive.RoadType;
+import org.arakhne.afc.gis.road.primitive.TrafficDirection;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ */
+@SuppressWarnings("all")
+public class RoadNetworkSnapshotTest extends AbstractGisTest {
+
+	private static final int GRID_SIZE = 6;
+
+	private StandardRoadNetwork network;
+
+	private RoadNetworkSnapshot snapshot;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		GeoLocationUtil.setGISCoordinateSystemAsDefault();
+		this.network = new StandardRoadNetwork(new Rectangle2d(-100, -100, 1000, 1000), new HeapAttributeCollection());
+		final Random random = new Random(1234);
+		final double[][] xs = new double[GRID_SIZE][GRID_SIZE];
+		final double[][] ys = new double[GRID_SIZE][GRID_SIZE];
+		for (int i = 0; i < GRID_SIZE; ++i) {
+			for (int j = 0; j < GRID_SIZE; ++j) {
+				xs[i][j] = i * 100 + random.nextInt(40);
+				ys[i][j] = j * 100 + random.nextInt(40);
+			}
+		}
+		int index = 0;
+		for (int i = 0; i < GRID_SIZE; ++i) {
+			for (int j = 0; j < GRID_SIZE; ++j) {
+				if (i + 1 < GRID_SIZE) {
+					addSegment("h" + index, xs[i][j], ys[i][j], xs[i + 1][j], ys[i + 1][j], index);
+				}
+				if (j + 1 < GRID_SIZE) {
+					addSegment("v" + index, xs[i][j], ys[i][j], xs[i][j + 1], ys[i][j + 1], index + 1);
+				}
+				++index;
+			}
+		}
+		// Isolated segment
+		final RoadSegmentStub isolated = new RoadSegmentStub("isolated", 800, 800, 850, 850);
+		isolated.setRoadType(RoadType.FREEWAY);
+		this.network.addRoadSegment(isolated);
+		this.snapshot = RoadNetworkSnapshot.of(this.network);
+	}
+
+	private void addSegment(String label, double x1, double y1, double x2, double y2, int index) {
+		final RoadSegmentStub segment = new RoadSegmentStub(label, x1, y1, x2, y2);
+		if (index % 7 == 0) {
+			segment.setTrafficDirection(TrafficDirection.ONE_WAY);
+		} else if (index % 11 == 0) {
+			segment.setTrafficDirection(TrafficDirection.NO_ENTRY);
+		}
+		this.network.addRoadSegment(segment);
+	}
+
+	private Map<RoadConnection, Double> dijkstra(RoadConnection start) {
+		final Map<RoadConnection, Double> distances = new HashMap<>();
+		final Set<RoadConnection> settled = new HashSet<>();
+		distances.put(start, 0.);
+		while (true) {
+			RoadConnection node = null;
+			for (final Entry<RoadConnection, Double> entry : distances.entrySet()) {
+				if (!settled.contains(entry.getKey()) && (node == null || entry.getValue() < distances.get(node))) {
+					node = entry.getKey();
+				}
+			}
+			if (node == null) {
+				return distances;
+			}
+			settled.add(node);
+			for (final RoadSegment segment : node.getConnectedSegments()) {
+				if (segment.isTraversableFrom(node)) {
+					final RoadConnection other = segment.getOtherSidePoint(node).getWrappedRoadConnection();
+					final double distance = distances.get(node) + segment.getLength();
+					final Double current = distances.get(other);
+					if (current == null || distance < current) {
+						distances.put(other, distance);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void of() {
+		assertEquals(GRID_SIZE * GRID_SIZE + 2, this.snapshot.getNodeCount());
+		assertEquals(this.network.getSegmentCount(), this.snapshot.getSegmentCount());
+		int edgeCount = 0;
+		for (int segment = 0; segment < this.snapshot.getSegmentCount(); ++segment) {
+			final RoadSegment roadSegment = this.snapshot.getRoadSegment(segment);
+			assertEquals(segment, this.snapshot.getSegmentIndex(roadSegment));
+			assertSame(roadSegment.getBeginPoint().getWrappedRoadConnection(),
+					this.snapshot.getRoadConnection(this.snapshot.getSegmentBegin(segment)));
+			assertSame(roadSegment.getEndPoint().getWrappedRoadConnection(),
+					this.snapshot.getRoadConnection(this.snapshot.getSegmentEnd(segment)));
+			assertEpsilonEquals(roadSegment.getLength(), this.snapshot.getSegmentLength(segment));
+			assertSame(roadSegment.getTrafficDirection(), this.snapshot.getTrafficDirection(segment));
+			assertSame(roadSegment.getRoadType(), this.snapshot.getRoadType(segment));
+			if (roadSegment.isTraversableFrom(roadSegment.getBeginPoint())) {
+				++edgeCount;
+			}
+			if (roadSegment.isTraversableFrom(roadSegment.getEndPoint())) {
+				++edgeCount;
+			}
+		}
+		assertEquals(edgeCount, this.snapshot.getEdgeCount());
+		for (int node = 0; node < this.snapshot.getNodeCount(); ++node) {
+			final RoadConnection connection = this.snapshot.getRoadConnection(node);
+			assertEquals(node, this.snapshot.getNodeIndex(connection));
+			for (int edge = this.snapshot.getFirstEdge(node); edge < this.snapshot.getLastEdge(node); ++edge) {
+				final RoadSegment segment = this.snapshot.getRoadSegment(this.snapshot.getEdgeSegment(edge));
+				assertTrue(segment.isTraversableFrom(connection));
+				assertSame(segment.getOtherSidePoint(connection).getWrappedRoadConnection(),
+						this.snapshot.getRoadConnection(this.snapshot.getEdgeTarget(edge)));
+			}
+		}
+	}
+
+	@Test
+	public void computeConnectedComponents() {
+		final int[] components = new int[this.snapshot.getNodeCount()];
+		assertEquals(2, this.snapshot.computeConnectedComponents(components));
+		final RoadSegment isolated = this.network.getRoadSegments().stream()
+				.filter(it -> it.getRoadType() == RoadType.FREEWAY).findFirst().get();
+		final int isolatedComponent = components[this.snapshot.getNodeIndex(isolated.getBeginPoint())];
+		assertEquals(isolatedComponent, components[this.snapshot.getNodeIndex(isolated.getEndPoint())]);
+		int count = 0;
+		for (final int component : components) {
+			if (component == isolatedComponent) {
+				++count;
+			}
+		}
+		assertEquals(2, count);
+	}
+
+	@Test
+	public void computeShortestPaths() {
+		final RoadNetworkSnapshotSearch search = new RoadNetworkSnapshotSearch(this.snapshot);
+		final int[] path = new int[this.snapshot.getSegmentCount()];
+		for (int source = 0; source < this.snapshot.getNodeCount(); ++source) {
+			final RoadConnection start = this.snapshot.getRoadConnection(source);
+			final Map<RoadConnection, Double> expected = dijkstra(start);
+			assertEquals(expected.size(), search.computeShortestPaths(source));
+			for (int target = 0; target < this.snapshot.getNodeCount(); ++target) {
+				final Double distance = expected.get(this.snapshot.getRoadConnection(target));
+				if (distance == null) {
+					assertEquals(Double.POSITIVE_INFINITY, search.getDistance(target));
+					assertEquals(-1, search.getPath(target, path));
+				} else {
+					assertEpsilonEquals(distance, search.getDistance(target));
+					final int count = search.getPath(target, path);
+					RoadConnection point = start;
+					double length = 0;
+					for (int i = 0; i < count; ++i) {
+						final RoadSegment segment = this.snapshot.getRoadSegment(path[i]);
+						assertTrue(segment.isTraversableFrom(point));
+						point = segment.getOtherSidePoint(point).getWrappedRoadConnection();
+						length += segment.getLength();
+					}
+					assertSame(this.snapshot.getRoadConnection(target), point);
+					assertEpsilonEquals(distance, length);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void computeShortestPath() {
+		final RoadNetworkSnapshotSearch search = new RoadNetworkSnapshotSearch(this.snapshot);
+		for (int source = 0; source < this.snapshot.getNodeCount(); ++source) {
+			final Map<RoadConnection, Double> expected = dijkstra(this.snapshot.getRoadConnection(source));
+			for (int target = 0; target < this.snapshot.getNodeCount(); ++target) {
+				final Double distance = expected.get(this.snapshot.getRoadConnection(target));
+				final double actual = search.computeShortestPath(source, target);
+				if (distance == null) {
+					assertEquals(Double.POSITIVE_INFINITY, actual);
+				} else {
+					assertEpsilonEquals(distance, actual);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void computeIsochrone() {
+		final RoadNetworkSnapshotSearch search = new RoadNetworkSnapshotSearch(this.snapshot);
+		final int[] nodes = new int[this.snapshot.getNodeCount()];
+		final double maxCost = 250;
+		for (int source = 0; source < this.snapshot.getNodeCount(); ++source) {
+			final Map<RoadConnection, Double> expected = dijkstra(this.snapshot.getRoadConnection(source));
+			final int count = search.computeIsochrone(source, maxCost, nodes);
+			final Set<RoadConnection> actual = new HashSet<>();
+			double previous = 0;
+			for (int i = 0; i < count; ++i) {
+				final double distance = search.getDistance(nodes[i]);
+				assertTrue(distance <= maxCost);
+				assertTrue(distance >= previous);
+				previous = distance;
+				actual.add(this.snapshot.getRoadConnection(nodes[i]));
+			}
+			for (final Entry<RoadConnection, Double> entry : expected.entrySet()) {
+				assertEquals(entry.getValue() <= maxCost, actual.contains(entry.getKey()));
+			}
+		}
+	}
+
+	@Test
+	public void computeReachableNodes() {
+		final RoadNetworkSnapshotSearch search = new RoadNetworkSnapshotSearch(this.snapshot);
+		final int[] nodes = new int[this.snapshot.getNodeCount()];
+		for (int source = 0; source < this.snapshot.getNodeCount(); ++source) {
+			final Map<RoadConnection, Double> expected = dijkstra(this.snapshot.getRoadConnection(source));
+			final int count = search.computeReachableNodes(source, nodes);
+			assertEquals(expected.size(), count);
+			assertEquals(source, nodes[0]);
+			assertEquals(-1, search.getPredecessorEdge(source));
+			for (int i = 0; i < count; ++i) {
+				assertTrue(expected.containsKey(this.snapshot.getRoadConnection(nodes[i])));
+				if (i > 0) {
+					assertNotEquals(-1, search.getPredecessorEdge(nodes[i]));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void getNodeIndex_unknown() {
+		final RoadSegmentStub segment = new RoadSegmentStub("unknown", 0, 0, 10, 10);
+		assertEquals(-1, this.snapshot.getNodeIndex(segment.getBeginPoint()));
+		assertEquals(-1, this.snapshot.getSegmentIndex(segment));
+		assertEquals(-1, this.snapshot.getNodeIndex(null));
+		assertFalse(this.snapshot.getSegmentIndex(null) >= 0);
+	}
+
+}
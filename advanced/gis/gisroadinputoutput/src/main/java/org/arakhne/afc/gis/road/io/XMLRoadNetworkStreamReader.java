@@ -0,0 +1,216 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.gis.road.io;
+
+import static org.arakhne.afc.gis.io.xml.XMLGISElementUtil.NODE_ELEMENTS;
+import static org.arakhne.afc.gis.road.io.XMLRoadUtil.NODE_ROAD;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+import org.w3c.dom.Element;
+
+import org.arakhne.afc.gis.road.RoadPolyline;
+import org.arakhne.afc.gis.road.StandardRoadNetwork;
+import org.arakhne.afc.gis.road.primitive.RoadNetworkException;
+import org.arakhne.afc.inputoutput.path.PathBuilder;
+import org.arakhne.afc.inputoutput.xml.XMLBuilder;
+import org.arakhne.afc.inputoutput.xml.XMLResources;
+import org.arakhne.afc.inputoutput.xml.XMLUtil;
+import org.arakhne.afc.progress.Progression;
+import org.arakhne.afc.progress.ProgressionInputStream;
+
+/** Reader of a road network from an XML stream.
+ *
+ * <p>This reader supports the same XML representation as {@link XMLRoadUtil#readRoadNetwork(Element,
+ * PathBuilder, XMLResources)}: the root element of the XML document is the road network node.
+ * In opposite to the DOM-based function, the XML document is never entirely loaded in memory.
+ * The road network is created as soon as its root tag is read, and each road is added into the
+ * network as soon as its XML description is read. Only the XML description of one road is
+ * in memory at a time.
+ *
+ * <p>When a task progression is given, it is based on the number of bytes that are read from the
+ * input stream.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ * @see XMLRoadNetworkStreamWriter
+ */
+public class XMLRoadNetworkStreamReader implements AutoCloseable {
+
+	private final InputStream input;
+
+	private final PathBuilder pathBuilder;
+
+	private final XMLResources resources;
+
+	private Progression progression;
+
+	/** Constructor.
+	 *
+	 * @param filename is the file to read.
+	 * @param pathBuilder is the tool to make paths absolute.
+	 * @param resources is the tool that permits to gather the resources.
+	 * @throws IOException in case of error.
+	 */
+	@SuppressWarnings("resource")
+	public XMLRoadNetworkStreamReader(File filename, PathBuilder pathBuilder, XMLResources resources) throws IOException {
+		this(new FileInputStream(filename), pathBuilder, resources);
+	}
+
+	/** Constructor.
+	 *
+	 * @param url is the URL of the file to read.
+	 * @param pathBuilder is the tool to make paths absolute.
+	 * @param resources is the tool that permits to gather the resources.
+	 * @throws IOException in case of error.
+	 */
+	public XMLRoadNetworkStreamReader(URL url, PathBuilder pathBuilder, XMLResources resources) throws IOException {
+		this(url.openStream(), pathBuilder, resources);
+	}
+
+	/** Constructor.
+	 *
+	 * @param stream is the stream to read.
+	 * @param pathBuilder is the tool to make paths absolute.
+	 * @param resources is the tool that permits to gather the resources.
+	 */
+	public XMLRoadNetworkStreamReader(InputStream stream, PathBuilder pathBuilder, XMLResources resources) {
+		assert stream != null;
+		this.input = stream;
+		this.pathBuilder = pathBuilder;
+		this.resources = resources;
+	}
+
+	/** Replies the task progression.
+	 *
+	 * @return the task progression object associated to this reader, or <code>null</code>
+	 */
+	@Pure
+	public Progression getProgression() {
+		return this.progression;
+	}
+
+	/** Set the task progression associated to this reader.
+	 *
+	 * @param progressBar is the task progression object associated to this reader, or <code>null</code>
+	 */
+	public void setProgression(Progression progressBar) {
+		this.progression = progressBar;
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.input.close();
+	}
+
+	/** Read the road network from the XML stream.
+	 *
+	 * @return the road network.
+	 * @throws IOException in case of error.
+	 */
+	@SuppressWarnings("resource")
+	public StandardRoadNetwork read() throws IOException {
+		final InputStream stream;
+		if (this.progression != null) {
+			stream = new ProgressionInputStream(this.input, this.progression);
+		} else {
+			stream = this.input;
+		}
+		try {
+			final XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(stream);
+			try {
+				return read(reader, XMLUtil.newXMLBuilder(), this.pathBuilder, this.resources);
+			} finally {
+				reader.close();
+			}
+		} catch (XMLStreamException exception) {
+			throw new IOException(exception);
+		} finally {
+			if (this.progression != null) {
+				this.progression.end();
+			}
+		}
+	}
+
+	/** Read the road network from the given XML stream. The stream must be positioned
+	 * before the start tag of the road network node.
+	 * When this function returns, the stream is positioned on the end tag of the road
+	 * network node.
+	 *
+	 * @param reader is the XML stream.
+	 * @param builder is the tool to create the XML nodes.
+	 * @param pathBuilder is the tool to make paths absolute.
+	 * @param resources is the tool that permits to gather the resources.
+	 * @return the road network.
+	 * @throws IOException in case of error.
+	 * @throws XMLStreamException in case of error.
+	 */
+	private static StandardRoadNetwork read(XMLStreamReader reader, XMLBuilder builder, PathBuilder pathBuilder,
+			XMLResources resources) throws IOException, XMLStreamException {
+		if (reader.nextTag() != XMLStreamConstants.START_ELEMENT) {
+			throw new IOException("road network node not found"); //$NON-NLS-1$
+		}
+
+		// The root tag contains the bounds and the references to the Shape and dBase files.
+		final Element networkNode = builder.createElement(reader.getLocalName());
+		for (int i = 0; i < reader.getAttributeCount(); ++i) {
+			networkNode.setAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+		}
+		final StandardRoadNetwork network = XMLRoadUtil.readRoadNetwork(networkNode, pathBuilder, resources);
+
+		while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+			if (NODE_ELEMENTS.equals(reader.getLocalName())) {
+				while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+					final Element roadNode = XMLUtil.readXMLElement(reader, builder);
+					if (NODE_ROAD.equals(roadNode.getNodeName())) {
+						final RoadPolyline road = XMLRoadUtil.readRoadPolyline(roadNode, pathBuilder, resources);
+						if (road != null) {
+							try {
+								network.addRoadSegment(road);
+							} catch (RoadNetworkException exception) {
+								//
+							}
+						}
+					}
+				}
+			} else {
+				// Unsupported node
+				XMLUtil.readXMLElement(reader, builder);
+			}
+		}
+
+		return network;
+	}
+
+}
@@ -0,0 +1,217 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.gis.road.io;
+
+import static org.arakhne.afc.gis.io.xml.XMLGISElementUtil.ATTR_WIDTH;
+import static org.arakhne.afc.gis.io.xml.XMLGISElementUtil.ATTR_X;
+import static org.arakhne.afc.gis.io.xml.XMLGISElementUtil.ATTR_Y;
+import static org.arakhne.afc.gis.io.xml.XMLGISElementUtil.NODE_ELEMENTS;
+import static org.arakhne.afc.gis.road.io.XMLRoadUtil.ATTR_HEIGHT;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+import org.w3c.dom.Element;
+
+import org.arakhne.afc.gis.coordinate.MapMetricProjection;
+import org.arakhne.afc.gis.maplayer.MapElementLayer;
+import org.arakhne.afc.gis.road.primitive.RoadNetwork;
+import org.arakhne.afc.gis.road.primitive.RoadSegment;
+import org.arakhne.afc.inputoutput.mime.MimeName;
+import org.arakhne.afc.inputoutput.xml.XMLBuilder;
+import org.arakhne.afc.inputoutput.xml.XMLResources;
+import org.arakhne.afc.inputoutput.xml.XMLUtil;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
+import org.arakhne.afc.progress.Progression;
+
+/** Writer of a road network into an XML stream.
+ *
+ * <p>This writer outputs the same XML representation as {@link XMLRoadUtil#writeRoadNetwork(Element,
+ * RoadNetwork, URL, MapMetricProjection, URL, XMLBuilder, org.arakhne.afc.inputoutput.path.PathBuilder,
+ * XMLResources)}, with the road network node as the root element of the XML document.
+ * In opposite to the DOM-based function, the XML document is never entirely built in memory.
+ * Each road is written into the stream as soon as its XML description is built.
+ *
+ * <p>When a task progression is given, it is based on the number of roads that are written.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ * @see XMLRoadNetworkStreamReader
+ */
+public class XMLRoadNetworkStreamWriter implements AutoCloseable {
+
+	/** <code>&lt;network /&gt;</code>. */
+	public static final String NODE_NETWORK = "network"; //$NON-NLS-1$
+
+	private static final String ENCODING = "UTF-8"; //$NON-NLS-1$
+
+	private static final String VERSION = "1.0"; //$NON-NLS-1$
+
+	private final OutputStream output;
+
+	private final XMLResources resources;
+
+	private Progression progression;
+
+	/** Constructor.
+	 *
+	 * @param filename is the file to write.
+	 * @param resources is the tool that permits to gather the resources.
+	 * @throws IOException in case of error.
+	 */
+	@SuppressWarnings("resource")
+	public XMLRoadNetworkStreamWriter(File filename, XMLResources resources) throws IOException {
+		this(new FileOutputStream(filename), resources);
+	}
+
+	/** Constructor.
+	 *
+	 * @param stream is the stream to write.
+	 * @param resources is the tool that permits to gather the resources.
+	 */
+	public XMLRoadNetworkStreamWriter(OutputStream stream, XMLResources resources) {
+		assert stream != null;
+		this.output = stream;
+		this.resources = resources;
+	}
+
+	/** Replies the task progression.
+	 *
+	 * @return the task progression object associated to this writer, or <code>null</code>
+	 */
+	@Pure
+	public Progression getProgression() {
+		return this.progression;
+	}
+
+	/** Set the task progression associated to this writer.
+	 *
+	 * @param progressBar is the task progression object associated to this writer, or <code>null</code>
+	 */
+	public void setProgression(Progression progressBar) {
+		this.progression = progressBar;
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.output.close();
+	}
+
+	/** Write the given road network as the XML document of the stream.
+	 * The roads are written in the XML document.
+	 *
+	 * @param network is the road network to write.
+	 * @throws IOException in case of error.
+	 */
+	public void write(RoadNetwork network) throws IOException {
+		write(network, null, null, null);
+	}
+
+	/** Write the given road network as the XML document of the stream.
+	 *
+	 * @param network is the road network to write.
+	 * @param geometryURL is the URL of the file that contains the geometry of the roads.
+	 *     If <code>null</code>, the roads will be directly written in the XML document.
+	 * @param mapProjection is the map projection to use to write the geometry shapes.
+	 * @param attributeURL is the URL of the file that contains the attributes of the roads.
+	 *     This parameter is used only if <var>geometryURL</var> is not <code>null</code>.
+	 * @throws IOException in case of error.
+	 */
+	public void write(RoadNetwork network, URL geometryURL, MapMetricProjection mapProjection,
+			URL attributeURL) throws IOException {
+		try {
+			final XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(this.output, ENCODING);
+			writer.writeStartDocument(ENCODING, VERSION);
+			writer.writeStartElement(NODE_NETWORK);
+
+			final Rectangle2d bounds = network.getBoundingBox();
+			if (bounds != null) {
+				writer.writeAttribute(ATTR_X, Double.toString(bounds.getMinX()));
+				writer.writeAttribute(ATTR_Y, Double.toString(bounds.getMinY()));
+				writer.writeAttribute(ATTR_WIDTH, Double.toString(bounds.getWidth()));
+				writer.writeAttribute(ATTR_HEIGHT, Double.toString(bounds.getHeight()));
+			}
+
+			if (geometryURL != null) {
+				writer.writeAttribute(MapElementLayer.ATTR_ELEMENT_GEOMETRY_URL,
+						this.resources.add(geometryURL, MimeName.MIME_SHAPE_FILE.getMimeConstant()));
+			}
+			final MapMetricProjection projection = mapProjection == null ? MapMetricProjection.getDefault() : mapProjection;
+			writer.writeAttribute(MapElementLayer.ATTR_ELEMENT_GEOMETRY_PROJECTION, projection.name());
+
+			if (geometryURL != null) {
+				if (attributeURL != null) {
+					writer.writeAttribute(MapElementLayer.ATTR_ELEMENT_ATTRIBUTES_URL,
+							this.resources.add(attributeURL, MimeName.MIME_DBASE_FILE.getMimeConstant()));
+				}
+			} else {
+				writeRoads(writer, network);
+			}
+
+			writer.writeEndElement();
+			writer.writeEndDocument();
+			writer.close();
+			this.output.flush();
+		} catch (XMLStreamException exception) {
+			throw new IOException(exception);
+		} finally {
+			if (this.progression != null) {
+				this.progression.end();
+			}
+		}
+	}
+
+	private void writeRoads(XMLStreamWriter writer, RoadNetwork network) throws IOException, XMLStreamException {
+		if (this.progression != null) {
+			this.progression.setProperties(0, 0, network.getSegmentCount(), false);
+		}
+		final XMLBuilder builder = XMLUtil.newXMLBuilder();
+		boolean hasElements = false;
+		for (final RoadSegment road : network.getRoadSegments()) {
+			final Element roadNode = XMLRoadUtil.writeRoadSegment(road, builder, this.resources);
+			if (roadNode != null) {
+				if (!hasElements) {
+					writer.writeStartElement(NODE_ELEMENTS);
+					hasElements = true;
+				}
+				XMLUtil.writeXML(roadNode, writer);
+			}
+			if (this.progression != null) {
+				this.progression.increment();
+			}
+		}
+		if (hasElements) {
+			writer.writeEndElement();
+		}
+	}
+
+}
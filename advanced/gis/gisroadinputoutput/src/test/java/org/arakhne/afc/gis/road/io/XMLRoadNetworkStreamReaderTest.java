@@ -0,0 +1,136 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.gis.road.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URL;
+import java.util.Iterator;
+
+import com.google.common.io.Resources;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import org.arakhne.afc.gis.road.RoadPolyline;
+import org.arakhne.afc.gis.road.StandardRoadNetwork;
+import org.arakhne.afc.gis.road.primitive.RoadSegment;
+import org.arakhne.afc.inputoutput.path.PathBuilder;
+import org.arakhne.afc.inputoutput.path.SimplePathBuilder;
+import org.arakhne.afc.inputoutput.xml.XMLBuilder;
+import org.arakhne.afc.inputoutput.xml.XMLResources;
+import org.arakhne.afc.inputoutput.xml.XMLUtil;
+import org.arakhne.afc.math.geometry.d2.d.Point2d;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
+import org.arakhne.afc.progress.DefaultProgression;
+import org.arakhne.afc.testtools.AbstractTestCase;
+import org.arakhne.afc.vmutil.ColorNames;
+
+@SuppressWarnings("all")
+public class XMLRoadNetworkStreamReaderTest extends AbstractTestCase {
+
+	private void assertPoints(RoadSegment segment, double... coordinates) {
+		Iterator<Point2d> pts = segment.pointIterator();
+		for (int i = 0; i < coordinates.length; i += 2) {
+			assertTrue(pts.hasNext());
+			Point2d p = pts.next();
+			assertEpsilonEquals(coordinates[i], p.getX());
+			assertEpsilonEquals(coordinates[i + 1], p.getY());
+		}
+		assertFalse(pts.hasNext());
+	}
+
+	@Test
+	public void read() throws Exception {
+		URL xmlFile = Resources.getResource(XMLRoadNetworkStreamReaderTest.class, "network.xml"); //$NON-NLS-1$
+		PathBuilder pathBuilder = new SimplePathBuilder();
+		XMLResources res = new XMLResources(pathBuilder);
+		StandardRoadNetwork network;
+		try (XMLRoadNetworkStreamReader reader = new XMLRoadNetworkStreamReader(xmlFile, pathBuilder, res)) {
+			network = reader.read();
+		}
+
+		assertEquals(2, network.getSegmentCount());
+		Iterator<? extends RoadSegment> segmentIterator = network.getRoadSegments().iterator();
+
+		RoadSegment polyline = segmentIterator.next();
+		assertPoints(polyline, 1, 2, -3, 4, 5, -6);
+		assertEquals("name1", polyline.getName()); //$NON-NLS-1$
+		assertEquals(ColorNames.getColorFromName("orange").intValue(), polyline.getAttribute("color", 0xFFFFFF)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("Text", polyline.getAttribute("attr1", (String) null)); //$NON-NLS-1$ //$NON-NLS-2$
+
+		polyline = segmentIterator.next();
+		assertPoints(polyline, 1, 2, -1, -2, 1, -2);
+		assertEquals("name2", polyline.getName()); //$NON-NLS-1$
+		assertEquals(ColorNames.getColorFromName("red").intValue(), polyline.getAttribute("color", 0xFFFFFF)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("Text2", polyline.getAttribute("attr2", (String) null)); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void read_domOutput() throws Exception {
+		StandardRoadNetwork expected = new StandardRoadNetwork(new Rectangle2d(-10, -10, 20, 20));
+		RoadPolyline road1 = new RoadPolyline();
+		road1.addPoint(1, 2);
+		road1.addPoint(3, 4);
+		road1.setName("road1"); //$NON-NLS-1$
+		expected.addRoadSegment(road1);
+		RoadPolyline road2 = new RoadPolyline();
+		road2.addPoint(3, 4);
+		road2.addPoint(-5, 6);
+		road2.addPoint(-7, -8);
+		road2.setName("road2"); //$NON-NLS-1$
+		expected.addRoadSegment(road2);
+
+		PathBuilder pathBuilder = new SimplePathBuilder();
+		XMLResources res = new XMLResources(pathBuilder);
+		XMLBuilder xmlBuilder = XMLUtil.newXMLBuilder();
+		Document doc = xmlBuilder.getDocument();
+		Element root = xmlBuilder.createElement("network"); //$NON-NLS-1$
+		doc.appendChild(root);
+		XMLRoadUtil.writeRoadNetwork(root, expected, null, null, null, xmlBuilder, pathBuilder, res);
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		XMLUtil.writeXML(doc, baos);
+
+		DefaultProgression progression = new DefaultProgression();
+		StandardRoadNetwork network;
+		try (XMLRoadNetworkStreamReader reader = new XMLRoadNetworkStreamReader(
+				new ByteArrayInputStream(baos.toByteArray()), pathBuilder, res)) {
+			reader.setProgression(progression);
+			network = reader.read();
+		}
+
+		assertEquals(expected.getBoundingBox(), network.getBoundingBox());
+		assertEquals(2, network.getSegmentCount());
+		RoadSegment segment = network.getRoadSegment(road1.getGeoId());
+		assertEquals("road1", segment.getName()); //$NON-NLS-1$
+		assertEquals(road1.getUUID(), segment.getUUID());
+		assertPoints(segment, 1, 2, 3, 4);
+		segment = network.getRoadSegment(road2.getGeoId());
+		assertEquals("road2", segment.getName()); //$NON-NLS-1$
+		assertPoints(segment, 3, 4, -5, 6, -7, -8);
+		assertEquals(progression.getMaximum(), progression.getValue());
+	}
+
+}
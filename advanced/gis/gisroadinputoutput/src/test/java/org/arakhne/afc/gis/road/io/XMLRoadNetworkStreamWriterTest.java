@@ -0,0 +1,132 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.gis.road.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Iterator;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+
+import org.arakhne.afc.gis.road.RoadPolyline;
+import org.arakhne.afc.gis.road.StandardRoadNetwork;
+import org.arakhne.afc.gis.road.primitive.RoadSegment;
+import org.arakhne.afc.inputoutput.path.PathBuilder;
+import org.arakhne.afc.inputoutput.path.SimplePathBuilder;
+import org.arakhne.afc.inputoutput.xml.XMLResources;
+import org.arakhne.afc.inputoutput.xml.XMLUtil;
+import org.arakhne.afc.math.geometry.d2.d.Point2d;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
+import org.arakhne.afc.progress.DefaultProgression;
+import org.arakhne.afc.testtools.AbstractTestCase;
+
+@SuppressWarnings("all")
+public class XMLRoadNetworkStreamWriterTest extends AbstractTestCase {
+
+	private void assertPoints(RoadSegment segment, double... coordinates) {
+		Iterator<Point2d> pts = segment.pointIterator();
+		for (int i = 0; i < coordinates.length; i += 2) {
+			assertTrue(pts.hasNext());
+			Point2d p = pts.next();
+			assertEpsilonEquals(coordinates[i], p.getX());
+			assertEpsilonEquals(coordinates[i + 1], p.getY());
+		}
+		assertFalse(pts.hasNext());
+	}
+
+	private StandardRoadNetwork createNetwork() throws Exception {
+		StandardRoadNetwork network = new StandardRoadNetwork(new Rectangle2d(-10, -10, 20, 20));
+		RoadPolyline road1 = new RoadPolyline();
+		road1.addPoint(1, 2);
+		road1.addPoint(3, 4);
+		road1.setName("road1"); //$NON-NLS-1$
+		road1.setAttribute("myattr", "thevalue"); //$NON-NLS-1$ //$NON-NLS-2$
+		network.addRoadSegment(road1);
+		RoadPolyline road2 = new RoadPolyline();
+		road2.addPoint(3, 4);
+		road2.addPoint(-5, 6);
+		road2.addPoint(-7, -8);
+		road2.setName("road2"); //$NON-NLS-1$
+		network.addRoadSegment(road2);
+		return network;
+	}
+
+	@Test
+	public void write_domInput() throws Exception {
+		StandardRoadNetwork expected = createNetwork();
+		PathBuilder pathBuilder = new SimplePathBuilder();
+		XMLResources res = new XMLResources(pathBuilder);
+		DefaultProgression progression = new DefaultProgression();
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (XMLRoadNetworkStreamWriter writer = new XMLRoadNetworkStreamWriter(baos, res)) {
+			writer.setProgression(progression);
+			writer.write(expected);
+		}
+		assertEquals(2, progression.getMaximum());
+		assertEquals(2, progression.getValue());
+
+		Document doc = XMLUtil.readXML(new ByteArrayInputStream(baos.toByteArray()));
+		StandardRoadNetwork network = XMLRoadUtil.readRoadNetwork(doc.getDocumentElement(), pathBuilder, res);
+
+		assertEquals(expected.getBoundingBox(), network.getBoundingBox());
+		assertEquals(2, network.getSegmentCount());
+		for (RoadSegment expectedSegment : expected.getRoadSegments()) {
+			RoadSegment segment = network.getRoadSegment(expectedSegment.getGeoId());
+			assertEquals(expectedSegment.getUUID(), segment.getUUID());
+			assertEquals(expectedSegment.getName(), segment.getName());
+			assertEquals(expectedSegment.getPointCount(), segment.getPointCount());
+		}
+		RoadSegment segment = network.getRoadSegment(expected.getRoadSegments().iterator().next().getGeoId());
+		assertEquals("thevalue", segment.getAttribute("myattr", (String) null)); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void write_streamInput() throws Exception {
+		StandardRoadNetwork expected = createNetwork();
+		PathBuilder pathBuilder = new SimplePathBuilder();
+		XMLResources res = new XMLResources(pathBuilder);
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (XMLRoadNetworkStreamWriter writer = new XMLRoadNetworkStreamWriter(baos, res)) {
+			writer.write(expected);
+		}
+
+		StandardRoadNetwork network;
+		try (XMLRoadNetworkStreamReader reader = new XMLRoadNetworkStreamReader(
+				new ByteArrayInputStream(baos.toByteArray()), pathBuilder, res)) {
+			network = reader.read();
+		}
+
+		assertEquals(2, network.getSegmentCount());
+		Iterator<? extends RoadSegment> iterator = expected.getRoadSegments().iterator();
+		RoadSegment segment = network.getRoadSegment(iterator.next().getGeoId());
+		assertEquals("road1", segment.getName()); //$NON-NLS-1$
+		assertPoints(segment, 1, 2, 3, 4);
+		segment = network.getRoadSegment(iterator.next().getGeoId());
+		assertEquals("road2", segment.getName()); //$NON-NLS-1$
+		assertPoints(segment, 3, 4, -5, 6, -7, -8);
+	}
+
+}
@@ -38,6 +38,8 @@ import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.nio.channels.ReadableByteChannel;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
@@ -53,6 +55,11 @@ import org.arakhne.afc.progress.Progression;
  * <p>To have a lower memory foot-print, call {@link #disableSeek()}. Indeed,
  * the seek feature forces this reader to maintain a buffer of all the file content.
  *
+ * <p>When the reader is reading from a {@link FileChannel}, the memory mapping of the
+ * file may be enabled with {@link #enableMemoryMapping()}. In this mode, the file content
+ * is never copied into the heap: the records are read from windows of the file that are mapped
+ * into memory, and the seek feature does not need a buffer of all the file content.
+ *
  * <p>The specification of the ESRI Shape file format is described in
  * <a href="./doc-files/esri_specs_0798.pdf">the July 98 specification document</a>.
  *
@@ -71,6 +78,13 @@ public abstract class AbstractCommonShapeFileReader<E> implements Iterable<E>, A
 	 */
 	protected static final int BLOCK_SIZE = 512;
 
+	/** Default size of the windows of the file that are mapped into memory, when the
+	 * memory mapping is enabled.
+	 *
+	 * @since 18.0
+	 */
+	protected static final int DEFAULT_MAPPING_WINDOW_SIZE = 64 * 1024 * 1024;
+
 	/** Size in bytes of the input stream.
 	 */
 	protected int fileSize;
@@ -113,7 +127,15 @@ public abstract class AbstractCommonShapeFileReader<E> implements Iterable<E>, A
 
 	/** Position of the first byte in the buffer.
 	 */
-	private int bufferPosition;
+	private long bufferPosition;
+
+	/** Size of the memory-mapped windows, or zero if the memory mapping is disabled.
+	 */
+	private int mappingWindowSize;
+
+	/** Size of the file in bytes, when the memory mapping is enabled.
+	 */
+	private long mappedFileSize;
 
 	/** Indicates if seek is enable.
 	 */
@@ -162,7 +184,7 @@ public abstract class AbstractCommonShapeFileReader<E> implements Iterable<E>, A
 	 */
 	@SuppressWarnings("resource")
 	public AbstractCommonShapeFileReader(File file) throws IOException {
-		this(Channels.newChannel(new FileInputStream(file)));
+		this(new FileInputStream(file).getChannel());
 	}
 
 	/** Constructor.
@@ -236,7 +258,7 @@ public abstract class AbstractCommonShapeFileReader<E> implements Iterable<E>, A
 	 */
 	public int getFileReadingPosition() throws IOException {
 		readHeader();
-		return this.buffer.position() + this.bufferPosition;
+		return (int) (this.buffer.position() + this.bufferPosition);
 	}
 
 	/** Replies the bounds read from the shape file header.
@@ -346,7 +368,7 @@ public abstract class AbstractCommonShapeFileReader<E> implements Iterable<E>, A
 			initializeContentBuffer();
 
 			if (this.taskProgression != null) {
-				this.taskProgression.setProperties(this.buffer.position() + HEADER_BYTES, 0, this.fileSize, false);
+				this.taskProgression.setProperties((int) (this.buffer.position() + this.bufferPosition), 0, this.fileSize, false);
 				this.taskProgression.setIndeterminate(false);
 			}
 		}
@@ -357,7 +379,11 @@ public abstract class AbstractCommonShapeFileReader<E> implements Iterable<E>, A
 	 * @throws IOException in case of error.
 	 */
 	private void initializeContentBuffer() throws IOException {
-		if (this.seekEnabled) {
+		if (this.mappingWindowSize > 0) {
+			// The file size is unsigned for supporting the files up to 4 GB.
+			this.mappedFileSize = Math.min(Integer.toUnsignedLong(this.fileSize), ((FileChannel) this.stream).size());
+			mapWindow(HEADER_BYTES, 0);
+		} else if (this.seekEnabled) {
 			this.buffer = ByteBuffer.allocate(this.fileSize - HEADER_BYTES);
 			final int read = this.stream.read(this.buffer);
 			if (read < 0) {
@@ -378,10 +404,76 @@ public abstract class AbstractCommonShapeFileReader<E> implements Iterable<E>, A
 		}
 	}
 
+	/** Map into memory the window of the file that is starting at the given position.
+	 *
+	 * @param start is the position of the first byte of the window in the file.
+	 * @param minSize is the minimal size of the window.
+	 * @throws IOException in case of error.
+	 */
+	private void mapWindow(long start, int minSize) throws IOException {
+		final long size = Math.min(Math.max(this.mappingWindowSize, minSize), this.mappedFileSize - start);
+		if (size <= 0) {
+			throw new EOFException();
+		}
+		this.buffer = ((FileChannel) this.stream).map(MapMode.READ_ONLY, start, size);
+		this.bufferPosition = start;
+	}
+
+	/** Enable the memory mapping of the file content. The file is mapped into memory by
+	 * windows of {@link #DEFAULT_MAPPING_WINDOW_SIZE} bytes.
+	 * This function should be invoked before any invocation (directly
+	 * or indirectly) to {@link #readHeader()}.
+	 *
+	 * @return <code>true</code> if the memory mapping is enabled; <code>false</code> if the
+	 *     reader is not reading from a {@link FileChannel}, or if the header was already read.
+	 * @throws IOException in case of error.
+	 * @since 18.0
+	 * @see #enableMemoryMapping(int)
+	 */
+	public boolean enableMemoryMapping() throws IOException {
+		return enableMemoryMapping(DEFAULT_MAPPING_WINDOW_SIZE);
+	}
+
+	/** Enable the memory mapping of the file content. The file is mapped into memory by
+	 * windows of the given size. Files that are larger than the window size,
+	 * including files larger than 2 GB, are read through several windows.
+	 * This function should be invoked before any invocation (directly
+	 * or indirectly) to {@link #readHeader()}.
+	 *
+	 * @param windowSize is the size in bytes of the windows that are mapped into memory.
+	 * @return <code>true</code> if the memory mapping is enabled; <code>false</code> if the
+	 *     reader is not reading from a {@link FileChannel}, or if the header was already read.
+	 * @throws IOException in case of error.
+	 * @since 18.0
+	 * @see #enableMemoryMapping()
+	 */
+	public boolean enableMemoryMapping(int windowSize) throws IOException {
+		assert windowSize > 0;
+		if (!this.headerWasread && this.stream instanceof FileChannel) {
+			this.mappingWindowSize = windowSize;
+			return true;
+		}
+		return false;
+	}
+
+	/** Replies if the file content is mapped into memory.
+	 *
+	 * @return <code>true</code> if the memory mapping is enabled,
+	 *     otherwise <code>false</code>
+	 * @since 18.0
+	 */
+	@Pure
+	public boolean isMemoryMappingEnabled() {
+		return this.mappingWindowSize > 0;
+	}
+
 	/** Disable the seek feature to have lower memory foot-print.
 	 * This function should be print before any invocation (directly
 	 * or indirectly) to {@link #readHeader()}.
 	 *
+	 * <p>When the memory mapping is enabled, the seek feature has no
+	 * additional memory cost.
+	 *
 	 * @throws IOException in case of error.
 	 */
 	public void disableSeek() throws IOException {
@@ -445,7 +537,7 @@ public abstract class AbstractCommonShapeFileReader<E> implements Iterable<E>, A
 			return element;
 		} finally {
 			if (this.taskProgression != null) {
-				this.taskProgression.setValue(this.buffer.position() + HEADER_BYTES);
+				this.taskProgression.setValue((int) (this.buffer.position() + this.bufferPosition));
 			}
 			if (!status) {
 				close();
@@ -614,7 +706,17 @@ public abstract class AbstractCommonShapeFileReader<E> implements Iterable<E>, A
 	protected void setReadingPosition(int recordIndex, int byteIndex) throws IOException {
 		if (this.seekEnabled) {
 			this.nextExpectedRecordIndex = recordIndex;
-			this.buffer.position(byteIndex);
+			if (this.mappingWindowSize > 0) {
+				// The byte index is unsigned for supporting the files up to 4 GB.
+				final long position = HEADER_BYTES + Integer.toUnsignedLong(byteIndex);
+				if (position >= this.bufferPosition && position <= this.bufferPosition + this.buffer.limit()) {
+					this.buffer.position((int) (position - this.bufferPosition));
+				} else {
+					mapWindow(position, 0);
+				}
+			} else {
+				this.buffer.position(byteIndex);
+			}
 		} else {
 			throw new SeekOperationDisabledException();
 		}
@@ -626,7 +728,11 @@ public abstract class AbstractCommonShapeFileReader<E> implements Iterable<E>, A
 	 * @throws IOException in case of error.
 	 */
 	protected void ensureAvailableBytes(int amount) throws IOException {
-		if (!this.seekEnabled && amount > this.buffer.remaining()) {
+		if (this.mappingWindowSize > 0) {
+			if (amount > this.buffer.remaining()) {
+				mapWindow(this.bufferPosition + this.buffer.position(), amount);
+			}
+		} else if (!this.seekEnabled && amount > this.buffer.remaining()) {
 			this.bufferPosition += this.buffer.position();
 			this.buffer.compact();
 			int limit = this.buffer.position();
@@ -652,6 +652,18 @@ public abstract class AbstractShapeFileReader<E> extends AbstractCommonShapeFile
 		throw new SeekOperationDisabledException("Unspecified Shape File Index"); //$NON-NLS-1$
 	}
 
+	/** {@inheritDoc}
+	 *
+	 * <p>The memory mapping is also enabled on the shape file index reader.
+	 */
+	@Override
+	public boolean enableMemoryMapping(int windowSize) throws IOException {
+		if (this.shxReader != null) {
+			this.shxReader.enableMemoryMapping(windowSize);
+		}
+		return super.enableMemoryMapping(windowSize);
+	}
+
 	@Override
 	public boolean isSeekEnabled() {
 		return this.shxReader != null && super.isSeekEnabled();
@@ -73,7 +73,7 @@ public class ShapeFileIndexReader extends AbstractCommonShapeFileReader<ShapeFil
 	 */
 	@SuppressWarnings("resource")
 	public ShapeFileIndexReader(File file) throws IOException {
-		this(new FileInputStream(file));
+		this(new FileInputStream(file).getChannel());
 	}
 
 	/** Constructor.
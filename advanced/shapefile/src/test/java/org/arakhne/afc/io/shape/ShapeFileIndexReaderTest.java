@@ -21,11 +21,14 @@
 package org.arakhne.afc.io.shape;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.EOFException;
+import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 
@@ -307,4 +310,53 @@ public class ShapeFileIndexReaderTest extends AbstractIoShapeTest {
 		}
 	}
 
+	@Test
+	public void testSeek_memoryMapping() throws Exception {
+		try (ShapeFileIndexReader mreader = new ShapeFileIndexReader(new File(this.resource.toURI()))) {
+			// Small windows for forcing the records to be read from several windows
+			assertTrue(mreader.enableMemoryMapping(12));
+			assertTrue(mreader.isMemoryMappingEnabled());
+			assertEquals(TEST_FILE_RECORD_COUNT, mreader.getRecordCount());
+
+			ShapeFileIndexRecord obj = mreader.read();
+			assertNotNull(obj);
+			assertEquals(0, obj.getRecordIndex());
+			assertEquals(100, obj.getOffsetInFile());
+			assertEquals(128, obj.getRecordContentLength());
+
+			mreader.seek(18);
+			obj = mreader.read();
+			assertNotNull(obj);
+			assertEquals(18, obj.getRecordIndex());
+			assertEquals(3860, obj.getOffsetInFile());
+			assertEquals(256, obj.getRecordContentLength());
+
+			mreader.seek(1);
+			obj = mreader.read();
+			assertNotNull(obj);
+			assertEquals(1, obj.getRecordIndex());
+			assertEquals(236, obj.getOffsetInFile());
+			assertEquals(176, obj.getRecordContentLength());
+
+			obj = mreader.read();
+			assertNotNull(obj);
+			assertEquals(2, obj.getRecordIndex());
+			assertEquals(420, obj.getOffsetInFile());
+			assertEquals(128, obj.getRecordContentLength());
+
+			mreader.seek(20);
+			obj = mreader.read();
+			assertNotNull(obj);
+			assertEquals(20, obj.getRecordIndex());
+			assertEquals(4372, obj.getOffsetInFile());
+			assertNull(mreader.read());
+		}
+	}
+
+	@Test
+	public void testEnableMemoryMapping_notFileChannel() throws Exception {
+		assertFalse(this.reader.enableMemoryMapping());
+		assertFalse(this.reader.isMemoryMappingEnabled());
+	}
+
 }
@@ -27,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.EOFException;
+import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 
@@ -160,6 +161,34 @@ public class ShapeFileReaderTest extends AbstractIoShapeTest {
 		}
 	}
 
+	@Test
+	public void testSeek_shx_memoryMapping() throws Exception {
+		ShapeFileIndexReader shxReader = new ShapeFileIndexReader(new File(this.shxResource.toURI()));
+		try (ShapeFileReader<Integer> reader = new ShapeFileReader<>(
+				new File(this.shpResource.toURI()), shxReader, new NullFactory())) {
+			assertTrue(reader.enableMemoryMapping(64));
+			assertTrue(shxReader.isMemoryMappingEnabled());
+
+			reader.seek(2);
+			assertEquals(Integer.valueOf(5), reader.read());
+
+			reader.seek(1);
+			assertEquals(Integer.valueOf(8), reader.read());
+
+			reader.seek(0);
+			assertEquals(Integer.valueOf(5), reader.read());
+			assertEquals(Integer.valueOf(8), reader.read());
+
+			try {
+				reader.seek(1000);
+				fail("EOFException was expected"); //$NON-NLS-1$
+			}
+			catch(EOFException exception) {
+				//Expected exception
+			}
+		}
+	}
+
 	/**
 	 * @author $Author: sgalland$
 	 * @version $FullVersion$
@@ -57,6 +57,10 @@ import java.util.regex.Pattern;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerFactory;
@@ -2467,6 +2471,153 @@ public final class XMLUtil {
 		writeNode(node, writer);
 	}
 
+	/** Write the given node tree at the current position of the given XML stream.
+	 *
+	 * <p>The XML document is neither started nor ended by this function. It enables
+	 * to write a large document piece by piece, each piece being built as a small
+	 * node tree.
+	 *
+	 * @param node is the object that contains the node tree.
+	 * @param writer is the target stream.
+	 * @throws IOException if the stream cannot be written.
+	 * @since 18.0
+	 */
+	public static void writeXML(Node node, XMLStreamWriter writer) throws IOException {
+		assert node != null : AssertMessages.notNullParameter(0);
+		assert writer != null : AssertMessages.notNullParameter(1);
+		try {
+			writeStreamNode(node, writer);
+		} catch (XMLStreamException e) {
+			throw new IOException(e);
+		}
+	}
+
+	private static void writeStreamNode(Node node, XMLStreamWriter writer) throws XMLStreamException {
+		switch (node.getNodeType()) {
+		case Node.ELEMENT_NODE:
+			final NodeList children = node.getChildNodes();
+			if (children.getLength() == 0) {
+				writer.writeEmptyElement(node.getNodeName());
+			} else {
+				writer.writeStartElement(node.getNodeName());
+			}
+			final NamedNodeMap attributes = node.getAttributes();
+			for (int i = 0; i < attributes.getLength(); ++i) {
+				final Node attribute = attributes.item(i);
+				writer.writeAttribute(attribute.getNodeName(), attribute.getNodeValue());
+			}
+			if (children.getLength() > 0) {
+				for (int i = 0; i < children.getLength(); ++i) {
+					writeStreamNode(children.item(i), writer);
+				}
+				writer.writeEndElement();
+			}
+			break;
+		case Node.TEXT_NODE:
+			writer.writeCharacters(node.getNodeValue());
+			break;
+		case Node.CDATA_SECTION_NODE:
+			writer.writeCData(node.getNodeValue());
+			break;
+		case Node.COMMENT_NODE:
+			writer.writeComment(node.getNodeValue());
+			break;
+		case Node.DOCUMENT_NODE:
+		case Node.DOCUMENT_FRAGMENT_NODE:
+			final NodeList nodes = node.getChildNodes();
+			for (int i = 0; i < nodes.getLength(); ++i) {
+				writeStreamNode(nodes.item(i), writer);
+			}
+			break;
+		default:
+		}
+	}
+
+	/** Create a tool for building XML nodes that are owned by a new empty document.
+	 *
+	 * @return the XML builder.
+	 * @throws IOException if the document cannot be created.
+	 * @since 18.0
+	 */
+	public static XMLBuilder newXMLBuilder() throws IOException {
+		try {
+			final Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+			return () -> document;
+		} catch (ParserConfigurationException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/** Read the XML element at the current position of the given XML stream, and
+	 * build its node tree.
+	 *
+	 * <p>The stream must be positioned on the start tag of the element to read.
+	 * When this function returns, the stream is positioned on the end tag of
+	 * the same element. It enables to read a large document piece by piece, each
+	 * piece being loaded as a small node tree.
+	 *
+	 * @param reader is the source stream.
+	 * @param builder is the tool to create XML nodes.
+	 * @return the element.
+	 * @throws IOException if the stream cannot be read.
+	 * @since 18.0
+	 */
+	public static Element readXMLElement(XMLStreamReader reader, XMLBuilder builder) throws IOException {
+		assert reader != null : AssertMessages.notNullParameter(0);
+		assert builder != null : AssertMessages.notNullParameter(1);
+		try {
+			if (!reader.isStartElement()) {
+				throw new IOException("the stream is not positioned on an element"); //$NON-NLS-1$
+			}
+			final Element root = createStreamElement(reader, builder);
+			Element current = root;
+			while (current != null) {
+				switch (reader.next()) {
+				case XMLStreamConstants.START_ELEMENT:
+					final Element child = createStreamElement(reader, builder);
+					current.appendChild(child);
+					current = child;
+					break;
+				case XMLStreamConstants.END_ELEMENT:
+					current = current == root ? null : (Element) current.getParentNode();
+					break;
+				case XMLStreamConstants.CHARACTERS:
+				case XMLStreamConstants.SPACE:
+					if (!reader.isWhiteSpace()) {
+						current.appendChild(builder.createTextNode(reader.getText()));
+					}
+					break;
+				case XMLStreamConstants.CDATA:
+					current.appendChild(builder.createCDATASection(reader.getText()));
+					break;
+				case XMLStreamConstants.END_DOCUMENT:
+					throw new IOException("unexpected end of document"); //$NON-NLS-1$
+				default:
+				}
+			}
+			return root;
+		} catch (XMLStreamException e) {
+			throw new IOException(e);
+		}
+	}
+
+	private static Element createStreamElement(XMLStreamReader reader, XMLBuilder builder) {
+		final Element element = builder.createElement(toQualifiedName(reader.getPrefix(), reader.getLocalName()));
+		for (int i = 0; i < reader.getAttributeCount(); ++i) {
+			element.setAttribute(
+					toQualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)),
+					reader.getAttributeValue(i));
+		}
+		return element;
+	}
+
+	private static String toQualifiedName(String prefix, String localName) {
+		if (Strings.isNullOrEmpty(prefix)) {
+			return localName;
+		}
+		return prefix + ":" + localName; //$NON-NLS-1$
+	}
+
 	/** Write the given resources into the given XML node.
 	 *
 	 * @param node is the XML node to fill.
@@ -51,6 +51,11 @@ import java.util.UUID;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 
 import com.google.common.io.Files;
 import org.junit.jupiter.api.AfterEach;
@@ -900,6 +905,62 @@ public class XMLUtilTest extends AbstractTestCase {
 				+ "</resources></root>", actual); //$NON-NLS-1$
 	}
 
+	@Test
+	public void readXMLElementXMLStreamReaderXMLBuilder() throws Exception {
+		DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+		DocumentBuilder builder = factory.newDocumentBuilder();
+		final Document doc = builder.newDocument();
+		XMLBuilder xmlBuilder = () -> doc;
+
+		XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(
+				"<root><a x=\"1\">text<b y=\"2\"/><![CDATA[data]]></a><c/></root>")); //$NON-NLS-1$
+		assertEquals(XMLStreamConstants.START_ELEMENT, reader.nextTag());
+		assertEquals(XMLStreamConstants.START_ELEMENT, reader.nextTag());
+
+		Element a = XMLUtil.readXMLElement(reader, xmlBuilder);
+		assertTrue(reader.isEndElement());
+		assertEquals("a", reader.getLocalName()); //$NON-NLS-1$
+		assertEquals("a", a.getNodeName()); //$NON-NLS-1$
+		assertEquals("1", a.getAttribute("x")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(3, a.getChildNodes().getLength());
+		assertEquals("text", a.getChildNodes().item(0).getNodeValue()); //$NON-NLS-1$
+		assertEquals("2", ((Element) a.getChildNodes().item(1)).getAttribute("y")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("data", a.getChildNodes().item(2).getNodeValue()); //$NON-NLS-1$
+
+		assertEquals(XMLStreamConstants.START_ELEMENT, reader.nextTag());
+		Element c = XMLUtil.readXMLElement(reader, xmlBuilder);
+		assertEquals("c", c.getNodeName()); //$NON-NLS-1$
+		assertEquals(0, c.getChildNodes().getLength());
+		assertEquals(XMLStreamConstants.END_ELEMENT, reader.nextTag());
+		assertEquals("root", reader.getLocalName()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void writeXMLNodeXMLStreamWriter() throws Exception {
+		DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+		DocumentBuilder builder = factory.newDocumentBuilder();
+		final Document doc = builder.newDocument();
+		XMLBuilder xmlBuilder = () -> doc;
+
+		Element a = xmlBuilder.createElement("a"); //$NON-NLS-1$
+		a.setAttribute("x", "1"); //$NON-NLS-1$ //$NON-NLS-2$
+		a.appendChild(xmlBuilder.createTextNode("text")); //$NON-NLS-1$
+		Element b = xmlBuilder.createElement("b"); //$NON-NLS-1$
+		b.setAttribute("y", "2"); //$NON-NLS-1$ //$NON-NLS-2$
+		a.appendChild(b);
+
+		StringWriter sw = new StringWriter();
+		XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(sw);
+		writer.writeStartElement("root"); //$NON-NLS-1$
+		XMLUtil.writeXML(a, writer);
+		XMLUtil.writeXML(a, writer);
+		writer.writeEndElement();
+		writer.close();
+
+		assertEquals("<root><a x=\"1\">text<b y=\"2\"/></a><a x=\"1\">text<b y=\"2\"/></a></root>", //$NON-NLS-1$
+				sw.toString());
+	}
+
 	/**
 	 * @author $Author: sgalland$
 	 * @version $FullVersion$
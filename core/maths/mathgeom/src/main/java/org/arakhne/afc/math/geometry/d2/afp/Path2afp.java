@@ -20,6 +20,22 @@
 
 package org.arakhne.afc.math.geometry.d2.afp;
 
+import static org.arakhne.afc.math.geometry.d2.afp.PathIterator2afp.BUFFER_CTRL_X1;
+import static org.arakhne.afc.math.geometry.d2.afp.PathIterator2afp.BUFFER_CTRL_X2;
+import static org.arakhne.afc.math.geometry.d2.afp.PathIterator2afp.BUFFER_CTRL_Y1;
+import static org.arakhne.afc.math.geometry.d2.afp.PathIterator2afp.BUFFER_CTRL_Y2;
+import static org.arakhne.afc.math.geometry.d2.afp.PathIterator2afp.BUFFER_FROM_X;
+import static org.arakhne.afc.math.geometry.d2.afp.PathIterator2afp.BUFFER_FROM_Y;
+import static org.arakhne.afc.math.geometry.d2.afp.PathIterator2afp.BUFFER_LARGE_ARC_FLAG;
+import static org.arakhne.afc.math.geometry.d2.afp.PathIterator2afp.BUFFER_RADIUS_X;
+import static org.arakhne.afc.math.geometry.d2.afp.PathIterator2afp.BUFFER_RADIUS_Y;
+import static org.arakhne.afc.math.geometry.d2.afp.PathIterator2afp.BUFFER_ROTATION_X;
+import static org.arakhne.afc.math.geometry.d2.afp.PathIterator2afp.BUFFER_SIZE;
+import static org.arakhne.afc.math.geometry.d2.afp.PathIterator2afp.BUFFER_SWEEP_FLAG;
+import static org.arakhne.afc.math.geometry.d2.afp.PathIterator2afp.BUFFER_TO_X;
+import static org.arakhne.afc.math.geometry.d2.afp.PathIterator2afp.BUFFER_TO_Y;
+
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
@@ -97,32 +113,33 @@ public interface Path2afp<
 		if (!iterator.hasNext()) {
 			return 0;
 		}
-		PathElement2afp pathElement1 = iterator.next();
-		if (pathElement1.getType() != PathElementType.MOVE_TO) {
+		final double[] coords = new double[BUFFER_SIZE];
+		PathElementType elementType = iterator.next(coords);
+		if (elementType != PathElementType.MOVE_TO) {
 			throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
 		}
 		final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
 		Path2afp<?, ?, ?, ?, ?, ?> subPath;
-		double curx = pathElement1.getToX();
+		double curx = coords[BUFFER_TO_X];
 		double movx = curx;
-		double cury = pathElement1.getToY();
+		double cury = coords[BUFFER_TO_Y];
 		double movy = cury;
 		int numCrossings = crossings;
 		double endx;
 		double endy;
 		while (numCrossings != GeomConstants.SHAPE_INTERSECTS
 				&& iterator.hasNext()) {
-			pathElement1 = iterator.next();
-			switch (pathElement1.getType()) {
+			elementType = iterator.next(coords);
+			switch (elementType) {
 			case MOVE_TO:
-				movx = pathElement1.getToX();
+				movx = coords[BUFFER_TO_X];
 				curx = movx;
-				movy = pathElement1.getToY();
+				movy = coords[BUFFER_TO_Y];
 				cury = movy;
 				break;
 			case LINE_TO:
-				endx = pathElement1.getToX();
-				endy = pathElement1.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				numCrossings = shadow.computeCrossings(numCrossings, curx, cury, endx, endy);
 				if (numCrossings == GeomConstants.SHAPE_INTERSECTS) {
 					return numCrossings;
@@ -131,12 +148,12 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case QUAD_TO:
-				endx = pathElement1.getToX();
-				endy = pathElement1.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				subPath = factory.newPath(iterator.getWindingRule());
 				subPath.moveTo(curx, cury);
 				subPath.quadTo(
-						pathElement1.getCtrlX1(), pathElement1.getCtrlY1(), endx, endy);
+						coords[BUFFER_CTRL_X1], coords[BUFFER_CTRL_Y1], endx, endy);
 				numCrossings = calculatesCrossingsPathIteratorPathShadow(
 						numCrossings, subPath.getPathIterator(iterator.getGeomFactory().getSplineApproximationRatio()),
 						shadow, CrossingComputationType.STANDARD);
@@ -147,12 +164,12 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case CURVE_TO:
-				endx = pathElement1.getToX();
-				endy = pathElement1.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				subPath = factory.newPath(iterator.getWindingRule());
 				subPath.moveTo(curx, cury);
-				subPath.curveTo(pathElement1.getCtrlX1(), pathElement1.getCtrlY1(),
-						pathElement1.getCtrlX2(), pathElement1.getCtrlY2(), endx, endy);
+				subPath.curveTo(coords[BUFFER_CTRL_X1], coords[BUFFER_CTRL_Y1],
+						coords[BUFFER_CTRL_X2], coords[BUFFER_CTRL_Y2], endx, endy);
 				numCrossings = calculatesCrossingsPathIteratorPathShadow(
 						numCrossings, subPath.getPathIterator(iterator.getGeomFactory().getSplineApproximationRatio()),
 						shadow, CrossingComputationType.STANDARD);
@@ -163,13 +180,13 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case ARC_TO:
-				endx = pathElement1.getToX();
-				endy = pathElement1.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				subPath = factory.newPath(iterator.getWindingRule());
 				subPath.moveTo(curx, cury);
-				subPath.arcTo(endx, endy, pathElement1.getRadiusX(), pathElement1.getRadiusY(),
-						pathElement1.getRotationX(), pathElement1.getLargeArcFlag(),
-						pathElement1.getSweepFlag());
+				subPath.arcTo(endx, endy, coords[BUFFER_RADIUS_X], coords[BUFFER_RADIUS_Y],
+						coords[BUFFER_ROTATION_X], coords[BUFFER_LARGE_ARC_FLAG] != 0.,
+						coords[BUFFER_SWEEP_FLAG] != 0.);
 				numCrossings = calculatesCrossingsPathIteratorPathShadow(
 						numCrossings, subPath.getPathIterator(iterator.getGeomFactory().getSplineApproximationRatio()),
 						shadow, CrossingComputationType.STANDARD);
@@ -665,32 +682,32 @@ public interface Path2afp<
 		if (!iterator.hasNext()) {
 			return 0;
 		}
-		PathElement2afp element;
-		element = iterator.next();
-		if (element.getType() != PathElementType.MOVE_TO) {
+		final double[] coords = new double[BUFFER_SIZE];
+		PathElementType elementType = iterator.next(coords);
+		if (elementType != PathElementType.MOVE_TO) {
 			throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
 		}
 		final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
 		Path2afp<?, ?, ?, ?, ?, ?> subPath;
-		double movx = element.getToX();
-		double movy = element.getToY();
+		double movx = coords[BUFFER_TO_X];
+		double movy = coords[BUFFER_TO_Y];
 		double curx = movx;
 		double cury = movy;
 		double endx;
 		double endy;
 		int numCrossings = crossings;
 		while (iterator.hasNext()) {
-			element = iterator.next();
-			switch (element.getType()) {
+			elementType = iterator.next(coords);
+			switch (elementType) {
 			case MOVE_TO:
-				movx = element.getToX();
+				movx = coords[BUFFER_TO_X];
 				curx = movx;
-				movy = element.getToY();
+				movy = coords[BUFFER_TO_Y];
 				cury = movy;
 				break;
 			case LINE_TO:
-				endx = element.getToX();
-				endy = element.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				if (endx == px && endy == py) {
 					return GeomConstants.SHAPE_INTERSECTS;
 				}
@@ -702,15 +719,15 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case QUAD_TO:
-				endx = element.getToX();
-				endy = element.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				if (endx == px && endy == py) {
 					return GeomConstants.SHAPE_INTERSECTS;
 				}
 				subPath = factory.newPath(iterator.getWindingRule());
 				subPath.moveTo(curx, cury);
 				subPath.quadTo(
-						element.getCtrlX1(), element.getCtrlY1(),
+						coords[BUFFER_CTRL_X1], coords[BUFFER_CTRL_Y1],
 						endx, endy);
 				numCrossings = calculatesCrossingsPathIteratorPointShadow(
 						numCrossings,
@@ -724,16 +741,16 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case CURVE_TO:
-				endx = element.getToX();
-				endy = element.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				if (endx == px && endy == py) {
 					return GeomConstants.SHAPE_INTERSECTS;
 				}
 				subPath = factory.newPath(iterator.getWindingRule());
 				subPath.moveTo(curx, cury);
 				subPath.curveTo(
-						element.getCtrlX1(), element.getCtrlY1(),
-						element.getCtrlX2(), element.getCtrlY2(),
+						coords[BUFFER_CTRL_X1], coords[BUFFER_CTRL_Y1],
+						coords[BUFFER_CTRL_X2], coords[BUFFER_CTRL_Y2],
 						endx, endy);
 				numCrossings = calculatesCrossingsPathIteratorPointShadow(
 						numCrossings,
@@ -747,8 +764,8 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case ARC_TO:
-				endx = element.getToX();
-				endy = element.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				if (endx == px && endy == py) {
 					return GeomConstants.SHAPE_INTERSECTS;
 				}
@@ -756,9 +773,9 @@ public interface Path2afp<
 				subPath.moveTo(curx, cury);
 				subPath.arcTo(
 						endx, endy,
-						element.getRadiusX(), element.getRadiusY(),
-						element.getRotationX(), element.getLargeArcFlag(),
-						element.getSweepFlag());
+						coords[BUFFER_RADIUS_X], coords[BUFFER_RADIUS_Y],
+						coords[BUFFER_ROTATION_X], coords[BUFFER_LARGE_ARC_FLAG] != 0.,
+						coords[BUFFER_SWEEP_FLAG] != 0.);
 				numCrossings = calculatesCrossingsPathIteratorPointShadow(
 						numCrossings,
 						subPath.getPathIterator(iterator.getGeomFactory().getSplineApproximationRatio()),
@@ -834,34 +851,35 @@ public interface Path2afp<
 		if (!iterator.hasNext()) {
 			return 0;
 		}
-		PathElement2afp element;
+		final double[] coords = new double[BUFFER_SIZE];
+		PathElementType elementType;
 
-		element = iterator.next();
-		if (element.getType() != PathElementType.MOVE_TO) {
+		elementType = iterator.next(coords);
+		if (elementType != PathElementType.MOVE_TO) {
 			throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
 		}
 
 		final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
 		Path2afp<?, ?, ?, ?, ?, ?> localPath;
-		double movx = element.getToX();
-		double movy = element.getToY();
+		double movx = coords[BUFFER_TO_X];
+		double movy = coords[BUFFER_TO_Y];
 		double curx = movx;
 		double cury = movy;
 		double endx;
 		double endy;
 		int numCrosses = crossings;
 		while (numCrosses != GeomConstants.SHAPE_INTERSECTS && iterator.hasNext()) {
-			element = iterator.next();
-			switch (element.getType()) {
+			elementType = iterator.next(coords);
+			switch (elementType) {
 			case MOVE_TO:
-				movx = element.getToX();
+				movx = coords[BUFFER_TO_X];
 				curx = movx;
-				movy = element.getToY();
+				movy = coords[BUFFER_TO_Y];
 				cury = movy;
 				break;
 			case LINE_TO:
-				endx = element.getToX();
-				endy = element.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				numCrosses = Segment2afp.calculatesCrossingsEllipseShadowSegment(
 						numCrosses,
 						ex, ey, ew, eh,
@@ -874,12 +892,12 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case QUAD_TO:
-				endx = element.getToX();
-				endy = element.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				localPath = factory.newPath(iterator.getWindingRule());
 				localPath.moveTo(curx, cury);
 				localPath.quadTo(
-						element.getCtrlX1(), element.getCtrlY1(),
+						coords[BUFFER_CTRL_X1], coords[BUFFER_CTRL_Y1],
 						endx, endy);
 				numCrosses = calculatesCrossingsPathIteratorEllipseShadow(
 						numCrosses,
@@ -893,14 +911,14 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case CURVE_TO:
-				endx = element.getToX();
-				endy = element.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				// for internal use only
 				localPath = factory.newPath(iterator.getWindingRule());
 				localPath.moveTo(curx, cury);
 				localPath.curveTo(
-						element.getCtrlX1(), element.getCtrlY1(),
-						element.getCtrlX2(), element.getCtrlY2(),
+						coords[BUFFER_CTRL_X1], coords[BUFFER_CTRL_Y1],
+						coords[BUFFER_CTRL_X2], coords[BUFFER_CTRL_Y2],
 						endx, endy);
 				numCrosses = calculatesCrossingsPathIteratorEllipseShadow(
 						numCrosses,
@@ -914,16 +932,16 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case ARC_TO:
-				endx = element.getToX();
-				endy = element.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				// for internal use only
 				localPath = factory.newPath(iterator.getWindingRule());
 				localPath.moveTo(curx, cury);
 				localPath.arcTo(
 						endx, endy,
-						element.getRadiusX(), element.getRadiusY(),
-						element.getRotationX(), element.getLargeArcFlag(),
-						element.getSweepFlag());
+						coords[BUFFER_RADIUS_X], coords[BUFFER_RADIUS_Y],
+						coords[BUFFER_ROTATION_X], coords[BUFFER_LARGE_ARC_FLAG] != 0.,
+						coords[BUFFER_SWEEP_FLAG] != 0.);
 				numCrosses = calculatesCrossingsPathIteratorEllipseShadow(
 						numCrosses,
 						localPath.getPathIterator(iterator.getGeomFactory().getSplineApproximationRatio()),
@@ -1003,14 +1021,15 @@ public interface Path2afp<
 		if (!iterator.hasNext()) {
 			return 0;
 		}
-		PathElement2afp pathElement = iterator.next();
-		if (pathElement.getType() != PathElementType.MOVE_TO) {
+		final double[] coords = new double[BUFFER_SIZE];
+		PathElementType elementType = iterator.next(coords);
+		if (elementType != PathElementType.MOVE_TO) {
 			throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
 		}
 		final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
-		double curx = pathElement.getToX();
+		double curx = coords[BUFFER_TO_X];
 		double movx = curx;
-		double cury = pathElement.getToY();
+		double cury = coords[BUFFER_TO_Y];
 		double movy = cury;
 		int numCrossings = crossings;
 		Path2afp<?, ?, ?, ?, ?, ?> localPath;
@@ -1018,19 +1037,19 @@ public interface Path2afp<
 		double endy;
 		while (numCrossings != GeomConstants.SHAPE_INTERSECTS
 				&& iterator.hasNext()) {
-			pathElement = iterator.next();
-			switch (pathElement.getType()) {
+			elementType = iterator.next(coords);
+			switch (elementType) {
 			case MOVE_TO:
 				// Count should always be a multiple of 2 here.
 				// assert (crossings & 1 != 0);
-				movx = pathElement.getToX();
+				movx = coords[BUFFER_TO_X];
 				curx = movx;
-				movy = pathElement.getToY();
+				movy = coords[BUFFER_TO_Y];
 				cury = movy;
 				break;
 			case LINE_TO:
-				endx = pathElement.getToX();
-				endy = pathElement.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				numCrossings = Segment2afp.calculatesCrossingsRoundRectangleShadowSegment(numCrossings,
 						x1, y1, x2, y2, arcWidth, arcHeight,
 						curx, cury,
@@ -1042,13 +1061,13 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case QUAD_TO:
-				endx = pathElement.getToX();
-				endy = pathElement.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				// for internal use only
 				localPath = factory.newPath(iterator.getWindingRule());
 				localPath.moveTo(curx, cury);
 				localPath.quadTo(
-						pathElement.getCtrlX1(), pathElement.getCtrlY1(),
+						coords[BUFFER_CTRL_X1], coords[BUFFER_CTRL_Y1],
 						endx, endy);
 				numCrossings = calculatesCrossingsPathIteratorRoundRectangleShadow(
 						numCrossings,
@@ -1062,14 +1081,14 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case CURVE_TO:
-				endx = pathElement.getToX();
-				endy = pathElement.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				// for internal use only
 				localPath = factory.newPath(iterator.getWindingRule());
 				localPath.moveTo(curx, cury);
 				localPath.curveTo(
-						pathElement.getCtrlX1(), pathElement.getCtrlY1(),
-						pathElement.getCtrlX2(), pathElement.getCtrlY2(),
+						coords[BUFFER_CTRL_X1], coords[BUFFER_CTRL_Y1],
+						coords[BUFFER_CTRL_X2], coords[BUFFER_CTRL_Y2],
 						endx, endy);
 				numCrossings = calculatesCrossingsPathIteratorRoundRectangleShadow(
 						numCrossings,
@@ -1083,16 +1102,16 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case ARC_TO:
-				endx = pathElement.getToX();
-				endy = pathElement.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				// for internal use only
 				localPath = factory.newPath(iterator.getWindingRule());
 				localPath.moveTo(curx, cury);
 				localPath.arcTo(
 						endx, endy,
-						pathElement.getRadiusX(), pathElement.getRadiusY(),
-						pathElement.getRotationX(), pathElement.getLargeArcFlag(),
-						pathElement.getSweepFlag());
+						coords[BUFFER_RADIUS_X], coords[BUFFER_RADIUS_Y],
+						coords[BUFFER_ROTATION_X], coords[BUFFER_LARGE_ARC_FLAG] != 0.,
+						coords[BUFFER_SWEEP_FLAG] != 0.);
 				numCrossings = calculatesCrossingsPathIteratorRoundRectangleShadow(
 						numCrossings,
 						localPath.getPathIterator(iterator.getGeomFactory().getSplineApproximationRatio()),
@@ -1165,32 +1184,32 @@ public interface Path2afp<
 		if (!iterator.hasNext()) {
 			return 0;
 		}
-		PathElement2afp element;
-		element = iterator.next();
-		if (element.getType() != PathElementType.MOVE_TO) {
+		final double[] coords = new double[BUFFER_SIZE];
+		PathElementType elementType = iterator.next(coords);
+		if (elementType != PathElementType.MOVE_TO) {
 			throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
 		}
 		final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
 		Path2afp<?, ?, ?, ?, ?, ?> localPath;
-		double movx = element.getToX();
-		double movy = element.getToY();
+		double movx = coords[BUFFER_TO_X];
+		double movy = coords[BUFFER_TO_Y];
 		double curx = movx;
 		double cury = movy;
 		double endx;
 		double endy;
 		int numCrosses = crossings;
 		while (iterator.hasNext()) {
-			element = iterator.next();
-			switch (element.getType()) {
+			elementType = iterator.next(coords);
+			switch (elementType) {
 			case MOVE_TO:
-				movx = element.getToX();
+				movx = coords[BUFFER_TO_X];
 				curx = movx;
-				movy = element.getToY();
+				movy = coords[BUFFER_TO_Y];
 				cury = movy;
 				break;
 			case LINE_TO:
-				endx = element.getToX();
-				endy = element.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				numCrosses = Segment2afp.calculatesCrossingsCircleShadowSegment(
 						numCrosses,
 						cx, cy, radius,
@@ -1203,13 +1222,13 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case QUAD_TO:
-				endx = element.getToX();
-				endy = element.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				// for internal use only
 				localPath = factory.newPath(iterator.getWindingRule());
-				localPath.moveTo(element.getFromX(), element.getFromY());
+				localPath.moveTo(coords[BUFFER_FROM_X], coords[BUFFER_FROM_Y]);
 				localPath.quadTo(
-						element.getCtrlX1(), element.getCtrlY1(),
+						coords[BUFFER_CTRL_X1], coords[BUFFER_CTRL_Y1],
 						endx, endy);
 				numCrosses = calculatesCrossingsPathIteratorCircleShadow(
 						numCrosses,
@@ -1223,14 +1242,14 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case CURVE_TO:
-				endx = element.getToX();
-				endy = element.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				// for internal use only
 				localPath = factory.newPath(iterator.getWindingRule());
-				localPath.moveTo(element.getFromX(), element.getFromY());
+				localPath.moveTo(coords[BUFFER_FROM_X], coords[BUFFER_FROM_Y]);
 				localPath.curveTo(
-						element.getCtrlX1(), element.getCtrlY1(),
-						element.getCtrlX2(), element.getCtrlY2(),
+						coords[BUFFER_CTRL_X1], coords[BUFFER_CTRL_Y1],
+						coords[BUFFER_CTRL_X2], coords[BUFFER_CTRL_Y2],
 						endx, endy);
 				numCrosses = calculatesCrossingsPathIteratorCircleShadow(
 						numCrosses,
@@ -1244,16 +1263,16 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case ARC_TO:
-				endx = element.getToX();
-				endy = element.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				// for internal use only
 				localPath = factory.newPath(iterator.getWindingRule());
-				localPath.moveTo(element.getFromX(), element.getFromY());
+				localPath.moveTo(coords[BUFFER_FROM_X], coords[BUFFER_FROM_Y]);
 				localPath.arcTo(
 						endx, endy,
-						element.getRadiusX(), element.getRadiusY(),
-						element.getRotationX(), element.getLargeArcFlag(),
-						element.getSweepFlag());
+						coords[BUFFER_RADIUS_X], coords[BUFFER_RADIUS_Y],
+						coords[BUFFER_ROTATION_X], coords[BUFFER_LARGE_ARC_FLAG] != 0.,
+						coords[BUFFER_SWEEP_FLAG] != 0.);
 				numCrosses = calculatesCrossingsPathIteratorCircleShadow(
 						numCrosses,
 						localPath.getPathIterator(iterator.getGeomFactory().getSplineApproximationRatio()),
@@ -1327,32 +1346,32 @@ public interface Path2afp<
 		if (!iterator.hasNext() || crossings == GeomConstants.SHAPE_INTERSECTS) {
 			return crossings;
 		}
-		PathElement2afp element;
-		element = iterator.next();
-		if (element.getType() != PathElementType.MOVE_TO) {
+		final double[] coords = new double[BUFFER_SIZE];
+		PathElementType elementType = iterator.next(coords);
+		if (elementType != PathElementType.MOVE_TO) {
 			throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
 		}
 		final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
 		Path2afp<?, ?, ?, ?, ?, ?> localPath;
-		double movx = element.getToX();
-		double movy = element.getToY();
+		double movx = coords[BUFFER_TO_X];
+		double movy = coords[BUFFER_TO_Y];
 		double curx = movx;
 		double cury = movy;
 		double endx;
 		double endy;
 		int numCrosses = crossings;
 		while (numCrosses != GeomConstants.SHAPE_INTERSECTS && iterator.hasNext()) {
-			element = iterator.next();
-			switch (element.getType()) {
+			elementType = iterator.next(coords);
+			switch (elementType) {
 			case MOVE_TO:
-				movx = element.getToX();
+				movx = coords[BUFFER_TO_X];
 				curx = movx;
-				movy = element.getToY();
+				movy = coords[BUFFER_TO_Y];
 				cury = movy;
 				break;
 			case LINE_TO:
-				endx = element.getToX();
-				endy = element.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				numCrosses = Segment2afp.calculatesCrossingsSegmentShadowSegment(
 						numCrosses,
 						x1, y1, x2, y2,
@@ -1365,13 +1384,13 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case QUAD_TO:
-				endx = element.getToX();
-				endy = element.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				// for internal use only
 				localPath = factory.newPath(iterator.getWindingRule());
 				localPath.moveTo(curx, cury);
 				localPath.quadTo(
-						element.getCtrlX1(), element.getCtrlY1(),
+						coords[BUFFER_CTRL_X1], coords[BUFFER_CTRL_Y1],
 						endx, endy);
 				numCrosses = calculatesCrossingsPathIteratorSegmentShadow(
 						numCrosses,
@@ -1385,14 +1404,14 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case CURVE_TO:
-				endx = element.getToX();
-				endy = element.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				// for internal use only
 				localPath = factory.newPath(iterator.getWindingRule());
 				localPath.moveTo(curx, cury);
 				localPath.curveTo(
-						element.getCtrlX1(), element.getCtrlY1(),
-						element.getCtrlX2(), element.getCtrlY2(),
+						coords[BUFFER_CTRL_X1], coords[BUFFER_CTRL_Y1],
+						coords[BUFFER_CTRL_X2], coords[BUFFER_CTRL_Y2],
 						endx, endy);
 				numCrosses = calculatesCrossingsPathIteratorSegmentShadow(
 						numCrosses,
@@ -1406,16 +1425,16 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case ARC_TO:
-				endx = element.getToX();
-				endy = element.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				// for internal use only
 				localPath = factory.newPath(iterator.getWindingRule());
 				localPath.moveTo(curx, cury);
 				localPath.arcTo(
 						endx, endy,
-						element.getRadiusX(), element.getRadiusY(),
-						element.getRotationX(), element.getLargeArcFlag(),
-						element.getSweepFlag());
+						coords[BUFFER_RADIUS_X], coords[BUFFER_RADIUS_Y],
+						coords[BUFFER_ROTATION_X], coords[BUFFER_LARGE_ARC_FLAG] != 0.,
+						coords[BUFFER_SWEEP_FLAG] != 0.);
 				numCrosses = calculatesCrossingsPathIteratorSegmentShadow(
 						numCrosses,
 						localPath.getPathIterator(iterator.getGeomFactory().getSplineApproximationRatio()),
@@ -1493,34 +1512,35 @@ public interface Path2afp<
 		if (!iterator.hasNext()) {
 			return 0;
 		}
-		PathElement2afp pathElement = iterator.next();
-		if (pathElement.getType() != PathElementType.MOVE_TO) {
+		final double[] coords = new double[BUFFER_SIZE];
+		PathElementType elementType = iterator.next(coords);
+		if (elementType != PathElementType.MOVE_TO) {
 			throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
 		}
 		final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
 		Path2afp<?, ?, ?, ?, ?, ?> localPath;
-		double curx = pathElement.getToX();
+		double curx = coords[BUFFER_TO_X];
 		double movx = curx;
-		double cury = pathElement.getToY();
+		double cury = coords[BUFFER_TO_Y];
 		double movy = cury;
 		int numCrossings = crossings;
 		double endx;
 		double endy;
 		while (numCrossings != GeomConstants.SHAPE_INTERSECTS
 				&& iterator.hasNext()) {
-			pathElement = iterator.next();
-			switch (pathElement.getType()) {
+			elementType = iterator.next(coords);
+			switch (elementType) {
 			case MOVE_TO:
 				// Count should always be a multiple of 2 here.
 				// assert (crossings & 1 != 0);
-				movx = pathElement.getToX();
+				movx = coords[BUFFER_TO_X];
 				curx = movx;
-				movy = pathElement.getToY();
+				movy = coords[BUFFER_TO_Y];
 				cury = movy;
 				break;
 			case LINE_TO:
-				endx = pathElement.getToX();
-				endy = pathElement.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				numCrossings = Segment2afp.calculatesCrossingsRectangleShadowSegment(
 						numCrossings,
 						rxmin, rymin,
@@ -1534,13 +1554,13 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case QUAD_TO:
-				endx = pathElement.getToX();
-				endy = pathElement.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				// for internal use only
 				localPath = factory.newPath(iterator.getWindingRule());
 				localPath.moveTo(curx, cury);
 				localPath.quadTo(
-						pathElement.getCtrlX1(), pathElement.getCtrlY1(),
+						coords[BUFFER_CTRL_X1], coords[BUFFER_CTRL_Y1],
 						endx, endy);
 				numCrossings = calculatesCrossingsPathIteratorRectangleShadow(
 						numCrossings,
@@ -1555,14 +1575,14 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case CURVE_TO:
-				endx = pathElement.getToX();
-				endy = pathElement.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				// for internal use only
 				localPath = factory.newPath(iterator.getWindingRule());
 				localPath.moveTo(curx, cury);
 				localPath.curveTo(
-						pathElement.getCtrlX1(), pathElement.getCtrlY1(),
-						pathElement.getCtrlX2(), pathElement.getCtrlY2(),
+						coords[BUFFER_CTRL_X1], coords[BUFFER_CTRL_Y1],
+						coords[BUFFER_CTRL_X2], coords[BUFFER_CTRL_Y2],
 						endx, endy);
 				numCrossings = calculatesCrossingsPathIteratorRectangleShadow(
 						numCrossings,
@@ -1577,16 +1597,16 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case ARC_TO:
-				endx = pathElement.getToX();
-				endy = pathElement.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				// for internal use only
 				localPath = factory.newPath(iterator.getWindingRule());
 				localPath.moveTo(curx, cury);
 				localPath.arcTo(
 						endx, endy,
-						pathElement.getRadiusX(), pathElement.getRadiusY(),
-						pathElement.getRotationX(), pathElement.getLargeArcFlag(),
-						pathElement.getSweepFlag());
+						coords[BUFFER_RADIUS_X], coords[BUFFER_RADIUS_Y],
+						coords[BUFFER_ROTATION_X], coords[BUFFER_LARGE_ARC_FLAG] != 0.,
+						coords[BUFFER_SWEEP_FLAG] != 0.);
 				numCrossings = calculatesCrossingsPathIteratorRectangleShadow(
 						numCrossings,
 						localPath.getPathIterator(iterator.getGeomFactory().getSplineApproximationRatio()),
@@ -1670,36 +1690,37 @@ public interface Path2afp<
 			return 0;
 		}
 
-		PathElement2afp pathElement = iterator.next();
+		final double[] coords = new double[BUFFER_SIZE];
+		PathElementType elementType = iterator.next(coords);
 
-		if (pathElement.getType() != PathElementType.MOVE_TO) {
+		if (elementType != PathElementType.MOVE_TO) {
 			throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
 		}
 
 		final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
 		Path2afp<?, ?, ?, ?, ?, ?> localPath;
-		double curx = pathElement.getToX();
+		double curx = coords[BUFFER_TO_X];
 		double movx = curx;
-		double cury = pathElement.getToY();
+		double cury = coords[BUFFER_TO_Y];
 		double movy = cury;
 		int numCrossings = crossings;
 		double endx;
 		double endy;
 		while (numCrossings != GeomConstants.SHAPE_INTERSECTS
 				&& iterator.hasNext()) {
-			pathElement = iterator.next();
-			switch (pathElement.getType()) {
+			elementType = iterator.next(coords);
+			switch (elementType) {
 			case MOVE_TO:
 				// Count should always be a multiple of 2 here.
 				// assert (crossings & 1 != 0);
-				movx = pathElement.getToX();
+				movx = coords[BUFFER_TO_X];
 				curx = movx;
-				movy = pathElement.getToY();
+				movy = coords[BUFFER_TO_Y];
 				cury = movy;
 				break;
 			case LINE_TO:
-				endx = pathElement.getToX();
-				endy = pathElement.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				numCrossings = Segment2afp.calculatesCrossingsTriangleShadowSegment(numCrossings,
 						x1, y1, x2, y2, x3, y3,
 						curx, cury,
@@ -1711,13 +1732,13 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case QUAD_TO:
-				endx = pathElement.getToX();
-				endy = pathElement.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				// for internal use only
 				localPath = factory.newPath(iterator.getWindingRule());
 				localPath.moveTo(curx, cury);
 				localPath.quadTo(
-						pathElement.getCtrlX1(), pathElement.getCtrlY1(),
+						coords[BUFFER_CTRL_X1], coords[BUFFER_CTRL_Y1],
 						endx, endy);
 				numCrossings = calculatesCrossingsPathIteratorTriangleShadow(
 						numCrossings,
@@ -1731,14 +1752,14 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case CURVE_TO:
-				endx = pathElement.getToX();
-				endy = pathElement.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				// for internal use only
 				localPath = factory.newPath(iterator.getWindingRule());
 				localPath.moveTo(curx, cury);
 				localPath.curveTo(
-						pathElement.getCtrlX1(), pathElement.getCtrlY1(),
-						pathElement.getCtrlX2(), pathElement.getCtrlY2(),
+						coords[BUFFER_CTRL_X1], coords[BUFFER_CTRL_Y1],
+						coords[BUFFER_CTRL_X2], coords[BUFFER_CTRL_Y2],
 						endx, endy);
 				numCrossings = calculatesCrossingsPathIteratorTriangleShadow(
 						numCrossings,
@@ -1752,16 +1773,16 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case ARC_TO:
-				endx = pathElement.getToX();
-				endy = pathElement.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				// for internal use only
 				localPath = factory.newPath(iterator.getWindingRule());
 				localPath.moveTo(curx, cury);
 				localPath.arcTo(
 						endx, endy,
-						pathElement.getRadiusX(), pathElement.getRadiusY(),
-						pathElement.getRotationX(), pathElement.getLargeArcFlag(),
-						pathElement.getSweepFlag());
+						coords[BUFFER_RADIUS_X], coords[BUFFER_RADIUS_Y],
+						coords[BUFFER_ROTATION_X], coords[BUFFER_LARGE_ARC_FLAG] != 0.,
+						coords[BUFFER_SWEEP_FLAG] != 0.);
 				numCrossings = calculatesCrossingsPathIteratorTriangleShadow(
 						numCrossings,
 						localPath.getPathIterator(iterator.getGeomFactory().getSplineApproximationRatio()),
@@ -1835,47 +1856,48 @@ public interface Path2afp<
 		double ymin = Double.POSITIVE_INFINITY;
 		double xmax = Double.NEGATIVE_INFINITY;
 		double ymax = Double.NEGATIVE_INFINITY;
-		PathElement2afp element;
+		final double[] coords = new double[BUFFER_SIZE];
+		PathElementType elementType;
 		Path2afp<?, ?, ?, ?, ?, ?> subPath;
 		Rectangle2afp<?, ?, ?, ?, ?, ?> subBox;
 		while (iterator.hasNext()) {
-			element = iterator.next();
-			switch (element.getType()) {
+			elementType = iterator.next(coords);
+			switch (elementType) {
 			case LINE_TO:
-				if (element.getFromX() < xmin) {
-					xmin = element.getFromX();
+				if (coords[BUFFER_FROM_X] < xmin) {
+					xmin = coords[BUFFER_FROM_X];
 				}
-				if (element.getFromY() < ymin) {
-					ymin = element.getFromY();
+				if (coords[BUFFER_FROM_Y] < ymin) {
+					ymin = coords[BUFFER_FROM_Y];
 				}
-				if (element.getFromX() > xmax) {
-					xmax = element.getFromX();
+				if (coords[BUFFER_FROM_X] > xmax) {
+					xmax = coords[BUFFER_FROM_X];
 				}
-				if (element.getFromY() > ymax) {
-					ymax = element.getFromY();
+				if (coords[BUFFER_FROM_Y] > ymax) {
+					ymax = coords[BUFFER_FROM_Y];
 				}
-				if (element.getToX() < xmin) {
-					xmin = element.getToX();
+				if (coords[BUFFER_TO_X] < xmin) {
+					xmin = coords[BUFFER_TO_X];
 				}
-				if (element.getToY() < ymin) {
-					ymin = element.getToY();
+				if (coords[BUFFER_TO_Y] < ymin) {
+					ymin = coords[BUFFER_TO_Y];
 				}
-				if (element.getToX() > xmax) {
-					xmax = element.getToX();
+				if (coords[BUFFER_TO_X] > xmax) {
+					xmax = coords[BUFFER_TO_X];
 				}
-				if (element.getToY() > ymax) {
-					ymax = element.getToY();
+				if (coords[BUFFER_TO_Y] > ymax) {
+					ymax = coords[BUFFER_TO_Y];
 				}
 				foundOneLine = true;
 				break;
 			case CURVE_TO:
 				subPath = factory.newPath(iterator.getWindingRule());
 				subBox = factory.newBox();
-				subPath.moveTo(element.getFromX(), element.getFromY());
+				subPath.moveTo(coords[BUFFER_FROM_X], coords[BUFFER_FROM_Y]);
 				subPath.curveTo(
-						element.getCtrlX1(), element.getCtrlY1(),
-						element.getCtrlX2(), element.getCtrlY2(),
-						element.getToX(), element.getToY());
+						coords[BUFFER_CTRL_X1], coords[BUFFER_CTRL_Y1],
+						coords[BUFFER_CTRL_X2], coords[BUFFER_CTRL_Y2],
+						coords[BUFFER_TO_X], coords[BUFFER_TO_Y]);
 				if (calculatesDrawableElementBoundingBox(
 						subPath.getPathIterator(iterator.getGeomFactory().getSplineApproximationRatio()),
 						subBox)) {
@@ -1897,12 +1919,12 @@ public interface Path2afp<
 			case ARC_TO:
 				subPath = factory.newPath(iterator.getWindingRule());
 				subBox = factory.newBox();
-				subPath.moveTo(element.getFromX(), element.getFromY());
+				subPath.moveTo(coords[BUFFER_FROM_X], coords[BUFFER_FROM_Y]);
 				subPath.arcTo(
-						element.getToX(), element.getToY(),
-						element.getRadiusX(), element.getRadiusY(),
-						element.getRotationX(), element.getLargeArcFlag(),
-						element.getSweepFlag());
+						coords[BUFFER_TO_X], coords[BUFFER_TO_Y],
+						coords[BUFFER_RADIUS_X], coords[BUFFER_RADIUS_Y],
+						coords[BUFFER_ROTATION_X], coords[BUFFER_LARGE_ARC_FLAG] != 0.,
+						coords[BUFFER_SWEEP_FLAG] != 0.);
 				if (calculatesDrawableElementBoundingBox(
 						subPath.getPathIterator(iterator.getGeomFactory().getSplineApproximationRatio()),
 						subBox)) {
@@ -1924,10 +1946,10 @@ public interface Path2afp<
 			case QUAD_TO:
 				subPath = factory.newPath(iterator.getWindingRule());
 				subBox = factory.newBox();
-				subPath.moveTo(element.getFromX(), element.getFromY());
+				subPath.moveTo(coords[BUFFER_FROM_X], coords[BUFFER_FROM_Y]);
 				subPath.quadTo(
-						element.getCtrlX1(), element.getCtrlY1(),
-						element.getToX(), element.getToY());
+						coords[BUFFER_CTRL_X1], coords[BUFFER_CTRL_Y1],
+						coords[BUFFER_TO_X], coords[BUFFER_TO_Y]);
 				if (calculatesDrawableElementBoundingBox(
 						subPath.getPathIterator(iterator.getGeomFactory().getSplineApproximationRatio()),
 						subBox)) {
@@ -1977,151 +1999,152 @@ public interface Path2afp<
 		double ymin = Double.POSITIVE_INFINITY;
 		double xmax = Double.NEGATIVE_INFINITY;
 		double ymax = Double.NEGATIVE_INFINITY;
-		PathElement2afp element;
+		final double[] coords = new double[BUFFER_SIZE];
+		PathElementType elementType;
 		while (iterator.hasNext()) {
-			element = iterator.next();
-			switch (element.getType()) {
+			elementType = iterator.next(coords);
+			switch (elementType) {
 			case LINE_TO:
-				if (element.getFromX() < xmin) {
-					xmin = element.getFromX();
+				if (coords[BUFFER_FROM_X] < xmin) {
+					xmin = coords[BUFFER_FROM_X];
 				}
-				if (element.getFromY() < ymin) {
-					ymin = element.getFromY();
+				if (coords[BUFFER_FROM_Y] < ymin) {
+					ymin = coords[BUFFER_FROM_Y];
 				}
-				if (element.getFromX() > xmax) {
-					xmax = element.getFromX();
+				if (coords[BUFFER_FROM_X] > xmax) {
+					xmax = coords[BUFFER_FROM_X];
 				}
-				if (element.getFromY() > ymax) {
-					ymax = element.getFromY();
+				if (coords[BUFFER_FROM_Y] > ymax) {
+					ymax = coords[BUFFER_FROM_Y];
 				}
-				if (element.getToX() < xmin) {
-					xmin = element.getToX();
+				if (coords[BUFFER_TO_X] < xmin) {
+					xmin = coords[BUFFER_TO_X];
 				}
-				if (element.getToY() < ymin) {
-					ymin = element.getToY();
+				if (coords[BUFFER_TO_Y] < ymin) {
+					ymin = coords[BUFFER_TO_Y];
 				}
-				if (element.getToX() > xmax) {
-					xmax = element.getToX();
+				if (coords[BUFFER_TO_X] > xmax) {
+					xmax = coords[BUFFER_TO_X];
 				}
-				if (element.getToY() > ymax) {
-					ymax = element.getToY();
+				if (coords[BUFFER_TO_Y] > ymax) {
+					ymax = coords[BUFFER_TO_Y];
 				}
 				foundOneControlPoint = true;
 				break;
 			case CURVE_TO:
-				if (element.getFromX() < xmin) {
-					xmin = element.getFromX();
+				if (coords[BUFFER_FROM_X] < xmin) {
+					xmin = coords[BUFFER_FROM_X];
 				}
-				if (element.getFromY() < ymin) {
-					ymin = element.getFromY();
+				if (coords[BUFFER_FROM_Y] < ymin) {
+					ymin = coords[BUFFER_FROM_Y];
 				}
-				if (element.getFromX() > xmax) {
-					xmax = element.getFromX();
+				if (coords[BUFFER_FROM_X] > xmax) {
+					xmax = coords[BUFFER_FROM_X];
 				}
-				if (element.getFromY() > ymax) {
-					ymax = element.getFromY();
+				if (coords[BUFFER_FROM_Y] > ymax) {
+					ymax = coords[BUFFER_FROM_Y];
 				}
-				if (element.getCtrlX1() < xmin) {
-					xmin = element.getCtrlX1();
+				if (coords[BUFFER_CTRL_X1] < xmin) {
+					xmin = coords[BUFFER_CTRL_X1];
 				}
-				if (element.getCtrlY1() < ymin) {
-					ymin = element.getCtrlY1();
+				if (coords[BUFFER_CTRL_Y1] < ymin) {
+					ymin = coords[BUFFER_CTRL_Y1];
 				}
-				if (element.getCtrlX1() > xmax) {
-					xmax = element.getCtrlX1();
+				if (coords[BUFFER_CTRL_X1] > xmax) {
+					xmax = coords[BUFFER_CTRL_X1];
 				}
-				if (element.getCtrlY1() > ymax) {
-					ymax = element.getCtrlY1();
+				if (coords[BUFFER_CTRL_Y1] > ymax) {
+					ymax = coords[BUFFER_CTRL_Y1];
 				}
-				if (element.getCtrlX2() < xmin) {
-					xmin = element.getCtrlX2();
+				if (coords[BUFFER_CTRL_X2] < xmin) {
+					xmin = coords[BUFFER_CTRL_X2];
 				}
-				if (element.getCtrlY2() < ymin) {
-					ymin = element.getCtrlY2();
+				if (coords[BUFFER_CTRL_Y2] < ymin) {
+					ymin = coords[BUFFER_CTRL_Y2];
 				}
-				if (element.getCtrlX2() > xmax) {
-					xmax = element.getCtrlX2();
+				if (coords[BUFFER_CTRL_X2] > xmax) {
+					xmax = coords[BUFFER_CTRL_X2];
 				}
-				if (element.getCtrlY2() > ymax) {
-					ymax = element.getCtrlY2();
+				if (coords[BUFFER_CTRL_Y2] > ymax) {
+					ymax = coords[BUFFER_CTRL_Y2];
 				}
-				if (element.getToX() < xmin) {
-					xmin = element.getToX();
+				if (coords[BUFFER_TO_X] < xmin) {
+					xmin = coords[BUFFER_TO_X];
 				}
-				if (element.getToY() < ymin) {
-					ymin = element.getToY();
+				if (coords[BUFFER_TO_Y] < ymin) {
+					ymin = coords[BUFFER_TO_Y];
 				}
-				if (element.getToX() > xmax) {
-					xmax = element.getToX();
+				if (coords[BUFFER_TO_X] > xmax) {
+					xmax = coords[BUFFER_TO_X];
 				}
-				if (element.getToY() > ymax) {
-					ymax = element.getToY();
+				if (coords[BUFFER_TO_Y] > ymax) {
+					ymax = coords[BUFFER_TO_Y];
 				}
 				foundOneControlPoint = true;
 				break;
 			case QUAD_TO:
-				if (element.getFromX() < xmin) {
-					xmin = element.getFromX();
+				if (coords[BUFFER_FROM_X] < xmin) {
+					xmin = coords[BUFFER_FROM_X];
 				}
-				if (element.getFromY() < ymin) {
-					ymin = element.getFromY();
+				if (coords[BUFFER_FROM_Y] < ymin) {
+					ymin = coords[BUFFER_FROM_Y];
 				}
-				if (element.getFromX() > xmax) {
-					xmax = element.getFromX();
+				if (coords[BUFFER_FROM_X] > xmax) {
+					xmax = coords[BUFFER_FROM_X];
 				}
-				if (element.getFromY() > ymax) {
-					ymax = element.getFromY();
+				if (coords[BUFFER_FROM_Y] > ymax) {
+					ymax = coords[BUFFER_FROM_Y];
 				}
-				if (element.getCtrlX1() < xmin) {
-					xmin = element.getCtrlX1();
+				if (coords[BUFFER_CTRL_X1] < xmin) {
+					xmin = coords[BUFFER_CTRL_X1];
 				}
-				if (element.getCtrlY1() < ymin) {
-					ymin = element.getCtrlY1();
+				if (coords[BUFFER_CTRL_Y1] < ymin) {
+					ymin = coords[BUFFER_CTRL_Y1];
 				}
-				if (element.getCtrlX1() > xmax) {
-					xmax = element.getCtrlX1();
+				if (coords[BUFFER_CTRL_X1] > xmax) {
+					xmax = coords[BUFFER_CTRL_X1];
 				}
-				if (element.getCtrlY1() > ymax) {
-					ymax = element.getCtrlY1();
+				if (coords[BUFFER_CTRL_Y1] > ymax) {
+					ymax = coords[BUFFER_CTRL_Y1];
 				}
-				if (element.getToX() < xmin) {
-					xmin = element.getToX();
+				if (coords[BUFFER_TO_X] < xmin) {
+					xmin = coords[BUFFER_TO_X];
 				}
-				if (element.getToY() < ymin) {
-					ymin = element.getToY();
+				if (coords[BUFFER_TO_Y] < ymin) {
+					ymin = coords[BUFFER_TO_Y];
 				}
-				if (element.getToX() > xmax) {
-					xmax = element.getToX();
+				if (coords[BUFFER_TO_X] > xmax) {
+					xmax = coords[BUFFER_TO_X];
 				}
-				if (element.getToY() > ymax) {
-					ymax = element.getToY();
+				if (coords[BUFFER_TO_Y] > ymax) {
+					ymax = coords[BUFFER_TO_Y];
 				}
 				foundOneControlPoint = true;
 				break;
 			case ARC_TO:
-				if (element.getFromX() < xmin) {
-					xmin = element.getFromX();
+				if (coords[BUFFER_FROM_X] < xmin) {
+					xmin = coords[BUFFER_FROM_X];
 				}
-				if (element.getFromY() < ymin) {
-					ymin = element.getFromY();
+				if (coords[BUFFER_FROM_Y] < ymin) {
+					ymin = coords[BUFFER_FROM_Y];
 				}
-				if (element.getFromX() > xmax) {
-					xmax = element.getFromX();
+				if (coords[BUFFER_FROM_X] > xmax) {
+					xmax = coords[BUFFER_FROM_X];
 				}
-				if (element.getFromY() > ymax) {
-					ymax = element.getFromY();
+				if (coords[BUFFER_FROM_Y] > ymax) {
+					ymax = coords[BUFFER_FROM_Y];
 				}
-				if (element.getToX() < xmin) {
-					xmin = element.getToX();
+				if (coords[BUFFER_TO_X] < xmin) {
+					xmin = coords[BUFFER_TO_X];
 				}
-				if (element.getToY() < ymin) {
-					ymin = element.getToY();
+				if (coords[BUFFER_TO_Y] < ymin) {
+					ymin = coords[BUFFER_TO_Y];
 				}
-				if (element.getToX() > xmax) {
-					xmax = element.getToX();
+				if (coords[BUFFER_TO_X] > xmax) {
+					xmax = coords[BUFFER_TO_X];
 				}
-				if (element.getToY() > ymax) {
-					ymax = element.getToY();
+				if (coords[BUFFER_TO_Y] > ymax) {
+					ymax = coords[BUFFER_TO_Y];
 				}
 				foundOneControlPoint = true;
 				break;
@@ -2143,32 +2166,33 @@ public interface Path2afp<
 	 */
 	static double calculatesPathLength(PathIterator2afp<?> iterator) {
 		assert iterator != null : AssertMessages.notNullParameter();
-		PathElement2afp pathElement = iterator.next();
-		if (pathElement.getType() != PathElementType.MOVE_TO) {
+		final double[] coords = new double[BUFFER_SIZE];
+		PathElementType elementType = iterator.next(coords);
+		if (elementType != PathElementType.MOVE_TO) {
 			throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
 		}
 		// only for internal use
 		final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
 		Path2afp<?, ?, ?, ?, ?, ?> subPath;
-		double curx = pathElement.getToX();
+		double curx = coords[BUFFER_TO_X];
 		double movx = curx;
-		double cury = pathElement.getToY();
+		double cury = coords[BUFFER_TO_Y];
 		double movy = cury;
 		double length = 0;
 		double endx;
 		double endy;
 		while (iterator.hasNext()) {
-			pathElement = iterator.next();
-			switch (pathElement.getType()) {
+			elementType = iterator.next(coords);
+			switch (elementType) {
 			case MOVE_TO:
-				movx = pathElement.getToX();
+				movx = coords[BUFFER_TO_X];
 				curx = movx;
-				movy = pathElement.getToY();
+				movy = coords[BUFFER_TO_Y];
 				cury = movy;
 				break;
 			case LINE_TO:
-				endx = pathElement.getToX();
-				endy = pathElement.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				length += Point2D.getDistancePointPoint(
 						curx, cury,
 						endx, endy);
@@ -2176,12 +2200,12 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case QUAD_TO:
-				endx = pathElement.getToX();
-				endy = pathElement.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				subPath = factory.newPath(iterator.getWindingRule());
 				subPath.moveTo(curx, cury);
 				subPath.quadTo(
-						pathElement.getCtrlX1(), pathElement.getCtrlY1(),
+						coords[BUFFER_CTRL_X1], coords[BUFFER_CTRL_Y1],
 						endx, endy);
 				length += calculatesPathLength(subPath.getPathIterator(
 						iterator.getGeomFactory().getSplineApproximationRatio()));
@@ -2189,13 +2213,13 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case CURVE_TO:
-				endx = pathElement.getToX();
-				endy = pathElement.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				subPath = factory.newPath(iterator.getWindingRule());
 				subPath.moveTo(curx, cury);
 				subPath.curveTo(
-						pathElement.getCtrlX1(), pathElement.getCtrlY1(),
-						pathElement.getCtrlX2(), pathElement.getCtrlY2(),
+						coords[BUFFER_CTRL_X1], coords[BUFFER_CTRL_Y1],
+						coords[BUFFER_CTRL_X2], coords[BUFFER_CTRL_Y2],
 						endx, endy);
 				length += calculatesPathLength(subPath.getPathIterator(
 						iterator.getGeomFactory().getSplineApproximationRatio()));
@@ -2203,15 +2227,15 @@ public interface Path2afp<
 				cury = endy;
 				break;
 			case ARC_TO:
-				endx = pathElement.getToX();
-				endy = pathElement.getToY();
+				endx = coords[BUFFER_TO_X];
+				endy = coords[BUFFER_TO_Y];
 				subPath = factory.newPath(iterator.getWindingRule());
 				subPath.moveTo(curx, cury);
 				subPath.arcTo(
 						endx, endy,
-						pathElement.getRadiusX(), pathElement.getRadiusY(),
-						pathElement.getRotationX(), pathElement.getLargeArcFlag(),
-						pathElement.getSweepFlag());
+						coords[BUFFER_RADIUS_X], coords[BUFFER_RADIUS_Y],
+						coords[BUFFER_ROTATION_X], coords[BUFFER_LARGE_ARC_FLAG] != 0.,
+						coords[BUFFER_SWEEP_FLAG] != 0.);
 				length += calculatesPathLength(subPath.getPathIterator(
 						iterator.getGeomFactory().getSplineApproximationRatio()));
 				curx = endx;
@@ -3031,6 +3055,49 @@ public interface Path2afp<
 			return this.path.isMultiParts();
 		}
 
+		/** Create the path element that corresponds to the coordinates in the given buffer.
+		 *
+		 * @param type the type of the path element.
+		 * @param buffer the coordinates of the path element, as filled by {@link #next(double[])}.
+		 * @return the path element.
+		 * @since 18.0
+		 */
+		protected T newPathElement(PathElementType type, double[] buffer) {
+			final GeomFactory2afp<T, ?, ?, ?> factory = getGeomFactory();
+			switch (type) {
+			case MOVE_TO:
+				return factory.newMovePathElement(buffer[BUFFER_TO_X], buffer[BUFFER_TO_Y]);
+			case LINE_TO:
+				return factory.newLinePathElement(
+						buffer[BUFFER_FROM_X], buffer[BUFFER_FROM_Y],
+						buffer[BUFFER_TO_X], buffer[BUFFER_TO_Y]);
+			case QUAD_TO:
+				return factory.newCurvePathElement(
+						buffer[BUFFER_FROM_X], buffer[BUFFER_FROM_Y],
+						buffer[BUFFER_CTRL_X1], buffer[BUFFER_CTRL_Y1],
+						buffer[BUFFER_TO_X], buffer[BUFFER_TO_Y]);
+			case CURVE_TO:
+				return factory.newCurvePathElement(
+						buffer[BUFFER_FROM_X], buffer[BUFFER_FROM_Y],
+						buffer[BUFFER_CTRL_X1], buffer[BUFFER_CTRL_Y1],
+						buffer[BUFFER_CTRL_X2], buffer[BUFFER_CTRL_Y2],
+						buffer[BUFFER_TO_X], buffer[BUFFER_TO_Y]);
+			case CLOSE:
+				return factory.newClosePathElement(
+						buffer[BUFFER_FROM_X], buffer[BUFFER_FROM_Y],
+						buffer[BUFFER_TO_X], buffer[BUFFER_TO_Y]);
+			case ARC_TO:
+				return factory.newArcPathElement(
+						buffer[BUFFER_FROM_X], buffer[BUFFER_FROM_Y],
+						buffer[BUFFER_TO_X], buffer[BUFFER_TO_Y],
+						buffer[BUFFER_RADIUS_X], buffer[BUFFER_RADIUS_Y],
+						buffer[BUFFER_ROTATION_X],
+						buffer[BUFFER_LARGE_ARC_FLAG] != 0., buffer[BUFFER_SWEEP_FLAG] != 0.);
+			default:
+			}
+			throw new NoSuchElementException();
+		}
+
 	}
 
 	/** A path iterator that does not transform the coordinates.
@@ -3044,9 +3111,11 @@ public interface Path2afp<
 	 */
 	class PathPathIterator<T extends PathElement2afp> extends AbstractPathPathIterator<T> {
 
-		private Point2D<?, ?> p1;
+		private final double[] buffer = new double[BUFFER_SIZE];
 
-		private Point2D<?, ?> p2;
+		private double lastx;
+
+		private double lasty;
 
 		private int typeIndex;
 
@@ -3061,8 +3130,6 @@ public interface Path2afp<
 		 */
 		public PathPathIterator(Path2afp<?, ?, T, ?, ?, ?> path) {
 			super(path);
-			this.p1 = new InnerComputationPoint2afp();
-			this.p2 = new InnerComputationPoint2afp();
 		}
 
 		@Override
@@ -3077,88 +3144,81 @@ public interface Path2afp<
 		}
 
 		@Override
-		@SuppressWarnings("checkstyle:magicnumber")
 		public T next() {
+			return newPathElement(next(this.buffer), this.buffer);
+		}
+
+		@Override
+		@SuppressWarnings("checkstyle:magicnumber")
+		public PathElementType next(double[] buffer) {
+			assert buffer != null : AssertMessages.notNullParameter();
+			assert buffer.length >= BUFFER_SIZE : AssertMessages.tooSmallArrayParameter(buffer.length, BUFFER_SIZE);
 			final Path2afp<?, ?, T, ?, ?, ?> path = getPath();
-			final int type = this.typeIndex;
 			if (this.typeIndex >= path.getPathElementCount()) {
 				throw new NoSuchElementException();
 			}
-			T element = null;
-			switch (path.getPathElementTypeAt(type)) {
+			final PathElementType type = path.getPathElementTypeAt(this.typeIndex);
+			Arrays.fill(buffer, 0, BUFFER_SIZE, 0.);
+			switch (type) {
 			case MOVE_TO:
-				if ((this.coordIndex + 2) > (getPath().size() * 2)) {
+				if ((this.coordIndex + 2) > (path.size() * 2)) {
 					throw new NoSuchElementException();
 				}
 				this.movex = path.getCoordAt(this.coordIndex++);
 				this.movey = path.getCoordAt(this.coordIndex++);
-				this.p2.set(this.movex, this.movey);
-				element = getGeomFactory().newMovePathElement(
-						this.p2.getX(), this.p2.getY());
+				this.lastx = this.movex;
+				this.lasty = this.movey;
 				break;
 			case LINE_TO:
 				if ((this.coordIndex + 2) > (path.size() * 2)) {
 					throw new NoSuchElementException();
 				}
-				this.p1.set(this.p2);
-				this.p2.set(
-						path.getCoordAt(this.coordIndex++),
-						path.getCoordAt(this.coordIndex++));
-				element = getGeomFactory().newLinePathElement(
-						this.p1.getX(), this.p1.getY(),
-						this.p2.getX(), this.p2.getY());
+				buffer[BUFFER_FROM_X] = this.lastx;
+				buffer[BUFFER_FROM_Y] = this.lasty;
+				this.lastx = path.getCoordAt(this.coordIndex++);
+				this.lasty = path.getCoordAt(this.coordIndex++);
 				break;
 			case QUAD_TO:
 				if ((this.coordIndex + 4) > (path.size() * 2)) {
 					throw new NoSuchElementException();
 				}
-				this.p1.set(this.p2);
-				final double ctrlx = path.getCoordAt(this.coordIndex++);
-				final double ctrly = path.getCoordAt(this.coordIndex++);
-				this.p2.set(
-						path.getCoordAt(this.coordIndex++),
-						path.getCoordAt(this.coordIndex++));
-				element = getGeomFactory().newCurvePathElement(
-						this.p1.getX(), this.p1.getY(),
-						ctrlx, ctrly,
-						this.p2.getX(), this.p2.getY());
+				buffer[BUFFER_FROM_X] = this.lastx;
+				buffer[BUFFER_FROM_Y] = this.lasty;
+				buffer[BUFFER_CTRL_X1] = path.getCoordAt(this.coordIndex++);
+				buffer[BUFFER_CTRL_Y1] = path.getCoordAt(this.coordIndex++);
+				this.lastx = path.getCoordAt(this.coordIndex++);
+				this.lasty = path.getCoordAt(this.coordIndex++);
 				break;
 			case CURVE_TO:
 				if ((this.coordIndex + 6) > (path.size() * 2)) {
 					throw new NoSuchElementException();
 				}
-				this.p1.set(this.p2);
-				final double ctrlx1 = path.getCoordAt(this.coordIndex++);
-				final double ctrly1 = path.getCoordAt(this.coordIndex++);
-				final double ctrlx2 = path.getCoordAt(this.coordIndex++);
-				final double ctrly2 = path.getCoordAt(this.coordIndex++);
-				this.p2.set(
-						getPath().getCoordAt(this.coordIndex++),
-						getPath().getCoordAt(this.coordIndex++));
-				element = getGeomFactory().newCurvePathElement(
-						this.p1.getX(), this.p1.getY(),
-						ctrlx1, ctrly1,
-						ctrlx2, ctrly2,
-						this.p2.getX(), this.p2.getY());
+				buffer[BUFFER_FROM_X] = this.lastx;
+				buffer[BUFFER_FROM_Y] = this.lasty;
+				buffer[BUFFER_CTRL_X1] = path.getCoordAt(this.coordIndex++);
+				buffer[BUFFER_CTRL_Y1] = path.getCoordAt(this.coordIndex++);
+				buffer[BUFFER_CTRL_X2] = path.getCoordAt(this.coordIndex++);
+				buffer[BUFFER_CTRL_Y2] = path.getCoordAt(this.coordIndex++);
+				this.lastx = path.getCoordAt(this.coordIndex++);
+				this.lasty = path.getCoordAt(this.coordIndex++);
 				break;
 			case CLOSE:
-				this.p1.set(this.p2);
-				this.p2.set(this.movex, this.movey);
-				element = getGeomFactory().newClosePathElement(
-						this.p1.getX(), this.p1.getY(),
-						this.p2.getX(), this.p2.getY());
+				buffer[BUFFER_FROM_X] = this.lastx;
+				buffer[BUFFER_FROM_Y] = this.lasty;
+				this.lastx = this.movex;
+				this.lasty = this.movey;
 				break;
 			case ARC_TO:
 				throw new IllegalStateException();
 			default:
-			}
-			if (element == null) {
 				throw new NoSuchElementException();
 			}
+			buffer[BUFFER_TO_X] = this.lastx;
+			buffer[BUFFER_TO_Y] = this.lasty;
 
 			++this.typeIndex;
 
-			return element;
+			return type;
 		}
 
 	}
@@ -3175,13 +3235,11 @@ public interface Path2afp<
 
 		private final Transform2D transform;
 
-		private final Point2D<?, ?> p1;
+		private final double[] buffer = new double[BUFFER_SIZE];
 
 		private final Point2D<?, ?> p2;
 
-		private final Point2D<?, ?> ptmp1;
-
-		private final Point2D<?, ?> ptmp2;
+		private final Point2D<?, ?> ptmp;
 
 		private int typeIndex;
 
@@ -3199,10 +3257,8 @@ public interface Path2afp<
 			super(path);
 			assert transform != null : AssertMessages.notNullParameter(1);
 			this.transform = transform;
-			this.p1 = new InnerComputationPoint2afp();
 			this.p2 = new InnerComputationPoint2afp();
-			this.ptmp1 = new InnerComputationPoint2afp();
-			this.ptmp2 = new InnerComputationPoint2afp();
+			this.ptmp = new InnerComputationPoint2afp();
 		}
 
 		@Override
@@ -3218,81 +3274,76 @@ public interface Path2afp<
 
 		@Override
 		public T next() {
+			return newPathElement(next(this.buffer), this.buffer);
+		}
+
+		private void nextTransformedPoint(Path2afp<?, ?, T, ?, ?, ?> path, double[] buffer, int xIndex, int yIndex) {
+			this.ptmp.set(
+					path.getCoordAt(this.coordIndex++),
+					path.getCoordAt(this.coordIndex++));
+			this.transform.transform(this.ptmp);
+			buffer[xIndex] = this.ptmp.getX();
+			buffer[yIndex] = this.ptmp.getY();
+		}
+
+		@Override
+		public PathElementType next(double[] buffer) {
+			assert buffer != null : AssertMessages.notNullParameter();
+			assert buffer.length >= BUFFER_SIZE : AssertMessages.tooSmallArrayParameter(buffer.length, BUFFER_SIZE);
 			final Path2afp<?, ?, T, ?, ?, ?> path = getPath();
 			if (this.typeIndex >= path.getPathElementCount()) {
 				throw new NoSuchElementException();
 			}
-			T element = null;
-			switch (path.getPathElementTypeAt(this.typeIndex++)) {
+			final PathElementType type = path.getPathElementTypeAt(this.typeIndex++);
+			Arrays.fill(buffer, 0, BUFFER_SIZE, 0.);
+			switch (type) {
 			case MOVE_TO:
 				this.movex = path.getCoordAt(this.coordIndex++);
 				this.movey = path.getCoordAt(this.coordIndex++);
 				this.p2.set(this.movex, this.movey);
 				this.transform.transform(this.p2);
-				element = getGeomFactory().newMovePathElement(
-						this.p2.getX(), this.p2.getY());
 				break;
 			case LINE_TO:
-				this.p1.set(this.p2);
+				buffer[BUFFER_FROM_X] = this.p2.getX();
+				buffer[BUFFER_FROM_Y] = this.p2.getY();
 				this.p2.set(
 						path.getCoordAt(this.coordIndex++),
 						path.getCoordAt(this.coordIndex++));
 				this.transform.transform(this.p2);
-				element = getGeomFactory().newLinePathElement(
-						this.p1.getX(), this.p1.getY(),
-						this.p2.getX(), this.p2.getY());
 				break;
 			case QUAD_TO:
-				this.p1.set(this.p2);
-				this.ptmp1.set(
-						path.getCoordAt(this.coordIndex++),
-						path.getCoordAt(this.coordIndex++));
-				this.transform.transform(this.ptmp1);
+				buffer[BUFFER_FROM_X] = this.p2.getX();
+				buffer[BUFFER_FROM_Y] = this.p2.getY();
+				nextTransformedPoint(path, buffer, BUFFER_CTRL_X1, BUFFER_CTRL_Y1);
 				this.p2.set(
 						path.getCoordAt(this.coordIndex++),
 						path.getCoordAt(this.coordIndex++));
 				this.transform.transform(this.p2);
-				element = getGeomFactory().newCurvePathElement(
-						this.p1.getX(), this.p1.getY(),
-						this.ptmp1.getX(), this.ptmp1.getY(),
-						this.p2.getX(), this.p2.getY());
 				break;
 			case CURVE_TO:
-				this.p1.set(this.p2);
-				this.ptmp1.set(
-						path.getCoordAt(this.coordIndex++),
-						path.getCoordAt(this.coordIndex++));
-				this.transform.transform(this.ptmp1);
-				this.ptmp2.set(
-						path.getCoordAt(this.coordIndex++),
-						path.getCoordAt(this.coordIndex++));
-				this.transform.transform(this.ptmp2);
+				buffer[BUFFER_FROM_X] = this.p2.getX();
+				buffer[BUFFER_FROM_Y] = this.p2.getY();
+				nextTransformedPoint(path, buffer, BUFFER_CTRL_X1, BUFFER_CTRL_Y1);
+				nextTransformedPoint(path, buffer, BUFFER_CTRL_X2, BUFFER_CTRL_Y2);
 				this.p2.set(
 						path.getCoordAt(this.coordIndex++),
 						path.getCoordAt(this.coordIndex++));
 				this.transform.transform(this.p2);
-				element = getGeomFactory().newCurvePathElement(
-						this.p1.getX(), this.p1.getY(),
-						this.ptmp1.getX(), this.ptmp1.getY(),
-						this.ptmp2.getX(), this.ptmp2.getY(),
-						this.p2.getX(), this.p2.getY());
 				break;
 			case CLOSE:
-				this.p1.set(this.p2);
+				buffer[BUFFER_FROM_X] = this.p2.getX();
+				buffer[BUFFER_FROM_Y] = this.p2.getY();
 				this.p2.set(this.movex, this.movey);
 				this.transform.transform(this.p2);
-				element = getGeomFactory().newClosePathElement(
-						this.p1.getX(), this.p1.getY(),
-						this.p2.getX(), this.p2.getY());
 				break;
 			case ARC_TO:
 				throw new IllegalStateException();
 			default:
-			}
-			if (element == null) {
 				throw new NoSuchElementException();
 			}
-			return element;
+			buffer[BUFFER_TO_X] = this.p2.getX();
+			buffer[BUFFER_TO_Y] = this.p2.getY();
+			return type;
 		}
 
 	}
@@ -3340,6 +3391,14 @@ public interface Path2afp<
 		 */
 		private double[] hold = new double[14];
 
+		/** The buffer that receives the path elements of the source iterator.
+		 */
+		private final double[] source = new double[BUFFER_SIZE];
+
+		/** The buffer that is used for building the path elements replied by {@link #next()}.
+		 */
+		private final double[] buffer = new double[BUFFER_SIZE];
+
 		/** The index of the last curve segment being held for interpolation.
 		 */
 		private int holdEnd;
@@ -3626,9 +3685,30 @@ public interface Path2afp<
 					this.done = true;
 					return;
 				}
-				final T pathElement = this.pathIterator.next();
-				this.holdType = pathElement.getType();
-				pathElement.toArray(this.hold);
+				this.holdType = this.pathIterator.next(this.source);
+				switch (this.holdType) {
+				case QUAD_TO:
+					this.hold[0] = this.source[BUFFER_CTRL_X1];
+					this.hold[1] = this.source[BUFFER_CTRL_Y1];
+					this.hold[2] = this.source[BUFFER_TO_X];
+					this.hold[3] = this.source[BUFFER_TO_Y];
+					break;
+				case CURVE_TO:
+					this.hold[0] = this.source[BUFFER_CTRL_X1];
+					this.hold[1] = this.source[BUFFER_CTRL_Y1];
+					this.hold[2] = this.source[BUFFER_CTRL_X2];
+					this.hold[3] = this.source[BUFFER_CTRL_Y2];
+					this.hold[4] = this.source[BUFFER_TO_X];
+					this.hold[5] = this.source[BUFFER_TO_Y];
+					break;
+				case MOVE_TO:
+				case LINE_TO:
+				case CLOSE:
+				case ARC_TO:
+				default:
+					this.hold[0] = this.source[BUFFER_TO_X];
+					this.hold[1] = this.source[BUFFER_TO_Y];
+				}
 				this.levelIndex = 0;
 				this.levels[0] = 0;
 			}
@@ -3753,32 +3833,57 @@ public interface Path2afp<
 
 		@Override
 		public T next() {
+			final PathElementType type = next(this.buffer);
+			final GeomFactory2afp<T, ?, ?, ?> factory = getGeomFactory();
+			switch (type) {
+			case MOVE_TO:
+				return factory.newMovePathElement(this.buffer[BUFFER_TO_X], this.buffer[BUFFER_TO_Y]);
+			case LINE_TO:
+				return factory.newLinePathElement(
+						this.buffer[BUFFER_FROM_X], this.buffer[BUFFER_FROM_Y],
+						this.buffer[BUFFER_TO_X], this.buffer[BUFFER_TO_Y]);
+			case CLOSE:
+				return factory.newClosePathElement(
+						this.buffer[BUFFER_FROM_X], this.buffer[BUFFER_FROM_Y],
+						this.buffer[BUFFER_TO_X], this.buffer[BUFFER_TO_Y]);
+			case QUAD_TO:
+			case CURVE_TO:
+			case ARC_TO:
+			default:
+				throw new IllegalStateException();
+			}
+		}
+
+		@Override
+		public PathElementType next(double[] buffer) {
+			assert buffer != null : AssertMessages.notNullParameter();
+			assert buffer.length >= BUFFER_SIZE : AssertMessages.tooSmallArrayParameter(buffer.length, BUFFER_SIZE);
 			if (this.done) {
 				throw new NoSuchElementException();
 			}
-			final T element;
+			Arrays.fill(buffer, 0, BUFFER_SIZE, 0.);
 			final PathElementType type = this.holdType;
 			if (type != PathElementType.CLOSE) {
 				final double x = this.hold[this.holdIndex + 0];
 				final double y = this.hold[this.holdIndex + 1];
-				if (type == PathElementType.MOVE_TO) {
-					element = getGeomFactory().newMovePathElement(x, y);
-				} else {
-					element = getGeomFactory().newLinePathElement(
-							this.lastNextX, this.lastNextY,
-							x, y);
+				if (type != PathElementType.MOVE_TO) {
+					buffer[BUFFER_FROM_X] = this.lastNextX;
+					buffer[BUFFER_FROM_Y] = this.lastNextY;
 				}
+				buffer[BUFFER_TO_X] = x;
+				buffer[BUFFER_TO_Y] = y;
 				this.lastNextX = x;
 				this.lastNextY = y;
 			} else {
-				element = getGeomFactory().newClosePathElement(
-						this.lastNextX, this.lastNextY,
-						this.moveX, this.moveY);
+				buffer[BUFFER_FROM_X] = this.lastNextX;
+				buffer[BUFFER_FROM_Y] = this.lastNextY;
+				buffer[BUFFER_TO_X] = this.moveX;
+				buffer[BUFFER_TO_Y] = this.moveY;
 				this.lastNextX = this.moveX;
 				this.lastNextY = this.moveY;
 			}
 			searchNext();
-			return element;
+			return type == PathElementType.MOVE_TO || type == PathElementType.CLOSE ? type : PathElementType.LINE_TO;
 		}
 
 		@Override
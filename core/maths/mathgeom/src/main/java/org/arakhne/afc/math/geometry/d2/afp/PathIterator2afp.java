@@ -20,7 +20,11 @@
 
 package org.arakhne.afc.math.geometry.d2.afp;
 
+import java.util.NoSuchElementException;
+
+import org.arakhne.afc.math.geometry.PathElementType;
 import org.arakhne.afc.math.geometry.d2.PathIterator2D;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
 
 /** This interface describes an iterator on path elements.
  *
@@ -33,10 +37,115 @@ import org.arakhne.afc.math.geometry.d2.PathIterator2D;
  */
 public interface PathIterator2afp<T extends PathElement2afp> extends PathIterator2D<T>, Cloneable {
 
+	/** Index of the x coordinate of the starting point in the buffer filled by {@link #next(double[])}.
+	 * @since 18.0
+	 */
+	int BUFFER_FROM_X = 0;
+
+	/** Index of the y coordinate of the starting point in the buffer filled by {@link #next(double[])}.
+	 * @since 18.0
+	 */
+	int BUFFER_FROM_Y = 1;
+
+	/** Index of the x coordinate of the first control point in the buffer filled by {@link #next(double[])}.
+	 * @since 18.0
+	 */
+	int BUFFER_CTRL_X1 = 2;
+
+	/** Index of the y coordinate of the first control point in the buffer filled by {@link #next(double[])}.
+	 * @since 18.0
+	 */
+	int BUFFER_CTRL_Y1 = 3;
+
+	/** Index of the x coordinate of the second control point in the buffer filled by {@link #next(double[])}.
+	 * @since 18.0
+	 */
+	int BUFFER_CTRL_X2 = 4;
+
+	/** Index of the y coordinate of the second control point in the buffer filled by {@link #next(double[])}.
+	 * @since 18.0
+	 */
+	int BUFFER_CTRL_Y2 = 5;
+
+	/** Index of the x coordinate of the target point in the buffer filled by {@link #next(double[])}.
+	 * @since 18.0
+	 */
+	int BUFFER_TO_X = 6;
+
+	/** Index of the y coordinate of the target point in the buffer filled by {@link #next(double[])}.
+	 * @since 18.0
+	 */
+	int BUFFER_TO_Y = 7;
+
+	/** Index of the x radius of the arc-to ellipse in the buffer filled by {@link #next(double[])}.
+	 * @since 18.0
+	 */
+	int BUFFER_RADIUS_X = 8;
+
+	/** Index of the y radius of the arc-to ellipse in the buffer filled by {@link #next(double[])}.
+	 * @since 18.0
+	 */
+	int BUFFER_RADIUS_Y = 9;
+
+	/** Index of the rotation of the x axis of the arc-to ellipse in the buffer filled by {@link #next(double[])}.
+	 * @since 18.0
+	 */
+	int BUFFER_ROTATION_X = 10;
+
+	/** Index of the large-arc flag in the buffer filled by {@link #next(double[])}.
+	 * The flag is stored as <code>1</code> for <code>true</code>, <code>0</code> otherwise.
+	 * @since 18.0
+	 */
+	int BUFFER_LARGE_ARC_FLAG = 11;
+
+	/** Index of the sweep flag in the buffer filled by {@link #next(double[])}.
+	 * The flag is stored as <code>1</code> for <code>true</code>, <code>0</code> otherwise.
+	 * @since 18.0
+	 */
+	int BUFFER_SWEEP_FLAG = 12;
+
+	/** Minimal size of the buffer given to {@link #next(double[])}.
+	 * @since 18.0
+	 */
+	int BUFFER_SIZE = 13;
+
 	@Override
 	GeomFactory2afp<T, ?, ?, ?> getGeomFactory();
 
 	@Override
 	PathIterator2afp<T> restartIterations();
 
+	/** Move to the next path element and copy its coordinates into the given buffer.
+	 *
+	 * <p>This function is the cursor-based equivalent of {@link #next()}: the coordinates are stored
+	 * at the <code>BUFFER_*</code> indexes, and the slots that are not defined for the type of the
+	 * element are set to <code>0</code>. The implementations that are able to do it avoid the
+	 * allocation of a path element. The default implementation copies the element replied
+	 * by {@link #next()}.
+	 *
+	 * @param buffer the buffer to fill, with at least {@link #BUFFER_SIZE} slots.
+	 * @return the type of the path element.
+	 * @throws NoSuchElementException if there is no more element.
+	 * @since 18.0
+	 */
+	default PathElementType next(double[] buffer) {
+		assert buffer != null : AssertMessages.notNullParameter();
+		assert buffer.length >= BUFFER_SIZE : AssertMessages.tooSmallArrayParameter(buffer.length, BUFFER_SIZE);
+		final T element = next();
+		buffer[BUFFER_FROM_X] = element.getFromX();
+		buffer[BUFFER_FROM_Y] = element.getFromY();
+		buffer[BUFFER_CTRL_X1] = element.getCtrlX1();
+		buffer[BUFFER_CTRL_Y1] = element.getCtrlY1();
+		buffer[BUFFER_CTRL_X2] = element.getCtrlX2();
+		buffer[BUFFER_CTRL_Y2] = element.getCtrlY2();
+		buffer[BUFFER_TO_X] = element.getToX();
+		buffer[BUFFER_TO_Y] = element.getToY();
+		buffer[BUFFER_RADIUS_X] = element.getRadiusX();
+		buffer[BUFFER_RADIUS_Y] = element.getRadiusY();
+		buffer[BUFFER_ROTATION_X] = element.getRotationX();
+		buffer[BUFFER_LARGE_ARC_FLAG] = element.getLargeArcFlag() ? 1. : 0.;
+		buffer[BUFFER_SWEEP_FLAG] = element.getSweepFlag() ? 1. : 0.;
+		return element.getType();
+	}
+
 }
@@ -88,7 +88,9 @@ public abstract class AbstractShape2d<T extends AbstractShape2d<?>> implements S
 	@Override
 	public T clone() {
 		try {
-			return (T) super.clone();
+			final T clone = (T) super.clone();
+			((AbstractShape2d<?>) clone).geometryListeners = null;
+			return clone;
 		} catch (CloneNotSupportedException exception) {
 			throw new InternalError(exception);
 		}
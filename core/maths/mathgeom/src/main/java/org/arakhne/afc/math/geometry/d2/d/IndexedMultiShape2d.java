@@ -0,0 +1,752 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.d;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.geometry.d2.Point2D;
+import org.arakhne.afc.math.geometry.d2.afp.Circle2afp;
+import org.arakhne.afc.math.geometry.d2.afp.Ellipse2afp;
+import org.arakhne.afc.math.geometry.d2.afp.MultiShape2afp;
+import org.arakhne.afc.math.geometry.d2.afp.OrientedRectangle2afp;
+import org.arakhne.afc.math.geometry.d2.afp.Parallelogram2afp;
+import org.arakhne.afc.math.geometry.d2.afp.PathIterator2afp;
+import org.arakhne.afc.math.geometry.d2.afp.Rectangle2afp;
+import org.arakhne.afc.math.geometry.d2.afp.RoundRectangle2afp;
+import org.arakhne.afc.math.geometry.d2.afp.Segment2afp;
+import org.arakhne.afc.math.geometry.d2.afp.Shape2afp;
+import org.arakhne.afc.math.geometry.d2.afp.Triangle2afp;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** Container for grouping of shapes that is indexing its content with a bounding volume hierarchy.
+ *
+ * <p>The bounding boxes of the shapes inside the multishape are stored into a dynamic
+ * binary tree of axis-aligned boxes. The tree is built on the first spatial query, and it
+ * is incrementally updated when shapes are added, removed or moved. The intersection,
+ * containment and proximity queries visit only the branches of the tree that
+ * may match the query, instead of testing all the shapes in the multishape.
+ *
+ * <p>Caution: The functions that are replying a list of shapes, e.g.
+ * {@link #getShapesIntersecting(Shape2d)}, are replying the shapes in no particular order.
+ * In the same way, the functions that are replying the "first" matching shape, e.g.
+ * {@link #getFirstShapeIntersecting(Shape2d)}, are replying any of the matching shapes,
+ * not the matching shape with the lowest index in the multishape.
+ *
+ * @param <T> the type of the shapes inside the multishape.
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ */
+public class IndexedMultiShape2d<T extends Shape2d<?>> extends MultiShape2d<T> {
+
+	private static final long serialVersionUID = -2125086411548296834L;
+
+	/** Number of levels that are tolerated above the optimal height of the tree before it is rebuilt.
+	 */
+	private static final int HEIGHT_TOLERANCE = 4;
+
+	private transient Node<T> root;
+
+	private transient Map<T, Node<T>> leaves;
+
+	private transient boolean updateSuspended;
+
+	/**
+	 * Construct an empty multishape.
+	 */
+	public IndexedMultiShape2d() {
+		//
+	}
+
+	/** Construct a multishape with shapes inside.
+	 *
+	 * @param shapes the shapes to add into the multishape.
+	 */
+	public IndexedMultiShape2d(@SuppressWarnings("unchecked") T... shapes) {
+		assert shapes != null : AssertMessages.notNullParameter();
+		addAll(Arrays.asList(shapes));
+	}
+
+	/** Construct a multishape with shapes inside.
+	 *
+	 * @param shapes the shapes to add into the multishape.
+	 */
+	public IndexedMultiShape2d(Iterable<? extends T> shapes) {
+		assert shapes != null : AssertMessages.notNullParameter();
+		for (final T element : shapes) {
+			add(element);
+		}
+	}
+
+	@Override
+	@Pure
+	public IndexedMultiShape2d<T> clone() {
+		final IndexedMultiShape2d<T> clone = (IndexedMultiShape2d<T>) super.clone();
+		clone.root = null;
+		clone.leaves = null;
+		clone.updateSuspended = false;
+		return clone;
+	}
+
+	@Override
+	protected void onContentAdded(T shape) {
+		if (this.leaves != null && !this.updateSuspended) {
+			final Node<T> leaf = this.leaves.get(shape);
+			if (leaf != null) {
+				++leaf.count;
+			} else {
+				final Node<T> newLeaf = new Node<>(shape);
+				this.leaves.put(shape, newLeaf);
+				insertLeaf(newLeaf);
+				checkBalance();
+			}
+		}
+	}
+
+	@Override
+	protected void onContentRemoved(T shape) {
+		if (this.leaves != null && !this.updateSuspended) {
+			final Node<T> leaf = this.leaves.get(shape);
+			if (leaf != null) {
+				--leaf.count;
+				if (leaf.count <= 0) {
+					this.leaves.remove(shape);
+					removeLeaf(leaf);
+				}
+			}
+		}
+	}
+
+	@Override
+	protected void onContentGeometryChange(T shape) {
+		if (this.leaves != null && !this.updateSuspended) {
+			final Node<T> leaf = this.leaves.get(shape);
+			if (leaf != null) {
+				removeLeaf(leaf);
+				shape.toBoundingBox(leaf.box);
+				insertLeaf(leaf);
+				checkBalance();
+			}
+		}
+		super.onContentGeometryChange(shape);
+	}
+
+	@Override
+	public void translate(double dx, double dy) {
+		if (dx != 0 || dy != 0) {
+			if (this.root != null) {
+				final Deque<Node<T>> stack = new ArrayDeque<>();
+				stack.push(this.root);
+				while (!stack.isEmpty()) {
+					final Node<T> node = stack.pop();
+					node.box.translate(dx, dy);
+					if (!node.isLeaf()) {
+						stack.push(node.left);
+						stack.push(node.right);
+					}
+				}
+			}
+			this.updateSuspended = true;
+			try {
+				super.translate(dx, dy);
+			} finally {
+				this.updateSuspended = false;
+			}
+		}
+	}
+
+	/** Replies the height of the index tree.
+	 *
+	 * <p>The index is built if it is not yet built.
+	 *
+	 * @return the height of the index tree, or {@code -1} if the multishape is empty.
+	 */
+	@Pure
+	public int getIndexHeight() {
+		ensureIndex();
+		return this.root == null ? -1 : this.root.height;
+	}
+
+	/** Force the index to be rebuilt from scratch on the next spatial query.
+	 *
+	 * <p>The incremental updates of the index keep it valid, but the quality of the tree
+	 * may decrease after many updates. Invoking this function restores the quality of the tree.
+	 */
+	public void invalidateIndex() {
+		this.root = null;
+		this.leaves = null;
+	}
+
+	/** Build the index if it is not built.
+	 */
+	private void ensureIndex() {
+		if (this.leaves == null) {
+			final Map<T, Node<T>> newLeaves = new IdentityHashMap<>();
+			final List<Node<T>> nodes = new ArrayList<>();
+			for (final T shape : getBackendDataList()) {
+				final Node<T> leaf = newLeaves.get(shape);
+				if (leaf != null) {
+					++leaf.count;
+				} else {
+					final Node<T> newLeaf = new Node<>(shape);
+					newLeaves.put(shape, newLeaf);
+					nodes.add(newLeaf);
+				}
+			}
+			this.root = nodes.isEmpty() ? null : buildTree(nodes, 0, nodes.size());
+			if (this.root != null) {
+				this.root.parent = null;
+			}
+			this.leaves = newLeaves;
+		}
+	}
+
+	/** Build the subtree for the leaves in the given range by splitting the range at the median
+	 * of the box centers along the largest axis.
+	 *
+	 * @param nodes the leaves.
+	 * @param from the index of the first leaf in the range, inclusive.
+	 * @param to the index of the last leaf in the range, exclusive.
+	 * @return the root of the subtree.
+	 */
+	private static <T extends Shape2d<?>> Node<T> buildTree(List<Node<T>> nodes, int from, int to) {
+		if (to - from == 1) {
+			return nodes.get(from);
+		}
+		double minx = Double.POSITIVE_INFINITY;
+		double miny = Double.POSITIVE_INFINITY;
+		double maxx = Double.NEGATIVE_INFINITY;
+		double maxy = Double.NEGATIVE_INFINITY;
+		for (int i = from; i < to; ++i) {
+			final Rectangle2d box = nodes.get(i).box;
+			final double cx = box.getCenterX();
+			final double cy = box.getCenterY();
+			minx = Math.min(minx, cx);
+			miny = Math.min(miny, cy);
+			maxx = Math.max(maxx, cx);
+			maxy = Math.max(maxy, cy);
+		}
+		final Comparator<Node<T>> comparator;
+		if (maxx - minx >= maxy - miny) {
+			comparator = (node1, node2) -> Double.compare(node1.box.getCenterX(), node2.box.getCenterX());
+		} else {
+			comparator = (node1, node2) -> Double.compare(node1.box.getCenterY(), node2.box.getCenterY());
+		}
+		nodes.subList(from, to).sort(comparator);
+		final int middle = (from + to) / 2;
+		final Node<T> node = new Node<>();
+		node.setChildren(buildTree(nodes, from, middle), buildTree(nodes, middle, to));
+		return node;
+	}
+
+	/** Insert the given leaf into the tree.
+	 *
+	 * <p>The sibling of the leaf is selected by descending into the tree and by minimizing the
+	 * growth of the perimeters of the boxes.
+	 *
+	 * @param leaf the leaf to insert.
+	 */
+	private void insertLeaf(Node<T> leaf) {
+		if (this.root == null) {
+			this.root = leaf;
+			leaf.parent = null;
+			return;
+		}
+		final Rectangle2d box = leaf.box;
+		Node<T> sibling = this.root;
+		while (!sibling.isLeaf()) {
+			final double perimeter = perimeter(sibling.box);
+			final double combinedPerimeter = unionPerimeter(sibling.box, box);
+			// Cost for creating a new parent for the sibling and the leaf
+			final double cost = 2. * combinedPerimeter;
+			// Minimum cost for pushing the leaf further down the tree
+			final double inheritanceCost = 2. * (combinedPerimeter - perimeter);
+			final double cost1 = descentCost(sibling.left, box) + inheritanceCost;
+			final double cost2 = descentCost(sibling.right, box) + inheritanceCost;
+			if (cost < cost1 && cost < cost2) {
+				break;
+			}
+			sibling = cost1 < cost2 ? sibling.left : sibling.right;
+		}
+		final Node<T> oldParent = sibling.parent;
+		final Node<T> newParent = new Node<>();
+		if (oldParent == null) {
+			this.root = newParent;
+			newParent.parent = null;
+		} else {
+			oldParent.replaceChild(sibling, newParent);
+		}
+		newParent.setChildren(sibling, leaf);
+		refit(oldParent);
+	}
+
+	/** Remove the given leaf from the tree.
+	 *
+	 * @param leaf the leaf to remove.
+	 */
+	private void removeLeaf(Node<T> leaf) {
+		if (leaf == this.root) {
+			this.root = null;
+			return;
+		}
+		final Node<T> parent = leaf.parent;
+		final Node<T> grandParent = parent.parent;
+		final Node<T> sibling = parent.left == leaf ? parent.right : parent.left;
+		if (grandParent == null) {
+			this.root = sibling;
+			sibling.parent = null;
+		} else {
+			grandParent.replaceChild(parent, sibling);
+			refit(grandParent);
+		}
+		leaf.parent = null;
+	}
+
+	/** Update the boxes and the heights of the given node and of its ancestors.
+	 *
+	 * @param node the first node to update.
+	 */
+	private static <T extends Shape2d<?>> void refit(Node<T> node) {
+		Node<T> current = node;
+		while (current != null) {
+			current.updateFromChildren();
+			current = current.parent;
+		}
+	}
+
+	/** Mark the index as invalid if the tree is too unbalanced.
+	 * The tree is rebuilt on the next spatial query.
+	 */
+	private void checkBalance() {
+		final int size = this.leaves.size();
+		final int optimalHeight = Integer.SIZE - Integer.numberOfLeadingZeros(size);
+		if (this.root != null && this.root.height > 2 * optimalHeight + HEIGHT_TOLERANCE) {
+			invalidateIndex();
+		}
+	}
+
+	@Pure
+	private static double perimeter(Rectangle2d box) {
+		return 2. * (box.getWidth() + box.getHeight());
+	}
+
+	@Pure
+	private static double unionPerimeter(Rectangle2d box1, Rectangle2d box2) {
+		final double width = Math.max(box1.getMaxX(), box2.getMaxX()) - Math.min(box1.getMinX(), box2.getMinX());
+		final double height = Math.max(box1.getMaxY(), box2.getMaxY()) - Math.min(box1.getMinY(), box2.getMinY());
+		return 2. * (width + height);
+	}
+
+	@Pure
+	private static <T extends Shape2d<?>> double descentCost(Node<T> node, Rectangle2d box) {
+		final double combinedPerimeter = unionPerimeter(node.box, box);
+		if (node.isLeaf()) {
+			return combinedPerimeter;
+		}
+		return combinedPerimeter - perimeter(node.box);
+	}
+
+	/** Replies the first shape that is matching the given filters.
+	 *
+	 * @param boxFilter the filter on the boxes of the tree nodes.
+	 * @param shapeFilter the filter on the shapes.
+	 * @return the first matching shape, or <code>null</code>.
+	 */
+	@Pure
+	private T findFirst(Predicate<? super Rectangle2d> boxFilter, Predicate<? super T> shapeFilter) {
+		ensureIndex();
+		if (this.root != null) {
+			final Deque<Node<T>> stack = new ArrayDeque<>();
+			stack.push(this.root);
+			while (!stack.isEmpty()) {
+				final Node<T> node = stack.pop();
+				if (boxFilter.test(node.box)) {
+					if (node.isLeaf()) {
+						if (shapeFilter.test(node.shape)) {
+							return node.shape;
+						}
+					} else {
+						stack.push(node.right);
+						stack.push(node.left);
+					}
+				}
+			}
+		}
+		return null;
+	}
+
+	/** Replies the shapes that are matching the given filters.
+	 *
+	 * @param boxFilter the filter on the boxes of the tree nodes.
+	 * @param shapeFilter the filter on the shapes.
+	 * @return the matching shapes.
+	 */
+	@Pure
+	private List<T> findAll(Predicate<? super Rectangle2d> boxFilter, Predicate<? super T> shapeFilter) {
+		ensureIndex();
+		final List<T> list = new ArrayList<>();
+		if (this.root != null) {
+			final Deque<Node<T>> stack = new ArrayDeque<>();
+			stack.push(this.root);
+			while (!stack.isEmpty()) {
+				final Node<T> node = stack.pop();
+				if (boxFilter.test(node.box)) {
+					if (node.isLeaf()) {
+						if (shapeFilter.test(node.shape)) {
+							for (int i = 0; i < node.count; ++i) {
+								list.add(node.shape);
+							}
+						}
+					} else {
+						stack.push(node.right);
+						stack.push(node.left);
+					}
+				}
+			}
+		}
+		return list;
+	}
+
+	@Pure
+	@Override
+	public Rectangle2d toBoundingBox() {
+		ensureIndex();
+		if (this.root == null) {
+			return super.toBoundingBox();
+		}
+		return this.root.box.clone();
+	}
+
+	@Pure
+	@Override
+	public void toBoundingBox(Rectangle2d box) {
+		assert box != null : AssertMessages.notNullParameter();
+		ensureIndex();
+		if (this.root == null) {
+			super.toBoundingBox(box);
+		} else {
+			box.set(this.root.box);
+		}
+	}
+
+	@Pure
+	@Override
+	public boolean intersects(Ellipse2afp<?, ?, ?, ?, ?, ?> ellipse) {
+		assert ellipse != null : AssertMessages.notNullParameter();
+		return findFirst(box -> ellipse.intersects(box), shape -> shape.intersects(ellipse)) != null;
+	}
+
+	@Pure
+	@Override
+	public boolean intersects(Circle2afp<?, ?, ?, ?, ?, ?> circle) {
+		assert circle != null : AssertMessages.notNullParameter();
+		return findFirst(box -> circle.intersects(box), shape -> shape.intersects(circle)) != null;
+	}
+
+	@Pure
+	@Override
+	public boolean intersects(Rectangle2afp<?, ?, ?, ?, ?, ?> rectangle) {
+		assert rectangle != null : AssertMessages.notNullParameter();
+		return findFirst(box -> rectangle.intersects(box), shape -> shape.intersects(rectangle)) != null;
+	}
+
+	@Pure
+	@Override
+	public boolean intersects(Segment2afp<?, ?, ?, ?, ?, ?> segment) {
+		assert segment != null : AssertMessages.notNullParameter();
+		return findFirst(box -> segment.intersects(box), shape -> shape.intersects(segment)) != null;
+	}
+
+	@Pure
+	@Override
+	public boolean intersects(Triangle2afp<?, ?, ?, ?, ?, ?> triangle) {
+		assert triangle != null : AssertMessages.notNullParameter();
+		return findFirst(box -> triangle.intersects(box), shape -> shape.intersects(triangle)) != null;
+	}
+
+	@Pure
+	@Override
+	public boolean intersects(PathIterator2afp<?> iterator) {
+		assert iterator != null : AssertMessages.notNullParameter();
+		return findFirst(box -> box.intersects(iterator.restartIterations()),
+			shape -> shape.intersects(iterator.restartIterations())) != null;
+	}
+
+	@Pure
+	@Override
+	public boolean intersects(OrientedRectangle2afp<?, ?, ?, ?, ?, ?> orientedRectangle) {
+		assert orientedRectangle != null : AssertMessages.notNullParameter();
+		return findFirst(box -> orientedRectangle.intersects(box),
+			shape -> shape.intersects(orientedRectangle)) != null;
+	}
+
+	@Pure
+	@Override
+	public boolean intersects(Parallelogram2afp<?, ?, ?, ?, ?, ?> parallelogram) {
+		assert parallelogram != null : AssertMessages.notNullParameter();
+		return findFirst(box -> parallelogram.intersects(box), shape -> shape.intersects(parallelogram)) != null;
+	}
+
+	@Pure
+	@Override
+	public boolean intersects(RoundRectangle2afp<?, ?, ?, ?, ?, ?> roundRectangle) {
+		assert roundRectangle != null : AssertMessages.notNullParameter();
+		return findFirst(box -> roundRectangle.intersects(box), shape -> shape.intersects(roundRectangle)) != null;
+	}
+
+	@Pure
+	@Override
+	public boolean intersects(MultiShape2afp<?, ?, ?, ?, ?, ?, ?> multishape) {
+		assert multishape != null : AssertMessages.notNullParameter();
+		for (final Shape2afp<?, ?, ?, ?, ?, ?> shape2 : multishape.getBackendDataList()) {
+			if (findFirst(box -> shape2.intersects(box), shape1 -> shape1.intersects(shape2)) != null) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Pure
+	@Override
+	public boolean contains(double x, double y) {
+		return findFirst(box -> box.contains(x, y), shape -> shape.contains(x, y)) != null;
+	}
+
+	@Pure
+	@Override
+	public boolean contains(Rectangle2afp<?, ?, ?, ?, ?, ?> rectangle) {
+		assert rectangle != null : AssertMessages.notNullParameter();
+		return findFirst(box -> rectangle.intersects(box), shape -> shape.contains(rectangle)) != null;
+	}
+
+	@Pure
+	@Override
+	public T getFirstShapeContaining(Point2D<?, ?> point) {
+		assert point != null : AssertMessages.notNullParameter();
+		return findFirst(box -> box.contains(point), shape -> shape.contains(point));
+	}
+
+	@Pure
+	@Override
+	public List<T> getShapesContaining(Point2D<?, ?> point) {
+		assert point != null : AssertMessages.notNullParameter();
+		return findAll(box -> box.contains(point), shape -> shape.contains(point));
+	}
+
+	@Pure
+	@Override
+	public T getFirstShapeIntersecting(Shape2d<?> shape) {
+		assert shape != null : AssertMessages.notNullParameter();
+		return findFirst(box -> shape.intersects(box), innerShape -> innerShape.intersects(shape));
+	}
+
+	@Pure
+	@Override
+	public List<T> getShapesIntersecting(Shape2d<?> shape) {
+		assert shape != null : AssertMessages.notNullParameter();
+		return findAll(box -> shape.intersects(box), innerShape -> innerShape.intersects(shape));
+	}
+
+	@Pure
+	@Override
+	public Point2d getClosestPointTo(Point2D<?, ?> point) {
+		assert point != null : AssertMessages.notNullParameter();
+		ensureIndex();
+		if (this.root == null) {
+			return null;
+		}
+		final double px = point.getX();
+		final double py = point.getY();
+		final PriorityQueue<Candidate<T>> queue = new PriorityQueue<>();
+		queue.add(new Candidate<>(this.root, 0.));
+		Point2d closestPoint = null;
+		double minDist = Double.POSITIVE_INFINITY;
+		while (!queue.isEmpty()) {
+			final Candidate<T> candidate = queue.poll();
+			if (candidate.distance > minDist) {
+				break;
+			}
+			final Node<T> node = candidate.node;
+			if (node.isLeaf()) {
+				final Point2d close = node.shape.getClosestPointTo(point);
+				final double dist = close.getDistanceSquared(point);
+				if (dist < minDist) {
+					minDist = dist;
+					closestPoint = close;
+				}
+			} else {
+				queue.add(new Candidate<>(node.left, boxDistanceSquared(node.left.box, px, py)));
+				queue.add(new Candidate<>(node.right, boxDistanceSquared(node.right.box, px, py)));
+			}
+		}
+		return closestPoint;
+	}
+
+	@Pure
+	@Override
+	public double getDistanceSquared(Point2D<?, ?> point) {
+		assert point != null : AssertMessages.notNullParameter();
+		ensureIndex();
+		if (this.root == null) {
+			return Double.POSITIVE_INFINITY;
+		}
+		final double px = point.getX();
+		final double py = point.getY();
+		final PriorityQueue<Candidate<T>> queue = new PriorityQueue<>();
+		queue.add(new Candidate<>(this.root, 0.));
+		double minDist = Double.POSITIVE_INFINITY;
+		while (!queue.isEmpty()) {
+			final Candidate<T> candidate = queue.poll();
+			if (candidate.distance >= minDist) {
+				break;
+			}
+			final Node<T> node = candidate.node;
+			if (node.isLeaf()) {
+				final double dist = node.shape.getDistanceSquared(point);
+				if (dist < minDist) {
+					minDist = dist;
+				}
+			} else {
+				queue.add(new Candidate<>(node.left, boxDistanceSquared(node.left.box, px, py)));
+				queue.add(new Candidate<>(node.right, boxDistanceSquared(node.right.box, px, py)));
+			}
+		}
+		return minDist;
+	}
+
+	@Pure
+	private static double boxDistanceSquared(Rectangle2d box, double px, double py) {
+		return Rectangle2afp.calculatesDistanceSquaredRectanglePoint(
+				box.getMinX(), box.getMinY(), box.getMaxX(), box.getMaxY(), px, py);
+	}
+
+	/** Node of the bounding volume hierarchy.
+	 *
+	 * @param <T> the type of the shapes.
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 18.0
+	 */
+	private static final class Node<T extends Shape2d<?>> {
+
+		final Rectangle2d box = new Rectangle2d();
+
+		final T shape;
+
+		Node<T> parent;
+
+		Node<T> left;
+
+		Node<T> right;
+
+		int height;
+
+		int count;
+
+		/** Construct an internal node.
+		 */
+		Node() {
+			this.shape = null;
+		}
+
+		/** Construct a leaf.
+		 *
+		 * @param shape the shape in the leaf.
+		 */
+		Node(T shape) {
+			this.shape = shape;
+			this.count = 1;
+			shape.toBoundingBox(this.box);
+		}
+
+		@Pure
+		boolean isLeaf() {
+			return this.left == null;
+		}
+
+		void setChildren(Node<T> left, Node<T> right) {
+			this.left = left;
+			this.right = right;
+			left.parent = this;
+			right.parent = this;
+			updateFromChildren();
+		}
+
+		void replaceChild(Node<T> oldChild, Node<T> newChild) {
+			if (this.left == oldChild) {
+				this.left = newChild;
+			} else {
+				this.right = newChild;
+			}
+			newChild.parent = this;
+		}
+
+		void updateFromChildren() {
+			this.box.set(this.left.box);
+			this.box.setUnion(this.right.box);
+			this.height = 1 + Math.max(this.left.height, this.right.height);
+		}
+
+	}
+
+	/** Candidate node for the nearest-neighbor search.
+	 *
+	 * @param <T> the type of the shapes.
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 18.0
+	 */
+	private static final class Candidate<T extends Shape2d<?>> implements Comparable<Candidate<T>> {
+
+		final Node<T> node;
+
+		final double distance;
+
+		Candidate(Node<T> node, double distance) {
+			this.node = node;
+			this.distance = distance;
+		}
+
+		@Override
+		public int compareTo(Candidate<T> other) {
+			return Double.compare(this.distance, other.distance);
+		}
+
+	}
+
+}
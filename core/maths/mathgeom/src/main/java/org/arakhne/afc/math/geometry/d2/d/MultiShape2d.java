@@ -85,11 +85,11 @@ public class MultiShape2d<T extends Shape2d<?>> extends AbstractShape2d<MultiSha
 	@Pure
 	public MultiShape2d<T> clone() {
 		final MultiShape2d<T> clone = super.clone();
-		final List<T> clonedList = new ArrayList<>();
+		final List<T> clonedList = new ArrayList<>(this.elements.size());
 		for (final T shape : this.elements) {
 			clonedList.add((T) shape.clone());
 		}
-		clone.elements = clonedList;
+		clone.elements = clone.new ListResponseModel(clonedList);
 		if (this.bounds != null) {
 			clone.bounds = this.bounds.clone();
 		}
@@ -116,6 +116,39 @@ public class MultiShape2d<T extends Shape2d<?>> extends AbstractShape2d<MultiSha
 		fireGeometryChange();
 	}
 
+	/** Invoked when the geometry of the given shape of the content has changed.
+	 *
+	 * <p>The default implementation invokes {@link #onContentGeometryChange()}.
+	 *
+	 * @param shape the changed shape.
+	 * @since 18.0
+	 */
+	protected void onContentGeometryChange(T shape) {
+		onContentGeometryChange();
+	}
+
+	/** Invoked when the given shape is added into the content.
+	 *
+	 * <p>This function is invoked before {@link #onBackendDataChange()}.
+	 *
+	 * @param shape the added shape.
+	 * @since 18.0
+	 */
+	protected void onContentAdded(T shape) {
+		//
+	}
+
+	/** Invoked when the given shape is removed from the content.
+	 *
+	 * <p>This function is invoked before {@link #onBackendDataChange()}.
+	 *
+	 * @param shape the removed shape.
+	 * @since 18.0
+	 */
+	protected void onContentRemoved(T shape) {
+		//
+	}
+
 	@Pure
 	@Override
 	public List<T> getBackendDataList() {
@@ -166,12 +199,27 @@ public class MultiShape2d<T extends Shape2d<?>> extends AbstractShape2d<MultiSha
 	 */
 	private class ListResponseModel extends AbstractList<T> implements ShapeGeometryChangeListener {
 
-		private List<T> delegate = new ArrayList<>();
+		private final List<T> delegate;
 
 		/** Construct an empty model.
 		 */
 		ListResponseModel() {
-			//
+			this.delegate = new ArrayList<>();
+		}
+
+		/** Construct a model with the given elements.
+		 * The content hooks of the multishape are not invoked.
+		 *
+		 * @param elements the elements.
+		 * @since 18.0
+		 */
+		ListResponseModel(List<T> elements) {
+			this.delegate = elements;
+			for (final T element : elements) {
+				if (element instanceof AbstractShape2d<?>) {
+					((AbstractShape2d<?>) element).addShapeGeometryChangeListener(this);
+				}
+			}
 		}
 
 		@Override
@@ -181,6 +229,7 @@ public class MultiShape2d<T extends Shape2d<?>> extends AbstractShape2d<MultiSha
 			if (element instanceof AbstractShape2d<?>) {
 				((AbstractShape2d<?>) element).addShapeGeometryChangeListener(this);
 			}
+			onContentAdded(element);
 		}
 
 		@Override
@@ -189,6 +238,7 @@ public class MultiShape2d<T extends Shape2d<?>> extends AbstractShape2d<MultiSha
 			if (element instanceof AbstractShape2d<?>) {
 				((AbstractShape2d<?>) element).removeShapeGeometryChangeListener(this);
 			}
+			onContentRemoved(element);
 			return element;
 		}
 
@@ -202,6 +252,8 @@ public class MultiShape2d<T extends Shape2d<?>> extends AbstractShape2d<MultiSha
 			if (element instanceof AbstractShape2d<?>) {
 				((AbstractShape2d<?>) element).addShapeGeometryChangeListener(this);
 			}
+			onContentRemoved(oldElement);
+			onContentAdded(element);
 			return oldElement;
 		}
 
@@ -216,8 +268,9 @@ public class MultiShape2d<T extends Shape2d<?>> extends AbstractShape2d<MultiSha
 		}
 
 		@Override
+		@SuppressWarnings("unchecked")
 		public void shapeGeometryChange(Shape2d<?> shape) {
-			onContentGeometryChange();
+			onContentGeometryChange((T) shape);
 		}
 
 		@Override
@@ -0,0 +1,474 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.d;
+
+import java.util.Arrays;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.geometry.GeomConstants;
+import org.arakhne.afc.math.geometry.PathElementType;
+import org.arakhne.afc.math.geometry.PathWindingRule;
+import org.arakhne.afc.math.geometry.d2.Point2D;
+import org.arakhne.afc.math.geometry.d2.afp.PathIterator2afp;
+import org.arakhne.afc.math.geometry.d2.afp.Rectangle2afp;
+import org.arakhne.afc.math.geometry.d2.afp.Segment2afp;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** Immutable preprocessed form of a path that is dedicated to repeated containment and intersection tests.
+ *
+ * <p>The path is flattened with the spline approximation ratio of its geometry factory. The
+ * resulting edges are dispatched into horizontal bands of equal heights. Each containment test
+ * considers only the edges that are overlapping the band of the tested point, instead of all
+ * the elements of the path.
+ *
+ * <p>The replied values are the same as the ones of {@link Path2d#contains(double, double)} and
+ * {@link Path2d#intersects(Rectangle2afp)} on the path at the time the prepared path was created.
+ * The prepared path is not updated when the source path is changed.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ */
+public final class PreparedPath2d {
+
+	/** Maximal number of bands.
+	 */
+	private static final int MAX_BAND_COUNT = 1 << 16;
+
+	/** Maximal average number of bands in which an edge is referenced.
+	 * The number of bands is reduced until the size of the band index is lower than
+	 * this value multiplied by the number of edges.
+	 */
+	private static final int MAX_BANDS_PER_EDGE = 16;
+
+	private final PathWindingRule windingRule;
+
+	private final boolean openPath;
+
+	private final double minX;
+
+	private final double minY;
+
+	private final double maxX;
+
+	private final double maxY;
+
+	private final double[] edges;
+
+	private final int[] edgeGroups;
+
+	private final int groupCount;
+
+	private final double bandScale;
+
+	private final int[] bandOffsets;
+
+	private final int[] bandEdges;
+
+	private final double[] vertices;
+
+	/** Construct the prepared form of the given path.
+	 *
+	 * @param path the path to prepare.
+	 */
+	public PreparedPath2d(Path2d path) {
+		assert path != null : AssertMessages.notNullParameter();
+		this.windingRule = path.getWindingRule();
+
+		// Flatten the path into edges and collect the points on which the path is considered as intersecting.
+		final PathIterator2afp<PathElement2d> iterator = path.getPathIterator(
+				path.getGeomFactory().getSplineApproximationRatio());
+		double[] edgeBuffer = new double[64];
+		int[] groupBuffer = new int[16];
+		int edgeCount = 0;
+		int closeCount = 0;
+		double[] vertexBuffer = new double[32];
+		int vertexCount = 0;
+		double bminx = Double.POSITIVE_INFINITY;
+		double bminy = Double.POSITIVE_INFINITY;
+		double bmaxx = Double.NEGATIVE_INFINITY;
+		double bmaxy = Double.NEGATIVE_INFINITY;
+		double movx = 0;
+		double movy = 0;
+		double curx = 0;
+		double cury = 0;
+		boolean hasMove = false;
+		while (iterator.hasNext()) {
+			final PathElement2d element = iterator.next();
+			final double endx;
+			final double endy;
+			switch (element.getType()) {
+			case MOVE_TO:
+				movx = element.getToX();
+				movy = element.getToY();
+				curx = movx;
+				cury = movy;
+				hasMove = true;
+				bminx = Math.min(bminx, movx);
+				bminy = Math.min(bminy, movy);
+				bmaxx = Math.max(bmaxx, movx);
+				bmaxy = Math.max(bmaxy, movy);
+				continue;
+			case LINE_TO:
+				endx = element.getToX();
+				endy = element.getToY();
+				break;
+			case CLOSE:
+				++closeCount;
+				if (curx == movx && cury == movy) {
+					continue;
+				}
+				endx = movx;
+				endy = movy;
+				break;
+				//$CASES-OMITTED$
+			default:
+				throw new IllegalStateException(element.getType().toString());
+			}
+			if (edgeCount * 4 + 4 > edgeBuffer.length) {
+				edgeBuffer = Arrays.copyOf(edgeBuffer, edgeBuffer.length * 2);
+			}
+			edgeBuffer[edgeCount * 4] = curx;
+			edgeBuffer[edgeCount * 4 + 1] = cury;
+			edgeBuffer[edgeCount * 4 + 2] = endx;
+			edgeBuffer[edgeCount * 4 + 3] = endy;
+			if (edgeCount >= groupBuffer.length) {
+				groupBuffer = Arrays.copyOf(groupBuffer, groupBuffer.length * 2);
+			}
+			// The closing edge belongs to the group of the subpath it closes
+			groupBuffer[edgeCount] = element.getType() == PathElementType.CLOSE ? closeCount - 1 : closeCount;
+			++edgeCount;
+			if (vertexCount * 2 + 2 > vertexBuffer.length) {
+				vertexBuffer = Arrays.copyOf(vertexBuffer, vertexBuffer.length * 2);
+			}
+			vertexBuffer[vertexCount * 2] = endx;
+			vertexBuffer[vertexCount * 2 + 1] = endy;
+			++vertexCount;
+			bminx = Math.min(bminx, endx);
+			bminy = Math.min(bminy, endy);
+			bmaxx = Math.max(bmaxx, endx);
+			bmaxy = Math.max(bmaxy, endy);
+			curx = endx;
+			cury = endy;
+		}
+		this.openPath = hasMove && (curx != movx || cury != movy);
+		this.edges = Arrays.copyOf(edgeBuffer, edgeCount * 4);
+		this.edgeGroups = Arrays.copyOf(groupBuffer, edgeCount);
+		this.groupCount = closeCount + 1;
+		this.vertices = sortVertices(vertexBuffer, vertexCount);
+		if (hasMove) {
+			this.minX = bminx;
+			this.minY = bminy;
+			this.maxX = bmaxx;
+			this.maxY = bmaxy;
+		} else {
+			this.minX = 0;
+			this.minY = 0;
+			this.maxX = 0;
+			this.maxY = 0;
+		}
+
+		// Dispatch the edges into the bands. The edges that are spanning several bands are
+		// referenced in each of them; the number of bands is reduced until the size of the
+		// index is linear in the number of edges.
+		final double height = this.maxY - this.minY;
+		final long maxIndexSize = (long) MAX_BANDS_PER_EDGE * edgeCount;
+		int bandCount = Math.max(1, Math.min(edgeCount, MAX_BAND_COUNT));
+		while (bandCount > 1 && computeIndexSize(this.edges, edgeCount, this.minY, bandCount / height, bandCount)
+				> maxIndexSize) {
+			bandCount /= 2;
+		}
+		this.bandScale = height > 0 ? bandCount / height : 0;
+		this.bandOffsets = new int[bandCount + 1];
+		for (int i = 0; i < edgeCount; ++i) {
+			final int first = getBand(Math.min(this.edges[i * 4 + 1], this.edges[i * 4 + 3]));
+			final int last = getBand(Math.max(this.edges[i * 4 + 1], this.edges[i * 4 + 3]));
+			for (int band = first; band <= last; ++band) {
+				++this.bandOffsets[band + 1];
+			}
+		}
+		for (int band = 0; band < bandCount; ++band) {
+			this.bandOffsets[band + 1] += this.bandOffsets[band];
+		}
+		this.bandEdges = new int[this.bandOffsets[bandCount]];
+		final int[] fill = Arrays.copyOf(this.bandOffsets, bandCount);
+		for (int i = 0; i < edgeCount; ++i) {
+			final int first = getBand(Math.min(this.edges[i * 4 + 1], this.edges[i * 4 + 3]));
+			final int last = getBand(Math.max(this.edges[i * 4 + 1], this.edges[i * 4 + 3]));
+			for (int band = first; band <= last; ++band) {
+				this.bandEdges[fill[band]++] = i;
+			}
+		}
+	}
+
+	/** Compute the number of edge references in a band index with the given number of bands.
+	 *
+	 * @param edges the coordinates of the edges.
+	 * @param edgeCount the number of edges.
+	 * @param minY the lowest y coordinate of the edges.
+	 * @param scale the number of bands per unit of height.
+	 * @param bandCount the number of bands.
+	 * @return the number of references to the edges in the bands.
+	 */
+	private static long computeIndexSize(double[] edges, int edgeCount, double minY, double scale, int bandCount) {
+		long size = 0;
+		for (int i = 0; i < edgeCount; ++i) {
+			final int first = clampBand((int) ((Math.min(edges[i * 4 + 1], edges[i * 4 + 3]) - minY) * scale),
+					bandCount);
+			final int last = clampBand((int) ((Math.max(edges[i * 4 + 1], edges[i * 4 + 3]) - minY) * scale),
+					bandCount);
+			size += last - first + 1;
+		}
+		return size;
+	}
+
+	/** Clamp the given band index to the valid band indexes.
+	 *
+	 * @param band the band index.
+	 * @param bandCount the number of bands.
+	 * @return the clamped index.
+	 */
+	private static int clampBand(int band, int bandCount) {
+		if (band < 0) {
+			return 0;
+		}
+		if (band >= bandCount) {
+			return bandCount - 1;
+		}
+		return band;
+	}
+
+	/** Sort the given vertices by increasing y, then by increasing x.
+	 *
+	 * @param buffer the coordinates of the vertices.
+	 * @param count the number of vertices.
+	 * @return the sorted coordinates.
+	 */
+	private static double[] sortVertices(double[] buffer, int count) {
+		final Integer[] order = new Integer[count];
+		for (int i = 0; i < count; ++i) {
+			order[i] = Integer.valueOf(i);
+		}
+		Arrays.sort(order, (a, b) -> {
+			final int cmp = Double.compare(buffer[a.intValue() * 2 + 1], buffer[b.intValue() * 2 + 1]);
+			if (cmp != 0) {
+				return cmp;
+			}
+			return Double.compare(buffer[a.intValue() * 2], buffer[b.intValue() * 2]);
+		});
+		final double[] sorted = new double[count * 2];
+		for (int i = 0; i < count; ++i) {
+			sorted[i * 2] = buffer[order[i].intValue() * 2];
+			sorted[i * 2 + 1] = buffer[order[i].intValue() * 2 + 1];
+		}
+		return sorted;
+	}
+
+	/** Replies the band that is containing the given y coordinate.
+	 *
+	 * @param y the y coordinate.
+	 * @return the index of the band.
+	 */
+	@Pure
+	private int getBand(double y) {
+		return clampBand((int) ((y - this.minY) * this.bandScale), this.bandOffsets.length - 1);
+	}
+
+	/** Replies if the given point is one of the vertices of the path.
+	 *
+	 * @param x the x coordinate of the point.
+	 * @param y the y coordinate of the point.
+	 * @return <code>true</code> if the point is a vertex.
+	 */
+	@Pure
+	private boolean isVertex(double x, double y) {
+		int low = 0;
+		int high = this.vertices.length / 2 - 1;
+		while (low <= high) {
+			final int middle = (low + high) >>> 1;
+			int cmp = Double.compare(this.vertices[middle * 2 + 1], y);
+			if (cmp == 0) {
+				cmp = Double.compare(this.vertices[middle * 2], x);
+			}
+			if (cmp < 0) {
+				low = middle + 1;
+			} else if (cmp > 0) {
+				high = middle - 1;
+			} else {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/** Replies the winding rule of the prepared path.
+	 *
+	 * @return the winding rule.
+	 */
+	@Pure
+	public PathWindingRule getWindingRule() {
+		return this.windingRule;
+	}
+
+	/** Replies the number of references to the edges that are stored in the band index.
+	 *
+	 * <p>This size is at most proportional to the number of edges of the flattened path.
+	 *
+	 * @return the size of the band index.
+	 */
+	@Pure
+	public int getIndexSize() {
+		return this.bandEdges.length;
+	}
+
+	/** Replies the bounding box of the flattened path.
+	 *
+	 * @return the bounding box.
+	 */
+	@Pure
+	public Rectangle2d toBoundingBox() {
+		final Rectangle2d box = new Rectangle2d();
+		box.setFromCorners(this.minX, this.minY, this.maxX, this.maxY);
+		return box;
+	}
+
+	/** Replies if the given point is inside the prepared path.
+	 *
+	 * @param x the x coordinate of the point.
+	 * @param y the y coordinate of the point.
+	 * @return <code>true</code> if the point is inside the path; otherwise <code>false</code>.
+	 * @see Path2d#contains(double, double)
+	 */
+	@Pure
+	public boolean contains(double x, double y) {
+		if (this.edges.length == 0 || x > this.maxX || y < this.minY || y > this.maxY) {
+			return false;
+		}
+		final int mask = this.windingRule == PathWindingRule.NON_ZERO ? -1 : 1;
+		if (isVertex(x, y)) {
+			return (GeomConstants.SHAPE_INTERSECTS & mask) != 0;
+		}
+		if (this.openPath) {
+			return false;
+		}
+		final int band = getBand(y);
+		int crossings = 0;
+		for (int i = this.bandOffsets[band]; i < this.bandOffsets[band + 1]; ++i) {
+			final int edge = this.bandEdges[i] * 4;
+			crossings += Segment2afp.calculatesCrossingsPointShadowSegment(x, y,
+					this.edges[edge], this.edges[edge + 1], this.edges[edge + 2], this.edges[edge + 3]);
+		}
+		return (crossings & mask) != 0;
+	}
+
+	/** Replies if the given point is inside the prepared path.
+	 *
+	 * @param point the point.
+	 * @return <code>true</code> if the point is inside the path; otherwise <code>false</code>.
+	 * @see Path2d#contains(Point2D)
+	 */
+	@Pure
+	public boolean contains(Point2D<?, ?> point) {
+		assert point != null : AssertMessages.notNullParameter();
+		return contains(point.getX(), point.getY());
+	}
+
+	/** Replies, for each of the given points, if it is inside the prepared path.
+	 *
+	 * @param xs the x coordinates of the points.
+	 * @param ys the y coordinates of the points.
+	 * @param output the array that is filled with the results of the tests. It must
+	 *     have at least the same size as the coordinate arrays.
+	 */
+	public void contains(double[] xs, double[] ys, boolean[] output) {
+		assert xs != null : AssertMessages.notNullParameter(0);
+		assert ys != null : AssertMessages.notNullParameter(1);
+		assert output != null : AssertMessages.notNullParameter(2);
+		assert xs.length == ys.length : AssertMessages.invalidValue();
+		assert output.length >= xs.length : AssertMessages.invalidValue();
+		for (int i = 0; i < xs.length; ++i) {
+			output[i] = contains(xs[i], ys[i]);
+		}
+	}
+
+	/** Replies if the given rectangle is intersecting the prepared path.
+	 *
+	 * @param rectangle the rectangle.
+	 * @return <code>true</code> if the rectangle is intersecting the path; otherwise <code>false</code>.
+	 * @see Path2d#intersects(Rectangle2afp)
+	 */
+	@Pure
+	@SuppressWarnings("checkstyle:magicnumber")
+	public boolean intersects(Rectangle2afp<?, ?, ?, ?, ?, ?> rectangle) {
+		assert rectangle != null : AssertMessages.notNullParameter();
+		if (rectangle.isEmpty() || this.edges.length == 0) {
+			return false;
+		}
+		final double rxmin = rectangle.getMinX();
+		final double rymin = rectangle.getMinY();
+		final double rxmax = rectangle.getMaxX();
+		final double rymax = rectangle.getMaxY();
+		if (rxmin >= this.maxX || rymax <= this.minY || rymin >= this.maxY) {
+			return false;
+		}
+		final int firstBand = getBand(rymin);
+		final int lastBand = getBand(rymax);
+		// The crossings are accumulated per group of edges, i.e. per sequence of edges terminated by
+		// a CLOSE element, because the crossing computation on the path is stopping at the first
+		// CLOSE element where the accumulated crossings are not zero.
+		final int[] crossings = new int[this.groupCount];
+		for (int band = firstBand; band <= lastBand; ++band) {
+			for (int i = this.bandOffsets[band]; i < this.bandOffsets[band + 1]; ++i) {
+				final int edgeIndex = this.bandEdges[i];
+				final int edge = edgeIndex * 4;
+				final double y0 = this.edges[edge + 1];
+				final double y1 = this.edges[edge + 3];
+				final int group = this.edgeGroups[edgeIndex];
+				// The edges that are overlapping several bands are considered only once
+				if (crossings[group] != GeomConstants.SHAPE_INTERSECTS
+						&& band == Math.max(firstBand, getBand(Math.min(y0, y1)))) {
+					crossings[group] = Segment2afp.calculatesCrossingsRectangleShadowSegment(crossings[group],
+							rxmin, rymin, rxmax, rymax,
+							this.edges[edge], y0, this.edges[edge + 2], y1);
+				}
+			}
+		}
+		final int mask = this.windingRule == PathWindingRule.NON_ZERO ? -1 : 2;
+		int sum = 0;
+		for (int group = 0; group < this.groupCount; ++group) {
+			if (crossings[group] == GeomConstants.SHAPE_INTERSECTS) {
+				return true;
+			}
+			sum += crossings[group];
+			if (sum != 0 && group < this.groupCount - 1) {
+				return (sum & mask) != 0;
+			}
+		}
+		if (this.openPath) {
+			return false;
+		}
+		return (sum & mask) != 0;
+	}
+
+}
@@ -29,6 +29,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -3524,4 +3525,120 @@ extends AbstractShape2afpTest<T, B> {
 		assertFpPointEquals(154, 485, this.shape.getCurrentPoint());
 	}
 
-}
\ No newline at end of file
+	private void assertNextElement(PathIterator2afp<?> pi, double[] buffer, PathElementType type,
+			double fromX, double fromY, double toX, double toY) {
+		assertNextElement(pi, buffer, type, fromX, fromY, 0, 0, 0, 0, toX, toY);
+	}
+
+	private void assertNextElement(PathIterator2afp<?> pi, double[] buffer, PathElementType type,
+			double fromX, double fromY, double ctrlX1, double ctrlY1, double ctrlX2, double ctrlY2,
+			double toX, double toY) {
+		assertTrue(pi.hasNext());
+		assertEquals(type, pi.next(buffer));
+		assertEpsilonEquals(fromX, buffer[PathIterator2afp.BUFFER_FROM_X]);
+		assertEpsilonEquals(fromY, buffer[PathIterator2afp.BUFFER_FROM_Y]);
+		assertEpsilonEquals(ctrlX1, buffer[PathIterator2afp.BUFFER_CTRL_X1]);
+		assertEpsilonEquals(ctrlY1, buffer[PathIterator2afp.BUFFER_CTRL_Y1]);
+		assertEpsilonEquals(ctrlX2, buffer[PathIterator2afp.BUFFER_CTRL_X2]);
+		assertEpsilonEquals(ctrlY2, buffer[PathIterator2afp.BUFFER_CTRL_Y2]);
+		assertEpsilonEquals(toX, buffer[PathIterator2afp.BUFFER_TO_X]);
+		assertEpsilonEquals(toY, buffer[PathIterator2afp.BUFFER_TO_Y]);
+	}
+
+	private void assertNoNextElement(PathIterator2afp<?> pi, double[] buffer) {
+		assertFalse(pi.hasNext());
+		assertThrows(NoSuchElementException.class, () -> pi.next(buffer));
+	}
+
+	@ParameterizedTest(name = "{index} => {0}")
+	@EnumSource(CoordinateSystem2D.class)
+	public void getPathIterator_nextDoubleArray(CoordinateSystem2D cs) {
+		CoordinateSystem2D.setDefaultCoordinateSystem(cs);
+		this.shape.closePath();
+		this.shape.moveTo(10, 12);
+		this.shape.lineTo(15, -4);
+		final double[] buffer = new double[PathIterator2afp.BUFFER_SIZE];
+		final PathIterator2afp<?> pi = this.shape.getPathIterator();
+		assertNextElement(pi, buffer, PathElementType.MOVE_TO, 0, 0, 0, 0);
+		assertNextElement(pi, buffer, PathElementType.LINE_TO, 0, 0, 1, 1);
+		assertNextElement(pi, buffer, PathElementType.QUAD_TO, 1, 1, 3, 0, 0, 0, 4, 3);
+		assertNextElement(pi, buffer, PathElementType.CURVE_TO, 4, 3, 5, -1, 6, 5, 7, -5);
+		assertNextElement(pi, buffer, PathElementType.CLOSE, 7, -5, 0, 0);
+		assertNextElement(pi, buffer, PathElementType.MOVE_TO, 0, 0, 10, 12);
+		assertNextElement(pi, buffer, PathElementType.LINE_TO, 10, 12, 15, -4);
+		assertNoNextElement(pi, buffer);
+	}
+
+	@ParameterizedTest(name = "{index} => {0}")
+	@EnumSource(CoordinateSystem2D.class)
+	public void getPathIteratorTransform2D_nextDoubleArray(CoordinateSystem2D cs) {
+		CoordinateSystem2D.setDefaultCoordinateSystem(cs);
+		this.shape.closePath();
+		Transform2D transform = new Transform2D();
+		transform.setTranslation(14, -5);
+		final double[] buffer = new double[PathIterator2afp.BUFFER_SIZE];
+		final PathIterator2afp<?> pi = this.shape.getPathIterator(transform);
+		assertNextElement(pi, buffer, PathElementType.MOVE_TO, 0, 0, 14, -5);
+		assertNextElement(pi, buffer, PathElementType.LINE_TO, 14, -5, 15, -4);
+		assertNextElement(pi, buffer, PathElementType.QUAD_TO, 15, -4, 17, -5, 0, 0, 18, -2);
+		assertNextElement(pi, buffer, PathElementType.CURVE_TO, 18, -2, 19, -6, 20, 0, 21, -10);
+		assertNextElement(pi, buffer, PathElementType.CLOSE, 21, -10, 14, -5);
+		assertNoNextElement(pi, buffer);
+	}
+
+	@ParameterizedTest(name = "{index} => {0}")
+	@EnumSource(CoordinateSystem2D.class)
+	public void getPathIteratorDouble_nextDoubleArray_polyline(CoordinateSystem2D cs) {
+		CoordinateSystem2D.setDefaultCoordinateSystem(cs);
+		this.shape.clear();
+		this.shape.moveTo(0, 0);
+		this.shape.lineTo(1, 1);
+		this.shape.lineTo(4, 3);
+		this.shape.closePath();
+		final double[] buffer = new double[PathIterator2afp.BUFFER_SIZE];
+		final PathIterator2afp<?> pi = this.shape.getPathIterator(SPLINE_APPROXIMATION_RATIO);
+		assertNextElement(pi, buffer, PathElementType.MOVE_TO, 0, 0, 0, 0);
+		assertNextElement(pi, buffer, PathElementType.LINE_TO, 0, 0, 1, 1);
+		assertNextElement(pi, buffer, PathElementType.LINE_TO, 1, 1, 4, 3);
+		assertNextElement(pi, buffer, PathElementType.CLOSE, 4, 3, 0, 0);
+		assertNoNextElement(pi, buffer);
+	}
+
+	@ParameterizedTest(name = "{index} => {0}")
+	@EnumSource(CoordinateSystem2D.class)
+	public void getPathIteratorDouble_nextDoubleArray_curves(CoordinateSystem2D cs) {
+		CoordinateSystem2D.setDefaultCoordinateSystem(cs);
+		this.shape.closePath();
+		final double[] buffer = new double[PathIterator2afp.BUFFER_SIZE];
+		final PathIterator2afp<?> pi = this.shape.getPathIterator(SPLINE_APPROXIMATION_RATIO);
+		assertNextElement(pi, buffer, PathElementType.MOVE_TO, 0, 0, 0, 0);
+		assertNextElement(pi, buffer, PathElementType.LINE_TO, 0, 0, 1, 1);
+		// The curves are approximated by lines that are connected, and that pass by the ends of the curves
+		double x = 1;
+		double y = 1;
+		boolean quadEndReached = false;
+		PathElementType type;
+		do {
+			assertTrue(pi.hasNext());
+			type = pi.next(buffer);
+			assertEpsilonEquals(x, buffer[PathIterator2afp.BUFFER_FROM_X]);
+			assertEpsilonEquals(y, buffer[PathIterator2afp.BUFFER_FROM_Y]);
+			assertEpsilonEquals(0, buffer[PathIterator2afp.BUFFER_CTRL_X1]);
+			assertEpsilonEquals(0, buffer[PathIterator2afp.BUFFER_CTRL_Y1]);
+			assertEpsilonEquals(0, buffer[PathIterator2afp.BUFFER_CTRL_X2]);
+			assertEpsilonEquals(0, buffer[PathIterator2afp.BUFFER_CTRL_Y2]);
+			x = buffer[PathIterator2afp.BUFFER_TO_X];
+			y = buffer[PathIterator2afp.BUFFER_TO_Y];
+			quadEndReached |= x == 4 && y == 3;
+		}
+		while (type == PathElementType.LINE_TO);
+		assertTrue(quadEndReached);
+		assertEquals(PathElementType.CLOSE, type);
+		assertEpsilonEquals(7, buffer[PathIterator2afp.BUFFER_FROM_X]);
+		assertEpsilonEquals(-5, buffer[PathIterator2afp.BUFFER_FROM_Y]);
+		assertEpsilonEquals(0, x);
+		assertEpsilonEquals(0, y);
+		assertNoNextElement(pi, buffer);
+	}
+
+}
@@ -0,0 +1,230 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.test.geometry.d2.d;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import org.arakhne.afc.math.geometry.coordinatesystem.CoordinateSystem2D;
+import org.arakhne.afc.math.geometry.d2.MultiShape2D;
+import org.arakhne.afc.math.geometry.d2.afp.MultiShape2afp;
+import org.arakhne.afc.math.geometry.d2.afp.Path2afp;
+import org.arakhne.afc.math.geometry.d2.d.Circle2d;
+import org.arakhne.afc.math.geometry.d2.d.IndexedMultiShape2d;
+import org.arakhne.afc.math.geometry.d2.d.MultiShape2d;
+import org.arakhne.afc.math.geometry.d2.d.Point2d;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
+import org.arakhne.afc.math.geometry.d2.d.Segment2d;
+import org.arakhne.afc.math.geometry.d2.d.Shape2d;
+import org.arakhne.afc.math.geometry.d2.d.Vector2d;
+import org.arakhne.afc.math.test.geometry.d2.afp.AbstractMultiShape2afpTest;
+
+@SuppressWarnings("all")
+public class IndexedMultiShape2dTest extends AbstractMultiShape2afpTest<MultiShape2d<Shape2d<?>>, Shape2d<?>, Rectangle2d> {
+
+	private static final Comparator<Shape2d<?>> HASH_ORDER = (a, b) -> Integer.compare(
+			System.identityHashCode(a), System.identityHashCode(b));
+
+	@Override
+	protected TestShapeFactory2d createFactory() {
+		return new TestShapeFactory2d() {
+			@Override
+			public MultiShape2afp<?, ?, ?, ?, Point2d, Vector2d, Rectangle2d> createMultiShape() {
+				return new IndexedMultiShape2d();
+			}
+		};
+	}
+
+	@Override
+	@ParameterizedTest(name = "{index} => {0}")
+	@EnumSource(CoordinateSystem2D.class)
+	public void getFirstShapeIntersectingShape2D(CoordinateSystem2D cs) {
+		CoordinateSystem2D.setDefaultCoordinateSystem(cs);
+		MultiShape2D shape2d = this.shape;
+		assertSame(this.firstObject, shape2d.getFirstShapeIntersecting(createCircle(4.75, 8, .5)));
+		Path2afp path = createPath();
+		path.moveTo(-6, 2);
+		path.lineTo(10, 6);
+		path.lineTo(8, 14);
+		path.lineTo(-4, 12);
+		path.lineTo(-12, 22);
+		path.lineTo(6, 20);
+		assertNull(shape2d.getFirstShapeIntersecting(path));
+		path.closePath();
+		assertTrue(Arrays.asList(this.firstObject, this.secondObject).contains(
+				shape2d.getFirstShapeIntersecting(path)));
+	}
+
+	@Override
+	@ParameterizedTest(name = "{index} => {0}")
+	@EnumSource(CoordinateSystem2D.class)
+	public void getShapesIntersectingShape2D(CoordinateSystem2D cs) {
+		CoordinateSystem2D.setDefaultCoordinateSystem(cs);
+		MultiShape2D shape2d = this.shape;
+		assertEquals(Arrays.asList(this.firstObject), shape2d.getShapesIntersecting(createCircle(4.75, 8, .5)));
+		Path2afp path = createPath();
+		path.moveTo(-6, 2);
+		path.lineTo(10, 6);
+		path.lineTo(8, 14);
+		path.lineTo(-4, 12);
+		path.lineTo(-12, 22);
+		path.lineTo(6, 20);
+		assertTrue(shape2d.getShapesIntersecting(path).isEmpty());
+		path.closePath();
+		assertEquals(sorted(Arrays.asList(this.firstObject, this.secondObject)),
+				sorted(shape2d.getShapesIntersecting(path)));
+	}
+
+	private static List<Shape2d<?>> createRandomShapes(Random random, int count) {
+		final List<Shape2d<?>> shapes = new ArrayList<>(count);
+		for (int i = 0; i < count; ++i) {
+			final double x = random.nextDouble() * 1000.;
+			final double y = random.nextDouble() * 1000.;
+			switch (i % 3) {
+			case 0:
+				shapes.add(new Rectangle2d(x, y, random.nextDouble() * 10., random.nextDouble() * 10.));
+				break;
+			case 1:
+				shapes.add(new Circle2d(x, y, random.nextDouble() * 5.));
+				break;
+			default:
+				shapes.add(new Segment2d(x, y, x + random.nextDouble() * 20. - 10., y + random.nextDouble() * 20. - 10.));
+				break;
+			}
+		}
+		return shapes;
+	}
+
+	private static List<Shape2d<?>> sorted(List<Shape2d<?>> list) {
+		final List<Shape2d<?>> result = new ArrayList<>(list);
+		result.sort(HASH_ORDER);
+		return result;
+	}
+
+	private static void assertSameResults(MultiShape2d<Shape2d<?>> expected, IndexedMultiShape2d<Shape2d<?>> actual,
+			Random random) {
+		assertEquals(expected.toBoundingBox(), actual.toBoundingBox());
+		for (int i = 0; i < 50; ++i) {
+			final double x = random.nextDouble() * 1100. - 50.;
+			final double y = random.nextDouble() * 1100. - 50.;
+			final Rectangle2d area = new Rectangle2d(x, y, random.nextDouble() * 100., random.nextDouble() * 100.);
+			final Circle2d circle = new Circle2d(x, y, random.nextDouble() * 50.);
+			final Point2d point = new Point2d(x, y);
+			assertEquals(expected.intersects(area), actual.intersects(area));
+			assertEquals(expected.intersects(circle), actual.intersects(circle));
+			assertEquals(expected.contains(x, y), actual.contains(x, y));
+			assertEquals(sorted(expected.getShapesIntersecting(area)), sorted(actual.getShapesIntersecting(area)));
+			assertEquals(sorted(expected.getShapesIntersecting(circle)), sorted(actual.getShapesIntersecting(circle)));
+			assertEquals(sorted(expected.getShapesContaining(point)), sorted(actual.getShapesContaining(point)));
+			assertEquals(expected.getDistanceSquared(point), actual.getDistanceSquared(point), 1e-9);
+			assertEquals(expected.getClosestPointTo(point).getDistanceSquared(point),
+					actual.getClosestPointTo(point).getDistanceSquared(point), 1e-9);
+		}
+	}
+
+	@Test
+	public void indexedQueries_randomShapes() {
+		final Random random = new Random(1234);
+		final List<Shape2d<?>> shapes = createRandomShapes(random, 2000);
+		final MultiShape2d<Shape2d<?>> expected = new MultiShape2d<>(shapes);
+		final IndexedMultiShape2d<Shape2d<?>> actual = new IndexedMultiShape2d<>(shapes);
+		assertSameResults(expected, actual, random);
+		assertTrue(actual.getIndexHeight() < 40);
+	}
+
+	@Test
+	public void indexedQueries_addRemove() {
+		final Random random = new Random(5678);
+		final List<Shape2d<?>> shapes = createRandomShapes(random, 1000);
+		final MultiShape2d<Shape2d<?>> expected = new MultiShape2d<>(shapes.subList(0, 500));
+		final IndexedMultiShape2d<Shape2d<?>> actual = new IndexedMultiShape2d<>(shapes.subList(0, 500));
+		// Build the index before the updates
+		actual.getIndexHeight();
+		for (int i = 500; i < 1000; ++i) {
+			expected.add(shapes.get(i));
+			actual.add(shapes.get(i));
+		}
+		for (int i = 0; i < 1000; i += 3) {
+			expected.remove(shapes.get(i));
+			actual.remove(shapes.get(i));
+		}
+		assertSameResults(expected, actual, random);
+	}
+
+	@Test
+	public void indexedQueries_geometryChange() {
+		final Rectangle2d r1 = new Rectangle2d(0, 0, 1, 1);
+		final Rectangle2d r2 = new Rectangle2d(10, 10, 1, 1);
+		final Circle2d c1 = new Circle2d(20, 20, 1);
+		final IndexedMultiShape2d<Shape2d<?>> shape = new IndexedMultiShape2d<>(r1, r2, c1);
+		assertSame(r1, shape.getFirstShapeContaining(new Point2d(.5, .5)));
+		r1.translate(100, 100);
+		assertFalse(shape.contains(.5, .5));
+		assertSame(r1, shape.getFirstShapeContaining(new Point2d(100.5, 100.5)));
+		c1.set(50, 50, 2);
+		assertTrue(shape.getShapesIntersecting(new Rectangle2d(15, 15, 10, 10)).isEmpty());
+		assertSame(c1, shape.getFirstShapeIntersecting(new Rectangle2d(49, 49, 1, 1)));
+		assertEquals(new Rectangle2d(10, 10, 91, 91), shape.toBoundingBox());
+	}
+
+	@Test
+	public void indexedQueries_translate() {
+		final Rectangle2d r1 = new Rectangle2d(0, 0, 1, 1);
+		final Circle2d c1 = new Circle2d(20, 20, 1);
+		final IndexedMultiShape2d<Shape2d<?>> shape = new IndexedMultiShape2d<>(r1, c1);
+		assertTrue(shape.contains(.5, .5));
+		shape.translate(10, -10);
+		assertFalse(shape.contains(.5, .5));
+		assertSame(r1, shape.getFirstShapeContaining(new Point2d(10.5, -9.5)));
+		assertSame(c1, shape.getFirstShapeContaining(new Point2d(30, 10)));
+		r1.translate(1, 1);
+		assertSame(r1, shape.getFirstShapeContaining(new Point2d(11.5, -8.5)));
+	}
+
+	@Test
+	public void indexedQueries_clone() {
+		final Rectangle2d r1 = new Rectangle2d(0, 0, 1, 1);
+		final IndexedMultiShape2d<Shape2d<?>> shape = new IndexedMultiShape2d<>(r1);
+		assertTrue(shape.contains(.5, .5));
+		final IndexedMultiShape2d<Shape2d<?>> clone = shape.clone();
+		clone.get(0).translate(5, 5);
+		assertTrue(shape.contains(.5, .5));
+		assertFalse(clone.contains(.5, .5));
+		assertTrue(clone.contains(5.5, 5.5));
+		r1.translate(20, 20);
+		assertTrue(shape.contains(20.5, 20.5));
+		assertTrue(clone.contains(5.5, 5.5));
+	}
+
+}
@@ -0,0 +1,263 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.test.geometry.d2.d;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.arakhne.afc.math.geometry.PathWindingRule;
+import org.arakhne.afc.math.geometry.d2.d.Path2d;
+import org.arakhne.afc.math.geometry.d2.d.PreparedPath2d;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
+import org.arakhne.afc.math.test.AbstractMathTestCase;
+
+@SuppressWarnings("all")
+public class PreparedPath2dTest extends AbstractMathTestCase {
+
+	private static Path2d createStar(PathWindingRule rule, int branches) {
+		final Path2d path = new Path2d(rule);
+		for (int i = 0; i < branches * 2; ++i) {
+			final double angle = Math.PI * i / branches;
+			final double radius = (i % 2 == 0) ? 100. : 40.;
+			final double x = Math.round(Math.cos(angle) * radius);
+			final double y = Math.round(Math.sin(angle) * radius);
+			if (i == 0) {
+				path.moveTo(x, y);
+			} else {
+				path.lineTo(x, y);
+			}
+		}
+		path.closePath();
+		return path;
+	}
+
+	private static Path2d createRingWithHole(PathWindingRule rule) {
+		final Path2d path = new Path2d(rule);
+		path.moveTo(-50, -50);
+		path.lineTo(50, -50);
+		path.lineTo(50, 50);
+		path.lineTo(-50, 50);
+		path.closePath();
+		path.moveTo(-20, -20);
+		path.lineTo(-20, 20);
+		path.lineTo(20, 20);
+		path.lineTo(20, -20);
+		path.closePath();
+		return path;
+	}
+
+	private static Path2d createCurvedPath() {
+		final Path2d path = new Path2d();
+		path.moveTo(-40, 0);
+		path.quadTo(0, 80, 40, 0);
+		path.curveTo(20, -30, -20, -60, -40, 0);
+		path.closePath();
+		return path;
+	}
+
+	private void assertSameContains(Path2d path, PreparedPath2d prepared) {
+		final Random random = getRandom();
+		for (int i = 0; i < 2000; ++i) {
+			final double x = random.nextDouble() * 240. - 120.;
+			final double y = random.nextDouble() * 240. - 120.;
+			assertEquals(path.contains(x, y), prepared.contains(x, y));
+		}
+		// Points with integer coordinates for hitting the vertices and the edges
+		for (int x = -110; x <= 110; x += 5) {
+			for (int y = -110; y <= 110; y += 5) {
+				assertEquals(path.contains(x, y), prepared.contains(x, y));
+			}
+		}
+	}
+
+	private void assertSameIntersects(Path2d path, PreparedPath2d prepared) {
+		final Random random = getRandom();
+		for (int i = 0; i < 2000; ++i) {
+			final double x = random.nextDouble() * 240. - 120.;
+			final double y = random.nextDouble() * 240. - 120.;
+			final Rectangle2d rectangle = new Rectangle2d(x, y, random.nextDouble() * 30., random.nextDouble() * 30.);
+			assertEquals(path.intersects(rectangle), prepared.intersects(rectangle));
+		}
+		for (int x = -110; x <= 110; x += 10) {
+			for (int y = -110; y <= 110; y += 10) {
+				final Rectangle2d rectangle = new Rectangle2d(x, y, 10, 10);
+				assertEquals(path.intersects(rectangle), prepared.intersects(rectangle));
+			}
+		}
+	}
+
+	@Test
+	public void containsDoubleDouble_starNonZero() {
+		final Path2d path = createStar(PathWindingRule.NON_ZERO, 12);
+		assertSameContains(path, new PreparedPath2d(path));
+	}
+
+	@Test
+	public void containsDoubleDouble_starEvenOdd() {
+		final Path2d path = createStar(PathWindingRule.EVEN_ODD, 12);
+		assertSameContains(path, new PreparedPath2d(path));
+	}
+
+	@Test
+	public void containsDoubleDouble_hole() {
+		Path2d path = createRingWithHole(PathWindingRule.NON_ZERO);
+		PreparedPath2d prepared = new PreparedPath2d(path);
+		assertSameContains(path, prepared);
+		assertFalse(prepared.contains(0, 0));
+		assertTrue(prepared.contains(30, 30));
+
+		path = createRingWithHole(PathWindingRule.EVEN_ODD);
+		prepared = new PreparedPath2d(path);
+		assertSameContains(path, prepared);
+		assertFalse(prepared.contains(0, 0));
+		assertTrue(prepared.contains(30, 30));
+	}
+
+	@Test
+	public void containsDoubleDouble_curves() {
+		final Path2d path = createCurvedPath();
+		assertSameContains(path, new PreparedPath2d(path));
+	}
+
+	@Test
+	public void containsDoubleDouble_openPath() {
+		final Path2d path = new Path2d();
+		path.moveTo(0, 0);
+		path.lineTo(10, 0);
+		path.lineTo(10, 10);
+		path.lineTo(0, 10);
+		final PreparedPath2d prepared = new PreparedPath2d(path);
+		assertSameContains(path, prepared);
+		assertFalse(prepared.contains(5, 5));
+	}
+
+	@Test
+	public void containsDoubleDouble_emptyPath() {
+		final PreparedPath2d prepared = new PreparedPath2d(new Path2d());
+		assertFalse(prepared.contains(0, 0));
+		assertFalse(prepared.intersects(new Rectangle2d(-1, -1, 2, 2)));
+	}
+
+	@Test
+	public void containsDoubleArrayDoubleArrayBooleanArray() {
+		final Path2d path = createStar(PathWindingRule.NON_ZERO, 7);
+		final PreparedPath2d prepared = new PreparedPath2d(path);
+		final Random random = getRandom();
+		final double[] xs = new double[500];
+		final double[] ys = new double[500];
+		for (int i = 0; i < xs.length; ++i) {
+			xs[i] = random.nextDouble() * 240. - 120.;
+			ys[i] = random.nextDouble() * 240. - 120.;
+		}
+		final boolean[] output = new boolean[xs.length];
+		prepared.contains(xs, ys, output);
+		for (int i = 0; i < xs.length; ++i) {
+			assertEquals(path.contains(xs[i], ys[i]), output[i]);
+		}
+	}
+
+	@Test
+	public void intersectsRectangle2afp_star() {
+		Path2d path = createStar(PathWindingRule.NON_ZERO, 12);
+		assertSameIntersects(path, new PreparedPath2d(path));
+		path = createStar(PathWindingRule.EVEN_ODD, 12);
+		assertSameIntersects(path, new PreparedPath2d(path));
+	}
+
+	@Test
+	public void intersectsRectangle2afp_hole() {
+		Path2d path = createRingWithHole(PathWindingRule.NON_ZERO);
+		PreparedPath2d prepared = new PreparedPath2d(path);
+		assertSameIntersects(path, prepared);
+		assertTrue(prepared.intersects(new Rectangle2d(-25, -5, 10, 10)));
+
+		path = createRingWithHole(PathWindingRule.EVEN_ODD);
+		assertSameIntersects(path, new PreparedPath2d(path));
+	}
+
+	@Test
+	public void intersectsRectangle2afp_openPath() {
+		final Path2d path = new Path2d();
+		path.moveTo(0, 0);
+		path.lineTo(10, 0);
+		path.lineTo(10, 10);
+		path.lineTo(0, 10);
+		assertSameIntersects(path, new PreparedPath2d(path));
+	}
+
+	@Test
+	public void getIndexSize_largeStar() {
+		// The edges of a star are spanning a large part of the height of the path
+		final int branches = 20000;
+		final Path2d path = new Path2d(PathWindingRule.NON_ZERO);
+		for (int i = 0; i < branches * 2; ++i) {
+			final double angle = Math.PI * i / branches;
+			final double radius = (i % 2 == 0) ? 100. : 40.;
+			if (i == 0) {
+				path.moveTo(Math.cos(angle) * radius, Math.sin(angle) * radius);
+			} else {
+				path.lineTo(Math.cos(angle) * radius, Math.sin(angle) * radius);
+			}
+		}
+		path.closePath();
+		final PreparedPath2d prepared = new PreparedPath2d(path);
+		assertTrue(prepared.getIndexSize() <= 16 * branches * 2);
+		final Random random = getRandom();
+		for (int i = 0; i < 200; ++i) {
+			final double x = random.nextDouble() * 240. - 120.;
+			final double y = random.nextDouble() * 240. - 120.;
+			assertEquals(path.contains(x, y), prepared.contains(x, y));
+		}
+	}
+
+	@Test
+	public void getIndexSize_largeComb() {
+		// Each tooth of the comb is spanning the full height of the path
+		final int teeth = 20000;
+		final Path2d path = new Path2d(PathWindingRule.NON_ZERO);
+		path.moveTo(0, 0);
+		for (int i = 0; i < teeth; ++i) {
+			path.lineTo(i * 2, 100);
+			path.lineTo(i * 2 + 1, 100);
+			path.lineTo(i * 2 + 1, 1);
+			path.lineTo(i * 2 + 2, 1);
+		}
+		path.lineTo(teeth * 2, 0);
+		path.closePath();
+		final PreparedPath2d prepared = new PreparedPath2d(path);
+		assertTrue(prepared.getIndexSize() <= 16 * (teeth * 4 + 2));
+		assertTrue(prepared.contains(0.5, 50));
+		assertFalse(prepared.contains(1.5, 50));
+		assertTrue(prepared.contains(teeth, 0.5));
+	}
+
+	@Test
+	public void toBoundingBox() {
+		final PreparedPath2d prepared = new PreparedPath2d(createRingWithHole(PathWindingRule.NON_ZERO));
+		assertEquals(new Rectangle2d(-50, -50, 100, 100), prepared.toBoundingBox());
+	}
+
+}
@@ -23,6 +23,10 @@ package org.arakhne.afc.math.graph;
 import org.eclipse.xtext.xbase.lib.Pure;
 
 /** This interface representes a graph's point.
+ *
+ * <p>The graph algorithms identify the points with {@link #compareTo(Object)}: two points
+ * are the same when the comparison replies zero. The implementations are not required to
+ * provide a {@link Object#hashCode()} that is consistent with this comparison.
  *
  * @param <PT> is the type of node in the graph
  * @param <ST> is the type of edge in the graph
@@ -20,13 +20,23 @@
 
 package org.arakhne.afc.math.graph.astar;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
@@ -34,8 +44,8 @@ import org.arakhne.afc.math.graph.GraphPath;
 import org.arakhne.afc.math.graph.GraphPoint;
 import org.arakhne.afc.math.graph.GraphPoint.GraphPointConnection;
 import org.arakhne.afc.math.graph.GraphSegment;
-import org.arakhne.afc.util.ListUtil;
 import org.arakhne.afc.vmutil.ReflectionUtil;
+import org.arakhne.afc.vmutil.ThreadServiceFinder;
 import org.arakhne.afc.vmutil.locale.Locale;
 
 /** This class provides an implementation of the
@@ -117,40 +127,45 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 
 	private void fireNodeOpened(AStarNode<ST, PT> node, List<AStarNode<ST, PT>> openList) {
 		if (this.listeners != null) {
+			final List<AStarNode<ST, PT>> view = Collections.unmodifiableList(openList);
 			for (final AStarListener<ST, PT> listener : this.listeners) {
-				listener.nodeOpened(node, openList);
+				listener.nodeOpened(node, view);
 			}
 		}
 	}
 
 	private void fireNodeConsumed(AStarNode<ST, PT> node, List<AStarNode<ST, PT>> openList) {
 		if (this.listeners != null) {
+			final List<AStarNode<ST, PT>> view = Collections.unmodifiableList(openList);
 			for (final AStarListener<ST, PT> listener : this.listeners) {
-				listener.nodeConsumed(node, openList);
+				listener.nodeConsumed(node, view);
 			}
 		}
 	}
 
 	private void fireNodeReopened(AStarNode<ST, PT> node, List<AStarNode<ST, PT>> openList) {
 		if (this.listeners != null) {
+			final List<AStarNode<ST, PT>> view = Collections.unmodifiableList(openList);
 			for (final AStarListener<ST, PT> listener : this.listeners) {
-				listener.nodeReopened(node, openList);
+				listener.nodeReopened(node, view);
 			}
 		}
 	}
 
 	private void fireNodeClosed(AStarNode<ST, PT> node, List<AStarNode<ST, PT>> closeList) {
 		if (this.listeners != null) {
+			final List<AStarNode<ST, PT>> view = Collections.unmodifiableList(closeList);
 			for (final AStarListener<ST, PT> listener : this.listeners) {
-				listener.nodeClosed(node, closeList);
+				listener.nodeClosed(node, view);
 			}
 		}
 	}
 
 	private void fireAlgorithmEnd(List<AStarNode<ST, PT>> closeList) {
 		if (this.listeners != null) {
+			final List<AStarNode<ST, PT>> view = Collections.unmodifiableList(closeList);
 			for (final AStarListener<ST, PT> listener : this.listeners) {
-				listener.algorithmEnded(closeList);
+				listener.algorithmEnded(view);
 			}
 		}
 	}
@@ -446,6 +461,254 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 		return createPath(startPoint, endPoint, closeList);
 	}
 
+	/** Run a Dijkstra expansion from the given start point, and reply the costs of the
+	 * shortest paths to each of the given end points.
+	 *
+	 * <p>In opposite to {@link #solve(GraphPoint, GraphPoint)}, the heuristic is not used, and all
+	 * the end points are settled by a single expansion of the graph that stops when the last
+	 * end point is reached. The costs are computed as for {@link #solve(GraphPoint, GraphPoint)}, with
+	 * the {@link AStarCostComputer cost computer} and the {@link AStarSegmentOrientation orientation tool}.
+	 *
+	 * <p>The graph points are wrapped into new {@link AStarNode A* nodes}: the expansion does
+	 * not change the graph points that are themselves A* nodes. Consequently, several expansions
+	 * may be run in parallel on the same graph.
+	 *
+	 * @param startPoint is the starting point.
+	 * @param endPoints are the points to reach.
+	 * @return the costs of the shortest paths to the end points, in the order of the end points.
+	 *     The cost is {@link Double#POSITIVE_INFINITY} for an end point that cannot be reached.
+	 * @since 18.0
+	 */
+	public double[] solveCosts(PT startPoint, List<? extends PT> endPoints) {
+		assert startPoint != null;
+		assert endPoints != null;
+		final double[] costs = new double[endPoints.size()];
+		Arrays.fill(costs, Double.POSITIVE_INFINITY);
+		final Map<PT, List<Integer>> targets = new TreeMap<>();
+		for (int i = 0; i < costs.length; ++i) {
+			targets.computeIfAbsent(endPoints.get(i), it -> new ArrayList<>(1)).add(Integer.valueOf(i));
+		}
+
+		final OpenList<ST, PT> openList = new OpenList<>(new OpenComparator<ST, PT>());
+		final CloseList<ST, PT> closeList = new CloseList<>();
+
+		final AStarNode<ST, PT> start = newAStarNode(startPoint, 0, 0, null);
+		openList.add(start);
+		fireNodeOpened(start, openList);
+
+		while (!targets.isEmpty() && !openList.isEmpty()) {
+			final AStarNode<ST, PT> candidate = openList.poll();
+			fireNodeConsumed(candidate, openList);
+
+			final PT node = candidate.getGraphPoint();
+			final List<Integer> indexes = targets.remove(node);
+			if (indexes != null) {
+				for (final Integer index : indexes) {
+					costs[index.intValue()] = candidate.getCost();
+				}
+			}
+
+			if (!targets.isEmpty()) {
+				// Update the nodes that are reachable from the current candidate.
+				// Without heuristic, a closed node has already its lowest cost.
+				for (final ST segment : candidate.getGraphSegments()) {
+					final PT reachableNode = segment.getOtherSidePoint(node);
+					if (reachableNode != null && !reachableNode.equals(node)
+							&& closeList.getNode(reachableNode) == null) {
+						final double gCost = candidate.getCost()
+								+ computeCostFor(node)
+								+ computeCostFor(segment);
+						final AStarNode<ST, PT> reachedCandidate = openList.getNode(reachableNode);
+						if (reachedCandidate == null) {
+							final AStarNode<ST, PT> nn = newAStarNode(reachableNode, gCost, 0, segment);
+							openList.add(nn);
+							fireNodeOpened(nn, openList);
+						} else if (gCost < reachedCandidate.getCost()) {
+							final AStarNode<ST, PT> nn = newAStarNode(reachableNode, gCost, 0, segment);
+							openList.update(nn);
+							fireNodeReopened(nn, openList);
+						}
+					}
+				}
+			}
+
+			closeList.add(candidate);
+			fireNodeClosed(candidate, closeList);
+		}
+
+		return costs;
+	}
+
+	/** Compute the matrix of the costs of the shortest paths from each of the given start points
+	 * to each of the given end points.
+	 *
+	 * <p>The rows of the matrix are computed in parallel with {@link #solveCosts(GraphPoint, List)}
+	 * by the executor service of the {@link ThreadServiceFinder}. The listeners on the algorithm
+	 * events are notified from the threads of the executor service.
+	 *
+	 * @param startPoints are the starting points.
+	 * @param endPoints are the points to reach.
+	 * @return the matrix of the costs, in which the rows correspond to the start points and the columns
+	 *     correspond to the end points. The cost is {@link Double#POSITIVE_INFINITY} for an end point
+	 *     that cannot be reached.
+	 * @since 18.0
+	 * @see #solveCostMatrix(List, List, ExecutorService)
+	 */
+	public double[][] solveCostMatrix(List<? extends PT> startPoints, List<? extends PT> endPoints) {
+		return solveCostMatrix(startPoints, endPoints, ThreadServiceFinder.getProvider().getExecutorService());
+	}
+
+	/** Compute the matrix of the costs of the shortest paths from each of the given start points
+	 * to each of the given end points.
+	 *
+	 * <p>The rows of the matrix are computed in parallel with {@link #solveCosts(GraphPoint, List)}
+	 * by at most one task per available processor, each task taking the next row to compute.
+	 * The listeners on the algorithm events are notified from the threads of the executor service.
+	 *
+	 * @param startPoints are the starting points.
+	 * @param endPoints are the points to reach.
+	 * @param executor the executor service that runs the computation of the rows.
+	 * @return the matrix of the costs, in which the rows correspond to the start points and the columns
+	 *     correspond to the end points. The cost is {@link Double#POSITIVE_INFINITY} for an end point
+	 *     that cannot be reached.
+	 * @since 18.0
+	 */
+	public double[][] solveCostMatrix(List<? extends PT> startPoints, List<? extends PT> endPoints,
+			ExecutorService executor) {
+		assert startPoints != null;
+		assert endPoints != null;
+		assert executor != null;
+		final int rowCount = startPoints.size();
+		final double[][] matrix = new double[rowCount][];
+		final int taskCount = Math.min(rowCount, Runtime.getRuntime().availableProcessors());
+		final AtomicInteger nextRow = new AtomicInteger();
+		final List<Callable<Void>> tasks = new ArrayList<>(taskCount);
+		for (int i = 0; i < taskCount; ++i) {
+			tasks.add(() -> {
+				int row = nextRow.getAndIncrement();
+				while (row < rowCount) {
+					matrix[row] = solveCosts(startPoints.get(row), endPoints);
+					row = nextRow.getAndIncrement();
+				}
+				return null;
+			});
+		}
+		try {
+			for (final Future<Void> future : executor.invokeAll(tasks)) {
+				future.get();
+			}
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(exception);
+		} catch (ExecutionException exception) {
+			final Throwable cause = exception.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IllegalStateException(cause);
+		}
+		return matrix;
+	}
+
+	/** Run the bidirectional A* algorithm.
+	 *
+	 * <p>A forward search from the start point and a backward search from the end point
+	 * are run alternatively, the direction with the smallest open list being expanded first.
+	 * The forward search estimates the costs to the end point, and the backward search
+	 * estimates the costs from the start point, with the {@link AStarHeuristic heuristic}. The
+	 * algorithm stops when the lowest estimated cost in one of the open lists is not lower than the
+	 * cost of the best path that was found where the two searches meet. Consequently, the
+	 * found path is a shortest path when the heuristic is admissible.
+	 *
+	 * <p>The backward search follows the segments in the reverse direction: a segment is followed
+	 * backward from a point if it is traversable toward this point according to the
+	 * {@link AStarSegmentOrientation orientation tool}, which is invoked without entry segment.
+	 * When there is no orientation tool, a segment is traversable from a point if it is
+	 * {@link GraphPoint#isConnectedSegment(GraphSegment) connected} to this point.
+	 * Consequently, the points must reply all their connected segments, including the segments that
+	 * cannot be traversed from them.
+	 *
+	 * <p>The graph points are wrapped into new {@link AStarNode A* nodes}, because the same
+	 * point may be reached by the two searches. The listeners are notified of the events
+	 * of the two searches; the close list that is given at the end of the algorithm contains
+	 * the nodes that were closed by the two searches.
+	 *
+	 * @param startPoint is the starting point.
+	 * @param endPoint is the point to reach.
+	 * @return the found path, or <code>null</code> if none found.
+	 * @since 18.0
+	 */
+	public GP solveBidirectional(PT startPoint, PT endPoint) {
+		assert startPoint != null;
+		assert endPoint != null;
+		final double estimation = estimate(startPoint, endPoint);
+		final AStarNode<ST, PT> startNode = newAStarNode(startPoint, 0, estimation, null);
+
+		fireAlgorithmStart(startNode, endPoint);
+
+		final BidirectionalSearch forward = new BidirectionalSearch(true, startNode, startPoint, endPoint);
+		final BidirectionalSearch backward = new BidirectionalSearch(false,
+				newAStarNode(endPoint, 0, estimation, null), startPoint, endPoint);
+		forward.other = backward;
+		backward.other = forward;
+		final BidirectionalMeeting<PT> meeting = new BidirectionalMeeting<>();
+		if (startPoint.equals(endPoint)) {
+			meeting.cost = 0;
+			meeting.point = startPoint;
+		}
+
+		while (!forward.openList.isEmpty() && !backward.openList.isEmpty()
+				&& forward.openList.get(0).getPathCost() < meeting.cost
+				&& backward.openList.get(0).getPathCost() < meeting.cost) {
+			if (forward.openList.size() <= backward.openList.size()) {
+				forward.expand(meeting);
+			} else {
+				backward.expand(meeting);
+			}
+		}
+
+		final List<AStarNode<ST, PT>> closeList = new ArrayList<>(forward.closeList.size() + backward.closeList.size());
+		closeList.addAll(forward.closeList);
+		closeList.addAll(backward.closeList);
+		fireAlgorithmEnd(closeList);
+
+		if (meeting.point == null) {
+			return null;
+		}
+
+		// Create the path
+		final LinkedList<ST> pathSegments = new LinkedList<>();
+		PT point = meeting.point;
+		AStarNode<ST, PT> node = forward.getNode(point);
+		while (node != null && node.getArrivalConnection() != null) {
+			final ST segment = node.getArrivalConnection();
+			pathSegments.addFirst(segment);
+			point = segment.getOtherSidePoint(point);
+			node = forward.getNode(point);
+		}
+		point = meeting.point;
+		node = backward.getNode(point);
+		while (node != null && node.getArrivalConnection() != null) {
+			final ST segment = node.getArrivalConnection();
+			pathSegments.addLast(segment);
+			point = segment.getOtherSidePoint(point);
+			node = backward.getNode(point);
+		}
+
+		final Iterator<ST> iterator = pathSegments.iterator();
+		if (!iterator.hasNext()) {
+			return null;
+		}
+		final GP path = newPath(startPoint, iterator.next());
+		while (iterator.hasNext()) {
+			addToPath(path, iterator.next());
+		}
+		return path;
+	}
+
 	/** Create a instance of {@link AStarNode A* node}.
 	 *
 	 * @param node is the node of the graph to put in the A* node.
@@ -486,6 +749,12 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 	/** Run the A* algorithm and tries to find a path from
 	 *  the startPoint to the endPoint.
 	 *
+	 * <p>The open list is an indexed binary heap that supports the update of the cost of
+	 * an already opened node in logarithmic time. The open and close lists are indexed by the
+	 * graph points in sorted maps; they rely on {@link GraphPoint#compareTo(Object)}, which must
+	 * define a total ordering of the graph points and must reply zero only for the graph points
+	 * that are the same node of the graph.
+	 *
 	 * @param startPoint is the starting point.
 	 * @param endPoint is the point to reach.
 	 * @return the close list of the A* algorithm.
@@ -493,18 +762,14 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 	@Pure
 	@SuppressWarnings("checkstyle:nestedifdepth")
 	List<AStarNode<ST, PT>> findPath(AStarNode<ST, PT> startPoint, PT endPoint) {
-		final CloseComparator<ST, PT> cComparator = new CloseComparator<>();
-		final OpenComparator<ST, PT> oComparatorWithoutRef = new OpenComparator<>();
-		final List<AStarNode<ST, PT>> openList = new ArrayList<>();
-		final List<AStarNode<ST, PT>> closeList = new ArrayList<>();
+		final OpenList<ST, PT> openList = new OpenList<>(new OpenComparator<ST, PT>());
+		final CloseList<ST, PT> closeList = new CloseList<>();
 
 		openList.add(startPoint);
 		fireNodeOpened(startPoint, openList);
 
-		int idx;
 		AStarNode<ST, PT> candidate;
 		AStarNode<ST, PT> ocandidate;
-		AStarNode<ST, PT> reachableCandidate;
 		AStarNode<ST, PT> reachedCandidate;
 		PT reachableNode;
 		PT node;
@@ -514,7 +779,7 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 
 		while (!foundTarget && !openList.isEmpty()) {
 
-			ocandidate = openList.remove(0);
+			ocandidate = openList.poll();
 			fireNodeConsumed(ocandidate, openList);
 
 			candidate = translateCandidate(endPoint, ocandidate);
@@ -530,45 +795,33 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 						gCost = candidate.getCost()
 								+ computeCostFor(node)
 								+ computeCostFor(segment);
-						h1 = estimate(reachableNode, endPoint);
-						reachableCandidate = newAStarNode(reachableNode, gCost, h1, segment);
 
-						// Reopen node if better cost
-						idx = (isClosedNodeReopeningEnabled())
-								? ListUtil.indexOf(closeList, cComparator, reachableCandidate)
-										: -1;
-						if (idx >= 0) {
-							reachedCandidate = closeList.get(idx);
-							if (gCost < reachedCandidate.getCost()) {
-								closeList.remove(idx);
+						reachedCandidate = closeList.getNode(reachableNode);
+						if (reachedCandidate != null) {
+							// Reopen node if better cost
+							if (isClosedNodeReopeningEnabled() && gCost < reachedCandidate.getCost()) {
+								closeList.remove(reachableNode);
+								h1 = estimate(reachableNode, endPoint);
 								final AStarNode<ST, PT> nn = node(
 										reachableNode,
 										gCost,
 										h1,
 										segment);
-								ListUtil.add(
-										openList,
-										oComparatorWithoutRef,
-										nn,
-										true, false);
+								openList.add(nn);
 								fireNodeOpened(nn, openList);
 							}
 						} else {
-							idx = openList.indexOf(reachableCandidate);
-							if (idx >= 0) {
+							h1 = estimate(reachableNode, endPoint);
+							reachedCandidate = openList.getNode(reachableNode);
+							if (reachedCandidate != null) {
 								// Rearrange open list if better cost
-								reachedCandidate = openList.get(idx);
 								if ((gCost + h1) < reachedCandidate.getPathCost()) {
-									openList.remove(idx);
 									final AStarNode<ST, PT> nn = node(
 											reachableNode,
 											gCost,
 											h1,
 											segment);
-									ListUtil.add(openList,
-											oComparatorWithoutRef,
-											nn,
-											true, false);
+									openList.update(nn);
 									fireNodeReopened(nn, openList);
 								}
 							} else {
@@ -578,10 +831,7 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 										gCost,
 										h1,
 										segment);
-								ListUtil.add(openList,
-										oComparatorWithoutRef,
-										nn,
-										true, false);
+								openList.add(nn);
 								fireNodeOpened(nn, openList);
 							}
 						}
@@ -590,9 +840,8 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 			}
 
 			// Refresh the close list
-			idx = ListUtil.add(closeList, cComparator, ocandidate, false, true);
+			closeList.add(ocandidate);
 			fireNodeClosed(ocandidate, closeList);
-			assert idx >= 0;
 		}
 
 		return closeList;
@@ -607,18 +856,20 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 	 */
 	@Pure
 	GP createPath(AStarNode<ST, PT> startPoint, PT endPoint, List<AStarNode<ST, PT>> closeList) {
-		int idx;
 		ST segment;
 		PT point;
 		AStarNode<ST, PT> node;
 		GP path = null;
-		final CloseComparator<ST, PT> cComparator = new CloseComparator<>();
+		final CloseList<ST, PT> closeIndex;
+		if (closeList instanceof CloseList<?, ?>) {
+			closeIndex = (CloseList<ST, PT>) closeList;
+		} else {
+			closeIndex = new CloseList<>(closeList);
+		}
 
-		node = newAStarNode(endPoint, Double.NaN, Double.NaN, null);
-		idx = ListUtil.indexOf(closeList, cComparator, node);
+		node = closeIndex.remove(endPoint);
 
-		if (idx >= 0) {
-			node = closeList.remove(idx);
+		if (node != null) {
 			point = node.getGraphPoint();
 			segment = node.getArrivalConnection();
 			if (point != null && segment != null) {
@@ -626,10 +877,8 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 				pathSegments.add(segment);
 				do {
 					point = segment.getOtherSidePoint(point);
-					node = newAStarNode(point, Double.NaN, Double.NaN, null);
-					idx = ListUtil.indexOf(closeList, cComparator, node);
-					if (idx >= 0) {
-						node = closeList.remove(idx);
+					node = point == null ? null : closeIndex.remove(point);
+					if (node != null) {
 						segment = node.getArrivalConnection();
 						if (segment != null) {
 							pathSegments.add(segment);
@@ -820,6 +1069,181 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 
 	} // class Candidate
 
+	/** One of the two searches of the bidirectional A* algorithm.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 18.0
+	 */
+	private class BidirectionalSearch {
+
+		/** Open list of the search.
+		 */
+		final OpenList<ST, PT> openList = new OpenList<>(new OpenComparator<ST, PT>());
+
+		/** Close list of the search.
+		 */
+		final CloseList<ST, PT> closeList = new CloseList<>();
+
+		/** The search in the opposite direction.
+		 */
+		BidirectionalSearch other;
+
+		private final boolean isForward;
+
+		private final PT startPoint;
+
+		private final PT endPoint;
+
+		/** Constructor.
+		 *
+		 * @param isForward indicates if the search is from the start point to the end point.
+		 * @param firstNode the first node of the search.
+		 * @param startPoint is the starting point of the path.
+		 * @param endPoint is the point to reach.
+		 */
+		BidirectionalSearch(boolean isForward, AStarNode<ST, PT> firstNode, PT startPoint, PT endPoint) {
+			this.isForward = isForward;
+			this.startPoint = startPoint;
+			this.endPoint = endPoint;
+			this.openList.add(firstNode);
+			fireNodeOpened(firstNode, this.openList);
+		}
+
+		/** Replies the node of the search that is associated to the given point.
+		 *
+		 * @param point the graph point.
+		 * @return the node, or <code>null</code> if the point was not reached by the search.
+		 */
+		@Pure
+		AStarNode<ST, PT> getNode(PT point) {
+			final AStarNode<ST, PT> node = this.closeList.getNode(point);
+			if (node != null) {
+				return node;
+			}
+			return this.openList.getNode(point);
+		}
+
+		private double estimate(PT point) {
+			if (this.isForward) {
+				return AStar.this.estimate(point, this.endPoint);
+			}
+			return AStar.this.estimate(this.startPoint, point);
+		}
+
+		private Iterable<ST> getGraphSegments(AStarNode<ST, PT> candidate) {
+			if (this.isForward) {
+				return candidate.getGraphSegments();
+			}
+			final PT node = candidate.getGraphPoint();
+			final List<ST> segments = new ArrayList<>();
+			final AStarSegmentOrientation<ST, PT> orientation = getSegmentOrientationTool();
+			for (final ST segment : node.getConnectedSegments()) {
+				final PT previousNode = segment.getOtherSidePoint(node);
+				if (previousNode != null) {
+					if (orientation == null) {
+						if (previousNode.isConnectedSegment(segment)) {
+							segments.add(segment);
+						}
+					} else {
+						for (final GraphPointConnection<PT, ST> connection : previousNode.getConnections()) {
+							if (segment.equals(connection.getGraphSegment())) {
+								if (orientation.isTraversable(null, connection)) {
+									segments.add(segment);
+								}
+								break;
+							}
+						}
+					}
+				}
+			}
+			return segments;
+		}
+
+		/** Expand the node with the lowest estimated cost.
+		 *
+		 * @param meeting the best meeting of the two searches, to update.
+		 */
+		void expand(BidirectionalMeeting<PT> meeting) {
+			final AStarNode<ST, PT> candidate = this.openList.poll();
+			fireNodeConsumed(candidate, this.openList);
+			final PT node = candidate.getGraphPoint();
+			meet(node, candidate.getCost(), meeting);
+
+			for (final ST segment : getGraphSegments(candidate)) {
+				final PT reachableNode = segment.getOtherSidePoint(node);
+				if (reachableNode != null && !reachableNode.equals(node)) {
+					final double gCost = candidate.getCost()
+							+ computeCostFor(this.isForward ? node : reachableNode)
+							+ computeCostFor(segment);
+					AStarNode<ST, PT> reachedCandidate = this.closeList.getNode(reachableNode);
+					if (reachedCandidate != null) {
+						// Reopen node if better cost
+						if (isClosedNodeReopeningEnabled() && gCost < reachedCandidate.getCost()) {
+							this.closeList.remove(reachableNode);
+							final AStarNode<ST, PT> nn = newAStarNode(reachableNode, gCost, estimate(reachableNode), segment);
+							this.openList.add(nn);
+							fireNodeOpened(nn, this.openList);
+							meet(reachableNode, gCost, meeting);
+						}
+					} else {
+						final double h1 = estimate(reachableNode);
+						reachedCandidate = this.openList.getNode(reachableNode);
+						if (reachedCandidate == null) {
+							final AStarNode<ST, PT> nn = newAStarNode(reachableNode, gCost, h1, segment);
+							this.openList.add(nn);
+							fireNodeOpened(nn, this.openList);
+							meet(reachableNode, gCost, meeting);
+						} else if ((gCost + h1) < reachedCandidate.getPathCost()) {
+							final AStarNode<ST, PT> nn = newAStarNode(reachableNode, gCost, h1, segment);
+							this.openList.update(nn);
+							fireNodeReopened(nn, this.openList);
+							meet(reachableNode, gCost, meeting);
+						}
+					}
+				}
+			}
+
+			this.closeList.add(candidate);
+			fireNodeClosed(candidate, this.closeList);
+		}
+
+		private void meet(PT point, double cost, BidirectionalMeeting<PT> meeting) {
+			final AStarNode<ST, PT> otherNode = this.other.getNode(point);
+			if (otherNode != null) {
+				final double pathCost = cost + otherNode.getCost();
+				if (pathCost < meeting.cost) {
+					meeting.cost = pathCost;
+					meeting.point = point;
+				}
+			}
+		}
+
+	}
+
+	/** Best meeting point of the two searches of the bidirectional A* algorithm.
+	 *
+	 * @param <PT> is the type of node in the graph
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 18.0
+	 */
+	private static class BidirectionalMeeting<PT> {
+
+		/** Cost of the best path.
+		 */
+		double cost = Double.POSITIVE_INFINITY;
+
+		/** Point where the two searches meet on the best path.
+		 */
+		PT point;
+
+	}
+
 	/** Comparator used to sort the open list of A* algorithm.
 	 *
 	 * @param <PT> is the type of node in the graph
@@ -896,6 +1320,309 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 
 	}
 
+	/** Open list of the A* algorithm.
+	 *
+	 * <p>The open list is a binary heap: the node at index zero is always the node with the
+	 * lowest path cost, but the other nodes are not sorted. Each node of the heap is indexed
+	 * by its graph point for retreiving and updating it in logarithmic time.
+	 * The index is sorted with {@link GraphPoint#compareTo(Object)}, as the close list.
+	 *
+	 * @param <PT> is the type of node in the graph
+	 * @param <ST> is the type of edge in the graph
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 18.0
+	 */
+	private static class OpenList<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>>
+			extends AbstractList<AStarNode<ST, PT>> {
+
+		private static final int DEFAULT_CAPACITY = 16;
+
+		private final Comparator<? super AStarNode<ST, PT>> comparator;
+
+		private final Map<PT, Slot<ST, PT>> index = new TreeMap<>();
+
+		private Slot<ST, PT>[] heap;
+
+		private int size;
+
+		/** Constructor.
+		 * @param comparator the comparator of the A* nodes.
+		 */
+		@SuppressWarnings("unchecked")
+		OpenList(Comparator<? super AStarNode<ST, PT>> comparator) {
+			this.comparator = comparator;
+			this.heap = new Slot[DEFAULT_CAPACITY];
+		}
+
+		@Pure
+		@Override
+		public AStarNode<ST, PT> get(int index) {
+			if (index < 0 || index >= this.size) {
+				throw new IndexOutOfBoundsException();
+			}
+			return this.heap[index].node;
+		}
+
+		@Pure
+		@Override
+		public int size() {
+			return this.size;
+		}
+
+		@Pure
+		@Override
+		public boolean contains(Object obj) {
+			if (obj instanceof AStarNode<?, ?>) {
+				return this.index.containsKey(((AStarNode<?, ?>) obj).getGraphPoint());
+			}
+			return obj instanceof GraphPoint<?, ?> && this.index.containsKey(obj);
+		}
+
+		/** Replies the node associated to the given graph point.
+		 *
+		 * @param point the graph point.
+		 * @return the node, or {@code null} if the point is not inside the open list.
+		 */
+		@Pure
+		public AStarNode<ST, PT> getNode(PT point) {
+			final Slot<ST, PT> slot = this.index.get(point);
+			return slot == null ? null : slot.node;
+		}
+
+		@Override
+		public boolean add(AStarNode<ST, PT> node) {
+			assert node != null;
+			assert !this.index.containsKey(node.getGraphPoint());
+			if (this.size >= this.heap.length) {
+				this.heap = Arrays.copyOf(this.heap, this.heap.length * 2);
+			}
+			final Slot<ST, PT> slot = new Slot<>(node, this.size);
+			this.heap[this.size] = slot;
+			++this.size;
+			this.index.put(node.getGraphPoint(), slot);
+			siftUp(slot.position);
+			return true;
+		}
+
+		/** Replace the node that has the same graph point as the given node, and
+		 * move it into the heap according to its new cost.
+		 *
+		 * @param node the new node.
+		 */
+		public void update(AStarNode<ST, PT> node) {
+			final Slot<ST, PT> slot = this.index.get(node.getGraphPoint());
+			assert slot != null;
+			slot.node = node;
+			siftDown(siftUp(slot.position));
+		}
+
+		/** Remove and reply the node with the lowest path cost.
+		 *
+		 * @return the node with the lowest path cost.
+		 */
+		public AStarNode<ST, PT> poll() {
+			if (this.size == 0) {
+				throw new NoSuchElementException();
+			}
+			final Slot<ST, PT> first = this.heap[0];
+			--this.size;
+			final Slot<ST, PT> last = this.heap[this.size];
+			this.heap[this.size] = null;
+			if (this.size > 0) {
+				last.position = 0;
+				this.heap[0] = last;
+				siftDown(0);
+			}
+			this.index.remove(first.node.getGraphPoint());
+			return first.node;
+		}
+
+		private int siftUp(int position) {
+			final Slot<ST, PT> slot = this.heap[position];
+			int pos = position;
+			while (pos > 0) {
+				final int parentPos = (pos - 1) >>> 1;
+				final Slot<ST, PT> parent = this.heap[parentPos];
+				if (this.comparator.compare(slot.node, parent.node) >= 0) {
+					break;
+				}
+				parent.position = pos;
+				this.heap[pos] = parent;
+				pos = parentPos;
+			}
+			slot.position = pos;
+			this.heap[pos] = slot;
+			return pos;
+		}
+
+		private void siftDown(int position) {
+			final Slot<ST, PT> slot = this.heap[position];
+			final int half = this.size >>> 1;
+			int pos = position;
+			while (pos < half) {
+				int childPos = (pos << 1) + 1;
+				Slot<ST, PT> child = this.heap[childPos];
+				final int rightPos = childPos + 1;
+				if (rightPos < this.size && this.comparator.compare(child.node, this.heap[rightPos].node) > 0) {
+					childPos = rightPos;
+					child = this.heap[childPos];
+				}
+				if (this.comparator.compare(slot.node, child.node) <= 0) {
+					break;
+				}
+				child.position = pos;
+				this.heap[pos] = child;
+				pos = childPos;
+			}
+			slot.position = pos;
+			this.heap[pos] = slot;
+		}
+
+		/** Slot in the heap of the open list.
+		 *
+		 * @param <PT> is the type of node in the graph
+		 * @param <ST> is the type of edge in the graph
+		 * @author $Author: sgalland$
+		 * @version $FullVersion$
+		 * @mavengroupid $GroupId$
+		 * @mavenartifactid $ArtifactId$
+		 * @since 18.0
+		 */
+		private static class Slot<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>> {
+
+			AStarNode<ST, PT> node;
+
+			int position;
+
+			/** Constructor.
+			 * @param node the node in the slot.
+			 * @param position the position of the slot in the heap.
+			 */
+			Slot(AStarNode<ST, PT> node, int position) {
+				this.node = node;
+				this.position = position;
+			}
+
+		}
+
+	}
+
+	/** Close list of the A* algorithm.
+	 *
+	 * <p>The nodes are stored in an unsorted list, and indexed by their graph points.
+	 * Adding, retreiving and removing a node are done in logarithmic time.
+	 * The index is sorted with {@link GraphPoint#compareTo(Object)}, as {@link CloseComparator}
+	 * does, because the implementations of {@link GraphPoint} may define an equality
+	 * that is not consistent with their hash codes.
+	 *
+	 * @param <PT> is the type of node in the graph
+	 * @param <ST> is the type of edge in the graph
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 18.0
+	 */
+	private static class CloseList<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>>
+			extends AbstractList<AStarNode<ST, PT>> {
+
+		private final List<AStarNode<ST, PT>> nodes = new ArrayList<>();
+
+		private final Map<PT, Integer> index = new TreeMap<>();
+
+		/** Constructor.
+		 */
+		CloseList() {
+			//
+		}
+
+		/** Constructor.
+		 * @param nodes the nodes to put in the close list.
+		 */
+		CloseList(Collection<? extends AStarNode<ST, PT>> nodes) {
+			for (final AStarNode<ST, PT> node : nodes) {
+				add(node);
+			}
+		}
+
+		@Pure
+		@Override
+		public AStarNode<ST, PT> get(int index) {
+			return this.nodes.get(index);
+		}
+
+		@Pure
+		@Override
+		public int size() {
+			return this.nodes.size();
+		}
+
+		@Pure
+		@Override
+		public boolean contains(Object obj) {
+			if (obj instanceof AStarNode<?, ?>) {
+				return this.index.containsKey(((AStarNode<?, ?>) obj).getGraphPoint());
+			}
+			return obj instanceof GraphPoint<?, ?> && this.index.containsKey(obj);
+		}
+
+		/** Replies the node associated to the given graph point.
+		 *
+		 * @param point the graph point.
+		 * @return the node, or {@code null} if the point is not inside the close list.
+		 */
+		@Pure
+		public AStarNode<ST, PT> getNode(PT point) {
+			final Integer idx = this.index.get(point);
+			return idx == null ? null : this.nodes.get(idx.intValue());
+		}
+
+		/** Add the given node into the close list. If a node with the same
+		 * graph point is already inside the list, it is replaced.
+		 *
+		 * @param node the node to add.
+		 * @return <code>true</code>.
+		 */
+		@Override
+		public boolean add(AStarNode<ST, PT> node) {
+			assert node != null;
+			final Integer idx = this.index.get(node.getGraphPoint());
+			if (idx != null) {
+				this.nodes.set(idx.intValue(), node);
+			} else {
+				this.index.put(node.getGraphPoint(), Integer.valueOf(this.nodes.size()));
+				this.nodes.add(node);
+			}
+			return true;
+		}
+
+		/** Remove the node associated to the given graph point.
+		 * The last node of the list takes the place of the removed node.
+		 *
+		 * @param point the graph point.
+		 * @return the removed node, or {@code null} if the point is not inside the close list.
+		 */
+		public AStarNode<ST, PT> remove(PT point) {
+			final Integer idx = this.index.remove(point);
+			if (idx == null) {
+				return null;
+			}
+			final int position = idx.intValue();
+			final int lastPosition = this.nodes.size() - 1;
+			final AStarNode<ST, PT> last = this.nodes.remove(lastPosition);
+			if (position == lastPosition) {
+				return last;
+			}
+			final AStarNode<ST, PT> removed = this.nodes.set(position, last);
+			this.index.put(last.getGraphPoint(), idx);
+			return removed;
+		}
+
+	}
+
 	/** Iterable that contains the oriented connection from a point.
 	 *
 	 * @author $Author: sgalland$
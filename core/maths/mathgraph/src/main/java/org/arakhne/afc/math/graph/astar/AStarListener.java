@@ -30,6 +30,11 @@ import org.arakhne.afc.math.graph.GraphSegment;
  * the listeners on the progression of
  * the {@link AStar A* algorithm}.
  *
+ * <p>The lists given to the listeners are unmodifiable views on the internal
+ * data structures of the algorithm. The open list is a binary heap: its first
+ * element is the node with the lowest cost, but the other elements are not sorted.
+ * The close list is not sorted.
+ *
  * @param <PT> is the type of node in the graph
  * @param <ST> is the type of edge in the graph
  * @author $Author: sgalland$
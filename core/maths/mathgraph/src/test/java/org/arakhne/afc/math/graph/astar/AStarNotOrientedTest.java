@@ -22,6 +22,7 @@ package org.arakhne.afc.math.graph.astar;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -284,4 +285,92 @@ public class AStarNotOrientedTest extends AbstractTestCase {
 		assertSame(this.CA, path.get(0));
 	}
 	
+	/**
+	 */
+	@Test
+	public void solvePTPT_unreachableTarget() {
+		AStarNodeStub F = new AStarNodeStub("F", 40, 40);  //$NON-NLS-1$
+		List<AStarNode<AStarEdgeStub,AStarNodeStub>> consumed = new ArrayList<>();
+		this.astar.addAStarListener(new AStarListener<AStarEdgeStub, AStarNodeStub>() {
+			@Override
+			public void nodeConsumed(AStarNode<AStarEdgeStub, AStarNodeStub> node,
+					List<AStarNode<AStarEdgeStub, AStarNodeStub>> openList) {
+				for (AStarNode<AStarEdgeStub, AStarNodeStub> n : openList) {
+					assertTrue(node.getPathCost() <= n.getPathCost());
+				}
+				consumed.add(node);
+			}
+		});
+
+		reset();
+		this.astar.setClosedNodeReopeningEnabled(false);
+		assertNull(this.astar.solve(this.A, F));
+		assertEquals(5, consumed.size());
+
+		reset();
+		consumed.clear();
+		this.astar.setClosedNodeReopeningEnabled(true);
+		assertNull(this.astar.solve(this.A, F));
+		assertEquals(5, consumed.size());
+	}
+
+	/**
+	 */
+	@Test
+	public void solveBidirectionalPTPT() {
+		AStarPathStub path;
+		
+		reset();
+		path = this.astar.solveBidirectional(this.A, this.B);
+		assertNotNull(path);
+		assertEquals(1, path.size());
+		assertSame(this.AB, path.get(0));
+
+		reset();
+		path = this.astar.solveBidirectional(this.A, this.E);
+		assertNotNull(path);
+		assertEquals(2, path.size());
+		assertSame(this.CA, path.get(0));
+		assertSame(this.EC, path.get(1));
+
+		reset();
+		path = this.astar.solveBidirectional(this.B, this.E);
+		assertNotNull(path);
+		assertEquals(3, path.size());
+		assertSame(this.AB, path.get(0));
+		assertSame(this.CA, path.get(1));
+		assertSame(this.EC, path.get(2));
+
+		reset();
+		path = this.astar.solveBidirectional(this.E, this.D);
+		assertNotNull(path);
+		assertEquals(3, path.size());
+		assertSame(this.EC, path.get(0));
+		assertSame(this.CA, path.get(1));
+		assertSame(this.DA, path.get(2));
+
+		reset();
+		assertNull(this.astar.solveBidirectional(this.A, this.A));
+	}
+
+	/**
+	 */
+	@Test
+	public void solveBidirectionalPTPT_unreachableTarget() {
+		AStarNodeStub F = new AStarNodeStub("F", 40, 40);  //$NON-NLS-1$
+		List<AStarNode<AStarEdgeStub,AStarNodeStub>> closed = new ArrayList<>();
+		this.astar.addAStarListener(new AStarListener<AStarEdgeStub, AStarNodeStub>() {
+			@Override
+			public void algorithmEnded(List<AStarNode<AStarEdgeStub, AStarNodeStub>> closeList) {
+				closed.addAll(closeList);
+			}
+		});
+
+		reset();
+		assertNull(this.astar.solveBidirectional(this.A, F));
+		assertEquals(2, closed.size());
+		assertSame(this.A, closed.get(0).getGraphPoint());
+		assertSame(F, closed.get(1).getGraphPoint());
+	}
+
 }
@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -318,4 +319,40 @@ public class AStarOrientedTest extends AbstractTestCase {
 		assertSame(this.DC, path.get(2));
 	}
 
+	@Test
+	public void solveCostsPTList() {
+		final double de = dist(10f, 20f);
+		final double[] costs = this.astar.solveCosts(this.A, Arrays.asList(this.E, this.B, this.A, this.C, this.D, this.B));
+		assertEquals(6, costs.length);
+		assertEpsilonEquals(40 + de, costs[0]);
+		assertEpsilonEquals(20, costs[1]);
+		assertEpsilonEquals(0, costs[2]);
+		assertEpsilonEquals(60, costs[3]);
+		assertEpsilonEquals(40, costs[4]);
+		assertEpsilonEquals(20, costs[5]);
+
+		final double[] costs2 = this.astar.solveCosts(this.D, Arrays.asList(this.A, this.C, this.E));
+		assertEquals(Double.POSITIVE_INFINITY, costs2[0]);
+		assertEpsilonEquals(20, costs2[1]);
+		assertEpsilonEquals(de, costs2[2]);
+	}
+
+	@Test
+	public void solveCostMatrixListList() {
+		final List<AStarNodeStub> points = Arrays.asList(this.A, this.B, this.C, this.D, this.E);
+		final double[][] matrix = this.astar.solveCostMatrix(points, points);
+		assertEquals(points.size(), matrix.length);
+		for (int i = 0; i < points.size(); ++i) {
+			final double[] expected = this.astar.solveCosts(points.get(i), points);
+			assertEquals(points.size(), matrix[i].length);
+			for (int j = 0; j < points.size(); ++j) {
+				assertEpsilonEquals(expected[j], matrix[i][j]);
+				if (i != j && expected[j] != Double.POSITIVE_INFINITY) {
+					reset();
+					assertEpsilonEquals(expected[j], this.astar.solve(points.get(i), points.get(j)).getLength());
+				}
+			}
+		}
+	}
+
 }
@@ -0,0 +1,124 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.stochastic;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Uniform random number generator that is backed by a {@link SplittableRandom}.
+ *
+ * <p>This generator may be used wherever a {@link Random} is expected, e.g. by the
+ * {@link StochasticLaw stochastic laws}. In opposite to {@link Random}, it does not
+ * synchronize the computation of its seed. It is therefore not thread-safe: each thread
+ * or task must use its own instance, which is obtained with {@link #split()}.
+ * Two generators that are created with the same seed produce the same sequence of values.
+ *
+ * <p>This generator is not serializable.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 18.0
+ */
+public class SplittableUniformRandom extends Random {
+
+	private static final long serialVersionUID = -2186584622093960154L;
+
+	private transient SplittableRandom source;
+
+	/** Construct a generator with a seed that is likely to be different from the seeds of
+	 * the other generators.
+	 */
+	public SplittableUniformRandom() {
+		this(new SplittableRandom());
+	}
+
+	/** Construct a generator with the given seed.
+	 *
+	 * @param seed the initial seed.
+	 */
+	public SplittableUniformRandom(long seed) {
+		this(new SplittableRandom(seed));
+	}
+
+	private SplittableUniformRandom(SplittableRandom source) {
+		assert source != null;
+		this.source = source;
+	}
+
+	/** Replies a new generator that shares no mutable state with this generator.
+	 * The values produced by the two generators are statistically independent.
+	 * The replied generator is determined by the state of this generator, so that
+	 * splitting the generators in the same order reproduces the same sequences.
+	 *
+	 * @return the new generator.
+	 */
+	public SplittableUniformRandom split() {
+		return new SplittableUniformRandom(this.source.split());
+	}
+
+	@Override
+	public synchronized void setSeed(long seed) {
+		// Invoked by the constructor of Random before the source is set.
+		super.setSeed(seed);
+		this.source = new SplittableRandom(seed);
+	}
+
+	@Override
+	protected int next(int bits) {
+		return (int) (this.source.nextLong() >>> (Long.SIZE - bits));
+	}
+
+	@Override
+	public int nextInt() {
+		return this.source.nextInt();
+	}
+
+	@Override
+	public int nextInt(int bound) {
+		return this.source.nextInt(bound);
+	}
+
+	@Override
+	public long nextLong() {
+		return this.source.nextLong();
+	}
+
+	@Override
+	public double nextDouble() {
+		return this.source.nextDouble();
+	}
+
+	@Override
+	public boolean nextBoolean() {
+		return this.source.nextBoolean();
+	}
+
+	private void writeObject(ObjectOutputStream stream) throws IOException {
+		throw new NotSerializableException(getClass().getName());
+	}
+
+}
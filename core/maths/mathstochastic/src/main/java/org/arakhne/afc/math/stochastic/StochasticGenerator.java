@@ -21,12 +21,22 @@
 package org.arakhne.afc.math.stochastic;
 
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
 /**
  * Generator of random values according to stochastic laws.
  *
+ * <p>By default, each thread draws its values from its own {@link ThreadLocalRandom}, so that
+ * concurrent threads do not contend on a shared generator. When a seed is given with
+ * {@link #setSeed(long)}, each thread uses a generator that is {@link SplittableUniformRandom#split() split}
+ * from a root generator initialized with this seed. The sequences are then reproducible for the
+ * threads that start to draw values in the same order. A caller may also provide its own generator
+ * to the functions that accept a {@link Random}.
+ *
  * @author $Author: cbohrhauer$
  * @version $FullVersion$
  * @mavengroupid $GroupId$
@@ -35,7 +45,9 @@ import org.eclipse.xtext.xbase.lib.Pure;
  */
 public final class StochasticGenerator {
 
-    private static Random uniformRandomVariableList;
+    private static final ThreadLocal<ThreadStream> THREAD_STREAMS = new ThreadLocal<>();
+
+    private static volatile SplittableUniformRandom seededRoot;
 
     /**
      * Constructor.
@@ -44,10 +56,60 @@ public final class StochasticGenerator {
         //
     }
 
-    private static void initRandomNumberList() {
-        if (uniformRandomVariableList == null) {
-            uniformRandomVariableList = new Random();
+    /** Change the seed of the generators that are used by the threads.
+     *
+     * <p>The threads are switching to generators that are split from a root generator
+     * initialized with the given seed.
+     *
+     * @param seed the seed of the root generator.
+     * @since 18.0
+     */
+    public static void setSeed(long seed) {
+        seededRoot = new SplittableUniformRandom(seed);
+    }
+
+    /** Restore the default generators, i.e. the {@link ThreadLocalRandom} of each thread.
+     *
+     * @since 18.0
+     */
+    public static void resetSeed() {
+        seededRoot = null;
+    }
+
+    /** Replies the uniform random number generator that is used by the current thread.
+     *
+     * <p>The replied generator must not be shared with other threads.
+     *
+     * @return the generator of the current thread.
+     * @since 18.0
+     */
+    @Pure
+    public static Random getThreadRandom() {
+        final SplittableUniformRandom root = seededRoot;
+        if (root == null) {
+            return ThreadLocalRandom.current();
         }
+        ThreadStream stream = THREAD_STREAMS.get();
+        if (stream == null || stream.root != root) {
+            final SplittableUniformRandom random;
+            synchronized (root) {
+                random = root.split();
+            }
+            stream = new ThreadStream(root, random);
+            THREAD_STREAMS.set(stream);
+        }
+        return stream.random;
+    }
+
+    /** Create a generator for a caller that needs a reproducible sequence of values.
+     *
+     * @param seed the seed of the generator.
+     * @return the generator.
+     * @since 18.0
+     */
+    @Pure
+    public static SplittableUniformRandom newRandom(long seed) {
+        return new SplittableUniformRandom(seed);
     }
 
     /** Generate a stochastic value according to the given law.
@@ -64,8 +126,56 @@ public final class StochasticGenerator {
      */
     @Pure
     public static double generateRandomValue(StochasticLaw law) throws MathException {
-        initRandomNumberList();
-        return law.inverseF(uniformRandomVariableList);
+        return law.inverseF(getThreadRandom());
+    }
+
+    /** Generate a stochastic value according to the given law and with the given
+     * uniform random number generator.
+     *
+     * @param law is the stochastic law to use.
+     * @param random is the uniform random number generator.
+     * @return a value which was randomly selected according to a stochastic law.
+     * @throws MathException in case the value could not be computed.
+     * @since 18.0
+     */
+    public static double generateRandomValue(StochasticLaw law, Random random) throws MathException {
+        return law.inverseF(random);
+    }
+
+    /** Fill the given array with stochastic values according to the given law.
+     *
+     * @param law is the stochastic law to use.
+     * @param values is the array to fill.
+     * @throws MathException in case a value could not be computed.
+     * @since 18.0
+     */
+    public static void generateRandomValues(StochasticLaw law, double[] values) throws MathException {
+        generateRandomValues(law, getThreadRandom(), values, 0, values.length);
+    }
+
+    /** Fill a part of the given array with stochastic values according to the given law
+     * and with the given uniform random number generator.
+     *
+     * @param law is the stochastic law to use.
+     * @param random is the uniform random number generator.
+     * @param values is the array to fill.
+     * @param offset is the index of the first value to set.
+     * @param length is the number of values to set.
+     * @throws MathException in case a value could not be computed.
+     * @since 18.0
+     */
+    public static void generateRandomValues(StochasticLaw law, Random random, double[] values, int offset, int length)
+            throws MathException {
+        assert law != null : AssertMessages.notNullParameter(0);
+        assert random != null : AssertMessages.notNullParameter(1);
+        assert values != null : AssertMessages.notNullParameter(2);
+        if (offset < 0 || length < 0 || offset + length > values.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        final int end = offset + length;
+        for (int i = offset; i < end; ++i) {
+            values[i] = law.inverseF(random);
+        }
     }
 
     /** Add a noise to the specified value.
@@ -87,9 +197,9 @@ public final class StochasticGenerator {
     public static double noiseValue(double value, MathFunction noiseLaw) throws MathException {
         try {
             double noise = Math.abs(noiseLaw.f(value));
-            initRandomNumberList();
-            noise *= uniformRandomVariableList.nextFloat();
-            if (uniformRandomVariableList.nextBoolean()) {
+            final Random random = getThreadRandom();
+            noise *= random.nextFloat();
+            if (random.nextBoolean()) {
                 noise = -noise;
             }
             return value + noise;
@@ -98,4 +208,25 @@ public final class StochasticGenerator {
         }
     }
 
+    /** Generator of a thread, with the root generator from which it was split.
+     *
+     * @author $Author: sgalland$
+     * @version $FullVersion$
+     * @mavengroupid $GroupId$
+     * @mavenartifactid $ArtifactId$
+     * @since 18.0
+     */
+    private static final class ThreadStream {
+
+        final SplittableUniformRandom root;
+
+        final SplittableUniformRandom random;
+
+        ThreadStream(SplittableUniformRandom root, SplittableUniformRandom random) {
+            this.root = root;
+            this.random = random;
+        }
+
+    }
+
 }
@@ -209,6 +209,17 @@ public abstract class StochasticLaw implements MathInversableFunction, JsonableO
 		return StochasticGenerator.generateRandomValue(this);
 	}
 
+	/** Fill the given array with random values that respect
+	 * the current stochastic law.
+	 *
+	 * @param values the array to fill.
+	 * @throws MathException when error in math definition.
+	 * @since 18.0
+	 */
+	public void generateRandomValues(double[] values) throws MathException {
+		StochasticGenerator.generateRandomValues(this, values);
+	}
+
 	/** Replies the x according to the value of the inverted
 	 * cummulative distribution function {@code F<sup>-1</sup>(u)}
 	 * where {@code u = U(0, 1)}.
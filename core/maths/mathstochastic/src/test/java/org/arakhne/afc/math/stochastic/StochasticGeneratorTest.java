@@ -0,0 +1,119 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2020 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.stochastic;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.arakhne.afc.testtools.AbstractTestCase;
+
+@SuppressWarnings("all")
+public class StochasticGeneratorTest extends AbstractTestCase {
+
+	@AfterEach
+	public void tearDown() {
+		StochasticGenerator.resetSeed();
+	}
+
+	@Test
+	public void getThreadRandom_default() {
+		assertSame(ThreadLocalRandom.current(), StochasticGenerator.getThreadRandom());
+	}
+
+	@Test
+	public void getThreadRandom_seeded() throws Exception {
+		StochasticGenerator.setSeed(1234);
+		final Random random = StochasticGenerator.getThreadRandom();
+		assertTrue(random instanceof SplittableUniformRandom);
+		assertSame(random, StochasticGenerator.getThreadRandom());
+		final Random[] other = new Random[1];
+		final Thread thread = new Thread(() -> other[0] = StochasticGenerator.getThreadRandom());
+		thread.start();
+		thread.join();
+		assertNotSame(random, other[0]);
+	}
+
+	@Test
+	public void setSeed_reproducible() throws Exception {
+		final UniformStochasticLaw law = new UniformStochasticLaw(-10, 10);
+		StochasticGenerator.setSeed(1234);
+		final double[] values1 = new double[32];
+		law.generateRandomValues(values1);
+		StochasticGenerator.setSeed(1234);
+		final double[] values2 = new double[32];
+		law.generateRandomValues(values2);
+		assertArrayEquals(values1, values2);
+		for (final double value : values1) {
+			assertTrue(value >= -10 && value <= 10);
+		}
+	}
+
+	@Test
+	public void generateRandomValues_sameAsGenerateRandomValue() throws Exception {
+		final GaussianStochasticLaw law = new GaussianStochasticLaw(5, 2);
+		final double[] values = new double[16];
+		StochasticGenerator.generateRandomValues(law, StochasticGenerator.newRandom(42), values, 0, values.length);
+		final Random random = StochasticGenerator.newRandom(42);
+		for (int i = 0; i < values.length; ++i) {
+			assertEpsilonEquals(StochasticGenerator.generateRandomValue(law, random), values[i]);
+		}
+	}
+
+	@Test
+	public void generateRandomValues_range() throws Exception {
+		final ExponentialStochasticLaw law = new ExponentialStochasticLaw(2, 0);
+		final double[] values = new double[8];
+		StochasticGenerator.generateRandomValues(law, StochasticGenerator.newRandom(42), values, 2, 4);
+		assertEpsilonEquals(0, values[0]);
+		assertEpsilonEquals(0, values[1]);
+		for (int i = 2; i < 6; ++i) {
+			assertNotEquals(0., values[i]);
+		}
+		assertEpsilonEquals(0, values[6]);
+		assertEpsilonEquals(0, values[7]);
+		assertThrows(IndexOutOfBoundsException.class,
+				() -> StochasticGenerator.generateRandomValues(law, StochasticGenerator.newRandom(42), values, 6, 4));
+	}
+
+	@Test
+	public void split() {
+		final SplittableUniformRandom root1 = new SplittableUniformRandom(99);
+		final SplittableUniformRandom root2 = new SplittableUniformRandom(99);
+		final SplittableUniformRandom child1 = root1.split();
+		final SplittableUniformRandom child2 = root2.split();
+		for (int i = 0; i < 16; ++i) {
+			assertEpsilonEquals(child1.nextDouble(), child2.nextDouble());
+			assertEpsilonEquals(child1.nextGaussian(), child2.nextGaussian());
+		}
+		assertNotEquals(root1.nextLong(), new SplittableUniformRandom(99).split().nextLong());
+	}
+
+}